@@ -903,53 +903,20 @@ public final class BitmapContainer extends Container implements Cloneable {
         if (b2.isEmpty()) {
             return Container.empty();
         }
-        int newCardinality = 0;
-        int ixFirstNonZero = -1;
-        int ixSecondNonZero = -1;
-        for (int k = 0; k < bitmap.length; ++k) {
-            final long r = bitmap[k] & b2.bitmap[k];
-            if (r == 0) {
-                continue;
-            }
-            if (ixFirstNonZero == -1) {
-                ixFirstNonZero = k;
-            } else if (ixSecondNonZero == -1) {
-                ixSecondNonZero = k;
-            }
-            newCardinality += Long.bitCount(r);
-        }
+        final int newCardinality = cardinalityAND(bitmap, b2.bitmap);
         if (newCardinality == 0) {
             return Container.empty();
         }
-        if (newCardinality == 1) {
-            final long v = bitmap[ixFirstNonZero] & b2.bitmap[ixFirstNonZero];
-            return Container.singleton(lowbits(64 * ixFirstNonZero + numberOfTrailingZeros(v)));
-        }
-        if (newCardinality == 2) {
-            final long v0word = bitmap[ixFirstNonZero] & b2.bitmap[ixFirstNonZero];
-            final int v0 = 64 * ixFirstNonZero + numberOfTrailingZeros(v0word);
-            final int v1;
-            if (ixSecondNonZero == -1) {
-                // We want the last (=second) bit set in the and result.
-                v1 = (ixFirstNonZero + 1) * 64 - Long.numberOfLeadingZeros(v0word) - 1;
-            } else {
-                final long v1word = bitmap[ixSecondNonZero] & b2.bitmap[ixSecondNonZero];
-                v1 = 64 * ixSecondNonZero + numberOfTrailingZeros(v1word);
-            }
-            return Container.twoValues(lowbits(v0), lowbits(v1));
-        }
         if (newCardinality > ArrayContainer.SWITCH_CONTAINER_CARDINALITY_THRESHOLD) {
             final BitmapContainer ans = inPlace ? deepCopyIfShared() : new BitmapContainer();
-            for (int k = 0; k < ans.bitmap.length; ++k) {
-                ans.bitmap[k] = bitmap[k] & b2.bitmap[k];
-            }
+            bitmapAND(ans.bitmap, bitmap, b2.bitmap);
             ans.cardinality = newCardinality;
             return ans;
         }
         final ArrayContainer ac = new ArrayContainer(newCardinality);
         fillArrayAND(ac.content, bitmap, b2.bitmap);
         ac.cardinality = newCardinality;
-        return ac;
+        return ac.maybeSwitchContainer();
     }
 
     @Override
@@ -1024,45 +991,13 @@ public final class BitmapContainer extends Container implements Cloneable {
     }
 
     private Container iandNotImpl(final BitmapContainer b2, final boolean inPlace) {
-        int newCardinality = 0;
-        int ixFirstNonZero = -1;
-        int ixSecondNonZero = -1;
-        for (int k = 0; k < bitmap.length; ++k) {
-            final long v = bitmap[k] & ~b2.bitmap[k];
-            if (v == 0) {
-                continue;
-            }
-            if (ixFirstNonZero == -1) {
-                ixFirstNonZero = k;
-            } else if (ixSecondNonZero == -1) {
-                ixSecondNonZero = k;
-            }
-            newCardinality += Long.bitCount(v);
-        }
+        final int newCardinality = cardinalityANDNOT(bitmap, b2.bitmap);
         if (newCardinality == 0) {
             return Container.empty();
         }
-        if (newCardinality == 1) {
-            final long v = bitmap[ixFirstNonZero] & ~b2.bitmap[ixFirstNonZero];
-            return Container.singleton(lowbits(64 * ixFirstNonZero + numberOfTrailingZeros(v)));
-        }
-        if (newCardinality == 2) {
-            final long v0word = bitmap[ixFirstNonZero] & ~b2.bitmap[ixFirstNonZero];
-            final int v0 = 64 * ixFirstNonZero + numberOfTrailingZeros(v0word);
-            final int v1;
-            if (ixSecondNonZero == -1) {
-                v1 = (ixFirstNonZero + 1) * 64 - Long.numberOfLeadingZeros(v0word) - 1;
-            } else {
-                final long v2word = bitmap[ixSecondNonZero] & ~b2.bitmap[ixSecondNonZero];
-                v1 = 64 * ixSecondNonZero + (63 - numberOfLeadingZeros(v2word));
-            }
-            return Container.twoValues(lowbits(v0), lowbits(v1));
-        }
         if (newCardinality > ArrayContainer.SWITCH_CONTAINER_CARDINALITY_THRESHOLD) {
             final BitmapContainer ans = inPlace ? deepCopyIfShared() : new BitmapContainer();
-            for (int k = 0; k < bitmap.length; ++k) {
-                ans.bitmap[k] = bitmap[k] & ~b2.bitmap[k];
-            }
+            bitmapANDNOT(ans.bitmap, bitmap, b2.bitmap);
             ans.cardinality = newCardinality;
             return ans;
         }
@@ -1162,12 +1097,8 @@ public final class BitmapContainer extends Container implements Cloneable {
     }
 
     private Container iorImpl(final BitmapContainer b2) {
-        cardinality = 0;
-        for (int k = 0; k < bitmap.length; k++) {
-            long w = bitmap[k] | b2.bitmap[k];
-            bitmap[k] = w;
-            cardinality += Long.bitCount(w);
-        }
+        bitmapOR(bitmap, bitmap, b2.bitmap);
+        cardinality = ContainerUtil.cardinality(bitmap);
         if (isAllOnes()) {
             return Container.full();
         }
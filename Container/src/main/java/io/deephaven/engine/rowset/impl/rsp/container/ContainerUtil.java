@@ -323,6 +323,116 @@ public final class ContainerUtil {
         }
     }
 
+    /*
+     * The whole-bitmap kernels below are kept free of data-dependent branches: the word-wise loops are simple enough
+     * for the JIT to vectorize, and the population counts are spread over independent accumulators so that successive
+     * popcnt instructions don't serialize on a single sum.
+     */
+
+    /**
+     * Hamming weight of a bitmap.
+     *
+     * @param bitmap array of words representing a bitset
+     * @return the number of bits set in {@code bitmap}
+     */
+    public static int cardinality(final long[] bitmap) {
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int k = 0;
+        for (; k + 3 < bitmap.length; k += 4) {
+            c0 += Long.bitCount(bitmap[k]);
+            c1 += Long.bitCount(bitmap[k + 1]);
+            c2 += Long.bitCount(bitmap[k + 2]);
+            c3 += Long.bitCount(bitmap[k + 3]);
+        }
+        for (; k < bitmap.length; ++k) {
+            c0 += Long.bitCount(bitmap[k]);
+        }
+        return c0 + c1 + c2 + c3;
+    }
+
+    /**
+     * Hamming weight of the bitwise AND between two long arrays, without materializing it.
+     *
+     * @param bitmap1 first bitmap
+     * @param bitmap2 second bitmap, of the same length as {@code bitmap1}
+     * @return the number of bits set in both {@code bitmap1} and {@code bitmap2}
+     */
+    public static int cardinalityAND(final long[] bitmap1, final long[] bitmap2) {
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int k = 0;
+        for (; k + 3 < bitmap1.length; k += 4) {
+            c0 += Long.bitCount(bitmap1[k] & bitmap2[k]);
+            c1 += Long.bitCount(bitmap1[k + 1] & bitmap2[k + 1]);
+            c2 += Long.bitCount(bitmap1[k + 2] & bitmap2[k + 2]);
+            c3 += Long.bitCount(bitmap1[k + 3] & bitmap2[k + 3]);
+        }
+        for (; k < bitmap1.length; ++k) {
+            c0 += Long.bitCount(bitmap1[k] & bitmap2[k]);
+        }
+        return c0 + c1 + c2 + c3;
+    }
+
+    /**
+     * Hamming weight of the bitwise ANDNOT between two long arrays, without materializing it.
+     *
+     * @param bitmap1 first bitmap
+     * @param bitmap2 second bitmap, of the same length as {@code bitmap1}
+     * @return the number of bits set in {@code bitmap1} but not in {@code bitmap2}
+     */
+    public static int cardinalityANDNOT(final long[] bitmap1, final long[] bitmap2) {
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int k = 0;
+        for (; k + 3 < bitmap1.length; k += 4) {
+            c0 += Long.bitCount(bitmap1[k] & ~bitmap2[k]);
+            c1 += Long.bitCount(bitmap1[k + 1] & ~bitmap2[k + 1]);
+            c2 += Long.bitCount(bitmap1[k + 2] & ~bitmap2[k + 2]);
+            c3 += Long.bitCount(bitmap1[k + 3] & ~bitmap2[k + 3]);
+        }
+        for (; k < bitmap1.length; ++k) {
+            c0 += Long.bitCount(bitmap1[k] & ~bitmap2[k]);
+        }
+        return c0 + c1 + c2 + c3;
+    }
+
+    /**
+     * Compute the bitwise AND between two long arrays into a third, which may be either of the inputs.
+     *
+     * @param dest where we write
+     * @param bitmap1 first bitmap
+     * @param bitmap2 second bitmap
+     */
+    public static void bitmapAND(final long[] dest, final long[] bitmap1, final long[] bitmap2) {
+        for (int k = 0; k < dest.length; ++k) {
+            dest[k] = bitmap1[k] & bitmap2[k];
+        }
+    }
+
+    /**
+     * Compute the bitwise ANDNOT between two long arrays into a third, which may be either of the inputs.
+     *
+     * @param dest where we write
+     * @param bitmap1 first bitmap
+     * @param bitmap2 second bitmap
+     */
+    public static void bitmapANDNOT(final long[] dest, final long[] bitmap1, final long[] bitmap2) {
+        for (int k = 0; k < dest.length; ++k) {
+            dest[k] = bitmap1[k] & ~bitmap2[k];
+        }
+    }
+
+    /**
+     * Compute the bitwise OR between two long arrays into a third, which may be either of the inputs.
+     *
+     * @param dest where we write
+     * @param bitmap1 first bitmap
+     * @param bitmap2 second bitmap
+     */
+    public static void bitmapOR(final long[] dest, final long[] bitmap1, final long[] bitmap2) {
+        for (int k = 0; k < dest.length; ++k) {
+            dest[k] = bitmap1[k] | bitmap2[k];
+        }
+    }
+
     /**
      * flip bits at start, start+1,..., end-1
      *
@@ -853,53 +963,23 @@ public final class ContainerUtil {
     }
 
 
+    // A branchless merge: which cursor advances depends on the comparison of the heads, which is unpredictable for
+    // interleaved inputs, so we let the comparisons feed the cursors and output position arithmetically instead of
+    // branching on them. Each step writes the head of set1 to buffer[pos] unconditionally; since pos <= k1 and
+    // pos < min(length1, length2) while both inputs have values left, this is safe even when buffer is set1.
     protected static int unsignedLocalIntersect2by2(final short[] set1, final int length1,
             final short[] set2, final int length2, final short[] buffer) {
-        if ((0 == length1) || (0 == length2)) {
-            return 0;
-        }
         int k1 = 0;
         int k2 = 0;
         int pos = 0;
-        short s1 = set1[k1];
-        short s2 = set2[k2];
-
-        mainwhile: while (true) {
-            int v1 = toIntUnsigned(s1);
-            int v2 = toIntUnsigned(s2);
-            if (v2 < v1) {
-                do {
-                    ++k2;
-                    if (k2 == length2) {
-                        break mainwhile;
-                    }
-                    s2 = set2[k2];
-                    v2 = toIntUnsigned(s2);
-                } while (v2 < v1);
-            }
-            if (v1 < v2) {
-                do {
-                    ++k1;
-                    if (k1 == length1) {
-                        break mainwhile;
-                    }
-                    s1 = set1[k1];
-                    v1 = toIntUnsigned(s1);
-                } while (v1 < v2);
-            } else {
-                // (set2[k2] == set1[k1])
-                buffer[pos++] = s1;
-                ++k1;
-                if (k1 == length1) {
-                    break;
-                }
-                ++k2;
-                if (k2 == length2) {
-                    break;
-                }
-                s1 = set1[k1];
-                s2 = set2[k2];
-            }
+        while (k1 < length1 && k2 < length2) {
+            final short s1 = set1[k1];
+            final int v1 = toIntUnsigned(s1);
+            final int v2 = toIntUnsigned(set2[k2]);
+            buffer[pos] = s1;
+            pos += v1 == v2 ? 1 : 0;
+            k1 += v1 <= v2 ? 1 : 0;
+            k2 += v1 >= v2 ? 1 : 0;
         }
         return pos;
     }
@@ -916,51 +996,16 @@ public final class ContainerUtil {
      */
     public static int unsignedLocalIntersect2by2Cardinality(final short[] set1, final int length1,
             final short[] set2, final int length2) {
-        if ((0 == length1) || (0 == length2)) {
-            return 0;
-        }
+        // See unsignedLocalIntersect2by2.
         int k1 = 0;
         int k2 = 0;
         int pos = 0;
-        short s1 = set1[k1];
-        short s2 = set2[k2];
-
-        mainwhile: while (true) {
-            int v1 = toIntUnsigned(s1);
-            int v2 = toIntUnsigned(s2);
-            if (v2 < v1) {
-                do {
-                    ++k2;
-                    if (k2 == length2) {
-                        break mainwhile;
-                    }
-                    s2 = set2[k2];
-                    v2 = toIntUnsigned(s2);
-                } while (v2 < v1);
-            }
-            if (v1 < v2) {
-                do {
-                    ++k1;
-                    if (k1 == length1) {
-                        break mainwhile;
-                    }
-                    s1 = set1[k1];
-                    v1 = toIntUnsigned(s1);
-                } while (v1 < v2);
-            } else {
-                // (set2[k2] == set1[k1])
-                pos++;
-                ++k1;
-                if (k1 == length1) {
-                    break;
-                }
-                ++k2;
-                if (k2 == length2) {
-                    break;
-                }
-                s1 = set1[k1];
-                s2 = set2[k2];
-            }
+        while (k1 < length1 && k2 < length2) {
+            final int v1 = toIntUnsigned(set1[k1]);
+            final int v2 = toIntUnsigned(set2[k2]);
+            pos += v1 == v2 ? 1 : 0;
+            k1 += v1 <= v2 ? 1 : 0;
+            k2 += v1 >= v2 ? 1 : 0;
         }
         return pos;
     }
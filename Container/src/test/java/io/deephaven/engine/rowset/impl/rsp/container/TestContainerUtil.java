@@ -4,6 +4,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
 
 public class TestContainerUtil {
 
@@ -20,6 +22,85 @@ public class TestContainerUtil {
         Assert.assertFalse(ContainerUtil.unsignedIntersects(data5, data5.length, data6, data6.length));
     }
 
+    @Test
+    public void testLocalIntersect() {
+        final Random random = new Random(0);
+        for (int step = 0; step < 200; ++step) {
+            final short[] data1 = randomSortedUnsigned(random, random.nextInt(300));
+            final short[] data2 = randomSortedUnsigned(random, random.nextInt(300));
+            final TreeSet<Integer> expected = new TreeSet<>();
+            for (final short v : data1) {
+                expected.add(ContainerUtil.toIntUnsigned(v));
+            }
+            final TreeSet<Integer> other = new TreeSet<>();
+            for (final short v : data2) {
+                other.add(ContainerUtil.toIntUnsigned(v));
+            }
+            expected.retainAll(other);
+            final short[] expectedValues = new short[expected.size()];
+            int pos = 0;
+            for (final int v : expected) {
+                expectedValues[pos++] = (short) v;
+            }
+
+            final short[] buffer = new short[Math.min(data1.length, data2.length)];
+            final int card = ContainerUtil.unsignedLocalIntersect2by2(data1, data1.length, data2, data2.length, buffer);
+            Assert.assertArrayEquals(expectedValues, Arrays.copyOf(buffer, card));
+            Assert.assertEquals(card,
+                    ContainerUtil.unsignedLocalIntersect2by2Cardinality(data1, data1.length, data2, data2.length));
+
+            // in place, as ArrayContainer.iand does
+            final int inPlaceCard =
+                    ContainerUtil.unsignedLocalIntersect2by2(data1, data1.length, data2, data2.length, data1);
+            Assert.assertArrayEquals(expectedValues, Arrays.copyOf(data1, inPlaceCard));
+        }
+    }
+
+    private static short[] randomSortedUnsigned(final Random random, final int maxSize) {
+        final TreeSet<Integer> values = new TreeSet<>();
+        for (int i = 0; i < maxSize; ++i) {
+            values.add(random.nextInt(1024) * 64);
+        }
+        final short[] result = new short[values.size()];
+        int pos = 0;
+        for (final int v : values) {
+            result[pos++] = (short) v;
+        }
+        return result;
+    }
+
+    @Test
+    public void testBitmapKernels() {
+        final Random random = new Random(0);
+        final long[] bitmap1 = new long[1024];
+        final long[] bitmap2 = new long[1024];
+        for (int k = 0; k < bitmap1.length; ++k) {
+            bitmap1[k] = random.nextLong() & random.nextLong();
+            bitmap2[k] = random.nextLong();
+        }
+        int expectedCard = 0;
+        int expectedAndCard = 0;
+        int expectedAndNotCard = 0;
+        for (int k = 0; k < bitmap1.length; ++k) {
+            expectedCard += Long.bitCount(bitmap1[k]);
+            expectedAndCard += Long.bitCount(bitmap1[k] & bitmap2[k]);
+            expectedAndNotCard += Long.bitCount(bitmap1[k] & ~bitmap2[k]);
+        }
+        Assert.assertEquals(expectedCard, ContainerUtil.cardinality(bitmap1));
+        Assert.assertEquals(expectedAndCard, ContainerUtil.cardinalityAND(bitmap1, bitmap2));
+        Assert.assertEquals(expectedAndNotCard, ContainerUtil.cardinalityANDNOT(bitmap1, bitmap2));
+
+        final long[] dest = new long[1024];
+        ContainerUtil.bitmapAND(dest, bitmap1, bitmap2);
+        Assert.assertEquals(expectedAndCard, ContainerUtil.cardinality(dest));
+        ContainerUtil.bitmapANDNOT(dest, bitmap1, bitmap2);
+        Assert.assertEquals(expectedAndNotCard, ContainerUtil.cardinality(dest));
+        ContainerUtil.bitmapOR(dest, bitmap1, bitmap2);
+        for (int k = 0; k < dest.length; ++k) {
+            Assert.assertEquals(bitmap1[k] | bitmap2[k], dest[k]);
+        }
+    }
+
     @Test
     public void testBranchyUnsignedBinarySearch() {
         short[] data1 = {-19, -17, -15, -13, -11, -9, -7, -5, -3};
@@ -480,6 +480,9 @@ public class ParquetMetadataConverter {
             if (columnMetaData.getEncodingStats() != null) {
                 columnChunk.meta_data.setEncoding_stats(convertEncodingStats(columnMetaData.getEncodingStats()));
             }
+            if (columnMetaData.getBloomFilterOffset() >= 0) {
+                columnChunk.meta_data.setBloom_filter_offset(columnMetaData.getBloomFilterOffset());
+            }
 //      columnChunk.meta_data.index_page_offset = ;
 //      columnChunk.meta_data.key_value_metadata = ; // nothing yet
 
@@ -500,6 +500,21 @@ struct UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRol
   };
 };
 PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvgDefaultTypeInternal _UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg_default_instance_;
+PROTOBUF_CONSTEXPR UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile(
+    ::_pbi::ConstantInitialized)
+  : reverse_window_scale_(nullptr)
+  , forward_window_scale_(nullptr)
+  , percentile_(0)
+  , average_evenly_divided_(false){}
+struct UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantileDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantileDefaultTypeInternal()
+      : _instance(::_pbi::ConstantInitialized{}) {}
+  ~UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantileDefaultTypeInternal() {}
+  union {
+    UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile _instance;
+  };
+};
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantileDefaultTypeInternal _UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile_default_instance_;
 PROTOBUF_CONSTEXPR UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec(
     ::_pbi::ConstantInitialized)
   : _oneof_case_{}{}
@@ -1629,7 +1644,7 @@ PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORIT
 }  // namespace proto
 }  // namespace deephaven
 }  // namespace io
-static ::_pb::Metadata file_level_metadata_deephaven_2fproto_2ftable_2eproto[119];
+static ::_pb::Metadata file_level_metadata_deephaven_2fproto_2ftable_2eproto[120];
 static const ::_pb::EnumDescriptor* file_level_enum_descriptors_deephaven_2fproto_2ftable_2eproto[12];
 static constexpr ::_pb::ServiceDescriptor const** file_level_service_descriptors_deephaven_2fproto_2ftable_2eproto = nullptr;
 
@@ -1941,6 +1956,16 @@ const uint32_t TableStruct_deephaven_2fproto_2ftable_2eproto::offsets[] PROTOBUF
   PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg, forward_window_scale_),
   PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg, weight_column_),
   ~0u,  // no _has_bits_
+  PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, _internal_metadata_),
+  ~0u,  // no _extensions_
+  ~0u,  // no _oneof_case_
+  ~0u,  // no _weak_field_map_
+  ~0u,  // no _inlined_string_donated_
+  PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, reverse_window_scale_),
+  PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, forward_window_scale_),
+  PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, percentile_),
+  PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, average_evenly_divided_),
+  ~0u,  // no _has_bits_
   PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec, _internal_metadata_),
   ~0u,  // no _extensions_
   PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec, _oneof_case_[0]),
@@ -1966,6 +1991,7 @@ const uint32_t TableStruct_deephaven_2fproto_2ftable_2eproto::offsets[] PROTOBUF
   ::_pbi::kInvalidFieldOffsetTag,
   ::_pbi::kInvalidFieldOffsetTag,
   ::_pbi::kInvalidFieldOffsetTag,
+  ::_pbi::kInvalidFieldOffsetTag,
   PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec, type_),
   ~0u,  // no _has_bits_
   PROTOBUF_FIELD_OFFSET(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn, _internal_metadata_),
@@ -2798,89 +2824,90 @@ static const ::_pbi::MigrationSchema schemas[] PROTOBUF_SECTION_VARIABLE(protode
   { 281, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingCount)},
   { 289, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingStd)},
   { 297, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg)},
-  { 306, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec)},
-  { 333, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn)},
-  { 341, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation)},
-  { 349, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest)},
-  { 360, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SelectDistinctRequest)},
-  { 369, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::DropColumnsRequest)},
-  { 378, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UnstructuredFilterTableRequest)},
-  { 387, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::HeadOrTailRequest)},
-  { 396, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::HeadOrTailByRequest)},
-  { 406, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UngroupRequest)},
-  { 416, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::MergeTablesRequest)},
-  { 425, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SnapshotTableRequest)},
-  { 433, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SnapshotWhenTableRequest)},
-  { 446, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CrossJoinTablesRequest)},
-  { 458, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::NaturalJoinTablesRequest)},
-  { 469, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ExactJoinTablesRequest)},
-  { 480, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::LeftJoinTablesRequest)},
-  { 491, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AsOfJoinTablesRequest)},
-  { 503, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AjRajTablesRequest)},
-  { 515, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::RangeJoinTablesRequest)},
-  { 531, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ComboAggregateRequest_Aggregate)},
-  { 542, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ComboAggregateRequest)},
-  { 553, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggregateAllRequest)},
-  { 563, 571, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecApproximatePercentile)},
-  { 573, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecCountDistinct)},
-  { 580, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecDistinct)},
-  { 587, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecFormula)},
-  { 595, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecMedian)},
-  { 602, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecPercentile)},
-  { 610, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecSorted)},
-  { 617, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecSortedColumn)},
-  { 624, 631, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecTDigest)},
-  { 632, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecUnique)},
-  { 640, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecNonUniqueSentinel)},
-  { 657, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecWeighted)},
-  { 664, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecAbsSum)},
-  { 670, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecAvg)},
-  { 676, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecFirst)},
-  { 682, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecFreeze)},
-  { 688, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecGroup)},
-  { 694, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecLast)},
-  { 700, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecMax)},
-  { 706, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecMin)},
-  { 712, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecStd)},
-  { 718, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecSum)},
-  { 724, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecVar)},
-  { 730, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec)},
-  { 760, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggregateRequest)},
-  { 772, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationColumns)},
-  { 780, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationCount)},
-  { 787, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationRowKey)},
-  { 794, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationPartition)},
-  { 802, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation)},
-  { 814, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SortDescriptor)},
-  { 823, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SortTableRequest)},
-  { 832, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::FilterTableRequest)},
-  { 841, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SeekRowRequest)},
-  { 854, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SeekRowResponse)},
-  { 861, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Reference)},
-  { 868, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Literal)},
-  { 880, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Value)},
-  { 889, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Condition)},
-  { 906, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AndCondition)},
-  { 913, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::OrCondition)},
-  { 920, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::NotCondition)},
-  { 927, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CompareCondition)},
-  { 937, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::InCondition)},
-  { 947, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::InvokeCondition)},
-  { 956, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::IsNullCondition)},
-  { 963, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::MatchesCondition)},
-  { 973, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ContainsCondition)},
-  { 983, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SearchCondition)},
-  { 991, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::FlattenRequest)},
-  { 999, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::MetaTableRequest)},
-  { 1007, 1015, -1, sizeof(::io::deephaven::proto::backplane::grpc::RunChartDownsampleRequest_ZoomRange)},
-  { 1017, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::RunChartDownsampleRequest)},
-  { 1029, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest_InputTableKind_InMemoryAppendOnly)},
-  { 1035, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest_InputTableKind_InMemoryKeyBacked)},
-  { 1042, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest_InputTableKind)},
-  { 1051, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest)},
-  { 1062, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::WhereInRequest)},
-  { 1073, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::BatchTableRequest_Operation)},
-  { 1119, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::BatchTableRequest)},
+  { 306, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile)},
+  { 316, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec)},
+  { 344, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn)},
+  { 352, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation)},
+  { 360, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UpdateByRequest)},
+  { 371, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SelectDistinctRequest)},
+  { 380, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::DropColumnsRequest)},
+  { 389, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UnstructuredFilterTableRequest)},
+  { 398, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::HeadOrTailRequest)},
+  { 407, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::HeadOrTailByRequest)},
+  { 417, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::UngroupRequest)},
+  { 427, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::MergeTablesRequest)},
+  { 436, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SnapshotTableRequest)},
+  { 444, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SnapshotWhenTableRequest)},
+  { 457, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CrossJoinTablesRequest)},
+  { 469, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::NaturalJoinTablesRequest)},
+  { 480, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ExactJoinTablesRequest)},
+  { 491, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::LeftJoinTablesRequest)},
+  { 502, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AsOfJoinTablesRequest)},
+  { 514, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AjRajTablesRequest)},
+  { 526, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::RangeJoinTablesRequest)},
+  { 542, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ComboAggregateRequest_Aggregate)},
+  { 553, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ComboAggregateRequest)},
+  { 564, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggregateAllRequest)},
+  { 574, 582, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecApproximatePercentile)},
+  { 584, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecCountDistinct)},
+  { 591, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecDistinct)},
+  { 598, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecFormula)},
+  { 606, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecMedian)},
+  { 613, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecPercentile)},
+  { 621, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecSorted)},
+  { 628, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecSortedColumn)},
+  { 635, 642, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecTDigest)},
+  { 643, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecUnique)},
+  { 651, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecNonUniqueSentinel)},
+  { 668, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecWeighted)},
+  { 675, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecAbsSum)},
+  { 681, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecAvg)},
+  { 687, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecFirst)},
+  { 693, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecFreeze)},
+  { 699, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecGroup)},
+  { 705, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecLast)},
+  { 711, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecMax)},
+  { 717, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecMin)},
+  { 723, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecStd)},
+  { 729, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecSum)},
+  { 735, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec_AggSpecVar)},
+  { 741, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggSpec)},
+  { 771, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AggregateRequest)},
+  { 783, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationColumns)},
+  { 791, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationCount)},
+  { 798, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationRowKey)},
+  { 805, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation_AggregationPartition)},
+  { 813, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Aggregation)},
+  { 825, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SortDescriptor)},
+  { 834, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SortTableRequest)},
+  { 843, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::FilterTableRequest)},
+  { 852, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SeekRowRequest)},
+  { 865, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SeekRowResponse)},
+  { 872, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Reference)},
+  { 879, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Literal)},
+  { 891, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Value)},
+  { 900, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::Condition)},
+  { 917, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::AndCondition)},
+  { 924, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::OrCondition)},
+  { 931, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::NotCondition)},
+  { 938, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CompareCondition)},
+  { 948, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::InCondition)},
+  { 958, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::InvokeCondition)},
+  { 967, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::IsNullCondition)},
+  { 974, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::MatchesCondition)},
+  { 984, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::ContainsCondition)},
+  { 994, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::SearchCondition)},
+  { 1002, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::FlattenRequest)},
+  { 1010, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::MetaTableRequest)},
+  { 1018, 1026, -1, sizeof(::io::deephaven::proto::backplane::grpc::RunChartDownsampleRequest_ZoomRange)},
+  { 1028, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::RunChartDownsampleRequest)},
+  { 1040, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest_InputTableKind_InMemoryAppendOnly)},
+  { 1046, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest_InputTableKind_InMemoryKeyBacked)},
+  { 1053, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest_InputTableKind)},
+  { 1062, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::CreateInputTableRequest)},
+  { 1073, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::WhereInRequest)},
+  { 1084, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::BatchTableRequest_Operation)},
+  { 1130, -1, -1, sizeof(::io::deephaven::proto::backplane::grpc::BatchTableRequest)},
 };
 
 static const ::_pb::Message* const file_default_instances[] = {
@@ -2920,6 +2947,7 @@ static const ::_pb::Message* const file_default_instances[] = {
   &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingCount_default_instance_._instance,
   &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingStd_default_instance_._instance,
   &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg_default_instance_._instance,
+  &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile_default_instance_._instance,
   &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_default_instance_._instance,
   &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_UpdateByColumn_default_instance_._instance,
   &::io::deephaven::proto::backplane::grpc::_UpdateByRequest_UpdateByOperation_default_instance_._instance,
@@ -3071,7 +3099,7 @@ const char descriptor_table_protodef_deephaven_2fproto_2ftable_2eproto[] PROTOBU
   "o.deephaven.proto.backplane.grpc.MathCon"
   "text\"f\n\024UpdateByDeltaOptions\022N\n\rnull_beh"
   "avior\030\001 \001(\01627.io.deephaven.proto.backpla"
-  "ne.grpc.UpdateByNullBehavior\"\2314\n\017UpdateB"
+  "ne.grpc.UpdateByNullBehavior\"\2547\n\017UpdateB"
   "yRequest\022<\n\tresult_id\030\001 \001(\0132).io.deephav"
   "en.proto.backplane.grpc.Ticket\022D\n\tsource"
   "_id\030\002 \001(\01321.io.deephaven.proto.backplane"
@@ -3091,14 +3119,14 @@ const char descriptor_table_protodef_deephaven_2fproto_2ftable_2eproto[] PROTOBU
   "extB\022\n\020_use_redirectionB\021\n\017_chunk_capaci"
   "tyB$\n\"_max_static_sparse_memory_overhead"
   "B\032\n\030_initial_hash_table_sizeB\026\n\024_maximum"
-  "_load_factorB\025\n\023_target_load_factor\032\362-\n\021"
+  "_load_factorB\025\n\023_target_load_factor\032\2051\n\021"
   "UpdateByOperation\022e\n\006column\030\001 \001(\0132S.io.d"
   "eephaven.proto.backplane.grpc.UpdateByRe"
   "quest.UpdateByOperation.UpdateByColumnH\000"
-  "\032\355,\n\016UpdateByColumn\022n\n\004spec\030\001 \001(\0132`.io.d"
+  "\032\2000\n\016UpdateByColumn\022n\n\004spec\030\001 \001(\0132`.io.d"
   "eephaven.proto.backplane.grpc.UpdateByRe"
   "quest.UpdateByOperation.UpdateByColumn.U"
-  "pdateBySpec\022\023\n\013match_pairs\030\002 \003(\t\032\325+\n\014Upd"
+  "pdateBySpec\022\023\n\013match_pairs\030\002 \003(\t\032\350.\n\014Upd"
   "ateBySpec\022\205\001\n\003sum\030\001 \001(\0132v.io.deephaven.p"
   "roto.backplane.grpc.UpdateByRequest.Upda"
   "teByOperation.UpdateByColumn.UpdateBySpe"
@@ -3167,701 +3195,711 @@ const char descriptor_table_protodef_deephaven_2fproto_2ftable_2eproto[] PROTOBU
   "tdH\000\022\214\001\n\014rolling_wavg\030\024 \001(\0132t.io.deephav"
   "en.proto.backplane.grpc.UpdateByRequest."
   "UpdateByOperation.UpdateByColumn.UpdateB"
-  "ySpec.UpdateByRollingWAvgH\000\032\027\n\025UpdateByC"
-  "umulativeSum\032\027\n\025UpdateByCumulativeMin\032\027\n"
-  "\025UpdateByCumulativeMax\032\033\n\031UpdateByCumula"
-  "tiveProduct\032\016\n\014UpdateByFill\032\242\001\n\013UpdateBy"
-  "Ema\022E\n\007options\030\001 \001(\01324.io.deephaven.prot"
-  "o.backplane.grpc.UpdateByEmOptions\022L\n\014wi"
-  "ndow_scale\030\002 \001(\01326.io.deephaven.proto.ba"
-  "ckplane.grpc.UpdateByWindowScale\032\242\001\n\013Upd"
-  "ateByEms\022E\n\007options\030\001 \001(\01324.io.deephaven"
-  ".proto.backplane.grpc.UpdateByEmOptions\022"
-  "L\n\014window_scale\030\002 \001(\01326.io.deephaven.pro"
-  "to.backplane.grpc.UpdateByWindowScale\032\244\001"
-  "\n\rUpdateByEmMin\022E\n\007options\030\001 \001(\01324.io.de"
-  "ephaven.proto.backplane.grpc.UpdateByEmO"
-  "ptions\022L\n\014window_scale\030\002 \001(\01326.io.deepha"
-  "ven.proto.backplane.grpc.UpdateByWindowS"
-  "cale\032\244\001\n\rUpdateByEmMax\022E\n\007options\030\001 \001(\0132"
-  "4.io.deephaven.proto.backplane.grpc.Upda"
-  "teByEmOptions\022L\n\014window_scale\030\002 \001(\01326.io"
-  ".deephaven.proto.backplane.grpc.UpdateBy"
-  "WindowScale\032\244\001\n\rUpdateByEmStd\022E\n\007options"
-  "\030\001 \001(\01324.io.deephaven.proto.backplane.gr"
-  "pc.UpdateByEmOptions\022L\n\014window_scale\030\002 \001"
-  "(\01326.io.deephaven.proto.backplane.grpc.U"
-  "pdateByWindowScale\032Y\n\rUpdateByDelta\022H\n\007o"
-  "ptions\030\001 \001(\01327.io.deephaven.proto.backpl"
-  "ane.grpc.UpdateByDeltaOptions\032\300\001\n\022Update"
-  "ByRollingSum\022T\n\024reverse_window_scale\030\001 \001"
-  "(\01326.io.deephaven.proto.backplane.grpc.U"
-  "pdateByWindowScale\022T\n\024forward_window_sca"
-  "le\030\002 \001(\01326.io.deephaven.proto.backplane."
-  "grpc.UpdateByWindowScale\032\302\001\n\024UpdateByRol"
-  "lingGroup\022T\n\024reverse_window_scale\030\001 \001(\0132"
+  "ySpec.UpdateByRollingWAvgH\000\022\224\001\n\020rolling_"
+  "quantile\030\025 \001(\0132x.io.deephaven.proto.back"
+  "plane.grpc.UpdateByRequest.UpdateByOpera"
+  "tion.UpdateByColumn.UpdateBySpec.UpdateB"
+  "yRollingQuantileH\000\032\027\n\025UpdateByCumulative"
+  "Sum\032\027\n\025UpdateByCumulativeMin\032\027\n\025UpdateBy"
+  "CumulativeMax\032\033\n\031UpdateByCumulativeProdu"
+  "ct\032\016\n\014UpdateByFill\032\242\001\n\013UpdateByEma\022E\n\007op"
+  "tions\030\001 \001(\01324.io.deephaven.proto.backpla"
+  "ne.grpc.UpdateByEmOptions\022L\n\014window_scal"
+  "e\030\002 \001(\01326.io.deephaven.proto.backplane.g"
+  "rpc.UpdateByWindowScale\032\242\001\n\013UpdateByEms\022"
+  "E\n\007options\030\001 \001(\01324.io.deephaven.proto.ba"
+  "ckplane.grpc.UpdateByEmOptions\022L\n\014window"
+  "_scale\030\002 \001(\01326.io.deephaven.proto.backpl"
+  "ane.grpc.UpdateByWindowScale\032\244\001\n\rUpdateB"
+  "yEmMin\022E\n\007options\030\001 \001(\01324.io.deephaven.p"
+  "roto.backplane.grpc.UpdateByEmOptions\022L\n"
+  "\014window_scale\030\002 \001(\01326.io.deephaven.proto"
+  ".backplane.grpc.UpdateByWindowScale\032\244\001\n\r"
+  "UpdateByEmMax\022E\n\007options\030\001 \001(\01324.io.deep"
+  "haven.proto.backplane.grpc.UpdateByEmOpt"
+  "ions\022L\n\014window_scale\030\002 \001(\01326.io.deephave"
+  "n.proto.backplane.grpc.UpdateByWindowSca"
+  "le\032\244\001\n\rUpdateByEmStd\022E\n\007options\030\001 \001(\01324."
+  "io.deephaven.proto.backplane.grpc.Update"
+  "ByEmOptions\022L\n\014window_scale\030\002 \001(\01326.io.d"
+  "eephaven.proto.backplane.grpc.UpdateByWi"
+  "ndowScale\032Y\n\rUpdateByDelta\022H\n\007options\030\001 "
+  "\001(\01327.io.deephaven.proto.backplane.grpc."
+  "UpdateByDeltaOptions\032\300\001\n\022UpdateByRolling"
+  "Sum\022T\n\024reverse_window_scale\030\001 \001(\01326.io.d"
+  "eephaven.proto.backplane.grpc.UpdateByWi"
+  "ndowScale\022T\n\024forward_window_scale\030\002 \001(\0132"
   "6.io.deephaven.proto.backplane.grpc.Upda"
-  "teByWindowScale\022T\n\024forward_window_scale\030"
-  "\002 \001(\01326.io.deephaven.proto.backplane.grp"
-  "c.UpdateByWindowScale\032\300\001\n\022UpdateByRollin"
-  "gAvg\022T\n\024reverse_window_scale\030\001 \001(\01326.io."
-  "deephaven.proto.backplane.grpc.UpdateByW"
-  "indowScale\022T\n\024forward_window_scale\030\002 \001(\013"
-  "26.io.deephaven.proto.backplane.grpc.Upd"
-  "ateByWindowScale\032\300\001\n\022UpdateByRollingMin\022"
-  "T\n\024reverse_window_scale\030\001 \001(\01326.io.deeph"
-  "aven.proto.backplane.grpc.UpdateByWindow"
-  "Scale\022T\n\024forward_window_scale\030\002 \001(\01326.io"
-  ".deephaven.proto.backplane.grpc.UpdateBy"
-  "WindowScale\032\300\001\n\022UpdateByRollingMax\022T\n\024re"
-  "verse_window_scale\030\001 \001(\01326.io.deephaven."
-  "proto.backplane.grpc.UpdateByWindowScale"
-  "\022T\n\024forward_window_scale\030\002 \001(\01326.io.deep"
+  "teByWindowScale\032\302\001\n\024UpdateByRollingGroup"
+  "\022T\n\024reverse_window_scale\030\001 \001(\01326.io.deep"
   "haven.proto.backplane.grpc.UpdateByWindo"
-  "wScale\032\304\001\n\026UpdateByRollingProduct\022T\n\024rev"
-  "erse_window_scale\030\001 \001(\01326.io.deephaven.p"
-  "roto.backplane.grpc.UpdateByWindowScale\022"
-  "T\n\024forward_window_scale\030\002 \001(\01326.io.deeph"
-  "aven.proto.backplane.grpc.UpdateByWindow"
-  "Scale\032\302\001\n\024UpdateByRollingCount\022T\n\024revers"
+  "wScale\022T\n\024forward_window_scale\030\002 \001(\01326.i"
+  "o.deephaven.proto.backplane.grpc.UpdateB"
+  "yWindowScale\032\300\001\n\022UpdateByRollingAvg\022T\n\024r"
+  "everse_window_scale\030\001 \001(\01326.io.deephaven"
+  ".proto.backplane.grpc.UpdateByWindowScal"
+  "e\022T\n\024forward_window_scale\030\002 \001(\01326.io.dee"
+  "phaven.proto.backplane.grpc.UpdateByWind"
+  "owScale\032\300\001\n\022UpdateByRollingMin\022T\n\024revers"
   "e_window_scale\030\001 \001(\01326.io.deephaven.prot"
   "o.backplane.grpc.UpdateByWindowScale\022T\n\024"
   "forward_window_scale\030\002 \001(\01326.io.deephave"
   "n.proto.backplane.grpc.UpdateByWindowSca"
-  "le\032\300\001\n\022UpdateByRollingStd\022T\n\024reverse_win"
+  "le\032\300\001\n\022UpdateByRollingMax\022T\n\024reverse_win"
   "dow_scale\030\001 \001(\01326.io.deephaven.proto.bac"
   "kplane.grpc.UpdateByWindowScale\022T\n\024forwa"
   "rd_window_scale\030\002 \001(\01326.io.deephaven.pro"
-  "to.backplane.grpc.UpdateByWindowScale\032\330\001"
-  "\n\023UpdateByRollingWAvg\022T\n\024reverse_window_"
+  "to.backplane.grpc.UpdateByWindowScale\032\304\001"
+  "\n\026UpdateByRollingProduct\022T\n\024reverse_wind"
+  "ow_scale\030\001 \001(\01326.io.deephaven.proto.back"
+  "plane.grpc.UpdateByWindowScale\022T\n\024forwar"
+  "d_window_scale\030\002 \001(\01326.io.deephaven.prot"
+  "o.backplane.grpc.UpdateByWindowScale\032\302\001\n"
+  "\024UpdateByRollingCount\022T\n\024reverse_window_"
   "scale\030\001 \001(\01326.io.deephaven.proto.backpla"
   "ne.grpc.UpdateByWindowScale\022T\n\024forward_w"
   "indow_scale\030\002 \001(\01326.io.deephaven.proto.b"
-  "ackplane.grpc.UpdateByWindowScale\022\025\n\rwei"
-  "ght_column\030\003 \001(\tB\006\n\004typeB\006\n\004type\"\261\001\n\025Sel"
-  "ectDistinctRequest\022<\n\tresult_id\030\001 \001(\0132)."
-  "io.deephaven.proto.backplane.grpc.Ticket"
-  "\022D\n\tsource_id\030\002 \001(\01321.io.deephaven.proto"
-  ".backplane.grpc.TableReference\022\024\n\014column"
-  "_names\030\003 \003(\t\"\256\001\n\022DropColumnsRequest\022<\n\tr"
-  "esult_id\030\001 \001(\0132).io.deephaven.proto.back"
-  "plane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\01321.i"
-  "o.deephaven.proto.backplane.grpc.TableRe"
-  "ference\022\024\n\014column_names\030\003 \003(\t\"\265\001\n\036Unstru"
-  "cturedFilterTableRequest\022<\n\tresult_id\030\001 "
-  "\001(\0132).io.deephaven.proto.backplane.grpc."
-  "Ticket\022D\n\tsource_id\030\002 \001(\01321.io.deephaven"
-  ".proto.backplane.grpc.TableReference\022\017\n\007"
-  "filters\030\003 \003(\t\"\255\001\n\021HeadOrTailRequest\022<\n\tr"
-  "esult_id\030\001 \001(\0132).io.deephaven.proto.back"
-  "plane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\01321.i"
-  "o.deephaven.proto.backplane.grpc.TableRe"
-  "ference\022\024\n\010num_rows\030\003 \001(\022B\0020\001\"\316\001\n\023HeadOr"
-  "TailByRequest\022<\n\tresult_id\030\001 \001(\0132).io.de"
-  "ephaven.proto.backplane.grpc.Ticket\022D\n\ts"
-  "ource_id\030\002 \001(\01321.io.deephaven.proto.back"
-  "plane.grpc.TableReference\022\024\n\010num_rows\030\003 "
-  "\001(\022B\0020\001\022\035\n\025group_by_column_specs\030\004 \003(\t\"\303"
-  "\001\n\016UngroupRequest\022<\n\tresult_id\030\001 \001(\0132).i"
-  "o.deephaven.proto.backplane.grpc.Ticket\022"
-  "D\n\tsource_id\030\002 \001(\01321.io.deephaven.proto."
-  "backplane.grpc.TableReference\022\021\n\tnull_fi"
-  "ll\030\003 \001(\010\022\032\n\022columns_to_ungroup\030\004 \003(\t\"\255\001\n"
-  "\022MergeTablesRequest\022<\n\tresult_id\030\001 \001(\0132)"
-  ".io.deephaven.proto.backplane.grpc.Ticke"
-  "t\022E\n\nsource_ids\030\002 \003(\01321.io.deephaven.pro"
-  "to.backplane.grpc.TableReference\022\022\n\nkey_"
-  "column\030\003 \001(\t\"\232\001\n\024SnapshotTableRequest\022<\n"
-  "\tresult_id\030\001 \001(\0132).io.deephaven.proto.ba"
-  "ckplane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\01321"
-  ".io.deephaven.proto.backplane.grpc.Table"
-  "Reference\"\261\002\n\030SnapshotWhenTableRequest\022<"
+  "ackplane.grpc.UpdateByWindowScale\032\300\001\n\022Up"
+  "dateByRollingStd\022T\n\024reverse_window_scale"
+  "\030\001 \001(\01326.io.deephaven.proto.backplane.gr"
+  "pc.UpdateByWindowScale\022T\n\024forward_window"
+  "_scale\030\002 \001(\01326.io.deephaven.proto.backpl"
+  "ane.grpc.UpdateByWindowScale\032\330\001\n\023UpdateB"
+  "yRollingWAvg\022T\n\024reverse_window_scale\030\001 \001"
+  "(\01326.io.deephaven.proto.backplane.grpc.U"
+  "pdateByWindowScale\022T\n\024forward_window_sca"
+  "le\030\002 \001(\01326.io.deephaven.proto.backplane."
+  "grpc.UpdateByWindowScale\022\025\n\rweight_colum"
+  "n\030\003 \001(\t\032\371\001\n\027UpdateByRollingQuantile\022T\n\024r"
+  "everse_window_scale\030\001 \001(\01326.io.deephaven"
+  ".proto.backplane.grpc.UpdateByWindowScal"
+  "e\022T\n\024forward_window_scale\030\002 \001(\01326.io.dee"
+  "phaven.proto.backplane.grpc.UpdateByWind"
+  "owScale\022\022\n\npercentile\030\003 \001(\001\022\036\n\026average_e"
+  "venly_divided\030\004 \001(\010B\006\n\004typeB\006\n\004type\"\261\001\n\025"
+  "SelectDistinctRequest\022<\n\tresult_id\030\001 \001(\013"
+  "2).io.deephaven.proto.backplane.grpc.Tic"
+  "ket\022D\n\tsource_id\030\002 \001(\01321.io.deephaven.pr"
+  "oto.backplane.grpc.TableReference\022\024\n\014col"
+  "umn_names\030\003 \003(\t\"\256\001\n\022DropColumnsRequest\022<"
   "\n\tresult_id\030\001 \001(\0132).io.deephaven.proto.b"
-  "ackplane.grpc.Ticket\022B\n\007base_id\030\002 \001(\01321."
-  "io.deephaven.proto.backplane.grpc.TableR"
-  "eference\022E\n\ntrigger_id\030\003 \001(\01321.io.deepha"
-  "ven.proto.backplane.grpc.TableReference\022"
-  "\017\n\007initial\030\004 \001(\010\022\023\n\013incremental\030\005 \001(\010\022\017\n"
-  "\007history\030\006 \001(\010\022\025\n\rstamp_columns\030\007 \003(\t\"\247\002"
-  "\n\026CrossJoinTablesRequest\022<\n\tresult_id\030\001 "
-  "\001(\0132).io.deephaven.proto.backplane.grpc."
-  "Ticket\022B\n\007left_id\030\002 \001(\01321.io.deephaven.p"
-  "roto.backplane.grpc.TableReference\022C\n\010ri"
-  "ght_id\030\003 \001(\01321.io.deephaven.proto.backpl"
-  "ane.grpc.TableReference\022\030\n\020columns_to_ma"
-  "tch\030\004 \003(\t\022\026\n\016columns_to_add\030\005 \003(\t\022\024\n\014res"
-  "erve_bits\030\006 \001(\005\"\223\002\n\030NaturalJoinTablesReq"
-  "uest\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.p"
-  "roto.backplane.grpc.Ticket\022B\n\007left_id\030\002 "
-  "\001(\01321.io.deephaven.proto.backplane.grpc."
-  "TableReference\022C\n\010right_id\030\003 \001(\01321.io.de"
-  "ephaven.proto.backplane.grpc.TableRefere"
-  "nce\022\030\n\020columns_to_match\030\004 \003(\t\022\026\n\016columns"
-  "_to_add\030\005 \003(\t\"\221\002\n\026ExactJoinTablesRequest"
-  "\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.proto"
-  ".backplane.grpc.Ticket\022B\n\007left_id\030\002 \001(\0132"
+  "ackplane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\0132"
   "1.io.deephaven.proto.backplane.grpc.Tabl"
-  "eReference\022C\n\010right_id\030\003 \001(\01321.io.deepha"
+  "eReference\022\024\n\014column_names\030\003 \003(\t\"\265\001\n\036Uns"
+  "tructuredFilterTableRequest\022<\n\tresult_id"
+  "\030\001 \001(\0132).io.deephaven.proto.backplane.gr"
+  "pc.Ticket\022D\n\tsource_id\030\002 \001(\01321.io.deepha"
   "ven.proto.backplane.grpc.TableReference\022"
-  "\030\n\020columns_to_match\030\004 \003(\t\022\026\n\016columns_to_"
-  "add\030\005 \003(\t\"\220\002\n\025LeftJoinTablesRequest\022<\n\tr"
-  "esult_id\030\001 \001(\0132).io.deephaven.proto.back"
-  "plane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321.io."
-  "deephaven.proto.backplane.grpc.TableRefe"
-  "rence\022C\n\010right_id\030\003 \001(\01321.io.deephaven.p"
-  "roto.backplane.grpc.TableReference\022\030\n\020co"
-  "lumns_to_match\030\004 \003(\t\022\026\n\016columns_to_add\030\005"
-  " \003(\t\"\321\003\n\025AsOfJoinTablesRequest\022<\n\tresult"
-  "_id\030\001 \001(\0132).io.deephaven.proto.backplane"
-  ".grpc.Ticket\022B\n\007left_id\030\002 \001(\01321.io.deeph"
-  "aven.proto.backplane.grpc.TableReference"
-  "\022C\n\010right_id\030\003 \001(\01321.io.deephaven.proto."
-  "backplane.grpc.TableReference\022\030\n\020columns"
-  "_to_match\030\004 \003(\t\022\026\n\016columns_to_add\030\005 \003(\t\022"
-  "\\\n\020as_of_match_rule\030\007 \001(\0162B.io.deephaven"
-  ".proto.backplane.grpc.AsOfJoinTablesRequ"
-  "est.MatchRule\"]\n\tMatchRule\022\023\n\017LESS_THAN_"
-  "EQUAL\020\000\022\r\n\tLESS_THAN\020\001\022\026\n\022GREATER_THAN_E"
-  "QUAL\020\002\022\020\n\014GREATER_THAN\020\003\032\002\030\001:\002\030\001\"\246\002\n\022AjR"
-  "ajTablesRequest\022<\n\tresult_id\030\001 \001(\0132).io."
-  "deephaven.proto.backplane.grpc.Ticket\022B\n"
-  "\007left_id\030\002 \001(\01321.io.deephaven.proto.back"
-  "plane.grpc.TableReference\022C\n\010right_id\030\003 "
-  "\001(\01321.io.deephaven.proto.backplane.grpc."
-  "TableReference\022\033\n\023exact_match_columns\030\004 "
-  "\003(\t\022\024\n\014as_of_column\030\005 \001(\t\022\026\n\016columns_to_"
-  "add\030\006 \003(\t\"\313\006\n\026RangeJoinTablesRequest\022<\n\t"
-  "result_id\030\001 \001(\0132).io.deephaven.proto.bac"
-  "kplane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321.io"
-  ".deephaven.proto.backplane.grpc.TableRef"
-  "erence\022C\n\010right_id\030\003 \001(\01321.io.deephaven."
-  "proto.backplane.grpc.TableReference\022\033\n\023e"
-  "xact_match_columns\030\004 \003(\t\022\031\n\021left_start_c"
-  "olumn\030\005 \001(\t\022b\n\020range_start_rule\030\006 \001(\0162H."
-  "io.deephaven.proto.backplane.grpc.RangeJ"
-  "oinTablesRequest.RangeStartRule\022\032\n\022right"
-  "_range_column\030\007 \001(\t\022^\n\016range_end_rule\030\010 "
-  "\001(\0162F.io.deephaven.proto.backplane.grpc."
-  "RangeJoinTablesRequest.RangeEndRule\022\027\n\017l"
-  "eft_end_column\030\t \001(\t\022D\n\014aggregations\030\n \003"
-  "(\0132..io.deephaven.proto.backplane.grpc.A"
-  "ggregation\"v\n\016RangeStartRule\022\025\n\021START_UN"
-  "SPECIFIED\020\000\022\r\n\tLESS_THAN\020\001\022\026\n\022LESS_THAN_"
-  "OR_EQUAL\020\002\022&\n\"LESS_THAN_OR_EQUAL_ALLOW_P"
-  "RECEDING\020\003\"{\n\014RangeEndRule\022\023\n\017END_UNSPEC"
-  "IFIED\020\000\022\020\n\014GREATER_THAN\020\001\022\031\n\025GREATER_THA"
-  "N_OR_EQUAL\020\002\022)\n%GREATER_THAN_OR_EQUAL_AL"
-  "LOW_FOLLOWING\020\003\"\376\004\n\025ComboAggregateReques"
-  "t\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.prot"
-  "o.backplane.grpc.Ticket\022D\n\tsource_id\030\002 \001"
-  "(\01321.io.deephaven.proto.backplane.grpc.T"
-  "ableReference\022V\n\naggregates\030\003 \003(\0132B.io.d"
-  "eephaven.proto.backplane.grpc.ComboAggre"
-  "gateRequest.Aggregate\022\030\n\020group_by_column"
-  "s\030\004 \003(\t\022\023\n\013force_combo\030\005 \001(\010\032\255\001\n\tAggrega"
-  "te\022N\n\004type\030\001 \001(\0162@.io.deephaven.proto.ba"
-  "ckplane.grpc.ComboAggregateRequest.AggTy"
-  "pe\022\023\n\013match_pairs\030\002 \003(\t\022\023\n\013column_name\030\003"
-  " \001(\t\022\022\n\npercentile\030\004 \001(\001\022\022\n\navg_median\030\005"
-  " \001(\010\"\245\001\n\007AggType\022\007\n\003SUM\020\000\022\013\n\007ABS_SUM\020\001\022\t"
-  "\n\005GROUP\020\002\022\007\n\003AVG\020\003\022\t\n\005COUNT\020\004\022\t\n\005FIRST\020\005"
-  "\022\010\n\004LAST\020\006\022\007\n\003MIN\020\007\022\007\n\003MAX\020\010\022\n\n\006MEDIAN\020\t"
-  "\022\016\n\nPERCENTILE\020\n\022\007\n\003STD\020\013\022\007\n\003VAR\020\014\022\020\n\014WE"
-  "IGHTED_AVG\020\r:\002\030\001\"\355\001\n\023AggregateAllRequest"
+  "\017\n\007filters\030\003 \003(\t\"\255\001\n\021HeadOrTailRequest\022<"
+  "\n\tresult_id\030\001 \001(\0132).io.deephaven.proto.b"
+  "ackplane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\0132"
+  "1.io.deephaven.proto.backplane.grpc.Tabl"
+  "eReference\022\024\n\010num_rows\030\003 \001(\022B\0020\001\"\316\001\n\023Hea"
+  "dOrTailByRequest\022<\n\tresult_id\030\001 \001(\0132).io"
+  ".deephaven.proto.backplane.grpc.Ticket\022D"
+  "\n\tsource_id\030\002 \001(\01321.io.deephaven.proto.b"
+  "ackplane.grpc.TableReference\022\024\n\010num_rows"
+  "\030\003 \001(\022B\0020\001\022\035\n\025group_by_column_specs\030\004 \003("
+  "\t\"\303\001\n\016UngroupRequest\022<\n\tresult_id\030\001 \001(\0132"
+  ").io.deephaven.proto.backplane.grpc.Tick"
+  "et\022D\n\tsource_id\030\002 \001(\01321.io.deephaven.pro"
+  "to.backplane.grpc.TableReference\022\021\n\tnull"
+  "_fill\030\003 \001(\010\022\032\n\022columns_to_ungroup\030\004 \003(\t\""
+  "\255\001\n\022MergeTablesRequest\022<\n\tresult_id\030\001 \001("
+  "\0132).io.deephaven.proto.backplane.grpc.Ti"
+  "cket\022E\n\nsource_ids\030\002 \003(\01321.io.deephaven."
+  "proto.backplane.grpc.TableReference\022\022\n\nk"
+  "ey_column\030\003 \001(\t\"\232\001\n\024SnapshotTableRequest"
   "\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.proto"
   ".backplane.grpc.Ticket\022D\n\tsource_id\030\002 \001("
   "\01321.io.deephaven.proto.backplane.grpc.Ta"
-  "bleReference\0228\n\004spec\030\003 \001(\0132*.io.deephave"
-  "n.proto.backplane.grpc.AggSpec\022\030\n\020group_"
-  "by_columns\030\004 \003(\t\"\327\027\n\007AggSpec\022K\n\007abs_sum\030"
-  "\001 \001(\01328.io.deephaven.proto.backplane.grp"
-  "c.AggSpec.AggSpecAbsSumH\000\022i\n\026approximate"
-  "_percentile\030\002 \001(\0132G.io.deephaven.proto.b"
-  "ackplane.grpc.AggSpec.AggSpecApproximate"
-  "PercentileH\000\022D\n\003avg\030\003 \001(\01325.io.deephaven"
-  ".proto.backplane.grpc.AggSpec.AggSpecAvg"
-  "H\000\022Y\n\016count_distinct\030\004 \001(\0132\?.io.deephave"
-  "n.proto.backplane.grpc.AggSpec.AggSpecCo"
-  "untDistinctH\000\022N\n\010distinct\030\005 \001(\0132:.io.dee"
-  "phaven.proto.backplane.grpc.AggSpec.AggS"
-  "pecDistinctH\000\022H\n\005first\030\006 \001(\01327.io.deepha"
+  "bleReference\"\261\002\n\030SnapshotWhenTableReques"
+  "t\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.prot"
+  "o.backplane.grpc.Ticket\022B\n\007base_id\030\002 \001(\013"
+  "21.io.deephaven.proto.backplane.grpc.Tab"
+  "leReference\022E\n\ntrigger_id\030\003 \001(\01321.io.dee"
+  "phaven.proto.backplane.grpc.TableReferen"
+  "ce\022\017\n\007initial\030\004 \001(\010\022\023\n\013incremental\030\005 \001(\010"
+  "\022\017\n\007history\030\006 \001(\010\022\025\n\rstamp_columns\030\007 \003(\t"
+  "\"\247\002\n\026CrossJoinTablesRequest\022<\n\tresult_id"
+  "\030\001 \001(\0132).io.deephaven.proto.backplane.gr"
+  "pc.Ticket\022B\n\007left_id\030\002 \001(\01321.io.deephave"
+  "n.proto.backplane.grpc.TableReference\022C\n"
+  "\010right_id\030\003 \001(\01321.io.deephaven.proto.bac"
+  "kplane.grpc.TableReference\022\030\n\020columns_to"
+  "_match\030\004 \003(\t\022\026\n\016columns_to_add\030\005 \003(\t\022\024\n\014"
+  "reserve_bits\030\006 \001(\005\"\223\002\n\030NaturalJoinTables"
+  "Request\022<\n\tresult_id\030\001 \001(\0132).io.deephave"
+  "n.proto.backplane.grpc.Ticket\022B\n\007left_id"
+  "\030\002 \001(\01321.io.deephaven.proto.backplane.gr"
+  "pc.TableReference\022C\n\010right_id\030\003 \001(\01321.io"
+  ".deephaven.proto.backplane.grpc.TableRef"
+  "erence\022\030\n\020columns_to_match\030\004 \003(\t\022\026\n\016colu"
+  "mns_to_add\030\005 \003(\t\"\221\002\n\026ExactJoinTablesRequ"
+  "est\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.pr"
+  "oto.backplane.grpc.Ticket\022B\n\007left_id\030\002 \001"
+  "(\01321.io.deephaven.proto.backplane.grpc.T"
+  "ableReference\022C\n\010right_id\030\003 \001(\01321.io.dee"
+  "phaven.proto.backplane.grpc.TableReferen"
+  "ce\022\030\n\020columns_to_match\030\004 \003(\t\022\026\n\016columns_"
+  "to_add\030\005 \003(\t\"\220\002\n\025LeftJoinTablesRequest\022<"
+  "\n\tresult_id\030\001 \001(\0132).io.deephaven.proto.b"
+  "ackplane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321."
+  "io.deephaven.proto.backplane.grpc.TableR"
+  "eference\022C\n\010right_id\030\003 \001(\01321.io.deephave"
+  "n.proto.backplane.grpc.TableReference\022\030\n"
+  "\020columns_to_match\030\004 \003(\t\022\026\n\016columns_to_ad"
+  "d\030\005 \003(\t\"\321\003\n\025AsOfJoinTablesRequest\022<\n\tres"
+  "ult_id\030\001 \001(\0132).io.deephaven.proto.backpl"
+  "ane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321.io.de"
+  "ephaven.proto.backplane.grpc.TableRefere"
+  "nce\022C\n\010right_id\030\003 \001(\01321.io.deephaven.pro"
+  "to.backplane.grpc.TableReference\022\030\n\020colu"
+  "mns_to_match\030\004 \003(\t\022\026\n\016columns_to_add\030\005 \003"
+  "(\t\022\\\n\020as_of_match_rule\030\007 \001(\0162B.io.deepha"
+  "ven.proto.backplane.grpc.AsOfJoinTablesR"
+  "equest.MatchRule\"]\n\tMatchRule\022\023\n\017LESS_TH"
+  "AN_EQUAL\020\000\022\r\n\tLESS_THAN\020\001\022\026\n\022GREATER_THA"
+  "N_EQUAL\020\002\022\020\n\014GREATER_THAN\020\003\032\002\030\001:\002\030\001\"\246\002\n\022"
+  "AjRajTablesRequest\022<\n\tresult_id\030\001 \001(\0132)."
+  "io.deephaven.proto.backplane.grpc.Ticket"
+  "\022B\n\007left_id\030\002 \001(\01321.io.deephaven.proto.b"
+  "ackplane.grpc.TableReference\022C\n\010right_id"
+  "\030\003 \001(\01321.io.deephaven.proto.backplane.gr"
+  "pc.TableReference\022\033\n\023exact_match_columns"
+  "\030\004 \003(\t\022\024\n\014as_of_column\030\005 \001(\t\022\026\n\016columns_"
+  "to_add\030\006 \003(\t\"\313\006\n\026RangeJoinTablesRequest\022"
+  "<\n\tresult_id\030\001 \001(\0132).io.deephaven.proto."
+  "backplane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321"
+  ".io.deephaven.proto.backplane.grpc.Table"
+  "Reference\022C\n\010right_id\030\003 \001(\01321.io.deephav"
+  "en.proto.backplane.grpc.TableReference\022\033"
+  "\n\023exact_match_columns\030\004 \003(\t\022\031\n\021left_star"
+  "t_column\030\005 \001(\t\022b\n\020range_start_rule\030\006 \001(\016"
+  "2H.io.deephaven.proto.backplane.grpc.Ran"
+  "geJoinTablesRequest.RangeStartRule\022\032\n\022ri"
+  "ght_range_column\030\007 \001(\t\022^\n\016range_end_rule"
+  "\030\010 \001(\0162F.io.deephaven.proto.backplane.gr"
+  "pc.RangeJoinTablesRequest.RangeEndRule\022\027"
+  "\n\017left_end_column\030\t \001(\t\022D\n\014aggregations\030"
+  "\n \003(\0132..io.deephaven.proto.backplane.grp"
+  "c.Aggregation\"v\n\016RangeStartRule\022\025\n\021START"
+  "_UNSPECIFIED\020\000\022\r\n\tLESS_THAN\020\001\022\026\n\022LESS_TH"
+  "AN_OR_EQUAL\020\002\022&\n\"LESS_THAN_OR_EQUAL_ALLO"
+  "W_PRECEDING\020\003\"{\n\014RangeEndRule\022\023\n\017END_UNS"
+  "PECIFIED\020\000\022\020\n\014GREATER_THAN\020\001\022\031\n\025GREATER_"
+  "THAN_OR_EQUAL\020\002\022)\n%GREATER_THAN_OR_EQUAL"
+  "_ALLOW_FOLLOWING\020\003\"\376\004\n\025ComboAggregateReq"
+  "uest\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.p"
+  "roto.backplane.grpc.Ticket\022D\n\tsource_id\030"
+  "\002 \001(\01321.io.deephaven.proto.backplane.grp"
+  "c.TableReference\022V\n\naggregates\030\003 \003(\0132B.i"
+  "o.deephaven.proto.backplane.grpc.ComboAg"
+  "gregateRequest.Aggregate\022\030\n\020group_by_col"
+  "umns\030\004 \003(\t\022\023\n\013force_combo\030\005 \001(\010\032\255\001\n\tAggr"
+  "egate\022N\n\004type\030\001 \001(\0162@.io.deephaven.proto"
+  ".backplane.grpc.ComboAggregateRequest.Ag"
+  "gType\022\023\n\013match_pairs\030\002 \003(\t\022\023\n\013column_nam"
+  "e\030\003 \001(\t\022\022\n\npercentile\030\004 \001(\001\022\022\n\navg_media"
+  "n\030\005 \001(\010\"\245\001\n\007AggType\022\007\n\003SUM\020\000\022\013\n\007ABS_SUM\020"
+  "\001\022\t\n\005GROUP\020\002\022\007\n\003AVG\020\003\022\t\n\005COUNT\020\004\022\t\n\005FIRS"
+  "T\020\005\022\010\n\004LAST\020\006\022\007\n\003MIN\020\007\022\007\n\003MAX\020\010\022\n\n\006MEDIA"
+  "N\020\t\022\016\n\nPERCENTILE\020\n\022\007\n\003STD\020\013\022\007\n\003VAR\020\014\022\020\n"
+  "\014WEIGHTED_AVG\020\r:\002\030\001\"\355\001\n\023AggregateAllRequ"
+  "est\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.pr"
+  "oto.backplane.grpc.Ticket\022D\n\tsource_id\030\002"
+  " \001(\01321.io.deephaven.proto.backplane.grpc"
+  ".TableReference\0228\n\004spec\030\003 \001(\0132*.io.deeph"
+  "aven.proto.backplane.grpc.AggSpec\022\030\n\020gro"
+  "up_by_columns\030\004 \003(\t\"\327\027\n\007AggSpec\022K\n\007abs_s"
+  "um\030\001 \001(\01328.io.deephaven.proto.backplane."
+  "grpc.AggSpec.AggSpecAbsSumH\000\022i\n\026approxim"
+  "ate_percentile\030\002 \001(\0132G.io.deephaven.prot"
+  "o.backplane.grpc.AggSpec.AggSpecApproxim"
+  "atePercentileH\000\022D\n\003avg\030\003 \001(\01325.io.deepha"
   "ven.proto.backplane.grpc.AggSpec.AggSpec"
-  "FirstH\000\022L\n\007formula\030\007 \001(\01329.io.deephaven."
-  "proto.backplane.grpc.AggSpec.AggSpecForm"
-  "ulaH\000\022J\n\006freeze\030\010 \001(\01328.io.deephaven.pro"
-  "to.backplane.grpc.AggSpec.AggSpecFreezeH"
-  "\000\022H\n\005group\030\t \001(\01327.io.deephaven.proto.ba"
-  "ckplane.grpc.AggSpec.AggSpecGroupH\000\022F\n\004l"
-  "ast\030\n \001(\01326.io.deephaven.proto.backplane"
-  ".grpc.AggSpec.AggSpecLastH\000\022D\n\003max\030\013 \001(\013"
-  "25.io.deephaven.proto.backplane.grpc.Agg"
-  "Spec.AggSpecMaxH\000\022J\n\006median\030\014 \001(\01328.io.d"
-  "eephaven.proto.backplane.grpc.AggSpec.Ag"
-  "gSpecMedianH\000\022D\n\003min\030\r \001(\01325.io.deephave"
-  "n.proto.backplane.grpc.AggSpec.AggSpecMi"
-  "nH\000\022R\n\npercentile\030\016 \001(\0132<.io.deephaven.p"
-  "roto.backplane.grpc.AggSpec.AggSpecPerce"
-  "ntileH\000\022P\n\014sorted_first\030\017 \001(\01328.io.deeph"
+  "AvgH\000\022Y\n\016count_distinct\030\004 \001(\0132\?.io.deeph"
   "aven.proto.backplane.grpc.AggSpec.AggSpe"
-  "cSortedH\000\022O\n\013sorted_last\030\020 \001(\01328.io.deep"
-  "haven.proto.backplane.grpc.AggSpec.AggSp"
-  "ecSortedH\000\022D\n\003std\030\021 \001(\01325.io.deephaven.p"
-  "roto.backplane.grpc.AggSpec.AggSpecStdH\000"
-  "\022D\n\003sum\030\022 \001(\01325.io.deephaven.proto.backp"
-  "lane.grpc.AggSpec.AggSpecSumH\000\022M\n\010t_dige"
-  "st\030\023 \001(\01329.io.deephaven.proto.backplane."
-  "grpc.AggSpec.AggSpecTDigestH\000\022J\n\006unique\030"
-  "\024 \001(\01328.io.deephaven.proto.backplane.grp"
-  "c.AggSpec.AggSpecUniqueH\000\022R\n\014weighted_av"
-  "g\030\025 \001(\0132:.io.deephaven.proto.backplane.g"
-  "rpc.AggSpec.AggSpecWeightedH\000\022R\n\014weighte"
-  "d_sum\030\026 \001(\0132:.io.deephaven.proto.backpla"
-  "ne.grpc.AggSpec.AggSpecWeightedH\000\022D\n\003var"
-  "\030\027 \001(\01325.io.deephaven.proto.backplane.gr"
-  "pc.AggSpec.AggSpecVarH\000\032\\\n\034AggSpecApprox"
-  "imatePercentile\022\022\n\npercentile\030\001 \001(\001\022\030\n\013c"
-  "ompression\030\002 \001(\001H\000\210\001\001B\016\n\014_compression\032+\n"
-  "\024AggSpecCountDistinct\022\023\n\013count_nulls\030\001 \001"
-  "(\010\032(\n\017AggSpecDistinct\022\025\n\rinclude_nulls\030\001"
-  " \001(\010\0326\n\016AggSpecFormula\022\017\n\007formula\030\001 \001(\t\022"
-  "\023\n\013param_token\030\002 \001(\t\032/\n\rAggSpecMedian\022\036\n"
-  "\026average_evenly_divided\030\001 \001(\010\032G\n\021AggSpec"
-  "Percentile\022\022\n\npercentile\030\001 \001(\001\022\036\n\026averag"
-  "e_evenly_divided\030\002 \001(\010\032`\n\rAggSpecSorted\022"
-  "O\n\007columns\030\001 \003(\0132>.io.deephaven.proto.ba"
-  "ckplane.grpc.AggSpec.AggSpecSortedColumn"
-  "\032*\n\023AggSpecSortedColumn\022\023\n\013column_name\030\001"
-  " \001(\t\032:\n\016AggSpecTDigest\022\030\n\013compression\030\001 "
-  "\001(\001H\000\210\001\001B\016\n\014_compression\032\210\001\n\rAggSpecUniq"
-  "ue\022\025\n\rinclude_nulls\030\001 \001(\010\022`\n\023non_unique_"
-  "sentinel\030\002 \001(\0132C.io.deephaven.proto.back"
-  "plane.grpc.AggSpec.AggSpecNonUniqueSenti"
-  "nel\032\265\002\n\030AggSpecNonUniqueSentinel\022B\n\nnull"
-  "_value\030\001 \001(\0162,.io.deephaven.proto.backpl"
-  "ane.grpc.NullValueH\000\022\026\n\014string_value\030\002 \001"
-  "(\tH\000\022\023\n\tint_value\030\003 \001(\021H\000\022\030\n\nlong_value\030"
-  "\004 \001(\022B\0020\001H\000\022\025\n\013float_value\030\005 \001(\002H\000\022\026\n\014do"
-  "uble_value\030\006 \001(\001H\000\022\024\n\nbool_value\030\007 \001(\010H\000"
-  "\022\024\n\nbyte_value\030\010 \001(\021H\000\022\025\n\013short_value\030\t "
-  "\001(\021H\000\022\024\n\nchar_value\030\n \001(\021H\000B\006\n\004type\032(\n\017A"
-  "ggSpecWeighted\022\025\n\rweight_column\030\001 \001(\t\032\017\n"
-  "\rAggSpecAbsSum\032\014\n\nAggSpecAvg\032\016\n\014AggSpecF"
-  "irst\032\017\n\rAggSpecFreeze\032\016\n\014AggSpecGroup\032\r\n"
-  "\013AggSpecLast\032\014\n\nAggSpecMax\032\014\n\nAggSpecMin"
-  "\032\014\n\nAggSpecStd\032\014\n\nAggSpecSum\032\014\n\nAggSpecV"
-  "arB\006\n\004type\"\334\002\n\020AggregateRequest\022<\n\tresul"
-  "t_id\030\001 \001(\0132).io.deephaven.proto.backplan"
-  "e.grpc.Ticket\022D\n\tsource_id\030\002 \001(\01321.io.de"
-  "ephaven.proto.backplane.grpc.TableRefere"
-  "nce\022L\n\021initial_groups_id\030\003 \001(\01321.io.deep"
-  "haven.proto.backplane.grpc.TableReferenc"
-  "e\022\026\n\016preserve_empty\030\004 \001(\010\022D\n\014aggregation"
-  "s\030\005 \003(\0132..io.deephaven.proto.backplane.g"
-  "rpc.Aggregation\022\030\n\020group_by_columns\030\006 \003("
-  "\t\"\323\005\n\013Aggregation\022T\n\007columns\030\001 \001(\0132A.io."
-  "deephaven.proto.backplane.grpc.Aggregati"
-  "on.AggregationColumnsH\000\022P\n\005count\030\002 \001(\0132\?"
-  ".io.deephaven.proto.backplane.grpc.Aggre"
-  "gation.AggregationCountH\000\022Y\n\rfirst_row_k"
-  "ey\030\003 \001(\0132@.io.deephaven.proto.backplane."
-  "grpc.Aggregation.AggregationRowKeyH\000\022X\n\014"
-  "last_row_key\030\004 \001(\0132@.io.deephaven.proto."
-  "backplane.grpc.Aggregation.AggregationRo"
-  "wKeyH\000\022X\n\tpartition\030\005 \001(\0132C.io.deephaven"
-  ".proto.backplane.grpc.Aggregation.Aggreg"
-  "ationPartitionH\000\032c\n\022AggregationColumns\0228"
-  "\n\004spec\030\001 \001(\0132*.io.deephaven.proto.backpl"
-  "ane.grpc.AggSpec\022\023\n\013match_pairs\030\002 \003(\t\032\'\n"
-  "\020AggregationCount\022\023\n\013column_name\030\001 \001(\t\032("
-  "\n\021AggregationRowKey\022\023\n\013column_name\030\001 \001(\t"
-  "\032M\n\024AggregationPartition\022\023\n\013column_name\030"
-  "\001 \001(\t\022 \n\030include_group_by_columns\030\002 \001(\010B"
-  "\006\n\004type\"\341\001\n\016SortDescriptor\022\023\n\013column_nam"
-  "e\030\001 \001(\t\022\023\n\013is_absolute\030\002 \001(\010\022R\n\tdirectio"
-  "n\030\003 \001(\0162\?.io.deephaven.proto.backplane.g"
-  "rpc.SortDescriptor.SortDirection\"Q\n\rSort"
-  "Direction\022\013\n\007UNKNOWN\020\000\022\027\n\nDESCENDING\020\377\377\377"
-  "\377\377\377\377\377\377\001\022\r\n\tASCENDING\020\001\022\013\n\007REVERSE\020\002\"\330\001\n\020"
-  "SortTableRequest\022<\n\tresult_id\030\001 \001(\0132).io"
+  "cCountDistinctH\000\022N\n\010distinct\030\005 \001(\0132:.io."
+  "deephaven.proto.backplane.grpc.AggSpec.A"
+  "ggSpecDistinctH\000\022H\n\005first\030\006 \001(\01327.io.dee"
+  "phaven.proto.backplane.grpc.AggSpec.AggS"
+  "pecFirstH\000\022L\n\007formula\030\007 \001(\01329.io.deephav"
+  "en.proto.backplane.grpc.AggSpec.AggSpecF"
+  "ormulaH\000\022J\n\006freeze\030\010 \001(\01328.io.deephaven."
+  "proto.backplane.grpc.AggSpec.AggSpecFree"
+  "zeH\000\022H\n\005group\030\t \001(\01327.io.deephaven.proto"
+  ".backplane.grpc.AggSpec.AggSpecGroupH\000\022F"
+  "\n\004last\030\n \001(\01326.io.deephaven.proto.backpl"
+  "ane.grpc.AggSpec.AggSpecLastH\000\022D\n\003max\030\013 "
+  "\001(\01325.io.deephaven.proto.backplane.grpc."
+  "AggSpec.AggSpecMaxH\000\022J\n\006median\030\014 \001(\01328.i"
+  "o.deephaven.proto.backplane.grpc.AggSpec"
+  ".AggSpecMedianH\000\022D\n\003min\030\r \001(\01325.io.deeph"
+  "aven.proto.backplane.grpc.AggSpec.AggSpe"
+  "cMinH\000\022R\n\npercentile\030\016 \001(\0132<.io.deephave"
+  "n.proto.backplane.grpc.AggSpec.AggSpecPe"
+  "rcentileH\000\022P\n\014sorted_first\030\017 \001(\01328.io.de"
+  "ephaven.proto.backplane.grpc.AggSpec.Agg"
+  "SpecSortedH\000\022O\n\013sorted_last\030\020 \001(\01328.io.d"
+  "eephaven.proto.backplane.grpc.AggSpec.Ag"
+  "gSpecSortedH\000\022D\n\003std\030\021 \001(\01325.io.deephave"
+  "n.proto.backplane.grpc.AggSpec.AggSpecSt"
+  "dH\000\022D\n\003sum\030\022 \001(\01325.io.deephaven.proto.ba"
+  "ckplane.grpc.AggSpec.AggSpecSumH\000\022M\n\010t_d"
+  "igest\030\023 \001(\01329.io.deephaven.proto.backpla"
+  "ne.grpc.AggSpec.AggSpecTDigestH\000\022J\n\006uniq"
+  "ue\030\024 \001(\01328.io.deephaven.proto.backplane."
+  "grpc.AggSpec.AggSpecUniqueH\000\022R\n\014weighted"
+  "_avg\030\025 \001(\0132:.io.deephaven.proto.backplan"
+  "e.grpc.AggSpec.AggSpecWeightedH\000\022R\n\014weig"
+  "hted_sum\030\026 \001(\0132:.io.deephaven.proto.back"
+  "plane.grpc.AggSpec.AggSpecWeightedH\000\022D\n\003"
+  "var\030\027 \001(\01325.io.deephaven.proto.backplane"
+  ".grpc.AggSpec.AggSpecVarH\000\032\\\n\034AggSpecApp"
+  "roximatePercentile\022\022\n\npercentile\030\001 \001(\001\022\030"
+  "\n\013compression\030\002 \001(\001H\000\210\001\001B\016\n\014_compression"
+  "\032+\n\024AggSpecCountDistinct\022\023\n\013count_nulls\030"
+  "\001 \001(\010\032(\n\017AggSpecDistinct\022\025\n\rinclude_null"
+  "s\030\001 \001(\010\0326\n\016AggSpecFormula\022\017\n\007formula\030\001 \001"
+  "(\t\022\023\n\013param_token\030\002 \001(\t\032/\n\rAggSpecMedian"
+  "\022\036\n\026average_evenly_divided\030\001 \001(\010\032G\n\021AggS"
+  "pecPercentile\022\022\n\npercentile\030\001 \001(\001\022\036\n\026ave"
+  "rage_evenly_divided\030\002 \001(\010\032`\n\rAggSpecSort"
+  "ed\022O\n\007columns\030\001 \003(\0132>.io.deephaven.proto"
+  ".backplane.grpc.AggSpec.AggSpecSortedCol"
+  "umn\032*\n\023AggSpecSortedColumn\022\023\n\013column_nam"
+  "e\030\001 \001(\t\032:\n\016AggSpecTDigest\022\030\n\013compression"
+  "\030\001 \001(\001H\000\210\001\001B\016\n\014_compression\032\210\001\n\rAggSpecU"
+  "nique\022\025\n\rinclude_nulls\030\001 \001(\010\022`\n\023non_uniq"
+  "ue_sentinel\030\002 \001(\0132C.io.deephaven.proto.b"
+  "ackplane.grpc.AggSpec.AggSpecNonUniqueSe"
+  "ntinel\032\265\002\n\030AggSpecNonUniqueSentinel\022B\n\nn"
+  "ull_value\030\001 \001(\0162,.io.deephaven.proto.bac"
+  "kplane.grpc.NullValueH\000\022\026\n\014string_value\030"
+  "\002 \001(\tH\000\022\023\n\tint_value\030\003 \001(\021H\000\022\030\n\nlong_val"
+  "ue\030\004 \001(\022B\0020\001H\000\022\025\n\013float_value\030\005 \001(\002H\000\022\026\n"
+  "\014double_value\030\006 \001(\001H\000\022\024\n\nbool_value\030\007 \001("
+  "\010H\000\022\024\n\nbyte_value\030\010 \001(\021H\000\022\025\n\013short_value"
+  "\030\t \001(\021H\000\022\024\n\nchar_value\030\n \001(\021H\000B\006\n\004type\032("
+  "\n\017AggSpecWeighted\022\025\n\rweight_column\030\001 \001(\t"
+  "\032\017\n\rAggSpecAbsSum\032\014\n\nAggSpecAvg\032\016\n\014AggSp"
+  "ecFirst\032\017\n\rAggSpecFreeze\032\016\n\014AggSpecGroup"
+  "\032\r\n\013AggSpecLast\032\014\n\nAggSpecMax\032\014\n\nAggSpec"
+  "Min\032\014\n\nAggSpecStd\032\014\n\nAggSpecSum\032\014\n\nAggSp"
+  "ecVarB\006\n\004type\"\334\002\n\020AggregateRequest\022<\n\tre"
+  "sult_id\030\001 \001(\0132).io.deephaven.proto.backp"
+  "lane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\01321.io"
+  ".deephaven.proto.backplane.grpc.TableRef"
+  "erence\022L\n\021initial_groups_id\030\003 \001(\01321.io.d"
+  "eephaven.proto.backplane.grpc.TableRefer"
+  "ence\022\026\n\016preserve_empty\030\004 \001(\010\022D\n\014aggregat"
+  "ions\030\005 \003(\0132..io.deephaven.proto.backplan"
+  "e.grpc.Aggregation\022\030\n\020group_by_columns\030\006"
+  " \003(\t\"\323\005\n\013Aggregation\022T\n\007columns\030\001 \001(\0132A."
+  "io.deephaven.proto.backplane.grpc.Aggreg"
+  "ation.AggregationColumnsH\000\022P\n\005count\030\002 \001("
+  "\0132\?.io.deephaven.proto.backplane.grpc.Ag"
+  "gregation.AggregationCountH\000\022Y\n\rfirst_ro"
+  "w_key\030\003 \001(\0132@.io.deephaven.proto.backpla"
+  "ne.grpc.Aggregation.AggregationRowKeyH\000\022"
+  "X\n\014last_row_key\030\004 \001(\0132@.io.deephaven.pro"
+  "to.backplane.grpc.Aggregation.Aggregatio"
+  "nRowKeyH\000\022X\n\tpartition\030\005 \001(\0132C.io.deepha"
+  "ven.proto.backplane.grpc.Aggregation.Agg"
+  "regationPartitionH\000\032c\n\022AggregationColumn"
+  "s\0228\n\004spec\030\001 \001(\0132*.io.deephaven.proto.bac"
+  "kplane.grpc.AggSpec\022\023\n\013match_pairs\030\002 \003(\t"
+  "\032\'\n\020AggregationCount\022\023\n\013column_name\030\001 \001("
+  "\t\032(\n\021AggregationRowKey\022\023\n\013column_name\030\001 "
+  "\001(\t\032M\n\024AggregationPartition\022\023\n\013column_na"
+  "me\030\001 \001(\t\022 \n\030include_group_by_columns\030\002 \001"
+  "(\010B\006\n\004type\"\341\001\n\016SortDescriptor\022\023\n\013column_"
+  "name\030\001 \001(\t\022\023\n\013is_absolute\030\002 \001(\010\022R\n\tdirec"
+  "tion\030\003 \001(\0162\?.io.deephaven.proto.backplan"
+  "e.grpc.SortDescriptor.SortDirection\"Q\n\rS"
+  "ortDirection\022\013\n\007UNKNOWN\020\000\022\027\n\nDESCENDING\020"
+  "\377\377\377\377\377\377\377\377\377\001\022\r\n\tASCENDING\020\001\022\013\n\007REVERSE\020\002\"\330"
+  "\001\n\020SortTableRequest\022<\n\tresult_id\030\001 \001(\0132)"
+  ".io.deephaven.proto.backplane.grpc.Ticke"
+  "t\022D\n\tsource_id\030\002 \001(\01321.io.deephaven.prot"
+  "o.backplane.grpc.TableReference\022@\n\005sorts"
+  "\030\003 \003(\01321.io.deephaven.proto.backplane.gr"
+  "pc.SortDescriptor\"\327\001\n\022FilterTableRequest"
+  "\022<\n\tresult_id\030\001 \001(\0132).io.deephaven.proto"
+  ".backplane.grpc.Ticket\022D\n\tsource_id\030\002 \001("
+  "\01321.io.deephaven.proto.backplane.grpc.Ta"
+  "bleReference\022=\n\007filters\030\003 \003(\0132,.io.deeph"
+  "aven.proto.backplane.grpc.Condition\"\371\001\n\016"
+  "SeekRowRequest\022<\n\tsource_id\030\001 \001(\0132).io.d"
+  "eephaven.proto.backplane.grpc.Ticket\022\030\n\014"
+  "starting_row\030\002 \001(\022B\0020\001\022\023\n\013column_name\030\003 "
+  "\001(\t\022>\n\nseek_value\030\004 \001(\0132*.io.deephaven.p"
+  "roto.backplane.grpc.Literal\022\023\n\013insensiti"
+  "ve\030\005 \001(\010\022\020\n\010contains\030\006 \001(\010\022\023\n\013is_backwar"
+  "d\030\007 \001(\010\")\n\017SeekRowResponse\022\026\n\nresult_row"
+  "\030\001 \001(\022B\0020\001\" \n\tReference\022\023\n\013column_name\030\001"
+  " \001(\t\"\221\001\n\007Literal\022\026\n\014string_value\030\001 \001(\tH\000"
+  "\022\026\n\014double_value\030\002 \001(\001H\000\022\024\n\nbool_value\030\003"
+  " \001(\010H\000\022\030\n\nlong_value\030\004 \001(\022B\0020\001H\000\022\035\n\017nano"
+  "_time_value\030\005 \001(\022B\0020\001H\000B\007\n\005value\"\221\001\n\005Val"
+  "ue\022A\n\treference\030\001 \001(\0132,.io.deephaven.pro"
+  "to.backplane.grpc.ReferenceH\000\022=\n\007literal"
+  "\030\002 \001(\0132*.io.deephaven.proto.backplane.gr"
+  "pc.LiteralH\000B\006\n\004data\"\274\005\n\tCondition\022>\n\003an"
+  "d\030\001 \001(\0132/.io.deephaven.proto.backplane.g"
+  "rpc.AndConditionH\000\022<\n\002or\030\002 \001(\0132..io.deep"
+  "haven.proto.backplane.grpc.OrConditionH\000"
+  "\022>\n\003not\030\003 \001(\0132/.io.deephaven.proto.backp"
+  "lane.grpc.NotConditionH\000\022F\n\007compare\030\004 \001("
+  "\01323.io.deephaven.proto.backplane.grpc.Co"
+  "mpareConditionH\000\022<\n\002in\030\005 \001(\0132..io.deepha"
+  "ven.proto.backplane.grpc.InConditionH\000\022D"
+  "\n\006invoke\030\006 \001(\01322.io.deephaven.proto.back"
+  "plane.grpc.InvokeConditionH\000\022E\n\007is_null\030"
+  "\007 \001(\01322.io.deephaven.proto.backplane.grp"
+  "c.IsNullConditionH\000\022F\n\007matches\030\010 \001(\01323.i"
+  "o.deephaven.proto.backplane.grpc.Matches"
+  "ConditionH\000\022H\n\010contains\030\t \001(\01324.io.deeph"
+  "aven.proto.backplane.grpc.ContainsCondit"
+  "ionH\000\022D\n\006search\030\n \001(\01322.io.deephaven.pro"
+  "to.backplane.grpc.SearchConditionH\000B\006\n\004d"
+  "ata\"M\n\014AndCondition\022=\n\007filters\030\001 \003(\0132,.i"
+  "o.deephaven.proto.backplane.grpc.Conditi"
+  "on\"L\n\013OrCondition\022=\n\007filters\030\001 \003(\0132,.io."
+  "deephaven.proto.backplane.grpc.Condition"
+  "\"L\n\014NotCondition\022<\n\006filter\030\001 \001(\0132,.io.de"
+  "ephaven.proto.backplane.grpc.Condition\"\254"
+  "\003\n\020CompareCondition\022W\n\toperation\030\001 \001(\0162D"
+  ".io.deephaven.proto.backplane.grpc.Compa"
+  "reCondition.CompareOperation\022L\n\020case_sen"
+  "sitivity\030\002 \001(\01622.io.deephaven.proto.back"
+  "plane.grpc.CaseSensitivity\0225\n\003lhs\030\003 \001(\0132"
+  "(.io.deephaven.proto.backplane.grpc.Valu"
+  "e\0225\n\003rhs\030\004 \001(\0132(.io.deephaven.proto.back"
+  "plane.grpc.Value\"\202\001\n\020CompareOperation\022\r\n"
+  "\tLESS_THAN\020\000\022\026\n\022LESS_THAN_OR_EQUAL\020\001\022\020\n\014"
+  "GREATER_THAN\020\002\022\031\n\025GREATER_THAN_OR_EQUAL\020"
+  "\003\022\n\n\006EQUALS\020\004\022\016\n\nNOT_EQUALS\020\005\"\225\002\n\013InCond"
+  "ition\0228\n\006target\030\001 \001(\0132(.io.deephaven.pro"
+  "to.backplane.grpc.Value\022<\n\ncandidates\030\002 "
+  "\003(\0132(.io.deephaven.proto.backplane.grpc."
+  "Value\022L\n\020case_sensitivity\030\003 \001(\01622.io.dee"
+  "phaven.proto.backplane.grpc.CaseSensitiv"
+  "ity\022@\n\nmatch_type\030\004 \001(\0162,.io.deephaven.p"
+  "roto.backplane.grpc.MatchType\"\230\001\n\017Invoke"
+  "Condition\022\016\n\006method\030\001 \001(\t\0228\n\006target\030\002 \001("
+  "\0132(.io.deephaven.proto.backplane.grpc.Va"
+  "lue\022;\n\targuments\030\003 \003(\0132(.io.deephaven.pr"
+  "oto.backplane.grpc.Value\"R\n\017IsNullCondit"
+  "ion\022\?\n\treference\030\001 \001(\0132,.io.deephaven.pr"
+  "oto.backplane.grpc.Reference\"\362\001\n\020Matches"
+  "Condition\022\?\n\treference\030\001 \001(\0132,.io.deepha"
+  "ven.proto.backplane.grpc.Reference\022\r\n\005re"
+  "gex\030\002 \001(\t\022L\n\020case_sensitivity\030\003 \001(\01622.io"
+  ".deephaven.proto.backplane.grpc.CaseSens"
+  "itivity\022@\n\nmatch_type\030\004 \001(\0162,.io.deephav"
+  "en.proto.backplane.grpc.MatchType\"\373\001\n\021Co"
+  "ntainsCondition\022\?\n\treference\030\001 \001(\0132,.io."
+  "deephaven.proto.backplane.grpc.Reference"
+  "\022\025\n\rsearch_string\030\002 \001(\t\022L\n\020case_sensitiv"
+  "ity\030\003 \001(\01622.io.deephaven.proto.backplane"
+  ".grpc.CaseSensitivity\022@\n\nmatch_type\030\004 \001("
+  "\0162,.io.deephaven.proto.backplane.grpc.Ma"
+  "tchType\"s\n\017SearchCondition\022\025\n\rsearch_str"
+  "ing\030\001 \001(\t\022I\n\023optional_references\030\002 \003(\0132,"
+  ".io.deephaven.proto.backplane.grpc.Refer"
+  "ence\"\224\001\n\016FlattenRequest\022<\n\tresult_id\030\001 \001"
+  "(\0132).io.deephaven.proto.backplane.grpc.T"
+  "icket\022D\n\tsource_id\030\002 \001(\01321.io.deephaven."
+  "proto.backplane.grpc.TableReference\"\226\001\n\020"
+  "MetaTableRequest\022<\n\tresult_id\030\001 \001(\0132).io"
   ".deephaven.proto.backplane.grpc.Ticket\022D"
   "\n\tsource_id\030\002 \001(\01321.io.deephaven.proto.b"
-  "ackplane.grpc.TableReference\022@\n\005sorts\030\003 "
-  "\003(\01321.io.deephaven.proto.backplane.grpc."
-  "SortDescriptor\"\327\001\n\022FilterTableRequest\022<\n"
-  "\tresult_id\030\001 \001(\0132).io.deephaven.proto.ba"
-  "ckplane.grpc.Ticket\022D\n\tsource_id\030\002 \001(\01321"
-  ".io.deephaven.proto.backplane.grpc.Table"
-  "Reference\022=\n\007filters\030\003 \003(\0132,.io.deephave"
-  "n.proto.backplane.grpc.Condition\"\371\001\n\016See"
-  "kRowRequest\022<\n\tsource_id\030\001 \001(\0132).io.deep"
-  "haven.proto.backplane.grpc.Ticket\022\030\n\014sta"
-  "rting_row\030\002 \001(\022B\0020\001\022\023\n\013column_name\030\003 \001(\t"
-  "\022>\n\nseek_value\030\004 \001(\0132*.io.deephaven.prot"
-  "o.backplane.grpc.Literal\022\023\n\013insensitive\030"
-  "\005 \001(\010\022\020\n\010contains\030\006 \001(\010\022\023\n\013is_backward\030\007"
-  " \001(\010\")\n\017SeekRowResponse\022\026\n\nresult_row\030\001 "
-  "\001(\022B\0020\001\" \n\tReference\022\023\n\013column_name\030\001 \001("
-  "\t\"\221\001\n\007Literal\022\026\n\014string_value\030\001 \001(\tH\000\022\026\n"
-  "\014double_value\030\002 \001(\001H\000\022\024\n\nbool_value\030\003 \001("
-  "\010H\000\022\030\n\nlong_value\030\004 \001(\022B\0020\001H\000\022\035\n\017nano_ti"
-  "me_value\030\005 \001(\022B\0020\001H\000B\007\n\005value\"\221\001\n\005Value\022"
-  "A\n\treference\030\001 \001(\0132,.io.deephaven.proto."
-  "backplane.grpc.ReferenceH\000\022=\n\007literal\030\002 "
-  "\001(\0132*.io.deephaven.proto.backplane.grpc."
-  "LiteralH\000B\006\n\004data\"\274\005\n\tCondition\022>\n\003and\030\001"
-  " \001(\0132/.io.deephaven.proto.backplane.grpc"
-  ".AndConditionH\000\022<\n\002or\030\002 \001(\0132..io.deephav"
-  "en.proto.backplane.grpc.OrConditionH\000\022>\n"
-  "\003not\030\003 \001(\0132/.io.deephaven.proto.backplan"
-  "e.grpc.NotConditionH\000\022F\n\007compare\030\004 \001(\01323"
-  ".io.deephaven.proto.backplane.grpc.Compa"
-  "reConditionH\000\022<\n\002in\030\005 \001(\0132..io.deephaven"
-  ".proto.backplane.grpc.InConditionH\000\022D\n\006i"
-  "nvoke\030\006 \001(\01322.io.deephaven.proto.backpla"
-  "ne.grpc.InvokeConditionH\000\022E\n\007is_null\030\007 \001"
-  "(\01322.io.deephaven.proto.backplane.grpc.I"
-  "sNullConditionH\000\022F\n\007matches\030\010 \001(\01323.io.d"
-  "eephaven.proto.backplane.grpc.MatchesCon"
-  "ditionH\000\022H\n\010contains\030\t \001(\01324.io.deephave"
-  "n.proto.backplane.grpc.ContainsCondition"
-  "H\000\022D\n\006search\030\n \001(\01322.io.deephaven.proto."
-  "backplane.grpc.SearchConditionH\000B\006\n\004data"
-  "\"M\n\014AndCondition\022=\n\007filters\030\001 \003(\0132,.io.d"
-  "eephaven.proto.backplane.grpc.Condition\""
-  "L\n\013OrCondition\022=\n\007filters\030\001 \003(\0132,.io.dee"
-  "phaven.proto.backplane.grpc.Condition\"L\n"
-  "\014NotCondition\022<\n\006filter\030\001 \001(\0132,.io.deeph"
-  "aven.proto.backplane.grpc.Condition\"\254\003\n\020"
-  "CompareCondition\022W\n\toperation\030\001 \001(\0162D.io"
-  ".deephaven.proto.backplane.grpc.CompareC"
-  "ondition.CompareOperation\022L\n\020case_sensit"
-  "ivity\030\002 \001(\01622.io.deephaven.proto.backpla"
-  "ne.grpc.CaseSensitivity\0225\n\003lhs\030\003 \001(\0132(.i"
-  "o.deephaven.proto.backplane.grpc.Value\0225"
-  "\n\003rhs\030\004 \001(\0132(.io.deephaven.proto.backpla"
-  "ne.grpc.Value\"\202\001\n\020CompareOperation\022\r\n\tLE"
-  "SS_THAN\020\000\022\026\n\022LESS_THAN_OR_EQUAL\020\001\022\020\n\014GRE"
-  "ATER_THAN\020\002\022\031\n\025GREATER_THAN_OR_EQUAL\020\003\022\n"
-  "\n\006EQUALS\020\004\022\016\n\nNOT_EQUALS\020\005\"\225\002\n\013InConditi"
-  "on\0228\n\006target\030\001 \001(\0132(.io.deephaven.proto."
-  "backplane.grpc.Value\022<\n\ncandidates\030\002 \003(\013"
-  "2(.io.deephaven.proto.backplane.grpc.Val"
-  "ue\022L\n\020case_sensitivity\030\003 \001(\01622.io.deepha"
-  "ven.proto.backplane.grpc.CaseSensitivity"
-  "\022@\n\nmatch_type\030\004 \001(\0162,.io.deephaven.prot"
-  "o.backplane.grpc.MatchType\"\230\001\n\017InvokeCon"
-  "dition\022\016\n\006method\030\001 \001(\t\0228\n\006target\030\002 \001(\0132("
-  ".io.deephaven.proto.backplane.grpc.Value"
-  "\022;\n\targuments\030\003 \003(\0132(.io.deephaven.proto"
-  ".backplane.grpc.Value\"R\n\017IsNullCondition"
-  "\022\?\n\treference\030\001 \001(\0132,.io.deephaven.proto"
-  ".backplane.grpc.Reference\"\362\001\n\020MatchesCon"
-  "dition\022\?\n\treference\030\001 \001(\0132,.io.deephaven"
-  ".proto.backplane.grpc.Reference\022\r\n\005regex"
-  "\030\002 \001(\t\022L\n\020case_sensitivity\030\003 \001(\01622.io.de"
-  "ephaven.proto.backplane.grpc.CaseSensiti"
-  "vity\022@\n\nmatch_type\030\004 \001(\0162,.io.deephaven."
-  "proto.backplane.grpc.MatchType\"\373\001\n\021Conta"
-  "insCondition\022\?\n\treference\030\001 \001(\0132,.io.dee"
-  "phaven.proto.backplane.grpc.Reference\022\025\n"
-  "\rsearch_string\030\002 \001(\t\022L\n\020case_sensitivity"
-  "\030\003 \001(\01622.io.deephaven.proto.backplane.gr"
-  "pc.CaseSensitivity\022@\n\nmatch_type\030\004 \001(\0162,"
-  ".io.deephaven.proto.backplane.grpc.Match"
-  "Type\"s\n\017SearchCondition\022\025\n\rsearch_string"
-  "\030\001 \001(\t\022I\n\023optional_references\030\002 \003(\0132,.io"
-  ".deephaven.proto.backplane.grpc.Referenc"
-  "e\"\224\001\n\016FlattenRequest\022<\n\tresult_id\030\001 \001(\0132"
-  ").io.deephaven.proto.backplane.grpc.Tick"
-  "et\022D\n\tsource_id\030\002 \001(\01321.io.deephaven.pro"
-  "to.backplane.grpc.TableReference\"\226\001\n\020Met"
-  "aTableRequest\022<\n\tresult_id\030\001 \001(\0132).io.de"
-  "ephaven.proto.backplane.grpc.Ticket\022D\n\ts"
-  "ource_id\030\002 \001(\01321.io.deephaven.proto.back"
-  "plane.grpc.TableReference\"\264\003\n\031RunChartDo"
-  "wnsampleRequest\022<\n\tresult_id\030\001 \001(\0132).io."
-  "deephaven.proto.backplane.grpc.Ticket\022D\n"
-  "\tsource_id\030\002 \001(\01321.io.deephaven.proto.ba"
-  "ckplane.grpc.TableReference\022\023\n\013pixel_cou"
-  "nt\030\003 \001(\005\022Z\n\nzoom_range\030\004 \001(\0132F.io.deepha"
-  "ven.proto.backplane.grpc.RunChartDownsam"
-  "pleRequest.ZoomRange\022\025\n\rx_column_name\030\005 "
-  "\001(\t\022\026\n\016y_column_names\030\006 \003(\t\032s\n\tZoomRange"
-  "\022\037\n\016min_date_nanos\030\001 \001(\003B\0020\001H\000\210\001\001\022\037\n\016max"
-  "_date_nanos\030\002 \001(\003B\0020\001H\001\210\001\001B\021\n\017_min_date_"
-  "nanosB\021\n\017_max_date_nanos\"\365\004\n\027CreateInput"
-  "TableRequest\022<\n\tresult_id\030\001 \001(\0132).io.dee"
-  "phaven.proto.backplane.grpc.Ticket\022L\n\017so"
-  "urce_table_id\030\002 \001(\01321.io.deephaven.proto"
-  ".backplane.grpc.TableReferenceH\000\022\020\n\006sche"
-  "ma\030\003 \001(\014H\000\022W\n\004kind\030\004 \001(\0132I.io.deephaven."
-  "proto.backplane.grpc.CreateInputTableReq"
-  "uest.InputTableKind\032\324\002\n\016InputTableKind\022}"
-  "\n\025in_memory_append_only\030\001 \001(\0132\\.io.deeph"
-  "aven.proto.backplane.grpc.CreateInputTab"
-  "leRequest.InputTableKind.InMemoryAppendO"
-  "nlyH\000\022{\n\024in_memory_key_backed\030\002 \001(\0132[.io"
-  ".deephaven.proto.backplane.grpc.CreateIn"
-  "putTableRequest.InputTableKind.InMemoryK"
-  "eyBackedH\000\032\024\n\022InMemoryAppendOnly\032(\n\021InMe"
-  "moryKeyBacked\022\023\n\013key_columns\030\001 \003(\tB\006\n\004ki"
-  "ndB\014\n\ndefinition\"\203\002\n\016WhereInRequest\022<\n\tr"
-  "esult_id\030\001 \001(\0132).io.deephaven.proto.back"
-  "plane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321.io."
-  "deephaven.proto.backplane.grpc.TableRefe"
-  "rence\022C\n\010right_id\030\003 \001(\01321.io.deephaven.p"
-  "roto.backplane.grpc.TableReference\022\020\n\010in"
-  "verted\030\004 \001(\010\022\030\n\020columns_to_match\030\005 \003(\t\"\357"
-  "\030\n\021BatchTableRequest\022K\n\003ops\030\001 \003(\0132>.io.d"
-  "eephaven.proto.backplane.grpc.BatchTable"
-  "Request.Operation\032\214\030\n\tOperation\022K\n\013empty"
-  "_table\030\001 \001(\01324.io.deephaven.proto.backpl"
-  "ane.grpc.EmptyTableRequestH\000\022I\n\ntime_tab"
-  "le\030\002 \001(\01323.io.deephaven.proto.backplane."
-  "grpc.TimeTableRequestH\000\022M\n\014drop_columns\030"
-  "\003 \001(\01325.io.deephaven.proto.backplane.grp"
-  "c.DropColumnsRequestH\000\022J\n\006update\030\004 \001(\01328"
-  ".io.deephaven.proto.backplane.grpc.Selec"
-  "tOrUpdateRequestH\000\022O\n\013lazy_update\030\005 \001(\0132"
-  "8.io.deephaven.proto.backplane.grpc.Sele"
-  "ctOrUpdateRequestH\000\022H\n\004view\030\006 \001(\01328.io.d"
-  "eephaven.proto.backplane.grpc.SelectOrUp"
-  "dateRequestH\000\022O\n\013update_view\030\007 \001(\01328.io."
-  "deephaven.proto.backplane.grpc.SelectOrU"
-  "pdateRequestH\000\022J\n\006select\030\010 \001(\01328.io.deep"
-  "haven.proto.backplane.grpc.SelectOrUpdat"
-  "eRequestH\000\022S\n\017select_distinct\030\t \001(\01328.io"
-  ".deephaven.proto.backplane.grpc.SelectDi"
-  "stinctRequestH\000\022G\n\006filter\030\n \001(\01325.io.dee"
-  "phaven.proto.backplane.grpc.FilterTableR"
-  "equestH\000\022`\n\023unstructured_filter\030\013 \001(\0132A."
-  "io.deephaven.proto.backplane.grpc.Unstru"
-  "cturedFilterTableRequestH\000\022C\n\004sort\030\014 \001(\013"
-  "23.io.deephaven.proto.backplane.grpc.Sor"
-  "tTableRequestH\000\022D\n\004head\030\r \001(\01324.io.deeph"
-  "aven.proto.backplane.grpc.HeadOrTailRequ"
-  "estH\000\022D\n\004tail\030\016 \001(\01324.io.deephaven.proto"
-  ".backplane.grpc.HeadOrTailRequestH\000\022I\n\007h"
-  "ead_by\030\017 \001(\01326.io.deephaven.proto.backpl"
-  "ane.grpc.HeadOrTailByRequestH\000\022I\n\007tail_b"
-  "y\030\020 \001(\01326.io.deephaven.proto.backplane.g"
-  "rpc.HeadOrTailByRequestH\000\022D\n\007ungroup\030\021 \001"
-  "(\01321.io.deephaven.proto.backplane.grpc.U"
-  "ngroupRequestH\000\022F\n\005merge\030\022 \001(\01325.io.deep"
-  "haven.proto.backplane.grpc.MergeTablesRe"
-  "questH\000\022S\n\017combo_aggregate\030\023 \001(\01328.io.de"
-  "ephaven.proto.backplane.grpc.ComboAggreg"
-  "ateRequestH\000\022D\n\007flatten\030\025 \001(\01321.io.deeph"
-  "aven.proto.backplane.grpc.FlattenRequest"
-  "H\000\022\\\n\024run_chart_downsample\030\026 \001(\0132<.io.de"
-  "ephaven.proto.backplane.grpc.RunChartDow"
-  "nsampleRequestH\000\022O\n\ncross_join\030\027 \001(\01329.i"
-  "o.deephaven.proto.backplane.grpc.CrossJo"
-  "inTablesRequestH\000\022S\n\014natural_join\030\030 \001(\0132"
-  ";.io.deephaven.proto.backplane.grpc.Natu"
-  "ralJoinTablesRequestH\000\022O\n\nexact_join\030\031 \001"
-  "(\01329.io.deephaven.proto.backplane.grpc.E"
-  "xactJoinTablesRequestH\000\022M\n\tleft_join\030\032 \001"
-  "(\01328.io.deephaven.proto.backplane.grpc.L"
-  "eftJoinTablesRequestH\000\022R\n\nas_of_join\030\033 \001"
-  "(\01328.io.deephaven.proto.backplane.grpc.A"
-  "sOfJoinTablesRequestB\002\030\001H\000\022K\n\013fetch_tabl"
-  "e\030\034 \001(\01324.io.deephaven.proto.backplane.g"
-  "rpc.FetchTableRequestH\000\022^\n\025apply_preview"
-  "_columns\030\036 \001(\0132=.io.deephaven.proto.back"
-  "plane.grpc.ApplyPreviewColumnsRequestH\000\022"
-  "X\n\022create_input_table\030\037 \001(\0132:.io.deephav"
+  "ackplane.grpc.TableReference\"\264\003\n\031RunChar"
+  "tDownsampleRequest\022<\n\tresult_id\030\001 \001(\0132)."
+  "io.deephaven.proto.backplane.grpc.Ticket"
+  "\022D\n\tsource_id\030\002 \001(\01321.io.deephaven.proto"
+  ".backplane.grpc.TableReference\022\023\n\013pixel_"
+  "count\030\003 \001(\005\022Z\n\nzoom_range\030\004 \001(\0132F.io.dee"
+  "phaven.proto.backplane.grpc.RunChartDown"
+  "sampleRequest.ZoomRange\022\025\n\rx_column_name"
+  "\030\005 \001(\t\022\026\n\016y_column_names\030\006 \003(\t\032s\n\tZoomRa"
+  "nge\022\037\n\016min_date_nanos\030\001 \001(\003B\0020\001H\000\210\001\001\022\037\n\016"
+  "max_date_nanos\030\002 \001(\003B\0020\001H\001\210\001\001B\021\n\017_min_da"
+  "te_nanosB\021\n\017_max_date_nanos\"\365\004\n\027CreateIn"
+  "putTableRequest\022<\n\tresult_id\030\001 \001(\0132).io."
+  "deephaven.proto.backplane.grpc.Ticket\022L\n"
+  "\017source_table_id\030\002 \001(\01321.io.deephaven.pr"
+  "oto.backplane.grpc.TableReferenceH\000\022\020\n\006s"
+  "chema\030\003 \001(\014H\000\022W\n\004kind\030\004 \001(\0132I.io.deephav"
   "en.proto.backplane.grpc.CreateInputTable"
-  "RequestH\000\022G\n\tupdate_by\030  \001(\01322.io.deepha"
-  "ven.proto.backplane.grpc.UpdateByRequest"
-  "H\000\022E\n\010where_in\030! \001(\01321.io.deephaven.prot"
-  "o.backplane.grpc.WhereInRequestH\000\022O\n\ragg"
-  "regate_all\030\" \001(\01326.io.deephaven.proto.ba"
-  "ckplane.grpc.AggregateAllRequestH\000\022H\n\tag"
-  "gregate\030# \001(\01323.io.deephaven.proto.backp"
-  "lane.grpc.AggregateRequestH\000\022K\n\010snapshot"
-  "\030$ \001(\01327.io.deephaven.proto.backplane.gr"
-  "pc.SnapshotTableRequestH\000\022T\n\rsnapshot_wh"
-  "en\030% \001(\0132;.io.deephaven.proto.backplane."
-  "grpc.SnapshotWhenTableRequestH\000\022I\n\nmeta_"
-  "table\030& \001(\01323.io.deephaven.proto.backpla"
-  "ne.grpc.MetaTableRequestH\000\022O\n\nrange_join"
-  "\030\' \001(\01329.io.deephaven.proto.backplane.gr"
-  "pc.RangeJoinTablesRequestH\000\022C\n\002aj\030( \001(\0132"
-  "5.io.deephaven.proto.backplane.grpc.AjRa"
-  "jTablesRequestH\000\022D\n\003raj\030) \001(\01325.io.deeph"
-  "aven.proto.backplane.grpc.AjRajTablesReq"
-  "uestH\000B\004\n\002opJ\004\010\024\020\025J\004\010\035\020\036*b\n\017BadDataBehav"
-  "ior\022#\n\037BAD_DATA_BEHAVIOR_NOT_SPECIFIED\020\000"
-  "\022\t\n\005THROW\020\001\022\t\n\005RESET\020\002\022\010\n\004SKIP\020\003\022\n\n\006POIS"
-  "ON\020\004*t\n\024UpdateByNullBehavior\022\037\n\033NULL_BEH"
-  "AVIOR_NOT_SPECIFIED\020\000\022\022\n\016NULL_DOMINATES\020"
-  "\001\022\023\n\017VALUE_DOMINATES\020\002\022\022\n\016ZERO_DOMINATES"
-  "\020\003*\033\n\tNullValue\022\016\n\nNULL_VALUE\020\000*2\n\017CaseS"
-  "ensitivity\022\016\n\nMATCH_CASE\020\000\022\017\n\013IGNORE_CAS"
-  "E\020\001*&\n\tMatchType\022\013\n\007REGULAR\020\000\022\014\n\010INVERTE"
-  "D\020\0012\214/\n\014TableService\022\221\001\n GetExportedTabl"
-  "eCreationResponse\022).io.deephaven.proto.b"
-  "ackplane.grpc.Ticket\032@.io.deephaven.prot"
-  "o.backplane.grpc.ExportedTableCreationRe"
-  "sponse\"\000\022\206\001\n\nFetchTable\0224.io.deephaven.p"
-  "roto.backplane.grpc.FetchTableRequest\032@."
-  "io.deephaven.proto.backplane.grpc.Export"
-  "edTableCreationResponse\"\000\022\230\001\n\023ApplyPrevi"
-  "ewColumns\022=.io.deephaven.proto.backplane"
-  ".grpc.ApplyPreviewColumnsRequest\032@.io.de"
-  "ephaven.proto.backplane.grpc.ExportedTab"
-  "leCreationResponse\"\000\022\206\001\n\nEmptyTable\0224.io"
-  ".deephaven.proto.backplane.grpc.EmptyTab"
-  "leRequest\032@.io.deephaven.proto.backplane"
-  ".grpc.ExportedTableCreationResponse\"\000\022\204\001"
-  "\n\tTimeTable\0223.io.deephaven.proto.backpla"
-  "ne.grpc.TimeTableRequest\032@.io.deephaven."
-  "proto.backplane.grpc.ExportedTableCreati"
-  "onResponse\"\000\022\210\001\n\013DropColumns\0225.io.deepha"
-  "ven.proto.backplane.grpc.DropColumnsRequ"
-  "est\032@.io.deephaven.proto.backplane.grpc."
-  "ExportedTableCreationResponse\"\000\022\206\001\n\006Upda"
-  "te\0228.io.deephaven.proto.backplane.grpc.S"
-  "electOrUpdateRequest\032@.io.deephaven.prot"
-  "o.backplane.grpc.ExportedTableCreationRe"
-  "sponse\"\000\022\212\001\n\nLazyUpdate\0228.io.deephaven.p"
-  "roto.backplane.grpc.SelectOrUpdateReques"
-  "t\032@.io.deephaven.proto.backplane.grpc.Ex"
-  "portedTableCreationResponse\"\000\022\204\001\n\004View\0228"
-  ".io.deephaven.proto.backplane.grpc.Selec"
-  "tOrUpdateRequest\032@.io.deephaven.proto.ba"
-  "ckplane.grpc.ExportedTableCreationRespon"
-  "se\"\000\022\212\001\n\nUpdateView\0228.io.deephaven.proto"
-  ".backplane.grpc.SelectOrUpdateRequest\032@."
-  "io.deephaven.proto.backplane.grpc.Export"
-  "edTableCreationResponse\"\000\022\206\001\n\006Select\0228.i"
+  "Request.InputTableKind\032\324\002\n\016InputTableKin"
+  "d\022}\n\025in_memory_append_only\030\001 \001(\0132\\.io.de"
+  "ephaven.proto.backplane.grpc.CreateInput"
+  "TableRequest.InputTableKind.InMemoryAppe"
+  "ndOnlyH\000\022{\n\024in_memory_key_backed\030\002 \001(\0132["
+  ".io.deephaven.proto.backplane.grpc.Creat"
+  "eInputTableRequest.InputTableKind.InMemo"
+  "ryKeyBackedH\000\032\024\n\022InMemoryAppendOnly\032(\n\021I"
+  "nMemoryKeyBacked\022\023\n\013key_columns\030\001 \003(\tB\006\n"
+  "\004kindB\014\n\ndefinition\"\203\002\n\016WhereInRequest\022<"
+  "\n\tresult_id\030\001 \001(\0132).io.deephaven.proto.b"
+  "ackplane.grpc.Ticket\022B\n\007left_id\030\002 \001(\01321."
+  "io.deephaven.proto.backplane.grpc.TableR"
+  "eference\022C\n\010right_id\030\003 \001(\01321.io.deephave"
+  "n.proto.backplane.grpc.TableReference\022\020\n"
+  "\010inverted\030\004 \001(\010\022\030\n\020columns_to_match\030\005 \003("
+  "\t\"\357\030\n\021BatchTableRequest\022K\n\003ops\030\001 \003(\0132>.i"
+  "o.deephaven.proto.backplane.grpc.BatchTa"
+  "bleRequest.Operation\032\214\030\n\tOperation\022K\n\013em"
+  "pty_table\030\001 \001(\01324.io.deephaven.proto.bac"
+  "kplane.grpc.EmptyTableRequestH\000\022I\n\ntime_"
+  "table\030\002 \001(\01323.io.deephaven.proto.backpla"
+  "ne.grpc.TimeTableRequestH\000\022M\n\014drop_colum"
+  "ns\030\003 \001(\01325.io.deephaven.proto.backplane."
+  "grpc.DropColumnsRequestH\000\022J\n\006update\030\004 \001("
+  "\01328.io.deephaven.proto.backplane.grpc.Se"
+  "lectOrUpdateRequestH\000\022O\n\013lazy_update\030\005 \001"
+  "(\01328.io.deephaven.proto.backplane.grpc.S"
+  "electOrUpdateRequestH\000\022H\n\004view\030\006 \001(\01328.i"
   "o.deephaven.proto.backplane.grpc.SelectO"
-  "rUpdateRequest\032@.io.deephaven.proto.back"
-  "plane.grpc.ExportedTableCreationResponse"
-  "\"\000\022\202\001\n\010UpdateBy\0222.io.deephaven.proto.bac"
-  "kplane.grpc.UpdateByRequest\032@.io.deephav"
-  "en.proto.backplane.grpc.ExportedTableCre"
-  "ationResponse\"\000\022\216\001\n\016SelectDistinct\0228.io."
-  "deephaven.proto.backplane.grpc.SelectDis"
-  "tinctRequest\032@.io.deephaven.proto.backpl"
+  "rUpdateRequestH\000\022O\n\013update_view\030\007 \001(\01328."
+  "io.deephaven.proto.backplane.grpc.Select"
+  "OrUpdateRequestH\000\022J\n\006select\030\010 \001(\01328.io.d"
+  "eephaven.proto.backplane.grpc.SelectOrUp"
+  "dateRequestH\000\022S\n\017select_distinct\030\t \001(\01328"
+  ".io.deephaven.proto.backplane.grpc.Selec"
+  "tDistinctRequestH\000\022G\n\006filter\030\n \001(\01325.io."
+  "deephaven.proto.backplane.grpc.FilterTab"
+  "leRequestH\000\022`\n\023unstructured_filter\030\013 \001(\013"
+  "2A.io.deephaven.proto.backplane.grpc.Uns"
+  "tructuredFilterTableRequestH\000\022C\n\004sort\030\014 "
+  "\001(\01323.io.deephaven.proto.backplane.grpc."
+  "SortTableRequestH\000\022D\n\004head\030\r \001(\01324.io.de"
+  "ephaven.proto.backplane.grpc.HeadOrTailR"
+  "equestH\000\022D\n\004tail\030\016 \001(\01324.io.deephaven.pr"
+  "oto.backplane.grpc.HeadOrTailRequestH\000\022I"
+  "\n\007head_by\030\017 \001(\01326.io.deephaven.proto.bac"
+  "kplane.grpc.HeadOrTailByRequestH\000\022I\n\007tai"
+  "l_by\030\020 \001(\01326.io.deephaven.proto.backplan"
+  "e.grpc.HeadOrTailByRequestH\000\022D\n\007ungroup\030"
+  "\021 \001(\01321.io.deephaven.proto.backplane.grp"
+  "c.UngroupRequestH\000\022F\n\005merge\030\022 \001(\01325.io.d"
+  "eephaven.proto.backplane.grpc.MergeTable"
+  "sRequestH\000\022S\n\017combo_aggregate\030\023 \001(\01328.io"
+  ".deephaven.proto.backplane.grpc.ComboAgg"
+  "regateRequestH\000\022D\n\007flatten\030\025 \001(\01321.io.de"
+  "ephaven.proto.backplane.grpc.FlattenRequ"
+  "estH\000\022\\\n\024run_chart_downsample\030\026 \001(\0132<.io"
+  ".deephaven.proto.backplane.grpc.RunChart"
+  "DownsampleRequestH\000\022O\n\ncross_join\030\027 \001(\0132"
+  "9.io.deephaven.proto.backplane.grpc.Cros"
+  "sJoinTablesRequestH\000\022S\n\014natural_join\030\030 \001"
+  "(\0132;.io.deephaven.proto.backplane.grpc.N"
+  "aturalJoinTablesRequestH\000\022O\n\nexact_join\030"
+  "\031 \001(\01329.io.deephaven.proto.backplane.grp"
+  "c.ExactJoinTablesRequestH\000\022M\n\tleft_join\030"
+  "\032 \001(\01328.io.deephaven.proto.backplane.grp"
+  "c.LeftJoinTablesRequestH\000\022R\n\nas_of_join\030"
+  "\033 \001(\01328.io.deephaven.proto.backplane.grp"
+  "c.AsOfJoinTablesRequestB\002\030\001H\000\022K\n\013fetch_t"
+  "able\030\034 \001(\01324.io.deephaven.proto.backplan"
+  "e.grpc.FetchTableRequestH\000\022^\n\025apply_prev"
+  "iew_columns\030\036 \001(\0132=.io.deephaven.proto.b"
+  "ackplane.grpc.ApplyPreviewColumnsRequest"
+  "H\000\022X\n\022create_input_table\030\037 \001(\0132:.io.deep"
+  "haven.proto.backplane.grpc.CreateInputTa"
+  "bleRequestH\000\022G\n\tupdate_by\030  \001(\01322.io.dee"
+  "phaven.proto.backplane.grpc.UpdateByRequ"
+  "estH\000\022E\n\010where_in\030! \001(\01321.io.deephaven.p"
+  "roto.backplane.grpc.WhereInRequestH\000\022O\n\r"
+  "aggregate_all\030\" \001(\01326.io.deephaven.proto"
+  ".backplane.grpc.AggregateAllRequestH\000\022H\n"
+  "\taggregate\030# \001(\01323.io.deephaven.proto.ba"
+  "ckplane.grpc.AggregateRequestH\000\022K\n\010snaps"
+  "hot\030$ \001(\01327.io.deephaven.proto.backplane"
+  ".grpc.SnapshotTableRequestH\000\022T\n\rsnapshot"
+  "_when\030% \001(\0132;.io.deephaven.proto.backpla"
+  "ne.grpc.SnapshotWhenTableRequestH\000\022I\n\nme"
+  "ta_table\030& \001(\01323.io.deephaven.proto.back"
+  "plane.grpc.MetaTableRequestH\000\022O\n\nrange_j"
+  "oin\030\' \001(\01329.io.deephaven.proto.backplane"
+  ".grpc.RangeJoinTablesRequestH\000\022C\n\002aj\030( \001"
+  "(\01325.io.deephaven.proto.backplane.grpc.A"
+  "jRajTablesRequestH\000\022D\n\003raj\030) \001(\01325.io.de"
+  "ephaven.proto.backplane.grpc.AjRajTables"
+  "RequestH\000B\004\n\002opJ\004\010\024\020\025J\004\010\035\020\036*b\n\017BadDataBe"
+  "havior\022#\n\037BAD_DATA_BEHAVIOR_NOT_SPECIFIE"
+  "D\020\000\022\t\n\005THROW\020\001\022\t\n\005RESET\020\002\022\010\n\004SKIP\020\003\022\n\n\006P"
+  "OISON\020\004*t\n\024UpdateByNullBehavior\022\037\n\033NULL_"
+  "BEHAVIOR_NOT_SPECIFIED\020\000\022\022\n\016NULL_DOMINAT"
+  "ES\020\001\022\023\n\017VALUE_DOMINATES\020\002\022\022\n\016ZERO_DOMINA"
+  "TES\020\003*\033\n\tNullValue\022\016\n\nNULL_VALUE\020\000*2\n\017Ca"
+  "seSensitivity\022\016\n\nMATCH_CASE\020\000\022\017\n\013IGNORE_"
+  "CASE\020\001*&\n\tMatchType\022\013\n\007REGULAR\020\000\022\014\n\010INVE"
+  "RTED\020\0012\214/\n\014TableService\022\221\001\n GetExportedT"
+  "ableCreationResponse\022).io.deephaven.prot"
+  "o.backplane.grpc.Ticket\032@.io.deephaven.p"
+  "roto.backplane.grpc.ExportedTableCreatio"
+  "nResponse\"\000\022\206\001\n\nFetchTable\0224.io.deephave"
+  "n.proto.backplane.grpc.FetchTableRequest"
+  "\032@.io.deephaven.proto.backplane.grpc.Exp"
+  "ortedTableCreationResponse\"\000\022\230\001\n\023ApplyPr"
+  "eviewColumns\022=.io.deephaven.proto.backpl"
+  "ane.grpc.ApplyPreviewColumnsRequest\032@.io"
+  ".deephaven.proto.backplane.grpc.Exported"
+  "TableCreationResponse\"\000\022\206\001\n\nEmptyTable\0224"
+  ".io.deephaven.proto.backplane.grpc.Empty"
+  "TableRequest\032@.io.deephaven.proto.backpl"
   "ane.grpc.ExportedTableCreationResponse\"\000"
-  "\022\203\001\n\006Filter\0225.io.deephaven.proto.backpla"
-  "ne.grpc.FilterTableRequest\032@.io.deephave"
-  "n.proto.backplane.grpc.ExportedTableCrea"
-  "tionResponse\"\000\022\233\001\n\022UnstructuredFilter\022A."
-  "io.deephaven.proto.backplane.grpc.Unstru"
-  "cturedFilterTableRequest\032@.io.deephaven."
-  "proto.backplane.grpc.ExportedTableCreati"
-  "onResponse\"\000\022\177\n\004Sort\0223.io.deephaven.prot"
-  "o.backplane.grpc.SortTableRequest\032@.io.d"
-  "eephaven.proto.backplane.grpc.ExportedTa"
-  "bleCreationResponse\"\000\022\200\001\n\004Head\0224.io.deep"
-  "haven.proto.backplane.grpc.HeadOrTailReq"
+  "\022\204\001\n\tTimeTable\0223.io.deephaven.proto.back"
+  "plane.grpc.TimeTableRequest\032@.io.deephav"
+  "en.proto.backplane.grpc.ExportedTableCre"
+  "ationResponse\"\000\022\210\001\n\013DropColumns\0225.io.dee"
+  "phaven.proto.backplane.grpc.DropColumnsR"
+  "equest\032@.io.deephaven.proto.backplane.gr"
+  "pc.ExportedTableCreationResponse\"\000\022\206\001\n\006U"
+  "pdate\0228.io.deephaven.proto.backplane.grp"
+  "c.SelectOrUpdateRequest\032@.io.deephaven.p"
+  "roto.backplane.grpc.ExportedTableCreatio"
+  "nResponse\"\000\022\212\001\n\nLazyUpdate\0228.io.deephave"
+  "n.proto.backplane.grpc.SelectOrUpdateReq"
   "uest\032@.io.deephaven.proto.backplane.grpc"
-  ".ExportedTableCreationResponse\"\000\022\200\001\n\004Tai"
-  "l\0224.io.deephaven.proto.backplane.grpc.He"
-  "adOrTailRequest\032@.io.deephaven.proto.bac"
-  "kplane.grpc.ExportedTableCreationRespons"
-  "e\"\000\022\204\001\n\006HeadBy\0226.io.deephaven.proto.back"
-  "plane.grpc.HeadOrTailByRequest\032@.io.deep"
+  ".ExportedTableCreationResponse\"\000\022\204\001\n\004Vie"
+  "w\0228.io.deephaven.proto.backplane.grpc.Se"
+  "lectOrUpdateRequest\032@.io.deephaven.proto"
+  ".backplane.grpc.ExportedTableCreationRes"
+  "ponse\"\000\022\212\001\n\nUpdateView\0228.io.deephaven.pr"
+  "oto.backplane.grpc.SelectOrUpdateRequest"
+  "\032@.io.deephaven.proto.backplane.grpc.Exp"
+  "ortedTableCreationResponse\"\000\022\206\001\n\006Select\022"
+  "8.io.deephaven.proto.backplane.grpc.Sele"
+  "ctOrUpdateRequest\032@.io.deephaven.proto.b"
+  "ackplane.grpc.ExportedTableCreationRespo"
+  "nse\"\000\022\202\001\n\010UpdateBy\0222.io.deephaven.proto."
+  "backplane.grpc.UpdateByRequest\032@.io.deep"
   "haven.proto.backplane.grpc.ExportedTable"
-  "CreationResponse\"\000\022\204\001\n\006TailBy\0226.io.deeph"
-  "aven.proto.backplane.grpc.HeadOrTailByRe"
-  "quest\032@.io.deephaven.proto.backplane.grp"
-  "c.ExportedTableCreationResponse\"\000\022\200\001\n\007Un"
-  "group\0221.io.deephaven.proto.backplane.grp"
-  "c.UngroupRequest\032@.io.deephaven.proto.ba"
+  "CreationResponse\"\000\022\216\001\n\016SelectDistinct\0228."
+  "io.deephaven.proto.backplane.grpc.Select"
+  "DistinctRequest\032@.io.deephaven.proto.bac"
+  "kplane.grpc.ExportedTableCreationRespons"
+  "e\"\000\022\203\001\n\006Filter\0225.io.deephaven.proto.back"
+  "plane.grpc.FilterTableRequest\032@.io.deeph"
+  "aven.proto.backplane.grpc.ExportedTableC"
+  "reationResponse\"\000\022\233\001\n\022UnstructuredFilter"
+  "\022A.io.deephaven.proto.backplane.grpc.Uns"
+  "tructuredFilterTableRequest\032@.io.deephav"
+  "en.proto.backplane.grpc.ExportedTableCre"
+  "ationResponse\"\000\022\177\n\004Sort\0223.io.deephaven.p"
+  "roto.backplane.grpc.SortTableRequest\032@.i"
+  "o.deephaven.proto.backplane.grpc.Exporte"
+  "dTableCreationResponse\"\000\022\200\001\n\004Head\0224.io.d"
+  "eephaven.proto.backplane.grpc.HeadOrTail"
+  "Request\032@.io.deephaven.proto.backplane.g"
+  "rpc.ExportedTableCreationResponse\"\000\022\200\001\n\004"
+  "Tail\0224.io.deephaven.proto.backplane.grpc"
+  ".HeadOrTailRequest\032@.io.deephaven.proto."
+  "backplane.grpc.ExportedTableCreationResp"
+  "onse\"\000\022\204\001\n\006HeadBy\0226.io.deephaven.proto.b"
+  "ackplane.grpc.HeadOrTailByRequest\032@.io.d"
+  "eephaven.proto.backplane.grpc.ExportedTa"
+  "bleCreationResponse\"\000\022\204\001\n\006TailBy\0226.io.de"
+  "ephaven.proto.backplane.grpc.HeadOrTailB"
+  "yRequest\032@.io.deephaven.proto.backplane."
+  "grpc.ExportedTableCreationResponse\"\000\022\200\001\n"
+  "\007Ungroup\0221.io.deephaven.proto.backplane."
+  "grpc.UngroupRequest\032@.io.deephaven.proto"
+  ".backplane.grpc.ExportedTableCreationRes"
+  "ponse\"\000\022\210\001\n\013MergeTables\0225.io.deephaven.p"
+  "roto.backplane.grpc.MergeTablesRequest\032@"
+  ".io.deephaven.proto.backplane.grpc.Expor"
+  "tedTableCreationResponse\"\000\022\220\001\n\017CrossJoin"
+  "Tables\0229.io.deephaven.proto.backplane.gr"
+  "pc.CrossJoinTablesRequest\032@.io.deephaven"
+  ".proto.backplane.grpc.ExportedTableCreat"
+  "ionResponse\"\000\022\224\001\n\021NaturalJoinTables\022;.io"
+  ".deephaven.proto.backplane.grpc.NaturalJ"
+  "oinTablesRequest\032@.io.deephaven.proto.ba"
   "ckplane.grpc.ExportedTableCreationRespon"
-  "se\"\000\022\210\001\n\013MergeTables\0225.io.deephaven.prot"
-  "o.backplane.grpc.MergeTablesRequest\032@.io"
-  ".deephaven.proto.backplane.grpc.Exported"
-  "TableCreationResponse\"\000\022\220\001\n\017CrossJoinTab"
-  "les\0229.io.deephaven.proto.backplane.grpc."
-  "CrossJoinTablesRequest\032@.io.deephaven.pr"
-  "oto.backplane.grpc.ExportedTableCreation"
-  "Response\"\000\022\224\001\n\021NaturalJoinTables\022;.io.de"
-  "ephaven.proto.backplane.grpc.NaturalJoin"
+  "se\"\000\022\220\001\n\017ExactJoinTables\0229.io.deephaven."
+  "proto.backplane.grpc.ExactJoinTablesRequ"
+  "est\032@.io.deephaven.proto.backplane.grpc."
+  "ExportedTableCreationResponse\"\000\022\216\001\n\016Left"
+  "JoinTables\0228.io.deephaven.proto.backplan"
+  "e.grpc.LeftJoinTablesRequest\032@.io.deepha"
+  "ven.proto.backplane.grpc.ExportedTableCr"
+  "eationResponse\"\000\022\221\001\n\016AsOfJoinTables\0228.io"
+  ".deephaven.proto.backplane.grpc.AsOfJoin"
   "TablesRequest\032@.io.deephaven.proto.backp"
   "lane.grpc.ExportedTableCreationResponse\""
-  "\000\022\220\001\n\017ExactJoinTables\0229.io.deephaven.pro"
-  "to.backplane.grpc.ExactJoinTablesRequest"
-  "\032@.io.deephaven.proto.backplane.grpc.Exp"
-  "ortedTableCreationResponse\"\000\022\216\001\n\016LeftJoi"
-  "nTables\0228.io.deephaven.proto.backplane.g"
-  "rpc.LeftJoinTablesRequest\032@.io.deephaven"
-  ".proto.backplane.grpc.ExportedTableCreat"
-  "ionResponse\"\000\022\221\001\n\016AsOfJoinTables\0228.io.de"
-  "ephaven.proto.backplane.grpc.AsOfJoinTab"
-  "lesRequest\032@.io.deephaven.proto.backplan"
-  "e.grpc.ExportedTableCreationResponse\"\003\210\002"
-  "\001\022\205\001\n\010AjTables\0225.io.deephaven.proto.back"
-  "plane.grpc.AjRajTablesRequest\032@.io.deeph"
-  "aven.proto.backplane.grpc.ExportedTableC"
-  "reationResponse\"\000\022\206\001\n\tRajTables\0225.io.dee"
-  "phaven.proto.backplane.grpc.AjRajTablesR"
-  "equest\032@.io.deephaven.proto.backplane.gr"
-  "pc.ExportedTableCreationResponse\"\000\022\220\001\n\017R"
-  "angeJoinTables\0229.io.deephaven.proto.back"
-  "plane.grpc.RangeJoinTablesRequest\032@.io.d"
-  "eephaven.proto.backplane.grpc.ExportedTa"
-  "bleCreationResponse\"\000\022\221\001\n\016ComboAggregate"
-  "\0228.io.deephaven.proto.backplane.grpc.Com"
-  "boAggregateRequest\032@.io.deephaven.proto."
-  "backplane.grpc.ExportedTableCreationResp"
-  "onse\"\003\210\002\001\022\212\001\n\014AggregateAll\0226.io.deephave"
-  "n.proto.backplane.grpc.AggregateAllReque"
-  "st\032@.io.deephaven.proto.backplane.grpc.E"
-  "xportedTableCreationResponse\"\000\022\204\001\n\tAggre"
-  "gate\0223.io.deephaven.proto.backplane.grpc"
-  ".AggregateRequest\032@.io.deephaven.proto.b"
-  "ackplane.grpc.ExportedTableCreationRespo"
-  "nse\"\000\022\207\001\n\010Snapshot\0227.io.deephaven.proto."
-  "backplane.grpc.SnapshotTableRequest\032@.io"
-  ".deephaven.proto.backplane.grpc.Exported"
-  "TableCreationResponse\"\000\022\217\001\n\014SnapshotWhen"
-  "\022;.io.deephaven.proto.backplane.grpc.Sna"
-  "pshotWhenTableRequest\032@.io.deephaven.pro"
-  "to.backplane.grpc.ExportedTableCreationR"
-  "esponse\"\000\022\200\001\n\007Flatten\0221.io.deephaven.pro"
-  "to.backplane.grpc.FlattenRequest\032@.io.de"
+  "\003\210\002\001\022\205\001\n\010AjTables\0225.io.deephaven.proto.b"
+  "ackplane.grpc.AjRajTablesRequest\032@.io.de"
   "ephaven.proto.backplane.grpc.ExportedTab"
-  "leCreationResponse\"\000\022\226\001\n\022RunChartDownsam"
-  "ple\022<.io.deephaven.proto.backplane.grpc."
-  "RunChartDownsampleRequest\032@.io.deephaven"
-  ".proto.backplane.grpc.ExportedTableCreat"
-  "ionResponse\"\000\022\222\001\n\020CreateInputTable\022:.io."
-  "deephaven.proto.backplane.grpc.CreateInp"
-  "utTableRequest\032@.io.deephaven.proto.back"
-  "plane.grpc.ExportedTableCreationResponse"
-  "\"\000\022\200\001\n\007WhereIn\0221.io.deephaven.proto.back"
-  "plane.grpc.WhereInRequest\032@.io.deephaven"
-  ".proto.backplane.grpc.ExportedTableCreat"
-  "ionResponse\"\000\022\203\001\n\005Batch\0224.io.deephaven.p"
-  "roto.backplane.grpc.BatchTableRequest\032@."
-  "io.deephaven.proto.backplane.grpc.Export"
-  "edTableCreationResponse\"\0000\001\022\231\001\n\024Exported"
-  "TableUpdates\022>.io.deephaven.proto.backpl"
-  "ane.grpc.ExportedTableUpdatesRequest\032=.i"
+  "leCreationResponse\"\000\022\206\001\n\tRajTables\0225.io."
+  "deephaven.proto.backplane.grpc.AjRajTabl"
+  "esRequest\032@.io.deephaven.proto.backplane"
+  ".grpc.ExportedTableCreationResponse\"\000\022\220\001"
+  "\n\017RangeJoinTables\0229.io.deephaven.proto.b"
+  "ackplane.grpc.RangeJoinTablesRequest\032@.i"
   "o.deephaven.proto.backplane.grpc.Exporte"
-  "dTableUpdateMessage\"\0000\001\022r\n\007SeekRow\0221.io."
-  "deephaven.proto.backplane.grpc.SeekRowRe"
-  "quest\0322.io.deephaven.proto.backplane.grp"
-  "c.SeekRowResponse\"\000\022\204\001\n\tMetaTable\0223.io.d"
-  "eephaven.proto.backplane.grpc.MetaTableR"
-  "equest\032@.io.deephaven.proto.backplane.gr"
-  "pc.ExportedTableCreationResponse\"\000BAH\001P\001"
-  "Z;github.com/deephaven/deephaven-core/go"
-  "/internal/proto/tableb\006proto3"
+  "dTableCreationResponse\"\000\022\221\001\n\016ComboAggreg"
+  "ate\0228.io.deephaven.proto.backplane.grpc."
+  "ComboAggregateRequest\032@.io.deephaven.pro"
+  "to.backplane.grpc.ExportedTableCreationR"
+  "esponse\"\003\210\002\001\022\212\001\n\014AggregateAll\0226.io.deeph"
+  "aven.proto.backplane.grpc.AggregateAllRe"
+  "quest\032@.io.deephaven.proto.backplane.grp"
+  "c.ExportedTableCreationResponse\"\000\022\204\001\n\tAg"
+  "gregate\0223.io.deephaven.proto.backplane.g"
+  "rpc.AggregateRequest\032@.io.deephaven.prot"
+  "o.backplane.grpc.ExportedTableCreationRe"
+  "sponse\"\000\022\207\001\n\010Snapshot\0227.io.deephaven.pro"
+  "to.backplane.grpc.SnapshotTableRequest\032@"
+  ".io.deephaven.proto.backplane.grpc.Expor"
+  "tedTableCreationResponse\"\000\022\217\001\n\014SnapshotW"
+  "hen\022;.io.deephaven.proto.backplane.grpc."
+  "SnapshotWhenTableRequest\032@.io.deephaven."
+  "proto.backplane.grpc.ExportedTableCreati"
+  "onResponse\"\000\022\200\001\n\007Flatten\0221.io.deephaven."
+  "proto.backplane.grpc.FlattenRequest\032@.io"
+  ".deephaven.proto.backplane.grpc.Exported"
+  "TableCreationResponse\"\000\022\226\001\n\022RunChartDown"
+  "sample\022<.io.deephaven.proto.backplane.gr"
+  "pc.RunChartDownsampleRequest\032@.io.deepha"
+  "ven.proto.backplane.grpc.ExportedTableCr"
+  "eationResponse\"\000\022\222\001\n\020CreateInputTable\022:."
+  "io.deephaven.proto.backplane.grpc.Create"
+  "InputTableRequest\032@.io.deephaven.proto.b"
+  "ackplane.grpc.ExportedTableCreationRespo"
+  "nse\"\000\022\200\001\n\007WhereIn\0221.io.deephaven.proto.b"
+  "ackplane.grpc.WhereInRequest\032@.io.deepha"
+  "ven.proto.backplane.grpc.ExportedTableCr"
+  "eationResponse\"\000\022\203\001\n\005Batch\0224.io.deephave"
+  "n.proto.backplane.grpc.BatchTableRequest"
+  "\032@.io.deephaven.proto.backplane.grpc.Exp"
+  "ortedTableCreationResponse\"\0000\001\022\231\001\n\024Expor"
+  "tedTableUpdates\022>.io.deephaven.proto.bac"
+  "kplane.grpc.ExportedTableUpdatesRequest\032"
+  "=.io.deephaven.proto.backplane.grpc.Expo"
+  "rtedTableUpdateMessage\"\0000\001\022r\n\007SeekRow\0221."
+  "io.deephaven.proto.backplane.grpc.SeekRo"
+  "wRequest\0322.io.deephaven.proto.backplane."
+  "grpc.SeekRowResponse\"\000\022\204\001\n\tMetaTable\0223.i"
+  "o.deephaven.proto.backplane.grpc.MetaTab"
+  "leRequest\032@.io.deephaven.proto.backplane"
+  ".grpc.ExportedTableCreationResponse\"\000BAH"
+  "\001P\001Z;github.com/deephaven/deephaven-core"
+  "/go/internal/proto/tableb\006proto3"
   ;
 static const ::_pbi::DescriptorTable* const descriptor_table_deephaven_2fproto_2ftable_2eproto_deps[1] = {
   &::descriptor_table_deephaven_2fproto_2fticket_2eproto,
 };
 static ::_pbi::once_flag descriptor_table_deephaven_2fproto_2ftable_2eproto_once;
 const ::_pbi::DescriptorTable descriptor_table_deephaven_2fproto_2ftable_2eproto = {
-    false, false, 33869, descriptor_table_protodef_deephaven_2fproto_2ftable_2eproto,
+    false, false, 34272, descriptor_table_protodef_deephaven_2fproto_2ftable_2eproto,
     "deephaven/proto/table.proto",
-    &descriptor_table_deephaven_2fproto_2ftable_2eproto_once, descriptor_table_deephaven_2fproto_2ftable_2eproto_deps, 1, 119,
+    &descriptor_table_deephaven_2fproto_2ftable_2eproto_once, descriptor_table_deephaven_2fproto_2ftable_2eproto_deps, 1, 120,
     schemas, file_default_instances, TableStruct_deephaven_2fproto_2ftable_2eproto::offsets,
     file_level_metadata_deephaven_2fproto_2ftable_2eproto, file_level_enum_descriptors_deephaven_2fproto_2ftable_2eproto,
     file_level_service_descriptors_deephaven_2fproto_2ftable_2eproto,
@@ -11969,9 +12007,292 @@ failure:
 #undef CHK_
 }
 
-uint8_t* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::_InternalSerialize(
+uint8_t* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::_InternalSerialize(
+    uint8_t* target, ::PROTOBUF_NAMESPACE_ID::io::EpsCopyOutputStream* stream) const {
+  // @@protoc_insertion_point(serialize_to_array_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  uint32_t cached_has_bits = 0;
+  (void) cached_has_bits;
+
+  // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale reverse_window_scale = 1;
+  if (this->_internal_has_reverse_window_scale()) {
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      InternalWriteMessage(1, _Internal::reverse_window_scale(this),
+        _Internal::reverse_window_scale(this).GetCachedSize(), target, stream);
+  }
+
+  // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale forward_window_scale = 2;
+  if (this->_internal_has_forward_window_scale()) {
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      InternalWriteMessage(2, _Internal::forward_window_scale(this),
+        _Internal::forward_window_scale(this).GetCachedSize(), target, stream);
+  }
+
+  // string weight_column = 3;
+  if (!this->_internal_weight_column().empty()) {
+    ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::VerifyUtf8String(
+      this->_internal_weight_column().data(), static_cast<int>(this->_internal_weight_column().length()),
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::SERIALIZE,
+      "io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg.weight_column");
+    target = stream->WriteStringMaybeAliased(
+        3, this->_internal_weight_column(), target);
+  }
+
+  if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
+    target = ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+        _internal_metadata_.unknown_fields<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(::PROTOBUF_NAMESPACE_ID::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  return target;
+}
+
+size_t UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::ByteSizeLong() const {
+// @@protoc_insertion_point(message_byte_size_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  size_t total_size = 0;
+
+  uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  // string weight_column = 3;
+  if (!this->_internal_weight_column().empty()) {
+    total_size += 1 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::StringSize(
+        this->_internal_weight_column());
+  }
+
+  // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale reverse_window_scale = 1;
+  if (this->_internal_has_reverse_window_scale()) {
+    total_size += 1 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::MessageSize(
+        *reverse_window_scale_);
+  }
+
+  // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale forward_window_scale = 2;
+  if (this->_internal_has_forward_window_scale()) {
+    total_size += 1 +
+      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::MessageSize(
+        *forward_window_scale_);
+  }
+
+  return MaybeComputeUnknownFieldsSize(total_size, &_cached_size_);
+}
+
+const ::PROTOBUF_NAMESPACE_ID::Message::ClassData UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::_class_data_ = {
+    ::PROTOBUF_NAMESPACE_ID::Message::CopyWithSizeCheck,
+    UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeImpl
+};
+const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::GetClassData() const { return &_class_data_; }
+
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeImpl(::PROTOBUF_NAMESPACE_ID::Message* to,
+                      const ::PROTOBUF_NAMESPACE_ID::Message& from) {
+  static_cast<UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg *>(to)->MergeFrom(
+      static_cast<const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg &>(from));
+}
+
+
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeFrom(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg& from) {
+// @@protoc_insertion_point(class_specific_merge_from_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  GOOGLE_DCHECK_NE(&from, this);
+  uint32_t cached_has_bits = 0;
+  (void) cached_has_bits;
+
+  if (!from._internal_weight_column().empty()) {
+    _internal_set_weight_column(from._internal_weight_column());
+  }
+  if (from._internal_has_reverse_window_scale()) {
+    _internal_mutable_reverse_window_scale()->::io::deephaven::proto::backplane::grpc::UpdateByWindowScale::MergeFrom(from._internal_reverse_window_scale());
+  }
+  if (from._internal_has_forward_window_scale()) {
+    _internal_mutable_forward_window_scale()->::io::deephaven::proto::backplane::grpc::UpdateByWindowScale::MergeFrom(from._internal_forward_window_scale());
+  }
+  _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
+}
+
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::CopyFrom(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg& from) {
+// @@protoc_insertion_point(class_specific_copy_from_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::IsInitialized() const {
+  return true;
+}
+
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::InternalSwap(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg* other) {
+  using std::swap;
+  auto* lhs_arena = GetArenaForAllocation();
+  auto* rhs_arena = other->GetArenaForAllocation();
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  ::PROTOBUF_NAMESPACE_ID::internal::ArenaStringPtr::InternalSwap(
+      &weight_column_, lhs_arena,
+      &other->weight_column_, rhs_arena
+  );
+  ::PROTOBUF_NAMESPACE_ID::internal::memswap<
+      PROTOBUF_FIELD_OFFSET(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg, forward_window_scale_)
+      + sizeof(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::forward_window_scale_)
+      - PROTOBUF_FIELD_OFFSET(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg, reverse_window_scale_)>(
+          reinterpret_cast<char*>(&reverse_window_scale_),
+          reinterpret_cast<char*>(&other->reverse_window_scale_));
+}
+
+::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::GetMetadata() const {
+  return ::_pbi::AssignDescriptors(
+      &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[35]);
+}
+
+// ===================================================================
+
+class UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::_Internal {
+ public:
+  static const ::io::deephaven::proto::backplane::grpc::UpdateByWindowScale& reverse_window_scale(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile* msg);
+  static const ::io::deephaven::proto::backplane::grpc::UpdateByWindowScale& forward_window_scale(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile* msg);
+};
+
+const ::io::deephaven::proto::backplane::grpc::UpdateByWindowScale&
+UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::_Internal::reverse_window_scale(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile* msg) {
+  return *msg->reverse_window_scale_;
+}
+const ::io::deephaven::proto::backplane::grpc::UpdateByWindowScale&
+UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::_Internal::forward_window_scale(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile* msg) {
+  return *msg->forward_window_scale_;
+}
+UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile(::PROTOBUF_NAMESPACE_ID::Arena* arena,
+                         bool is_message_owned)
+  : ::PROTOBUF_NAMESPACE_ID::Message(arena, is_message_owned) {
+  SharedCtor();
+  // @@protoc_insertion_point(arena_constructor:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
+}
+UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile& from)
+  : ::PROTOBUF_NAMESPACE_ID::Message() {
+  _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
+  if (from._internal_has_reverse_window_scale()) {
+    reverse_window_scale_ = new ::io::deephaven::proto::backplane::grpc::UpdateByWindowScale(*from.reverse_window_scale_);
+  } else {
+    reverse_window_scale_ = nullptr;
+  }
+  if (from._internal_has_forward_window_scale()) {
+    forward_window_scale_ = new ::io::deephaven::proto::backplane::grpc::UpdateByWindowScale(*from.forward_window_scale_);
+  } else {
+    forward_window_scale_ = nullptr;
+  }
+  ::memcpy(&percentile_, &from.percentile_,
+    static_cast<size_t>(reinterpret_cast<char*>(&average_evenly_divided_) -
+    reinterpret_cast<char*>(&percentile_)) + sizeof(average_evenly_divided_));
+  // @@protoc_insertion_point(copy_constructor:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
+}
+
+inline void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::SharedCtor() {
+::memset(reinterpret_cast<char*>(this) + static_cast<size_t>(
+    reinterpret_cast<char*>(&reverse_window_scale_) - reinterpret_cast<char*>(this)),
+    0, static_cast<size_t>(reinterpret_cast<char*>(&average_evenly_divided_) -
+    reinterpret_cast<char*>(&reverse_window_scale_)) + sizeof(average_evenly_divided_));
+}
+
+UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::~UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile() {
+  // @@protoc_insertion_point(destructor:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
+  if (auto *arena = _internal_metadata_.DeleteReturnArena<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>()) {
+  (void)arena;
+    return;
+  }
+  SharedDtor();
+}
+
+inline void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::SharedDtor() {
+  GOOGLE_DCHECK(GetArenaForAllocation() == nullptr);
+  if (this != internal_default_instance()) delete reverse_window_scale_;
+  if (this != internal_default_instance()) delete forward_window_scale_;
+}
+
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::SetCachedSize(int size) const {
+  _cached_size_.Set(size);
+}
+
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::Clear() {
+// @@protoc_insertion_point(message_clear_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
+  uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  if (GetArenaForAllocation() == nullptr && reverse_window_scale_ != nullptr) {
+    delete reverse_window_scale_;
+  }
+  reverse_window_scale_ = nullptr;
+  if (GetArenaForAllocation() == nullptr && forward_window_scale_ != nullptr) {
+    delete forward_window_scale_;
+  }
+  forward_window_scale_ = nullptr;
+  ::memset(&percentile_, 0, static_cast<size_t>(
+      reinterpret_cast<char*>(&average_evenly_divided_) -
+      reinterpret_cast<char*>(&percentile_)) + sizeof(average_evenly_divided_));
+  _internal_metadata_.Clear<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>();
+}
+
+const char* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::_InternalParse(const char* ptr, ::_pbi::ParseContext* ctx) {
+#define CHK_(x) if (PROTOBUF_PREDICT_FALSE(!(x))) goto failure
+  while (!ctx->Done(&ptr)) {
+    uint32_t tag;
+    ptr = ::_pbi::ReadTag(ptr, &tag);
+    switch (tag >> 3) {
+      // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale reverse_window_scale = 1;
+      case 1:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<uint8_t>(tag) == 10)) {
+          ptr = ctx->ParseMessage(_internal_mutable_reverse_window_scale(), ptr);
+          CHK_(ptr);
+        } else
+          goto handle_unusual;
+        continue;
+      // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale forward_window_scale = 2;
+      case 2:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<uint8_t>(tag) == 18)) {
+          ptr = ctx->ParseMessage(_internal_mutable_forward_window_scale(), ptr);
+          CHK_(ptr);
+        } else
+          goto handle_unusual;
+        continue;
+      // double percentile = 3;
+      case 3:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<uint8_t>(tag) == 25)) {
+          percentile_ = ::PROTOBUF_NAMESPACE_ID::internal::UnalignedLoad<double>(ptr);
+          ptr += sizeof(double);
+        } else
+          goto handle_unusual;
+        continue;
+      // bool average_evenly_divided = 4;
+      case 4:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<uint8_t>(tag) == 32)) {
+          average_evenly_divided_ = ::PROTOBUF_NAMESPACE_ID::internal::ReadVarint64(&ptr);
+          CHK_(ptr);
+        } else
+          goto handle_unusual;
+        continue;
+      default:
+        goto handle_unusual;
+    }  // switch
+  handle_unusual:
+    if ((tag == 0) || ((tag & 7) == 4)) {
+      CHK_(ptr);
+      ctx->SetLastTag(tag);
+      goto message_done;
+    }
+    ptr = UnknownFieldParse(
+        tag,
+        _internal_metadata_.mutable_unknown_fields<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(),
+        ptr, ctx);
+    CHK_(ptr != nullptr);
+  }  // while
+message_done:
+  return ptr;
+failure:
+  ptr = nullptr;
+  goto message_done;
+#undef CHK_
+}
+
+uint8_t* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::_InternalSerialize(
     uint8_t* target, ::PROTOBUF_NAMESPACE_ID::io::EpsCopyOutputStream* stream) const {
-  // @@protoc_insertion_point(serialize_to_array_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  // @@protoc_insertion_point(serialize_to_array_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
   uint32_t cached_has_bits = 0;
   (void) cached_has_bits;
 
@@ -11989,39 +12310,38 @@ uint8_t* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByR
         _Internal::forward_window_scale(this).GetCachedSize(), target, stream);
   }
 
-  // string weight_column = 3;
-  if (!this->_internal_weight_column().empty()) {
-    ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::VerifyUtf8String(
-      this->_internal_weight_column().data(), static_cast<int>(this->_internal_weight_column().length()),
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::SERIALIZE,
-      "io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg.weight_column");
-    target = stream->WriteStringMaybeAliased(
-        3, this->_internal_weight_column(), target);
+  // double percentile = 3;
+  static_assert(sizeof(uint64_t) == sizeof(double), "Code assumes uint64_t and double are the same size.");
+  double tmp_percentile = this->_internal_percentile();
+  uint64_t raw_percentile;
+  memcpy(&raw_percentile, &tmp_percentile, sizeof(tmp_percentile));
+  if (raw_percentile != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::_pbi::WireFormatLite::WriteDoubleToArray(3, this->_internal_percentile(), target);
+  }
+
+  // bool average_evenly_divided = 4;
+  if (this->_internal_average_evenly_divided() != 0) {
+    target = stream->EnsureSpace(target);
+    target = ::_pbi::WireFormatLite::WriteBoolToArray(4, this->_internal_average_evenly_divided(), target);
   }
 
   if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
     target = ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
         _internal_metadata_.unknown_fields<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(::PROTOBUF_NAMESPACE_ID::UnknownFieldSet::default_instance), target, stream);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+  // @@protoc_insertion_point(serialize_to_array_end:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
   return target;
 }
 
-size_t UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::ByteSizeLong() const {
-// @@protoc_insertion_point(message_byte_size_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+size_t UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::ByteSizeLong() const {
+// @@protoc_insertion_point(message_byte_size_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
   size_t total_size = 0;
 
   uint32_t cached_has_bits = 0;
   // Prevent compiler warnings about cached_has_bits being unused
   (void) cached_has_bits;
 
-  // string weight_column = 3;
-  if (!this->_internal_weight_column().empty()) {
-    total_size += 1 +
-      ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::StringSize(
-        this->_internal_weight_column());
-  }
-
   // .io.deephaven.proto.backplane.grpc.UpdateByWindowScale reverse_window_scale = 1;
   if (this->_internal_has_reverse_window_scale()) {
     total_size += 1 +
@@ -12036,72 +12356,87 @@ size_t UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRol
         *forward_window_scale_);
   }
 
+  // double percentile = 3;
+  static_assert(sizeof(uint64_t) == sizeof(double), "Code assumes uint64_t and double are the same size.");
+  double tmp_percentile = this->_internal_percentile();
+  uint64_t raw_percentile;
+  memcpy(&raw_percentile, &tmp_percentile, sizeof(tmp_percentile));
+  if (raw_percentile != 0) {
+    total_size += 1 + 8;
+  }
+
+  // bool average_evenly_divided = 4;
+  if (this->_internal_average_evenly_divided() != 0) {
+    total_size += 1 + 1;
+  }
+
   return MaybeComputeUnknownFieldsSize(total_size, &_cached_size_);
 }
 
-const ::PROTOBUF_NAMESPACE_ID::Message::ClassData UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::_class_data_ = {
+const ::PROTOBUF_NAMESPACE_ID::Message::ClassData UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::_class_data_ = {
     ::PROTOBUF_NAMESPACE_ID::Message::CopyWithSizeCheck,
-    UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeImpl
+    UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::MergeImpl
 };
-const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::GetClassData() const { return &_class_data_; }
+const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::GetClassData() const { return &_class_data_; }
 
-void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeImpl(::PROTOBUF_NAMESPACE_ID::Message* to,
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::MergeImpl(::PROTOBUF_NAMESPACE_ID::Message* to,
                       const ::PROTOBUF_NAMESPACE_ID::Message& from) {
-  static_cast<UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg *>(to)->MergeFrom(
-      static_cast<const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg &>(from));
+  static_cast<UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile *>(to)->MergeFrom(
+      static_cast<const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile &>(from));
 }
 
 
-void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeFrom(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg& from) {
-// @@protoc_insertion_point(class_specific_merge_from_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::MergeFrom(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile& from) {
+// @@protoc_insertion_point(class_specific_merge_from_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
   GOOGLE_DCHECK_NE(&from, this);
   uint32_t cached_has_bits = 0;
   (void) cached_has_bits;
 
-  if (!from._internal_weight_column().empty()) {
-    _internal_set_weight_column(from._internal_weight_column());
-  }
   if (from._internal_has_reverse_window_scale()) {
     _internal_mutable_reverse_window_scale()->::io::deephaven::proto::backplane::grpc::UpdateByWindowScale::MergeFrom(from._internal_reverse_window_scale());
   }
   if (from._internal_has_forward_window_scale()) {
     _internal_mutable_forward_window_scale()->::io::deephaven::proto::backplane::grpc::UpdateByWindowScale::MergeFrom(from._internal_forward_window_scale());
   }
+  static_assert(sizeof(uint64_t) == sizeof(double), "Code assumes uint64_t and double are the same size.");
+  double tmp_percentile = from._internal_percentile();
+  uint64_t raw_percentile;
+  memcpy(&raw_percentile, &tmp_percentile, sizeof(tmp_percentile));
+  if (raw_percentile != 0) {
+    _internal_set_percentile(from._internal_percentile());
+  }
+  if (from._internal_average_evenly_divided() != 0) {
+    _internal_set_average_evenly_divided(from._internal_average_evenly_divided());
+  }
   _internal_metadata_.MergeFrom<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(from._internal_metadata_);
 }
 
-void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::CopyFrom(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg& from) {
-// @@protoc_insertion_point(class_specific_copy_from_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingWAvg)
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::CopyFrom(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile& from) {
+// @@protoc_insertion_point(class_specific_copy_from_start:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile)
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::IsInitialized() const {
+bool UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::IsInitialized() const {
   return true;
 }
 
-void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::InternalSwap(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg* other) {
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::InternalSwap(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile* other) {
   using std::swap;
-  auto* lhs_arena = GetArenaForAllocation();
-  auto* rhs_arena = other->GetArenaForAllocation();
   _internal_metadata_.InternalSwap(&other->_internal_metadata_);
-  ::PROTOBUF_NAMESPACE_ID::internal::ArenaStringPtr::InternalSwap(
-      &weight_column_, lhs_arena,
-      &other->weight_column_, rhs_arena
-  );
   ::PROTOBUF_NAMESPACE_ID::internal::memswap<
-      PROTOBUF_FIELD_OFFSET(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg, forward_window_scale_)
-      + sizeof(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::forward_window_scale_)
-      - PROTOBUF_FIELD_OFFSET(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg, reverse_window_scale_)>(
+      PROTOBUF_FIELD_OFFSET(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, average_evenly_divided_)
+      + sizeof(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::average_evenly_divided_)
+      - PROTOBUF_FIELD_OFFSET(UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile, reverse_window_scale_)>(
           reinterpret_cast<char*>(&reverse_window_scale_),
           reinterpret_cast<char*>(&other->reverse_window_scale_));
 }
 
-::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::GetMetadata() const {
+::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[35]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[36]);
 }
 
 // ===================================================================
@@ -12128,6 +12463,7 @@ class UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::_Internal {
   static const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingCount& rolling_count(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec* msg);
   static const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingStd& rolling_std(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec* msg);
   static const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg& rolling_wavg(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec* msg);
+  static const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile& rolling_quantile(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec* msg);
 };
 
 const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByCumulativeSum&
@@ -12210,6 +12546,10 @@ const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation
 UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::_Internal::rolling_wavg(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec* msg) {
   return *msg->type_.rolling_wavg_;
 }
+const ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile&
+UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::_Internal::rolling_quantile(const UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec* msg) {
+  return *msg->type_.rolling_quantile_;
+}
 void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::set_allocated_sum(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByCumulativeSum* sum) {
   ::PROTOBUF_NAMESPACE_ID::Arena* message_arena = GetArenaForAllocation();
   clear_type();
@@ -12510,6 +12850,21 @@ void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::set_allocate
   }
   // @@protoc_insertion_point(field_set_allocated:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.rolling_wavg)
 }
+void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::set_allocated_rolling_quantile(::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile* rolling_quantile) {
+  ::PROTOBUF_NAMESPACE_ID::Arena* message_arena = GetArenaForAllocation();
+  clear_type();
+  if (rolling_quantile) {
+    ::PROTOBUF_NAMESPACE_ID::Arena* submessage_arena =
+      ::PROTOBUF_NAMESPACE_ID::Arena::InternalGetOwningArena(rolling_quantile);
+    if (message_arena != submessage_arena) {
+      rolling_quantile = ::PROTOBUF_NAMESPACE_ID::internal::GetOwnedMessage(
+          message_arena, rolling_quantile, submessage_arena);
+    }
+    set_has_rolling_quantile();
+    type_.rolling_quantile_ = rolling_quantile;
+  }
+  // @@protoc_insertion_point(field_set_allocated:io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.rolling_quantile)
+}
 UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec(::PROTOBUF_NAMESPACE_ID::Arena* arena,
                          bool is_message_owned)
   : ::PROTOBUF_NAMESPACE_ID::Message(arena, is_message_owned) {
@@ -12601,6 +12956,10 @@ UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::UpdateByRequest_U
       _internal_mutable_rolling_wavg()->::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeFrom(from._internal_rolling_wavg());
       break;
     }
+    case kRollingQuantile: {
+      _internal_mutable_rolling_quantile()->::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::MergeFrom(from._internal_rolling_quantile());
+      break;
+    }
     case TYPE_NOT_SET: {
       break;
     }
@@ -12755,6 +13114,12 @@ void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::clear_type()
       }
       break;
     }
+    case kRollingQuantile: {
+      if (GetArenaForAllocation() == nullptr) {
+        delete type_.rolling_quantile_;
+      }
+      break;
+    }
     case TYPE_NOT_SET: {
       break;
     }
@@ -12939,6 +13304,14 @@ const char* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::_Inte
         } else
           goto handle_unusual;
         continue;
+      // .io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile rolling_quantile = 21;
+      case 21:
+        if (PROTOBUF_PREDICT_TRUE(static_cast<uint8_t>(tag) == 170)) {
+          ptr = ctx->ParseMessage(_internal_mutable_rolling_quantile(), ptr);
+          CHK_(ptr);
+        } else
+          goto handle_unusual;
+        continue;
       default:
         goto handle_unusual;
     }  // switch
@@ -13108,6 +13481,13 @@ uint8_t* UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::_Interna
         _Internal::rolling_wavg(this).GetCachedSize(), target, stream);
   }
 
+  // .io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile rolling_quantile = 21;
+  if (_internal_has_rolling_quantile()) {
+    target = ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::
+      InternalWriteMessage(21, _Internal::rolling_quantile(this),
+        _Internal::rolling_quantile(this).GetCachedSize(), target, stream);
+  }
+
   if (PROTOBUF_PREDICT_FALSE(_internal_metadata_.have_unknown_fields())) {
     target = ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
         _internal_metadata_.unknown_fields<::PROTOBUF_NAMESPACE_ID::UnknownFieldSet>(::PROTOBUF_NAMESPACE_ID::UnknownFieldSet::default_instance), target, stream);
@@ -13265,6 +13645,13 @@ size_t UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::ByteSizeLo
           *type_.rolling_wavg_);
       break;
     }
+    // .io.deephaven.proto.backplane.grpc.UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile rolling_quantile = 21;
+    case kRollingQuantile: {
+      total_size += 2 +
+        ::PROTOBUF_NAMESPACE_ID::internal::WireFormatLite::MessageSize(
+          *type_.rolling_quantile_);
+      break;
+    }
     case TYPE_NOT_SET: {
       break;
     }
@@ -13372,6 +13759,10 @@ void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::MergeFrom(co
       _internal_mutable_rolling_wavg()->::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg::MergeFrom(from._internal_rolling_wavg());
       break;
     }
+    case kRollingQuantile: {
+      _internal_mutable_rolling_quantile()->::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile::MergeFrom(from._internal_rolling_quantile());
+      break;
+    }
     case TYPE_NOT_SET: {
       break;
     }
@@ -13400,7 +13791,7 @@ void UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::InternalSwap
 ::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[36]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[37]);
 }
 
 // ===================================================================
@@ -13625,7 +14016,7 @@ void UpdateByRequest_UpdateByOperation_UpdateByColumn::InternalSwap(UpdateByRequ
 ::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest_UpdateByOperation_UpdateByColumn::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[37]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[38]);
 }
 
 // ===================================================================
@@ -13860,7 +14251,7 @@ void UpdateByRequest_UpdateByOperation::InternalSwap(UpdateByRequest_UpdateByOpe
 ::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest_UpdateByOperation::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[38]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[39]);
 }
 
 // ===================================================================
@@ -14212,7 +14603,7 @@ void UpdateByRequest::InternalSwap(UpdateByRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata UpdateByRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[39]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[40]);
 }
 
 // ===================================================================
@@ -14491,7 +14882,7 @@ void SelectDistinctRequest::InternalSwap(SelectDistinctRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SelectDistinctRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[40]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[41]);
 }
 
 // ===================================================================
@@ -14770,7 +15161,7 @@ void DropColumnsRequest::InternalSwap(DropColumnsRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata DropColumnsRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[41]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[42]);
 }
 
 // ===================================================================
@@ -15049,7 +15440,7 @@ void UnstructuredFilterTableRequest::InternalSwap(UnstructuredFilterTableRequest
 ::PROTOBUF_NAMESPACE_ID::Metadata UnstructuredFilterTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[42]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[43]);
 }
 
 // ===================================================================
@@ -15314,7 +15705,7 @@ void HeadOrTailRequest::InternalSwap(HeadOrTailRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata HeadOrTailRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[43]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[44]);
 }
 
 // ===================================================================
@@ -15617,7 +16008,7 @@ void HeadOrTailByRequest::InternalSwap(HeadOrTailByRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata HeadOrTailByRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[44]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[45]);
 }
 
 // ===================================================================
@@ -15920,7 +16311,7 @@ void UngroupRequest::InternalSwap(UngroupRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata UngroupRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[45]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[46]);
 }
 
 // ===================================================================
@@ -16196,7 +16587,7 @@ void MergeTablesRequest::InternalSwap(MergeTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata MergeTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[46]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[47]);
 }
 
 // ===================================================================
@@ -16437,7 +16828,7 @@ void SnapshotTableRequest::InternalSwap(SnapshotTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SnapshotTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[47]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[48]);
 }
 
 // ===================================================================
@@ -16828,7 +17219,7 @@ void SnapshotWhenTableRequest::InternalSwap(SnapshotWhenTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SnapshotWhenTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[48]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[49]);
 }
 
 // ===================================================================
@@ -17209,7 +17600,7 @@ void CrossJoinTablesRequest::InternalSwap(CrossJoinTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata CrossJoinTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[49]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[50]);
 }
 
 // ===================================================================
@@ -17566,7 +17957,7 @@ void NaturalJoinTablesRequest::InternalSwap(NaturalJoinTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata NaturalJoinTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[50]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[51]);
 }
 
 // ===================================================================
@@ -17923,7 +18314,7 @@ void ExactJoinTablesRequest::InternalSwap(ExactJoinTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata ExactJoinTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[51]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[52]);
 }
 
 // ===================================================================
@@ -18280,7 +18671,7 @@ void LeftJoinTablesRequest::InternalSwap(LeftJoinTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata LeftJoinTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[52]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[53]);
 }
 
 // ===================================================================
@@ -18664,7 +19055,7 @@ void AsOfJoinTablesRequest::InternalSwap(AsOfJoinTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AsOfJoinTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[53]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[54]);
 }
 
 // ===================================================================
@@ -19071,7 +19462,7 @@ void AjRajTablesRequest::InternalSwap(AjRajTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AjRajTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[54]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[55]);
 }
 
 // ===================================================================
@@ -19625,7 +20016,7 @@ void RangeJoinTablesRequest::InternalSwap(RangeJoinTablesRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata RangeJoinTablesRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[55]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[56]);
 }
 
 // ===================================================================
@@ -19955,7 +20346,7 @@ void ComboAggregateRequest_Aggregate::InternalSwap(ComboAggregateRequest_Aggrega
 ::PROTOBUF_NAMESPACE_ID::Metadata ComboAggregateRequest_Aggregate::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[56]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[57]);
 }
 
 // ===================================================================
@@ -20291,7 +20682,7 @@ void ComboAggregateRequest::InternalSwap(ComboAggregateRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata ComboAggregateRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[57]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[58]);
 }
 
 // ===================================================================
@@ -20610,7 +21001,7 @@ void AggregateAllRequest::InternalSwap(AggregateAllRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggregateAllRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[58]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[59]);
 }
 
 // ===================================================================
@@ -20837,7 +21228,7 @@ void AggSpec_AggSpecApproximatePercentile::InternalSwap(AggSpec_AggSpecApproxima
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecApproximatePercentile::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[59]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[60]);
 }
 
 // ===================================================================
@@ -21008,7 +21399,7 @@ void AggSpec_AggSpecCountDistinct::InternalSwap(AggSpec_AggSpecCountDistinct* ot
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecCountDistinct::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[60]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[61]);
 }
 
 // ===================================================================
@@ -21179,7 +21570,7 @@ void AggSpec_AggSpecDistinct::InternalSwap(AggSpec_AggSpecDistinct* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecDistinct::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[61]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[62]);
 }
 
 // ===================================================================
@@ -21422,7 +21813,7 @@ void AggSpec_AggSpecFormula::InternalSwap(AggSpec_AggSpecFormula* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecFormula::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[62]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[63]);
 }
 
 // ===================================================================
@@ -21593,7 +21984,7 @@ void AggSpec_AggSpecMedian::InternalSwap(AggSpec_AggSpecMedian* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecMedian::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[63]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[64]);
 }
 
 // ===================================================================
@@ -21810,7 +22201,7 @@ void AggSpec_AggSpecPercentile::InternalSwap(AggSpec_AggSpecPercentile* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecPercentile::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[64]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[65]);
 }
 
 // ===================================================================
@@ -21988,7 +22379,7 @@ void AggSpec_AggSpecSorted::InternalSwap(AggSpec_AggSpecSorted* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecSorted::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[65]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[66]);
 }
 
 // ===================================================================
@@ -22183,7 +22574,7 @@ void AggSpec_AggSpecSortedColumn::InternalSwap(AggSpec_AggSpecSortedColumn* othe
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecSortedColumn::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[66]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[67]);
 }
 
 // ===================================================================
@@ -22365,7 +22756,7 @@ void AggSpec_AggSpecTDigest::InternalSwap(AggSpec_AggSpecTDigest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecTDigest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[67]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[68]);
 }
 
 // ===================================================================
@@ -22584,7 +22975,7 @@ void AggSpec_AggSpecUnique::InternalSwap(AggSpec_AggSpecUnique* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecUnique::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[68]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[69]);
 }
 
 // ===================================================================
@@ -23084,7 +23475,7 @@ void AggSpec_AggSpecNonUniqueSentinel::InternalSwap(AggSpec_AggSpecNonUniqueSent
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecNonUniqueSentinel::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[69]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[70]);
 }
 
 // ===================================================================
@@ -23279,7 +23670,7 @@ void AggSpec_AggSpecWeighted::InternalSwap(AggSpec_AggSpecWeighted* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecWeighted::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[70]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[71]);
 }
 
 // ===================================================================
@@ -23318,7 +23709,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecAbsSum::GetClas
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecAbsSum::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[71]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[72]);
 }
 
 // ===================================================================
@@ -23357,7 +23748,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecAvg::GetClassDa
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecAvg::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[72]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[73]);
 }
 
 // ===================================================================
@@ -23396,7 +23787,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecFirst::GetClass
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecFirst::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[73]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[74]);
 }
 
 // ===================================================================
@@ -23435,7 +23826,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecFreeze::GetClas
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecFreeze::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[74]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[75]);
 }
 
 // ===================================================================
@@ -23474,7 +23865,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecGroup::GetClass
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecGroup::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[75]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[76]);
 }
 
 // ===================================================================
@@ -23513,7 +23904,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecLast::GetClassD
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecLast::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[76]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[77]);
 }
 
 // ===================================================================
@@ -23552,7 +23943,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecMax::GetClassDa
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecMax::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[77]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[78]);
 }
 
 // ===================================================================
@@ -23591,7 +23982,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecMin::GetClassDa
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecMin::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[78]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[79]);
 }
 
 // ===================================================================
@@ -23630,7 +24021,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecStd::GetClassDa
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecStd::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[79]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[80]);
 }
 
 // ===================================================================
@@ -23669,7 +24060,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecSum::GetClassDa
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecSum::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[80]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[81]);
 }
 
 // ===================================================================
@@ -23708,7 +24099,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*AggSpec_AggSpecVar::GetClassDa
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec_AggSpecVar::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[81]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[82]);
 }
 
 // ===================================================================
@@ -25175,7 +25566,7 @@ void AggSpec::InternalSwap(AggSpec* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggSpec::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[82]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[83]);
 }
 
 // ===================================================================
@@ -25551,7 +25942,7 @@ void AggregateRequest::InternalSwap(AggregateRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AggregateRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[83]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[84]);
 }
 
 // ===================================================================
@@ -25776,7 +26167,7 @@ void Aggregation_AggregationColumns::InternalSwap(Aggregation_AggregationColumns
 ::PROTOBUF_NAMESPACE_ID::Metadata Aggregation_AggregationColumns::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[84]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[85]);
 }
 
 // ===================================================================
@@ -25971,7 +26362,7 @@ void Aggregation_AggregationCount::InternalSwap(Aggregation_AggregationCount* ot
 ::PROTOBUF_NAMESPACE_ID::Metadata Aggregation_AggregationCount::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[85]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[86]);
 }
 
 // ===================================================================
@@ -26166,7 +26557,7 @@ void Aggregation_AggregationRowKey::InternalSwap(Aggregation_AggregationRowKey*
 ::PROTOBUF_NAMESPACE_ID::Metadata Aggregation_AggregationRowKey::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[86]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[87]);
 }
 
 // ===================================================================
@@ -26387,7 +26778,7 @@ void Aggregation_AggregationPartition::InternalSwap(Aggregation_AggregationParti
 ::PROTOBUF_NAMESPACE_ID::Metadata Aggregation_AggregationPartition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[87]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[88]);
 }
 
 // ===================================================================
@@ -26846,7 +27237,7 @@ void Aggregation::InternalSwap(Aggregation* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata Aggregation::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[88]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[89]);
 }
 
 // ===================================================================
@@ -27104,7 +27495,7 @@ void SortDescriptor::InternalSwap(SortDescriptor* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SortDescriptor::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[89]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[90]);
 }
 
 // ===================================================================
@@ -27378,7 +27769,7 @@ void SortTableRequest::InternalSwap(SortTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SortTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[90]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[91]);
 }
 
 // ===================================================================
@@ -27652,7 +28043,7 @@ void FilterTableRequest::InternalSwap(FilterTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata FilterTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[91]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[92]);
 }
 
 // ===================================================================
@@ -28037,7 +28428,7 @@ void SeekRowRequest::InternalSwap(SeekRowRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SeekRowRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[92]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[93]);
 }
 
 // ===================================================================
@@ -28208,7 +28599,7 @@ void SeekRowResponse::InternalSwap(SeekRowResponse* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SeekRowResponse::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[93]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[94]);
 }
 
 // ===================================================================
@@ -28403,7 +28794,7 @@ void Reference::InternalSwap(Reference* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata Reference::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[94]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[95]);
 }
 
 // ===================================================================
@@ -28745,7 +29136,7 @@ void Literal::InternalSwap(Literal* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata Literal::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[95]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[96]);
 }
 
 // ===================================================================
@@ -29036,7 +29427,7 @@ void Value::InternalSwap(Value* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata Value::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[96]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[97]);
 }
 
 // ===================================================================
@@ -29775,7 +30166,7 @@ void Condition::InternalSwap(Condition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata Condition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[97]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[98]);
 }
 
 // ===================================================================
@@ -29953,7 +30344,7 @@ void AndCondition::InternalSwap(AndCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata AndCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[98]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[99]);
 }
 
 // ===================================================================
@@ -30131,7 +30522,7 @@ void OrCondition::InternalSwap(OrCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata OrCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[99]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[100]);
 }
 
 // ===================================================================
@@ -30318,7 +30709,7 @@ void NotCondition::InternalSwap(NotCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata NotCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[100]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[101]);
 }
 
 // ===================================================================
@@ -30609,7 +31000,7 @@ void CompareCondition::InternalSwap(CompareCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata CompareCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[101]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[102]);
 }
 
 // ===================================================================
@@ -30893,7 +31284,7 @@ void InCondition::InternalSwap(InCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata InCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[102]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[103]);
 }
 
 // ===================================================================
@@ -31163,7 +31554,7 @@ void InvokeCondition::InternalSwap(InvokeCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata InvokeCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[103]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[104]);
 }
 
 // ===================================================================
@@ -31350,7 +31741,7 @@ void IsNullCondition::InternalSwap(IsNullCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata IsNullCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[104]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[105]);
 }
 
 // ===================================================================
@@ -31651,7 +32042,7 @@ void MatchesCondition::InternalSwap(MatchesCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata MatchesCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[105]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[106]);
 }
 
 // ===================================================================
@@ -31952,7 +32343,7 @@ void ContainsCondition::InternalSwap(ContainsCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata ContainsCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[106]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[107]);
 }
 
 // ===================================================================
@@ -32180,7 +32571,7 @@ void SearchCondition::InternalSwap(SearchCondition* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata SearchCondition::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[107]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[108]);
 }
 
 // ===================================================================
@@ -32421,7 +32812,7 @@ void FlattenRequest::InternalSwap(FlattenRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata FlattenRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[108]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[109]);
 }
 
 // ===================================================================
@@ -32662,7 +33053,7 @@ void MetaTableRequest::InternalSwap(MetaTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata MetaTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[109]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[110]);
 }
 
 // ===================================================================
@@ -32891,7 +33282,7 @@ void RunChartDownsampleRequest_ZoomRange::InternalSwap(RunChartDownsampleRequest
 ::PROTOBUF_NAMESPACE_ID::Metadata RunChartDownsampleRequest_ZoomRange::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[110]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[111]);
 }
 
 // ===================================================================
@@ -33284,7 +33675,7 @@ void RunChartDownsampleRequest::InternalSwap(RunChartDownsampleRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata RunChartDownsampleRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[111]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[112]);
 }
 
 // ===================================================================
@@ -33323,7 +33714,7 @@ const ::PROTOBUF_NAMESPACE_ID::Message::ClassData*CreateInputTableRequest_InputT
 ::PROTOBUF_NAMESPACE_ID::Metadata CreateInputTableRequest_InputTableKind_InMemoryAppendOnly::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[112]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[113]);
 }
 
 // ===================================================================
@@ -33506,7 +33897,7 @@ void CreateInputTableRequest_InputTableKind_InMemoryKeyBacked::InternalSwap(Crea
 ::PROTOBUF_NAMESPACE_ID::Metadata CreateInputTableRequest_InputTableKind_InMemoryKeyBacked::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[113]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[114]);
 }
 
 // ===================================================================
@@ -33797,7 +34188,7 @@ void CreateInputTableRequest_InputTableKind::InternalSwap(CreateInputTableReques
 ::PROTOBUF_NAMESPACE_ID::Metadata CreateInputTableRequest_InputTableKind::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[114]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[115]);
 }
 
 // ===================================================================
@@ -34162,7 +34553,7 @@ void CreateInputTableRequest::InternalSwap(CreateInputTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata CreateInputTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[115]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[116]);
 }
 
 // ===================================================================
@@ -34505,7 +34896,7 @@ void WhereInRequest::InternalSwap(WhereInRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata WhereInRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[116]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[117]);
 }
 
 // ===================================================================
@@ -36868,7 +37259,7 @@ void BatchTableRequest_Operation::InternalSwap(BatchTableRequest_Operation* othe
 ::PROTOBUF_NAMESPACE_ID::Metadata BatchTableRequest_Operation::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[117]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[118]);
 }
 
 // ===================================================================
@@ -37046,7 +37437,7 @@ void BatchTableRequest::InternalSwap(BatchTableRequest* other) {
 ::PROTOBUF_NAMESPACE_ID::Metadata BatchTableRequest::GetMetadata() const {
   return ::_pbi::AssignDescriptors(
       &descriptor_table_deephaven_2fproto_2ftable_2eproto_getter, &descriptor_table_deephaven_2fproto_2ftable_2eproto_once,
-      file_level_metadata_deephaven_2fproto_2ftable_2eproto[118]);
+      file_level_metadata_deephaven_2fproto_2ftable_2eproto[119]);
 }
 
 // @@protoc_insertion_point(namespace_scope)
@@ -37200,6 +37591,10 @@ template<> PROTOBUF_NOINLINE ::io::deephaven::proto::backplane::grpc::UpdateByRe
 Arena::CreateMaybeMessage< ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg >(Arena* arena) {
   return Arena::CreateMessageInternal< ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingWAvg >(arena);
 }
+template<> PROTOBUF_NOINLINE ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile*
+Arena::CreateMaybeMessage< ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile >(Arena* arena) {
+  return Arena::CreateMessageInternal< ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec_UpdateByRollingQuantile >(arena);
+}
 template<> PROTOBUF_NOINLINE ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec*
 Arena::CreateMaybeMessage< ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec >(Arena* arena) {
   return Arena::CreateMessageInternal< ::io::deephaven::proto::backplane::grpc::UpdateByRequest_UpdateByOperation_UpdateByColumn_UpdateBySpec >(arena);
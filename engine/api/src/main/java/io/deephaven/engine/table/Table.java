@@ -218,6 +218,20 @@ public interface Table extends
      * Set this attribute to enable collection of barrage performance stats.
      */
     String BARRAGE_PERFORMANCE_KEY_ATTRIBUTE = "BarragePerformanceTableKey";
+    /**
+     * Attribute holding data indexes: incrementally maintained or persisted mappings from key column values to the row
+     * keys that contain them. Specification is left to the implementation. This attribute is never propagated to the
+     * results of table operations.
+     */
+    String DATA_INDEX_ATTRIBUTE = "DataIndex";
+    /**
+     * Attribute holding a {@link java.util.Map Map} from a {@link java.util.Collection Collection} of key column names
+     * to a {@link Number} estimate of how many distinct combinations of those columns' values hash-based operations
+     * such as {@code aggBy} and {@code naturalJoin} will see in this table over its lifetime. An operation keyed by
+     * exactly those columns, in any order, uses the estimate to pre-size its hash table rather than growing it as keys
+     * arrive.
+     */
+    String EXPECTED_DISTINCT_KEYS_ATTRIBUTE = "ExpectedDistinctKeys";
 
     // -----------------------------------------------------------------------------------------------------------------
     // ColumnSources for fetching data by row key
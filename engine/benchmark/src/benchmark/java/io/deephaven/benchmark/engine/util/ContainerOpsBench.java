@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.benchmark.engine.util;
+
+import io.deephaven.benchmarking.BenchUtil;
+import io.deephaven.engine.rowset.impl.rsp.container.ArrayContainer;
+import io.deephaven.engine.rowset.impl.rsp.container.BitmapContainer;
+import io.deephaven.engine.rowset.impl.rsp.container.Container;
+import io.deephaven.engine.rowset.impl.rsp.container.ContainerUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bitmap and array container kernels behind RowSet algebra against straightforward scalar
+ * implementations of the same operations. The reference implementations mirror the previous loops: a bitmap AND that
+ * branches on every word while counting, and a branchy merge for array intersection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class ContainerOpsBench {
+
+    private static final int NUM_CONTAINERS = 64;
+    private static final int ARRAY_CARDINALITY = 2048;
+
+    /**
+     * Fraction of the 2^16 values set in each bitmap container.
+     */
+    @Param({"0.1", "0.5"})
+    private double bitmapDensity;
+
+    private final long[][] words1 = new long[NUM_CONTAINERS][];
+    private final long[][] words2 = new long[NUM_CONTAINERS][];
+    private final long[] wordsResult = new long[1 << 10];
+    private final BitmapContainer[] bitmaps1 = new BitmapContainer[NUM_CONTAINERS];
+    private final BitmapContainer[] bitmaps2 = new BitmapContainer[NUM_CONTAINERS];
+    private final short[][] values1 = new short[NUM_CONTAINERS][];
+    private final short[][] values2 = new short[NUM_CONTAINERS][];
+    private final ArrayContainer[] arrays1 = new ArrayContainer[NUM_CONTAINERS];
+    private final ArrayContainer[] arrays2 = new ArrayContainer[NUM_CONTAINERS];
+    private final short[] buffer = new short[ARRAY_CARDINALITY];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(0);
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            words1[ci] = makeWords(random);
+            words2[ci] = makeWords(random);
+            bitmaps1[ci] = makeBitmap(words1[ci]);
+            bitmaps2[ci] = makeBitmap(words2[ci]);
+            values1[ci] = makeValues(random);
+            values2[ci] = makeValues(random);
+            arrays1[ci] = new ArrayContainer(values1[ci]);
+            arrays2[ci] = new ArrayContainer(values2[ci]);
+        }
+    }
+
+    private long[] makeWords(final Random random) {
+        final long[] words = new long[1 << 10];
+        for (int v = 0; v < 1 << 16; ++v) {
+            if (random.nextDouble() < bitmapDensity) {
+                words[v >> 6] |= 1L << v;
+            }
+        }
+        return words;
+    }
+
+    private static BitmapContainer makeBitmap(final long[] words) {
+        Container result = new BitmapContainer();
+        for (int v = 0; v < 1 << 16; ++v) {
+            if ((words[v >> 6] & (1L << v)) != 0) {
+                result = result.iset((short) v);
+            }
+        }
+        return (BitmapContainer) result;
+    }
+
+    private static short[] makeValues(final Random random) {
+        final boolean[] present = new boolean[1 << 16];
+        int count = 0;
+        while (count < ARRAY_CARDINALITY) {
+            final int v = random.nextInt(1 << 16);
+            if (!present[v]) {
+                present[v] = true;
+                ++count;
+            }
+        }
+        final short[] values = new short[ARRAY_CARDINALITY];
+        for (int v = 0, pos = 0; v < present.length; ++v) {
+            if (present[v]) {
+                values[pos++] = (short) v;
+            }
+        }
+        return values;
+    }
+
+    @Benchmark
+    public void bitmapAnd(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(bitmaps1[ci].and(bitmaps2[ci]));
+        }
+    }
+
+    @Benchmark
+    public void bitmapAndKernel(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            final int cardinality = ContainerUtil.cardinalityAND(words1[ci], words2[ci]);
+            if (cardinality != 0) {
+                ContainerUtil.bitmapAND(wordsResult, words1[ci], words2[ci]);
+            }
+            bh.consume(cardinality);
+        }
+        bh.consume(wordsResult);
+    }
+
+    @Benchmark
+    public void bitmapAndReference(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(referenceBitmapAnd(wordsResult, words1[ci], words2[ci]));
+        }
+        bh.consume(wordsResult);
+    }
+
+    @Benchmark
+    public void bitmapAndNot(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(bitmaps1[ci].andNot(bitmaps2[ci]));
+        }
+    }
+
+    @Benchmark
+    public void bitmapOr(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(bitmaps1[ci].or(bitmaps2[ci]));
+        }
+    }
+
+    @Benchmark
+    public void arrayAnd(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(arrays1[ci].and(arrays2[ci]));
+        }
+    }
+
+    @Benchmark
+    public void arrayIntersectKernel(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(ContainerUtil.unsignedIntersect2by2(values1[ci], ARRAY_CARDINALITY,
+                    values2[ci], ARRAY_CARDINALITY, buffer));
+        }
+    }
+
+    @Benchmark
+    public void arrayIntersectReference(final Blackhole bh) {
+        for (int ci = 0; ci < NUM_CONTAINERS; ++ci) {
+            bh.consume(referenceIntersect(values1[ci], ARRAY_CARDINALITY,
+                    values2[ci], ARRAY_CARDINALITY, buffer));
+        }
+    }
+
+    private static int referenceBitmapAnd(final long[] result, final long[] bitmap1, final long[] bitmap2) {
+        int cardinality = 0;
+        for (int k = 0; k < bitmap1.length; ++k) {
+            final long r = bitmap1[k] & bitmap2[k];
+            if (r == 0) {
+                continue;
+            }
+            cardinality += Long.bitCount(r);
+        }
+        if (cardinality != 0) {
+            for (int k = 0; k < result.length; ++k) {
+                result[k] = bitmap1[k] & bitmap2[k];
+            }
+        }
+        return cardinality;
+    }
+
+    private static int referenceIntersect(final short[] set1, final int length1, final short[] set2,
+            final int length2, final short[] buffer) {
+        int k1 = 0;
+        int k2 = 0;
+        int pos = 0;
+        while (k1 < length1 && k2 < length2) {
+            final int v1 = Short.toUnsignedInt(set1[k1]);
+            final int v2 = Short.toUnsignedInt(set2[k2]);
+            if (v1 < v2) {
+                ++k1;
+            } else if (v2 < v1) {
+                ++k2;
+            } else {
+                buffer[pos++] = set1[k1];
+                ++k1;
+                ++k2;
+            }
+        }
+        return pos;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchUtil.run(ContainerOpsBench.class);
+    }
+}
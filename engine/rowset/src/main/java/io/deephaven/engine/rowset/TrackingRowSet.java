@@ -54,6 +54,21 @@ public interface TrackingRowSet extends RowSet {
      */
     RowSet prev();
 
+    /**
+     * Get a copy of the value of this TrackingRowSet as of the end of the most recently completed update graph cycle:
+     * the previous value during the {@link LogicalClock.State#Updating updating} phase, and the current value during
+     * the {@link LogicalClock.State#Idle idle} phase. Unlike {@link #prev()} and the current value, the result is safe
+     * to use from any thread, at any time, without holding the update graph lock or checking for clock changes; it is
+     * an immutable copy-on-write reference to a value published for that cycle, and is never changed by later
+     * mutations of this TrackingRowSet. Taking a snapshot is O(1) once the value for a cycle has been published.
+     * <p>
+     * As in other operations that return a {@link WritableRowSet}, the result must be {@link #close() closed} by the
+     * caller when it is no longer needed. The result will never be a {@link TrackingRowSet}.
+     *
+     * @return A copy of the value as of the end of the most recently completed cycle
+     */
+    WritableRowSet snapshot();
+
 
     /**
      * Same as {@code get(rowPosition)}, as of the end of the previous update graph cycle.
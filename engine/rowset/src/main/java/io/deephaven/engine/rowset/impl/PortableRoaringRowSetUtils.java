@@ -0,0 +1,516 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.rowset.impl;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.list.array.TShortArrayList;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Utility methods for writing/reading {@link RowSet RowSets} in the portable 64-bit Roaring bitmap serialization
+ * format, as produced by {@code Roaring64NavigableMap.serializePortable} in Java and {@code Roaring64Map::write} in
+ * CRoaring.
+ * <p>
+ * The layout is a little-endian 64-bit count of 32-bit buckets, followed by each bucket in ascending order as a 32-bit
+ * high key and a standard portable 32-bit Roaring bitmap of the low bits. Each 2^16 chunk of row keys is stored as an
+ * array, bitmap, or run container, whichever is smallest.
+ * <p>
+ * Serialized row sets can be queried in place with {@link #size(ByteBuffer)} and {@link #containsKey(ByteBuffer, long)}
+ * without materializing them, which makes the format suitable for memory-mapped files. Those methods only touch the
+ * headers and the one container that could hold the requested key.
+ */
+public class PortableRoaringRowSetUtils {
+
+    private static final int SERIAL_COOKIE_NO_RUNCONTAINER = 12346;
+    private static final int SERIAL_COOKIE = 12347;
+    private static final int NO_OFFSET_THRESHOLD = 4;
+
+    private static final int MAX_ARRAY_CARDINALITY = 4096;
+    private static final int BITMAP_BYTES = 8192;
+    private static final int BITMAP_WORDS = 1024;
+
+    /**
+     * Serialize {@code rowSet} in the portable 64-bit Roaring format.
+     *
+     * @param rowSet The RowSet
+     * @return The serialized bytes
+     */
+    public static byte[] serialize(@NotNull final RowSet rowSet) {
+        final ContainerCollector collector = new ContainerCollector();
+        rowSet.forAllRowKeyRanges(collector::appendRange);
+        collector.finishContainer();
+        return collector.write();
+    }
+
+    /**
+     * Read a {@link RowSet} serialized in the portable 64-bit Roaring format, starting at the buffer's position. The
+     * buffer's position, limit, and byte order are not modified.
+     *
+     * @param buffer The source
+     * @return The deserialized RowSet
+     */
+    public static WritableRowSet deserialize(@NotNull final ByteBuffer buffer) {
+        final ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        final long numBuckets = in.getLong(in.position());
+        int bucketStart = in.position() + Long.BYTES;
+        for (long bi = 0; bi < numBuckets; ++bi) {
+            final long highBits = highBits(in, bucketStart);
+            final BitmapHeader header = new BitmapHeader(in, bucketStart + Integer.BYTES);
+            int containerStart = header.firstContainerStart;
+            for (int ci = 0; ci < header.size; ++ci) {
+                final long base = highBits | ((long) header.key(ci) << 16);
+                appendContainer(in, header, ci, containerStart, base, builder);
+                containerStart += header.containerBytes(ci, containerStart);
+            }
+            bucketStart = containerStart;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the number of row keys in a {@link RowSet} serialized in the portable 64-bit Roaring format, without
+     * deserializing it.
+     *
+     * @param buffer The source, positioned at the start of the serialized RowSet
+     * @return The number of row keys
+     */
+    public static long size(@NotNull final ByteBuffer buffer) {
+        final ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final long numBuckets = in.getLong(in.position());
+        int bucketStart = in.position() + Long.BYTES;
+        long size = 0;
+        for (long bi = 0; bi < numBuckets; ++bi) {
+            final BitmapHeader header = new BitmapHeader(in, bucketStart + Integer.BYTES);
+            for (int ci = 0; ci < header.size; ++ci) {
+                size += header.cardinality(ci);
+            }
+            bucketStart = header.end();
+        }
+        return size;
+    }
+
+    /**
+     * Test whether a {@link RowSet} serialized in the portable 64-bit Roaring format contains {@code rowKey}, without
+     * deserializing it.
+     *
+     * @param buffer The source, positioned at the start of the serialized RowSet
+     * @param rowKey The row key to look for
+     * @return Whether {@code rowKey} is present
+     */
+    public static boolean containsKey(@NotNull final ByteBuffer buffer, final long rowKey) {
+        if (rowKey < 0) {
+            return false;
+        }
+        final ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final long numBuckets = in.getLong(in.position());
+        final long targetHighBits = rowKey & 0xFFFF_FFFF_0000_0000L;
+        int bucketStart = in.position() + Long.BYTES;
+        for (long bi = 0; bi < numBuckets; ++bi) {
+            final long highBits = highBits(in, bucketStart);
+            if (highBits > targetHighBits) {
+                return false;
+            }
+            final BitmapHeader header = new BitmapHeader(in, bucketStart + Integer.BYTES);
+            if (highBits == targetHighBits) {
+                final int ci = header.find((int) (rowKey >>> 16) & 0xFFFF);
+                return ci >= 0 && containerContains(in, header, ci, header.containerStart(ci), (int) rowKey & 0xFFFF);
+            }
+            bucketStart = header.end();
+        }
+        return false;
+    }
+
+    private static long highBits(@NotNull final ByteBuffer in, final int bucketStart) {
+        final long highBits = Integer.toUnsignedLong(in.getInt(bucketStart)) << 32;
+        if (highBits < 0) {
+            throw new IllegalArgumentException("Serialized bitmap contains keys outside the RowSet key space");
+        }
+        return highBits;
+    }
+
+    private static void appendContainer(
+            @NotNull final ByteBuffer in,
+            @NotNull final BitmapHeader header,
+            final int ci,
+            final int containerStart,
+            final long base,
+            @NotNull final RowSetBuilderSequential builder) {
+        if (header.isRun(ci)) {
+            final int numRuns = Short.toUnsignedInt(in.getShort(containerStart));
+            for (int ri = 0, pos = containerStart + Short.BYTES; ri < numRuns; ++ri, pos += 2 * Short.BYTES) {
+                final long first = base + Short.toUnsignedInt(in.getShort(pos));
+                builder.appendRange(first, first + Short.toUnsignedInt(in.getShort(pos + Short.BYTES)));
+            }
+            return;
+        }
+        final int cardinality = header.cardinality(ci);
+        if (cardinality <= MAX_ARRAY_CARDINALITY) {
+            for (int vi = 0, pos = containerStart; vi < cardinality; ++vi, pos += Short.BYTES) {
+                builder.appendKey(base + Short.toUnsignedInt(in.getShort(pos)));
+            }
+            return;
+        }
+        int runStart = -1;
+        for (int wi = 0; wi < BITMAP_WORDS; ++wi) {
+            final long word = in.getLong(containerStart + wi * Long.BYTES);
+            int bit = 0;
+            while (bit < Long.SIZE) {
+                final long masked = (runStart < 0 ? word : ~word) & (-1L << bit);
+                if (masked == 0) {
+                    break;
+                }
+                bit = Long.numberOfTrailingZeros(masked);
+                if (runStart < 0) {
+                    runStart = wi * Long.SIZE + bit;
+                } else {
+                    builder.appendRange(base + runStart, base + wi * Long.SIZE + bit - 1);
+                    runStart = -1;
+                }
+            }
+        }
+        if (runStart >= 0) {
+            builder.appendRange(base + runStart, base + 0xFFFF);
+        }
+    }
+
+    private static boolean containerContains(
+            @NotNull final ByteBuffer in,
+            @NotNull final BitmapHeader header,
+            final int ci,
+            final int containerStart,
+            final int lowBits) {
+        if (header.isRun(ci)) {
+            final int runsStart = containerStart + Short.BYTES;
+            int lo = 0;
+            int hi = Short.toUnsignedInt(in.getShort(containerStart)) - 1;
+            // Find the last run starting at or before lowBits
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int first = Short.toUnsignedInt(in.getShort(runsStart + mid * 2 * Short.BYTES));
+                if (first <= lowBits) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            if (hi < 0) {
+                return false;
+            }
+            final int runPos = runsStart + hi * 2 * Short.BYTES;
+            return lowBits <= Short.toUnsignedInt(in.getShort(runPos))
+                    + Short.toUnsignedInt(in.getShort(runPos + Short.BYTES));
+        }
+        final int cardinality = header.cardinality(ci);
+        if (cardinality <= MAX_ARRAY_CARDINALITY) {
+            int lo = 0;
+            int hi = cardinality - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int value = Short.toUnsignedInt(in.getShort(containerStart + mid * Short.BYTES));
+                if (value < lowBits) {
+                    lo = mid + 1;
+                } else if (value > lowBits) {
+                    hi = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return (in.getLong(containerStart + (lowBits >>> 6) * Long.BYTES) & (1L << lowBits)) != 0;
+    }
+
+    /**
+     * Read-only view of the header of one serialized 32-bit Roaring bitmap.
+     */
+    private static final class BitmapHeader {
+
+        private final ByteBuffer in;
+        private final int start;
+        private final int size;
+        private final int runMarkersStart;
+        private final int descriptiveStart;
+        private final int offsetsStart;
+        private final int firstContainerStart;
+
+        private BitmapHeader(@NotNull final ByteBuffer in, final int start) {
+            this.in = in;
+            this.start = start;
+            final int cookie = in.getInt(start);
+            if ((cookie & 0xFFFF) == SERIAL_COOKIE) {
+                size = (cookie >>> 16) + 1;
+                runMarkersStart = start + Integer.BYTES;
+                descriptiveStart = runMarkersStart + (size + 7) / 8;
+                offsetsStart = size >= NO_OFFSET_THRESHOLD ? descriptiveStart + size * Integer.BYTES : -1;
+            } else if (cookie == SERIAL_COOKIE_NO_RUNCONTAINER) {
+                size = in.getInt(start + Integer.BYTES);
+                runMarkersStart = -1;
+                descriptiveStart = start + 2 * Integer.BYTES;
+                offsetsStart = descriptiveStart + size * Integer.BYTES;
+            } else {
+                throw new IllegalArgumentException("Invalid Roaring bitmap cookie " + cookie + " at " + start);
+            }
+            firstContainerStart = descriptiveStart + size * Integer.BYTES * (offsetsStart < 0 ? 1 : 2);
+        }
+
+        private int key(final int ci) {
+            return Short.toUnsignedInt(in.getShort(descriptiveStart + ci * Integer.BYTES));
+        }
+
+        private int cardinality(final int ci) {
+            return Short.toUnsignedInt(in.getShort(descriptiveStart + ci * Integer.BYTES + Short.BYTES)) + 1;
+        }
+
+        private boolean isRun(final int ci) {
+            return runMarkersStart >= 0 && (in.get(runMarkersStart + (ci >>> 3)) & (1 << (ci & 7))) != 0;
+        }
+
+        private int containerBytes(final int ci, final int containerStart) {
+            if (isRun(ci)) {
+                return Short.BYTES + Short.toUnsignedInt(in.getShort(containerStart)) * 2 * Short.BYTES;
+            }
+            final int cardinality = cardinality(ci);
+            return cardinality <= MAX_ARRAY_CARDINALITY ? cardinality * Short.BYTES : BITMAP_BYTES;
+        }
+
+        private int containerStart(final int ci) {
+            if (offsetsStart >= 0) {
+                return start + in.getInt(offsetsStart + ci * Integer.BYTES);
+            }
+            // Only bitmaps with fewer than NO_OFFSET_THRESHOLD containers omit the offsets, so this walk is short
+            int containerStart = firstContainerStart;
+            for (int pi = 0; pi < ci; ++pi) {
+                containerStart += containerBytes(pi, containerStart);
+            }
+            return containerStart;
+        }
+
+        private int end() {
+            if (size == 0) {
+                return firstContainerStart;
+            }
+            final int lastStart = containerStart(size - 1);
+            return lastStart + containerBytes(size - 1, lastStart);
+        }
+
+        private int find(final int key) {
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int midKey = key(mid);
+                if (midKey < key) {
+                    lo = mid + 1;
+                } else if (midKey > key) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Accumulates the ranges of a RowSet into per-container runs, then chooses container types and writes them.
+     */
+    private static final class ContainerCollector {
+
+        /** The high 48 bits of each container's keys */
+        private final TLongArrayList containerKeys = new TLongArrayList();
+        private final TIntArrayList cardinalities = new TIntArrayList();
+        /** Index into {@link #runs} of each container's first run */
+        private final TIntArrayList firstRuns = new TIntArrayList();
+        /** Flattened (start, length - 1) pairs of low 16 bits */
+        private final TShortArrayList runs = new TShortArrayList();
+
+        private long currentKey = -1;
+        private int currentCardinality;
+
+        private void appendRange(long first, final long last) {
+            while (true) {
+                final long key = first >>> 16;
+                final long containerLast = Math.min(last, (key << 16) | 0xFFFF);
+                if (key != currentKey) {
+                    finishContainer();
+                    currentKey = key;
+                    firstRuns.add(runs.size() / 2);
+                }
+                runs.add((short) first);
+                runs.add((short) (containerLast - first));
+                currentCardinality += (int) (containerLast - first + 1);
+                if (containerLast == last) {
+                    return;
+                }
+                first = containerLast + 1;
+            }
+        }
+
+        private void finishContainer() {
+            if (currentKey >= 0) {
+                containerKeys.add(currentKey);
+                cardinalities.add(currentCardinality);
+                currentKey = -1;
+                currentCardinality = 0;
+            }
+        }
+
+        private int numRuns(final int ci) {
+            final int end = ci + 1 < firstRuns.size() ? firstRuns.get(ci + 1) : runs.size() / 2;
+            return end - firstRuns.get(ci);
+        }
+
+        private boolean isRun(final int ci) {
+            final int cardinality = cardinalities.get(ci);
+            final int runBytes = Short.BYTES + numRuns(ci) * 2 * Short.BYTES;
+            return runBytes < (cardinality <= MAX_ARRAY_CARDINALITY ? cardinality * Short.BYTES : BITMAP_BYTES);
+        }
+
+        private int containerBytes(final int ci) {
+            if (isRun(ci)) {
+                return Short.BYTES + numRuns(ci) * 2 * Short.BYTES;
+            }
+            final int cardinality = cardinalities.get(ci);
+            return cardinality <= MAX_ARRAY_CARDINALITY ? cardinality * Short.BYTES : BITMAP_BYTES;
+        }
+
+        private int bucketEnd(final int firstContainer) {
+            final long highBits = containerKeys.get(firstContainer) >>> 16;
+            int ci = firstContainer + 1;
+            while (ci < containerKeys.size() && containerKeys.get(ci) >>> 16 == highBits) {
+                ++ci;
+            }
+            return ci;
+        }
+
+        private static boolean writeOffsets(final boolean hasRun, final int size) {
+            return !hasRun || size >= NO_OFFSET_THRESHOLD;
+        }
+
+        private int headerBytes(final boolean hasRun, final int size) {
+            return (hasRun ? Integer.BYTES + (size + 7) / 8 : 2 * Integer.BYTES)
+                    + size * Integer.BYTES * (writeOffsets(hasRun, size) ? 2 : 1);
+        }
+
+        private byte[] write() {
+            final int numContainers = containerKeys.size();
+            long totalBytes = Long.BYTES;
+            for (int ci = 0; ci < numContainers;) {
+                final int bucketEnd = bucketEnd(ci);
+                boolean hasRun = false;
+                for (int bci = ci; bci < bucketEnd; ++bci) {
+                    hasRun |= isRun(bci);
+                    totalBytes += containerBytes(bci);
+                }
+                totalBytes += Integer.BYTES + headerBytes(hasRun, bucketEnd - ci);
+                ci = bucketEnd;
+            }
+            if (totalBytes > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("RowSet is too large to serialize: " + totalBytes + " bytes");
+            }
+
+            final byte[] bytes = new byte[(int) totalBytes];
+            final ByteBuffer out = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            out.putLong(0); // Bucket count, filled in below
+            long numBuckets = 0;
+            final long[] words = new long[BITMAP_WORDS];
+            for (int ci = 0; ci < numContainers;) {
+                final int bucketEnd = bucketEnd(ci);
+                final int size = bucketEnd - ci;
+                boolean hasRun = false;
+                for (int bci = ci; bci < bucketEnd; ++bci) {
+                    hasRun |= isRun(bci);
+                }
+                ++numBuckets;
+                out.putInt((int) (containerKeys.get(ci) >>> 16));
+
+                final int bitmapStart = out.position();
+                if (hasRun) {
+                    out.putInt(SERIAL_COOKIE | ((size - 1) << 16));
+                    final byte[] runMarkers = new byte[(size + 7) / 8];
+                    for (int bci = ci; bci < bucketEnd; ++bci) {
+                        if (isRun(bci)) {
+                            runMarkers[(bci - ci) >>> 3] |= (byte) (1 << ((bci - ci) & 7));
+                        }
+                    }
+                    out.put(runMarkers);
+                } else {
+                    out.putInt(SERIAL_COOKIE_NO_RUNCONTAINER);
+                    out.putInt(size);
+                }
+                for (int bci = ci; bci < bucketEnd; ++bci) {
+                    out.putShort((short) containerKeys.get(bci));
+                    out.putShort((short) (cardinalities.get(bci) - 1));
+                }
+                if (writeOffsets(hasRun, size)) {
+                    int offset = out.position() - bitmapStart + size * Integer.BYTES;
+                    for (int bci = ci; bci < bucketEnd; ++bci) {
+                        out.putInt(offset);
+                        offset += containerBytes(bci);
+                    }
+                }
+                for (int bci = ci; bci < bucketEnd; ++bci) {
+                    writeContainer(out, bci, words);
+                }
+                ci = bucketEnd;
+            }
+            out.putLong(0, numBuckets);
+            return bytes;
+        }
+
+        private void writeContainer(@NotNull final ByteBuffer out, final int ci, @NotNull final long[] words) {
+            final int firstRun = firstRuns.get(ci);
+            final int numRuns = numRuns(ci);
+            if (isRun(ci)) {
+                out.putShort((short) numRuns);
+                for (int ri = firstRun; ri < firstRun + numRuns; ++ri) {
+                    out.putShort(runs.get(2 * ri));
+                    out.putShort(runs.get(2 * ri + 1));
+                }
+                return;
+            }
+            if (cardinalities.get(ci) <= MAX_ARRAY_CARDINALITY) {
+                for (int ri = firstRun; ri < firstRun + numRuns; ++ri) {
+                    final int first = Short.toUnsignedInt(runs.get(2 * ri));
+                    final int last = first + Short.toUnsignedInt(runs.get(2 * ri + 1));
+                    for (int value = first; value <= last; ++value) {
+                        out.putShort((short) value);
+                    }
+                }
+                return;
+            }
+            Arrays.fill(words, 0);
+            for (int ri = firstRun; ri < firstRun + numRuns; ++ri) {
+                final int first = Short.toUnsignedInt(runs.get(2 * ri));
+                final int last = first + Short.toUnsignedInt(runs.get(2 * ri + 1));
+                final int firstWord = first >>> 6;
+                final int lastWord = last >>> 6;
+                final long firstMask = -1L << first;
+                final long lastMask = -1L >>> (Long.SIZE - 1 - (last & 63));
+                if (firstWord == lastWord) {
+                    words[firstWord] |= firstMask & lastMask;
+                    continue;
+                }
+                words[firstWord] |= firstMask;
+                for (int wi = firstWord + 1; wi < lastWord; ++wi) {
+                    words[wi] = -1L;
+                }
+                words[lastWord] |= lastMask;
+            }
+            for (final long word : words) {
+                out.putLong(word);
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.ObjectInput;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Function;
 
 public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements TrackingWritableRowSet {
@@ -29,6 +30,12 @@ public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements Tr
 
     private transient volatile TrackingRowSet.Indexer indexer;
 
+    /**
+     * The most recently published {@link #snapshot() snapshot}. Only replaced while holding our lock, in
+     * checkAndGetSnapshot(), close(), and initializePreviousValue().
+     */
+    private transient volatile Snapshot publishedSnapshot;
+
     public TrackingWritableRowSetImpl() {
         this(OrderedLongSet.EMPTY);
     }
@@ -58,6 +65,52 @@ public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements Tr
         }
     }
 
+    /**
+     * Get the set that a {@link #snapshot()} taken at {@code clockValue} should reflect: {@link #prevInnerSet} if we
+     * have been mutated during the current cycle, and otherwise our current inner set.
+     */
+    private OrderedLongSet expectedSnapshotSet(final long clockValue) {
+        // Read changeTimeStep before prevInnerSet, which it protects
+        if (LogicalClock.getState(clockValue) == LogicalClock.State.Updating
+                && changeTimeStep == LogicalClock.getStep(clockValue)) {
+            return prevInnerSet;
+        }
+        return getInnerSet();
+    }
+
+    private Snapshot checkAndGetSnapshot() {
+        // The published snapshot holds a reference to its set, so any mutation of that set copies it and replaces our
+        // inner set, and prevInnerSet is never mutated in place. The published snapshot is thus current if and only if
+        // its set is the one we expect.
+        final Snapshot localSnapshot = publishedSnapshot;
+        if (localSnapshot != null && localSnapshot.innerSet == expectedSnapshotSet(clock.currentValue())) {
+            return localSnapshot;
+        }
+        synchronized (this) {
+            // Our next mutation during an update cycle must first take our lock in checkAndGetPrev(), and will then
+            // copy-on-write rather than mutate the set we publish here.
+            final OrderedLongSet snapshotInnerSet = expectedSnapshotSet(clock.currentValue());
+            final Snapshot currentSnapshot = publishedSnapshot;
+            if (currentSnapshot != null && currentSnapshot.innerSet == snapshotInnerSet) {
+                return currentSnapshot;
+            }
+            final Snapshot newSnapshot = new Snapshot(snapshotInnerSet.ixCowRef());
+            publishedSnapshot = newSnapshot;
+            if (currentSnapshot != null) {
+                currentSnapshot.retire();
+            }
+            return newSnapshot;
+        }
+    }
+
+    private synchronized void retireSnapshot() {
+        final Snapshot localSnapshot = publishedSnapshot;
+        if (localSnapshot != null) {
+            publishedSnapshot = null;
+            localSnapshot.retire();
+        }
+    }
+
     @Override
     public <INDEXER_TYPE extends TrackingRowSet.Indexer> INDEXER_TYPE indexer(
             @NotNull final Function<TrackingRowSet, INDEXER_TYPE> indexerFactory) {
@@ -99,6 +152,7 @@ public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements Tr
         prevInnerSet = null; // Force NPE on use after tracking
         changeTimeStep = -1;
         indexer = null;
+        retireSnapshot();
         super.close();
     }
 
@@ -107,6 +161,22 @@ public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements Tr
         prevInnerSet.ixRelease();
         prevInnerSet = OrderedLongSet.EMPTY;
         changeTimeStep = -1;
+        retireSnapshot();
+    }
+
+    @Override
+    public WritableRowSet snapshot() {
+        while (true) {
+            final Snapshot localSnapshot = checkAndGetSnapshot();
+            if (localSnapshot.pin()) {
+                try {
+                    return new WritableRowSetImpl(localSnapshot.innerSet.ixCowRef());
+                } finally {
+                    localSnapshot.unpin();
+                }
+            }
+            // The snapshot was replaced after we read it; try again with its replacement
+        }
     }
 
     @Override
@@ -154,6 +224,58 @@ public class TrackingWritableRowSetImpl extends WritableRowSetImpl implements Tr
         initializePreviousValue();
     }
 
+    /**
+     * An immutable value of this row set as of the end of an update graph cycle. The snapshot holds a reference to its
+     * set until it has been retired and no reader is still pinning it, so that readers can take their own references
+     * without a writer mutating the set in place.
+     */
+    private static final class Snapshot {
+
+        private static final int RETIRED = 1 << 30;
+        private static final AtomicIntegerFieldUpdater<Snapshot> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Snapshot.class, "state");
+
+        private final OrderedLongSet innerSet;
+
+        /**
+         * The number of readers pinning this snapshot, plus {@link #RETIRED} once it has been replaced.
+         */
+        private volatile int state;
+
+        private Snapshot(@NotNull final OrderedLongSet innerSet) {
+            this.innerSet = innerSet;
+        }
+
+        /**
+         * @return Whether this snapshot was pinned; if not, it has been retired and its set must not be used
+         */
+        private boolean pin() {
+            int current;
+            do {
+                current = state;
+                if ((current & RETIRED) != 0) {
+                    return false;
+                }
+            } while (!STATE_UPDATER.compareAndSet(this, current, current + 1));
+            return true;
+        }
+
+        private void unpin() {
+            if (STATE_UPDATER.decrementAndGet(this) == RETIRED) {
+                innerSet.ixRelease();
+            }
+        }
+
+        /**
+         * Release our reference once the last reader unpins. Must only be called once.
+         */
+        private void retire() {
+            if (STATE_UPDATER.getAndAdd(this, RETIRED) == 0) {
+                innerSet.ixRelease();
+            }
+        }
+    }
+
     /**
      * An unmodifiable view of a {@link WritableRowSetImpl}.
      */
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.rowset.impl;
+
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PortableRoaringRowSetUtilsTest {
+
+    @Test
+    public void testKnownEncoding() {
+        try (final RowSet rowSet = RowSetFactory.fromKeys(1, 2, 3)) {
+            final byte[] expected = {
+                    1, 0, 0, 0, 0, 0, 0, 0, // one bucket
+                    0, 0, 0, 0, // high 32 bits
+                    0x3A, 0x30, 0, 0, 1, 0, 0, 0, // no-run cookie, one container
+                    0, 0, 2, 0, // key 0, cardinality 3
+                    0x10, 0, 0, 0, // offset 16
+                    1, 0, 2, 0, 3, 0 // array container
+            };
+            assertArrayEquals(expected, PortableRoaringRowSetUtils.serialize(rowSet));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final byte[] bytes = PortableRoaringRowSetUtils.serialize(RowSetFactory.empty());
+        assertEquals(Long.BYTES, bytes.length);
+        assertTrue(PortableRoaringRowSetUtils.deserialize(ByteBuffer.wrap(bytes)).isEmpty());
+        assertEquals(0, PortableRoaringRowSetUtils.size(ByteBuffer.wrap(bytes)));
+        assertFalse(PortableRoaringRowSetUtils.containsKey(ByteBuffer.wrap(bytes), 0));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final Random random = new Random(0);
+        for (int step = 0; step < 200; ++step) {
+            try (final RowSet rowSet = randomRowSet(random, step)) {
+                final byte[] bytes = PortableRoaringRowSetUtils.serialize(rowSet);
+
+                // Start part way into the buffer to make sure positions are respected
+                final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+                buffer.position(3);
+                buffer.put(bytes);
+                buffer.position(3);
+
+                try (final RowSet result = PortableRoaringRowSetUtils.deserialize(buffer)) {
+                    assertEquals(rowSet, result);
+                }
+                assertEquals(3, buffer.position());
+                assertEquals(rowSet.size(), PortableRoaringRowSetUtils.size(buffer));
+                for (int probe = 0; probe < 1000; ++probe) {
+                    final long key = rowSet.isEmpty() || (probe & 1) == 0
+                            ? random.nextInt(1 << 22)
+                            : rowSet.get(random.nextInt(rowSet.intSize()));
+                    assertEquals(rowSet.containsRange(key, key),
+                            PortableRoaringRowSetUtils.containsKey(buffer, key));
+                }
+                if (rowSet.isNonempty()) {
+                    assertTrue(PortableRoaringRowSetUtils.containsKey(buffer, rowSet.lastRowKey()));
+                    assertFalse(PortableRoaringRowSetUtils.containsKey(buffer, rowSet.lastRowKey() + 1));
+                }
+            }
+        }
+    }
+
+    private static RowSet randomRowSet(final Random random, final int step) {
+        final RowSetBuilderRandom builder = RowSetFactory.builderRandom();
+        final long base = (step % 3 == 0) ? (long) random.nextInt(4) << 33 : 0;
+        final int count = random.nextInt(step % 7 == 0 ? 20 : 20_000);
+        for (int ii = 0; ii < count; ++ii) {
+            switch (step % 4) {
+                case 0: // sparse: array containers
+                    builder.addKey(base + random.nextInt(1 << 22));
+                    break;
+                case 1: // long ranges: run containers
+                    final long first = base + random.nextInt(1 << 22);
+                    builder.addRange(first, first + random.nextInt(3000));
+                    break;
+                case 2: // dense: bitmap containers
+                    builder.addKey(base + random.nextInt(1 << 17));
+                    break;
+                default: // several buckets
+                    builder.addKey(((long) random.nextInt(6) << 32) | random.nextInt(1 << 17));
+                    break;
+            }
+        }
+        return builder.build();
+    }
+}
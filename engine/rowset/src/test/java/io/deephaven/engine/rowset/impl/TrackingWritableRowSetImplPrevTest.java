@@ -7,12 +7,14 @@ import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.TrackingRowSet;
 import io.deephaven.engine.rowset.TrackingWritableRowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import io.deephaven.engine.updategraph.LogicalClockImpl;
 import org.junit.Rule;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class TrackingWritableRowSetImplPrevTest {
@@ -150,4 +152,87 @@ public class TrackingWritableRowSetImplPrevTest {
         assertEquals(1L, ix.sizePrev());
         assertEquals(1L, ix.lastRowKeyPrev());
     }
+
+    @Test
+    public void testSnapshot() {
+        final LogicalClockImpl clock = (LogicalClockImpl) ExecutionContext.getContext().getUpdateGraph().clock();
+        clock.resetForUnitTests();
+        // span several RSP blocks so that containers are shared between the snapshots and the live value
+        final TrackingWritableRowSet ix = RowSetFactory.fromKeys(1L, 3L, 1L << 20, 1L << 30).toTracking();
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(ix, snapshot);
+        }
+
+        clock.startUpdateCycle();
+        final WritableRowSet before = ix.snapshot();
+        assertEquals(ix, before);
+        ix.insert(5L);
+        ix.insert((1L << 20) + 1);
+        ix.removeRange(0, 2);
+        assertEquals(5L, ix.size());
+        assertEquals(4L, before.size());
+        assertTrue(before.containsRange(1L, 1L));
+        assertFalse(before.containsRange(5L, 5L));
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(before, snapshot);
+        }
+        clock.completeUpdateCycle();
+
+        final WritableRowSet after = ix.snapshot();
+        assertEquals(ix, after);
+        assertEquals(4L, before.size());
+
+        clock.startUpdateCycle();
+        ix.removeRange(1L << 20, 1L << 30);
+        ix.insert(7L);
+        assertEquals(3L, ix.size());
+        assertEquals(4L, before.size());
+        assertEquals(5L, after.size());
+        assertTrue(after.containsRange((1L << 20) + 1, (1L << 20) + 1));
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(after, snapshot);
+        }
+
+        // mutating a snapshot must not affect the published value
+        after.insert(9L);
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(5L, snapshot.size());
+        }
+        clock.completeUpdateCycle();
+
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(ix, snapshot);
+        }
+        before.close();
+        after.close();
+    }
+
+    @Test
+    public void testSnapshotAfterIdleMutation() {
+        final LogicalClockImpl clock = (LogicalClockImpl) ExecutionContext.getContext().getUpdateGraph().clock();
+        clock.resetForUnitTests();
+        final TrackingWritableRowSet ix = RowSetFactory.fromKeys(1L, 3L, 1L << 20, 1L << 30).toTracking();
+        final RefCountedCow<?> published = (RefCountedCow<?>) ((WritableRowSetImpl) ix).getInnerSet();
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(ix, snapshot);
+        }
+        // The row set and its published snapshot
+        assertEquals(2, published.refCount());
+
+        // Mutations while idle, in the same step as the published snapshot, must be reflected by the next snapshot
+        ix.insert(5L);
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(ix, snapshot);
+            assertTrue(snapshot.containsRange(5L, 5L));
+        }
+        // Replacing the published snapshot releases its reference to the old set, which is now only the previous value
+        assertEquals(1, published.refCount());
+
+        ix.removeRange(0, 3);
+        try (final WritableRowSet snapshot = ix.snapshot()) {
+            assertEquals(ix, snapshot);
+            assertEquals(3L, snapshot.size());
+        }
+        ix.close();
+    }
 }
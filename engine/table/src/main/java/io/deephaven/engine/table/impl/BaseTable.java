@@ -353,6 +353,18 @@ public abstract class BaseTable<IMPL_TYPE extends BaseTable<IMPL_TYPE>> extends
                 CopyAttributeOperation.Join,
                 CopyAttributeOperation.WouldMatch));
 
+        // A data index is only valid for the row set and column sources it was built from
+        tempMap.put(DATA_INDEX_ATTRIBUTE, EnumSet.noneOf(CopyAttributeOperation.class));
+
+        // Filtering and ordering can't add distinct keys; the hints are keyed by column name, so renames drop them
+        tempMap.put(EXPECTED_DISTINCT_KEYS_ATTRIBUTE, EnumSet.of(
+                CopyAttributeOperation.Coalesce,
+                CopyAttributeOperation.Filter,
+                CopyAttributeOperation.Sort,
+                CopyAttributeOperation.Reverse,
+                CopyAttributeOperation.Flatten,
+                CopyAttributeOperation.DropColumns));
+
         tempMap.put(BARRAGE_PERFORMANCE_KEY_ATTRIBUTE, EnumSet.of(
                 CopyAttributeOperation.Flatten, // add flatten for now because web flattens all views
                 CopyAttributeOperation.Preview));
@@ -4,11 +4,13 @@
 package io.deephaven.engine.table.impl;
 
 import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.TupleSource;
 import io.deephaven.engine.table.impl.locations.TableLocation;
 import io.deephaven.engine.table.impl.sources.DeferredGroupingColumnSource;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -66,4 +68,22 @@ public interface ColumnSourceManager {
      * @return True if there are no included locations
      */
     boolean isEmpty();
+
+    /**
+     * Get the key column sets for which every included location has a persisted data index. Key column sets that do not
+     * include a partitioning column are also reported prefixed by all partitioning columns, whose values each location
+     * supplies from its key.
+     *
+     * @return The key column sets, in order, that {@link #readDataIndex(TupleSource, String...)} can read
+     */
+    List<String[]> getDataIndexColumns();
+
+    /**
+     * Read and merge the persisted data indexes for exactly {@code keyColumnNames} of all included locations.
+     *
+     * @param tupleSource The tuple source for the key columns, used to make keys from their values
+     * @param keyColumnNames The key columns, one of the sets reported by {@link #getDataIndexColumns()}
+     * @return A new map from keys to the row keys that contain them, in this manager's row key space
+     */
+    Map<Object, WritableRowSet> readDataIndex(@NotNull TupleSource<?> tupleSource, @NotNull String... keyColumnNames);
 }
@@ -8,6 +8,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.indexer.RowSetIndexer;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.sources.sparse.SparseConstants;
+import io.deephaven.engine.table.impl.util.TypedHasherUtil;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 
@@ -41,6 +42,40 @@ public class JoinControl {
         return tableSize(leftTable.size());
     }
 
+    /**
+     * Size a hash table built from the right table, honoring its {@link Table#EXPECTED_DISTINCT_KEYS_ATTRIBUTE} hint
+     * for {@code rightKeyColumns}.
+     */
+    int tableSizeForRightBuild(Table rightTable, String[] rightKeyColumns) {
+        return Math.max(tableSizeForRightBuild(rightTable), hintedTableSize(rightTable, rightKeyColumns));
+    }
+
+    /**
+     * Size a hash table built from the left table, honoring its {@link Table#EXPECTED_DISTINCT_KEYS_ATTRIBUTE} hint
+     * for {@code leftKeyColumns}.
+     */
+    int tableSizeForLeftBuild(Table leftTable, String[] leftKeyColumns) {
+        return Math.max(tableSizeForLeftBuild(leftTable), hintedTableSize(leftTable, leftKeyColumns));
+    }
+
+    /**
+     * Size a hash table that holds the keys of both sides, as when both tables are refreshing.
+     */
+    int tableSizeForBothBuild(Table leftTable, String[] leftKeyColumns, Table rightTable, String[] rightKeyColumns) {
+        return Math.max(tableSizeForRightBuild(rightTable, rightKeyColumns),
+                hintedTableSize(leftTable, leftKeyColumns));
+    }
+
+    private int hintedTableSize(Table table, String[] keyColumns) {
+        final long expectedKeys = TypedHasherUtil.expectedDistinctKeys(table, keyColumns);
+        if (expectedKeys == 0) {
+            return MINIMUM_INITIAL_HASH_SIZE;
+        }
+        // leave room for one more chunk, since we check the load factor before each build
+        return TypedHasherUtil.tableSizeForEntries(expectedKeys + CHUNK_SIZE, MINIMUM_INITIAL_HASH_SIZE,
+                MAX_TABLE_SIZE, getMaximumLoadFactor());
+    }
+
     double getMaximumLoadFactor() {
         return DEFAULT_MAX_LOAD_FACTOR;
     }
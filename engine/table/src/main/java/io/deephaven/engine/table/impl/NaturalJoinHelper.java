@@ -53,6 +53,8 @@ class NaturalJoinHelper {
     private static QueryTable naturalJoinInternal(QueryTable leftTable, QueryTable rightTable,
             MatchPair[] columnsToMatch, MatchPair[] columnsToAdd, boolean exactMatch, JoinControl control) {
         QueryTable.checkInitiateBinaryOperation(leftTable, rightTable);
+        final String[] leftKeyColumns = MatchPair.getLeftColumns(columnsToMatch);
+        final String[] rightKeyColumns = MatchPair.getRightColumns(columnsToMatch);
 
         try (final BucketingContext bucketingContext =
                 new BucketingContext("naturalJoin", leftTable, rightTable, columnsToMatch, columnsToAdd, control)) {
@@ -98,7 +100,8 @@ class NaturalJoinHelper {
                     // the right side is unique, so we should have a state for it; the left side can have many
                     // duplicates
                     // so we would prefer to have a smaller table
-                    final int tableSize = control.tableSizeForRightBuild(rightTable);
+                    final int tableSize = control.tableSizeForBothBuild(
+                            leftTable, leftKeyColumns, rightTable, rightKeyColumns);
 
                     final BothIncrementalNaturalJoinStateManager jsm =
                             TypedHasherFactory.make(IncrementalNaturalJoinStateManagerTypedBase.class,
@@ -143,7 +146,7 @@ class NaturalJoinHelper {
                     final RightIncrementalNaturalJoinStateManager jsm =
                             TypedHasherFactory.make(RightIncrementalNaturalJoinStateManagerTypedBase.class,
                                     bucketingContext.leftSources, bucketingContext.originalLeftSources,
-                                    control.tableSizeForLeftBuild(leftTable),
+                                    control.tableSizeForLeftBuild(leftTable, leftKeyColumns),
                                     control.getMaximumLoadFactor(), control.getTargetLoadFactor());
                     RightIncrementalNaturalJoinStateManager.InitialBuildContext initialBuildContext =
                             jsm.makeInitialBuildContext(leftTable);
@@ -241,7 +244,7 @@ class NaturalJoinHelper {
                     final StaticHashedNaturalJoinStateManager jsm =
                             TypedHasherFactory.make(StaticNaturalJoinStateManagerTypedBase.class,
                                     bucketingContext.leftSources, bucketingContext.originalLeftSources,
-                                    control.tableSizeForLeftBuild(leftTable),
+                                    control.tableSizeForLeftBuild(leftTable, leftKeyColumns),
                                     control.getMaximumLoadFactor(), control.getTargetLoadFactor());
                     final IntegerArraySource leftHashSlots = new IntegerArraySource();
                     jsm.buildFromLeftSide(leftTable, bucketingContext.leftSources, leftHashSlots);
@@ -257,7 +260,7 @@ class NaturalJoinHelper {
                     final StaticHashedNaturalJoinStateManager jsm =
                             TypedHasherFactory.make(StaticNaturalJoinStateManagerTypedBase.class,
                                     bucketingContext.leftSources, bucketingContext.originalLeftSources,
-                                    control.tableSizeForRightBuild(rightTable),
+                                    control.tableSizeForRightBuild(rightTable, rightKeyColumns),
                                     control.getMaximumLoadFactor(), control.getTargetLoadFactor());
                     jsm.buildFromRightSide(rightTable, bucketingContext.rightSources);
                     jsm.decorateLeftSide(leftTable.getRowSet(), bucketingContext.leftSources, leftRedirections);
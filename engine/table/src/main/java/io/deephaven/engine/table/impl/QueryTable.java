@@ -39,6 +39,7 @@ import io.deephaven.engine.table.hierarchical.RollupTable;
 import io.deephaven.engine.table.hierarchical.TreeTable;
 import io.deephaven.engine.table.impl.hierarchical.RollupTableImpl;
 import io.deephaven.engine.table.impl.hierarchical.TreeTableImpl;
+import io.deephaven.engine.table.impl.indexer.IncrementalDataIndex;
 import io.deephaven.engine.table.impl.indexer.RowSetIndexer;
 import io.deephaven.engine.table.impl.lang.QueryLanguageParser;
 import io.deephaven.engine.table.impl.partitioned.PartitionedTableImpl;
@@ -1280,14 +1281,17 @@ public class QueryTable extends BaseTable<QueryTable> {
                                         }
                                     }
 
-                                    final List<NotificationQueue.Dependency> dependencies = Stream.concat(
+                                    final List<NotificationQueue.Dependency> dependencies = Stream.of(
                                             Stream.of(filters)
                                                     .filter(f -> f instanceof NotificationQueue.Dependency)
                                                     .map(f -> (NotificationQueue.Dependency) f),
                                             Stream.of(filters)
                                                     .filter(f -> f instanceof DependencyStreamProvider)
                                                     .flatMap(f -> ((DependencyStreamProvider) f)
-                                                            .getDependencyStream()))
+                                                            .getDependencyStream()),
+                                            // filters may read our data index when re-evaluating
+                                            IncrementalDataIndex.getDependencyStream(this))
+                                            .flatMap(Function.identity())
                                             .collect(Collectors.toList());
                                     if (swapListener != null) {
                                         final ListenerRecorder recorder = new ListenerRecorder(
@@ -12,6 +12,7 @@ import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.engine.liveness.LivenessArtifact;
+import io.deephaven.engine.table.impl.indexer.IncrementalDataIndex;
 import io.deephaven.engine.table.impl.select.WhereFilter;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.chunk.WritableObjectChunk;
@@ -115,6 +116,8 @@ public class WouldMatchOperation implements QueryTable.MemoizableOperation<Query
                     anyRefreshing.setTrue();
                 }
             });
+            // filters may read the parent's data index when re-evaluating
+            IncrementalDataIndex.getDependencyStream(parent).forEach(dependencies::add);
 
             this.resultTable = new QueryTable(parent.getRowSet(), newColumns);
 
@@ -79,6 +79,12 @@ class AggregationContext {
      */
     private final int[] inputSlots;
 
+    /**
+     * Groups of operator indices that may be processed concurrently with one another during initialization, or null if
+     * the operators must all be processed serially. Operators within a group are processed in index order.
+     */
+    private final int[][] parallelOperatorGroups;
+
     AggregationContext(IterativeChunkedAggregationOperator[] operators, String[][] inputNames,
             ChunkSource.WithPrev<Values>[] inputColumns) {
         this(operators, inputNames, inputColumns, null);
@@ -86,6 +92,16 @@ class AggregationContext {
 
     AggregationContext(IterativeChunkedAggregationOperator[] operators, String[][] inputNames,
             ChunkSource.WithPrev<Values>[] inputColumns, AggregationContextTransformer[] transformers) {
+        this(operators, inputNames, inputColumns, transformers, null);
+    }
+
+    /**
+     * @param operatorDependencies If non-null, for each operator the index of an operator (possibly itself) that it
+     *        shares state with and must be processed serially with; enables parallel initialization
+     */
+    AggregationContext(IterativeChunkedAggregationOperator[] operators, String[][] inputNames,
+            ChunkSource.WithPrev<Values>[] inputColumns, AggregationContextTransformer[] transformers,
+            int[] operatorDependencies) {
         this.operators = operators;
         this.inputNames = inputNames;
         this.inputColumns = inputColumns;
@@ -117,6 +133,51 @@ class AggregationContext {
                 inputSlots[currentSlot] = currentSlot;
             }
         }
+
+        parallelOperatorGroups = operatorDependencies == null ? null : computeParallelOperatorGroups(
+                operatorDependencies);
+    }
+
+    /**
+     * Partition the operators into groups that share neither state nor input slots.
+     */
+    private int[][] computeParallelOperatorGroups(@NotNull final int[] operatorDependencies) {
+        Assert.eq(operatorDependencies.length, "operatorDependencies.length", operators.length, "operators.length");
+        // Dependencies and input slots always refer to the same or an earlier operator, so we can label each operator
+        // with the group of the operator it refers to, merging groups when an operator refers to two of them.
+        final int[] groupIds = new int[operators.length];
+        for (int oi = 0; oi < operators.length; ++oi) {
+            groupIds[oi] = oi;
+            final int dependency = operatorDependencies[oi];
+            Assert.leq(dependency, "dependency", oi, "oi");
+            final int inputSlot = inputSlots[oi];
+            if (dependency != oi) {
+                relabel(groupIds, oi, groupIds[oi], groupIds[dependency]);
+            }
+            if (inputSlot >= 0 && inputSlot != oi) {
+                relabel(groupIds, oi, groupIds[oi], groupIds[inputSlot]);
+            }
+        }
+        final Map<Integer, int[]> groups = new LinkedHashMap<>();
+        for (int oi = 0; oi < operators.length; ++oi) {
+            final int[] group = groups.get(groupIds[oi]);
+            if (group == null) {
+                groups.put(groupIds[oi], new int[] {oi});
+            } else {
+                final int[] expanded = Arrays.copyOf(group, group.length + 1);
+                expanded[group.length] = oi;
+                groups.put(groupIds[oi], expanded);
+            }
+        }
+        return groups.size() < 2 ? null : groups.values().toArray(int[][]::new);
+    }
+
+    private static void relabel(@NotNull final int[] groupIds, final int limit, final int from, final int to) {
+        for (int oi = 0; oi <= limit; ++oi) {
+            if (groupIds[oi] == from) {
+                groupIds[oi] = to;
+            }
+        }
     }
 
     private static Map<String, ColumnSource<?>> merge(Map<String, ColumnSource<?>>[] operatorResultColumns) {
@@ -155,6 +216,14 @@ class AggregationContext {
         return inputSlots[oi];
     }
 
+    /**
+     * @return Groups of operator indices that may be processed concurrently during initialization, or null if the
+     *         operators must be processed serially
+     */
+    int[][] parallelOperatorGroups() {
+        return parallelOperatorGroups;
+    }
+
     boolean requiresIndices(boolean[] columnsToProcess) {
         for (int ii = 0; ii < columnsToProcess.length; ++ii) {
             if (operators[ii].requiresRowKeys()) {
@@ -6,6 +6,7 @@ package io.deephaven.engine.table.impl.by;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import io.deephaven.engine.table.impl.util.TypedHasherUtil;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,6 +19,7 @@ public class AggregationControl {
 
     private static final int CHUNK_SIZE = ChunkedOperatorAggregationHelper.CHUNK_SIZE;
     private static final int MINIMUM_INITIAL_HASH_SIZE = CHUNK_SIZE;
+    private static final int MAXIMUM_HASH_SIZE = 1 << 30;
     private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
     private static final double DEFAULT_TARGET_LOAD_FACTOR = 0.70;
 
@@ -34,6 +36,21 @@ public class AggregationControl {
         return MINIMUM_INITIAL_HASH_SIZE;
     }
 
+    /**
+     * Size the initial hash table for aggregating {@code inputTable} by {@code keyColumnNames}, honoring any
+     * {@link Table#EXPECTED_DISTINCT_KEYS_ATTRIBUTE} hint for exactly those columns.
+     */
+    public int initialHashTableSize(@NotNull final Table inputTable, @NotNull final String[] keyColumnNames) {
+        final int initialHashTableSize = initialHashTableSize(inputTable);
+        final long expectedKeys = TypedHasherUtil.expectedDistinctKeys(inputTable, keyColumnNames);
+        if (expectedKeys == 0) {
+            return initialHashTableSize;
+        }
+        // leave room for one more chunk, since we check the load factor before each build
+        return Math.max(initialHashTableSize, TypedHasherUtil.tableSizeForEntries(expectedKeys + CHUNK_SIZE,
+                MINIMUM_INITIAL_HASH_SIZE, MAXIMUM_HASH_SIZE, getMaximumLoadFactor()));
+    }
+
     public double getTargetLoadFactor() {
         return DEFAULT_TARGET_LOAD_FACTOR;
     }
@@ -329,6 +329,11 @@ public class AggregationProcessor implements AggregationContextFactory {
         final List<String[]> inputColumnNames = new ArrayList<>();
         final List<ChunkSource.WithPrev<Values>> inputSources = new ArrayList<>();
         final List<AggregationContextTransformer> transformers = new ArrayList<>();
+        /**
+         * For each operator, the index of the operator it shares state with (possibly itself). See
+         * {@link #addDependentOperator}.
+         */
+        final List<Integer> operatorDependencies = new ArrayList<>();
 
         List<Pair> resultPairs = List.of();
         int freezeByCountIndex = -1;
@@ -358,6 +363,14 @@ public class AggregationProcessor implements AggregationContextFactory {
             }
         }
 
+        /**
+         * @return Whether the operators produced by this converter may be initialized in parallel, subject to the
+         *         dependencies recorded in {@link #operatorDependencies}
+         */
+        boolean supportsParallelInitialization() {
+            return false;
+        }
+
         @NotNull
         final AggregationContext makeAggregationContext() {
             if (requireStateChangeRecorder && operators.stream().noneMatch(op -> op instanceof StateChangeRecorder)) {
@@ -368,7 +381,10 @@ public class AggregationProcessor implements AggregationContextFactory {
                     operators.toArray(IterativeChunkedAggregationOperator[]::new),
                     inputColumnNames.toArray(String[][]::new),
                     inputSources.toArray(ChunkSource.WithPrev[]::new),
-                    transformers.toArray(AggregationContextTransformer[]::new));
+                    transformers.toArray(AggregationContextTransformer[]::new),
+                    supportsParallelInitialization()
+                            ? operatorDependencies.stream().mapToInt(Integer::intValue).toArray()
+                            : null);
         }
 
         final void unsupportedForBlinkTables(@NotNull final String operationName) {
@@ -436,12 +452,43 @@ public class AggregationProcessor implements AggregationContextFactory {
         final void addOperator(@NotNull final IterativeChunkedAggregationOperator operator,
                 @Nullable final ChunkSource.WithPrev<Values> inputSource,
                 @NotNull final String... inputColumnNames) {
+            addDependentOperator(operators.size(), operator, inputSource, inputColumnNames);
+        }
+
+        /**
+         * Add an operator that shares state with the operator at {@code primaryIndex}, and so must always be processed
+         * serially after it.
+         */
+        final void addDependentOperator(
+                final int primaryIndex,
+                @NotNull final IterativeChunkedAggregationOperator operator,
+                @Nullable final ChunkSource.WithPrev<Values> inputSource,
+                @NotNull final String... inputColumnNames) {
+            operatorDependencies.add(primaryIndex);
             operators.add(operator);
             this.inputColumnNames.add(inputColumnNames);
             inputSources.add(inputSource);
         }
 
+        /**
+         * Record that all operators added from {@code firstIndex} onward share state with one another.
+         */
+        final void markSharedStateFrom(final int firstIndex) {
+            for (int oi = firstIndex + 1; oi < operators.size(); ++oi) {
+                operatorDependencies.set(oi, firstIndex);
+            }
+        }
+
+        final void addBasicOperators(
+                BiFunction<Class<?>, String, IterativeChunkedAggregationOperator> operatorFactory) {
+            addBasicOperators(-1, operatorFactory);
+        }
+
+        /**
+         * @param primaryIndex The index of an operator that the new operators share state with, or -1 if none
+         */
         final void addBasicOperators(
+                final int primaryIndex,
                 BiFunction<Class<?>, String, IterativeChunkedAggregationOperator> operatorFactory) {
             for (final Pair pair : resultPairs) {
                 final String inputName = pair.input().name();
@@ -450,7 +497,8 @@ public class AggregationProcessor implements AggregationContextFactory {
                 final Class<?> type = rawInputSource.getType();
                 final ColumnSource<?> inputSource = maybeReinterpretInstantAsLong(rawInputSource);
 
-                addOperator(operatorFactory.apply(type, resultName), inputSource, inputName);
+                addDependentOperator(primaryIndex < 0 ? operators.size() : primaryIndex,
+                        operatorFactory.apply(type, resultName), inputSource, inputName);
             }
         }
 
@@ -475,8 +523,8 @@ public class AggregationProcessor implements AggregationContextFactory {
                         (operator = operators.get(ii)) instanceof TDigestPercentileOperator) {
                     final TDigestPercentileOperator tDigestOperator = (TDigestPercentileOperator) operator;
                     if (tDigestOperator.compression() == compression) {
-                        addOperator(tDigestOperator.makeSecondaryOperator(percentile, resultName), null,
-                                inputName);
+                        addDependentOperator(ii, tDigestOperator.makeSecondaryOperator(percentile, resultName),
+                                null, inputName);
                         return;
                     }
                 }
@@ -493,7 +541,7 @@ public class AggregationProcessor implements AggregationContextFactory {
                 freezeByCountIndex = operators.size();
                 addNoInputOperator(countOperator = new FreezeByCountOperator());
             }
-            addBasicOperators((t, n) -> new FreezeByOperator(t, n, countOperator));
+            addBasicOperators(freezeByCountIndex, (t, n) -> new FreezeByOperator(t, n, countOperator));
         }
 
         final void addMinOrMaxOperators(final boolean isMin) {
@@ -519,7 +567,8 @@ public class AggregationProcessor implements AggregationContextFactory {
                 final IterativeChunkedAggregationOperator operator = operators.get(ii);
                 if (operator instanceof SsmChunkedMinMaxOperator) {
                     final SsmChunkedMinMaxOperator minMaxOperator = (SsmChunkedMinMaxOperator) operator;
-                    addOperator(minMaxOperator.makeSecondaryOperator(isMin, resultName), null, inputName);
+                    addDependentOperator(ii, minMaxOperator.makeSecondaryOperator(isMin, resultName), null,
+                            inputName);
                     return;
                 }
             }
@@ -533,6 +582,7 @@ public class AggregationProcessor implements AggregationContextFactory {
             }
             final MatchPair[] resultMatchPairs = MatchPair.fromPairs(resultPairs);
             final IterativeChunkedAggregationOperator operator;
+            int primaryIndex = operators.size();
             if (table.isRefreshing()) {
                 if (isAddOnly) {
                     operator = new AddOnlyFirstOrLastChunkedOperator(isFirst, resultMatchPairs, table,
@@ -543,6 +593,7 @@ public class AggregationProcessor implements AggregationContextFactory {
                             : new BlinkLastChunkedOperator(resultMatchPairs, table);
                 } else {
                     if (trackedFirstOrLastIndex >= 0) {
+                        primaryIndex = trackedFirstOrLastIndex;
                         operator = ((FirstOrLastChunkedOperator) operators.get(trackedFirstOrLastIndex))
                                 .makeSecondaryOperator(isFirst, resultMatchPairs, table, exposeRedirectionAs);
                     } else {
@@ -554,7 +605,7 @@ public class AggregationProcessor implements AggregationContextFactory {
             } else {
                 operator = new StaticFirstOrLastChunkedOperator(isFirst, resultMatchPairs, table, exposeRedirectionAs);
             }
-            addNoInputOperator(operator);
+            addDependentOperator(primaryIndex, operator, null, ZERO_LENGTH_STRING_ARRAY);
         }
 
         final void addSortedFirstOrLastOperator(@NotNull final List<SortColumn> sortColumns, final boolean isFirst) {
@@ -622,6 +673,7 @@ public class AggregationProcessor implements AggregationContextFactory {
             }).collect(Collectors.toList());
 
             final LongWeightRecordingInternalOperator longWeightOperator;
+            final int longWeightOperatorIndex = operators.size();
             if (anyIntegerResults.booleanValue()) {
                 longWeightOperator = new LongWeightRecordingInternalOperator(weightSource.getChunkType());
                 addOperator(longWeightOperator, weightSource, Stream.of(weightName),
@@ -632,6 +684,7 @@ public class AggregationProcessor implements AggregationContextFactory {
             }
 
             final DoubleWeightRecordingInternalOperator doubleWeightOperator;
+            final int doubleWeightOperatorIndex = operators.size();
             if (anyFloatingPointResults.booleanValue()) {
                 doubleWeightOperator = new DoubleWeightRecordingInternalOperator(weightSource.getChunkType());
                 addOperator(doubleWeightOperator, weightSource, Stream.of(weightName),
@@ -643,6 +696,12 @@ public class AggregationProcessor implements AggregationContextFactory {
 
             results.forEach(r -> {
                 final IterativeChunkedAggregationOperator resultOperator;
+                final int weightOperatorIndex;
+                if (isSum && r.type == WeightedOpResultType.INTEGER) {
+                    weightOperatorIndex = longWeightOperatorIndex;
+                } else {
+                    weightOperatorIndex = doubleWeightOperatorIndex;
+                }
                 if (isSum) {
                     if (r.type == WeightedOpResultType.INTEGER) {
                         resultOperator = new LongChunkedWeightedSumOperator(
@@ -655,7 +714,8 @@ public class AggregationProcessor implements AggregationContextFactory {
                     resultOperator = new ChunkedWeightedAverageOperator(
                             r.source.getChunkType(), doubleWeightOperator, r.pair.output().name());
                 }
-                addOperator(resultOperator, r.source, r.pair.input().name(), weightName);
+                addDependentOperator(weightOperatorIndex, resultOperator, r.source, r.pair.input().name(),
+                        weightName);
             });
         }
     }
@@ -943,6 +1003,11 @@ public class AggregationProcessor implements AggregationContextFactory {
             super(table, requireStateChangeRecorder, groupByColumnNames);
         }
 
+        @Override
+        boolean supportsParallelInitialization() {
+            return true;
+        }
+
         // -------------------------------------------------------------------------------------------------------------
         // RollupAggregation.Visitor
         // -------------------------------------------------------------------------------------------------------------
@@ -1079,6 +1144,11 @@ public class AggregationProcessor implements AggregationContextFactory {
             super(table, requireStateChangeRecorder, groupByColumnNames);
         }
 
+        @Override
+        boolean supportsParallelInitialization() {
+            return true;
+        }
+
         // -------------------------------------------------------------------------------------------------------------
         // RollupAggregation.Visitor
         // -------------------------------------------------------------------------------------------------------------
@@ -1242,6 +1312,7 @@ public class AggregationProcessor implements AggregationContextFactory {
         private void reaggregateAvgOperator() {
             for (final Pair pair : resultPairs) {
                 final String resultName = pair.output().name();
+                final int firstOperatorIndex = operators.size();
 
                 final String runningSumName = resultName + ROLLUP_RUNNING_SUM_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
                 final Class<?> runningSumType = table.getColumnSource(runningSumName).getType();
@@ -1285,12 +1356,15 @@ public class AggregationProcessor implements AggregationContextFactory {
                     addOperator(new IntegralChunkedReAvgOperator(resultName, runningSumOp, nonNullCountOp),
                             null, nonNullCountName, runningSumName);
                 }
+                // The re-average operator reads the sum operators' results
+                markSharedStateFrom(firstOperatorIndex);
             }
         }
 
         private void reaggregateStdOrVarOperators(final boolean isStd) {
             for (final Pair pair : resultPairs) {
                 final String resultName = pair.output().name();
+                final int firstOperatorIndex = operators.size();
 
                 final String runningSumName = resultName + ROLLUP_RUNNING_SUM_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
                 final Class<?> runningSumType = table.getColumnSource(runningSumName).getType();
@@ -1336,6 +1410,8 @@ public class AggregationProcessor implements AggregationContextFactory {
                             runningSumOp, runningSum2Op, nonNullCountOp),
                             null, nonNullCountName, runningSumName, runningSum2Name);
                 }
+                // The re-variance operator reads the sum operators' results
+                markSharedStateFrom(firstOperatorIndex);
             }
         }
 
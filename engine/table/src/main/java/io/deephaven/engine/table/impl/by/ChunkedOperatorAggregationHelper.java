@@ -6,6 +6,7 @@ package io.deephaven.engine.table.impl.by;
 import gnu.trove.impl.Constants;
 import gnu.trove.map.TObjectIntMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
+import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.api.ColumnName;
 import io.deephaven.base.Pair;
 import io.deephaven.base.verify.Assert;
@@ -17,11 +18,13 @@ import io.deephaven.chunk.attributes.Values;
 import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.*;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeyRanges;
 import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.*;
 import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
+import io.deephaven.engine.table.impl.indexer.IncrementalDataIndex;
 import io.deephaven.engine.table.impl.indexer.RowSetIndexer;
 import io.deephaven.engine.table.impl.remote.ConstructSnapshot;
 import io.deephaven.engine.table.impl.sort.findruns.IntFindRunsKernel;
@@ -33,6 +36,8 @@ import io.deephaven.engine.table.impl.sources.ObjectArraySource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializationPoolJobScheduler;
 import io.deephaven.engine.table.impl.util.UpdateSizeCalculator;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableArray;
@@ -49,6 +54,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -65,10 +73,36 @@ public class ChunkedOperatorAggregationHelper {
             Configuration.getInstance().getBooleanWithDefault("ChunkedOperatorAggregationHelper.skipRunFind", false);
     static final boolean HASHED_RUN_FIND =
             Configuration.getInstance().getBooleanWithDefault("ChunkedOperatorAggregationHelper.hashedRunFind", true);
+    /**
+     * Whether to process independent groups of operators concurrently during initialization, for aggregations that
+     * support it (currently the levels of a rollup).
+     */
+    static boolean ENABLE_PARALLEL_INITIALIZATION =
+            Configuration.getInstance().getBooleanWithDefault(
+                    "ChunkedOperatorAggregationHelper.enableParallelInitialization", true);
+    /**
+     * Whether to use parallel initialization regardless of input size; for testing.
+     */
+    static boolean FORCE_PARALLEL_INITIALIZATION =
+            Configuration.getInstance().getBooleanWithDefault(
+                    "ChunkedOperatorAggregationHelper.forceParallelInitialization", false);
+    static final int PARALLEL_CHUNK_SIZE =
+            Configuration.getInstance().getIntegerWithDefault(
+                    "ChunkedOperatorAggregationHelper.parallelChunkSize", 1 << 16);
     static boolean USE_OPEN_ADDRESSED_STATE_MANAGER =
             Configuration.getInstance().getBooleanWithDefault(
                     "ChunkedOperatorAggregationHelper.useOpenAddressedStateManager",
                     true);
+    /**
+     * Whether to use the experimental Swiss table state managers (see {@link SwissTableUtil}) for static aggregations
+     * with a single key column. This is an opt-in trial of the layout for that one path only: incremental and multi-key
+     * aggregations, natural joins, multi-joins and the other by/typed hashers always use the generated open-addressed
+     * hashers, and the Swiss table layout is not implemented for them.
+     */
+    static boolean USE_SWISS_TABLE_STATE_MANAGER =
+            Configuration.getInstance().getBooleanWithDefault(
+                    "ChunkedOperatorAggregationHelper.useSwissTableStateManager",
+                    false);
 
     public static QueryTable aggregation(
             @NotNull final AggregationContextFactory aggregationContextFactory,
@@ -166,10 +200,16 @@ public class ChunkedOperatorAggregationHelper {
         } else {
             useGrouping = false;
         }
+        // the input may carry an incrementally maintained or persisted data index we can build from instead
+        final IncrementalDataIndex dataIndex = !useGrouping && !usePrev
+                && Arrays.equals(reinterpretedKeySources, keySources)
+                        ? IncrementalDataIndex.getDataIndex(input, keyNames)
+                        : null;
+        final boolean useDataIndex = dataIndex != null && dataIndex.isCurrent();
 
         final Table symbolTable;
         final boolean useSymbolTable;
-        if (!input.isRefreshing() && control.considerSymbolTables(input, useGrouping, keySources)) {
+        if (!input.isRefreshing() && control.considerSymbolTables(input, useGrouping || useDataIndex, keySources)) {
             Assert.eq(keySources.length, "keySources.length", 1);
 
             symbolTable = ((SymbolTableSource<?>) keySources[0]).getStaticSymbolTable(input.getRowSet(),
@@ -182,7 +222,7 @@ public class ChunkedOperatorAggregationHelper {
 
         final MutableInt outputPosition = new MutableInt();
         final Supplier<OperatorAggregationStateManager> stateManagerSupplier =
-                () -> makeStateManager(control, input, keySources, reinterpretedKeySources, ac,
+                () -> makeStateManager(control, input, keyNames, keySources, reinterpretedKeySources, ac,
                         useSymbolTable ? symbolTable : null);
         final OperatorAggregationStateManager stateManager;
         if (initialKeys == null) {
@@ -194,9 +234,19 @@ public class ChunkedOperatorAggregationHelper {
 
         final RowSetBuilderRandom initialRowsBuilder =
                 initialKeys != null && !preserveEmpty ? new BitmapRandomBuilder(stateManager.maxTableSize() - 1) : null;
-        if (useGrouping) {
-            initialGroupedKeyAddition(input, reinterpretedKeySources, ac, stateManager, outputPosition,
-                    initialRowsBuilder, usePrev);
+        if (useDataIndex && keySources.length > 1) {
+            initialDataIndexKeyAddition(keySources, dataIndex, ac, stateManager, outputPosition, initialRowsBuilder);
+        } else if (useGrouping || useDataIndex) {
+            final Map<Object, RowSet> grouping;
+            if (useDataIndex) {
+                grouping = dataIndex.getGroupingInFirstAppearanceOrder();
+            } else {
+                final RowSetIndexer indexer = RowSetIndexer.of(input.getRowSet());
+                grouping = usePrev ? indexer.getPrevGrouping(reinterpretedKeySources[0])
+                        : indexer.getGrouping(reinterpretedKeySources[0]);
+            }
+            initialGroupedKeyAddition(reinterpretedKeySources, grouping, ac, stateManager, outputPosition,
+                    initialRowsBuilder);
         } else {
             initialBucketedKeyAddition(input, reinterpretedKeySources, ac, permuteKernels, stateManager,
                     outputPosition, initialRowsBuilder, usePrev);
@@ -304,37 +354,42 @@ public class ChunkedOperatorAggregationHelper {
 
     private static OperatorAggregationStateManager makeStateManager(
             @NotNull final AggregationControl control, @NotNull final QueryTable input,
-            @NotNull final ColumnSource<?>[] keySources, @NotNull final ColumnSource<?>[] reinterpretedKeySources,
+            @NotNull final String[] keyNames, @NotNull final ColumnSource<?>[] keySources,
+            @NotNull final ColumnSource<?>[] reinterpretedKeySources,
             @NotNull final AggregationContext ac,
             @Nullable final Table symbolTableToUse) {
         final OperatorAggregationStateManager stateManager;
+        final int initialHashTableSize = control.initialHashTableSize(input, keyNames);
         if (input.isRefreshing()) {
             if (USE_OPEN_ADDRESSED_STATE_MANAGER) {
                 stateManager = TypedHasherFactory.make(
                         IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.class,
                         reinterpretedKeySources,
-                        keySources, control.initialHashTableSize(input), control.getMaximumLoadFactor(),
+                        keySources, initialHashTableSize, control.getMaximumLoadFactor(),
                         control.getTargetLoadFactor());
             } else {
                 stateManager = TypedHasherFactory.make(
                         IncrementalChunkedOperatorAggregationStateManagerTypedBase.class, reinterpretedKeySources,
-                        keySources, control.initialHashTableSize(input), control.getMaximumLoadFactor(),
+                        keySources, initialHashTableSize, control.getMaximumLoadFactor(),
                         control.getTargetLoadFactor());
             }
         } else {
             if (symbolTableToUse != null) {
                 stateManager = new StaticSymbolTableChunkedOperatorAggregationStateManager(reinterpretedKeySources[0],
                         symbolTableToUse);
+            } else if (USE_SWISS_TABLE_STATE_MANAGER && reinterpretedKeySources.length == 1
+                    && reinterpretedKeySources[0].getChunkType() != ChunkType.Boolean) {
+                stateManager = makeSwissStateManager(control, initialHashTableSize, reinterpretedKeySources[0]);
             } else if (USE_OPEN_ADDRESSED_STATE_MANAGER) {
                 stateManager = TypedHasherFactory.make(
                         StaticChunkedOperatorAggregationStateManagerOpenAddressedBase.class,
                         reinterpretedKeySources,
-                        keySources, control.initialHashTableSize(input), control.getMaximumLoadFactor(),
+                        keySources, initialHashTableSize, control.getMaximumLoadFactor(),
                         control.getTargetLoadFactor());
             } else {
                 stateManager = TypedHasherFactory.make(
                         StaticChunkedOperatorAggregationStateManagerTypedBase.class, reinterpretedKeySources,
-                        keySources, control.initialHashTableSize(input), control.getMaximumLoadFactor(),
+                        keySources, initialHashTableSize, control.getMaximumLoadFactor(),
                         control.getTargetLoadFactor());
             }
         }
@@ -342,6 +397,33 @@ public class ChunkedOperatorAggregationHelper {
         return stateManager;
     }
 
+    private static OperatorAggregationStateManager makeSwissStateManager(
+            @NotNull final AggregationControl control, final int tableSize,
+            @NotNull final ColumnSource<?> reinterpretedKeySource) {
+        final double maximumLoadFactor = control.getMaximumLoadFactor();
+        switch (reinterpretedKeySource.getChunkType()) {
+            case Char:
+                return new CharSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Byte:
+                return new ByteSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Short:
+                return new ShortSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Int:
+                return new IntSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Long:
+                return new LongSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Float:
+                return new FloatSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Double:
+                return new DoubleSwissAggregationStateManager(tableSize, maximumLoadFactor);
+            case Object:
+                return new ObjectSwissAggregationStateManager(reinterpretedKeySource, tableSize, maximumLoadFactor);
+            default:
+                throw new IllegalStateException(
+                        "Unexpected chunk type for Swiss table key: " + reinterpretedKeySource.getChunkType());
+        }
+    }
+
     private static TableUpdate adjustForBlinkTable(@NotNull final TableUpdate upstream) {
         // Blink table aggregations never have modifies or shifts from their parent:
         Assert.assertion(upstream.modified().isEmpty() && upstream.shifted().empty(),
@@ -1759,6 +1841,17 @@ public class ChunkedOperatorAggregationHelper {
             return;
         }
 
+        final int[][] parallelOperatorGroups = ac.parallelOperatorGroups();
+        if (parallelOperatorGroups != null && ENABLE_PARALLEL_INITIALIZATION
+                && OperationInitializationThreadPool.canParallelize()
+                && (FORCE_PARALLEL_INITIALIZATION || rowSet.size() > PARALLEL_CHUNK_SIZE)) {
+            try (final SafeCloseable ignored = usePrev ? rowSet : null) {
+                initialBucketedKeyAdditionParallel(rowSet, buildSources, ac, permuteKernels, stateManager,
+                        outputPosition, initialRowsBuilder, usePrev, parallelOperatorGroups);
+            }
+            return;
+        }
+
         final int chunkSize = chunkSize(rowSet.size());
 
         try (final SafeCloseable bc = stateManager.makeAggregationStateBuildContext(buildSources, chunkSize);
@@ -1831,17 +1924,151 @@ public class ChunkedOperatorAggregationHelper {
         }
     }
 
-    private static void initialGroupedKeyAddition(QueryTable input,
+    /**
+     * A variant of {@link #initialBucketedKeyAddition} that builds states serially, but then processes independent
+     * groups of operators concurrently on the {@link OperationInitializationThreadPool}. Chunks are larger than usual
+     * in order to amortize the cost of handing each one off to the pool.
+     */
+    private static void initialBucketedKeyAdditionParallel(
+            final RowSet rowSet,
+            final ColumnSource<?>[] buildSources,
+            final AggregationContext ac,
+            final PermuteKernel[] permuteKernels,
+            final OperatorAggregationStateManager stateManager,
+            final MutableInt outputPosition,
+            final RowSetBuilderRandom initialRowsBuilder,
+            final boolean usePrev,
+            final int[][] operatorGroups) {
+        final boolean findRuns = ac.requiresRunFinds(SKIP_RUN_FIND);
+        final int chunkSize = (int) Math.min(rowSet.size(), PARALLEL_CHUNK_SIZE);
+        final int numGroups = operatorGroups.length;
+
+        final JobScheduler jobScheduler = new OperationInitializationPoolJobScheduler();
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+
+        final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[ac.size()];
+        // noinspection unchecked
+        final WritableChunk<Values>[] workingChunks = findRuns ? new WritableChunk[ac.size()] : null;
+        final Chunk<? extends Values>[] valueChunks = new Chunk[ac.size()];
+        final IterativeChunkedAggregationOperator.BucketedContext[] bucketedContexts =
+                new IterativeChunkedAggregationOperator.BucketedContext[ac.size()];
+        final SharedContext[] sharedContexts = new SharedContext[numGroups];
+        // noinspection unchecked
+        final WritableBooleanChunk<Values>[] unusedModifiedSlots = new WritableBooleanChunk[numGroups];
+
+        try (final SafeCloseable bc = stateManager.makeAggregationStateBuildContext(buildSources, chunkSize);
+                final SafeCloseable ignored1 = new SafeCloseableArray<>(getContexts);
+                final SafeCloseable ignored2 = findRuns ? new SafeCloseableArray<>(workingChunks) : null;
+                final SafeCloseable ignored3 = new SafeCloseableArray<>(bucketedContexts);
+                final SafeCloseable ignored4 = new SafeCloseableArray<>(sharedContexts);
+                final SafeCloseable ignored5 = new SafeCloseableArray<>(unusedModifiedSlots);
+                final RowSequence.Iterator rsIt = rowSet.getRowSequenceIterator();
+                final WritableLongChunk<OrderedRowKeyRanges> keyRanges =
+                        WritableLongChunk.makeWritableChunk(2 * chunkSize);
+                final WritableIntChunk<RowKeys> outputPositions = WritableIntChunk.makeWritableChunk(chunkSize);
+                final WritableIntChunk<ChunkPositions> chunkPosition = WritableIntChunk.makeWritableChunk(chunkSize);
+                final IntIntTimsortKernel.IntIntSortKernelContext<RowKeys, ChunkPositions> sortKernelContext =
+                        !findRuns || HASHED_RUN_FIND ? null : IntIntTimsortKernel.createContext(chunkSize);
+                final HashedRunFinder.HashedRunContext hashedRunContext =
+                        !findRuns || !HASHED_RUN_FIND ? null : new HashedRunFinder.HashedRunContext(chunkSize);
+                final WritableIntChunk<ChunkPositions> runStarts = WritableIntChunk.makeWritableChunk(chunkSize);
+                final WritableIntChunk<ChunkLengths> runLengths = WritableIntChunk.makeWritableChunk(chunkSize);
+                final WritableLongChunk<RowKeys> permutedKeyIndices =
+                        ac.requiresIndices() ? WritableLongChunk.makeWritableChunk(chunkSize) : null) {
+            // Each group gets its own shared context, since shared contexts are not thread-safe
+            for (int gi = 0; gi < numGroups; ++gi) {
+                final boolean[] groupMask = new boolean[ac.size()];
+                for (final int oi : operatorGroups[gi]) {
+                    groupMask[oi] = true;
+                }
+                sharedContexts[gi] = SharedContext.makeSharedContext();
+                unusedModifiedSlots[gi] = WritableBooleanChunk.makeWritableChunk(chunkSize);
+                ac.initializeGetContexts(sharedContexts[gi], getContexts, chunkSize, groupMask);
+            }
+            if (findRuns) {
+                ac.initializeWorkingChunks(workingChunks, chunkSize);
+            }
+            ac.initializeBucketedContexts(bucketedContexts, chunkSize);
+
+            while (rsIt.hasMore()) {
+                final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(chunkSize);
+
+                stateManager.add(bc, chunkOk, buildSources, outputPosition, outputPositions);
+                if (initialRowsBuilder != null) {
+                    initialRowsBuilder.addRowKeysChunk(outputPositions);
+                }
+
+                ac.ensureCapacity(outputPosition.intValue());
+
+                final boolean permute = findSlotRuns(sortKernelContext, hashedRunContext, runStarts, runLengths,
+                        chunkPosition, outputPositions,
+                        findRuns);
+
+                if (permutedKeyIndices != null) {
+                    if (permute) {
+                        final LongChunk<OrderedRowKeys> keyIndices = chunkOk.asRowKeyChunk();
+                        permutedKeyIndices.setSize(keyIndices.size());
+                        LongPermuteKernel.permuteInput(keyIndices, chunkPosition, permutedKeyIndices);
+                    } else {
+                        chunkOk.fillRowKeyChunk(permutedKeyIndices);
+                    }
+                }
+
+                // Row sequences from the iterator are not safe for concurrent use, so each group wraps its own
+                chunkOk.fillRowKeyRangesChunk(keyRanges);
+
+                final CompletableFuture<Void> waitForGroups = new CompletableFuture<>();
+                jobScheduler.iterateParallel(executionContext,
+                        logOutput -> logOutput.append("ChunkedOperatorAggregationHelper-initialBucketedKeyAddition"),
+                        JobScheduler.DEFAULT_CONTEXT_FACTORY, 0, numGroups,
+                        (unused, gi, nestedErrorConsumer) -> {
+                            sharedContexts[gi].reset();
+                            try (final RowSequence groupOk =
+                                    RowSequenceFactory.wrapKeyRangesChunkAsRowSequence(keyRanges)) {
+                                for (final int oi : operatorGroups[gi]) {
+                                    final int inputSlot = ac.inputSlot(oi);
+                                    if (oi == inputSlot) {
+                                        if (!permute) {
+                                            valueChunks[inputSlot] =
+                                                    getChunk(ac.inputColumns[oi], getContexts[oi], groupOk, usePrev);
+                                        } else {
+                                            assert workingChunks != null;
+                                            valueChunks[inputSlot] = getAndPermuteChunk(ac.inputColumns[oi],
+                                                    getContexts[oi], groupOk, usePrev, permuteKernels[oi],
+                                                    chunkPosition, workingChunks[oi]);
+                                        }
+                                    }
+                                    ac.operators[oi].addChunk(bucketedContexts[oi],
+                                            inputSlot >= 0 ? valueChunks[inputSlot] : null,
+                                            permutedKeyIndices, outputPositions, runStarts, runLengths,
+                                            unusedModifiedSlots[gi]);
+                                }
+                            }
+                        },
+                        () -> waitForGroups.complete(null),
+                        waitForGroups::completeExceptionally);
+                try {
+                    waitForGroups.get();
+                } catch (InterruptedException e) {
+                    throw new CancellationException("interrupted while computing aggregation");
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new UncheckedDeephavenException("Failure computing aggregation", e.getCause());
+                }
+            }
+        }
+    }
+
+    private static void initialGroupedKeyAddition(
             ColumnSource<?>[] reinterpretedKeySources,
+            Map<Object, RowSet> grouping,
             AggregationContext ac,
             OperatorAggregationStateManager stateManager,
             MutableInt outputPosition,
-            RowSetBuilderRandom initialRowsBuilder,
-            boolean usePrev) {
+            RowSetBuilderRandom initialRowsBuilder) {
         final Pair<WritableColumnSource, ObjectArraySource<RowSet>> groupKeyIndexTable;
-        final RowSetIndexer indexer = RowSetIndexer.of(input.getRowSet());
-        final Map<Object, RowSet> grouping = usePrev ? indexer.getPrevGrouping(reinterpretedKeySources[0])
-                : indexer.getGrouping(reinterpretedKeySources[0]);
         // noinspection unchecked
         groupKeyIndexTable =
                 GroupingUtils.groupingToFlatSources((ColumnSource) reinterpretedKeySources[0], grouping);
@@ -1851,9 +2078,61 @@ public class ChunkedOperatorAggregationHelper {
             return;
         }
 
-        ac.ensureCapacity(responsiveGroups);
-
         final ColumnSource[] groupedFlatKeySource = {groupKeyIndexTable.first};
+        initialFlatGroupAddition(groupedFlatKeySource, groupKeyIndexTable.second::get, responsiveGroups, ac,
+                stateManager, outputPosition, initialRowsBuilder);
+    }
+
+    /**
+     * Add the initial groups of a multi-column {@link IncrementalDataIndex}, by exporting each key tuple's elements to
+     * flat key columns, so that the key columns of the input need not be read.
+     */
+    private static void initialDataIndexKeyAddition(
+            ColumnSource<?>[] keySources,
+            IncrementalDataIndex dataIndex,
+            AggregationContext ac,
+            OperatorAggregationStateManager stateManager,
+            MutableInt outputPosition,
+            RowSetBuilderRandom initialRowsBuilder) {
+        final Map<Object, RowSet> grouping = dataIndex.getGroupingInFirstAppearanceOrder();
+        final int responsiveGroups = grouping.size();
+        if (responsiveGroups == 0) {
+            return;
+        }
+
+        // noinspection rawtypes
+        final TupleSource tupleSource = dataIndex.tupleSource();
+        final WritableColumnSource<?>[] groupedFlatKeySources = new WritableColumnSource[keySources.length];
+        for (int kci = 0; kci < keySources.length; ++kci) {
+            groupedFlatKeySources[kci] = ArrayBackedColumnSource.getMemoryColumnSource(responsiveGroups,
+                    keySources[kci].getType(), keySources[kci].getComponentType());
+        }
+        final ObjectArraySource<RowSet> groupRowSets = new ObjectArraySource<>(RowSet.class);
+        groupRowSets.ensureCapacity(responsiveGroups);
+
+        int groupIndex = 0;
+        for (final Map.Entry<Object, RowSet> group : grouping.entrySet()) {
+            for (int kci = 0; kci < keySources.length; ++kci) {
+                // noinspection unchecked
+                tupleSource.exportElement(group.getKey(), kci, groupedFlatKeySources[kci], groupIndex);
+            }
+            groupRowSets.set(groupIndex, group.getValue());
+            ++groupIndex;
+        }
+
+        initialFlatGroupAddition(groupedFlatKeySources, groupRowSets::get, responsiveGroups, ac, stateManager,
+                outputPosition, initialRowsBuilder);
+    }
+
+    private static void initialFlatGroupAddition(
+            ColumnSource<?>[] groupedFlatKeySource,
+            LongFunction<RowSet> groupIndexToRowSet,
+            int responsiveGroups,
+            AggregationContext ac,
+            OperatorAggregationStateManager stateManager,
+            MutableInt outputPosition,
+            RowSetBuilderRandom initialRowsBuilder) {
+        ac.ensureCapacity(responsiveGroups);
 
         try (final SafeCloseable bc =
                 stateManager.makeAggregationStateBuildContext(groupedFlatKeySource, responsiveGroups);
@@ -1871,7 +2150,7 @@ public class ChunkedOperatorAggregationHelper {
             Assert.eq(outputPosition.intValue(), "outputPosition.intValue()", responsiveGroups, "responsiveGroups");
         }
 
-        doGroupedAddition(ac, groupKeyIndexTable.second::get, responsiveGroups, CHUNK_SIZE);
+        doGroupedAddition(ac, groupIndexToRowSet, responsiveGroups, CHUNK_SIZE);
     }
 
     private static RowSet makeNewStatesRowSet(final int first, final int last) {
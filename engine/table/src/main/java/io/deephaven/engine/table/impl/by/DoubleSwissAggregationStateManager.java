@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+/*
+ * ---------------------------------------------------------------------------------------------------------------------
+ * AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY - for any changes edit CharSwissAggregationStateManager and regenerate
+ * ---------------------------------------------------------------------------------------------------------------------
+ */
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.DoubleChunkHasher;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sources.DoubleArraySource;
+import io.deephaven.engine.table.impl.util.TypedHasherUtil.BuildOrProbeContext.BuildContext;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.compare.DoubleComparisons;
+import io.deephaven.util.type.TypeUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
+
+import java.util.Arrays;
+
+import static io.deephaven.engine.table.impl.by.SwissTableUtil.*;
+
+/**
+ * Static aggregation state manager for a single double key column, laid out as a Swiss table (see
+ * {@link SwissTableUtil}). Each slot's key and output position are stored next to each other in one array, so a probe
+ * whose fingerprint matches reads a single cache line instead of one per key and state source.
+ */
+final class DoubleSwissAggregationStateManager implements OperatorAggregationStateManager {
+
+    private static final int CHUNK_SIZE = ChunkedOperatorAggregationHelper.CHUNK_SIZE;
+    /** The largest table whose {@link #slots} array, two longs per slot, still fits in a Java array. */
+    private static final int MAX_TABLE_SIZE = 1 << 29;
+
+    private final double maximumLoadFactor;
+
+    /** The number of slots in our table, a power of two no smaller than {@link SwissTableUtil#GROUP_SIZE}. */
+    private int tableSize;
+    private int numEntries;
+
+    /** One control word for each group of slots. */
+    private long[] controlWords;
+    /** The key bits and output position of each slot, interleaved. */
+    private long[] slots;
+
+    /** The key for each output position. */
+    private final DoubleArraySource outputKeys = new DoubleArraySource();
+
+    DoubleSwissAggregationStateManager(final int tableSize, final double maximumLoadFactor) {
+        this.tableSize = Math.min(MAX_TABLE_SIZE, Math.max(GROUP_SIZE, tableSize));
+        this.maximumLoadFactor = maximumLoadFactor;
+        controlWords = new long[this.tableSize >> GROUP_SHIFT];
+        Arrays.fill(controlWords, EMPTY_GROUP);
+        slots = new long[this.tableSize * 2];
+    }
+
+    @Override
+    public int maxTableSize() {
+        return MAX_TABLE_SIZE;
+    }
+
+    @Override
+    public SafeCloseable makeAggregationStateBuildContext(final ColumnSource<?>[] buildSources, final long maxSize) {
+        return new BuildContext(buildSources, (int) Math.min(CHUNK_SIZE, maxSize));
+    }
+
+    @Override
+    public void add(
+            final SafeCloseable bc,
+            final RowSequence rowSequence,
+            final ColumnSource<?>[] sources,
+            final MutableInt nextOutputPosition,
+            final WritableIntChunk<RowKeys> outputPositions) {
+        outputPositions.setSize(rowSequence.intSize());
+        if (rowSequence.isEmpty()) {
+            return;
+        }
+        final BuildContext buildContext = (BuildContext) bc;
+        try (final RowSequence.Iterator rsIt = rowSequence.getRowSequenceIterator()) {
+            int outputOffset = 0;
+            while (rsIt.hasMore()) {
+                final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(buildContext.chunkSize);
+                final DoubleChunk<? extends Values> keyChunk =
+                        sources[0].getChunk(buildContext.getContexts[0], chunkOk).asDoubleChunk();
+                final int chunkSize = keyChunk.size();
+                maybeGrow(chunkSize);
+                outputKeys.ensureCapacity(nextOutputPosition.intValue() + chunkSize);
+                for (int ii = 0; ii < chunkSize; ++ii) {
+                    outputPositions.set(outputOffset + ii, findOrInsert(keyChunk.get(ii), nextOutputPosition));
+                }
+                outputOffset += chunkSize;
+            }
+        }
+    }
+
+    private int findOrInsert(final double key, final MutableInt nextOutputPosition) {
+        final int hash = mix(DoubleChunkHasher.hashInitialSingle(key));
+        final long fingerprint = fingerprint(hash);
+        final int groupMask = controlWords.length - 1;
+        int group = firstGroup(hash, groupMask);
+        for (int probeCount = 1;; ++probeCount) {
+            final long controlWord = controlWords[group];
+            for (long matches = matchFingerprint(controlWord, fingerprint); matches != 0; matches &= matches - 1) {
+                final int slot = (group << GROUP_SHIFT) | firstMatch(matches);
+                if (DoubleComparisons.eq(keyFromBits(slots[slot * 2]), key)) {
+                    return (int) slots[slot * 2 + 1];
+                }
+            }
+            final long empties = matchEmpty(controlWord);
+            if (empties != 0) {
+                final int slotInGroup = firstMatch(empties);
+                final int slot = (group << GROUP_SHIFT) | slotInGroup;
+                final int outputPosition = nextOutputPosition.getAndIncrement();
+                controlWords[group] = setControl(controlWord, slotInGroup, fingerprint);
+                slots[slot * 2] = keyBits(key);
+                slots[slot * 2 + 1] = outputPosition;
+                outputKeys.set(outputPosition, key);
+                ++numEntries;
+                return outputPosition;
+            }
+            group = nextGroup(group, probeCount, groupMask);
+        }
+    }
+
+    private void maybeGrow(final int nextChunkSize) {
+        int newTableSize = tableSize;
+        while (numEntries + nextChunkSize > newTableSize * maximumLoadFactor) {
+            newTableSize *= 2;
+            if (newTableSize <= 0 || newTableSize > MAX_TABLE_SIZE) {
+                throw new UnsupportedOperationException("Hash table exceeds maximum size!");
+            }
+        }
+        if (newTableSize == tableSize) {
+            return;
+        }
+
+        final long[] oldControlWords = controlWords;
+        final long[] oldSlots = slots;
+        tableSize = newTableSize;
+        controlWords = new long[tableSize >> GROUP_SHIFT];
+        Arrays.fill(controlWords, EMPTY_GROUP);
+        slots = new long[tableSize * 2];
+
+        final int groupMask = controlWords.length - 1;
+        for (int oldGroup = 0; oldGroup < oldControlWords.length; ++oldGroup) {
+            final long oldControlWord = oldControlWords[oldGroup];
+            for (long full = ~matchEmpty(oldControlWord) & EMPTY_GROUP; full != 0; full &= full - 1) {
+                final int oldSlot = (oldGroup << GROUP_SHIFT) | firstMatch(full);
+                final long bits = oldSlots[oldSlot * 2];
+                final int hash = mix(DoubleChunkHasher.hashInitialSingle(keyFromBits(bits)));
+                int group = firstGroup(hash, groupMask);
+                for (int probeCount = 1;; ++probeCount) {
+                    final long empties = matchEmpty(controlWords[group]);
+                    if (empties != 0) {
+                        final int slotInGroup = firstMatch(empties);
+                        final int slot = (group << GROUP_SHIFT) | slotInGroup;
+                        controlWords[group] = setControl(controlWords[group], slotInGroup, fingerprint(hash));
+                        slots[slot * 2] = bits;
+                        slots[slot * 2 + 1] = oldSlots[oldSlot * 2 + 1];
+                        break;
+                    }
+                    group = nextGroup(group, probeCount, groupMask);
+                }
+            }
+        }
+    }
+
+    // region keyBits
+    private static long keyBits(final double key) {
+        return Double.doubleToRawLongBits(key);
+    }
+
+    private static double keyFromBits(final long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+    // endregion keyBits
+
+    @Override
+    public ColumnSource[] getKeyHashTableSources() {
+        return new ColumnSource[] {outputKeys};
+    }
+
+    @Override
+    public int findPositionForKey(final Object key) {
+        final double k0 = TypeUtils.unbox((Double) key);
+        final int hash = mix(DoubleChunkHasher.hashInitialSingle(k0));
+        final long fingerprint = fingerprint(hash);
+        final int groupMask = controlWords.length - 1;
+        int group = firstGroup(hash, groupMask);
+        for (int probeCount = 1;; ++probeCount) {
+            final long controlWord = controlWords[group];
+            for (long matches = matchFingerprint(controlWord, fingerprint); matches != 0; matches &= matches - 1) {
+                final int slot = (group << GROUP_SHIFT) | firstMatch(matches);
+                if (DoubleComparisons.eq(keyFromBits(slots[slot * 2]), k0)) {
+                    return (int) slots[slot * 2 + 1];
+                }
+            }
+            if (matchEmpty(controlWord) != 0) {
+                return UNKNOWN_ROW;
+            }
+            group = nextGroup(group, probeCount, groupMask);
+        }
+    }
+}
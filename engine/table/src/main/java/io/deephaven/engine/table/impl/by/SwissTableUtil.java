@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.by;
+
+/**
+ * Control word operations for the Swiss table state managers, e.g. {@link CharSwissAggregationStateManager}.
+ * <p>
+ * Slots are grouped in eights, and each group has a {@code long} control word with one byte per slot. A control byte
+ * is either {@link #EMPTY_CONTROL} (high bit set) or a seven bit fingerprint of the hash of the key in that slot.
+ * Probing a group compares all eight control bytes against the key's fingerprint with a handful of word operations, so
+ * keys are only read for slots whose fingerprint matches.
+ * <p>
+ * This layout is experimental and only backs static, single-key aggregations, when
+ * {@code ChunkedOperatorAggregationHelper.useSwissTableStateManager} is set. Join and incremental hashers do not use it.
+ */
+final class SwissTableUtil {
+
+    static final int GROUP_SHIFT = 3;
+    static final int GROUP_SIZE = 1 << GROUP_SHIFT;
+
+    static final long EMPTY_CONTROL = 0x80L;
+    /** A control word with every slot empty */
+    static final long EMPTY_GROUP = 0x8080_8080_8080_8080L;
+
+    private static final long LOW_BITS = 0x0101_0101_0101_0101L;
+    private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+
+    private SwissTableUtil() {}
+
+    /**
+     * Spread the bits of a chunk hasher's output, so that both the fingerprint and the group index are well mixed.
+     */
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EB_CA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2_AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    static long fingerprint(final int mixedHash) {
+        return mixedHash & 0x7F;
+    }
+
+    static int firstGroup(final int mixedHash, final int groupMask) {
+        return (mixedHash >>> 7) & groupMask;
+    }
+
+    /**
+     * Probe groups in triangular order, which visits every group once when the number of groups is a power of two.
+     */
+    static int nextGroup(final int group, final int probeCount, final int groupMask) {
+        return (group + probeCount) & groupMask;
+    }
+
+    /**
+     * @return A word with the high bit of each byte set where {@code controlWord} may hold {@code fingerprint}. A
+     *         borrow from a true match can cause a false positive in the byte above it, so callers must compare keys.
+     */
+    static long matchFingerprint(final long controlWord, final long fingerprint) {
+        final long difference = controlWord ^ (LOW_BITS * fingerprint);
+        return (difference - LOW_BITS) & ~difference & HIGH_BITS;
+    }
+
+    /**
+     * @return A word with the high bit of each byte set where {@code controlWord} has an empty slot
+     */
+    static long matchEmpty(final long controlWord) {
+        return controlWord & HIGH_BITS;
+    }
+
+    /**
+     * @return The index within its group of the lowest slot in {@code matches}, which must be non-zero
+     */
+    static int firstMatch(final long matches) {
+        return Long.numberOfTrailingZeros(matches) >>> 3;
+    }
+
+    static long setControl(final long controlWord, final int slotInGroup, final long fingerprint) {
+        final int shift = slotInGroup << 3;
+        return (controlWord & ~(0xFFL << shift)) | (fingerprint << shift);
+    }
+}
@@ -0,0 +1,393 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.indexer;
+
+import io.deephaven.engine.liveness.LivenessArtifact;
+import io.deephaven.engine.rowset.*;
+import io.deephaven.engine.table.*;
+import io.deephaven.engine.table.impl.InstrumentedTableUpdateListenerAdapter;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.TupleSourceFactory;
+import io.deephaven.engine.updategraph.LogicalClock;
+import io.deephaven.engine.updategraph.NotificationQueue;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A mapping from the values of a table's key columns to the row keys that contain them, maintained incrementally from
+ * each {@link TableUpdate} of a refreshing table.
+ *
+ * <p>
+ * Unlike the groupings provided by {@link RowSetIndexer}, which are only retained for immutable column sources, an
+ * incremental data index survives across update cycles. Each update costs time proportional to the rows added,
+ * removed, and modified in key columns, plus the number of groups when the update includes shifts.
+ *
+ * <p>
+ * Indexes are attached to a table through its {@link Table#DATA_INDEX_ATTRIBUTE}, by
+ * {@link #addDataIndex(Table, String...)}, or for static tables with persisted indexes by
+ * {@link #addDeferredDataIndexes(QueryTable, List, Loader)}. Operations that understand data indexes look them up with
+ * {@link #getDataIndex(Table, String...)}, and must only read them while they are {@link #isCurrent() current}. An
+ * index is only used by operations on exactly its key columns, in order: set filters (whereIn/whereNotIn) and
+ * aggregations on any number of key columns, and match filters, which are single-column, on an index of one column.
+ * Joins, including naturalJoin, do not use data indexes yet.
+ */
+public class IncrementalDataIndex extends LivenessArtifact implements NotificationQueue.Dependency {
+
+    /**
+     * Get a table equivalent to {@code table}, with a data index on {@code keyColumnNames} attached as its
+     * {@link Table#DATA_INDEX_ATTRIBUTE}. If {@code table} is refreshing, the update graph lock must be held or serial
+     * table operations must otherwise be safe.
+     *
+     * @param table the table to index
+     * @param keyColumnNames the key columns to index
+     * @return {@code table} with the index attached, or {@code table} itself if it already has such an index
+     */
+    public static Table addDataIndex(@NotNull final Table table, @NotNull final String... keyColumnNames) {
+        if (getDataIndex(table, keyColumnNames) != null) {
+            return table;
+        }
+        final QueryTable source = (QueryTable) table.coalesce();
+        final List<IncrementalDataIndex> dataIndexes = new ArrayList<>(getDataIndexes(source));
+        dataIndexes.add(new IncrementalDataIndex(source, null, keyColumnNames));
+        return source.withAttributes(Map.of(Table.DATA_INDEX_ATTRIBUTE, new Attached(dataIndexes)));
+    }
+
+    /**
+     * Reads a persisted data index, for {@link #addDeferredDataIndexes(QueryTable, List, Loader)}.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * @param tupleSource the tuple source for the key columns, used to make keys from their values
+         * @param keyColumnNames the key columns
+         * @return a new map from keys to the row keys that contain them
+         */
+        Map<Object, WritableRowSet> load(@NotNull TupleSource<?> tupleSource, @NotNull String... keyColumnNames);
+    }
+
+    /**
+     * Attach data indexes on each of {@code keyColumnSets} to a static {@code table} that has not yet been published.
+     * Each index is read with {@code loader} the first time it is used, so that tables with persisted indexes pay for
+     * them only when an operation needs them.
+     *
+     * @param table the static table to index
+     * @param keyColumnSets the key columns for each index
+     * @param loader reads the persisted indexes
+     */
+    public static void addDeferredDataIndexes(@NotNull final QueryTable table,
+            @NotNull final List<String[]> keyColumnSets, @NotNull final Loader loader) {
+        if (table.isRefreshing()) {
+            throw new IllegalArgumentException("Deferred data indexes are only supported for static tables");
+        }
+        if (keyColumnSets.isEmpty()) {
+            return;
+        }
+        final List<IncrementalDataIndex> dataIndexes = new ArrayList<>(getDataIndexes(table));
+        for (final String[] keyColumnNames : keyColumnSets) {
+            dataIndexes.add(new IncrementalDataIndex(table, loader, keyColumnNames));
+        }
+        table.setAttribute(Table.DATA_INDEX_ATTRIBUTE, new Attached(dataIndexes));
+    }
+
+    /**
+     * Get the data index attached to {@code table} for exactly {@code keyColumnNames}, if it is valid for
+     * {@code table}'s row set and column sources.
+     *
+     * @param table the table
+     * @param keyColumnNames the key columns
+     * @return the data index, or {@code null} if there is none
+     */
+    @Nullable
+    public static IncrementalDataIndex getDataIndex(@NotNull final Table table,
+            @NotNull final String... keyColumnNames) {
+        for (final IncrementalDataIndex dataIndex : getDataIndexes(table)) {
+            if (dataIndex.isValidFor(table, keyColumnNames)) {
+                return dataIndex;
+            }
+        }
+        return null;
+    }
+
+    private static List<IncrementalDataIndex> getDataIndexes(@NotNull final Table table) {
+        final Object attribute = table.getAttribute(Table.DATA_INDEX_ATTRIBUTE);
+        if (!(attribute instanceof Attached)) {
+            return Collections.emptyList();
+        }
+        return ((Attached) attribute).dataIndexes;
+    }
+
+    /**
+     * The value of a table's {@link Table#DATA_INDEX_ATTRIBUTE}, which keeps its data indexes live for as long as the
+     * table is.
+     */
+    private static final class Attached extends LivenessArtifact {
+
+        private final List<IncrementalDataIndex> dataIndexes;
+
+        private Attached(@NotNull final List<IncrementalDataIndex> dataIndexes) {
+            this.dataIndexes = List.copyOf(dataIndexes);
+            this.dataIndexes.forEach(this::manage);
+        }
+    }
+
+    private boolean isValidFor(@NotNull final Table table, @NotNull final String... keyColumnNames) {
+        if (rowSet != table.getRowSet() || !Arrays.equals(this.keyColumnNames, keyColumnNames)) {
+            return false;
+        }
+        for (int ci = 0; ci < keyColumnNames.length; ++ci) {
+            if (keySources[ci] != table.getColumnSource(keyColumnNames[ci])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param table the table
+     * @return the data indexes attached to {@code table} as {@link NotificationQueue.Dependency dependencies}, if
+     *         {@code table} is refreshing, or an empty stream
+     */
+    public static Stream<NotificationQueue.Dependency> getDependencyStream(@NotNull final Table table) {
+        if (!table.isRefreshing()) {
+            return Stream.empty();
+        }
+        return getDataIndexes(table).stream().map(NotificationQueue.Dependency.class::cast);
+    }
+
+    private final UpdateGraph updateGraph;
+    private final String[] keyColumnNames;
+    private final ColumnSource<?>[] keySources;
+    private final TupleSource<?> tupleSource;
+    private final TrackingRowSet rowSet;
+    private final Map<Object, WritableRowSet> grouping = new HashMap<>();
+    private final Map<Object, RowSet> unmodifiableGrouping = Collections.unmodifiableMap(grouping);
+
+    /**
+     * The listener maintaining this index, or {@code null} if the source is static.
+     */
+    private final InstrumentedTableUpdateListenerAdapter listener;
+
+    /**
+     * Reads the grouping on first use, or {@code null} once it has been read or if it is maintained from the source.
+     */
+    private volatile Loader loader;
+
+    private volatile boolean failed;
+
+    private IncrementalDataIndex(@NotNull final QueryTable source, @Nullable final Loader loader,
+            @NotNull final String... keyColumnNames) {
+        if (keyColumnNames.length == 0) {
+            throw new IllegalArgumentException("Data indexes require at least one key column");
+        }
+        updateGraph = source.getUpdateGraph();
+        this.keyColumnNames = keyColumnNames.clone();
+        keySources = Arrays.stream(keyColumnNames).map(source::getColumnSource).toArray(ColumnSource[]::new);
+        tupleSource = TupleSourceFactory.makeTupleSource(keySources);
+        rowSet = source.getRowSet();
+
+        if (!source.isRefreshing()) {
+            if (loader == null) {
+                addRows(rowSet, tupleSource::createTuple);
+            } else {
+                this.loader = loader;
+            }
+            listener = null;
+            return;
+        }
+
+        updateGraph.checkInitiateSerialTableOperation();
+        addRows(rowSet, tupleSource::createTuple);
+
+        final ModifiedColumnSet keyColumnSet = source.newModifiedColumnSet(keyColumnNames);
+        listener = new InstrumentedTableUpdateListenerAdapter(
+                "IncrementalDataIndex(" + Arrays.toString(keyColumnNames) + ")", source, false) {
+            @Override
+            public void onUpdate(final TableUpdate upstream) {
+                final boolean keysModified = upstream.modified().isNonempty()
+                        && upstream.modifiedColumnSet().containsAny(keyColumnSet);
+                removeRows(upstream.removed(), tupleSource::createPreviousTuple);
+                if (keysModified) {
+                    removeRows(upstream.getModifiedPreShift(), tupleSource::createPreviousTuple);
+                }
+                if (upstream.shifted().nonempty()) {
+                    grouping.values().forEach(upstream.shifted()::apply);
+                }
+                addRows(upstream.added(), tupleSource::createTuple);
+                if (keysModified) {
+                    addRows(upstream.modified(), tupleSource::createTuple);
+                }
+            }
+
+            @Override
+            public void onFailureInternal(final Throwable originalException, final Entry sourceEntry) {
+                failed = true;
+            }
+        };
+        source.addUpdateListener(listener);
+        manage(listener);
+    }
+
+    private void addRows(@NotNull final RowSet rows, @NotNull final LongFunction<Object> keyFunction) {
+        for (final Map.Entry<Object, WritableRowSet> entry : groupRows(rows, keyFunction).entrySet()) {
+            final WritableRowSet existing = grouping.putIfAbsent(entry.getKey(), entry.getValue());
+            if (existing != null) {
+                existing.insert(entry.getValue());
+                entry.getValue().close();
+            }
+        }
+    }
+
+    private void removeRows(@NotNull final RowSet rows, @NotNull final LongFunction<Object> keyFunction) {
+        for (final Map.Entry<Object, WritableRowSet> entry : groupRows(rows, keyFunction).entrySet()) {
+            final WritableRowSet existing = grouping.get(entry.getKey());
+            if (existing == null) {
+                throw new IllegalStateException("Inconsistent data index, key not found: " + entry.getKey());
+            }
+            existing.remove(entry.getValue());
+            entry.getValue().close();
+            if (existing.isEmpty()) {
+                grouping.remove(entry.getKey());
+                existing.close();
+            }
+        }
+    }
+
+    private static Map<Object, WritableRowSet> groupRows(@NotNull final RowSet rows,
+            @NotNull final LongFunction<Object> keyFunction) {
+        if (rows.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<Object, RowSetBuilderSequential> builders = new HashMap<>();
+        rows.forAllRowKeys(rowKey -> builders
+                .computeIfAbsent(keyFunction.apply(rowKey), k -> RowSetFactory.builderSequential())
+                .appendKey(rowKey));
+        final Map<Object, WritableRowSet> result = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, builder) -> result.put(key, builder.build()));
+        return result;
+    }
+
+    private void ensureLoaded() {
+        if (loader == null) {
+            return;
+        }
+        synchronized (this) {
+            final Loader localLoader = loader;
+            if (localLoader == null) {
+                return;
+            }
+            grouping.putAll(localLoader.load(tupleSource, keyColumnNames));
+            loader = null;
+        }
+    }
+
+    /**
+     * @return the names of the indexed key columns
+     */
+    public List<String> keyColumnNames() {
+        return List.of(keyColumnNames);
+    }
+
+    /**
+     * @return the tuple source that produces this index's keys
+     */
+    public TupleSource<?> tupleSource() {
+        return tupleSource;
+    }
+
+    /**
+     * Whether this index reflects the current state of its table, and may be read without racing its maintenance. This
+     * is the case if the table is static, if the update graph is updating and this index has already processed the
+     * current cycle's update, or if the update graph is idle and its lock is held. Note that holding the lock while
+     * updating is not sufficient, since the refresh thread holds the exclusive lock for the entire cycle.
+     *
+     * @return whether this index may be read
+     */
+    public boolean isCurrent() {
+        if (listener == null) {
+            return true;
+        }
+        if (failed) {
+            return false;
+        }
+        final long currentClock = updateGraph.clock().currentValue();
+        if (LogicalClock.getState(currentClock) == LogicalClock.State.Updating) {
+            return satisfied(LogicalClock.getStep(currentClock));
+        }
+        return updateGraph.exclusiveLock().isHeldByCurrentThread() || updateGraph.sharedLock().isHeldByCurrentThread();
+    }
+
+    /**
+     * Get the current grouping. The result is a read-only view that changes as the index is maintained, and must only
+     * be used while this index is {@link #isCurrent() current}.
+     *
+     * @return a map from keys to the row keys that contain them
+     */
+    public Map<Object, RowSet> getGrouping() {
+        ensureLoaded();
+        return unmodifiableGrouping;
+    }
+
+    /**
+     * Get a copy of the current grouping, ordered by the first row key of each group; that is, in order of each key's
+     * first appearance in the table. Must only be used while this index is {@link #isCurrent() current}.
+     *
+     * @return a new map from keys to the row keys that contain them, which are not copied
+     */
+    public Map<Object, RowSet> getGroupingInFirstAppearanceOrder() {
+        ensureLoaded();
+        final List<Map.Entry<Object, WritableRowSet>> entries = new ArrayList<>(grouping.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().firstRowKey()));
+        final Map<Object, RowSet> result = new LinkedHashMap<>(entries.size() * 2);
+        entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    /**
+     * @return the number of distinct keys in the indexed table
+     */
+    public int size() {
+        ensureLoaded();
+        return grouping.size();
+    }
+
+    /**
+     * Get the row keys whose key column values are in {@code keys}.
+     *
+     * @param keys the keys to look up, in the form produced by {@link #tupleSource()}
+     * @return a new row set of the matching row keys
+     */
+    public WritableRowSet getSubSetForKeySet(@NotNull final Collection<Object> keys) {
+        ensureLoaded();
+        final RowSetBuilderRandom builder = RowSetFactory.builderRandom();
+        for (final Object key : keys) {
+            final RowSet rows = grouping.get(key);
+            if (rows != null) {
+                builder.addRowSet(rows);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public UpdateGraph getUpdateGraph() {
+        return updateGraph;
+    }
+
+    @Override
+    public boolean satisfied(final long step) {
+        return listener == null || listener.satisfied(step);
+    }
+
+    @Override
+    protected void destroy() {
+        super.destroy();
+        grouping.values().forEach(RowSet::close);
+        grouping.clear();
+    }
+}
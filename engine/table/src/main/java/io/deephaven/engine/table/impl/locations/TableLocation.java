@@ -5,10 +5,15 @@ package io.deephaven.engine.table.impl.locations;
 
 import io.deephaven.base.log.LogOutput;
 import io.deephaven.base.log.LogOutputAppendable;
+import io.deephaven.engine.table.Table;
 import io.deephaven.io.log.impl.LogOutputStringImpl;
 import io.deephaven.util.annotations.FinalDefault;
 import io.deephaven.util.type.NamedImplementation;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Building block for Deephaven "source" tables, with helper methods for discovering locations and their sizes. A
@@ -17,6 +22,13 @@ import org.jetbrains.annotations.NotNull;
  */
 public interface TableLocation extends NamedImplementation, LogOutputAppendable, TableLocationState {
 
+    /**
+     * The name of the row positions column in the tables returned by {@link #getDataIndex(String...)}. Each value is a
+     * {@link io.deephaven.engine.rowset.RowSet RowSet} of positions serialized by
+     * {@link io.deephaven.engine.rowset.impl.PortableRoaringRowSetUtils PortableRoaringRowSetUtils}.
+     */
+    String DATA_INDEX_ROW_POSITIONS = "dh_row_pos";
+
     /**
      * Listener interface for anything that wants to know about changes to a location.
      */
@@ -84,6 +96,27 @@ public interface TableLocation extends NamedImplementation, LogOutputAppendable,
     @NotNull
     ColumnLocation getColumnLocation(@NotNull CharSequence name);
 
+    /**
+     * @return The key column sets, in order, for which this location has a persisted data index
+     */
+    @NotNull
+    default List<String[]> getDataIndexColumns() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Read this location's persisted data index for exactly {@code columns}. The result has a row for each distinct
+     * combination of key values, with the key columns and a {@link #DATA_INDEX_ROW_POSITIONS} column of the positions
+     * within this location's {@link #getRowSet() row set} of the rows that contain it.
+     *
+     * @param columns The key columns
+     * @return The data index table, or null if this location has no such index
+     */
+    @Nullable
+    default Table getDataIndex(@NotNull final String... columns) {
+        return null;
+    }
+
     // ------------------------------------------------------------------------------------------------------------------
     // LogOutputAppendable implementation / toString() override helper
     // ------------------------------------------------------------------------------------------------------------------
@@ -1399,8 +1399,10 @@ public class ConstructSnapshot {
             @NotNull final Object logIdentityObject,
             @Nullable final BitSet columnsToSerialize,
             @Nullable final RowSet keysToSnapshot) {
+        // When using previous values we are mid-cycle, so the snapshot is the previous value, shared with any other
+        // concurrent snapshots of this table for this cycle
         // noinspection resource
-        snapshot.rowSet = (usePrev ? table.getRowSet().copyPrev() : table.getRowSet()).copy();
+        snapshot.rowSet = usePrev ? table.getRowSet().snapshot() : table.getRowSet().copy();
 
         if (keysToSnapshot != null) {
             snapshot.rowsIncluded = snapshot.rowSet.intersect(keysToSnapshot);
@@ -1473,7 +1475,9 @@ public class ConstructSnapshot {
             @Nullable final BitSet columnsToSerialize,
             @Nullable final RowSet keysToSnapshot) {
 
-        snapshot.rowsAdded = (usePrev ? table.getRowSet().copyPrev() : table.getRowSet()).copy();
+        // When using previous values we are mid-cycle, so the snapshot is the previous value, shared with any other
+        // concurrent snapshots of this table for this cycle
+        snapshot.rowsAdded = usePrev ? table.getRowSet().snapshot() : table.getRowSet().copy();
         snapshot.rowsRemoved = RowSetFactory.empty();
         snapshot.addColumnData = new BarrageMessage.AddColumnData[table.getColumnSources().size()];
 
@@ -9,6 +9,7 @@ import io.deephaven.datastructures.util.CollectionUtil;
 import io.deephaven.engine.rowset.*;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.table.*;
+import io.deephaven.engine.table.impl.indexer.IncrementalDataIndex;
 import io.deephaven.engine.table.impl.indexer.RowSetIndexer;
 import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.engine.updategraph.DynamicNode;
@@ -36,6 +37,7 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl implemen
     private final boolean setRefreshing;
     private final MatchPair[] matchPairs;
     private final TupleSource<?> setTupleSource;
+    private final Class<?>[] setColumnTypes;
     private final boolean inclusion;
 
     private final HashSet<Object> liveValues = new HashSet<>();
@@ -65,6 +67,7 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl implemen
 
         final ColumnSource<?>[] setColumns = Arrays.stream(matchPairs)
                 .map(mp -> setTable.getColumnSource(mp.rightColumn())).toArray(ColumnSource[]::new);
+        setColumnTypes = Arrays.stream(setColumns).map(ColumnSource::getType).toArray(Class[]::new);
 
         if (setRefreshing) {
             this.setTable = setTable;
@@ -202,6 +205,14 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl implemen
         final TupleSource<?> tupleSource = TupleSourceFactory.makeTupleSource(keyColumns);
         final TrackingRowSet trackingSelection = selection.isTracking() ? selection.trackingCast() : null;
 
+        final IncrementalDataIndex dataIndex =
+                IncrementalDataIndex.getDataIndex(table, MatchPair.getLeftColumns(matchPairs));
+        if (dataIndex != null && dataIndex.isCurrent() && liveValues.size() < selection.size()
+                && Arrays.equals(setColumnTypes, Arrays.stream(keyColumns).map(ColumnSource::getType).toArray())) {
+            // looking up each set key costs less than scanning the selection
+            return filterDataIndex(selection, dataIndex);
+        }
+
         if (matchPairs.length == 1) {
             // this is just a single column filter so it will actually be exactly right
             if (!liveValuesArrayValid) {
@@ -238,6 +249,12 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl implemen
         return filterLinear(selection, keyColumns, tupleSource);
     }
 
+    private WritableRowSet filterDataIndex(RowSet selection, IncrementalDataIndex dataIndex) {
+        try (final RowSet matchingKeys = dataIndex.getSubSetForKeySet(liveValues)) {
+            return inclusion ? matchingKeys.intersect(selection) : selection.minus(matchingKeys);
+        }
+    }
+
     private WritableRowSet filterGrouping(TrackingRowSet selection, RowSetIndexer selectionIndexer,
             TupleSource<?> tupleSource) {
         final RowSet matchingKeys = selectionIndexer.getSubSetForKeySet(liveValues, tupleSource);
@@ -10,6 +10,7 @@ import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.indexer.IncrementalDataIndex;
 import io.deephaven.engine.table.impl.preview.DisplayWrapper;
 import io.deephaven.engine.context.QueryScope;
 import io.deephaven.time.DateTimeUtils;
@@ -164,16 +165,45 @@ public class MatchFilter extends WhereFilterImpl {
 
     @Override
     public WritableRowSet filter(RowSet selection, RowSet fullSet, Table table, boolean usePrev) {
+        final WritableRowSet indexed = maybeFilterDataIndex(invertMatch, selection, table, usePrev);
+        if (indexed != null) {
+            return indexed;
+        }
         final ColumnSource columnSource = table.getColumnSource(columnName);
         return columnSource.match(invertMatch, usePrev, caseInsensitive, selection, values);
     }
 
     @Override
     public WritableRowSet filterInverse(RowSet selection, RowSet fullSet, Table table, boolean usePrev) {
+        final WritableRowSet indexed = maybeFilterDataIndex(!invertMatch, selection, table, usePrev);
+        if (indexed != null) {
+            return indexed;
+        }
         final ColumnSource columnSource = table.getColumnSource(columnName);
         return columnSource.match(!invertMatch, usePrev, caseInsensitive, selection, values);
     }
 
+    /**
+     * Filter with the data index on {@link #columnName} attached to {@code table}, if there is one that is current, so
+     * that the column itself need not be read. Only a single-column index applies; indexes that include other columns
+     * are not consulted.
+     *
+     * @return the filtered row set, or null if the index may not be used
+     */
+    private WritableRowSet maybeFilterDataIndex(final boolean invert, final RowSet selection, final Table table,
+            final boolean usePrev) {
+        if (usePrev || caseInsensitive || values.length >= selection.size()) {
+            return null;
+        }
+        final IncrementalDataIndex dataIndex = IncrementalDataIndex.getDataIndex(table, columnName);
+        if (dataIndex == null || !dataIndex.isCurrent()) {
+            return null;
+        }
+        try (final RowSet matching = dataIndex.getSubSetForKeySet(Arrays.asList(values))) {
+            return invert ? selection.minus(matching) : matching.intersect(selection);
+        }
+    }
+
     @Override
     public boolean isSimpleFilter() {
         return true;
@@ -348,6 +348,27 @@ public abstract class ArrayBackedColumnSource<T>
         return result;
     }
 
+    /**
+     * Produces a DictionaryStringArraySource with the given data. This is preferable to an ObjectArraySource for
+     * low-cardinality String columns. Aggregations and joins only key on the dictionary codes for static
+     * tables; see {@link DictionaryStringArraySource}.
+     *
+     * @param data an array containing the data to insert into the ColumnSource
+     * @return an in-memory column source with the requested data
+     */
+    public static WritableColumnSource<String> getDictionaryMemoryColumnSource(@NotNull final String[] data) {
+        final WritableColumnSource<String> result = new DictionaryStringArraySource();
+        if (data.length == 0) {
+            return result;
+        }
+        result.ensureCapacity(data.length);
+        try (final FillFromContext context = result.makeFillFromContext(data.length);
+                final RowSequence range = RowSequenceFactory.forRange(0, data.length - 1)) {
+            result.fillFromChunk(context, ObjectChunk.chunkWrap(data), range);
+        }
+        return result;
+    }
+
     /**
      * Produces an ShortArraySource with the given data.
      *
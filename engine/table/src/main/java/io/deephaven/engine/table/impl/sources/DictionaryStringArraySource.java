@@ -0,0 +1,539 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.sources;
+
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.BaseTable;
+import io.deephaven.engine.table.impl.ColumnSourceGetDefaults;
+import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
+import io.deephaven.engine.table.impl.MemoizedOperationKey;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.SwapListener;
+import io.deephaven.engine.table.impl.TableUpdateImpl;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import io.deephaven.engine.table.impl.util.ShiftData;
+import io.deephaven.util.QueryConstants;
+import org.apache.commons.lang3.mutable.Mutable;
+import org.apache.commons.lang3.mutable.MutableObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * An in-memory {@link String} column source that stores an {@code int} code per row in an {@link IntegerArraySource},
+ * along with a shared, append-only dictionary of the distinct values written to it. This is much more compact than an
+ * {@link ObjectArraySource} for low-cardinality columns, and is cheaper to key on, since it is a
+ * {@link SymbolTableSource}: symbol table aware aggregations, joins, and sorts operate on the codes via
+ * {@link #reinterpret(Class) reinterpretation} as {@code long}, and {@link #match} compares codes rather than strings.
+ * <p>
+ * Aggregations and joins only consult the symbol table for static tables. On a refreshing table they hash and compare
+ * the decoded strings, as for any other {@code String} column. Sorts use the codes when sorting a whole table, but
+ * incremental sort updates compare strings; {@link #match} always uses the codes. This source is only created by
+ * {@link ArrayBackedColumnSource#getDictionaryMemoryColumnSource(String[])}, never implicitly.
+ * <p>
+ * Codes are never reassigned or reclaimed, so previous values decode against the same dictionary as current values.
+ */
+public class DictionaryStringArraySource extends AbstractDeferredGroupingColumnSource<String>
+        implements FillUnordered<Values>, ShiftData.ShiftCallback, WritableColumnSource<String>,
+        InMemoryColumnSource, WritableSourceWithPrepareForParallelPopulation, SymbolTableSource<String> {
+
+    private static final int INITIAL_DICTIONARY_CAPACITY = 64;
+
+    private final IntegerArraySource codeSource;
+
+    /**
+     * Maps symbols to their codes. Guarded by {@code this}.
+     */
+    private final TObjectIntMap<String> symbolToCode;
+    /**
+     * Symbols indexed by code. Entries below {@code symbolCount} are never modified, and the array is replaced rather
+     * than resized when it must grow.
+     */
+    private volatile String[] symbols;
+    private volatile int symbolCount;
+
+    public DictionaryStringArraySource() {
+        super(String.class);
+        codeSource = new IntegerArraySource();
+        symbolToCode = new TObjectIntHashMap<>(INITIAL_DICTIONARY_CAPACITY, 0.5f, QueryConstants.NULL_INT);
+        symbols = new String[INITIAL_DICTIONARY_CAPACITY];
+    }
+
+    /**
+     * @return The number of distinct non-null values that have been written to this source
+     */
+    public int getDictionarySize() {
+        return symbolCount;
+    }
+
+    // region Dictionary
+    private synchronized int encode(final String value) {
+        if (value == null) {
+            return QueryConstants.NULL_INT;
+        }
+        final int existing = symbolToCode.get(value);
+        if (existing != QueryConstants.NULL_INT) {
+            return existing;
+        }
+        final int code = symbolCount;
+        String[] localSymbols = symbols;
+        if (code == localSymbols.length) {
+            localSymbols = Arrays.copyOf(localSymbols, code << 1);
+        }
+        localSymbols[code] = value;
+        symbols = localSymbols;
+        symbolToCode.put(value, code);
+        symbolCount = code + 1;
+        return code;
+    }
+
+    private synchronized void encode(
+            @NotNull final ObjectChunk<String, ? extends Values> src,
+            @NotNull final WritableIntChunk<? super Values> dest) {
+        final int size = src.size();
+        for (int ii = 0; ii < size; ++ii) {
+            dest.set(ii, encode(src.get(ii)));
+        }
+        dest.setSize(size);
+    }
+
+    private String decode(final int code) {
+        return code == QueryConstants.NULL_INT ? null : symbols[code];
+    }
+
+    private void decode(
+            @NotNull final IntChunk<? extends Values> src,
+            @NotNull final WritableChunk<? super Values> dest) {
+        final WritableObjectChunk<String, ? super Values> typedDest = dest.asWritableObjectChunk();
+        final String[] localSymbols = symbols;
+        final int size = src.size();
+        for (int ii = 0; ii < size; ++ii) {
+            final int code = src.get(ii);
+            typedDest.set(ii, code == QueryConstants.NULL_INT ? null : localSymbols[code]);
+        }
+        typedDest.setSize(size);
+    }
+    // endregion Dictionary
+
+    // region Getters & Setters
+    @Override
+    public void set(final long key, final String value) {
+        codeSource.set(key, encode(value));
+    }
+
+    @Override
+    public void setNull(final long key) {
+        codeSource.setNull(key);
+    }
+
+    @Override
+    public String get(final long rowKey) {
+        return decode(codeSource.getInt(rowKey));
+    }
+
+    @Override
+    public String getPrev(final long rowKey) {
+        return decode(codeSource.getPrevInt(rowKey));
+    }
+
+    @Override
+    public void shift(final long start, final long end, final long offset) {
+        codeSource.shift(start, end, offset);
+    }
+    // endregion Getters & Setters
+
+    // region ArraySource impl
+    @Override
+    public void startTrackingPrevValues() {
+        codeSource.startTrackingPrevValues();
+    }
+
+    @Override
+    public void ensureCapacity(final long size, final boolean nullFill) {
+        codeSource.ensureCapacity(size, nullFill);
+    }
+
+    @Override
+    public void prepareForParallelPopulation(final RowSequence rowSequence) {
+        codeSource.prepareForParallelPopulation(rowSequence);
+    }
+    // endregion ArraySource impl
+
+    // region Chunking
+    private static class CodeFillContext implements FillContext {
+
+        private final FillContext codeContext;
+        private final WritableIntChunk<Values> codes;
+
+        private CodeFillContext(@NotNull final ColumnSource<Integer> codeSource, final int chunkCapacity,
+                final SharedContext sharedContext) {
+            codeContext = codeSource.makeFillContext(chunkCapacity, sharedContext);
+            codes = WritableIntChunk.makeWritableChunk(chunkCapacity);
+        }
+
+        @Override
+        public void close() {
+            codeContext.close();
+            codes.close();
+        }
+    }
+
+    @Override
+    public FillContext makeFillContext(final int chunkCapacity, final SharedContext sharedContext) {
+        return new CodeFillContext(codeSource, chunkCapacity, sharedContext);
+    }
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final RowSequence rowSequence) {
+        final CodeFillContext ctx = (CodeFillContext) context;
+        codeSource.fillChunk(ctx.codeContext, ctx.codes, rowSequence);
+        decode(ctx.codes, dest);
+    }
+
+    @Override
+    public void fillPrevChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final RowSequence rowSequence) {
+        final CodeFillContext ctx = (CodeFillContext) context;
+        codeSource.fillPrevChunk(ctx.codeContext, ctx.codes, rowSequence);
+        decode(ctx.codes, dest);
+    }
+
+    @Override
+    public boolean providesFillUnordered() {
+        return true;
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final CodeFillContext ctx = (CodeFillContext) context;
+        codeSource.fillChunkUnordered(ctx.codeContext, ctx.codes, keys);
+        decode(ctx.codes, dest);
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final CodeFillContext ctx = (CodeFillContext) context;
+        codeSource.fillPrevChunkUnordered(ctx.codeContext, ctx.codes, keys);
+        decode(ctx.codes, dest);
+    }
+
+    private static class CodeFillFromContext implements FillFromContext {
+
+        private final FillFromContext codeContext;
+        private final WritableIntChunk<Values> codes;
+
+        private CodeFillFromContext(@NotNull final IntegerArraySource codeSource, final int chunkCapacity) {
+            codeContext = codeSource.makeFillFromContext(chunkCapacity);
+            codes = WritableIntChunk.makeWritableChunk(chunkCapacity);
+        }
+
+        @Override
+        public void close() {
+            codeContext.close();
+            codes.close();
+        }
+    }
+
+    @Override
+    public FillFromContext makeFillFromContext(final int chunkCapacity) {
+        return new CodeFillFromContext(codeSource, chunkCapacity);
+    }
+
+    @Override
+    public void fillFromChunk(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final RowSequence rowSequence) {
+        final CodeFillFromContext ctx = (CodeFillFromContext) context;
+        encode(src.asObjectChunk(), ctx.codes);
+        codeSource.fillFromChunk(ctx.codeContext, ctx.codes, rowSequence);
+    }
+
+    @Override
+    public void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys) {
+        final CodeFillFromContext ctx = (CodeFillFromContext) context;
+        encode(src.asObjectChunk(), ctx.codes);
+        codeSource.fillFromChunkUnordered(ctx.codeContext, ctx.codes, keys);
+    }
+    // endregion Chunking
+
+    // region Filtering
+    @Override
+    public WritableRowSet match(
+            final boolean invertMatch,
+            final boolean usePrev,
+            final boolean caseInsensitive,
+            @NotNull final RowSet mapper,
+            final Object... keys) {
+        if (!usePrev && (groupToRange != null || getGroupingProvider() != null)) {
+            return super.match(invertMatch, usePrev, caseInsensitive, mapper, keys);
+        }
+        // Translate the keys to codes once, and compare codes rather than strings for every row. Keys that were never
+        // written to this source can't match any row, so they are simply dropped.
+        final String[] localSymbols = symbols;
+        final int localSymbolCount = symbolCount;
+        final Object[] codes;
+        if (caseInsensitive) {
+            codes = Arrays.stream(keys).flatMapToInt(key -> {
+                if (key == null) {
+                    return IntStream.of(QueryConstants.NULL_INT);
+                }
+                final String keyString = key.toString();
+                return IntStream.range(0, localSymbolCount)
+                        .filter(code -> localSymbols[code].equalsIgnoreCase(keyString));
+            }).distinct().boxed().toArray();
+        } else {
+            codes = Arrays.stream(keys).mapToInt(this::lookupCode)
+                    .filter(code -> code != NO_CODE).distinct().boxed().toArray();
+        }
+        return ChunkFilter.applyChunkFilter(mapper, codeSource, usePrev,
+                ChunkMatchFilterFactory.getChunkFilter(int.class, false, invertMatch, codes));
+    }
+
+    private static final int NO_CODE = -1;
+
+    private synchronized int lookupCode(final Object key) {
+        if (key == null) {
+            return QueryConstants.NULL_INT;
+        }
+        if (!(key instanceof String)) {
+            return NO_CODE;
+        }
+        final int code = symbolToCode.get(key);
+        return code == QueryConstants.NULL_INT ? NO_CODE : code;
+    }
+    // endregion Filtering
+
+    // region Reinterpretation
+    @Override
+    public <ALTERNATE_DATA_TYPE> boolean allowsReinterpret(
+            @NotNull final Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+        return alternateDataType == long.class || alternateDataType == int.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected <ALTERNATE_DATA_TYPE> ColumnSource<ALTERNATE_DATA_TYPE> doReinterpret(
+            @NotNull final Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+        if (alternateDataType == long.class) {
+            return (ColumnSource<ALTERNATE_DATA_TYPE>) new CodesAsLong();
+        }
+        return (ColumnSource<ALTERNATE_DATA_TYPE>) codeSource;
+    }
+
+    /**
+     * A view of the codes as {@code long} symbol identifiers, as required of {@link SymbolTableSource
+     * SymbolTableSources}.
+     */
+    private final class CodesAsLong extends AbstractColumnSource<Long>
+            implements ColumnSourceGetDefaults.ForLong {
+
+        private CodesAsLong() {
+            super(long.class);
+        }
+
+        @Override
+        public long getLong(final long rowKey) {
+            return widen(codeSource.getInt(rowKey));
+        }
+
+        @Override
+        public long getPrevLong(final long rowKey) {
+            return widen(codeSource.getPrevInt(rowKey));
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return false;
+        }
+
+        @Override
+        public FillContext makeFillContext(final int chunkCapacity, final SharedContext sharedContext) {
+            return new CodeFillContext(codeSource, chunkCapacity, sharedContext);
+        }
+
+        @Override
+        public void fillChunk(
+                @NotNull final FillContext context,
+                @NotNull final WritableChunk<? super Values> dest,
+                @NotNull final RowSequence rowSequence) {
+            final CodeFillContext ctx = (CodeFillContext) context;
+            codeSource.fillChunk(ctx.codeContext, ctx.codes, rowSequence);
+            widen(ctx.codes, dest);
+        }
+
+        @Override
+        public void fillPrevChunk(
+                @NotNull final FillContext context,
+                @NotNull final WritableChunk<? super Values> dest,
+                @NotNull final RowSequence rowSequence) {
+            final CodeFillContext ctx = (CodeFillContext) context;
+            codeSource.fillPrevChunk(ctx.codeContext, ctx.codes, rowSequence);
+            widen(ctx.codes, dest);
+        }
+
+        @Override
+        public <ALTERNATE_DATA_TYPE> boolean allowsReinterpret(
+                @NotNull final Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+            return alternateDataType == String.class;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <ALTERNATE_DATA_TYPE> ColumnSource<ALTERNATE_DATA_TYPE> doReinterpret(
+                @NotNull final Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+            return (ColumnSource<ALTERNATE_DATA_TYPE>) DictionaryStringArraySource.this;
+        }
+    }
+
+    private static long widen(final int code) {
+        return code == QueryConstants.NULL_INT ? QueryConstants.NULL_LONG : code;
+    }
+
+    private static void widen(
+            @NotNull final IntChunk<? extends Values> src,
+            @NotNull final WritableChunk<? super Values> dest) {
+        final WritableLongChunk<? super Values> typedDest = dest.asWritableLongChunk();
+        final int size = src.size();
+        for (int ii = 0; ii < size; ++ii) {
+            typedDest.set(ii, widen(src.get(ii)));
+        }
+        typedDest.setSize(size);
+    }
+    // endregion Reinterpretation
+
+    // region SymbolTableSource impl
+    @Override
+    public boolean hasSymbolTable(@NotNull final RowSet sourceRowSet) {
+        // Every value is stored as a dictionary code
+        return true;
+    }
+
+    @Override
+    public QueryTable getStaticSymbolTable(@NotNull final RowSet sourceRowSet, final boolean useLookupCaching) {
+        // The symbol table covers the entire dictionary, which is a superset of the values in sourceRowSet. The
+        // dictionary is expected to be small relative to the row count, so this is cheaper than finding the codes that
+        // are actually in use.
+        final int localSymbolCount = symbolCount;
+        final Map<String, ColumnSource<?>> symbolTableColumnSources = new LinkedHashMap<>();
+        symbolTableColumnSources.put(SymbolTableSource.ID_COLUMN_NAME, new RowIdSource());
+        symbolTableColumnSources.put(SymbolTableSource.SYMBOL_COLUMN_NAME, new SymbolSource());
+        return new QueryTable(RowSetFactory.flat(localSymbolCount).toTracking(), symbolTableColumnSources);
+    }
+
+    @Override
+    public Table getSymbolTable(@NotNull final QueryTable sourceTable, final boolean useLookupCaching) {
+        return sourceTable.memoizeResult(MemoizedOperationKey.symbolTable(this, useLookupCaching), () -> {
+            final String description = "getSymbolTable(" + sourceTable.getDescription() + ", " + useLookupCaching + ')';
+            return QueryPerformanceRecorder.withNugget(description, sourceTable.size(), () -> {
+                final SwapListener swapListener =
+                        sourceTable.createSwapListenerIfRefreshing(SwapListener::new);
+                final Mutable<Table> result = new MutableObject<>();
+                BaseTable.initializeWithSnapshot(description, swapListener,
+                        (final boolean usePrev, final long beforeClockValue) -> {
+                            // The dictionary is append-only, so the current symbol table is always a superset of the
+                            // previous one, and we can ignore usePrev
+                            final QueryTable symbolTable = getStaticSymbolTable(sourceTable.getRowSet(),
+                                    useLookupCaching);
+                            if (swapListener != null) {
+                                swapListener.setListenerAndResult(
+                                        new SymbolTableUpdateListener(description, sourceTable, symbolTable),
+                                        symbolTable);
+                            }
+                            result.setValue(symbolTable);
+                            return true;
+                        });
+                return result.getValue();
+            });
+        });
+    }
+
+    /**
+     * The {@link SymbolTableSource#SYMBOL_COLUMN_NAME symbol column} of a symbol table, keyed by code.
+     */
+    private final class SymbolSource extends AbstractColumnSource<String>
+            implements ImmutableColumnSourceGetDefaults.ForObject<String> {
+
+        private SymbolSource() {
+            super(String.class);
+        }
+
+        @Override
+        public String get(final long rowKey) {
+            return rowKey == RowSequence.NULL_ROW_KEY ? null : symbols[(int) rowKey];
+        }
+    }
+
+    private final class SymbolTableUpdateListener extends BaseTable.ListenerImpl {
+
+        private final QueryTable symbolTable;
+        private final ModifiedColumnSet emptyModifiedColumns;
+
+        private SymbolTableUpdateListener(@NotNull final String description, @NotNull final Table sourceTable,
+                @NotNull final QueryTable symbolTable) {
+            super(description, sourceTable, symbolTable);
+            this.symbolTable = symbolTable;
+            this.emptyModifiedColumns = symbolTable.newModifiedColumnSet();
+        }
+
+        @Override
+        public void onUpdate(@NotNull final TableUpdate upstream) {
+            // Codes are never reassigned, so the symbol table is add-only regardless of how the source table changed
+            final long previousSymbolCount = symbolTable.getRowSet().size();
+            final int localSymbolCount = symbolCount;
+            if (localSymbolCount == previousSymbolCount) {
+                return;
+            }
+            final RowSet symbolTableAdded = RowSetFactory.fromRange(previousSymbolCount, localSymbolCount - 1);
+            symbolTable.getRowSet().writableCast().insert(symbolTableAdded);
+            symbolTable.notifyListeners(new TableUpdateImpl(symbolTableAdded, RowSetFactory.empty(),
+                    RowSetFactory.empty(), RowSetShiftData.EMPTY, emptyModifiedColumns));
+        }
+    }
+    // endregion SymbolTableSource impl
+}
@@ -7,6 +7,8 @@ import io.deephaven.engine.table.Releasable;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.Page;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,6 +20,22 @@ public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable {
         return 0;
     }
 
+    /**
+     * Append the rows of {@code rowSequence} that might hold one of {@code keys} to {@code builder}, in order. Regions
+     * backed by persistent data may consult metadata such as Bloom filters or min/max statistics to leave out rows
+     * that cannot match without reading them. This region appends every row.
+     *
+     * @param keys The values an exact-match filter is looking for, which may include the column's null value
+     * @param rowSequence The rows to consider, all of which belong to this region
+     * @param builder The builder to append the rows that might match to
+     */
+    default void appendMatchCandidates(
+            @NotNull final Object[] keys,
+            @NotNull final RowSequence rowSequence,
+            @NotNull final RowSetBuilderSequential builder) {
+        builder.appendRowSequence(rowSequence);
+    }
+
     abstract class Null<ATTR extends Any>
             extends GenericColumnRegionBase<ATTR>
             implements ColumnRegion<ATTR>, WithDefaultsForRepeatingValues<ATTR> {
@@ -8,6 +8,7 @@ import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.table.SharedContext;
 import io.deephaven.chunk.*;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -88,6 +89,12 @@ public abstract class DeferredColumnRegionBase<ATTR extends Any, REGION_TYPE ext
         return getResultRegion().getChunk(context, firstKey, lastKey);
     }
 
+    @Override
+    public void appendMatchCandidates(@NotNull Object[] keys, @NotNull RowSequence rowSequence,
+            @NotNull RowSetBuilderSequential builder) {
+        getResultRegion().appendMatchCandidates(keys, rowSequence, builder);
+    }
+
     @Override
     public FillContext makeFillContext(int chunkCapacity, SharedContext sharedContext) {
         return getResultRegion().makeFillContext(chunkCapacity, sharedContext);
@@ -8,6 +8,10 @@ import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.table.impl.sources.AbstractDeferredGroupingColumnSource;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.util.annotations.TestUseOnly;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -60,6 +64,41 @@ abstract class RegionedColumnSourceBase<DATA_TYPE, ATTR extends Values, REGION_T
         fillChunk(context, destination, rowSequence);
     }
 
+    /**
+     * When there is no grouping to match with, first ask each region which of its rows might hold one of the keys, so
+     * that regions (or parts of regions) whose metadata rules out every key are never read. Case-insensitive matches
+     * can't be ruled out this way.
+     */
+    @Override
+    public WritableRowSet match(final boolean invertMatch, final boolean usePrev, final boolean caseInsensitive,
+            @NotNull final RowSet mapper, final Object... keys) {
+        if (caseInsensitive || mapper.isEmpty() || groupToRange != null || getGroupingProvider() != null) {
+            return super.match(invertMatch, usePrev, caseInsensitive, mapper, keys);
+        }
+        final RowSetBuilderSequential candidatesBuilder = RowSetFactory.builderSequential();
+        try (final RowSequence.Iterator rsIt = mapper.getRowSequenceIterator()) {
+            while (rsIt.hasMore()) {
+                final int regionIndex = getRegionIndex(rsIt.peekNextKey());
+                final RowSequence regionRows =
+                        rsIt.getNextRowSequenceThrough(RegionedColumnSource.getLastRowKey(regionIndex));
+                getRegion(regionIndex).appendMatchCandidates(keys, regionRows, candidatesBuilder);
+            }
+        }
+        try (final WritableRowSet candidates = candidatesBuilder.build()) {
+            if (candidates.size() == mapper.size()) {
+                return super.match(invertMatch, usePrev, false, mapper, keys);
+            }
+            final WritableRowSet matched = super.match(invertMatch, usePrev, false, candidates, keys);
+            if (invertMatch) {
+                // Rows that can't hold any of the keys all belong in the inverted result
+                try (final WritableRowSet nonCandidates = mapper.minus(candidates)) {
+                    matched.insert(nonCandidates);
+                }
+            }
+            return matched;
+        }
+    }
+
     /**
      * <p>
      * Add a pre-constructed region without going through the abstract factory method.
@@ -7,6 +7,10 @@ import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.impl.PortableRoaringRowSetUtils;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TupleSource;
 import io.deephaven.engine.table.impl.ColumnToCodecMappings;
 import io.deephaven.engine.table.impl.locations.impl.TableLocationUpdateSubscriptionBuffer;
 import io.deephaven.hash.KeyedObjectHashMap;
@@ -18,8 +22,10 @@ import io.deephaven.engine.table.impl.ColumnSourceManager;
 import io.deephaven.engine.table.impl.locations.*;
 import io.deephaven.engine.table.impl.sources.DeferredGroupingColumnSource;
 import io.deephaven.internal.log.LoggerFactory;
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -200,6 +206,51 @@ public class RegionedColumnSourceManager implements ColumnSourceManager {
         }
     }
 
+    @Override
+    public final synchronized List<String[]> getDataIndexColumns() {
+        if (orderedIncludedTableLocations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String[]> common = new ArrayList<>(orderedIncludedTableLocations.get(0).location
+                .getDataIndexColumns());
+        for (final IncludedTableLocationEntry entry : orderedIncludedTableLocations) {
+            final List<String[]> locationIndexColumns = entry.location.getDataIndexColumns();
+            common.removeIf(columns -> locationIndexColumns.stream().noneMatch(lic -> Arrays.equals(lic, columns)));
+        }
+        common.removeIf(columns -> !columnSources.keySet().containsAll(Arrays.asList(columns)));
+        final String[] partitioningColumnNames = getPartitioningColumnNames();
+        final List<String[]> result = new ArrayList<>(common);
+        if (partitioningColumnNames.length > 0) {
+            for (final String[] columns : common) {
+                if (Arrays.stream(columns).noneMatch(Arrays.asList(partitioningColumnNames)::contains)) {
+                    result.add(Stream.concat(Arrays.stream(partitioningColumnNames), Arrays.stream(columns))
+                            .toArray(String[]::new));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public final synchronized Map<Object, WritableRowSet> readDataIndex(
+            @NotNull final TupleSource<?> tupleSource,
+            @NotNull final String... keyColumnNames) {
+        final Map<Object, RowSetBuilderSequential> builders = new HashMap<>();
+        for (final IncludedTableLocationEntry entry : orderedIncludedTableLocations) {
+            entry.readDataIndex(builders, tupleSource, keyColumnNames);
+        }
+        final Map<Object, WritableRowSet> result = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, builder) -> result.put(key, builder.build()));
+        return result;
+    }
+
+    private String[] getPartitioningColumnNames() {
+        return columnDefinitions.stream()
+                .filter(ColumnDefinition::isPartitioning)
+                .map(ColumnDefinition::getName)
+                .toArray(String[]::new);
+    }
+
     /**
      * State keeper for a table location and its subscription buffer if it hasn't been found to have a non-null,
      * non-zero size yet.
@@ -368,6 +419,74 @@ public class RegionedColumnSourceManager implements ColumnSourceManager {
             }
         }
 
+        /**
+         * Add this location's persisted data index for {@code keyColumnNames} to {@code builders}, which must only hold
+         * row keys from earlier regions.
+         */
+        private void readDataIndex(
+                @NotNull final Map<Object, RowSetBuilderSequential> builders,
+                @NotNull final TupleSource<?> tupleSource,
+                @NotNull final String... keyColumnNames) {
+            final Object[] keyValues = new Object[keyColumnNames.length];
+            Table index = location.getDataIndex(keyColumnNames);
+            final int firstIndexedColumn;
+            if (index != null) {
+                firstIndexedColumn = 0;
+            } else {
+                // the location indexes the non-partitioning columns, and its key supplies the partitioning values
+                final String[] partitioningColumnNames = getPartitioningColumnNames();
+                firstIndexedColumn = partitioningColumnNames.length;
+                if (firstIndexedColumn > 0 && firstIndexedColumn < keyColumnNames.length && Arrays.equals(
+                        partitioningColumnNames, Arrays.copyOfRange(keyColumnNames, 0, firstIndexedColumn))) {
+                    index = location.getDataIndex(
+                            Arrays.copyOfRange(keyColumnNames, firstIndexedColumn, keyColumnNames.length));
+                }
+                if (index == null) {
+                    throw new TableDataException("No data index for " + Arrays.toString(keyColumnNames)
+                            + " at location " + location);
+                }
+                for (int ci = 0; ci < firstIndexedColumn; ++ci) {
+                    keyValues[ci] = location.getKey().getPartitionValue(keyColumnNames[ci]);
+                }
+            }
+            final ColumnSource<?>[] indexKeySources = new ColumnSource[keyColumnNames.length];
+            for (int ci = firstIndexedColumn; ci < keyColumnNames.length; ++ci) {
+                indexKeySources[ci] = index.getColumnSource(keyColumnNames[ci]);
+            }
+            final ColumnSource<?> indexPositions = index.getColumnSource(TableLocation.DATA_INDEX_ROW_POSITIONS);
+            final long regionFirstKey = RegionedColumnSource.getFirstRowKey(regionIndex);
+            final MutableLong totalSize = new MutableLong();
+            index.getRowSet().forAllRowKeys(indexRowKey -> {
+                for (int ci = firstIndexedColumn; ci < keyValues.length; ++ci) {
+                    keyValues[ci] = indexKeySources[ci].get(indexRowKey);
+                }
+                try (final RowSet positions = readPositions(indexPositions.get(indexRowKey), keyColumnNames);
+                        final WritableRowSet rowKeys = rowSetAtLastUpdate.subSetForPositions(positions)) {
+                    rowKeys.shiftInPlace(regionFirstKey);
+                    builders.computeIfAbsent(tupleSource.createTupleFromValues(keyValues),
+                            k -> RowSetFactory.builderSequential()).appendRowSequence(rowKeys);
+                    totalSize.add(rowKeys.size());
+                }
+            });
+            if (totalSize.longValue() != rowSetAtLastUpdate.size()) {
+                throw new TableDataException("Invalid data index for " + Arrays.toString(keyColumnNames)
+                        + " at location " + location + ": found " + totalSize.longValue() + " rows, but expected "
+                        + rowSetAtLastUpdate.size());
+            }
+        }
+
+        /**
+         * Read one row of the {@link TableLocation#DATA_INDEX_ROW_POSITIONS} column of a data index, which is a
+         * serialized {@link PortableRoaringRowSetUtils portable Roaring bitmap}.
+         */
+        private RowSet readPositions(final Object positions, @NotNull final String[] keyColumnNames) {
+            if (positions instanceof byte[]) {
+                return PortableRoaringRowSetUtils.deserialize(ByteBuffer.wrap((byte[]) positions));
+            }
+            throw new TableDataException("Invalid data index for " + Arrays.toString(keyColumnNames) + " at location "
+                    + location + ": unexpected row positions " + positions);
+        }
+
         @Override
         public int compareTo(@NotNull final IncludedTableLocationEntry other) {
             // This Comparable implementation is currently unused, as we maintain ordering in
@@ -10,6 +10,7 @@ import io.deephaven.engine.table.SharedContext;
 import io.deephaven.engine.page.Page;
 import io.deephaven.engine.page.PageStore;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 
@@ -168,5 +169,27 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         public final REGION_TYPE getRegion(final int regionIndex) {
             return regions[regionIndex];
         }
+
+        /**
+         * Implements {@link ColumnRegion#appendMatchCandidates(Object[], RowSequence, RowSetBuilderSequential)} for
+         * the column regions that extend this class, by delegating to each of the regions {@code rowSequence} spans.
+         */
+        public void appendMatchCandidates(
+                @NotNull final Object[] keys,
+                @NotNull final RowSequence rowSequence,
+                @NotNull final RowSetBuilderSequential builder) {
+            try (final RowSequence.Iterator rsIt = rowSequence.getRowSequenceIterator()) {
+                while (rsIt.hasMore()) {
+                    final long firstRowKey = rsIt.peekNextKey();
+                    final RowSequence regionRows = rsIt.getNextRowSequenceThrough(firstRowKey | regionMask());
+                    final REGION_TYPE region = lookupRegion(firstRowKey);
+                    if (region instanceof ColumnRegion) {
+                        ((ColumnRegion<?>) region).appendMatchCandidates(keys, regionRows, builder);
+                    } else {
+                        builder.appendRowSequence(regionRows);
+                    }
+                }
+            }
+        }
     }
 }
@@ -33,6 +33,7 @@ import io.deephaven.engine.updategraph.*;
 import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.engine.util.systemicmarking.SystemicObjectTracker;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.VisibleForTesting;
 import io.deephaven.util.SafeCloseableArray;
 import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedNode;
 import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedQueue;
@@ -62,6 +63,20 @@ public abstract class UpdateBy {
     private static final int PARALLEL_CACHE_CHUNK_SIZE =
             Configuration.getInstance().getIntegerWithDefault("UpdateBy.parallelCacheChunkSize", 1 << 16);
 
+    /**
+     * Below this many affected rows (summed across all dirty buckets and windows), the cost of handing work to other
+     * threads outweighs the benefit and the cycle is processed on the calling thread. (64K default)
+     */
+    private static final long PARALLEL_MINIMUM_AFFECTED_ROWS =
+            Configuration.getInstance().getLongWithDefault("UpdateBy.parallelMinimumAffectedRows", 1 << 16);
+    /** Should windows that share no cached input sources be processed concurrently? (true default) */
+    private static final boolean PARALLEL_WINDOWS =
+            Configuration.getInstance().getBooleanWithDefault("UpdateBy.parallelWindows", true);
+
+    /** Replacements for the configured parallelism settings, in effect during {@link #overrideParallelism} */
+    private static volatile Long parallelMinimumAffectedRowsOverride;
+    private static volatile Boolean parallelWindowsOverride;
+
     /** When extracting keys from the redirection, what size chunks to use? (2K default) */
     private static final int REDIRECTION_CHUNK_SIZE = 1 << 11;
 
@@ -92,6 +107,31 @@ public abstract class UpdateBy {
     /** Store every bucket in this list for processing */
     protected final IntrusiveDoublyLinkedQueue<UpdateByBucketHelper> buckets;
 
+    /** The value of {@link #PARALLEL_MINIMUM_AFFECTED_ROWS}, or its override, when this UpdateBy was created */
+    private final long parallelMinimumAffectedRows;
+    /** The value of {@link #PARALLEL_WINDOWS}, or its override, when this UpdateBy was created */
+    private final boolean parallelWindows;
+
+    /**
+     * Replace the configured parallelism settings for UpdateBy operations created until the result is closed, so that
+     * unit tests can force either the serial or the parallel path.
+     *
+     * @param minimumAffectedRows the replacement for {@link #PARALLEL_MINIMUM_AFFECTED_ROWS}
+     * @param parallelWindows the replacement for {@link #PARALLEL_WINDOWS}
+     * @return a closeable that restores the previous settings
+     */
+    @VisibleForTesting
+    static SafeCloseable overrideParallelism(final long minimumAffectedRows, final boolean parallelWindows) {
+        final Long oldMinimumAffectedRows = parallelMinimumAffectedRowsOverride;
+        final Boolean oldParallelWindows = parallelWindowsOverride;
+        parallelMinimumAffectedRowsOverride = minimumAffectedRows;
+        parallelWindowsOverride = parallelWindows;
+        return () -> {
+            parallelMinimumAffectedRowsOverride = oldMinimumAffectedRows;
+            parallelWindowsOverride = oldParallelWindows;
+        };
+    }
+
     static class UpdateByRedirectionHelper {
         @Nullable
         private final RowRedirection rowRedirection;
@@ -205,6 +245,11 @@ public abstract class UpdateBy {
         this.timestampColumnName = timestampColumnName;
         this.redirHelper = new UpdateByRedirectionHelper(rowRedirection);
         this.control = control;
+        final Long minimumAffectedRowsOverride = parallelMinimumAffectedRowsOverride;
+        this.parallelMinimumAffectedRows =
+                minimumAffectedRowsOverride == null ? PARALLEL_MINIMUM_AFFECTED_ROWS : minimumAffectedRowsOverride;
+        final Boolean windowsOverride = parallelWindowsOverride;
+        this.parallelWindows = windowsOverride == null ? PARALLEL_WINDOWS : windowsOverride;
 
         this.inputSourceCacheNeeded = new boolean[inputSources.length];
         cacheableSourceIndices = IntStream.range(0, inputSources.length)
@@ -228,9 +273,10 @@ public abstract class UpdateBy {
      * <li>Compute a rowset for each cacheable input source identifying which rows will be needed for processing</li>
      * <li>Compute the modified rowset of output column sources and call `prepareForParallelPopulation()'</li>
      * <li>When prepareForParallelPopulation() complete, apply upstream shifts to the output sources</li>
-     * <li>Process each window and operator serially
+     * <li>Process the windows in groups; groups are processed serially, the windows within a group (which share no
+     * cached input sources) are processed in parallel
      * <ul>
-     * <li>Pre-create window information for windowed operators (push/pop counts)</li>
+     * <li>Pre-create window information for windowed operators (push/pop counts, in parallel by bucket)</li>
      * <li>Cache the input sources that are needed for each window operator (in parallel by chunk of rows)</li>
      * <li>When caching is complete, process the window operator (in parallel by bucket)</li>
      * <li>When all buckets processed, release the input source caches that will not be re-used later by later
@@ -300,7 +346,7 @@ public abstract class UpdateBy {
                     dirtyWindowOperators[winIdx].set(0, windows[winIdx].operators.length);
                 }
                 // Create the proper JobScheduler for the following parallel tasks
-                if (OperationInitializationThreadPool.canParallelize()) {
+                if (OperationInitializationThreadPool.canParallelize() && isParallelWorthwhile()) {
                     jobScheduler = new OperationInitializationPoolJobScheduler();
                 } else {
                     jobScheduler = ImmediateJobScheduler.INSTANCE;
@@ -331,7 +377,7 @@ public abstract class UpdateBy {
                     }
                 }
                 // Create the proper JobScheduler for the following parallel tasks
-                if (source.getUpdateGraph().parallelismFactor() > 1) {
+                if (source.getUpdateGraph().parallelismFactor() > 1 && isParallelWorthwhile()) {
                     jobScheduler = new UpdateGraphJobScheduler(source.getUpdateGraph());
                 } else {
                     jobScheduler = ImmediateJobScheduler.INSTANCE;
@@ -343,6 +389,29 @@ public abstract class UpdateBy {
             }
         }
 
+        /**
+         * Estimate whether this cycle has enough work to benefit from parallel processing. The cost is measured as the
+         * number of affected rows across the dirty windows of every dirty bucket.
+         */
+        private boolean isParallelWorthwhile() {
+            long affectedRowCount = 0;
+            for (UpdateByBucketHelper bucket : dirtyBuckets) {
+                for (int winIdx = dirtyWindows.nextSetBit(0); winIdx >= 0; winIdx =
+                        dirtyWindows.nextSetBit(winIdx + 1)) {
+                    final UpdateByWindow.UpdateByWindowBucketContext bucketWindowCtx = bucket.windowContexts[winIdx];
+                    if (!bucketWindowCtx.isDirty) {
+                        continue;
+                    }
+                    affectedRowCount += bucketWindowCtx.affectedRows.size();
+                    if (affectedRowCount >= parallelMinimumAffectedRows) {
+                        // no need to keep counting
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         // region helper-functions
         @Override
         public LogOutput append(LogOutput logOutput) {
@@ -581,10 +650,9 @@ public abstract class UpdateBy {
         }
 
         /**
-         * Process all {@code windows} in a serial manner (to minimize cached column memory usage). This function will
-         * prepare the shared window resources (e.g. push/pop chunks for Rolling operators) for each dirty bucket in the
-         * current window then call {@link #processWindowOperators}. When all operators have been processed then all
-         * resources for this window are released before iterating.
+         * Process all dirty {@code windows}. Windows are organized into groups that share no cached input sources; the
+         * groups are processed serially (to minimize cached column memory usage) while the windows within a group are
+         * processed in parallel. Calls {@code onWindowsComplete} when the work is complete.
          */
         private void processWindows(final Runnable onWindowsComplete) {
             if (dirtyWindows.isEmpty()) {
@@ -592,28 +660,97 @@ public abstract class UpdateBy {
                 return;
             }
 
-            final int[] dirtyWindowIndices = dirtyWindows.stream().toArray();
+            final int[][] windowGroups = computeWindowGroups(dirtyWindows.stream().toArray());
 
             jobScheduler.iterateSerial(executionContext,
                     chainAppendables(this, stringToAppendable("-processWindows")),
                     JobScheduler.DEFAULT_CONTEXT_FACTORY, 0,
-                    dirtyWindowIndices.length,
-                    (context, idx, nestedErrorConsumer, windowComplete) -> {
-                        final int winIdx = dirtyWindowIndices[idx];
+                    windowGroups.length,
+                    (context, groupIdx, nestedErrorConsumer, groupComplete) -> {
+                        final int[] windowGroup = windowGroups[groupIdx];
+                        jobScheduler.iterateParallel(executionContext,
+                                chainAppendables(this, stringAndIndexToAppendable("-processWindowGroup", groupIdx)),
+                                JobScheduler.DEFAULT_CONTEXT_FACTORY, 0,
+                                windowGroup.length,
+                                (ctx, idx, nec, windowComplete) -> processWindow(windowGroup[idx], windowComplete, nec),
+                                groupComplete, nestedErrorConsumer);
+                    }, onWindowsComplete, this::onError);
+        }
+
+        /**
+         * Split the dirty windows into consecutive groups that can be processed concurrently. Two windows may share a
+         * group only if they have no cacheable input sources in common, since the cached sources are created and
+         * released without synchronization between windows.
+         *
+         * @param dirtyWindowIndices the indices of the windows to process this cycle
+         * @return the groups of window indices, in processing order
+         */
+        private int[][] computeWindowGroups(final int[] dirtyWindowIndices) {
+            if (!parallelWindows || jobScheduler.threadCount() <= 1) {
+                return Arrays.stream(dirtyWindowIndices).mapToObj(winIdx -> new int[] {winIdx})
+                        .toArray(int[][]::new);
+            }
+
+            final List<int[]> windowGroups = new ArrayList<>(dirtyWindowIndices.length);
+            final TIntArrayList currentGroup = new TIntArrayList(dirtyWindowIndices.length);
+            final BitSet currentGroupSources = new BitSet(inputSources.length);
+            final BitSet windowSources = new BitSet(inputSources.length);
+
+            for (int winIdx : dirtyWindowIndices) {
+                windowSources.clear();
+                if (inputCacheNeeded) {
+                    for (int[] opSourceSlots : windows[winIdx].operatorInputSourceSlots) {
+                        for (int srcIdx : opSourceSlots) {
+                            if (inputSourceCacheNeeded[srcIdx]) {
+                                windowSources.set(srcIdx);
+                            }
+                        }
+                    }
+                }
+                if (!currentGroup.isEmpty() && currentGroupSources.intersects(windowSources)) {
+                    windowGroups.add(currentGroup.toArray());
+                    currentGroup.clear(dirtyWindowIndices.length);
+                    currentGroupSources.clear();
+                }
+                currentGroup.add(winIdx);
+                currentGroupSources.or(windowSources);
+            }
+            windowGroups.add(currentGroup.toArray());
+
+            return windowGroups.toArray(int[][]::new);
+        }
+
+        /**
+         * Process a single window. This function will prepare the shared window resources (e.g. push/pop chunks for
+         * Rolling operators) for each dirty bucket in parallel then call {@link #processWindowOperators}. When all
+         * operators have been processed then all resources for this window are released. Calls
+         * {@code onWindowComplete} when the work is complete.
+         */
+        private void processWindow(
+                final int winIdx,
+                final Runnable onWindowComplete,
+                final Consumer<Exception> onWindowError) {
+            jobScheduler.iterateParallel(executionContext,
+                    chainAppendables(this, stringAndIndexToAppendable("-prepareWindowBuckets", winIdx)),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY, 0,
+                    dirtyBuckets.length,
+                    (context, bucketIdx, nec) -> {
+                        final UpdateByBucketHelper bucket = dirtyBuckets[bucketIdx];
+                        if (bucket.windowContexts[winIdx].isDirty) {
+                            // Assign the (maybe cached) input sources.
+                            windows[winIdx].assignInputSources(bucket.windowContexts[winIdx],
+                                    maybeCachedInputSources);
 
+                            // Prepare this bucket for processing this window. This allocates window context
+                            // resources and rolling ops pre-computes push/pop chunks.
+                            windows[winIdx].prepareWindowBucket(bucket.windowContexts[winIdx]);
+                        }
+                    }, () -> {
                         int maxAffectedChunkSize = 0;
                         int maxInfluencerChunkSize = 0;
 
                         for (UpdateByBucketHelper bucket : dirtyBuckets) {
                             if (bucket.windowContexts[winIdx].isDirty) {
-                                // Assign the (maybe cached) input sources.
-                                windows[winIdx].assignInputSources(bucket.windowContexts[winIdx],
-                                        maybeCachedInputSources);
-
-                                // Prepare this bucket for processing this window. This allocates window context
-                                // resources and rolling ops pre-computes push/pop chunks.
-                                windows[winIdx].prepareWindowBucket(bucket.windowContexts[winIdx]);
-
                                 // Determine the largest chunk sizes needed to process the window buckets.
                                 maxAffectedChunkSize =
                                         Math.max(maxAffectedChunkSize, bucket.windowContexts[winIdx].workingChunkSize);
@@ -632,9 +769,9 @@ public abstract class UpdateBy {
                                     windows[winIdx].finalizeWindowBucket(bucket.windowContexts[winIdx]);
                                 }
                             }
-                            windowComplete.run();
-                        }, nestedErrorConsumer);
-                    }, onWindowsComplete, this::onError);
+                            onWindowComplete.run();
+                        }, onWindowError);
+                    }, onWindowError);
         }
 
         /**
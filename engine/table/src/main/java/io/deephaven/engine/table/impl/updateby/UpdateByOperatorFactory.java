@@ -22,6 +22,8 @@ import io.deephaven.engine.table.impl.updateby.rollingminmax.*;
 import io.deephaven.engine.table.impl.updateby.rollingstd.*;
 import io.deephaven.engine.table.impl.updateby.rollingsum.*;
 import io.deephaven.engine.table.impl.updateby.rollingproduct.*;
+import io.deephaven.engine.table.impl.updateby.rollingquantile.*;
+import io.deephaven.engine.table.impl.updateby.rollingreduce.*;
 import io.deephaven.engine.table.impl.updateby.rollingwavg.*;
 import io.deephaven.engine.table.impl.updateby.sum.*;
 import io.deephaven.engine.table.impl.util.RowRedirection;
@@ -503,6 +505,34 @@ public class UpdateByOperatorFactory {
             return null;
         }
 
+        @Override
+        public Void visit(@NotNull final RollingQuantileSpec spec) {
+            final boolean isTimeBased = spec.revWindowScale().isTimeBased();
+            final String timestampCol = spec.revWindowScale().timestampCol();
+
+            Arrays.stream(pairs)
+                    .filter(p -> !isTimeBased || !p.rightColumn().equals(timestampCol))
+                    .map(fc -> makeRollingQuantileOperator(fc,
+                            source,
+                            spec))
+                    .forEach(ops::add);
+            return null;
+        }
+
+        @Override
+        public Void visit(@NotNull final RollingReduceSpec spec) {
+            final boolean isTimeBased = spec.revWindowScale().isTimeBased();
+            final String timestampCol = spec.revWindowScale().timestampCol();
+
+            Arrays.stream(pairs)
+                    .filter(p -> !isTimeBased || !p.rightColumn().equals(timestampCol))
+                    .map(fc -> makeRollingReduceOperator(fc,
+                            source,
+                            spec))
+                    .forEach(ops::add);
+            return null;
+        }
+
         @Override
         public Void visit(@NotNull final RollingCountSpec spec) {
             final boolean isTimeBased = spec.revWindowScale().isTimeBased();
@@ -1339,5 +1369,84 @@ public class UpdateByOperatorFactory {
 
             throw new IllegalArgumentException("Can not perform RollingWAvg on type " + csType);
         }
+
+        private UpdateByOperator makeRollingQuantileOperator(@NotNull final MatchPair pair,
+                @NotNull final Table source,
+                @NotNull final RollingQuantileSpec rs) {
+            // noinspection rawtypes
+            final ColumnSource columnSource = source.getColumnSource(pair.rightColumn);
+            final Class<?> csType = columnSource.getType();
+
+            final String[] affectingColumns;
+            if (rs.revWindowScale().timestampCol() == null) {
+                affectingColumns = new String[] {pair.rightColumn};
+            } else {
+                affectingColumns = new String[] {rs.revWindowScale().timestampCol(), pair.rightColumn};
+            }
+
+            final long prevWindowScaleUnits = rs.revWindowScale().getTimeScaleUnits();
+            final long fwdWindowScaleUnits = rs.fwdWindowScale().getTimeScaleUnits();
+
+            if (csType == byte.class || csType == Byte.class) {
+                return new ByteRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            } else if (csType == char.class || csType == Character.class) {
+                return new CharRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            } else if (csType == short.class || csType == Short.class) {
+                return new ShortRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            } else if (csType == int.class || csType == Integer.class) {
+                return new IntRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            } else if (csType == long.class || csType == Long.class) {
+                return new LongRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            } else if (csType == float.class || csType == Float.class) {
+                return new FloatRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            } else if (csType == double.class || csType == Double.class) {
+                return new DoubleRollingQuantileOperator(pair, affectingColumns, rowRedirection,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, rs.percentile(), rs.averageEvenlyDivided());
+            }
+
+            throw new IllegalArgumentException("Can not perform RollingQuantile on type " + csType);
+        }
+
+        private UpdateByOperator makeRollingReduceOperator(@NotNull final MatchPair pair,
+                @NotNull final Table source,
+                @NotNull final RollingReduceSpec rs) {
+            // noinspection rawtypes
+            final ColumnSource columnSource = source.getColumnSource(pair.rightColumn);
+            final Class<?> csType = columnSource.getType();
+
+            if (!rs.applicableTo(csType)) {
+                throw new IllegalArgumentException("Can not perform RollingReduce with reducer of type "
+                        + rs.reducer().type() + " on type " + csType);
+            }
+
+            final String[] affectingColumns;
+            if (rs.revWindowScale().timestampCol() == null) {
+                affectingColumns = new String[] {pair.rightColumn};
+            } else {
+                affectingColumns = new String[] {rs.revWindowScale().timestampCol(), pair.rightColumn};
+            }
+
+            final long prevWindowScaleUnits = rs.revWindowScale().getTimeScaleUnits();
+            final long fwdWindowScaleUnits = rs.fwdWindowScale().getTimeScaleUnits();
+
+            // The reducer may be declared over a supertype of the column's type, and its results are of that type
+            // noinspection unchecked,rawtypes
+            return new ObjectRollingReduceOperator(pair, affectingColumns, rowRedirection,
+                    rs.revWindowScale().timestampCol(),
+                    prevWindowScaleUnits, fwdWindowScaleUnits, rs.reducer(), rs.reducer().type());
+        }
     }
 }
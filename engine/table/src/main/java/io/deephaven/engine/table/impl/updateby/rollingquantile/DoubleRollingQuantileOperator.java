@@ -0,0 +1,285 @@
+/*
+ * ---------------------------------------------------------------------------------------------------------------------
+ * AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY - for any changes edit CharRollingQuantileOperator and regenerate
+ * ---------------------------------------------------------------------------------------------------------------------
+ */
+package io.deephaven.engine.table.impl.updateby.rollingquantile;
+
+import io.deephaven.base.ringbuffer.DoubleRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ResettableWritableDoubleChunk;
+import io.deephaven.chunk.ResettableWritableIntChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.ssms.DoubleSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.ssms.SegmentedSortedMultiSet;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseDoubleUpdateByOperator;
+import io.deephaven.engine.table.impl.util.RowRedirection;
+import io.deephaven.engine.table.impl.util.compact.DoubleCompactKernel;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.compare.DoubleComparisons;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+public class DoubleRollingQuantileOperator extends BaseDoubleUpdateByOperator {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private static final int SSM_NODE_SIZE = 4096;
+    private final double percentile;
+    private final boolean averageEvenlyDivided;
+    // region extra-fields
+    // endregion extra-fields
+
+    /**
+     * The window values are held in two {@link DoubleSegmentedSortedMultiset sorted multisets}: {@code ssmLo} holds the
+     * smallest values in the window and {@code ssmHi} the rest, so that every value in {@code ssmLo} is less than or
+     * equal to every value in {@code ssmHi}. When a result is needed, values are moved between the two sets until
+     * {@code ssmLo} holds exactly the target rank, and the quantile is read from the boundary. Pushes and pops cost
+     * O(log w) per value rather than the O(w) cost of re-sorting the window for each row.
+     */
+    protected class Context extends BaseDoubleUpdateByOperator.Context {
+        protected DoubleChunk<? extends Values> influencerValuesChunk;
+        protected DoubleRingBuffer windowValues;
+        protected DoubleSegmentedSortedMultiset ssmLo;
+        protected DoubleSegmentedSortedMultiset ssmHi;
+
+        protected final WritableDoubleChunk<Values> valueCopy;
+        protected final WritableIntChunk<ChunkLengths> counts;
+        protected final ResettableWritableDoubleChunk<Values> valueSlice;
+        protected final ResettableWritableIntChunk<ChunkLengths> countSlice;
+        protected final SegmentedSortedMultiSet.RemoveContext removeContext;
+
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            windowValues = new DoubleRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssmLo = new DoubleSegmentedSortedMultiset(SSM_NODE_SIZE);
+            ssmHi = new DoubleSegmentedSortedMultiset(SSM_NODE_SIZE);
+
+            final int copySize = Math.max(1, influencerChunkSize);
+            valueCopy = WritableDoubleChunk.makeWritableChunk(copySize);
+            counts = WritableIntChunk.makeWritableChunk(copySize);
+            valueSlice = ResettableWritableDoubleChunk.makeResettableChunk();
+            countSlice = ResettableWritableIntChunk.makeResettableChunk();
+            removeContext = SegmentedSortedMultiSet.makeRemoveContext(SSM_NODE_SIZE);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            SafeCloseable.closeAll(valueCopy, counts, valueSlice, countSlice);
+            windowValues = null;
+            ssmLo = null;
+            ssmHi = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            influencerValuesChunk = valueChunks[0].asDoubleChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            windowValues.ensureRemaining(count);
+
+            while (count > 0) {
+                final int batchSize = Math.min(count, valueCopy.capacity());
+                valueCopy.setSize(batchSize);
+
+                for (int ii = 0; ii < batchSize; ii++) {
+                    final double val = influencerValuesChunk.get(pos + ii);
+                    windowValues.addUnsafe(val);
+                    valueCopy.set(ii, val);
+
+                    if (val == NULL_DOUBLE) {
+                        nullCount++;
+                    }
+                }
+                insertValueCopy();
+
+                pos += batchSize;
+                count -= batchSize;
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(windowValues.size(), "windowValues.size()", count);
+
+            while (count > 0) {
+                final int batchSize = Math.min(count, valueCopy.capacity());
+                valueCopy.setSize(batchSize);
+
+                for (int ii = 0; ii < batchSize; ii++) {
+                    final double val = windowValues.removeUnsafe();
+                    valueCopy.set(ii, val);
+
+                    if (val == NULL_DOUBLE) {
+                        nullCount--;
+                    }
+                }
+                removeValueCopy();
+
+                count -= batchSize;
+            }
+        }
+
+        /**
+         * Sort and count the values in {@code valueCopy} (discarding nulls), then insert them into the lo and hi sets
+         * on either side of the current maximum of {@code ssmLo}.
+         */
+        private void insertValueCopy() {
+            DoubleCompactKernel.compactAndCount(valueCopy, counts);
+            final int size = valueCopy.size();
+            if (size == 0) {
+                return;
+            }
+
+            final int loPivot = ssmLo.size() > 0 ? upperBound(valueCopy, 0, size, ssmLo.getMaxDouble()) : 0;
+
+            if (loPivot > 0) {
+                ssmLo.insert(valueSlice.resetFromChunk(valueCopy, 0, loPivot),
+                        countSlice.resetFromChunk(counts, 0, loPivot));
+            }
+            if (loPivot < size) {
+                ssmHi.insert(valueSlice.resetFromChunk(valueCopy, loPivot, size - loPivot),
+                        countSlice.resetFromChunk(counts, loPivot, size - loPivot));
+            }
+        }
+
+        /**
+         * Sort and count the values in {@code valueCopy} (discarding nulls), then remove them from the lo and hi sets.
+         * Copies of the maximum lo value may live in both sets, so we never remove more of that value from
+         * {@code ssmLo} than it holds and take the remainder from {@code ssmHi}.
+         */
+        private void removeValueCopy() {
+            DoubleCompactKernel.compactAndCount(valueCopy, counts);
+            final int size = valueCopy.size();
+            if (size == 0) {
+                return;
+            }
+
+            int loPivot = 0;
+            int leftOvers = 0;
+            if (ssmLo.size() > 0) {
+                final double loMax = ssmLo.getMaxDouble();
+                loPivot = upperBound(valueCopy, 0, size, loMax);
+                if (loPivot > 0 && DoubleComparisons.eq(valueCopy.get(loPivot - 1), loMax)) {
+                    final long loMaxCount = ssmLo.getMaxCount();
+                    if (counts.get(loPivot - 1) > loMaxCount) {
+                        leftOvers = (int) (counts.get(loPivot - 1) - loMaxCount);
+                    }
+                }
+            }
+
+            if (loPivot > 0) {
+                if (leftOvers > 0) {
+                    counts.set(loPivot - 1, counts.get(loPivot - 1) - leftOvers);
+                }
+                ssmLo.remove(removeContext, valueSlice.resetFromChunk(valueCopy, 0, loPivot),
+                        countSlice.resetFromChunk(counts, 0, loPivot));
+            }
+
+            if (leftOvers > 0) {
+                counts.set(loPivot - 1, leftOvers);
+                loPivot--;
+            }
+
+            if (loPivot < size) {
+                ssmHi.remove(removeContext, valueSlice.resetFromChunk(valueCopy, loPivot, size - loPivot),
+                        countSlice.resetFromChunk(counts, loPivot, size - loPivot));
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            final long loSize = ssmLo.totalSize();
+            final long totalSize = loSize + ssmHi.totalSize();
+
+            if (totalSize == 0) {
+                outputValues.set(outIdx, NULL_DOUBLE);
+                return;
+            }
+
+            final long targetLo = averageEvenlyDivided
+                    ? (long) ((totalSize - 1) * percentile) + 1
+                    : Math.round((totalSize - 1) * percentile) + 1;
+            if (loSize < targetLo) {
+                ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
+            } else if (loSize > targetLo) {
+                ssmLo.moveBackToFront(ssmHi, loSize - targetLo);
+            }
+
+            if (averageEvenlyDivided && ssmLo.totalSize() == ssmHi.totalSize()) {
+                outputValues.set(outIdx, ((double) ssmLo.getMaxDouble() + ssmHi.getMinDouble()) / 2.0);
+            } else {
+                outputValues.set(outIdx, ssmLo.getMaxDouble());
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            windowValues.clear();
+            if (ssmLo.totalSize() > 0) {
+                ssmLo = new DoubleSegmentedSortedMultiset(SSM_NODE_SIZE);
+            }
+            if (ssmHi.totalSize() > 0) {
+                ssmHi = new DoubleSegmentedSortedMultiset(SSM_NODE_SIZE);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public DoubleRollingQuantileOperator(@NotNull final MatchPair pair,
+                                       @NotNull final String[] affectingColumns,
+                                       @Nullable final RowRedirection rowRedirection,
+                                       @Nullable final String timestampColumnName,
+                                       final long reverseWindowScaleUnits,
+                                       final long forwardWindowScaleUnits,
+                                       final double percentile,
+                                       final boolean averageEvenlyDivided
+                                       // region extra-constructor-args
+                                       // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, rowRedirection, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.percentile = percentile;
+        this.averageEvenlyDivided = averageEvenlyDivided;
+        // region constructor
+        // endregion constructor
+    }
+
+    /**
+     * Return the index one past the last value in {@code valuesToSearch} that is less than or equal to
+     * {@code searchValue}.
+     *
+     * @param valuesToSearch the sorted values to search
+     * @param lo the first index to search
+     * @param hi one past the last index to search
+     * @param searchValue the value to find
+     * @return the index of the first value greater than {@code searchValue}, or {@code hi} if there is none
+     */
+    private static int upperBound(DoubleChunk<? extends Values> valuesToSearch, int lo, int hi, double searchValue) {
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (DoubleComparisons.gt(valuesToSearch.get(mid), searchValue)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return hi;
+    }
+}
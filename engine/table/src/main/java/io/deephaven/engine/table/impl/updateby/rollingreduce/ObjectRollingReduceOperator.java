@@ -0,0 +1,213 @@
+package io.deephaven.engine.table.impl.updateby.rollingreduce;
+
+import io.deephaven.api.updateby.spec.RollingReduceSpec;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseObjectUpdateByOperator;
+import io.deephaven.engine.table.impl.util.RowRedirection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A rolling operator that reduces each window with a user-supplied associative {@link RollingReduceSpec.Reducer}.
+ * <p>
+ * The window values are held in a {@link WindowQueue}, a queue built from two stacks that keeps partial reductions in
+ * window order. Each pushed value is reduced into the running reduction of the back stack, and popping from an empty
+ * front stack moves the back stack over while computing suffix reductions. Each row costs an amortized constant number
+ * of reducer applications, and values are always combined oldest first, so reducers need not be commutative.
+ * <p>
+ * {@code null} is used as the identity of the reduction, so {@code null} values never reach the reducer.
+ */
+public class ObjectRollingReduceOperator<T> extends BaseObjectUpdateByOperator<T> {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private final RollingReduceSpec.Reducer<T> reducer;
+    // region extra-fields
+    // endregion extra-fields
+
+    protected class Context extends BaseObjectUpdateByOperator<T>.Context {
+        protected ObjectChunk<T, ? extends Values> objectInfluencerValuesChunk;
+        protected WindowQueue<T> buffer;
+
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            buffer = new WindowQueue<>(BUFFER_INITIAL_CAPACITY, reducer);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            buffer = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            objectInfluencerValuesChunk = valueChunks[0].asObjectChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            for (int ii = 0; ii < count; ii++) {
+                final T val = objectInfluencerValuesChunk.get(pos + ii);
+                buffer.push(val);
+
+                if (val == null) {
+                    nullCount++;
+                }
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(buffer.size(), "buffer.size()", count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final T val = buffer.pop();
+
+                if (val == null) {
+                    nullCount--;
+                }
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            if (buffer.size() == nullCount) {
+                outputValues.set(outIdx, null);
+            } else {
+                outputValues.set(outIdx, buffer.evaluate());
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            buffer.clear();
+        }
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public ObjectRollingReduceOperator(@NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final RowRedirection rowRedirection,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            @NotNull final RollingReduceSpec.Reducer<T> reducer
+            // region extra-constructor-args
+            , final Class<T> colType
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, rowRedirection, timestampColumnName, reverseWindowScaleUnits,
+                forwardWindowScaleUnits, true, colType);
+        this.reducer = reducer;
+        // region constructor
+        // endregion constructor
+    }
+
+    /**
+     * A FIFO queue of window values that can reduce its contents in window order. Values are pushed onto the back stack,
+     * which keeps a running reduction of its contents. The front stack holds the oldest values, with the reduction of
+     * each value and everything newer than it in the front stack, so the whole window is the front stack's top
+     * reduction combined with the back stack's running reduction.
+     */
+    static final class WindowQueue<T> {
+        private final RollingReduceSpec.Reducer<T> reducer;
+
+        /** Back stack values, oldest first */
+        private T[] backValues;
+        private int backSize;
+        /** The reduction of all back stack values */
+        private T backReduction;
+
+        /** Front stack values, newest first, so that the oldest value is on top */
+        private T[] frontValues;
+        /** For each front stack position, the reduction of that value and every value below it */
+        private T[] frontReductions;
+        private int frontSize;
+
+        @SuppressWarnings("unchecked")
+        WindowQueue(final int initialCapacity, @NotNull final RollingReduceSpec.Reducer<T> reducer) {
+            this.reducer = reducer;
+            backValues = (T[]) new Object[initialCapacity];
+            frontValues = (T[]) new Object[initialCapacity];
+            frontReductions = (T[]) new Object[initialCapacity];
+        }
+
+        int size() {
+            return backSize + frontSize;
+        }
+
+        void push(final T value) {
+            if (backSize == backValues.length) {
+                backValues = Arrays.copyOf(backValues, backSize * 2);
+            }
+            backValues[backSize++] = value;
+            backReduction = combine(backReduction, value);
+        }
+
+        T pop() {
+            if (frontSize == 0) {
+                transfer();
+            }
+            final T value = frontValues[--frontSize];
+            frontValues[frontSize] = null;
+            frontReductions[frontSize] = null;
+            return value;
+        }
+
+        /**
+         * @return The reduction of every value in the queue, oldest first, or {@code null} if all values are null
+         */
+        T evaluate() {
+            return frontSize == 0 ? backReduction : combine(frontReductions[frontSize - 1], backReduction);
+        }
+
+        void clear() {
+            Arrays.fill(backValues, 0, backSize, null);
+            Arrays.fill(frontValues, 0, frontSize, null);
+            Arrays.fill(frontReductions, 0, frontSize, null);
+            backSize = 0;
+            frontSize = 0;
+            backReduction = null;
+        }
+
+        private void transfer() {
+            if (frontValues.length < backSize) {
+                frontValues = Arrays.copyOf(frontValues, backValues.length);
+                frontReductions = Arrays.copyOf(frontReductions, backValues.length);
+            }
+            // The newest value goes on the bottom, so the reductions accumulate from newest to oldest
+            T reduction = null;
+            for (int ii = backSize - 1; ii >= 0; --ii) {
+                final T value = backValues[ii];
+                backValues[ii] = null;
+                reduction = combine(value, reduction);
+                frontValues[frontSize] = value;
+                frontReductions[frontSize] = reduction;
+                ++frontSize;
+            }
+            backSize = 0;
+            backReduction = null;
+        }
+
+        private T combine(final T earlier, final T later) {
+            if (earlier == null) {
+                return later;
+            } else if (later == null) {
+                return earlier;
+            }
+            return reducer.apply(earlier, later);
+        }
+    }
+}
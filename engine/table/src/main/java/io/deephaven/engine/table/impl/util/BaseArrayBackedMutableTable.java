@@ -224,14 +224,31 @@ abstract class BaseArrayBackedMutableTable extends UpdatableTable {
             asynchronousContinuation(pendingChange, listener);
         }
 
+        /**
+         * Asynchronously add rows from a static, in-memory table that was built for this input table, and that no other
+         * code holds a reference to. Such a table can not change out from under us, so it is not copied.
+         */
+        private void addOwnedAsync(
+                @NotNull final QueryTable newData,
+                final boolean allowEdits,
+                @NotNull final InputTableStatusListener listener) {
+            validateAddOrModify(newData);
+            asynchronousContinuation(enqueueChange(newData, false, allowEdits), listener);
+        }
+
         private PendingChange enqueueAddition(@NotNull final Table newData, final boolean allowEdits) {
             validateAddOrModify(newData);
             // we want to get a clean copy of the table; that can not change out from under us or result in long reads
             // during our UGP run
             final Table newDataSnapshot = snapshotData(newData);
+            return enqueueChange(newDataSnapshot, false, allowEdits);
+        }
+
+        private PendingChange enqueueChange(@NotNull final Table changeData, final boolean delete,
+                final boolean allowEdits) {
             final PendingChange pendingChange;
             synchronized (pendingChanges) {
-                pendingChange = new PendingChange(newDataSnapshot, false, allowEdits);
+                pendingChange = new PendingChange(changeData, delete, allowEdits);
                 pendingChanges.add(pendingChange);
             }
             onPendingChange.run();
@@ -258,13 +275,7 @@ abstract class BaseArrayBackedMutableTable extends UpdatableTable {
         private PendingChange enqueueDeletion(@NotNull final Table table, @NotNull final TrackingRowSet rowsToDelete) {
             validateDelete(table);
             final Table oldDataSnapshot = snapshotData(table, rowsToDelete);
-            final PendingChange pendingChange;
-            synchronized (pendingChanges) {
-                pendingChange = new PendingChange(oldDataSnapshot, true, false);
-                pendingChanges.add(pendingChange);
-            }
-            onPendingChange.run();
-            return pendingChange;
+            return enqueueChange(oldDataSnapshot, true, false);
         }
 
         private Table snapshotData(@NotNull final Table data, @NotNull final TrackingRowSet rowSet) {
@@ -404,7 +415,7 @@ abstract class BaseArrayBackedMutableTable extends UpdatableTable {
             // noinspection resource
             final QueryTable newData = new QueryTable(getTableDefinition(),
                     RowSetFactory.flat(valueArray.length).toTracking(), sources);
-            addAsync(newData, true, listener);
+            addOwnedAsync(newData, true, listener);
         }
 
         @Override
@@ -412,20 +423,24 @@ abstract class BaseArrayBackedMutableTable extends UpdatableTable {
             final List<ColumnDefinition<?>> columnDefinitions = getTableDefinition().getColumns();
             final Map<String, WritableColumnSource<Object>> sources =
                     buildSourcesMap(valueArray.length, columnDefinitions);
+            final String[] columnNames =
+                    getTableDefinition().getColumnNames().toArray(CollectionUtil.ZERO_LENGTH_STRING_ARRAY);
+            // noinspection unchecked
+            final WritableColumnSource<Object>[] sourcesByPosition =
+                    Arrays.stream(columnNames).map(sources::get).toArray(WritableColumnSource[]::new);
 
             for (int rowNumber = 0; rowNumber < valueArray.length; rowNumber++) {
                 final Map<String, Object> values = valueArray[rowNumber];
-                for (final ColumnDefinition<?> columnDefinition : columnDefinitions) {
-                    sources.get(columnDefinition.getName()).set(rowNumber, values.get(columnDefinition.getName()));
+                for (int cc = 0; cc < sourcesByPosition.length; cc++) {
+                    sourcesByPosition[cc].set(rowNumber, values.get(columnNames[cc]));
                 }
-
             }
 
             // noinspection resource
             final QueryTable newData = new QueryTable(getTableDefinition(),
                     RowSetFactory.flat(valueArray.length).toTracking(), sources);
 
-            addAsync(newData, allowEdits, listener);
+            addOwnedAsync(newData, allowEdits, listener);
         }
 
         @NotNull
@@ -35,6 +35,8 @@ import java.util.stream.Collectors;
  * <p>
  * This class is not thread safe, you must synchronize externally. However, multiple setters may safely log
  * concurrently.
+ * <p>
+ * For many concurrent writing threads, prefer {@link io.deephaven.stream.MultiProducerTableWriter}.
  *
  * @implNote The constructor publishes {@code this} to the {@link UpdateGraph} and thus cannot be subclassed.
  */
@@ -3,25 +3,32 @@
  */
 package io.deephaven.engine.table.impl.util;
 
+import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.table.*;
+import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.exceptions.ArgumentException;
-import io.deephaven.engine.table.impl.chunkboxer.ChunkBoxer;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.AggregationControl;
+import io.deephaven.engine.table.impl.by.IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase;
+import io.deephaven.engine.table.impl.by.OperatorAggregationStateManager;
+import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
 import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.chunk.*;
 import io.deephaven.engine.table.impl.TupleSourceFactory;
-import gnu.trove.impl.Constants;
-import gnu.trove.map.TObjectLongMap;
-import gnu.trove.map.hash.TObjectLongHashMap;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.SafeCloseableArray;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.function.Consumer;
 
+import static io.deephaven.engine.table.impl.by.OperatorAggregationStateManager.UNKNOWN_ROW;
+
 /**
  * An in-memory table that has keys for each row, which can be updated on the UGP.
  * <p>
@@ -30,14 +37,22 @@ import java.util.function.Consumer;
 public class KeyedArrayBackedMutableTable extends BaseArrayBackedMutableTable {
 
     private static final String DEFAULT_DESCRIPTION = "In-Memory Input Table";
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
 
     private final List<String> keyColumnNames;
     private final Set<String> keyColumnSet;
 
     protected final ObjectArraySource<?>[] arrayValueSources;
 
-    private final TObjectLongMap<Object> keyToRowMap =
-            new TObjectLongHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, Long.MIN_VALUE);
+    /**
+     * Maps each key we have added to its row number. Keys are never removed, so a deleted key keeps its row, and adding
+     * it again revives that row. Deletes and rejected adds only probe it.
+     */
+    private final IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase keyStateManager;
+    /** The next row number {@link #keyStateManager} will assign */
+    private final MutableInt nextPosition = new MutableInt(0);
+    /** Rows below {@link #nextRow} whose keys have been deleted */
+    private final BitSet deletedRows = new BitSet();
 
     /**
      * Create an empty KeyedArrayBackedMutableTable.
@@ -100,14 +115,16 @@ public class KeyedArrayBackedMutableTable extends BaseArrayBackedMutableTable {
     public static KeyedArrayBackedMutableTable make(final Table initialTable, final Map<String, Object[]> enumValues,
             final String... keyColumnNames) {
         final KeyedArrayBackedMutableTable result = new KeyedArrayBackedMutableTable(initialTable.getDefinition(),
-                keyColumnNames, enumValues, new ProcessPendingUpdater());
+                keyColumnNames, enumValues, new ProcessPendingUpdater(),
+                AggregationControl.DEFAULT.initialHashTableSize(initialTable, keyColumnNames));
         processInitial(initialTable, result);
         result.startTrackingPrev();
         return result;
     }
 
     private KeyedArrayBackedMutableTable(@NotNull TableDefinition definition, final String[] keyColumnNames,
-            final Map<String, Object[]> enumValues, final ProcessPendingUpdater processPendingUpdater) {
+            final Map<String, Object[]> enumValues, final ProcessPendingUpdater processPendingUpdater,
+            final int initialHashTableSize) {
         // noinspection resource
         super(RowSetFactory.empty().toTracking(), makeColumnSourceMap(definition),
                 enumValues, processPendingUpdater);
@@ -128,6 +145,17 @@ public class KeyedArrayBackedMutableTable extends BaseArrayBackedMutableTable {
                         .filter(cs -> cs instanceof ObjectArraySource)
                         .map(cs -> (ObjectArraySource<?>) cs)
                         .toArray(ObjectArraySource[]::new);
+
+        final ColumnSource<?>[] keySources = Arrays.stream(keyColumnNames)
+                .map(this::getColumnSource)
+                .toArray(ColumnSource[]::new);
+        final ColumnSource<?>[] reinterpretedKeySources = Arrays.stream(keySources)
+                .map(ReinterpretUtils::maybeConvertToPrimitive)
+                .toArray(ColumnSource[]::new);
+        keyStateManager = TypedHasherFactory.make(
+                IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.class,
+                reinterpretedKeySources, keySources, initialHashTableSize,
+                AggregationControl.DEFAULT.getMaximumLoadFactor(), AggregationControl.DEFAULT.getTargetLoadFactor());
     }
 
     private void startTrackingPrev() {
@@ -137,108 +165,173 @@ public class KeyedArrayBackedMutableTable extends BaseArrayBackedMutableTable {
     @Override
     protected void processPendingTable(Table table, boolean allowEdits, RowSetChangeRecorder rowSetChangeRecorder,
             Consumer<String> errorNotifier) {
-        final ChunkSource<Values> keySource = makeKeySource(table);
-        final int chunkCapacity = table.intSize();
+        final ColumnSource<?>[] keySources = makeKeySources(table);
+        final int chunkCapacity = Math.min(table.intSize(), CHUNK_SIZE);
+        if (chunkCapacity == 0) {
+            return;
+        }
+        keyStateManager.beginUpdateCycle();
 
-        long rowToInsert = nextRow;
-        final StringBuilder errorBuilder = new StringBuilder();
+        try (final RowSet addRowSet = table.getRowSet().copy()) {
+            if (!allowEdits && !checkNoEdits(table, keySources, addRowSet, errorNotifier)) {
+                return;
+            }
 
-        try (final RowSet addRowSet = table.getRowSet().copy();
-                final WritableLongChunk<RowKeys> destinations = WritableLongChunk.makeWritableChunk(chunkCapacity);
-                final SharedContext sharedContext = SharedContext.makeSharedContext()) {
-            try (final ChunkSource.GetContext getContext = keySource.makeGetContext(chunkCapacity, sharedContext);
-                    final ChunkBoxer.BoxerKernel boxer = ChunkBoxer.getBoxer(keySource.getChunkType(), chunkCapacity)) {
-                final Chunk<? extends Values> keys = keySource.getChunk(getContext, addRowSet);
-                final ObjectChunk<?, ? extends Values> boxed = boxer.box(keys);
-                for (int ii = 0; ii < boxed.size(); ++ii) {
-                    final Object key = boxed.get(ii);
-                    long rowNumber = keyToRowMap.putIfAbsent(key, rowToInsert);
-                    if (rowNumber == keyToRowMap.getNoEntryValue()) {
-                        rowNumber = rowToInsert++;
-                        destinations.set(ii, rowNumber);
-                    } else if (isDeletedRowNumber(rowNumber)) {
-                        rowNumber = deletedRowNumberToRowNumber(rowNumber);
-                        keyToRowMap.put(key, rowNumber);
-                        rowSetChangeRecorder.addRowKey(rowNumber);
-                        destinations.set(ii, rowNumber);
-                    } else if (allowEdits) {
-                        rowSetChangeRecorder.modifyRowKey(rowNumber);
-                        destinations.set(ii, rowNumber);
-                    } else {
-                        // invalid edit
-                        if (errorBuilder.length() > 0) {
-                            errorBuilder.append(", ").append(key);
+            final Map<String, ? extends ColumnSource<?>> columnSourceMap = getColumnSourceMap();
+            final int numColumns = columnSourceMap.size();
+            final WritableColumnSource<?>[] destinationSources = new WritableColumnSource[numColumns];
+            final ColumnSource<?>[] sourceColumnSources = new ColumnSource[numColumns];
+            final ChunkSink.FillFromContext[] fillFromContexts = new ChunkSink.FillFromContext[numColumns];
+            final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[numColumns];
+            int ci = 0;
+            for (final Map.Entry<String, ? extends ColumnSource<?>> entry : columnSourceMap.entrySet()) {
+                destinationSources[ci] = (WritableColumnSource<?>) entry.getValue();
+                sourceColumnSources[ci] = table.getColumnSource(entry.getKey(), entry.getValue().getType());
+                ++ci;
+            }
+
+            // Resolve each chunk of keys to row numbers, then copy that chunk of every column to those rows
+            try (final SafeCloseable bc = keyStateManager.makeAggregationStateBuildContext(keySources, chunkCapacity);
+                    final WritableIntChunk<RowKeys> positions = WritableIntChunk.makeWritableChunk(chunkCapacity);
+                    final WritableLongChunk<RowKeys> destinations = WritableLongChunk.makeWritableChunk(chunkCapacity);
+                    final SharedContext sharedContext = SharedContext.makeSharedContext();
+                    final SafeCloseable ignored1 = new SafeCloseableArray<>(fillFromContexts);
+                    final SafeCloseable ignored2 = new SafeCloseableArray<>(getContexts);
+                    final RowSequence.Iterator rsIt = addRowSet.getRowSequenceIterator()) {
+                for (ci = 0; ci < numColumns; ++ci) {
+                    fillFromContexts[ci] = destinationSources[ci].makeFillFromContext(chunkCapacity);
+                    getContexts[ci] = sourceColumnSources[ci].makeGetContext(chunkCapacity, sharedContext);
+                }
+                while (rsIt.hasMore()) {
+                    final RowSequence chunkRows = rsIt.getNextRowSequenceWithLength(chunkCapacity);
+                    final int chunkSize = chunkRows.intSize();
+                    keyStateManager.add(bc, chunkRows, keySources, nextPosition, positions);
+                    destinations.setSize(chunkSize);
+                    for (int ii = 0; ii < chunkSize; ++ii) {
+                        final int rowNumber = positions.get(ii);
+                        if (rowNumber >= nextRow) {
+                            // the first occurrence of a new key; positions are handed out in order
+                            Assert.eq(rowNumber, "rowNumber", nextRow, "nextRow");
+                            rowSetChangeRecorder.addRowKey(rowNumber);
+                            ++nextRow;
+                        } else if (deletedRows.get(rowNumber)) {
+                            deletedRows.clear(rowNumber);
+                            rowSetChangeRecorder.addRowKey(rowNumber);
                         } else {
-                            errorBuilder.append("Can not edit keys ").append(key);
+                            rowSetChangeRecorder.modifyRowKey(rowNumber);
                         }
+                        destinations.set(ii, rowNumber);
                     }
-                }
-            }
 
-            if (errorBuilder.length() > 0) {
-                errorNotifier.accept(errorBuilder.toString());
-                return;
+                    for (ci = 0; ci < numColumns; ++ci) {
+                        destinationSources[ci].ensureCapacity(nextRow);
+                        final Chunk<? extends Values> valuesChunk =
+                                sourceColumnSources[ci].getChunk(getContexts[ci], chunkRows);
+                        destinationSources[ci].fillFromChunkUnordered(fillFromContexts[ci], valuesChunk, destinations);
+                    }
+                    sharedContext.reset();
+                }
             }
+        }
+    }
 
-            for (long ii = nextRow; ii < rowToInsert; ++ii) {
-                rowSetChangeRecorder.addRowKey(ii);
+    /**
+     * Check that a change made without edits allowed neither edits an existing row nor repeats a key. This only probes
+     * {@link #keyStateManager}, so the keys of a rejected change are not retained.
+     *
+     * @return true if the change may be applied
+     */
+    private boolean checkNoEdits(
+            @NotNull final Table table,
+            @NotNull final ColumnSource<?>[] keySources,
+            @NotNull final RowSet addRowSet,
+            @NotNull final Consumer<String> errorNotifier) {
+        final TupleSource<?> tupleSource = makeKeySource(table);
+        final Set<Object> seenKeys = new HashSet<>();
+        final StringBuilder errorBuilder = new StringBuilder();
+        addRowSet.forAllRowKeys(rowKey -> {
+            final int rowNumber = findRowNumber(keySources, rowKey);
+            final Object key = tupleSource.createTuple(rowKey);
+            if (!seenKeys.add(key) || (rowNumber != UNKNOWN_ROW && !deletedRows.get(rowNumber))) {
+                // invalid edit
+                if (errorBuilder.length() > 0) {
+                    errorBuilder.append(", ").append(key);
+                } else {
+                    errorBuilder.append("Can not edit keys ").append(key);
+                }
             }
-            nextRow = rowToInsert;
-
-            sharedContext.reset();
+        });
 
-            getColumnSourceMap().forEach((name, cs) -> {
-                final WritableColumnSource<?> writableColumnSource = (WritableColumnSource<?>) cs;
-                writableColumnSource.ensureCapacity(nextRow);
-                final ColumnSource<?> sourceColumnSource = table.getColumnSource(name, cs.getType());
-                try (final ChunkSink.FillFromContext ffc = writableColumnSource.makeFillFromContext(chunkCapacity);
-                        final ChunkSource.GetContext getContext =
-                                sourceColumnSource.makeGetContext(chunkCapacity, sharedContext)) {
-                    final Chunk<? extends Values> valuesChunk = sourceColumnSource.getChunk(getContext, addRowSet);
-                    writableColumnSource.fillFromChunkUnordered(ffc, valuesChunk, destinations);
-                }
-            });
+        if (errorBuilder.length() == 0) {
+            return true;
         }
+        errorNotifier.accept(errorBuilder.toString());
+        return false;
     }
 
     @Override
     protected void processPendingDelete(Table table, RowSetChangeRecorder rowSetChangeRecorder) {
-        final ChunkSource<Values> keySource = makeKeySource(table);
-        final int chunkCapacity = table.intSize();
-
-        try (final WritableLongChunk<RowKeys> destinations = WritableLongChunk.makeWritableChunk(chunkCapacity)) {
-            try (final SharedContext sharedContext = SharedContext.makeSharedContext();
-                    final ChunkSource.GetContext getContext = keySource.makeGetContext(chunkCapacity, sharedContext);
-                    final ChunkBoxer.BoxerKernel boxer = ChunkBoxer.getBoxer(keySource.getChunkType(), chunkCapacity);
-                    final RowSet tableRowSet = table.getRowSet().copy()) {
+        final ColumnSource<?>[] keySources = makeKeySources(table);
+        final int chunkCapacity = Math.min(table.intSize(), CHUNK_SIZE);
+        if (chunkCapacity == 0) {
+            return;
+        }
+        keyStateManager.beginUpdateCycle();
 
-                final Chunk<? extends Values> keys = keySource.getChunk(getContext, tableRowSet);
-                final ObjectChunk<?, ? extends Values> boxed = boxer.box(keys);
+        try (final WritableLongChunk<RowKeys> destinations = WritableLongChunk.makeWritableChunk(chunkCapacity);
+                final WritableObjectChunk<?, Values> nullChunk = WritableObjectChunk.makeWritableChunk(chunkCapacity);
+                final RowSet tableRowSet = table.getRowSet().copy();
+                final RowSequence.Iterator rsIt = tableRowSet.getRowSequenceIterator()) {
+            nullChunk.fillWithNullValue(0, chunkCapacity);
+            while (rsIt.hasMore()) {
+                final RowSequence chunkRows = rsIt.getNextRowSequenceWithLength(chunkCapacity);
                 destinations.setSize(0);
-                for (int ii = 0; ii < boxed.size(); ++ii) {
-                    final Object key = boxed.get(ii);
-                    long rowNumber = keyToRowMap.get(key);
-                    if (rowNumber != keyToRowMap.getNoEntryValue() && !isDeletedRowNumber(rowNumber)) {
+                // Only probe for the keys; deleting a key we have never seen is a no-op and must not insert it
+                chunkRows.forAllRowKeys(rowKey -> {
+                    final int rowNumber = findRowNumber(keySources, rowKey);
+                    if (rowNumber != UNKNOWN_ROW && !deletedRows.get(rowNumber)) {
                         rowSetChangeRecorder.removeRowKey(rowNumber);
                         destinations.add(rowNumber);
-                        keyToRowMap.put(key, rowNumberToDeletedRowNumber(rowNumber));
+                        deletedRows.set(rowNumber);
                     }
-                }
-            }
+                });
 
-            // null out the values, so that we do not hold onto garbage forever, we keep the keys
-            for (ObjectArraySource<?> objectArraySource : arrayValueSources) {
-                try (final ChunkSink.FillFromContext ffc = objectArraySource.makeFillFromContext(chunkCapacity);
-                        final WritableObjectChunk<?, Values> nullChunk =
-                                WritableObjectChunk.makeWritableChunk(chunkCapacity)) {
-                    nullChunk.fillWithNullValue(0, chunkCapacity);
-                    objectArraySource.fillFromChunkUnordered(ffc, nullChunk, destinations);
+                // null out the values, so that we do not hold onto garbage forever, we keep the keys
+                for (ObjectArraySource<?> objectArraySource : arrayValueSources) {
+                    try (final ChunkSink.FillFromContext ffc =
+                            objectArraySource.makeFillFromContext(chunkCapacity)) {
+                        objectArraySource.fillFromChunkUnordered(
+                                ffc, nullChunk.slice(0, destinations.size()), destinations);
+                    }
                 }
             }
         }
     }
 
-    private ChunkSource<Values> makeKeySource(Table table) {
+    /**
+     * Find the row number {@link #keyStateManager} assigned to the key at {@code rowKey}, without inserting it.
+     *
+     * @return the row number, or {@link OperatorAggregationStateManager#UNKNOWN_ROW} if the key has never been added
+     */
+    private int findRowNumber(@NotNull final ColumnSource<?>[] keySources, final long rowKey) {
+        if (keySources.length == 1) {
+            return keyStateManager.findPositionForKey(keySources[0].get(rowKey));
+        }
+        final Object[] key = new Object[keySources.length];
+        for (int ki = 0; ki < keySources.length; ++ki) {
+            key[ki] = keySources[ki].get(rowKey);
+        }
+        return keyStateManager.findPositionForKey(key);
+    }
+
+    private ColumnSource<?>[] makeKeySources(Table table) {
+        return keyColumnNames.stream()
+                .map(name -> ReinterpretUtils.maybeConvertToPrimitive(
+                        table.getColumnSource(name, getColumnSource(name).getType())))
+                .toArray(ColumnSource[]::new);
+    }
+
+    private TupleSource<?> makeKeySource(Table table) {
         return TupleSourceFactory.makeTupleSource(
                 keyColumnNames.stream().map(table::getColumnSource).toArray(ColumnSource[]::new));
     }
@@ -252,37 +345,4 @@ public class KeyedArrayBackedMutableTable extends BaseArrayBackedMutableTable {
     protected List<String> getKeyNames() {
         return keyColumnNames;
     }
-
-    /**
-     * Convert row number to a deleted value for storage in the map
-     *
-     * @param rowNumber the undeleted row number
-     *
-     * @return the deleted row number
-     */
-    private static long rowNumberToDeletedRowNumber(long rowNumber) {
-        return -(rowNumber + 1);
-    }
-
-    /**
-     * Is the rowNumber a deleted row? Should not be called with noEntryValue.
-     *
-     * @param rowNumber the row number to check for deletion
-     *
-     * @return true if this represents a deleted row
-     */
-    private static boolean isDeletedRowNumber(long rowNumber) {
-        return rowNumber < 0;
-    }
-
-    /**
-     * Convert a deleted row number from the map into an actual row number
-     *
-     * @param deletedRowNumber the deleted row number
-     *
-     * @return the original row number
-     */
-    private static long deletedRowNumberToRowNumber(long deletedRowNumber) {
-        return -(deletedRowNumber + 1);
-    }
 }
@@ -11,6 +11,14 @@ import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Context;
 import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.Table;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import static io.deephaven.util.SafeCloseable.closeAll;
 
@@ -41,6 +49,54 @@ public class TypedHasherUtil {
         }
     }
 
+    /**
+     * Get the {@link Table#EXPECTED_DISTINCT_KEYS_ATTRIBUTE} hint for {@code table} keyed by {@code keyColumnNames}.
+     *
+     * @param table The table whose keys will be hashed
+     * @param keyColumnNames The names of the key columns, in any order
+     * @return The expected number of distinct keys, or 0 if {@code table} has no hint for {@code keyColumnNames}
+     */
+    public static long expectedDistinctKeys(@NotNull final Table table, @NotNull final String[] keyColumnNames) {
+        final Object hints = table.getAttribute(Table.EXPECTED_DISTINCT_KEYS_ATTRIBUTE);
+        if (hints == null) {
+            return 0;
+        }
+        if (!(hints instanceof Map)) {
+            throw new IllegalArgumentException(Table.EXPECTED_DISTINCT_KEYS_ATTRIBUTE
+                    + " must be a Map from key column names to a Number, found " + hints.getClass().getName());
+        }
+        final Set<String> keyColumnSet = new HashSet<>(Arrays.asList(keyColumnNames));
+        for (final Map.Entry<?, ?> hint : ((Map<?, ?>) hints).entrySet()) {
+            if (!(hint.getKey() instanceof Collection) || !(hint.getValue() instanceof Number)) {
+                throw new IllegalArgumentException(Table.EXPECTED_DISTINCT_KEYS_ATTRIBUTE
+                        + " must be a Map from key column names to a Number, found entry " + hint);
+            }
+            if (keyColumnSet.equals(new HashSet<>((Collection<?>) hint.getKey()))) {
+                return Math.max(0, ((Number) hint.getValue()).longValue());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compute the smallest power of two hash table size that holds {@code numEntries} without exceeding
+     * {@code loadFactor}.
+     *
+     * @param numEntries The number of entries the table must hold
+     * @param minimumSize The smallest size to return, a power of two
+     * @param maximumSize The largest size to return, a power of two
+     * @param loadFactor The load factor at which the table would be grown
+     * @return The table size
+     */
+    public static int tableSizeForEntries(final long numEntries, final int minimumSize, final long maximumSize,
+            final double loadFactor) {
+        final long requiredSize = (long) Math.ceil(numEntries / loadFactor);
+        if (requiredSize <= minimumSize) {
+            return minimumSize;
+        }
+        return (int) Math.min(maximumSize, Long.highestOneBit(requiredSize - 1) << 1);
+    }
+
     @FunctionalInterface
     public interface ProbeHandler {
         void doProbe(RowSequence chunkOk, Chunk<Values>[] sourceKeyChunks);
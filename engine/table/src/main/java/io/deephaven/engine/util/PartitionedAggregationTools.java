@@ -0,0 +1,363 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.util;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.HashCodes;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.TrackingRowSet;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.engine.table.impl.NoSuchColumnException;
+import io.deephaven.engine.table.impl.select.SelectColumn;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.ScriptApi;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Provides static methods to perform keyed aggregations that are split across hash partitions of the group-by key
+ * space.
+ * <p>
+ * The input rows are assigned to one of {@code numPartitions} partitions by hashing their group-by keys, each
+ * partition is aggregated independently, and the per-partition results are merged. Since every group lives in exactly
+ * one partition, the merged result holds the same groups and values as a single {@link Table#aggBy aggBy}, but each
+ * partition has its own state manager and operator state. When the input ticks, the update graph can therefore
+ * process the partitions' incremental updates concurrently on its update threads, rather than pushing the whole
+ * update through one state manager on one thread.
+ * <p>
+ * The result is ordered by partition, and by first appearance within each partition, rather than by first appearance
+ * overall. Splitting the input is an extra pass over each update that hashes its keys and then partitions it by a
+ * single int column, so partitioning pays off when the aggregation itself is expensive: many groups, many operators,
+ * or high update rates.
+ */
+public class PartitionedAggregationTools {
+
+    /**
+     * The number of partitions to use when none is specified; defaults to the number of available processors.
+     */
+    public static final int DEFAULT_NUM_PARTITIONS = Configuration.getInstance().getIntegerWithDefault(
+            "PartitionedAggregationTools.defaultNumPartitions", Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Perform a keyed aggregation split across {@link #DEFAULT_NUM_PARTITIONS} hash partitions.
+     *
+     * @param table the input table
+     * @param aggregations the aggregations to apply
+     * @param groupByColumns the group-by key columns, must not be empty
+     * @return the aggregated table
+     */
+    @ScriptApi
+    public static Table aggBy(
+            @NotNull final Table table,
+            @NotNull final Collection<? extends Aggregation> aggregations,
+            @NotNull final String... groupByColumns) {
+        return aggBy(table, DEFAULT_NUM_PARTITIONS, aggregations, ColumnName.from(groupByColumns));
+    }
+
+    /**
+     * Perform a keyed aggregation split across {@code numPartitions} hash partitions.
+     *
+     * @param table the input table
+     * @param numPartitions the number of hash partitions
+     * @param aggregations the aggregations to apply
+     * @param groupByColumns the group-by key columns, must not be empty
+     * @return the aggregated table
+     */
+    @ScriptApi
+    public static Table aggBy(
+            @NotNull final Table table,
+            final int numPartitions,
+            @NotNull final Collection<? extends Aggregation> aggregations,
+            @NotNull final String... groupByColumns) {
+        return aggBy(table, numPartitions, aggregations, ColumnName.from(groupByColumns));
+    }
+
+    /**
+     * Perform a keyed aggregation split across {@code numPartitions} hash partitions.
+     *
+     * @param table the input table
+     * @param numPartitions the number of hash partitions
+     * @param aggregations the aggregations to apply
+     * @param groupByColumns the group-by key columns, must not be empty
+     * @return the aggregated table
+     */
+    public static Table aggBy(
+            @NotNull final Table table,
+            final int numPartitions,
+            @NotNull final Collection<? extends Aggregation> aggregations,
+            @NotNull final Collection<? extends ColumnName> groupByColumns) {
+        if (numPartitions < 1) {
+            throw new IllegalArgumentException("numPartitions must be positive, got " + numPartitions);
+        }
+        if (groupByColumns.isEmpty()) {
+            throw new IllegalArgumentException("Partitioned aggregation requires at least one group-by column");
+        }
+        if (numPartitions == 1 || BlinkTableTools.isBlink(table)) {
+            // Blink aggregations rely on the input being a single blink table, so we can't split them
+            return table.aggBy(aggregations, groupByColumns);
+        }
+
+        final List<String> keyNames = groupByColumns.stream().map(ColumnName::name).collect(Collectors.toList());
+        final String partitionColumnName = partitionColumnName(table);
+
+        final Table withPartition =
+                table.updateView(List.of(new PartitionColumn(keyNames, partitionColumnName, numPartitions)));
+
+        return withPartition.partitionBy(partitionColumnName)
+                .transform(constituent -> constituent.aggBy(aggregations, groupByColumns))
+                .merge();
+    }
+
+    private static String partitionColumnName(@NotNull final Table table) {
+        int numAttempts = 0;
+        String name;
+        do {
+            name = "__partition_" + (numAttempts++) + "__";
+        } while (table.hasColumns(name));
+        return name;
+    }
+
+    /**
+     * An {@link Table#updateView updateView} column holding the partition for each row's group-by keys.
+     */
+    private static final class PartitionColumn implements SelectColumn {
+        private final List<String> keyNames;
+        private final String name;
+        private final int numPartitions;
+        private ColumnSource<?>[] keySources;
+
+        private PartitionColumn(
+                @NotNull final List<String> keyNames,
+                @NotNull final String name,
+                final int numPartitions) {
+            this.keyNames = keyNames;
+            this.name = name;
+            this.numPartitions = numPartitions;
+        }
+
+        @Override
+        public String toString() {
+            return "partition(" + String.join(",", keyNames) + ',' + name + ')';
+        }
+
+        @Override
+        public List<String> initInputs(final Table table) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> initInputs(
+                final TrackingRowSet rowSet,
+                final Map<String, ? extends ColumnSource<?>> columnsOfInterest) {
+            keySources = keyNames.stream()
+                    .map(keyName -> {
+                        final ColumnSource<?> keySource = columnsOfInterest.get(keyName);
+                        if (keySource == null) {
+                            throw new IllegalArgumentException("Source column " + keyName + " doesn't exist!");
+                        }
+                        return ReinterpretUtils.maybeConvertToPrimitive(keySource);
+                    })
+                    .toArray(ColumnSource[]::new);
+            return getColumns();
+        }
+
+        @Override
+        public List<String> initDef(final Map<String, ColumnDefinition<?>> columnDefinitionMap) {
+            final List<String> missingColumns = keyNames.stream()
+                    .filter(keyName -> !columnDefinitionMap.containsKey(keyName))
+                    .collect(Collectors.toList());
+            if (!missingColumns.isEmpty()) {
+                throw new NoSuchColumnException(columnDefinitionMap.keySet(), missingColumns);
+            }
+            return getColumns();
+        }
+
+        @Override
+        public Class<?> getReturnedType() {
+            return int.class;
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return Collections.unmodifiableList(keyNames);
+        }
+
+        @Override
+        public List<String> getColumnArrays() {
+            return Collections.emptyList();
+        }
+
+        @NotNull
+        @Override
+        public ColumnSource<?> getDataView() {
+            return new PartitionColumnSource(keySources, numPartitions);
+        }
+
+        @NotNull
+        @Override
+        public ColumnSource<?> getLazyView() {
+            return getDataView();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public MatchPair getMatchPair() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WritableColumnSource<?> newDestInstance(final long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WritableColumnSource<?> newFlatDestInstance(final long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isRetain() {
+            return false;
+        }
+
+        @Override
+        public boolean isStateless() {
+            return false;
+        }
+
+        @Override
+        public PartitionColumn copy() {
+            return new PartitionColumn(keyNames, name, numPartitions);
+        }
+    }
+
+    /**
+     * Maps each row's group-by keys to a partition, using the same hashers as the aggregation state managers. Chunks
+     * of keys are read and hashed column by column, so primitive keys are never boxed.
+     */
+    private static final class PartitionColumnSource extends AbstractColumnSource<Integer>
+            implements MutableColumnSourceGetDefaults.ForInt {
+        private final ColumnSource<?>[] keySources;
+        private final ChunkHasher[] hashers;
+        private final int numPartitions;
+
+        private PartitionColumnSource(@NotNull final ColumnSource<?>[] keySources, final int numPartitions) {
+            super(int.class);
+            this.keySources = keySources;
+            this.numPartitions = numPartitions;
+            hashers = Arrays.stream(keySources)
+                    .map(keySource -> ChunkHasher.makeHasher(keySource.getChunkType()))
+                    .toArray(ChunkHasher[]::new);
+        }
+
+        @Override
+        public int getInt(final long rowKey) {
+            int hash = hashers[0].hashInitial(keySources[0].get(rowKey));
+            for (int ii = 1; ii < keySources.length; ++ii) {
+                hash = hashers[ii].hashUpdate(hash, keySources[ii].get(rowKey));
+            }
+            return ChunkHasher.scrambleHash(hash) % numPartitions;
+        }
+
+        @Override
+        public int getPrevInt(final long rowKey) {
+            int hash = hashers[0].hashInitial(keySources[0].getPrev(rowKey));
+            for (int ii = 1; ii < keySources.length; ++ii) {
+                hash = hashers[ii].hashUpdate(hash, keySources[ii].getPrev(rowKey));
+            }
+            return ChunkHasher.scrambleHash(hash) % numPartitions;
+        }
+
+        private class PartitionFillContext implements FillContext {
+            private final GetContext[] keyGetContexts;
+            private final WritableIntChunk<HashCodes> hashes;
+
+            private PartitionFillContext(final int chunkCapacity, final SharedContext sharedContext) {
+                keyGetContexts = Arrays.stream(keySources)
+                        .map(keySource -> keySource.makeGetContext(chunkCapacity, sharedContext))
+                        .toArray(GetContext[]::new);
+                hashes = WritableIntChunk.makeWritableChunk(chunkCapacity);
+            }
+
+            @Override
+            public void close() {
+                SafeCloseable.closeAll(keyGetContexts);
+                hashes.close();
+            }
+        }
+
+        @Override
+        public FillContext makeFillContext(final int chunkCapacity, final SharedContext sharedContext) {
+            return new PartitionFillContext(chunkCapacity, sharedContext);
+        }
+
+        @Override
+        public void fillChunk(
+                @NotNull final FillContext context,
+                @NotNull final WritableChunk<? super Values> destination,
+                @NotNull final RowSequence rowSequence) {
+            fillPartitions((PartitionFillContext) context, destination, rowSequence, false);
+        }
+
+        @Override
+        public void fillPrevChunk(
+                @NotNull final FillContext context,
+                @NotNull final WritableChunk<? super Values> destination,
+                @NotNull final RowSequence rowSequence) {
+            fillPartitions((PartitionFillContext) context, destination, rowSequence, true);
+        }
+
+        private void fillPartitions(
+                @NotNull final PartitionFillContext context,
+                @NotNull final WritableChunk<? super Values> destination,
+                @NotNull final RowSequence rowSequence,
+                final boolean usePrev) {
+            final WritableIntChunk<HashCodes> hashes = context.hashes;
+            for (int ii = 0; ii < keySources.length; ++ii) {
+                final GetContext keyGetContext = context.keyGetContexts[ii];
+                // noinspection unchecked
+                final Chunk<Values> keys = (Chunk<Values>) (usePrev
+                        ? keySources[ii].getPrevChunk(keyGetContext, rowSequence)
+                        : keySources[ii].getChunk(keyGetContext, rowSequence));
+                if (ii == 0) {
+                    hashers[ii].hashInitial(keys, hashes);
+                } else {
+                    hashers[ii].hashUpdate(keys, hashes);
+                }
+            }
+            final WritableIntChunk<? super Values> partitions = destination.asWritableIntChunk();
+            final int size = hashes.size();
+            for (int ii = 0; ii < size; ++ii) {
+                partitions.set(ii, ChunkHasher.scrambleHash(hashes.get(ii)) % numPartitions);
+            }
+            partitions.setSize(size);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.stream;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.TestUseOnly;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Produces a {@link Table#BLINK_TABLE_ATTRIBUTE blink} or append-only table from rows written concurrently by any
+ * number of {@link Producer producers}.
+ *
+ * <p>
+ * Each producer is used by one thread at a time, and writes rows without boxing or synchronization directly into its
+ * own per-column chunks. When a producer's chunks are full, or when it is {@link Producer#flush() flushed}, its rows
+ * are handed off to the writer through a lock-free queue. Everything handed off before an update cycle is delivered to
+ * the table in that cycle. The rows from a single hand-off are contiguous in the table, in the order they were
+ * written; there is no defined order between the rows of different producers.
+ *
+ * <p>
+ * Unlike {@link io.deephaven.engine.table.impl.util.DynamicTableWriter}, producers never contend with one another for
+ * a lock, and the rows written between update cycles are delivered to the table in batches rather than one row at a
+ * time.
+ */
+public class MultiProducerTableWriter {
+
+    /**
+     * The kind of table a {@link MultiProducerTableWriter} produces.
+     */
+    public enum Mode {
+        /** Each update cycle's table holds only the rows delivered in that cycle. */
+        BLINK,
+        /** The table holds every row ever delivered. */
+        APPEND_ONLY
+    }
+
+    /**
+     * Constructs a writer.
+     *
+     * <p>
+     * Equivalent to calling {@link #of(String, TableDefinition, Mode, UpdateGraph, int)} with the {@code updateGraph}
+     * from {@link ExecutionContext#getContext()} and {@code chunkSize} {@value ArrayBackedColumnSource#BLOCK_SIZE}.
+     *
+     * @param name the name
+     * @param definition the table definition
+     * @param mode whether to produce a blink or an append-only table
+     * @return the writer
+     */
+    public static MultiProducerTableWriter of(
+            @NotNull final String name,
+            @NotNull final TableDefinition definition,
+            @NotNull final Mode mode) {
+        return of(name, definition, mode, ExecutionContext.getContext().getUpdateGraph(),
+                ArrayBackedColumnSource.BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a writer.
+     *
+     * @param name the name
+     * @param definition the table definition
+     * @param mode whether to produce a blink or an append-only table
+     * @param updateGraph the update graph for the table
+     * @param chunkSize the number of rows each producer buffers before handing them off to the writer
+     * @return the writer
+     */
+    public static MultiProducerTableWriter of(
+            @NotNull final String name,
+            @NotNull final TableDefinition definition,
+            @NotNull final Mode mode,
+            @NotNull final UpdateGraph updateGraph,
+            final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        return new MultiProducerTableWriter(name, definition, mode, updateGraph, chunkSize);
+    }
+
+    private final TableDefinition definition;
+    private final int chunkSize;
+    private final Publisher publisher;
+    private final StreamToBlinkTableAdapter adapter;
+    private final Table table;
+
+    private MultiProducerTableWriter(
+            @NotNull final String name,
+            @NotNull final TableDefinition definition,
+            @NotNull final Mode mode,
+            @NotNull final UpdateGraph updateGraph,
+            final int chunkSize) {
+        this.definition = Objects.requireNonNull(definition);
+        this.chunkSize = chunkSize;
+        publisher = new Publisher();
+        adapter = new StreamToBlinkTableAdapter(definition, publisher, updateGraph, name);
+        final Table blinkTable = adapter.table();
+        table = mode == Mode.BLINK ? blinkTable : BlinkTableTools.blinkToAppendOnly(blinkTable);
+    }
+
+    /**
+     * The {@link #table() table's} definition.
+     *
+     * @return the definition
+     */
+    public TableDefinition definition() {
+        return definition;
+    }
+
+    /**
+     * The blink or append-only table, according to the {@link Mode mode} this writer was constructed with.
+     *
+     * @return the table
+     */
+    public Table table() {
+        return table;
+    }
+
+    /**
+     * Create a new producer. Each producer must only be used by one thread at a time, and should be
+     * {@link Producer#close() closed} when no longer needed.
+     *
+     * @return the producer
+     */
+    public Producer newProducer() {
+        return new Producer();
+    }
+
+    /**
+     * Checks whether {@code this} is alive; if {@code false}, producers should stop writing new rows, which will be
+     * discarded.
+     *
+     * @return if this is alive
+     */
+    public boolean isAlive() {
+        return adapter.isAlive();
+    }
+
+    /**
+     * Stop delivering rows to the table, and discard any rows that have not been delivered.
+     */
+    public void close() {
+        adapter.close();
+    }
+
+    @TestUseOnly
+    void runForUnitTests() {
+        adapter.run();
+    }
+
+    /**
+     * Writes rows into its own chunks, handing them off to the writer when full or {@link #flush() flushed}. Values are
+     * set by column index, as per the writer's {@link #definition() definition}; columns not set for a row are null.
+     * Setting a column with a method that does not match its type results in a {@link ClassCastException}.
+     * {@link Boolean} columns may also be set with {@link #setByte(int, byte)}, and {@link Instant} columns with
+     * {@link #setLong(int, long)} as nanoseconds since the epoch.
+     */
+    public final class Producer implements SafeCloseable {
+
+        private WritableChunk<Values>[] chunks;
+        /** The number of rows ended in {@link #chunks}, and the offset of the row being written */
+        private int size;
+
+        private Producer() {
+            chunks = makeChunks();
+        }
+
+        /**
+         * @param columnName the column name
+         * @return the index of {@code columnName} for use with this producer's setters
+         */
+        public int columnIndex(@NotNull final String columnName) {
+            final int columnIndex = definition.getColumnNames().indexOf(columnName);
+            if (columnIndex < 0) {
+                throw new IllegalArgumentException("Unknown column " + columnName);
+            }
+            return columnIndex;
+        }
+
+        public Producer setByte(final int columnIndex, final byte value) {
+            chunks[columnIndex].asWritableByteChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setChar(final int columnIndex, final char value) {
+            chunks[columnIndex].asWritableCharChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setShort(final int columnIndex, final short value) {
+            chunks[columnIndex].asWritableShortChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setInt(final int columnIndex, final int value) {
+            chunks[columnIndex].asWritableIntChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setLong(final int columnIndex, final long value) {
+            chunks[columnIndex].asWritableLongChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setFloat(final int columnIndex, final float value) {
+            chunks[columnIndex].asWritableFloatChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setDouble(final int columnIndex, final double value) {
+            chunks[columnIndex].asWritableDoubleChunk().set(size, value);
+            return this;
+        }
+
+        public Producer setBoolean(final int columnIndex, final Boolean value) {
+            return setByte(columnIndex, BooleanUtils.booleanAsByte(value));
+        }
+
+        public Producer setInstant(final int columnIndex, final Instant value) {
+            return setLong(columnIndex, DateTimeUtils.epochNanos(value));
+        }
+
+        public Producer setObject(final int columnIndex, final Object value) {
+            chunks[columnIndex].asWritableObjectChunk().set(size, value);
+            return this;
+        }
+
+        /**
+         * Complete the current row, and start a new one. Hands off this producer's rows if its chunks are full.
+         */
+        public void endRow() {
+            if (++size == chunkSize) {
+                handOff();
+            }
+        }
+
+        /**
+         * Hand off the rows ended since the last hand-off, to be delivered to the table in the next update cycle.
+         * Values set for a row that has not been ended are kept for that row.
+         */
+        public void flush() {
+            if (size > 0) {
+                handOff();
+            }
+        }
+
+        /**
+         * {@link #flush() Flush} this producer, and release its chunks.
+         */
+        @Override
+        public void close() {
+            if (chunks == null) {
+                return;
+            }
+            flush();
+            SafeCloseable.closeAll(chunks);
+            chunks = null;
+        }
+
+        private void handOff() {
+            final WritableChunk<Values>[] nextChunks = makeChunks();
+            if (size < chunkSize) {
+                // Carry over the values set for the row in progress
+                for (int ci = 0; ci < chunks.length; ++ci) {
+                    nextChunks[ci].copyFromChunk(chunks[ci], size, 0, 1);
+                }
+            }
+            for (final WritableChunk<Values> chunk : chunks) {
+                chunk.setSize(size);
+            }
+            publisher.handOff(chunks);
+            chunks = nextChunks;
+            size = 0;
+        }
+    }
+
+    private WritableChunk<Values>[] makeChunks() {
+        final WritableChunk<Values>[] chunks = StreamChunkUtils.makeChunksForDefinition(definition, chunkSize);
+        for (final WritableChunk<Values> chunk : chunks) {
+            chunk.setSize(chunkSize);
+            chunk.fillWithNullValue(0, chunkSize);
+        }
+        return chunks;
+    }
+
+    private class Publisher implements StreamPublisher {
+
+        private final Queue<WritableChunk<Values>[]> handedOff = new ConcurrentLinkedQueue<>();
+
+        private volatile StreamConsumer consumer;
+        private volatile boolean shutdown;
+
+        @Override
+        public void register(@NotNull final StreamConsumer consumer) {
+            if (this.consumer != null) {
+                throw new IllegalStateException("Can not register multiple StreamConsumers.");
+            }
+            this.consumer = Objects.requireNonNull(consumer);
+        }
+
+        private void handOff(@NotNull final WritableChunk<Values>[] chunks) {
+            if (shutdown) {
+                SafeCloseable.closeAll(chunks);
+                return;
+            }
+            handedOff.add(chunks);
+            if (shutdown) {
+                // We may have enqueued after shutdown drained the queue; nobody else will release these chunks
+                SafeCloseable.closeAll(drain().stream().flatMap(Stream::of));
+            }
+        }
+
+        @Override
+        public void flush() {
+            final List<WritableChunk<Values>[]> data = drain();
+            if (!data.isEmpty()) {
+                consumer.accept(data);
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+            SafeCloseable.closeAll(drain().stream().flatMap(Stream::of));
+        }
+
+        private List<WritableChunk<Values>[]> drain() {
+            final List<WritableChunk<Values>[]> data = new ArrayList<>();
+            WritableChunk<Values>[] chunks;
+            while ((chunks = handedOff.poll()) != null) {
+                data.add(chunks);
+            }
+            return data;
+        }
+    }
+}
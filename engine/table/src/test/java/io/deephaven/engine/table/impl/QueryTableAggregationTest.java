@@ -194,6 +194,26 @@ public class QueryTableAggregationTest {
         individualStaticByTest(input6, control, "A", "B", "C");
     }
 
+    @Test
+    public void testExpectedDistinctKeysHint() {
+        final Table input = emptyTable(10000).update("A=i % 5000", "B=i", "C=i % 2");
+        final String[] keyA = {"A"};
+        TestCase.assertEquals(4096, AggregationControl.DEFAULT.initialHashTableSize(input, keyA));
+
+        final Table hinted = input.withAttributes(Map.of(Table.EXPECTED_DISTINCT_KEYS_ATTRIBUTE,
+                Map.of(List.of("A"), 5000, List.of("C", "A"), 10000)));
+        TestCase.assertEquals(16384, AggregationControl.DEFAULT.initialHashTableSize(hinted, keyA));
+        TestCase.assertEquals(32768, AggregationControl.DEFAULT.initialHashTableSize(hinted, new String[] {"A", "C"}));
+        TestCase.assertEquals(16384, AggregationControl.DEFAULT.initialHashTableSize(hinted.where("B > 10"), keyA));
+        // Only the columns the hint was given for are hinted
+        TestCase.assertEquals(4096, AggregationControl.DEFAULT.initialHashTableSize(hinted, new String[] {"B"}));
+        TestCase.assertEquals(4096,
+                AggregationControl.DEFAULT.initialHashTableSize(hinted.renameColumns("A=B", "B=A"), keyA));
+        TestCase.assertEquals(4096,
+                AggregationControl.DEFAULT.initialHashTableSize(hinted.dropColumns("A").view("A=B"), keyA));
+        assertTableEquals(input.sumBy("A"), hinted.sumBy("A"));
+    }
+
     @Test
     public void testStaticGroupedByWithChunks() {
         final Table input = emptyTable(10000).update("A=Integer.toString(i % 5)", "B=i / 5");
@@ -182,6 +182,33 @@ public class QueryTableNaturalJoinTest extends QueryTableTestBase {
         }
     }
 
+    public void testNaturalJoinExpectedDistinctKeysHint() {
+        final JoinControl control = new JoinControl();
+        final QueryTable leftTable = TstUtils.testRefreshingTable(i(1, 2, 3).toTracking(),
+                intCol("Key", 1, 2, 3), intCol("LeftSentinel", 1, 2, 3));
+        final QueryTable rightTable = TstUtils.testRefreshingTable(i(2, 3, 4).toTracking(),
+                intCol("Key", 2, 3, 4), intCol("RightSentinel", 20, 30, 40));
+        final String[] keys = {"Key"};
+        assertEquals(4096, control.tableSizeForBothBuild(leftTable, keys, rightTable, keys));
+
+        final Table hintedRight = rightTable.withAttributes(
+                Map.of(Table.EXPECTED_DISTINCT_KEYS_ATTRIBUTE, Map.of(List.of("Key"), 100_000L)));
+        assertEquals(262144, control.tableSizeForBothBuild(leftTable, keys, hintedRight, keys));
+        assertEquals(262144, control.tableSizeForRightBuild(hintedRight, keys));
+        assertEquals(4096, control.tableSizeForRightBuild(hintedRight, new String[] {"RightSentinel"}));
+
+        final Table expected = leftTable.naturalJoin(rightTable, "Key");
+        final Table actual = leftTable.naturalJoin(hintedRight, "Key");
+        assertTableEquals(expected, actual);
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(rightTable, i(10), intCol("Key", 1), intCol("RightSentinel", 10));
+            rightTable.notifyListeners(i(10), i(), i());
+        });
+        assertTableEquals(expected, actual);
+    }
+
     public void testNaturalJoinLeftIncrementalRightStatic() {
         for (JoinIncrement joinIncrement : new JoinIncrement[] {leftStepShift, leftStep}) {
             final int sz = 5;
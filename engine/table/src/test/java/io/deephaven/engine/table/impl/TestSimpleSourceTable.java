@@ -96,6 +96,8 @@ public class TestSimpleSourceTable extends RefreshingTableTestCase {
                 will(returnValue(StandaloneTableLocationKey.getInstance()));
                 allowing(locationProvider).supportsSubscriptions();
                 will(returnValue(true));
+                allowing(columnSourceManager).getDataIndexColumns();
+                will(returnValue(Collections.emptyList()));
             }
         });
 
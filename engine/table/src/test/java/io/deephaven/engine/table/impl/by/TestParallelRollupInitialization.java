@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.deephaven.api.agg.Aggregation.*;
+
+public class TestParallelRollupInitialization extends RefreshingTableTestCase {
+
+    private static final ColumnName ROLLUP_COLUMN = ColumnName.of(RollupConstants.ROLLUP_COLUMN_SUFFIX);
+
+    private static final List<Aggregation> AGGREGATIONS = List.of(
+            AggCount("Count"),
+            AggSum("SumInt=IntCol", "SumDouble=DoubleCol"),
+            AggAvg("AvgInt=IntCol", "AvgDouble=DoubleCol"),
+            AggStd("StdDouble=DoubleCol"),
+            AggMin("MinInt=IntCol", "MinDouble=DoubleCol"),
+            AggMax("MaxInt=IntCol"),
+            AggFirst("FirstLong=LongCol"),
+            AggLast("LastLong=LongCol"),
+            AggWSum("IntCol", "WSumDouble=DoubleCol"));
+
+    public void testOperatorGroups() {
+        final Table source = makeSource(10);
+        final AggregationContext base = AggregationProcessor
+                .forRollupBase(AGGREGATIONS, false, ROLLUP_COLUMN)
+                .makeAggregationContext(source, false, "Sym", "Group");
+        validateGroups(base);
+
+        final QueryTable baseLevel = aggregate(source, AggregationProcessor
+                .forRollupBase(AGGREGATIONS, false, ROLLUP_COLUMN), "Sym", "Group");
+        final AggregationContext reaggregated = AggregationProcessor
+                .forRollupReaggregated(AGGREGATIONS, Map.of("Group", String.class), ROLLUP_COLUMN)
+                .makeAggregationContext(baseLevel, false, "Sym");
+        validateGroups(reaggregated);
+
+        // Standard aggregations are never initialized in parallel
+        assertNull(AggregationProcessor.forAggregation(AGGREGATIONS)
+                .makeAggregationContext(source, false, "Sym").parallelOperatorGroups());
+    }
+
+    public void testParallelMatchesSerial() {
+        final Table source = makeSource(100_000);
+        final Table serialBase;
+        final Table serialReaggregated;
+        final Table parallelBase;
+        final Table parallelReaggregated;
+
+        final boolean oldForce = ChunkedOperatorAggregationHelper.FORCE_PARALLEL_INITIALIZATION;
+        final boolean oldEnable = ChunkedOperatorAggregationHelper.ENABLE_PARALLEL_INITIALIZATION;
+        try {
+            ChunkedOperatorAggregationHelper.ENABLE_PARALLEL_INITIALIZATION = false;
+            serialBase = rollupBase(source);
+            serialReaggregated = reaggregate(serialBase);
+
+            ChunkedOperatorAggregationHelper.ENABLE_PARALLEL_INITIALIZATION = true;
+            ChunkedOperatorAggregationHelper.FORCE_PARALLEL_INITIALIZATION = true;
+            parallelBase = rollupBase(source);
+            parallelReaggregated = reaggregate(parallelBase);
+        } finally {
+            ChunkedOperatorAggregationHelper.FORCE_PARALLEL_INITIALIZATION = oldForce;
+            ChunkedOperatorAggregationHelper.ENABLE_PARALLEL_INITIALIZATION = oldEnable;
+        }
+
+        TstUtils.assertTableEquals(dropRollupColumns(serialBase), dropRollupColumns(parallelBase));
+        TstUtils.assertTableEquals(dropRollupColumns(serialReaggregated), dropRollupColumns(parallelReaggregated));
+    }
+
+    private static Table makeSource(final int size) {
+        return TableTools.emptyTable(size).update(
+                "Sym = `S` + (ii % 17)",
+                "Group = `G` + (ii % 5)",
+                "IntCol = (ii % 11 == 0) ? NULL_INT : (int) (ii % 1000)",
+                "DoubleCol = (ii % 13 == 0) ? NULL_DOUBLE : ii / 7.0",
+                "LongCol = ii");
+    }
+
+    private static QueryTable aggregate(
+            final Table source,
+            final AggregationContextFactory factory,
+            final String... groupByColumns) {
+        return ((QueryTable) source).aggNoMemo(factory, false, null,
+                Arrays.stream(groupByColumns).map(ColumnName::of).collect(Collectors.toList()));
+    }
+
+    private static Table rollupBase(final Table source) {
+        return aggregate(source, AggregationProcessor.forRollupBase(AGGREGATIONS, false, ROLLUP_COLUMN),
+                "Sym", "Group");
+    }
+
+    private static Table reaggregate(final Table baseLevel) {
+        final Map<String, Class<?>> nullColumns = new LinkedHashMap<>();
+        nullColumns.put("Group", String.class);
+        return aggregate(baseLevel,
+                AggregationProcessor.forRollupReaggregated(AGGREGATIONS, nullColumns, ROLLUP_COLUMN), "Sym");
+    }
+
+    private static Table dropRollupColumns(final Table table) {
+        // Node tables can only be compared by identity, so drop them along with the other internal columns
+        return table.dropColumns(table.getDefinition().getColumnNames().stream()
+                .filter(cn -> cn.endsWith(RollupConstants.ROLLUP_COLUMN_SUFFIX))
+                .toArray(String[]::new));
+    }
+
+    private static void validateGroups(final AggregationContext ac) {
+        final int[][] groups = ac.parallelOperatorGroups();
+        assertNotNull(groups);
+        final boolean[] seen = new boolean[ac.size()];
+        for (final int[] group : groups) {
+            for (final int oi : group) {
+                assertFalse(seen[oi]);
+                seen[oi] = true;
+                // Operators that share an input are always in the same group
+                final int inputSlot = ac.inputSlot(oi);
+                if (inputSlot >= 0) {
+                    assertTrue(Arrays.stream(group).anyMatch(other -> other == inputSlot));
+                }
+            }
+        }
+        for (final boolean operatorSeen : seen) {
+            assertTrue(operatorSeen);
+        }
+    }
+}
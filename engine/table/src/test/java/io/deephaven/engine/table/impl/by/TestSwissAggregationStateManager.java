@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.SafeCloseable;
+import org.apache.commons.lang3.mutable.MutableInt;
+
+import java.util.List;
+
+import static io.deephaven.api.agg.Aggregation.*;
+
+public class TestSwissAggregationStateManager extends RefreshingTableTestCase {
+
+    private static final List<Aggregation> AGGREGATIONS = List.of(
+            AggCount("Count"),
+            AggSum("SumLong=LongCol"),
+            AggFirst("FirstLong=LongCol"),
+            AggLast("LastLong=LongCol"));
+
+    private static final String[] KEY_COLUMNS = {
+            "ByteKey", "ShortKey", "IntKey", "LongKey", "FloatKey", "DoubleKey", "CharKey", "StringKey", "BoolKey",
+            "InstantKey"};
+
+    public void testMatchesDefault() {
+        final Table source = makeSource(100_000);
+        for (final String keyColumn : KEY_COLUMNS) {
+            final Table expected = source.aggBy(AGGREGATIONS, keyColumn);
+            final Table actual;
+            final boolean old = ChunkedOperatorAggregationHelper.USE_SWISS_TABLE_STATE_MANAGER;
+            try {
+                ChunkedOperatorAggregationHelper.USE_SWISS_TABLE_STATE_MANAGER = true;
+                actual = source.aggBy(AGGREGATIONS, keyColumn);
+            } finally {
+                ChunkedOperatorAggregationHelper.USE_SWISS_TABLE_STATE_MANAGER = old;
+            }
+            TstUtils.assertTableEquals(expected, actual);
+        }
+    }
+
+    public void testFindPositionForKey() {
+        final Table source = makeSource(10_000);
+        // Start small so that each state manager grows several times
+        checkFindPositionForKey(source, "IntKey", -1, new IntSwissAggregationStateManager(8, 0.75));
+        checkFindPositionForKey(source, "DoubleKey", -1.5, new DoubleSwissAggregationStateManager(8, 0.75));
+        checkFindPositionForKey(source, "StringKey", "Missing",
+                new ObjectSwissAggregationStateManager(source.getColumnSource("StringKey"), 8, 0.75));
+    }
+
+    private static void checkFindPositionForKey(
+            final Table source,
+            final String keyColumn,
+            final Object missingKey,
+            final OperatorAggregationStateManager stateManager) {
+        final ColumnSource<?>[] keySources = {source.getColumnSource(keyColumn)};
+        final MutableInt nextOutputPosition = new MutableInt(0);
+        final RowSet rowSet = source.getRowSet();
+        try (final SafeCloseable bc = stateManager.makeAggregationStateBuildContext(keySources, rowSet.size());
+                final WritableIntChunk<RowKeys> outputPositions = WritableIntChunk.makeWritableChunk(
+                        rowSet.intSize())) {
+            stateManager.add(bc, rowSet, keySources, nextOutputPosition, outputPositions);
+
+            final Table expected = source.selectDistinct(keyColumn);
+            assertEquals(expected.size(), nextOutputPosition.intValue());
+            final ColumnSource<?> outputKeys = stateManager.getKeyHashTableSources()[0];
+            for (int ii = 0; ii < rowSet.intSize(); ++ii) {
+                final Object key = keySources[0].get(rowSet.get(ii));
+                final int position = outputPositions.get(ii);
+                assertEquals(key, outputKeys.get(position));
+                assertEquals(position, stateManager.findPositionForKey(key));
+            }
+        }
+        assertEquals(OperatorAggregationStateManager.UNKNOWN_ROW, stateManager.findPositionForKey(missingKey));
+    }
+
+    private static Table makeSource(final int size) {
+        return TableTools.emptyTable(size).update(
+                "ByteKey = (byte) (ii % 97)",
+                "ShortKey = (short) (ii % 3001)",
+                "IntKey = (ii % 11 == 0) ? NULL_INT : (int) (ii % 5003)",
+                "LongKey = (ii % 7001) * 1_000_000_007L",
+                "FloatKey = (ii % 13 == 0) ? Float.NaN : (float) (ii % 211) / 3",
+                "DoubleKey = (ii % 13 == 0) ? Double.NaN : (ii % 17 == 0) ? NULL_DOUBLE : (ii % 6007) / 7.0",
+                "CharKey = (char) (65 + (ii % 1024))",
+                "StringKey = (ii % 19 == 0) ? null : `S` + (ii % 4999)",
+                "BoolKey = (ii % 23 == 0) ? null : (ii % 2 == 0)",
+                "InstantKey = epochNanosToInstant(ii % 997)",
+                "LongCol = ii");
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.indexer;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TupleSource;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.IntGenerator;
+import io.deephaven.engine.testutil.generator.SetGenerator;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+import org.apache.commons.lang3.mutable.MutableObject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static io.deephaven.engine.testutil.TstUtils.addToTable;
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.testutil.TstUtils.i;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
+
+public class TestIncrementalDataIndex extends RefreshingTableTestCase {
+
+    public void testIncrementalDataIndex() {
+        final Random random = new Random(0);
+        final int size = 100;
+
+        final ColumnInfo<?, ?>[] columnInfo = new ColumnInfo[3];
+        columnInfo[0] = new ColumnInfo<>(new SetGenerator<>("a", "b", "c", "d", "e", "f"), "Sym");
+        columnInfo[1] = new ColumnInfo<>(new IntGenerator(10, 20), "intCol");
+        columnInfo[2] = new ColumnInfo<>(new SetGenerator<>(10.1, 20.1, 30.1), "doubleCol");
+
+        final QueryTable queryTable = TstUtils.getTable(size, random, columnInfo);
+        final Table bySym = ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                () -> IncrementalDataIndex.addDataIndex(queryTable, "Sym"));
+        final Table bySymAndInt = ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                () -> IncrementalDataIndex.addDataIndex(queryTable, "Sym", "intCol"));
+
+        final IncrementalDataIndex symIndex = IncrementalDataIndex.getDataIndex(bySym, "Sym");
+        final IncrementalDataIndex symAndIntIndex = IncrementalDataIndex.getDataIndex(bySymAndInt, "Sym", "intCol");
+        assertNotNull(symIndex);
+        assertNotNull(symAndIntIndex);
+        assertNull(IncrementalDataIndex.getDataIndex(bySym, "intCol"));
+        assertNull(IncrementalDataIndex.getDataIndex(queryTable, "Sym"));
+        // derived tables do not inherit the index
+        final Table filtered = ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                () -> bySym.where("intCol > 15"));
+        assertNull(IncrementalDataIndex.getDataIndex(filtered, "Sym"));
+
+        final Table setTable = TableTools.newTable(stringCol("Sym", "a", "c"));
+        final EvalNugget[] en = new EvalNugget[] {
+                EvalNugget.from(() -> ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                        () -> bySym.whereIn(setTable, "Sym"))),
+                EvalNugget.from(() -> ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                        () -> bySym.whereNotIn(setTable, "Sym"))),
+                EvalNugget.from(() -> ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                        () -> bySym.sumBy("Sym"))),
+        };
+
+        validate(symIndex, queryTable);
+        validate(symAndIntIndex, queryTable);
+        for (int step = 0; step < 50; ++step) {
+            RefreshingTableTestCase.simulateShiftAwareStep("step == " + step, size, random, queryTable, columnInfo,
+                    en);
+            validate(symIndex, queryTable);
+            validate(symAndIntIndex, queryTable);
+        }
+    }
+
+    public void testWhereBeforeIndexUpdated() {
+        final QueryTable source = TstUtils.testRefreshingTable(i(0, 1, 2, 3, 4, 5).toTracking(),
+                stringCol("Sym", "a", "b", "a", "c", "b", "c"), intCol("intCol", 0, 1, 2, 3, 4, 5));
+        final Table indexed = ExecutionContext.getContext().getUpdateGraph().exclusiveLock().computeLocked(
+                () -> IncrementalDataIndex.addDataIndex(source, "Sym"));
+        final IncrementalDataIndex dataIndex = IncrementalDataIndex.getDataIndex(indexed, "Sym");
+        assertNotNull(dataIndex);
+        // The index is valid for the source too, which has already ticked when it notifies its listeners; this is the
+        // position of a table operation initialized mid-cycle, e.g. within a partitioned table transform
+        source.setAttribute(Table.DATA_INDEX_ATTRIBUTE, indexed.getAttribute(Table.DATA_INDEX_ATTRIBUTE));
+        assertSame(dataIndex, IncrementalDataIndex.getDataIndex(source, "Sym"));
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final MutableObject<Table> filtered = new MutableObject<>();
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, i(6, 7), stringCol("Sym", "a", "b"), intCol("intCol", 6, 7));
+            source.notifyListeners(i(6, 7), i(), i());
+            // The exclusive lock is held, but the index has not yet processed this cycle's update
+            assertFalse(dataIndex.isCurrent());
+            filtered.setValue(source.where("Sym = `a`"));
+        });
+        assertTableEquals(TableTools.newTable(stringCol("Sym", "a", "a", "a"), intCol("intCol", 0, 2, 6)),
+                filtered.getValue());
+
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, i(8), stringCol("Sym", "a"), intCol("intCol", 8));
+            source.notifyListeners(i(8), i(), i());
+        });
+        assertTableEquals(TableTools.newTable(stringCol("Sym", "a", "a", "a", "a"), intCol("intCol", 0, 2, 6, 8)),
+                filtered.getValue());
+        validate(dataIndex, source);
+    }
+
+    private static void validate(final IncrementalDataIndex dataIndex, final Table table) {
+        ExecutionContext.getContext().getUpdateGraph().exclusiveLock().doLocked(() -> validateLocked(dataIndex, table));
+    }
+
+    private static void validateLocked(final IncrementalDataIndex dataIndex, final Table table) {
+        assertTrue(dataIndex.isCurrent());
+        final TupleSource<?> tupleSource = dataIndex.tupleSource();
+        final Map<Object, RowSetBuilderSequential> builders = new HashMap<>();
+        table.getRowSet().forAllRowKeys(rowKey -> builders
+                .computeIfAbsent(tupleSource.createTuple(rowKey), k -> RowSetFactory.builderSequential())
+                .appendKey(rowKey));
+
+        final Map<Object, RowSet> grouping = dataIndex.getGrouping();
+        assertEquals(builders.size(), grouping.size());
+        builders.forEach((key, builder) -> {
+            try (final RowSet expected = builder.build()) {
+                assertNotNull(grouping.get(key));
+                TstUtils.assertRowSetEquals(expected, grouping.get(key));
+            }
+        });
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.QueryConstants;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TestDictionaryStringArraySource extends RefreshingTableTestCase {
+
+    public void testEncoding() {
+        final String[] data = {"AAPL", null, "MSFT", "AAPL", "IBM", null, "MSFT"};
+        final DictionaryStringArraySource source =
+                (DictionaryStringArraySource) ArrayBackedColumnSource.getDictionaryMemoryColumnSource(data);
+        assertEquals(3, source.getDictionarySize());
+        for (int ii = 0; ii < data.length; ++ii) {
+            assertEquals(data[ii], source.get(ii));
+        }
+
+        final ColumnSource<Long> codes = source.reinterpret(long.class);
+        assertEquals(codes.getLong(0), codes.getLong(3));
+        assertEquals(QueryConstants.NULL_LONG, codes.getLong(1));
+        assertSame(source, codes.reinterpret(String.class));
+
+        source.set(1, "IBM");
+        assertEquals("IBM", source.get(1));
+        assertEquals(3, source.getDictionarySize());
+
+        final Table symbolTable = source.getStaticSymbolTable(RowSetFactory.flat(data.length), false);
+        assertEquals(3, symbolTable.size());
+        final ColumnSource<?> symbols = symbolTable.getColumnSource(SymbolTableSource.SYMBOL_COLUMN_NAME);
+        for (int ii = 0; ii < data.length; ++ii) {
+            final long code = codes.getLong(ii);
+            if (code != QueryConstants.NULL_LONG) {
+                assertTrue(symbolTable.getRowSet().find(code) >= 0);
+                assertEquals(source.get(ii), symbols.get(code));
+            }
+        }
+    }
+
+    public void testEmpty() {
+        final DictionaryStringArraySource source =
+                (DictionaryStringArraySource) ArrayBackedColumnSource.getDictionaryMemoryColumnSource(new String[0]);
+        assertEquals(0, source.getDictionarySize());
+        assertEquals(0, source.getStaticSymbolTable(RowSetFactory.empty(), false).size());
+    }
+
+    public void testOperations() {
+        final int size = 10_000;
+        final Table expected = TableTools.emptyTable(size).update(
+                "Sym = (ii % 37 == 0) ? null : `S` + (ii % 11)",
+                "Venue = `V` + (ii % 3)",
+                "Qty = ii");
+        final Table actual = dictionaryEncode(expected, "Sym", "Venue");
+        assertTrue(actual.getColumnSource("Sym") instanceof DictionaryStringArraySource);
+
+        final String[] filters = {
+                "Sym = `S3`",
+                "Sym in `S1`, `S7`, `missing`",
+                "Sym not in `S1`, `S7`",
+                "Sym = null",
+                "Sym != null",
+                "Sym icase in `s4`, `S5`",
+                "Sym = `missing`",
+                "Sym not in `missing`",
+        };
+        for (final String filter : filters) {
+            TstUtils.assertTableEquals(expected.where(filter), actual.where(filter));
+        }
+
+        TstUtils.assertTableEquals(expected.aggBy(Aggregation.AggSum("Qty"), "Sym"),
+                actual.aggBy(Aggregation.AggSum("Qty"), "Sym"));
+        TstUtils.assertTableEquals(expected.sort("Sym"), actual.sort("Sym"));
+        TstUtils.assertTableEquals(expected.sortDescending("Sym"), actual.sortDescending("Sym"));
+
+        final Table expectedRight = expected.lastBy("Sym").view("Sym", "LastQty = Qty");
+        final Table actualRight = dictionaryEncode(expectedRight, "Sym");
+        TstUtils.assertTableEquals(expected.naturalJoin(expectedRight, "Sym"),
+                actual.naturalJoin(actualRight, "Sym"));
+        TstUtils.assertTableEquals(expected.join(expectedRight, "Sym"), actual.join(actualRight, "Sym"));
+    }
+
+    private static Table dictionaryEncode(final Table table, final String... columnNames) {
+        final Map<String, ColumnSource<?>> columns = new LinkedHashMap<>();
+        final Table flat = table.flatten().select();
+        columns.putAll(flat.getColumnSourceMap());
+        for (final String columnName : columnNames) {
+            final ColumnSource<String> source = flat.getColumnSource(columnName, String.class);
+            final String[] data = new String[flat.intSize()];
+            for (int ii = 0; ii < data.length; ++ii) {
+                data[ii] = source.get(ii);
+            }
+            columns.put(columnName, ArrayBackedColumnSource.getDictionaryMemoryColumnSource(data));
+        }
+        return new QueryTable(RowSetFactory.flat(flat.size()).toTracking(), columns);
+    }
+}
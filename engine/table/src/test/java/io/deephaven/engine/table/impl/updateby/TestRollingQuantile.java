@@ -0,0 +1,347 @@
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.updateby.UpdateByControl;
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.QueryScope;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.CharGenerator;
+import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.testutil.generator.TestDataGenerator;
+import io.deephaven.engine.util.TableDiff;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.vector.DoubleVector;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import static io.deephaven.engine.testutil.GenerateTableUpdates.generateAppends;
+import static io.deephaven.engine.testutil.testcase.RefreshingTableTestCase.simulateShiftAwareStep;
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+@Category(OutOfBandTest.class)
+public class TestRollingQuantile extends BaseUpdateByTest {
+    /**
+     * The quantile operators only support primitive types, so these are used in both the static and ticking tests.
+     */
+    final String[] columns = new String[] {
+            "charCol",
+            "byteCol",
+            "shortCol",
+            "intCol",
+            "longCol",
+            "floatCol",
+            "doubleCol",
+    };
+
+    final int STATIC_TABLE_SIZE = 10_000;
+    final int DYNAMIC_TABLE_SIZE = 1_000;
+    final int DYNAMIC_UPDATE_SIZE = 100;
+    final int DYNAMIC_UPDATE_STEPS = 20;
+
+    final double PERCENTILE = 0.75;
+
+    // region Verification Helper functions
+
+    /**
+     * Compute the expected percentile of a window, ignoring nulls and NaNs the same way the operators do.
+     */
+    private static double quantile(final DoubleVector window, final double percentile,
+            final boolean averageEvenlyDivided) {
+        final double[] values = Arrays.stream(window.toArray())
+                .filter(v -> v != NULL_DOUBLE && !Double.isNaN(v))
+                .sorted()
+                .toArray();
+        final int n = values.length;
+        if (n == 0) {
+            return NULL_DOUBLE;
+        }
+        if (averageEvenlyDivided) {
+            final int idx = (int) ((n - 1) * percentile);
+            if (n % 2 == 0 && idx + 1 == n / 2) {
+                return (values[idx] + values[idx + 1]) / 2.0;
+            }
+            return values[idx];
+        }
+        return values[(int) Math.round((n - 1) * percentile)];
+    }
+
+    final ToDoubleFunction<DoubleVector> medianFunction = v -> quantile(v, 0.5, true);
+    final ToDoubleFunction<DoubleVector> percentileFunction = v -> quantile(v, PERCENTILE, false);
+
+    // Upcast everything to double (null-safe) so a single helper can verify every column.
+    private String[] getCastingFormulas(String[] columns) {
+        return Arrays.stream(columns)
+                .map(c -> String.format("%s=(double)%s", c, c))
+                .toArray(String[]::new);
+    }
+
+    private String[] getFormulas(String[] columns, String function) {
+        return Arrays.stream(columns)
+                .map(c -> String.format("%s=%s.applyAsDouble(%s)", c, function, c))
+                .toArray(String[]::new);
+    }
+
+    private void verifyStatic(final Table t, final String[] bucketCols,
+            final UpdateByOperation median, final UpdateByOperation percentile, final UpdateByOperation group) {
+        QueryScope.addParam("medianFunction", medianFunction);
+        QueryScope.addParam("percentileFunction", percentileFunction);
+
+        final Table grouped = t.update(getCastingFormulas(columns)).updateBy(List.of(group), bucketCols);
+
+        TstUtils.assertTableEquals(grouped.update(getFormulas(columns, "medianFunction")),
+                t.updateBy(List.of(median), bucketCols), TableDiff.DiffItems.DoublesExact);
+        TstUtils.assertTableEquals(grouped.update(getFormulas(columns, "percentileFunction")),
+                t.updateBy(List.of(percentile), bucketCols), TableDiff.DiffItems.DoublesExact);
+    }
+
+    // endregion Verification Helper functions
+
+    // region Static Zero Key Tests
+
+    @Test
+    public void testStaticZeroKeyRev() {
+        doTestStatic(false, false, 100, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyRevExclusive() {
+        doTestStatic(false, false, 100, -50);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwd() {
+        doTestStatic(false, false, 0, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwdRevWindow() {
+        doTestStatic(false, false, 100, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedRev() {
+        doTestStaticTimed(false, false, Duration.ofMinutes(10), Duration.ofMinutes(0));
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedFwdRev() {
+        doTestStaticTimed(false, false, Duration.ofMinutes(10), Duration.ofMinutes(10));
+    }
+
+    // endregion
+
+    // region Static Bucketed Tests
+
+    @Test
+    public void testStaticGroupedBucketed() {
+        doTestStatic(true, true, 100, 0);
+    }
+
+    @Test
+    public void testStaticBucketedFwdRev() {
+        doTestStatic(true, false, 100, 100);
+    }
+
+    @Test
+    public void testStaticGroupedBucketedTimed() {
+        doTestStaticTimed(true, true, Duration.ofMinutes(10), Duration.ofMinutes(0));
+    }
+
+    @Test
+    public void testStaticBucketedTimedFwdRev() {
+        doTestStaticTimed(true, false, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private void doTestStatic(boolean bucketed, boolean grouped, int prevTicks, int postTicks) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, bucketed, grouped, false, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)}).t;
+
+        verifyStatic(t, bucketed ? new String[] {"Sym"} : new String[0],
+                UpdateByOperation.RollingMedian(prevTicks, postTicks, columns),
+                UpdateByOperation.RollingQuantile(PERCENTILE, prevTicks, postTicks, columns),
+                UpdateByOperation.RollingGroup(prevTicks, postTicks, columns));
+    }
+
+    private void doTestStaticTimed(boolean bucketed, boolean grouped, Duration prevTime, Duration postTime) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, bucketed, grouped, false, 0xFFFABBBC,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)}).t;
+
+        verifyStatic(t, bucketed ? new String[] {"Sym"} : new String[0],
+                UpdateByOperation.RollingMedian("ts", prevTime, postTime, columns),
+                UpdateByOperation.RollingQuantile(PERCENTILE, "ts", prevTime, postTime, columns),
+                UpdateByOperation.RollingGroup("ts", prevTime, postTime, columns));
+    }
+
+    // endregion
+
+    // region Append Only Tests
+
+    @Test
+    public void testZeroKeyAppendOnlyRev() {
+        doTestAppendOnly(false, 100, 0);
+    }
+
+    @Test
+    public void testBucketedAppendOnlyFwdRev() {
+        doTestAppendOnly(true, 100, 100);
+    }
+
+    private void doTestAppendOnly(boolean bucketed, int prevTicks, int postTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+
+        final QueryTable t = result.t;
+        t.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, Boolean.TRUE);
+
+        final List<UpdateByOperation> ops = List.of(
+                UpdateByOperation.RollingMedian(prevTicks, postTicks, columns),
+                UpdateByOperation.RollingQuantile(PERCENTILE, prevTicks, postTicks, columns));
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed
+                        ? t.updateBy(ops.get(0), "Sym")
+                        : t.updateBy(ops.get(0))),
+                EvalNugget.from(() -> bucketed
+                        ? t.updateBy(ops.get(1), "Sym")
+                        : t.updateBy(ops.get(1)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> generateAppends(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table", nuggets);
+        }
+    }
+
+    // endregion Append Only Tests
+
+    // region General Ticking Tests
+
+    @Test
+    public void testZeroKeyGeneralTickingRev() {
+        doTestTicking(false, 100, 0);
+    }
+
+    @Test
+    public void testZeroKeyGeneralTickingFwdExclusive() {
+        doTestTicking(false, -50, 100);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingFwdRev() {
+        doTestTicking(true, 50, 50);
+    }
+
+    @Test
+    public void testZeroKeyGeneralTickingTimedRev() {
+        doTestTickingTimed(false, Duration.ofMinutes(10), Duration.ofMinutes(0));
+    }
+
+    @Test
+    public void testBucketedGeneralTickingTimedFwdRev() {
+        doTestTickingTimed(true, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private void doTestTicking(final boolean bucketed, final long prevTicks, final long fwdTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian(prevTicks, fwdTicks, columns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian(prevTicks, fwdTicks, columns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingQuantile(PERCENTILE, prevTicks, fwdTicks, columns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingQuantile(PERCENTILE, prevTicks, fwdTicks, columns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    private void doTestTickingTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian("ts", prevTime, postTime, columns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian("ts", prevTime, postTime, columns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingQuantile(PERCENTILE, "ts", prevTime, postTime, columns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingQuantile(PERCENTILE, "ts", prevTime, postTime, columns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    @Test
+    public void testBucketedGeneralTickingRevRedirected() {
+        final int prevTicks = 100;
+        final int postTicks = 0;
+
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, true, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final UpdateByControl control = UpdateByControl.builder().useRedirection(true).build();
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                new EvalNugget() {
+                    @Override
+                    protected Table e() {
+                        return t.updateBy(control,
+                                List.of(UpdateByOperation.RollingMedian(prevTicks, postTicks, columns)),
+                                ColumnName.from("Sym"));
+                    }
+                }
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            try {
+                simulateShiftAwareStep(DYNAMIC_UPDATE_SIZE, billy, t, result.infos, nuggets);
+            } catch (Throwable ex) {
+                System.out.println("Crapped out on step " + ii);
+                throw ex;
+            }
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,240 @@
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.updateby.UpdateByControl;
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.api.updateby.spec.RollingReduceSpec;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.QueryScope;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.DataAccessHelpers;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.testutil.generator.TestDataGenerator;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.vector.ObjectVector;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static io.deephaven.engine.testutil.testcase.RefreshingTableTestCase.simulateShiftAwareStep;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Category(OutOfBandTest.class)
+public class TestRollingReduce extends BaseUpdateByTest {
+    final int STATIC_TABLE_SIZE = 10_000;
+    final int DYNAMIC_TABLE_SIZE = 1_000;
+    final int DYNAMIC_UPDATE_SIZE = 100;
+    final int DYNAMIC_UPDATE_STEPS = 20;
+
+    final RollingReduceSpec.Reducer<BigInteger> SUM = RollingReduceSpec.Reducer.of(BigInteger.class, BigInteger::add);
+    // Prefer the later value on ties to match RollingMax exactly
+    final RollingReduceSpec.Reducer<BigDecimal> MAX =
+            RollingReduceSpec.Reducer.of(BigDecimal.class, (a, b) -> a.compareTo(b) > 0 ? a : b);
+    // Not commutative, verifies that values are combined in row order
+    final RollingReduceSpec.Reducer<String> CONCAT = RollingReduceSpec.Reducer.of(String.class, String::concat);
+
+    final Function<ObjectVector<String>, String> concatStrings = vector -> {
+        final StringBuilder sb = new StringBuilder();
+        boolean allNull = true;
+        for (final String s : vector) {
+            if (s != null) {
+                sb.append(s);
+                allNull = false;
+            }
+        }
+        return allNull ? null : sb.toString();
+    };
+
+    private QueryTable makeStaticTable(final boolean bucketed) {
+        return createTestTable(STATIC_TABLE_SIZE, bucketed, false, false, 0xFFFABBBC,
+                new String[] {"ts"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY"))}).t;
+    }
+
+    // region Static Tests
+
+    @Test
+    public void testStaticZeroKey() {
+        final QueryTable t = makeStaticTable(false);
+        doTestStaticTicks(t, 100, 0);
+        doTestStaticTicks(t, 100, -50);
+        doTestStaticTicks(t, 50, 50);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimed() {
+        final QueryTable t = makeStaticTable(false);
+        doTestStaticTimed(t, Duration.ofMinutes(10), Duration.ofMinutes(0));
+        doTestStaticTimed(t, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void testStaticBucketed() {
+        final QueryTable t = makeStaticTable(true);
+
+        TstUtils.assertTableEquals(
+                t.updateBy(List.of(UpdateByOperation.RollingSum(100, 10, "bigIntCol"),
+                        UpdateByOperation.RollingMax(100, 10, "bigDecimalCol")), "Sym"),
+                t.updateBy(List.of(UpdateByOperation.RollingReduce(SUM, 100, 10, "bigIntCol"),
+                        UpdateByOperation.RollingReduce(MAX, 100, 10, "bigDecimalCol")), "Sym"));
+    }
+
+    @Test
+    public void testStaticConcat() {
+        QueryScope.addParam("concatStrings", concatStrings);
+
+        // include the Sym column, but reduce over it without bucketing
+        final QueryTable t = makeStaticTable(true);
+
+        TstUtils.assertTableEquals(
+                t.updateBy(UpdateByOperation.RollingGroup(10, 5, "Sym"))
+                        .update("Sym=concatStrings.apply(Sym)"),
+                t.updateBy(UpdateByOperation.RollingReduce(CONCAT, 10, 5, "Sym")));
+    }
+
+    @Test
+    public void testStaticConcatWrapsBuffer() {
+        // Far more rows than the initial buffer capacity, so the window wraps many times
+        final Table t = TableTools.emptyTable(1000).update("Letter = String.valueOf((char) (97 + (ii % 26)))");
+
+        final Table result = t.updateBy(UpdateByOperation.RollingReduce(CONCAT, 3, 0, "Letter"));
+        final Object[] letters = (Object[]) DataAccessHelpers.getColumn(t, "Letter").getDirect();
+        final Object[] concatenated = (Object[]) DataAccessHelpers.getColumn(result, "Letter").getDirect();
+        for (int ii = 0; ii < letters.length; ++ii) {
+            final StringBuilder expected = new StringBuilder();
+            for (int jj = Math.max(0, ii - 2); jj <= ii; ++jj) {
+                expected.append(letters[jj]);
+            }
+            Assert.assertEquals("row " + ii, expected.toString(), concatenated[ii]);
+        }
+        Assert.assertEquals("cde", concatenated[4]);
+
+        // A window wider than the initial buffer capacity forces the buffer to grow as well
+        QueryScope.addParam("concatStrings", concatStrings);
+        TstUtils.assertTableEquals(
+                t.updateBy(UpdateByOperation.RollingGroup(300, 20, "Letter"))
+                        .update("Letter=concatStrings.apply(Letter)"),
+                t.updateBy(UpdateByOperation.RollingReduce(CONCAT, 300, 20, "Letter")));
+    }
+
+    private void doTestStaticTicks(final Table t, final int prevTicks, final int postTicks) {
+        TstUtils.assertTableEquals(
+                t.updateBy(List.of(UpdateByOperation.RollingSum(prevTicks, postTicks, "bigIntCol"),
+                        UpdateByOperation.RollingMax(prevTicks, postTicks, "bigDecimalCol"))),
+                t.updateBy(List.of(UpdateByOperation.RollingReduce(SUM, prevTicks, postTicks, "bigIntCol"),
+                        UpdateByOperation.RollingReduce(MAX, prevTicks, postTicks, "bigDecimalCol"))));
+    }
+
+    private void doTestStaticTimed(final Table t, final Duration prevTime, final Duration postTime) {
+        TstUtils.assertTableEquals(
+                t.updateBy(List.of(UpdateByOperation.RollingSum("ts", prevTime, postTime, "bigIntCol"),
+                        UpdateByOperation.RollingMax("ts", prevTime, postTime, "bigDecimalCol"))),
+                t.updateBy(List.of(UpdateByOperation.RollingReduce(SUM, "ts", prevTime, postTime, "bigIntCol"),
+                        UpdateByOperation.RollingReduce(MAX, "ts", prevTime, postTime, "bigDecimalCol"))));
+    }
+
+    @Test
+    public void testNotApplicable() {
+        final QueryTable t = makeStaticTable(false);
+        assertThrows(IllegalArgumentException.class,
+                () -> t.updateBy(UpdateByOperation.RollingReduce(SUM, 10, "intCol")));
+    }
+
+    @Test
+    public void testSupertypeReducer() {
+        final QueryTable t = makeStaticTable(false);
+        final RollingReduceSpec.Reducer<Number> latest = RollingReduceSpec.Reducer.of(Number.class, (a, b) -> b);
+
+        final Table result = t.updateBy(UpdateByOperation.RollingReduce(latest, 1, "bigIntCol"));
+        // The output holds the reducer's results, so it has the reducer's type rather than the input's
+        Assert.assertEquals(Number.class, result.getDefinition().getColumn("bigIntCol").getDataType());
+        TstUtils.assertTableEquals(t, result.update("bigIntCol = (java.math.BigInteger) bigIntCol"));
+    }
+
+    // endregion
+
+    // region General Ticking Tests
+
+    @Test
+    public void testZeroKeyGeneralTicking() {
+        doTestTicking(false, 100, 0);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingFwdRev() {
+        doTestTicking(true, 50, 50);
+    }
+
+    private void doTestTicking(final boolean bucketed, final long prevTicks, final long fwdTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131);
+        final QueryTable t = result.t;
+
+        final List<UpdateByOperation> ops = List.of(
+                UpdateByOperation.RollingReduce(SUM, prevTicks, fwdTicks, "bigIntCol"),
+                UpdateByOperation.RollingReduce(MAX, prevTicks, fwdTicks, "bigDecimalCol"),
+                UpdateByOperation.RollingReduce(CONCAT, prevTicks, fwdTicks, "SymConcat=Sym"));
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(ops, "Sym") : t.updateBy(ops))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    @Test
+    public void testBucketedGeneralTickingTimedRevRedirected() {
+        final Duration prevTime = Duration.ofMinutes(10);
+        final Duration postTime = Duration.ofMinutes(0);
+
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, true, false, true, 0x31313131,
+                new String[] {"ts"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY"))});
+        final QueryTable t = result.t;
+
+        final UpdateByControl control = UpdateByControl.builder().useRedirection(true).build();
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                new EvalNugget() {
+                    @Override
+                    protected Table e() {
+                        return t.updateBy(control,
+                                List.of(UpdateByOperation.RollingReduce(SUM, "ts", prevTime, postTime, "bigIntCol")),
+                                ColumnName.from("Sym"));
+                    }
+                }
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            try {
+                simulateShiftAwareStep(DYNAMIC_UPDATE_SIZE, billy, t, result.infos, nuggets);
+            } catch (Throwable ex) {
+                System.out.println("Crapped out on step " + ii);
+                throw ex;
+            }
+        }
+    }
+
+    // endregion
+}
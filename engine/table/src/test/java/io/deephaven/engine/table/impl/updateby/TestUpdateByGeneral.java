@@ -11,6 +11,7 @@ import io.deephaven.engine.table.impl.UpdateErrorReporter;
 import io.deephaven.engine.table.impl.util.AsyncClientErrorNotifier;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
 import io.deephaven.engine.table.impl.TableDefaults;
 import io.deephaven.api.updateby.UpdateByControl;
 import io.deephaven.engine.testutil.TstUtils;
@@ -23,6 +24,7 @@ import io.deephaven.engine.util.TableTools;
 import io.deephaven.test.types.OutOfBandTest;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.ExceptionDetails;
+import io.deephaven.util.SafeCloseable;
 import junit.framework.TestCase;
 import org.jetbrains.annotations.NotNull;
 import org.junit.After;
@@ -92,6 +94,47 @@ public class TestUpdateByGeneral extends BaseUpdateByTest implements UpdateError
         }
     }
 
+    @Test
+    public void testParallelMatchesSerial() {
+        doTestParallelMatchesSerial(false);
+        doTestParallelMatchesSerial(true);
+    }
+
+    private void doTestParallelMatchesSerial(final boolean bucketed) {
+        final CreateResult result = createTestTable(10_000, bucketed, false, true, 0x5EA1,
+                new String[] {"ts"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY"))});
+        final Table base = result.t.sort("ts");
+
+        // Several window groups: two tick windows sharing 'intCol', a time window and two cumulative operators
+        final List<UpdateByOperation> clauses = List.of(
+                UpdateByOperation.RollingSum(50, 50, "intCol_rollsum=intCol", "doubleCol_rollsum=doubleCol"),
+                UpdateByOperation.RollingMin(20, 0, "intCol_rollmin=intCol", "longCol_rollmin=longCol"),
+                UpdateByOperation.RollingMax("ts", Duration.ofMinutes(5), Duration.ofMinutes(5),
+                        "floatCol_rollmax=floatCol"),
+                UpdateByOperation.Ema("ts", 10 * MINUTE, "doubleCol_ema=doubleCol"),
+                UpdateByOperation.CumSum("longCol_sum=longCol"),
+                UpdateByOperation.Fill("intCol_fill=intCol"));
+
+        final Table serial;
+        try (final SafeCloseable ignored = UpdateBy.overrideParallelism(Long.MAX_VALUE, false)) {
+            serial = bucketed ? base.updateBy(clauses, "Sym") : base.updateBy(clauses);
+        }
+        final Table parallel;
+        try (final SafeCloseable ignored = UpdateBy.overrideParallelism(0, true)) {
+            parallel = bucketed ? base.updateBy(clauses, "Sym") : base.updateBy(clauses);
+        }
+        assertTableEquals(serial, parallel);
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 20; step++) {
+            updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateTableUpdates(
+                    500, result.random, result.t, result.infos));
+            assertTableEquals("step " + step, serial, parallel);
+        }
+    }
+
     private void doTestTicking(boolean redirected, boolean bucketed, boolean appendOnly, int steps, int size,
             int seed) {
         final CreateResult result = createTestTable(size, bucketed, false, true, seed,
@@ -213,6 +213,113 @@ public class TestKeyedArrayBackedMutableTable {
         assertTableEquals(input2, kabut);
     }
 
+    @Test
+    public void testLargeUpdates() throws Exception {
+        // spans several processing chunks
+        final int size = 10_000;
+        final Table input = TableTools.emptyTable(size).update("Key = (int) ii", "Value = `A` + ii");
+
+        final KeyedArrayBackedMutableTable kabut = KeyedArrayBackedMutableTable.make(input, "Key");
+        final TableUpdateValidator validator = TableUpdateValidator.make("kabut", kabut);
+        final Table validatorResult = validator.getResultTable();
+        final FailureListener failureListener = new FailureListener();
+        validatorResult.addUpdateListener(failureListener);
+
+        assertTableEquals(input, kabut);
+
+        final MutableInputTable mutableInputTable = (MutableInputTable) kabut.getAttribute(Table.INPUT_TABLE_ATTRIBUTE);
+        TestCase.assertNotNull(mutableInputTable);
+
+        // modify every other existing key, and add as many new ones
+        final Table upserts = TableTools.emptyTable(size).update("Key = (int) (ii * 2)", "Value = `B` + ii");
+        handleDelayedRefresh(kabut, () -> mutableInputTable.add(upserts));
+        assertTableEquals(TableTools.merge(input, upserts).lastBy("Key"), kabut);
+
+        final Table deletes = TableTools.emptyTable(size).view("Key = (int) (ii * 3)");
+        handleDelayedRefresh(kabut, () -> mutableInputTable.delete(deletes));
+        assertTableEquals(TableTools.merge(input, upserts).lastBy("Key").where("Key % 3 != 0"), kabut);
+    }
+
+    @Test
+    public void testRejectedAddition() throws Throwable {
+        final Table input = TableTools.newTable(stringCol("Name", "Fred", "George"),
+                stringCol("Employer", "Slate Rock and Gravel", "Spacely Sprockets"));
+
+        final KeyedArrayBackedMutableTable kabut = KeyedArrayBackedMutableTable.make(input, "Name");
+        final TableUpdateValidator validator = TableUpdateValidator.make("kabut", kabut);
+        final Table validatorResult = validator.getResultTable();
+        final FailureListener failureListener = new FailureListener();
+        validatorResult.addUpdateListener(failureListener);
+
+        final MutableInputTable mutableInputTable = (MutableInputTable) kabut.getAttribute(Table.INPUT_TABLE_ATTRIBUTE);
+        TestCase.assertNotNull(mutableInputTable);
+
+        // A new key alongside an edit is rejected as a whole
+        final Map<String, Object> randyMap =
+                CollectionUtil.mapFromArray(String.class, Object.class, "Name", "Randy", "Employer", "USGS");
+        final Map<String, Object> fredMap =
+                CollectionUtil.mapFromArray(String.class, Object.class, "Name", "Fred", "Employer", "USGS");
+        final TestStatusListener listener = new TestStatusListener();
+        // noinspection unchecked
+        mutableInputTable.addRows(new Map[] {randyMap, fredMap}, false, listener);
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(kabut::run);
+        listener.waitForCompletion();
+        listener.assertFailure(IllegalArgumentException.class, "Can not edit keys Fred");
+        assertTableEquals(input, kabut);
+
+        // Deleting keys we have never seen is a no-op
+        final Table unknown = TableTools.newTable(stringCol("Name", "Quentin", "Randy"));
+        handleDelayedRefresh(kabut, () -> mutableInputTable.delete(unknown));
+        assertTableEquals(input, kabut);
+
+        // The rejected key may still be added later; neither it nor the unknown deletes consumed a row
+        final Table input2 = TableTools.newTable(stringCol("Name", "Randy", "Mr. Slate"),
+                stringCol("Employer", "USGS", "Slate Rock and Gravel"));
+        handleDelayedRefresh(kabut, () -> mutableInputTable.add(input2));
+        assertTableEquals(TableTools.merge(input, input2), kabut);
+        TestCase.assertEquals(3, kabut.getRowSet().lastRowKey());
+    }
+
+    @Test
+    public void testCompoundKeys() throws Exception {
+        final int size = 5_000;
+        final Table input = TableTools.emptyTable(size).update(
+                "Sym = `S` + (ii % 7)",
+                "Timestamp = epochNanosToInstant(ii % 11)",
+                "Id = (int) ii",
+                "Value = (double) ii");
+
+        final KeyedArrayBackedMutableTable kabut = KeyedArrayBackedMutableTable.make(input, "Sym", "Timestamp", "Id");
+        final TableUpdateValidator validator = TableUpdateValidator.make("kabut", kabut);
+        final Table validatorResult = validator.getResultTable();
+        final FailureListener failureListener = new FailureListener();
+        validatorResult.addUpdateListener(failureListener);
+
+        assertTableEquals(input, kabut);
+
+        final MutableInputTable mutableInputTable = (MutableInputTable) kabut.getAttribute(Table.INPUT_TABLE_ATTRIBUTE);
+        TestCase.assertNotNull(mutableInputTable);
+
+        // half of these match an existing row
+        final Table upserts = TableTools.emptyTable(size).update(
+                "Sym = `S` + (ii % 7)",
+                "Timestamp = epochNanosToInstant(ii % 22)",
+                "Id = (int) ii",
+                "Value = -1.0 * ii");
+        final Table expected = TableTools.merge(input, upserts).lastBy("Sym", "Timestamp", "Id");
+        handleDelayedRefresh(kabut, () -> mutableInputTable.add(upserts));
+        assertTableEquals(expected, kabut);
+
+        final Table deletes = upserts.where("Id % 2 == 0").view("Sym", "Timestamp", "Id");
+        handleDelayedRefresh(kabut, () -> mutableInputTable.delete(deletes));
+        assertTableEquals(expected.whereNotIn(deletes, "Sym", "Timestamp", "Id"), kabut);
+
+        // revive the deleted rows in their original positions
+        handleDelayedRefresh(kabut, () -> mutableInputTable.add(upserts));
+        assertTableEquals(expected, kabut);
+    }
+
     @Test
     public void testSetRows() {
         final Table input = TableTools.newTable(stringCol("Name", "Fred", "George", "Earl"),
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.engine.util;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.EvalNuggetInterface;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.BooleanGenerator;
+import io.deephaven.engine.testutil.generator.DoubleGenerator;
+import io.deephaven.engine.testutil.generator.IntGenerator;
+import io.deephaven.engine.testutil.generator.SetGenerator;
+import io.deephaven.engine.testutil.generator.StringGenerator;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static io.deephaven.engine.testutil.TstUtils.getTable;
+import static io.deephaven.engine.testutil.TstUtils.initColumnInfos;
+import static org.junit.Assert.assertThrows;
+
+public class TestPartitionedAggregationTools {
+    @Rule
+    public EngineCleanup cleanup = new EngineCleanup();
+
+    private static final List<Aggregation> AGGREGATIONS = List.of(
+            Aggregation.AggSum("Sum=intCol"),
+            Aggregation.AggLast("Last=doubleCol"),
+            Aggregation.AggCount("Count"));
+
+    @Test
+    public void testStatic() {
+        final Random random = new Random(0);
+        final QueryTable table = getTable(false, 10_000, random,
+                initColumnInfos(new String[] {"Sym", "boolCol", "intCol", "doubleCol"},
+                        new StringGenerator(1000),
+                        new BooleanGenerator(),
+                        new IntGenerator(0, 100),
+                        new DoubleGenerator(0, 100)));
+
+        for (final int numPartitions : new int[] {1, 2, 7, 16}) {
+            TstUtils.assertTableEquals(
+                    table.aggBy(AGGREGATIONS, "Sym").sort("Sym"),
+                    PartitionedAggregationTools.aggBy(table, numPartitions, AGGREGATIONS, "Sym").sort("Sym"));
+            TstUtils.assertTableEquals(
+                    table.aggBy(AGGREGATIONS, "Sym", "boolCol").sort("Sym", "boolCol"),
+                    PartitionedAggregationTools.aggBy(table, numPartitions, AGGREGATIONS, "Sym", "boolCol")
+                            .sort("Sym", "boolCol"));
+        }
+    }
+
+    @Test
+    public void testIncremental() {
+        final Random random = new Random(0);
+        final int size = 500;
+
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable table = getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"Sym", "boolCol", "intCol", "doubleCol"},
+                        new SetGenerator<>("aa", "bb", "bc", "cc", "dd", "ee", "ff", "gg", "hh", "ii"),
+                        new BooleanGenerator(),
+                        new IntGenerator(0, 100),
+                        new DoubleGenerator(0, 100)));
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> PartitionedAggregationTools.aggBy(table, 4, AGGREGATIONS, "Sym")
+                        .sort("Sym")),
+                EvalNugget.from(() -> PartitionedAggregationTools.aggBy(table, 3, AGGREGATIONS, "Sym", "boolCol")
+                        .sort("Sym", "boolCol")),
+        };
+
+        for (int i = 0; i < 100; i++) {
+            RefreshingTableTestCase.simulateShiftAwareStep(size, random, table, columnInfo, en);
+        }
+    }
+
+    @Test
+    public void testMatchesAggBy() {
+        final Random random = new Random(0);
+        final int size = 500;
+
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable table = getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"Sym", "intCol", "doubleCol"},
+                        new SetGenerator<>("aa", "bb", "bc", "cc", "dd", "ee", "ff", "gg", "hh", "ii"),
+                        new IntGenerator(0, 100),
+                        new DoubleGenerator(0, 100)));
+
+        final Table expected = table.aggBy(AGGREGATIONS, "Sym").sort("Sym");
+        final Table actual = PartitionedAggregationTools.aggBy(table, 4, AGGREGATIONS, "Sym").sort("Sym");
+
+        for (int i = 0; i < 20; i++) {
+            RefreshingTableTestCase.simulateShiftAwareStep(size, random, table, columnInfo,
+                    new EvalNuggetInterface[0]);
+            TstUtils.assertTableEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        final Table table = TableTools.emptyTable(10).update("Sym = `a`", "intCol = i", "doubleCol = (double) i");
+        assertThrows(IllegalArgumentException.class,
+                () -> PartitionedAggregationTools.aggBy(table, 0, AGGREGATIONS, "Sym"));
+        assertThrows(IllegalArgumentException.class,
+                () -> PartitionedAggregationTools.aggBy(table, 4, AGGREGATIONS));
+    }
+}
@@ -0,0 +1,128 @@
+package io.deephaven.stream;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.QueryConstants;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiProducerTableWriterTest {
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofString("S"),
+            ColumnDefinition.ofBoolean("B"),
+            ColumnDefinition.ofInt("I"),
+            ColumnDefinition.ofLong("L"),
+            ColumnDefinition.ofDouble("D"),
+            ColumnDefinition.ofTime("T"));
+
+    @Test
+    public void blink() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final MultiProducerTableWriter writer = MultiProducerTableWriter.of("writer.blink", DEFINITION,
+                MultiProducerTableWriter.Mode.BLINK, updateGraph, 2);
+        final Table table = writer.table();
+        TstUtils.assertTableEquals(TableTools.newTable(DEFINITION), table);
+
+        final MultiProducerTableWriter.Producer producer = writer.newProducer();
+        final int s = producer.columnIndex("S");
+        producer.setObject(s, "Foo").setBoolean(1, true).setInt(2, 42).setLong(3, 43L).setDouble(4, 44.0)
+                .setInstant(5, Instant.ofEpochMilli(55)).endRow();
+        // Columns that aren't set are null
+        producer.setObject(s, "Bar").endRow();
+        // The first two rows filled the chunks and were handed off; the third is only visible after a flush
+        producer.setObject(s, "Baz").setInt(2, -1);
+        producer.endRow();
+        // A row in progress is not flushed
+        producer.setObject(s, "Partial").setInt(2, 7);
+        updateGraph.runWithinUnitTestCycle(writer::runForUnitTests);
+        TstUtils.assertTableEquals(TableTools.newTable(DEFINITION,
+                TableTools.stringCol("S", "Foo", "Bar"),
+                TableTools.booleanCol("B", true, null),
+                TableTools.intCol("I", 42, QueryConstants.NULL_INT),
+                TableTools.longCol("L", 43L, QueryConstants.NULL_LONG),
+                TableTools.doubleCol("D", 44.0, QueryConstants.NULL_DOUBLE),
+                TableTools.instantCol("T", Instant.ofEpochMilli(55), null)), table);
+
+        producer.flush();
+        producer.endRow();
+        producer.close();
+        updateGraph.runWithinUnitTestCycle(writer::runForUnitTests);
+        TstUtils.assertTableEquals(TableTools.newTable(DEFINITION,
+                TableTools.stringCol("S", "Baz", "Partial"),
+                TableTools.booleanCol("B", null, null),
+                TableTools.intCol("I", -1, 7),
+                TableTools.longCol("L", QueryConstants.NULL_LONG, QueryConstants.NULL_LONG),
+                TableTools.doubleCol("D", QueryConstants.NULL_DOUBLE, QueryConstants.NULL_DOUBLE),
+                TableTools.instantCol("T", null, null)), table);
+
+        updateGraph.runWithinUnitTestCycle(writer::runForUnitTests);
+        TstUtils.assertTableEquals(TableTools.newTable(DEFINITION), table);
+        assertThat(writer.isAlive()).isTrue();
+    }
+
+    @Test
+    public void appendOnlyConcurrentProducers() throws InterruptedException {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final TableDefinition definition = TableDefinition.of(
+                ColumnDefinition.ofInt("Producer"),
+                ColumnDefinition.ofLong("Sequence"));
+        final MultiProducerTableWriter writer = MultiProducerTableWriter.of("writer.appendOnly", definition,
+                MultiProducerTableWriter.Mode.APPEND_ONLY, updateGraph, 1000);
+        final Table table = writer.table();
+
+        final int numProducers = 8;
+        final int rowsPerProducer = 10_007;
+        final List<Thread> threads = new ArrayList<>();
+        for (int pi = 0; pi < numProducers; ++pi) {
+            final int producerId = pi;
+            threads.add(new Thread(() -> {
+                try (final MultiProducerTableWriter.Producer producer = writer.newProducer()) {
+                    for (long ri = 0; ri < rowsPerProducer; ++ri) {
+                        producer.setInt(0, producerId).setLong(1, ri).endRow();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        updateGraph.runWithinUnitTestCycle(writer::runForUnitTests);
+        assertThat(table.size()).isEqualTo((long) numProducers * rowsPerProducer);
+
+        // Each producer's rows appear in the order they were written
+        final ColumnSource<Integer> producers = table.getColumnSource("Producer", int.class);
+        final ColumnSource<Long> sequences = table.getColumnSource("Sequence", long.class);
+        final long[] nextSequence = new long[numProducers];
+        table.getRowSet().forAllRowKeys(rowKey -> {
+            final int producerId = producers.getInt(rowKey);
+            assertThat(sequences.getLong(rowKey)).isEqualTo(nextSequence[producerId]++);
+        });
+        for (final long next : nextSequence) {
+            assertThat(next).isEqualTo(rowsPerProducer);
+        }
+
+        // Later rows are appended
+        try (final MultiProducerTableWriter.Producer producer = writer.newProducer()) {
+            producer.setInt(0, 0).setLong(1, rowsPerProducer).endRow();
+        }
+        updateGraph.runWithinUnitTestCycle(writer::runForUnitTests);
+        assertThat(table.size()).isEqualTo((long) numProducers * rowsPerProducer + 1);
+    }
+}
@@ -105,6 +105,22 @@ public abstract class BarrageSubscriptionOptions implements StreamReaderOptions
         return ColumnConversionMode.Stringify;
     }
 
+    /**
+     * Subscribers to a hierarchical table view can opt in to receiving modification deltas, rather than full snapshots,
+     * when only the data in their unchanged viewport has changed. Such subscribers must be able to apply non-snapshot
+     * messages to their retained viewport contents. The server sends deltas only if it is also configured to allow
+     * them.
+     * <p>
+     * This option is not part of the Barrage flatbuffer format, so it is not sent by {@link #appendTo} nor read by
+     * {@link #of}; it may only be set by server-side code, such as a custom subscription options adapter.
+     *
+     * @return whether to accept modification deltas for hierarchical table view subscriptions
+     */
+    @Default
+    public boolean hierarchicalTableDeltas() {
+        return false;
+    }
+
     public int appendTo(FlatBufferBuilder builder) {
         return io.deephaven.barrage.flatbuf.BarrageSubscriptionOptions.createBarrageSubscriptionOptions(
                 builder, ColumnConversionMode.conversionModeEnumToFb(columnConversionMode()), useDeephavenNulls(),
@@ -128,6 +144,8 @@ public abstract class BarrageSubscriptionOptions implements StreamReaderOptions
 
         Builder maxMessageSize(int messageSize);
 
+        Builder hierarchicalTableDeltas(boolean hierarchicalTableDeltas);
+
         BarrageSubscriptionOptions build();
     }
 }
@@ -43,16 +43,7 @@ import io.deephaven.engine.table.WritableColumnSource;
 import io.deephaven.engine.table.impl.InMemoryTable;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceNugget;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
-import io.deephaven.engine.table.impl.sources.BooleanArraySource;
-import io.deephaven.engine.table.impl.sources.ByteArraySource;
-import io.deephaven.engine.table.impl.sources.CharacterArraySource;
-import io.deephaven.engine.table.impl.sources.DoubleArraySource;
-import io.deephaven.engine.table.impl.sources.FloatArraySource;
-import io.deephaven.engine.table.impl.sources.InstantArraySource;
-import io.deephaven.engine.table.impl.sources.IntegerArraySource;
-import io.deephaven.engine.table.impl.sources.LongArraySource;
-import io.deephaven.engine.table.impl.sources.ObjectArraySource;
-import io.deephaven.engine.table.impl.sources.ShortArraySource;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
 import io.deephaven.engine.util.PathUtil;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.io.streams.BzipFileOutputStream;
@@ -84,6 +75,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -272,6 +264,62 @@ public class CsvTools {
         }
     }
 
+    /**
+     * Creates an in-memory table from {@code path} by importing CSV data according to the {@code specs}, parsing
+     * byte ranges of the file concurrently using as many threads as there are available processors.
+     *
+     * @param path the path
+     * @param specs the csv specs
+     * @return the table
+     * @throws CsvReaderException If some CSV reading error occurs.
+     * @see #readCsvParallel(Collection, CsvSpecs, int)
+     */
+    @ScriptApi
+    public static Table readCsvParallel(Path path, CsvSpecs specs) throws CsvReaderException {
+        return readCsvParallel(List.of(path), specs);
+    }
+
+    /**
+     * Creates an in-memory table from {@code paths} by importing CSV data according to the {@code specs}, parsing the
+     * files concurrently using as many threads as there are available processors.
+     *
+     * @param paths the paths
+     * @param specs the csv specs
+     * @return the table
+     * @throws CsvReaderException If some CSV reading error occurs.
+     * @see #readCsvParallel(Collection, CsvSpecs, int)
+     */
+    @ScriptApi
+    public static Table readCsvParallel(Collection<Path> paths, CsvSpecs specs) throws CsvReaderException {
+        return readCsvParallel(paths, specs, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an in-memory table from {@code paths} by importing CSV data according to the {@code specs}, using up to
+     * {@code parallelism} threads. The result holds the rows of each file in order, as though the files had been
+     * concatenated (with only the first file's header row, if {@link CsvSpecs#hasHeaderRow() present}); all files must
+     * have the same columns.
+     *
+     * <p>
+     * Uncompressed files are split into byte ranges at record boundaries, and all ranges of all files are parsed
+     * concurrently. Each range infers its own column types, which are reconciled afterwards by widening numeric types.
+     * If the ranges' types can't be reconciled, the files are read again sequentially, so the resulting types are the
+     * same as {@link #readCsv(Path, CsvSpecs)} would infer for the concatenated files. Files that need decompression
+     * are parsed whole, concurrently with other files. Record boundaries are found assuming quotes only open quoted
+     * fields at the start of a field.
+     *
+     * @param paths the paths
+     * @param specs the csv specs
+     * @param parallelism the number of threads to use
+     * @return the table
+     * @throws CsvReaderException If some CSV reading error occurs.
+     */
+    @ScriptApi
+    public static Table readCsvParallel(Collection<Path> paths, CsvSpecs specs, int parallelism)
+            throws CsvReaderException {
+        return ParallelCsvReader.read(paths, specs, parallelism, ParallelCsvReader.DEFAULT_MIN_RANGE_BYTES);
+    }
+
     /**
      * Convert an ordered collection of column names to use for a result table into a series of {@link Pair rename
      * pairs} to pass to {@link Table#renameColumns(Collection)}.
@@ -971,11 +1019,17 @@ public class CsvTools {
         protected long resultSize;
         protected final WritableColumnSource<?> reinterpreted;
         protected final ChunkWrapInvoker<TARRAY, Chunk<? extends Values>> chunkWrapInvoker;
+        /** The row of {@link #result} that holds our first row. */
+        protected final long rowOffset;
+        /** The number of rows we may write; writes beyond it are dropped. */
+        protected final long rowLimit;
 
-        public MySinkBase(WritableColumnSource<TYPE> result, Class<?> interpClass,
+        public MySinkBase(WritableColumnSource<TYPE> result, long rowOffset, long rowLimit, Class<?> interpClass,
                 ChunkWrapInvoker<TARRAY, Chunk<? extends Values>> chunkWrapInvoker) {
             this.result = result;
             this.resultSize = 0;
+            this.rowOffset = rowOffset;
+            this.rowLimit = rowLimit;
             if (interpClass != null) {
                 reinterpreted = (WritableColumnSource<?>) result.reinterpret(interpClass);
             } else {
@@ -987,15 +1041,17 @@ public class CsvTools {
         @Override
         public final void write(final TARRAY src, final boolean[] isNull, final long destBegin, final long destEnd,
                 boolean appending_unused) {
-            if (destBegin == destEnd) {
+            if (destBegin == destEnd || destEnd > rowLimit) {
+                // Writing beyond our limit would clobber rows that belong to another sink of the same result
                 return;
             }
             final int size = Math.toIntExact(destEnd - destBegin);
             nullFlagsToValues(src, isNull, size);
-            reinterpreted.ensureCapacity(destEnd);
+            reinterpreted.ensureCapacity(rowOffset + destEnd);
             resultSize = Math.max(resultSize, destEnd);
             try (final ChunkSink.FillFromContext context = reinterpreted.makeFillFromContext(size);
-                    final RowSequence range = RowSequenceFactory.forRange(destBegin, destEnd - 1)) {
+                    final RowSequence range =
+                            RowSequenceFactory.forRange(rowOffset + destBegin, rowOffset + destEnd - 1)) {
                 Chunk<? extends Values> chunk = chunkWrapInvoker.apply(src, 0, size);
                 reinterpreted.fillFromChunk(context, chunk, range);
             }
@@ -1025,10 +1081,10 @@ public class CsvTools {
             implements Source<TARRAY>, Sink<TARRAY> {
         private final ChunkWrapInvoker<TARRAY, WritableChunk<? super Values>> writableChunkWrapInvoker;
 
-        public MySourceAndSinkBase(WritableColumnSource<TYPE> result, Class<?> interpClass,
-                ChunkWrapInvoker<TARRAY, Chunk<? extends Values>> chunkWrapInvoker,
+        public MySourceAndSinkBase(WritableColumnSource<TYPE> result, long rowOffset, long rowLimit,
+                Class<?> interpClass, ChunkWrapInvoker<TARRAY, Chunk<? extends Values>> chunkWrapInvoker,
                 ChunkWrapInvoker<TARRAY, WritableChunk<? super Values>> writeableChunkWrapInvoker) {
-            super(result, interpClass, chunkWrapInvoker);
+            super(result, rowOffset, rowLimit, interpClass, chunkWrapInvoker);
             this.writableChunkWrapInvoker = writeableChunkWrapInvoker;
         }
 
@@ -1039,7 +1095,8 @@ public class CsvTools {
             }
             final int size = Math.toIntExact(srcEnd - srcBegin);
             try (final ChunkSink.FillContext context = reinterpreted.makeFillContext(size);
-                    final RowSequence range = RowSequenceFactory.forRange(srcBegin, srcEnd - 1)) {
+                    final RowSequence range =
+                            RowSequenceFactory.forRange(rowOffset + srcBegin, rowOffset + srcEnd - 1)) {
                 WritableChunk<? super Values> chunk = writableChunkWrapInvoker.apply(dest, 0, size);
                 reinterpreted.fillChunk(context, chunk, range);
             }
@@ -1050,8 +1107,8 @@ public class CsvTools {
     }
 
     private static final class MyCharSink extends MySinkBase<Character, char[]> {
-        public MyCharSink(int columnIndex) {
-            super(new CharacterArraySource(), null, CharChunk::chunkWrap);
+        public MyCharSink(WritableColumnSource<Character> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, CharChunk::chunkWrap);
         }
 
         @Override
@@ -1065,8 +1122,8 @@ public class CsvTools {
     }
 
     private static final class MyBooleanAsByteSink extends MySinkBase<Boolean, byte[]> {
-        public MyBooleanAsByteSink(int columnIndex) {
-            super(new BooleanArraySource(), byte.class, ByteChunk::chunkWrap);
+        public MyBooleanAsByteSink(WritableColumnSource<Boolean> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, byte.class, ByteChunk::chunkWrap);
         }
 
         @Override
@@ -1080,8 +1137,8 @@ public class CsvTools {
     }
 
     private static final class MyByteSink extends MySourceAndSinkBase<Byte, byte[]> {
-        public MyByteSink(int columnIndex) {
-            super(new ByteArraySource(), null, ByteChunk::chunkWrap, WritableByteChunk::writableChunkWrap);
+        public MyByteSink(WritableColumnSource<Byte> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, ByteChunk::chunkWrap, WritableByteChunk::writableChunkWrap);
         }
 
         @Override
@@ -1102,8 +1159,8 @@ public class CsvTools {
     }
 
     private static final class MyShortSink extends MySourceAndSinkBase<Short, short[]> {
-        public MyShortSink(int columnIndex) {
-            super(new ShortArraySource(), null, ShortChunk::chunkWrap, WritableShortChunk::writableChunkWrap);
+        public MyShortSink(WritableColumnSource<Short> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, ShortChunk::chunkWrap, WritableShortChunk::writableChunkWrap);
         }
 
         @Override
@@ -1124,8 +1181,8 @@ public class CsvTools {
     }
 
     private static final class MyIntSink extends MySourceAndSinkBase<Integer, int[]> {
-        public MyIntSink(int columnIndex) {
-            super(new IntegerArraySource(), null, IntChunk::chunkWrap, WritableIntChunk::writableChunkWrap);
+        public MyIntSink(WritableColumnSource<Integer> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, IntChunk::chunkWrap, WritableIntChunk::writableChunkWrap);
         }
 
         @Override
@@ -1146,8 +1203,8 @@ public class CsvTools {
     }
 
     private static final class MyLongSink extends MySourceAndSinkBase<Long, long[]> {
-        public MyLongSink(int columnIndex) {
-            super(new LongArraySource(), null, LongChunk::chunkWrap, WritableLongChunk::writableChunkWrap);
+        public MyLongSink(WritableColumnSource<Long> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, LongChunk::chunkWrap, WritableLongChunk::writableChunkWrap);
         }
 
         @Override
@@ -1169,8 +1226,8 @@ public class CsvTools {
     }
 
     private static final class MyFloatSink extends MySinkBase<Float, float[]> {
-        public MyFloatSink(int columnIndex) {
-            super(new FloatArraySource(), null, FloatChunk::chunkWrap);
+        public MyFloatSink(WritableColumnSource<Float> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, FloatChunk::chunkWrap);
         }
 
         @Override
@@ -1184,8 +1241,8 @@ public class CsvTools {
     }
 
     private static final class MyDoubleSink extends MySinkBase<Double, double[]> {
-        public MyDoubleSink(int columnIndex) {
-            super(new DoubleArraySource(), null, DoubleChunk::chunkWrap);
+        public MyDoubleSink(WritableColumnSource<Double> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, DoubleChunk::chunkWrap);
         }
 
         @Override
@@ -1199,8 +1256,8 @@ public class CsvTools {
     }
 
     private static final class MyStringSink extends MySinkBase<String, String[]> {
-        public MyStringSink(int columnIndex) {
-            super(new ObjectArraySource<>(String.class), null, ObjectChunk::chunkWrap);
+        public MyStringSink(WritableColumnSource<String> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, null, ObjectChunk::chunkWrap);
         }
 
         @Override
@@ -1214,8 +1271,8 @@ public class CsvTools {
     }
 
     private static final class MyInstantAsLongSink extends MySinkBase<Instant, long[]> {
-        public MyInstantAsLongSink(int columnIndex) {
-            super(new InstantArraySource(), long.class, LongChunk::chunkWrap);
+        public MyInstantAsLongSink(WritableColumnSource<Instant> result, long rowOffset, long rowLimit) {
+            super(result, rowOffset, rowLimit, long.class, LongChunk::chunkWrap);
         }
 
         @Override
@@ -1228,18 +1285,49 @@ public class CsvTools {
         }
     }
 
-    private static SinkFactory makeMySinkFactory() {
+    static SinkFactory makeMySinkFactory() {
+        return makeMySinkFactory((columnIndex, type) -> ArrayBackedColumnSource.getMemoryColumnSource(type, null),
+                0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Make a sink factory whose sinks write their rows at {@code rowOffset} in the column sources supplied by
+     * {@code results}, which maps a column index and type to a column source of that type. Sinks drop writes past
+     * {@code rowLimit} rows, so callers that share results between factories must check how many rows were read.
+     */
+    static SinkFactory makeMySinkFactory(
+            final BiFunction<Integer, Class<?>, WritableColumnSource<?>> results,
+            final long rowOffset,
+            final long rowLimit) {
         return SinkFactory.of(
-                MyByteSink::new, QueryConstants.NULL_BYTE_BOXED,
-                MyShortSink::new, QueryConstants.NULL_SHORT_BOXED,
-                MyIntSink::new, QueryConstants.NULL_INT_BOXED,
-                MyLongSink::new, QueryConstants.NULL_LONG_BOXED,
-                MyFloatSink::new, QueryConstants.NULL_FLOAT_BOXED,
-                MyDoubleSink::new, QueryConstants.NULL_DOUBLE_BOXED,
-                MyBooleanAsByteSink::new,
-                MyCharSink::new, QueryConstants.NULL_CHAR,
-                MyStringSink::new, null,
-                MyInstantAsLongSink::new, QueryConstants.NULL_LONG,
-                MyInstantAsLongSink::new, QueryConstants.NULL_LONG);
+                ci -> new MyByteSink(result(results, ci, byte.class), rowOffset, rowLimit),
+                QueryConstants.NULL_BYTE_BOXED,
+                ci -> new MyShortSink(result(results, ci, short.class), rowOffset, rowLimit),
+                QueryConstants.NULL_SHORT_BOXED,
+                ci -> new MyIntSink(result(results, ci, int.class), rowOffset, rowLimit),
+                QueryConstants.NULL_INT_BOXED,
+                ci -> new MyLongSink(result(results, ci, long.class), rowOffset, rowLimit),
+                QueryConstants.NULL_LONG_BOXED,
+                ci -> new MyFloatSink(result(results, ci, float.class), rowOffset, rowLimit),
+                QueryConstants.NULL_FLOAT_BOXED,
+                ci -> new MyDoubleSink(result(results, ci, double.class), rowOffset, rowLimit),
+                QueryConstants.NULL_DOUBLE_BOXED,
+                ci -> new MyBooleanAsByteSink(result(results, ci, Boolean.class), rowOffset, rowLimit),
+                ci -> new MyCharSink(result(results, ci, char.class), rowOffset, rowLimit),
+                QueryConstants.NULL_CHAR,
+                ci -> new MyStringSink(result(results, ci, String.class), rowOffset, rowLimit),
+                null,
+                ci -> new MyInstantAsLongSink(result(results, ci, Instant.class), rowOffset, rowLimit),
+                QueryConstants.NULL_LONG,
+                ci -> new MyInstantAsLongSink(result(results, ci, Instant.class), rowOffset, rowLimit),
+                QueryConstants.NULL_LONG);
+    }
+
+    private static <T> WritableColumnSource<T> result(
+            final BiFunction<Integer, Class<?>, WritableColumnSource<?>> results,
+            final int columnIndex,
+            final Class<T> type) {
+        // noinspection unchecked
+        return (WritableColumnSource<T>) results.apply(columnIndex, type);
     }
 }
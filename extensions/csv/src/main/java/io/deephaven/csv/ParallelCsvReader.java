@@ -0,0 +1,1075 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.csv;
+
+import io.deephaven.chunk.ByteChunk;
+import io.deephaven.chunk.CharChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.ShortChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.csv.reading.CsvReader;
+import io.deephaven.csv.reading.CsvReader.ResultColumn;
+import io.deephaven.csv.sinks.SinkFactory;
+import io.deephaven.csv.util.CsvReaderException;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.InMemoryTable;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.util.PathUtil;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.thread.NamingThreadFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads one or more CSV files into a single in-memory table by splitting uncompressed files into byte ranges at record
+ * boundaries and parsing the ranges concurrently with {@link CsvReader}.
+ *
+ * <p>
+ * Record boundaries are found with a quote-aware scan of each file; the scan itself runs in parallel by tracking every
+ * possible parser state at the start of each range and resolving the actual states afterwards. Each range is parsed as
+ * if it were a file of its own, with the header record prepended, so every range infers its own column types. The
+ * per-range types are then reconciled: ranges whose column is entirely null adopt the other ranges' type, integral
+ * types widen to the widest integral type, mixed integral and floating point types widen to {@code double}, and mixed
+ * {@code char} and {@code String} columns become {@code String}. If the ranges disagree in any other way, the files
+ * are instead read sequentially as a single stream, so the result always matches what {@link CsvReader} would infer.
+ *
+ * <p>
+ * The quote-aware scan also counts the records in each range. When every range's row count is known, each range's
+ * sinks write directly into column sources shared by all ranges and pre-sized for the whole table, at the range's row
+ * offset; only ranges whose type differs from the reconciled type are then converted into the result. Otherwise, each
+ * range parses into column sources of its own, which are copied concurrently into one set of column sources.
+ *
+ * <p>
+ * Compressed files are parsed as a single range each, concurrently with the other files' ranges. Specs that skip rows
+ * or limit the number of rows are always read sequentially.
+ */
+final class ParallelCsvReader {
+
+    /**
+     * The smallest range we split a file into; smaller files are parsed as a single range.
+     */
+    static final long DEFAULT_MIN_RANGE_BYTES = 8L << 20;
+
+    /**
+     * The largest range we scan or parse as a unit.
+     */
+    private static final long MAX_RANGE_BYTES = 1L << 30;
+
+    private static final int SCAN_BUFFER_SIZE = 1 << 20;
+    private static final int COPY_CHUNK_SIZE = 4096;
+
+    // Scanner states; see ChunkScan
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+    private static final int NUM_STATES = 4;
+
+    private ParallelCsvReader() {}
+
+    static Table read(
+            @NotNull final Collection<Path> paths,
+            @NotNull final CsvSpecs specs,
+            final int parallelism,
+            final long minRangeBytes) throws CsvReaderException {
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("No paths to read");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, was " + parallelism);
+        }
+        if (specs.skipRows() != 0 || specs.numRows() != Long.MAX_VALUE || specs.skipHeaderRows() != 0) {
+            return readSequential(paths, specs);
+        }
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(parallelism, new NamingThreadFactory(ParallelCsvReader.class, "reader"));
+        try {
+            final List<Range> ranges = new ArrayList<>();
+            for (final Path path : paths) {
+                ranges.addAll(split(path, specs, parallelism, minRangeBytes, paths.size() > 1, executor));
+            }
+
+            long totalRows = 0;
+            for (final Range range : ranges) {
+                if (range.expectedRows < 0) {
+                    totalRows = -1;
+                    break;
+                }
+                totalRows += range.expectedRows;
+            }
+            final SharedColumns sharedColumns = totalRows < 0 ? null : new SharedColumns(totalRows);
+
+            final List<Callable<RangeResult>> parseTasks = new ArrayList<>(ranges.size());
+            long rowOffset = 0;
+            for (final Range range : ranges) {
+                final long rangeRowOffset = rowOffset;
+                parseTasks.add(() -> range.parse(specs, sharedColumns, rangeRowOffset));
+                if (sharedColumns != null) {
+                    rowOffset += range.expectedRows;
+                }
+            }
+            final List<RangeResult> results = invokeAll(executor, parseTasks);
+            if (sharedColumns != null) {
+                for (final RangeResult result : results) {
+                    if (result.numRows != result.range.expectedRows) {
+                        // Our record count disagrees with the parser's (e.g. for blank lines), so the ranges may have
+                        // written over each other's rows
+                        return readSequential(paths, specs);
+                    }
+                }
+            }
+
+            final String[] names = results.get(0).names;
+            for (final RangeResult result : results) {
+                if (!Arrays.equals(names, result.names)) {
+                    throw new CsvReaderException("Column names " + Arrays.toString(result.names) + " in "
+                            + result.range + " do not match column names " + Arrays.toString(names) + " in "
+                            + results.get(0).range);
+                }
+            }
+
+            final Class<?>[] types = new Class<?>[names.length];
+            for (int ci = 0; ci < names.length; ++ci) {
+                types[ci] = reconcile(results, ci);
+                if (types[ci] == null) {
+                    return readSequential(paths, specs);
+                }
+            }
+            return assemble(names, types, results, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Read {@code paths} as a single CSV stream, as though the files were concatenated with all but the first header
+     * record removed.
+     */
+    private static Table readSequential(
+            @NotNull final Collection<Path> paths,
+            @NotNull final CsvSpecs specs) throws CsvReaderException {
+        if (paths.size() == 1) {
+            return CsvTools.readCsv(paths.iterator().next(), specs);
+        }
+        return CsvTools.readCsv(new SequenceInputStream(new ConcatenatedFiles(paths, specs)), specs);
+    }
+
+    private static <T> List<T> invokeAll(
+            @NotNull final ExecutorService executor,
+            @NotNull final List<Callable<T>> tasks) throws CsvReaderException {
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        final List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CsvReaderException("Interrupted while reading CSV", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CsvReaderException) {
+                throw (CsvReaderException) e.getCause();
+            }
+            throw new CsvReaderException("Caught exception", e.getCause());
+        } finally {
+            for (final Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    // region Splitting
+
+    private static boolean isUncompressed(@NotNull final Path path) {
+        final String fileName = path.getFileName().toString();
+        for (final String suffix : new String[] {".zip", ".bz2", ".gz", ".7z", ".zst", ".tar"}) {
+            if (fileName.endsWith(suffix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Split {@code path} into ranges that begin and end on record boundaries.
+     *
+     * @param countRows whether to scan a file that is not split, only to count its records
+     */
+    private static List<Range> split(
+            @NotNull final Path path,
+            @NotNull final CsvSpecs specs,
+            final int parallelism,
+            final long minRangeBytes,
+            final boolean countRows,
+            @NotNull final ExecutorService executor) throws CsvReaderException {
+        if (!isUncompressed(path)) {
+            return List.of(new StreamRange(path));
+        }
+        final long size;
+        try {
+            size = Files.size(path);
+        } catch (IOException e) {
+            throw new CsvReaderException("Caught exception", e);
+        }
+        final long targetRangeBytes = Math.min(MAX_RANGE_BYTES,
+                Math.max(minRangeBytes, (size + parallelism - 1) / parallelism));
+        final int numChunks = (int) ((size + targetRangeBytes - 1) / targetRangeBytes);
+        // We can only find boundaries by byte comparison for single-byte delimiter and quote characters
+        if (numChunks < (countRows ? 1 : 2) || specs.delimiter() > 0x7F || specs.quote() > 0x7F) {
+            return List.of(new FileRange(path, 0, size, null, -1));
+        }
+
+        final List<Callable<ChunkScan>> scanTasks = new ArrayList<>(numChunks);
+        for (int ii = 0; ii < numChunks; ++ii) {
+            final long chunkStart = ii * targetRangeBytes;
+            final long chunkEnd = Math.min(size, chunkStart + targetRangeBytes);
+            scanTasks.add(() -> new ChunkScan(path, chunkStart, chunkEnd, (byte) specs.delimiter(),
+                    (byte) specs.quote(), specs.ignoreSurroundingSpaces()));
+        }
+        final List<ChunkScan> scans = invokeAll(executor, scanTasks);
+
+        // The header is the first record in the file, which must end within the first chunk for us to split
+        final byte[] header;
+        if (specs.hasHeaderRow()) {
+            final long headerEnd = scans.get(0).firstRecordEnd[FIELD_START];
+            if (headerEnd < 0) {
+                return List.of(new FileRange(path, 0, size, null, -1));
+            }
+            header = readBytes(path, 0, headerEnd);
+        } else {
+            header = null;
+        }
+
+        final List<Range> ranges = new ArrayList<>();
+        long rangeStart = 0;
+        // The number of records that end after rangeStart and before the current chunk
+        long rangeRecords = 0;
+        int state = FIELD_START;
+        for (int ii = 0; ii < numChunks; ++ii) {
+            final ChunkScan scan = scans.get(ii);
+            final long boundary = scan.firstRecordEnd[state];
+            if (ii > 0 && boundary >= 0 && boundary < size) {
+                ranges.add(new FileRange(path, rangeStart, boundary, rangeStart == 0 ? null : header,
+                        dataRows(rangeRecords + 1, rangeStart, header)));
+                rangeStart = boundary;
+                rangeRecords = scan.recordEnds[state] - 1;
+            } else {
+                rangeRecords += scan.recordEnds[state];
+            }
+            if (ii == numChunks - 1 && scan.lastRecordEnd[state] != size) {
+                // The last record need not end with a newline
+                ++rangeRecords;
+            }
+            state = scan.endState[state];
+        }
+        ranges.add(new FileRange(path, rangeStart, size, rangeStart == 0 ? null : header,
+                dataRows(rangeRecords, rangeStart, header)));
+        return ranges;
+    }
+
+    /**
+     * @return the number of data rows in a range of {@code records} records starting at {@code rangeStart}, which
+     *         includes the header record only for the file's first range
+     */
+    private static long dataRows(final long records, final long rangeStart, @Nullable final byte[] header) {
+        return rangeStart == 0 && header != null ? records - 1 : records;
+    }
+
+    private static byte[] readBytes(@NotNull final Path path, final long start, final long end)
+            throws CsvReaderException {
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new CsvReaderException("Unexpected end of file " + path);
+                }
+            }
+        } catch (IOException e) {
+            throw new CsvReaderException("Caught exception", e);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * The result of scanning one chunk of a file, for each of the scanner states the chunk might begin in. A record
+     * ends at a newline outside of a quoted field. A quote only opens a quoted field at the start of a field (after
+     * any leading spaces and tabs, if the specs ignore surrounding spaces), and a doubled quote within a quoted field
+     * is an escaped quote.
+     */
+    private static final class ChunkScan {
+        /** The state at the end of the chunk, by start state. */
+        private final int[] endState = new int[NUM_STATES];
+        /** The offset just past the end of the first record that ends in the chunk by start state, or -1. */
+        private final long[] firstRecordEnd = new long[NUM_STATES];
+        /** The offset just past the end of the last record that ends in the chunk by start state, or -1. */
+        private final long[] lastRecordEnd = new long[NUM_STATES];
+        /** The number of records that end in the chunk, by start state. */
+        private final long[] recordEnds = new long[NUM_STATES];
+
+        private ChunkScan(
+                @NotNull final Path path,
+                final long start,
+                final long end,
+                final byte delimiter,
+                final byte quote,
+                final boolean ignoreSurroundingSpaces) throws IOException {
+            final int[] states = {FIELD_START, UNQUOTED, QUOTED, QUOTE_IN_QUOTED};
+            Arrays.fill(firstRecordEnd, -1);
+            Arrays.fill(lastRecordEnd, -1);
+            final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(SCAN_BUFFER_SIZE, end - start));
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long position = start;
+                while (position < end) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                    final int bytesRead = channel.read(buffer, position);
+                    if (bytesRead < 0) {
+                        throw new IOException("Unexpected end of file " + path);
+                    }
+                    final byte[] bytes = buffer.array();
+                    for (int bi = 0; bi < bytesRead; ++bi) {
+                        final byte b = bytes[bi];
+                        for (int si = 0; si < NUM_STATES; ++si) {
+                            final int state = states[si];
+                            final int next = nextState(state, b, delimiter, quote, ignoreSurroundingSpaces);
+                            if (b == '\n' && next == FIELD_START) {
+                                if (firstRecordEnd[si] < 0) {
+                                    firstRecordEnd[si] = position + bi + 1;
+                                }
+                                lastRecordEnd[si] = position + bi + 1;
+                                ++recordEnds[si];
+                            }
+                            states[si] = next;
+                        }
+                    }
+                    position += bytesRead;
+                }
+            }
+            System.arraycopy(states, 0, endState, 0, NUM_STATES);
+        }
+
+        private static int nextState(
+                final int state,
+                final byte b,
+                final byte delimiter,
+                final byte quote,
+                final boolean ignoreSurroundingSpaces) {
+            switch (state) {
+                case FIELD_START:
+                    if (b == quote) {
+                        return QUOTED;
+                    }
+                    if (b == delimiter || b == '\n' || b == '\r') {
+                        return FIELD_START;
+                    }
+                    if (ignoreSurroundingSpaces && (b == ' ' || b == '\t')) {
+                        return FIELD_START;
+                    }
+                    return UNQUOTED;
+                case UNQUOTED:
+                    return b == delimiter || b == '\n' ? FIELD_START : UNQUOTED;
+                case QUOTED:
+                    return b == quote ? QUOTE_IN_QUOTED : QUOTED;
+                case QUOTE_IN_QUOTED:
+                    if (b == quote) {
+                        return QUOTED;
+                    }
+                    return b == delimiter || b == '\n' ? FIELD_START : UNQUOTED;
+                default:
+                    throw new IllegalStateException("Unexpected scanner state " + state);
+            }
+        }
+    }
+
+    // endregion Splitting
+
+    // region Parsing
+
+    private abstract static class Range {
+        /** The number of data rows in the range, or -1 if it is not known before parsing. */
+        final long expectedRows;
+
+        private Range(final long expectedRows) {
+            this.expectedRows = expectedRows;
+        }
+
+        abstract InputStream open() throws IOException;
+
+        /**
+         * Parse this range, into {@code sharedColumns} at {@code rowOffset} if they are supplied, or into column
+         * sources of its own otherwise.
+         */
+        RangeResult parse(
+                @NotNull final CsvSpecs specs,
+                @Nullable final SharedColumns sharedColumns,
+                final long rowOffset) throws CsvReaderException {
+            final SinkFactory sinkFactory = sharedColumns == null
+                    ? CsvTools.makeMySinkFactory()
+                    : CsvTools.makeMySinkFactory(sharedColumns::get, rowOffset, expectedRows);
+            final CsvReader.Result result;
+            try (final InputStream in = open()) {
+                result = CsvReader.read(specs, in, sinkFactory);
+            } catch (IOException e) {
+                throw new CsvReaderException("Caught exception reading " + this, e);
+            }
+            final String[] names = new String[result.numCols()];
+            final ColumnSource<?>[] sources = new ColumnSource<?>[result.numCols()];
+            int ci = 0;
+            for (final ResultColumn column : result) {
+                names[ci] = column.name();
+                sources[ci] = (ColumnSource<?>) column.data();
+                ++ci;
+            }
+            return new RangeResult(this, names, sources, result.numRows(), sharedColumns != null,
+                    sharedColumns == null ? 0 : rowOffset);
+        }
+    }
+
+    private static final class FileRange extends Range {
+        private final Path path;
+        private final long start;
+        private final long end;
+        @Nullable
+        private final byte[] header;
+
+        private FileRange(
+                @NotNull final Path path,
+                final long start,
+                final long end,
+                @Nullable final byte[] header,
+                final long expectedRows) {
+            super(expectedRows);
+            this.path = path;
+            this.start = start;
+            this.end = end;
+            this.header = header;
+        }
+
+        @Override
+        InputStream open() throws IOException {
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(start);
+            final InputStream body = new LimitedInputStream(Channels.newInputStream(channel), end - start);
+            return header == null
+                    ? new BufferedInputStream(body)
+                    : new BufferedInputStream(new SequenceInputStream(new ByteArrayInputStream(header), body));
+        }
+
+        @Override
+        public String toString() {
+            return path + "[" + start + ", " + end + ")";
+        }
+    }
+
+    private static final class StreamRange extends Range {
+        private final Path path;
+
+        private StreamRange(@NotNull final Path path) {
+            super(-1);
+            this.path = path;
+        }
+
+        @Override
+        InputStream open() throws IOException {
+            return PathUtil.open(path);
+        }
+
+        @Override
+        public String toString() {
+            return path.toString();
+        }
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private LimitedInputStream(@NotNull final InputStream in, final long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int result = super.read();
+            if (result >= 0) {
+                --remaining;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int result = super.read(b, off, (int) Math.min(len, remaining));
+            if (result > 0) {
+                remaining -= result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long result = super.skip(Math.min(n, remaining));
+            remaining -= result;
+            return result;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    private static final class RangeResult {
+        private final Range range;
+        private final String[] names;
+        private final ColumnSource<?>[] sources;
+        private final long numRows;
+        /** Whether {@link #sources} are {@link SharedColumns shared} with the other ranges. */
+        private final boolean shared;
+        /** The row in {@link #sources} at which this range's rows begin. */
+        private final long rowOffset;
+
+        private RangeResult(
+                @NotNull final Range range,
+                @NotNull final String[] names,
+                @NotNull final ColumnSource<?>[] sources,
+                final long numRows,
+                final boolean shared,
+                final long rowOffset) {
+            this.range = range;
+            this.names = names;
+            this.sources = sources;
+            this.numRows = numRows;
+            this.shared = shared;
+            this.rowOffset = rowOffset;
+        }
+    }
+
+    /**
+     * The column sources that every range writes into at its own row offset, one for each column and type that the
+     * ranges' parsers write. Each source is sized for the whole table when it is created, so that concurrent writes to
+     * distinct rows never need to grow it.
+     */
+    private static final class SharedColumns {
+        private final long totalRows;
+        private final Map<Integer, Map<Class<?>, WritableColumnSource<?>>> sources = new HashMap<>();
+
+        private SharedColumns(final long totalRows) {
+            this.totalRows = totalRows;
+        }
+
+        private synchronized WritableColumnSource<?> get(final int columnIndex, final Class<?> type) {
+            return sources.computeIfAbsent(columnIndex, ci -> new HashMap<>()).computeIfAbsent(type,
+                    t -> ArrayBackedColumnSource.getMemoryColumnSource(totalRows, t, null));
+        }
+    }
+
+    // endregion Parsing
+
+    // region Reconciliation
+
+    /**
+     * @return the type for column {@code columnIndex} that can represent every range's values exactly, or null if the
+     *         ranges must be re-read together
+     */
+    private static Class<?> reconcile(@NotNull final List<RangeResult> results, final int columnIndex) {
+        final Class<?> firstType = results.get(0).sources[columnIndex].getType();
+        boolean allSame = true;
+        for (final RangeResult result : results) {
+            allSame &= result.sources[columnIndex].getType() == firstType;
+        }
+        if (allSame) {
+            return firstType;
+        }
+
+        Class<?> reconciled = null;
+        for (final RangeResult result : results) {
+            final ColumnSource<?> source = result.sources[columnIndex];
+            if (isAllNull(source, result.rowOffset, result.numRows)) {
+                continue;
+            }
+            if (reconciled == null) {
+                reconciled = source.getType();
+                continue;
+            }
+            reconciled = widen(reconciled, source.getType());
+            if (reconciled == null) {
+                return null;
+            }
+        }
+        return reconciled == null ? firstType : reconciled;
+    }
+
+    private static boolean isAllNull(@NotNull final ColumnSource<?> source, final long rowOffset, final long numRows) {
+        if (numRows == 0) {
+            return true;
+        }
+        final ColumnSource<?> primitive = ReinterpretUtils.maybeConvertToPrimitive(source);
+        final int chunkSize = (int) Math.min(COPY_CHUNK_SIZE, numRows);
+        try (final ChunkSource.GetContext getContext = primitive.makeGetContext(chunkSize)) {
+            for (long start = 0; start < numRows; start += chunkSize) {
+                final long end = Math.min(numRows, start + chunkSize) - 1;
+                try (final RowSequence rows = RowSequenceFactory.forRange(rowOffset + start, rowOffset + end)) {
+                    if (!isAllNull(primitive.getChunk(getContext, rows))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllNull(@NotNull final Chunk<? extends Values> chunk) {
+        final int size = chunk.size();
+        switch (chunk.getChunkType()) {
+            case Byte: {
+                // Boolean columns are reinterpreted as bytes, with the same null value
+                final ByteChunk<? extends Values> values = chunk.asByteChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_BYTE) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Char: {
+                final CharChunk<? extends Values> values = chunk.asCharChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_CHAR) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Short: {
+                final ShortChunk<? extends Values> values = chunk.asShortChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_SHORT) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Int: {
+                final IntChunk<? extends Values> values = chunk.asIntChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_INT) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Long: {
+                // Instant columns are reinterpreted as longs, with the same null value
+                final LongChunk<? extends Values> values = chunk.asLongChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_LONG) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Float: {
+                final FloatChunk<? extends Values> values = chunk.asFloatChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_FLOAT) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Double: {
+                final DoubleChunk<? extends Values> values = chunk.asDoubleChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != QueryConstants.NULL_DOUBLE) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case Object: {
+                final ObjectChunk<?, ? extends Values> values = chunk.asObjectChunk();
+                for (int ii = 0; ii < size; ++ii) {
+                    if (values.get(ii) != null) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunk.getChunkType());
+        }
+    }
+
+    private static int integralRank(@NotNull final Class<?> type) {
+        if (type == byte.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return 1;
+        }
+        if (type == int.class) {
+            return 2;
+        }
+        if (type == long.class) {
+            return 3;
+        }
+        return -1;
+    }
+
+    private static boolean isNumeric(@NotNull final Class<?> type) {
+        return integralRank(type) >= 0 || type == float.class || type == double.class;
+    }
+
+    @Nullable
+    private static Class<?> widen(@NotNull final Class<?> type1, @NotNull final Class<?> type2) {
+        if (type1 == type2) {
+            return type1;
+        }
+        final int rank1 = integralRank(type1);
+        final int rank2 = integralRank(type2);
+        if (rank1 >= 0 && rank2 >= 0) {
+            return rank1 > rank2 ? type1 : type2;
+        }
+        if (isNumeric(type1) && isNumeric(type2)) {
+            return double.class;
+        }
+        if ((type1 == char.class || type1 == String.class) && (type2 == char.class || type2 == String.class)) {
+            return String.class;
+        }
+        return null;
+    }
+
+    // endregion Reconciliation
+
+    // region Assembly
+
+    private static Table assemble(
+            @NotNull final String[] names,
+            @NotNull final Class<?>[] types,
+            @NotNull final List<RangeResult> results,
+            @NotNull final ExecutorService executor) throws CsvReaderException {
+        if (results.size() == 1) {
+            final RangeResult only = results.get(0);
+            final Map<String, ColumnSource<?>> columns = new LinkedHashMap<>(names.length);
+            for (int ci = 0; ci < names.length; ++ci) {
+                columns.put(names[ci], only.sources[ci]);
+            }
+            return InMemoryTable.from(TableDefinition.inferFrom(columns),
+                    RowSetFactory.flat(only.numRows).toTracking(), columns);
+        }
+
+        long totalRows = 0;
+        for (final RangeResult result : results) {
+            totalRows += result.numRows;
+        }
+        final Map<String, ColumnSource<?>> columns = new LinkedHashMap<>(names.length);
+        final List<Callable<Void>> copyTasks = new ArrayList<>();
+        for (int ci = 0; ci < names.length; ++ci) {
+            // Shared sources of the reconciled type already hold the rows of every range that parsed to that type
+            WritableColumnSource<?> sharedDestination = null;
+            for (final RangeResult result : results) {
+                if (result.shared && result.sources[ci].getType() == types[ci]) {
+                    sharedDestination = (WritableColumnSource<?>) result.sources[ci];
+                    break;
+                }
+            }
+            final WritableColumnSource<?> destination = sharedDestination != null
+                    ? sharedDestination
+                    : ArrayBackedColumnSource.getMemoryColumnSource(totalRows, types[ci], null);
+            columns.put(names[ci], destination);
+            long offset = 0;
+            for (final RangeResult result : results) {
+                final ColumnSource<?> source = result.sources[ci];
+                final long rangeOffset = offset;
+                offset += result.numRows;
+                if (source == destination) {
+                    continue;
+                }
+                copyTasks.add(() -> {
+                    copy(source, result.rowOffset, result.numRows, destination, rangeOffset);
+                    return null;
+                });
+            }
+        }
+        invokeAll(executor, copyTasks);
+        return InMemoryTable.from(TableDefinition.inferFrom(columns), RowSetFactory.flat(totalRows).toTracking(),
+                columns);
+    }
+
+    /**
+     * Copy {@code numRows} rows of {@code source} starting at row {@code sourceOffset} into {@code destination}
+     * starting at row {@code offset}, converting values if the types differ.
+     */
+    private static void copy(
+            @NotNull final ColumnSource<?> source,
+            final long sourceOffset,
+            final long numRows,
+            @NotNull final WritableColumnSource<?> destination,
+            final long offset) {
+        if (numRows == 0) {
+            return;
+        }
+        final boolean sameType = source.getType() == destination.getType();
+        final ColumnSource<?> src = sameType ? ReinterpretUtils.maybeConvertToPrimitive(source) : source;
+        final WritableColumnSource<?> dst =
+                sameType ? ReinterpretUtils.maybeConvertToWritablePrimitive(destination) : destination;
+        // Reconciliation only ignores types that don't widen to the destination type for ranges that are all null
+        final boolean allNull = !sameType && widen(source.getType(), destination.getType()) != destination.getType();
+        final int chunkSize = (int) Math.min(COPY_CHUNK_SIZE, numRows);
+        try (final ChunkSource.GetContext getContext = src.makeGetContext(chunkSize);
+                final ChunkSink.FillFromContext fillFromContext = dst.makeFillFromContext(chunkSize);
+                final WritableChunk<Values> converted =
+                        sameType ? null : dst.getChunkType().makeWritableChunk(chunkSize)) {
+            for (long start = 0; start < numRows; start += chunkSize) {
+                final long end = Math.min(numRows, start + chunkSize) - 1;
+                final int size = (int) (end - start + 1);
+                try (final RowSequence srcRows = RowSequenceFactory.forRange(sourceOffset + start, sourceOffset + end);
+                        final RowSequence dstRows = RowSequenceFactory.forRange(offset + start, offset + end)) {
+                    if (sameType) {
+                        dst.fillFromChunk(fillFromContext, src.getChunk(getContext, srcRows), dstRows);
+                        continue;
+                    }
+                    converted.setSize(size);
+                    if (allNull) {
+                        converted.fillWithNullValue(0, size);
+                    } else {
+                        convert(src.getChunk(getContext, srcRows), converted, size);
+                    }
+                    dst.fillFromChunk(fillFromContext, converted, dstRows);
+                }
+            }
+        }
+    }
+
+    /**
+     * Convert {@code size} values from {@code src} to the type of {@code dst}, which must be a widening conversion
+     * permitted by {@link #widen(Class, Class)}.
+     */
+    private static void convert(
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final WritableChunk<Values> dst,
+            final int size) {
+        final ChunkType dstType = dst.getChunkType();
+        for (int ii = 0; ii < size; ++ii) {
+            final boolean isNull;
+            long longValue = 0;
+            double doubleValue = 0;
+            switch (src.getChunkType()) {
+                case Byte: {
+                    final byte value = src.asByteChunk().get(ii);
+                    isNull = value == QueryConstants.NULL_BYTE;
+                    longValue = doubleValue = value;
+                    break;
+                }
+                case Short: {
+                    final short value = src.asShortChunk().get(ii);
+                    isNull = value == QueryConstants.NULL_SHORT;
+                    longValue = doubleValue = value;
+                    break;
+                }
+                case Int: {
+                    final int value = src.asIntChunk().get(ii);
+                    isNull = value == QueryConstants.NULL_INT;
+                    longValue = doubleValue = value;
+                    break;
+                }
+                case Long: {
+                    final long value = src.asLongChunk().get(ii);
+                    isNull = value == QueryConstants.NULL_LONG;
+                    longValue = value;
+                    doubleValue = value;
+                    break;
+                }
+                case Float: {
+                    final float value = src.asFloatChunk().get(ii);
+                    isNull = value == QueryConstants.NULL_FLOAT;
+                    doubleValue = value;
+                    break;
+                }
+                case Char: {
+                    final char value = src.asCharChunk().get(ii);
+                    dst.asWritableObjectChunk().set(ii,
+                            value == QueryConstants.NULL_CHAR ? null : String.valueOf(value));
+                    continue;
+                }
+                default:
+                    throw new IllegalStateException("Unexpected conversion from " + src.getChunkType() + " to "
+                            + dstType);
+            }
+            switch (dstType) {
+                case Short:
+                    dst.asWritableShortChunk().set(ii, isNull ? QueryConstants.NULL_SHORT : (short) longValue);
+                    break;
+                case Int:
+                    dst.asWritableIntChunk().set(ii, isNull ? QueryConstants.NULL_INT : (int) longValue);
+                    break;
+                case Long:
+                    dst.asWritableLongChunk().set(ii, isNull ? QueryConstants.NULL_LONG : longValue);
+                    break;
+                case Double:
+                    dst.asWritableDoubleChunk().set(ii, isNull ? QueryConstants.NULL_DOUBLE : doubleValue);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected conversion from " + src.getChunkType() + " to "
+                            + dstType);
+            }
+        }
+    }
+
+    // endregion Assembly
+
+    /**
+     * The streams of several CSV files, separated by newlines where needed, with the header record of all but the first
+     * file removed.
+     */
+    private static final class ConcatenatedFiles implements Enumeration<InputStream> {
+        private final Iterator<Path> paths;
+        private final boolean stripHeaders;
+        private final byte quote;
+        private boolean first = true;
+        private LastByteInputStream previous;
+        private InputStream pending;
+
+        private ConcatenatedFiles(@NotNull final Collection<Path> paths, @NotNull final CsvSpecs specs) {
+            this.paths = paths.iterator();
+            this.stripHeaders = specs.hasHeaderRow();
+            this.quote = (byte) specs.quote();
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return pending != null || paths.hasNext();
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (pending != null) {
+                final InputStream result = pending;
+                pending = null;
+                return result;
+            }
+            if (!paths.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Path path = paths.next();
+            final LastByteInputStream next;
+            try {
+                final InputStream in = new BufferedInputStream(PathUtil.open(path));
+                if (stripHeaders && !first) {
+                    skipFirstRecord(in);
+                }
+                next = new LastByteInputStream(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            first = false;
+            final boolean needsSeparator = previous != null && previous.lastByte != '\n' && previous.lastByte != -1;
+            previous = next;
+            if (needsSeparator) {
+                pending = next;
+                return new ByteArrayInputStream(new byte[] {'\n'});
+            }
+            return next;
+        }
+
+        private void skipFirstRecord(@NotNull final InputStream in) throws IOException {
+            boolean inQuotes = false;
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == quote) {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class LastByteInputStream extends FilterInputStream {
+        private int lastByte = -1;
+
+        private LastByteInputStream(@NotNull final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int result = super.read();
+            if (result >= 0) {
+                lastByte = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int result = super.read(b, off, len);
+            if (result > 0) {
+                lastByte = b[off + result - 1] & 0xFF;
+            }
+            return result;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
 import static io.deephaven.util.QueryConstants.NULL_INT;
@@ -247,4 +248,76 @@ public class TestCsvTools {
             TstUtils.assertTableEquals(tableToTest, result);
         }
     }
+
+    private static String makeParallelCsvContents(final int firstRow, final int numRows, final boolean header) {
+        final StringBuilder contents = new StringBuilder();
+        if (header) {
+            contents.append("Sym,Quoted,Qty,Sparse,Flag\n");
+        }
+        for (int ii = firstRow; ii < firstRow + numRows; ++ii) {
+            contents.append("S").append(ii % 7).append(',');
+            // Quoted fields with embedded delimiters, quotes and newlines must not be split
+            contents.append("\"line ").append(ii).append(",\n\"\"next\"\" line\"").append(',');
+            // Integral everywhere but one row, which widens the column to double
+            contents.append(ii == 1500 ? "2.5" : Integer.toString(ii)).append(',');
+            // Null except near the end, where ranges infer a String column
+            contents.append(ii > 1900 && ii % 3 == 0 ? "value" + ii : "").append(',');
+            contents.append(ii % 2 == 0 ? "true" : "false").append('\n');
+        }
+        return contents.toString();
+    }
+
+    @Test
+    public void testReadCsvParallel() throws IOException, CsvReaderException {
+        final File csvFile = new File(tmpDir, "parallel.csv");
+        Files.write(csvFile.toPath(), makeParallelCsvContents(0, 2000, true).getBytes(StandardCharsets.UTF_8));
+
+        final Table expected = CsvTools.readCsv(csvFile.toPath(), CsvTools.builder().build());
+        final Table actual = ParallelCsvReader.read(List.of(csvFile.toPath()), CsvTools.builder().build(), 4, 256);
+        Assert.assertEquals(double.class, actual.getDefinition().getColumn("Qty").getDataType());
+        TstUtils.assertTableEquals(expected, actual);
+
+        // Conflicting types that can't be widened fall back to a sequential read
+        final String conflicting = "A,B\n" + "1,true\n".repeat(200) + "2,maybe\n";
+        Files.write(csvFile.toPath(), conflicting.getBytes(StandardCharsets.UTF_8));
+        TstUtils.assertTableEquals(CsvTools.readCsv(csvFile.toPath(), CsvTools.builder().build()),
+                ParallelCsvReader.read(List.of(csvFile.toPath()), CsvTools.builder().build(), 4, 64));
+    }
+
+    @Test
+    public void testReadCsvParallelLiteralQuotes() throws IOException, CsvReaderException {
+        // Unless surrounding spaces are ignored, a quote after a leading space is literal, so it must not hide the
+        // start of the quoted field that follows it, whose embedded newline is not a record boundary
+        final StringBuilder contents = new StringBuilder("A,B,C\n");
+        for (int ii = 0; ii < 200; ++ii) {
+            contents.append(ii).append(", \"b").append(ii).append(",\"c\n").append(ii).append("\"\n");
+        }
+        final File csvFile = new File(tmpDir, "literal.csv");
+        Files.write(csvFile.toPath(), contents.toString().getBytes(StandardCharsets.UTF_8));
+
+        final CsvSpecs specs = CsvTools.builder().ignoreSurroundingSpaces(false).build();
+        final Table expected = CsvTools.readCsv(csvFile.toPath(), specs);
+        Assert.assertEquals(200, expected.size());
+        TstUtils.assertTableEquals(expected, ParallelCsvReader.read(List.of(csvFile.toPath()), specs, 4, 64));
+    }
+
+    @Test
+    public void testReadCsvParallelMultipleFiles() throws IOException, CsvReaderException {
+        final File allFile = new File(tmpDir, "all.csv");
+        Files.write(allFile.toPath(), makeParallelCsvContents(0, 2000, true).getBytes(StandardCharsets.UTF_8));
+
+        final File file1 = new File(tmpDir, "part1.csv");
+        Files.write(file1.toPath(), makeParallelCsvContents(0, 700, true).getBytes(StandardCharsets.UTF_8));
+        final File file2 = new File(tmpDir, "part2.csv.gz");
+        try (final OutputStream out = new GZIPOutputStream(new FileOutputStream(file2))) {
+            out.write(makeParallelCsvContents(700, 600, true).getBytes(StandardCharsets.UTF_8));
+        }
+        final File file3 = new File(tmpDir, "part3.csv");
+        Files.write(file3.toPath(), makeParallelCsvContents(1300, 700, true).getBytes(StandardCharsets.UTF_8));
+
+        final Table expected = CsvTools.readCsv(allFile.toPath(), CsvTools.builder().build());
+        final Table actual = ParallelCsvReader.read(
+                List.of(file1.toPath(), file2.toPath(), file3.toPath()), CsvTools.builder().build(), 3, 256);
+        TstUtils.assertTableEquals(expected, actual);
+    }
 }
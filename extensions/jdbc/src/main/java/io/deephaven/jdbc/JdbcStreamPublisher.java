@@ -0,0 +1,456 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.jdbc;
+
+import io.deephaven.chunk.WritableByteChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.thread.NamingThreadFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A {@link StreamPublisher} that periodically polls a JDBC query for rows whose watermark column has advanced past the
+ * last row published, and publishes the new rows to its {@link StreamConsumer consumer}.
+ *
+ * <p>
+ * The watermark column is typically an update timestamp or sequence number. It must be comparable in the database, and
+ * rows must become visible in watermark order: a row committed with a watermark lower than one already published is
+ * never published. Rows with a null watermark are never published. Each poll reads at most {@code batchSize} rows in
+ * watermark order; when a poll returns a full batch, the next poll is issued immediately rather than after the polling
+ * interval. Rows sharing a watermark value are always published together.
+ *
+ * <p>
+ * Values are bound directly into chunks by the same {@link JdbcTypeMapper} mappings used by
+ * {@link JdbcToTableAdapter#readJdbc(ResultSet, JdbcToTableAdapter.ReadJdbcOptions, String...)}, and all rows from a
+ * single poll are delivered to the consumer together.
+ *
+ * @see JdbcToTableAdapter#readJdbcTicking
+ */
+public class JdbcStreamPublisher implements StreamPublisher {
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+    private static final String WATERMARK_ALIAS = "dh_watermark";
+
+    private final JdbcToTableAdapter.ConnectionFactory connectionFactory;
+    private final String initialPollSql;
+    private final String pollSql;
+    private final String tiesSql;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final int fetchSize;
+    private final JdbcTypeMapper.Context context;
+
+    private final TableDefinition definition;
+    private final int[] columnIndices;
+    private final JdbcTypeMapper.DataTypeMapping<?>[] typeMappings;
+    /** Per-column scratch chunks for mappings that produce boxed values we store as primitives, otherwise null */
+    private final WritableObjectChunk<Object, Values>[] scratchChunks;
+    private final int watermarkIndex;
+
+    private final ScheduledExecutorService executor;
+
+    private StreamConsumer consumer;
+    private ScheduledFuture<?> pollFuture;
+    private volatile boolean shutdown;
+
+    // Accessed only from the polling thread, after construction
+    private Connection connection;
+    private Object watermark;
+
+    private JdbcStreamPublisher(
+            @NotNull final String name,
+            @NotNull final JdbcToTableAdapter.ConnectionFactory connectionFactory,
+            @NotNull final String query,
+            @NotNull final String watermarkColumn,
+            @Nullable final Object initialWatermark,
+            @NotNull final Duration pollInterval,
+            final int batchSize,
+            @NotNull final JdbcToTableAdapter.ReadJdbcOptions options,
+            String[] origColumnNames) throws SQLException {
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive, was " + pollInterval);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        }
+        this.connectionFactory = connectionFactory;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.fetchSize = options.getFetchSize();
+        this.context = options.makeContext();
+        this.watermark = initialWatermark;
+
+        final String select = "SELECT dh_poll.*, " + watermarkColumn + " AS " + WATERMARK_ALIAS
+                + " FROM (" + query + ") dh_poll WHERE ";
+        final String orderBy = " ORDER BY " + watermarkColumn;
+        initialPollSql = select + watermarkColumn + " IS NOT NULL" + orderBy;
+        pollSql = select + watermarkColumn + " > ?" + orderBy;
+        tiesSql = select + watermarkColumn + " = ?";
+
+        connection = openConnection();
+        try (final PreparedStatement statement = connection.prepareStatement(select + "1 = 0");
+                final ResultSet rs = statement.executeQuery()) {
+            final ResultSetMetaData md = rs.getMetaData();
+            watermarkIndex = md.getColumnCount();
+            if (origColumnNames.length == 0) {
+                origColumnNames = new String[watermarkIndex - 1];
+                for (int ii = 0; ii < origColumnNames.length; ++ii) {
+                    origColumnNames[ii] = md.getColumnName(ii + 1);
+                }
+            }
+
+            final String[] columnNames = JdbcToTableAdapter.fixColumnNames(options, origColumnNames);
+            final int numColumns = columnNames.length;
+            columnIndices = new int[numColumns];
+            typeMappings = new JdbcTypeMapper.DataTypeMapping[numColumns];
+            final List<ColumnDefinition<?>> columns = new ArrayList<>(numColumns);
+            for (int ii = 0; ii < numColumns; ++ii) {
+                columnIndices[ii] = rs.findColumn(origColumnNames[ii]);
+                typeMappings[ii] = JdbcTypeMapper.getColumnTypeMapping(
+                        rs, columnIndices[ii], options.getTargetType(columnNames[ii]));
+                final Class<?> deephavenType = typeMappings[ii].getDeephavenType();
+                columns.add(ColumnDefinition.fromGenericType(
+                        columnNames[ii], deephavenType, deephavenType.getComponentType()));
+            }
+            definition = TableDefinition.of(columns);
+        } catch (SQLException | RuntimeException e) {
+            closeConnection();
+            throw e;
+        } finally {
+            rollback();
+        }
+
+        // noinspection unchecked
+        scratchChunks = new WritableObjectChunk[typeMappings.length];
+        for (int ii = 0; ii < typeMappings.length; ++ii) {
+            if (StreamChunkUtils.replacementType(typeMappings[ii].getDeephavenType()) != null) {
+                scratchChunks[ii] = WritableObjectChunk.makeWritableChunk(CHUNK_SIZE);
+            }
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(
+                new NamingThreadFactory(JdbcStreamPublisher.class, "poll-" + name, true));
+    }
+
+    /**
+     * Create a publisher for {@code query}, without starting to poll. Polling starts when a consumer is
+     * {@link #register(StreamConsumer) registered}.
+     *
+     * @param name the name of this publisher, used to name its polling thread
+     * @param connectionFactory supplies the connection used for polling; the publisher fails, rather than reconnecting,
+     *        if the connection or a poll fails
+     * @param query the query to poll
+     * @param watermarkColumn the column or expression, over the query's result columns, whose value increases as rows
+     *        are added; inserted verbatim into the polling query
+     * @param initialWatermark the watermark value to start after, or null to start with all existing rows
+     * @param pollInterval the delay between the end of a poll that did not fill a batch and the next poll
+     * @param batchSize the maximum number of rows to read per poll
+     * @param options options to change the way rows are mapped; {@link JdbcToTableAdapter.ReadJdbcOptions#maxRows(int)
+     *        maxRows} does not apply
+     * @param origColumnNames columns to include or all if none provided
+     * @return the publisher
+     * @throws SQLException if the query cannot be described
+     */
+    public static JdbcStreamPublisher create(
+            @NotNull final String name,
+            @NotNull final JdbcToTableAdapter.ConnectionFactory connectionFactory,
+            @NotNull final String query,
+            @NotNull final String watermarkColumn,
+            @Nullable final Object initialWatermark,
+            @NotNull final Duration pollInterval,
+            final int batchSize,
+            @NotNull final JdbcToTableAdapter.ReadJdbcOptions options,
+            final String... origColumnNames) throws SQLException {
+        return new JdbcStreamPublisher(name, connectionFactory, query, watermarkColumn, initialWatermark,
+                pollInterval, batchSize, options, origColumnNames);
+    }
+
+    /**
+     * @return the definition of the rows this publisher produces
+     */
+    public TableDefinition definition() {
+        return definition;
+    }
+
+    @Override
+    public synchronized void register(@NotNull final StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+        pollFuture = executor.scheduleWithFixedDelay(
+                this::poll, 0, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void flush() {
+        // no need for flushing, each poll passes its rows to the consumer as soon as they are read
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        if (pollFuture != null) {
+            pollFuture.cancel(false);
+        }
+        if (!executor.isShutdown()) {
+            // Runs after any in-progress poll, on the polling thread
+            executor.execute(this::release);
+            executor.shutdown();
+        }
+    }
+
+    private void poll() {
+        try {
+            // Drain any backlog a batch at a time, without waiting for the next scheduled poll
+            boolean more = true;
+            while (more && !shutdown) {
+                more = pollBatch();
+            }
+        } catch (SQLException | RuntimeException e) {
+            // Shutting down the executor cancels further polls
+            executor.shutdown();
+            release();
+            consumer.acceptFailure(e);
+        }
+    }
+
+    /**
+     * Read and publish a single batch of rows past the current watermark.
+     *
+     * @return whether the batch was full, in which case more rows may be immediately available
+     */
+    private boolean pollBatch() throws SQLException {
+        try (final Batch batch = new Batch()) {
+            if (watermark == null) {
+                batch.read(initialPollSql, null, batchSize);
+            } else {
+                batch.read(pollSql, watermark, batchSize);
+            }
+            final int size = batch.size();
+            if (size == 0) {
+                return false;
+            }
+
+            final boolean full = size >= batchSize;
+            final Object lastWatermark = batch.watermarks.get(size - 1);
+            if (full) {
+                // The batch limit may have split a group of rows sharing the last watermark; hold the group back
+                // so that it's published together by the next poll
+                int groupStart = size - 1;
+                while (groupStart > 0 && Objects.equals(batch.watermarks.get(groupStart - 1), lastWatermark)) {
+                    --groupStart;
+                }
+                if (groupStart == 0) {
+                    // The entire batch shares one watermark; read the whole group regardless of batchSize
+                    batch.clear();
+                    batch.read(tiesSql, lastWatermark, 0);
+                } else {
+                    batch.truncate(groupStart);
+                }
+                if (batch.size() == 0) {
+                    // The group was removed between queries; move past it, so that we don't re-read the same batch
+                    watermark = lastWatermark;
+                    return true;
+                }
+            }
+            watermark = batch.watermarks.get(batch.size() - 1);
+            batch.publish();
+            return full;
+        } finally {
+            rollback();
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        final Connection newConnection = connectionFactory.getConnection();
+        try {
+            // Most drivers only honor the fetch size with a cursor, which requires a transaction
+            newConnection.setAutoCommit(false);
+        } catch (SQLException e) {
+            newConnection.close();
+            throw e;
+        }
+        return newConnection;
+    }
+
+    private void rollback() throws SQLException {
+        if (connection != null && !connection.getAutoCommit()) {
+            // End the transaction so that the next poll sees newly committed rows
+            connection.rollback();
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+        connection = null;
+    }
+
+    private void release() {
+        closeConnection();
+        SafeCloseable.closeAll(scratchChunks);
+    }
+
+    /**
+     * The rows read by a single poll, accumulated in chunks of {@link #CHUNK_SIZE} rows.
+     */
+    private class Batch implements SafeCloseable {
+
+        private final List<WritableChunk<Values>[]> chunks = new ArrayList<>();
+        private final List<Object> watermarks = new ArrayList<>();
+
+        private WritableChunk<Values>[] current;
+        private int currentSize;
+
+        private void read(@NotNull final String sql, @Nullable final Object after, final int maxRows)
+                throws SQLException {
+            try (final PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                if (fetchSize > 0) {
+                    statement.setFetchSize(fetchSize);
+                }
+                statement.setMaxRows(maxRows);
+                if (after != null) {
+                    statement.setObject(1, after);
+                }
+                try (final ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        readRow(rs);
+                    }
+                }
+            }
+            finishChunk();
+        }
+
+        private void readRow(@NotNull final ResultSet rs) throws SQLException {
+            if (current == null) {
+                current = StreamChunkUtils.makeChunksForDefinition(definition, CHUNK_SIZE);
+                chunks.add(current);
+                for (final WritableChunk<Values> chunk : current) {
+                    chunk.setSize(CHUNK_SIZE);
+                }
+            }
+            for (int ci = 0; ci < typeMappings.length; ++ci) {
+                final WritableChunk<Values> dest = scratchChunks[ci] != null ? scratchChunks[ci] : current[ci];
+                typeMappings[ci].bindToChunk(dest, currentSize, rs, columnIndices[ci], context);
+            }
+            watermarks.add(rs.getObject(watermarkIndex));
+            if (++currentSize == CHUNK_SIZE) {
+                finishChunk();
+            }
+        }
+
+        /**
+         * Convert any boxed values for the current chunks to their primitive storage, and size them to the rows read.
+         */
+        private void finishChunk() {
+            if (current == null) {
+                return;
+            }
+            for (int ci = 0; ci < current.length; ++ci) {
+                final WritableObjectChunk<Object, Values> scratch = scratchChunks[ci];
+                if (scratch == null) {
+                    current[ci].setSize(currentSize);
+                    continue;
+                }
+                if (definition.getColumns().get(ci).getDataType() == Instant.class) {
+                    final WritableLongChunk<Values> dest = current[ci].asWritableLongChunk();
+                    for (int ii = 0; ii < currentSize; ++ii) {
+                        dest.set(ii, DateTimeUtils.epochNanos((Instant) scratch.get(ii)));
+                    }
+                } else {
+                    final WritableByteChunk<Values> dest = current[ci].asWritableByteChunk();
+                    for (int ii = 0; ii < currentSize; ++ii) {
+                        dest.set(ii, BooleanUtils.booleanAsByte((Boolean) scratch.get(ii)));
+                    }
+                }
+                scratch.fillWithNullValue(0, currentSize);
+                current[ci].setSize(currentSize);
+            }
+            current = null;
+            currentSize = 0;
+        }
+
+        private int size() {
+            return watermarks.size();
+        }
+
+        /**
+         * Discard all rows after the first {@code newSize}.
+         */
+        private void truncate(final int newSize) {
+            int remaining = newSize;
+            for (int ii = 0; ii < chunks.size(); ++ii) {
+                final WritableChunk<Values>[] rowChunks = chunks.get(ii);
+                final int chunkSize = rowChunks[0].size();
+                if (remaining >= chunkSize) {
+                    remaining -= chunkSize;
+                } else if (remaining > 0) {
+                    for (final WritableChunk<Values> chunk : rowChunks) {
+                        chunk.setSize(remaining);
+                    }
+                    remaining = 0;
+                } else {
+                    SafeCloseable.closeAll(rowChunks);
+                    chunks.remove(ii--);
+                }
+            }
+            watermarks.subList(newSize, watermarks.size()).clear();
+        }
+
+        private void clear() {
+            truncate(0);
+        }
+
+        private void publish() {
+            if (!chunks.isEmpty()) {
+                consumer.accept(new ArrayList<>(chunks));
+                chunks.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            SafeCloseable.closeAll(chunks.stream().flatMap(Stream::of));
+            chunks.clear();
+        }
+    }
+}
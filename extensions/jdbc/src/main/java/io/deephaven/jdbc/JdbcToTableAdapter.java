@@ -9,10 +9,12 @@ import io.deephaven.api.util.NameValidator;
 import io.deephaven.chunk.ResettableWritableChunk;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.WritableColumnSource;
@@ -20,22 +22,37 @@ import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
 import io.deephaven.engine.table.impl.sources.ChunkedBackingStoreExposedWritableSource;
 import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableList;
 import io.deephaven.util.datastructures.LongSizedDataStructure;
+import io.deephaven.util.thread.NamingThreadFactory;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The JdbcToTableAdapter class provides a simple interface to convert a Java Database Connectivity (JDBC)
@@ -72,6 +89,8 @@ import java.util.TimeZone;
  */
 public class JdbcToTableAdapter {
 
+    private static final AtomicInteger tickingSourceId = new AtomicInteger();
+
     /**
      * String formatting styles for use when standardizing externally supplied column names. Casing of the enum members
      * indicates the resultant format. None means no change to the casing of the source string.
@@ -91,6 +110,8 @@ public class JdbcToTableAdapter {
         private boolean strict = true;
         private TimeZone sourceTimeZone = TimeZone.getTimeZone(DateTimeUtils.timeZone());
         private String arrayDelimiter = ",";
+        private int fetchSize = 0;
+        private int parallelism = -1;
         private final Map<String, Class<?>> targetTypeMap = new HashMap<>();
 
         private ReadJdbcOptions() {}
@@ -160,6 +181,38 @@ public class JdbcToTableAdapter {
             return this;
         }
 
+        /**
+         * Specify the number of rows the JDBC driver should fetch from the database per round trip. A value of zero,
+         * the default, leaves the driver's default in place. Many drivers buffer the entire result in memory unless a
+         * fetch size is set; for example, PostgreSQL only streams results with a fetch size when auto-commit is off,
+         * which {@link #readJdbcPartitioned} arranges for the connections it opens.
+         *
+         * @param fetchSize the fetch size hint, or zero for the driver default
+         * @return customized options object
+         */
+        public ReadJdbcOptions fetchSize(final int fetchSize) {
+            if (fetchSize < 0) {
+                throw new IllegalArgumentException("fetchSize must be non-negative, was " + fetchSize);
+            }
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of partitions that {@link #readJdbcPartitioned} reads concurrently, each with its
+         * own connection. Defaults to reading every partition concurrently.
+         *
+         * @param parallelism the maximum number of concurrent partition reads, or a negative number for no limit
+         * @return customized options object
+         */
+        public ReadJdbcOptions parallelism(final int parallelism) {
+            if (parallelism == 0) {
+                throw new IllegalArgumentException("parallelism must be non-zero");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Specify the target type for the given column. For columns with multiple possible type mappings, this permits
          * the user to specify which Deephaven type should be used. Any columns for which a type is not specified will
@@ -173,6 +226,18 @@ public class JdbcToTableAdapter {
             targetTypeMap.put(columnName, targetType);
             return this;
         }
+
+        int getFetchSize() {
+            return fetchSize;
+        }
+
+        Class<?> getTargetType(@NotNull final String columnName) {
+            return targetTypeMap.get(columnName);
+        }
+
+        JdbcTypeMapper.Context makeContext() {
+            return JdbcTypeMapper.Context.of(sourceTimeZone, arrayDelimiter, strict);
+        }
     }
 
     /**
@@ -208,6 +273,9 @@ public class JdbcToTableAdapter {
     public static Table readJdbc(final ResultSet rs, final ReadJdbcOptions options, String... origColumnNames)
             throws SQLException {
         final ResultSetMetaData md = rs.getMetaData();
+        if (options.fetchSize > 0) {
+            rs.setFetchSize(options.fetchSize);
+        }
 
         if (origColumnNames.length == 0) {
             origColumnNames = new String[md.getColumnCount()];
@@ -252,8 +320,7 @@ public class JdbcToTableAdapter {
                 columnMap.put(columnName, cs);
             }
 
-            final JdbcTypeMapper.Context context = JdbcTypeMapper.Context.of(
-                    options.sourceTimeZone, options.arrayDelimiter, options.strict);
+            final JdbcTypeMapper.Context context = options.makeContext();
 
             while (rs.next() && (options.maxRows == -1 || numRowsRead < options.maxRows)) {
                 for (SourceFiller filler : sourceFillers) {
@@ -266,6 +333,269 @@ public class JdbcToTableAdapter {
         return new QueryTable(RowSetFactory.flat(numRowsRead).toTracking(), columnMap);
     }
 
+    /**
+     * Supplies new JDBC connections for {@link #readJdbcPartitioned}. Each partition is read on its own connection,
+     * which is closed when the partition has been read.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection getConnection() throws SQLException;
+    }
+
+    /**
+     * Returns a table populated by reading {@code query} in partitions over concurrent connections, and merging the
+     * partition results in order.
+     *
+     * <p>
+     * The query is partitioned on {@code partitionColumn}, an expression over the query's result columns that is
+     * inserted verbatim into a {@code WHERE} clause. The {@code splitPoints} must be in ascending order; {@code n}
+     * split points produce {@code n + 1} partitions: values less than the first split point (together with nulls), each
+     * half-open range between consecutive split points, and values at or above the last split point. Split points are
+     * bound with {@link PreparedStatement#setObject(int, Object)}, so any type the driver can compare against the
+     * partitioning column may be used; see {@link #evenSplitPoints(long, long, int)} for integral keys.
+     *
+     * <p>
+     * Each partition is read with {@link #readJdbc(ResultSet, ReadJdbcOptions, String...)} semantics, using the
+     * options' {@link ReadJdbcOptions#fetchSize(int) fetch size} and with auto-commit disabled so that drivers stream
+     * rather than buffer the partition. At most {@link ReadJdbcOptions#parallelism(int) parallelism} partitions are
+     * read at once. If {@link ReadJdbcOptions#maxRows(int) maxRows} is set it limits the merged result.
+     *
+     * @param connectionFactory supplies one connection per partition
+     * @param query the query to read
+     * @param partitionColumn the column or expression to partition on
+     * @param splitPoints ascending boundaries between partitions
+     * @param options options to change the way the read behaves
+     * @param origColumnNames columns to include or all if none provided
+     * @return a deephaven static table
+     * @throws SQLException if reading any partition fails
+     */
+    public static Table readJdbcPartitioned(
+            @NotNull final ConnectionFactory connectionFactory,
+            @NotNull final String query,
+            @NotNull final String partitionColumn,
+            @NotNull final List<?> splitPoints,
+            @NotNull final ReadJdbcOptions options,
+            final String... origColumnNames) throws SQLException {
+        final int numPartitions = splitPoints.size() + 1;
+        final List<Callable<Table>> readTasks = new ArrayList<>(numPartitions);
+        for (int pi = 0; pi < numPartitions; ++pi) {
+            final Object lower = pi == 0 ? null : splitPoints.get(pi - 1);
+            final Object upper = pi == numPartitions - 1 ? null : splitPoints.get(pi);
+            readTasks.add(() -> readPartition(
+                    connectionFactory, query, partitionColumn, lower, upper, options, origColumnNames));
+        }
+
+        final int numThreads = options.parallelism < 0 ? numPartitions : Math.min(options.parallelism, numPartitions);
+        final ExecutorService executor = Executors.newFixedThreadPool(numThreads,
+                new NamingThreadFactory(JdbcToTableAdapter.class, "readJdbcPartitioned", true));
+        try {
+            final List<Table> partitions = invokeAll(executor, readTasks);
+            final Table result = partitions.size() == 1 ? partitions.get(0) : mergePartitions(partitions, executor);
+            return options.maxRows < 0 ? result : result.head(options.maxRows);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns {@code numPartitions - 1} split points dividing the integral range {@code [min, max]} into
+     * {@code numPartitions} partitions of approximately equal width, for use with {@link #readJdbcPartitioned}.
+     *
+     * @param min the minimum expected value of the partitioning column
+     * @param max the maximum expected value of the partitioning column
+     * @param numPartitions the number of partitions
+     * @return the split points
+     */
+    public static List<Long> evenSplitPoints(final long min, final long max, final int numPartitions) {
+        if (numPartitions < 1) {
+            throw new IllegalArgumentException("numPartitions must be positive, was " + numPartitions);
+        }
+        if (max < min) {
+            throw new IllegalArgumentException("max " + max + " is less than min " + min);
+        }
+        final BigInteger width = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+        final List<Long> splitPoints = new ArrayList<>(numPartitions - 1);
+        for (int pi = 1; pi < numPartitions; ++pi) {
+            final long splitPoint = BigInteger.valueOf(min)
+                    .add(width.multiply(BigInteger.valueOf(pi)).divide(BigInteger.valueOf(numPartitions)))
+                    .longValueExact();
+            if (splitPoint > (splitPoints.isEmpty() ? min : splitPoints.get(splitPoints.size() - 1))) {
+                splitPoints.add(splitPoint);
+            }
+        }
+        return splitPoints;
+    }
+
+    /**
+     * Returns a {@link Table#BLINK_TABLE_ATTRIBUTE blink table} of the rows of {@code query}, polled every
+     * {@code pollInterval} for rows whose {@code watermarkColumn} has advanced past the last row published. See
+     * {@link JdbcStreamPublisher} for the polling semantics.
+     *
+     * @param connectionFactory supplies the connection used for polling; the table fails, rather than reconnecting, if
+     *        the connection or a poll fails
+     * @param query the query to poll
+     * @param watermarkColumn the column or expression, over the query's result columns, whose value increases as rows
+     *        are added; inserted verbatim into the polling query
+     * @param initialWatermark the watermark value to start after, or null to start with all existing rows
+     * @param pollInterval the delay between the end of a poll that did not fill a batch and the next poll
+     * @param batchSize the maximum number of rows to read per poll
+     * @param options options to change the way rows are mapped; {@link ReadJdbcOptions#maxRows(int) maxRows} does
+     *        not apply
+     * @param origColumnNames columns to include or all if none provided
+     * @return a deephaven blink table
+     * @throws SQLException if the query cannot be described
+     */
+    public static Table readJdbcTicking(
+            @NotNull final ConnectionFactory connectionFactory,
+            @NotNull final String query,
+            @NotNull final String watermarkColumn,
+            @Nullable final Object initialWatermark,
+            @NotNull final Duration pollInterval,
+            final int batchSize,
+            @NotNull final ReadJdbcOptions options,
+            final String... origColumnNames) throws SQLException {
+        final String name = "JdbcTicking-" + tickingSourceId.getAndIncrement();
+        final JdbcStreamPublisher publisher = JdbcStreamPublisher.create(name, connectionFactory, query,
+                watermarkColumn, initialWatermark, pollInterval, batchSize, options, origColumnNames);
+        return new StreamToBlinkTableAdapter(publisher.definition(), publisher,
+                ExecutionContext.getContext().getUpdateGraph(), name).table();
+    }
+
+    private static Table readPartition(
+            @NotNull final ConnectionFactory connectionFactory,
+            @NotNull final String query,
+            @NotNull final String partitionColumn,
+            final Object lower,
+            final Object upper,
+            @NotNull final ReadJdbcOptions options,
+            final String[] origColumnNames) throws SQLException {
+        final StringBuilder sql = new StringBuilder("SELECT * FROM (").append(query).append(") dh_partition");
+        if (lower != null && upper != null) {
+            sql.append(" WHERE ").append(partitionColumn).append(" >= ? AND ").append(partitionColumn).append(" < ?");
+        } else if (lower != null) {
+            sql.append(" WHERE ").append(partitionColumn).append(" >= ?");
+        } else if (upper != null) {
+            sql.append(" WHERE ").append(partitionColumn).append(" < ? OR ").append(partitionColumn)
+                    .append(" IS NULL");
+        }
+
+        try (final Connection connection = connectionFactory.getConnection()) {
+            // Most drivers only honor the fetch size with a cursor, which requires a transaction
+            connection.setAutoCommit(false);
+            try (final PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                if (options.fetchSize > 0) {
+                    statement.setFetchSize(options.fetchSize);
+                }
+                if (options.maxRows >= 0) {
+                    statement.setMaxRows(options.maxRows);
+                }
+                int parameterIndex = 1;
+                if (lower != null) {
+                    statement.setObject(parameterIndex++, lower);
+                }
+                if (upper != null) {
+                    statement.setObject(parameterIndex, upper);
+                }
+                try (final ResultSet rs = statement.executeQuery()) {
+                    return readJdbc(rs, options, origColumnNames);
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static Table mergePartitions(
+            @NotNull final List<Table> partitions,
+            @NotNull final ExecutorService executor) throws SQLException {
+        final long[] firstRowKeys = new long[partitions.size()];
+        long totalSize = 0;
+        for (int pi = 0; pi < partitions.size(); ++pi) {
+            firstRowKeys[pi] = totalSize;
+            totalSize += partitions.get(pi).size();
+        }
+
+        final Map<String, ? extends ColumnSource<?>> firstSources = partitions.get(0).getColumnSourceMap();
+        final Map<String, ColumnSource<?>> columnMap = new LinkedHashMap<>();
+        final List<Callable<Void>> copyTasks = new ArrayList<>();
+        for (final Map.Entry<String, ? extends ColumnSource<?>> entry : firstSources.entrySet()) {
+            final String columnName = entry.getKey();
+            final ColumnSource<?> firstSource = entry.getValue();
+            final WritableColumnSource<?> destination = InMemoryColumnSource.getImmutableMemoryColumnSource(
+                    totalSize, firstSource.getType(), firstSource.getComponentType());
+            destination.ensureCapacity(totalSize, false);
+            columnMap.put(columnName, destination);
+
+            for (int pi = 0; pi < partitions.size(); ++pi) {
+                final Table partition = partitions.get(pi);
+                final long firstRowKey = firstRowKeys[pi];
+                if (partition.isEmpty()) {
+                    continue;
+                }
+                copyTasks.add(() -> {
+                    copy(partition.getColumnSource(columnName), partition.size(), destination, firstRowKey);
+                    return null;
+                });
+            }
+        }
+        invokeAll(executor, copyTasks);
+
+        return new QueryTable(RowSetFactory.flat(totalSize).toTracking(), columnMap);
+    }
+
+    private static void copy(
+            @NotNull final ColumnSource<?> source,
+            final long size,
+            @NotNull final WritableColumnSource<?> destination,
+            final long destinationFirstRowKey) {
+        final int chunkSize = (int) Math.min(size, ArrayBackedColumnSource.BLOCK_SIZE);
+        try (final ChunkSource.FillContext fillContext = source.makeFillContext(chunkSize);
+                final ChunkSink.FillFromContext fillFromContext = destination.makeFillFromContext(chunkSize);
+                final WritableChunk<Values> chunk = source.getChunkType().makeWritableChunk(chunkSize)) {
+            for (long first = 0; first < size; first += chunkSize) {
+                final long last = Math.min(first + chunkSize, size) - 1;
+                try (final RowSequence sourceRows = RowSequenceFactory.forRange(first, last);
+                        final RowSequence destinationRows = RowSequenceFactory.forRange(
+                                destinationFirstRowKey + first, destinationFirstRowKey + last)) {
+                    source.fillChunk(fillContext, chunk, sourceRows);
+                    destination.fillFromChunk(fillFromContext, chunk, destinationRows);
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> invokeAll(
+            @NotNull final ExecutorService executor,
+            @NotNull final List<Callable<T>> tasks) throws SQLException {
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        final List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedDeephavenException("Interrupted while reading JDBC partitions", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UncheckedDeephavenException("Failed to read JDBC partition", e.getCause());
+        } finally {
+            for (final Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
     private interface SourceFiller extends SafeCloseable {
         void readRow(ResultSet rs, JdbcTypeMapper.Context context, long destRowKey) throws SQLException;
     }
@@ -405,7 +735,7 @@ public class JdbcToTableAdapter {
                 usedNames);
     }
 
-    private static String[] fixColumnNames(ReadJdbcOptions options, String[] origColumnNames) {
+    static String[] fixColumnNames(ReadJdbcOptions options, String[] origColumnNames) {
         final Set<String> usedNames = new HashSet<>();
         final String[] columnNames = new String[origColumnNames.length];
         for (int ii = 0; ii < origColumnNames.length; ++ii) {
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.jdbc;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+import org.junit.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class JdbcStreamPublisherTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:JdbcStreamPublisherTest";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private Connection conn;
+    private Statement stmt;
+
+    @Before
+    public void setUp() throws SQLException {
+        conn = DriverManager.getConnection(DB_URL);
+        stmt = conn.createStatement();
+        stmt.executeUpdate("CREATE TABLE Events (" +
+                "   \"Version\" INT," +
+                "   \"Name\" VARCHAR(80)," +
+                "   \"Flag\" BIT" +
+                ");");
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    private static class CollectingConsumer implements StreamConsumer {
+        private final int versionIndex;
+        private final int nameIndex;
+        private final int flagIndex;
+        private final List<Integer> versions = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Boolean> flags = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private Throwable failure;
+
+        private CollectingConsumer(final int versionIndex, final int nameIndex, final int flagIndex) {
+            this.versionIndex = versionIndex;
+            this.nameIndex = nameIndex;
+            this.flagIndex = flagIndex;
+        }
+
+        @SafeVarargs
+        @Override
+        public final void accept(@NotNull final WritableChunk<Values>... data) {
+            accept(List.<WritableChunk<Values>[]>of(data));
+        }
+
+        @Override
+        public synchronized void accept(@NotNull final Collection<WritableChunk<Values>[]> data) {
+            int batchSize = 0;
+            for (final WritableChunk<Values>[] chunks : data) {
+                for (int ii = 0; ii < chunks[0].size(); ++ii) {
+                    versions.add(chunks[versionIndex].asIntChunk().get(ii));
+                    names.add(chunks[nameIndex].<String>asObjectChunk().get(ii));
+                    flags.add(BooleanUtils.byteAsBoolean(chunks[flagIndex].asByteChunk().get(ii)));
+                }
+                batchSize += chunks[0].size();
+            }
+            batchSizes.add(batchSize);
+            SafeCloseable.closeAll(data.stream().flatMap(Stream::of));
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void acceptFailure(@NotNull final Throwable cause) {
+            failure = cause;
+            notifyAll();
+        }
+
+        private synchronized void awaitRows(final int numRows) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (versions.size() < numRows && failure == null) {
+                final long remaining = deadline - System.currentTimeMillis();
+                Assert.assertTrue("Timed out waiting for " + numRows + " rows", remaining > 0);
+                wait(remaining);
+            }
+            Assert.assertNull(failure);
+            Assert.assertEquals(numRows, versions.size());
+        }
+    }
+
+    private void insert(final int version, final String name, final boolean flag) throws SQLException {
+        stmt.executeUpdate("INSERT INTO Events VALUES (" + version + ", '" + name + "', " + flag + ")");
+    }
+
+    @Test
+    public void testPolling() throws SQLException, InterruptedException {
+        insert(1, "a", true);
+        insert(1, "b", false);
+        insert(2, "c", true);
+        insert(2, "d", true);
+        insert(2, "e", false);
+        insert(2, "f", true);
+        insert(3, "g", false);
+
+        final JdbcStreamPublisher publisher = JdbcStreamPublisher.create("testPolling",
+                () -> DriverManager.getConnection(DB_URL), "SELECT * FROM Events", "\"Version\"", null,
+                Duration.ofMillis(20), 3, JdbcToTableAdapter.readJdbcOptions());
+        Assert.assertEquals(TableDefinition.of(
+                ColumnDefinition.ofInt("Version"),
+                ColumnDefinition.ofString("Name"),
+                ColumnDefinition.ofBoolean("Flag")), publisher.definition());
+
+        final CollectingConsumer consumer = new CollectingConsumer(0, 1, 2);
+        publisher.register(consumer);
+        try {
+            consumer.awaitRows(7);
+            Assert.assertEquals(List.of(1, 1, 2, 2, 2, 2, 3), consumer.versions);
+            Assert.assertEquals(List.of("a", "b", "c", "d", "e", "f", "g"), consumer.names);
+            Assert.assertEquals(List.of(true, false, true, true, false, true, false), consumer.flags);
+            // The batch limit never splits rows that share a version
+            Assert.assertEquals(List.of(2, 4, 1), consumer.batchSizes);
+
+            // Rows at or below the watermark are not republished
+            insert(3, "late", true);
+            insert(4, "h", false);
+            consumer.awaitRows(8);
+            Thread.sleep(100);
+            Assert.assertEquals(List.of(1, 1, 2, 2, 2, 2, 3, 4), consumer.versions);
+        } finally {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testInitialWatermark() throws SQLException, InterruptedException {
+        insert(1, "a", true);
+        insert(2, "b", false);
+        insert(3, "c", true);
+
+        final JdbcStreamPublisher publisher = JdbcStreamPublisher.create("testInitialWatermark",
+                () -> DriverManager.getConnection(DB_URL), "SELECT * FROM Events", "\"Version\"", 1,
+                Duration.ofMillis(20), 100, JdbcToTableAdapter.readJdbcOptions(), "Name", "Version", "Flag");
+        Assert.assertEquals(List.of("Name", "Version", "Flag"), publisher.definition().getColumnNames());
+
+        final CollectingConsumer consumer = new CollectingConsumer(1, 0, 2);
+        publisher.register(consumer);
+        try {
+            consumer.awaitRows(2);
+            Assert.assertEquals(List.of(2, 3), consumer.versions);
+            Assert.assertEquals(List.of("b", "c"), consumer.names);
+        } finally {
+            publisher.shutdown();
+        }
+    }
+}
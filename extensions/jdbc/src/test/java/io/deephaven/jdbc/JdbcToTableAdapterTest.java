@@ -5,6 +5,7 @@ package io.deephaven.jdbc;
 
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.time.DateTimeFormatter;
@@ -22,6 +23,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.*;
 import java.util.InputMismatchException;
+import java.util.List;
 import java.util.Set;
 import java.util.TimeZone;
 
@@ -33,6 +35,8 @@ public class JdbcToTableAdapterTest {
     public final EngineCleanup framework = new EngineCleanup();
 
     private static final ZoneId TZ_UTC = ZoneId.of("UTC");
+    // Named, so that partitioned reads can open additional connections to the same database
+    private static final String DB_URL = "jdbc:h2:mem:JdbcToTableAdapterTest";
 
     private Connection conn;
     private Statement stmt;
@@ -40,7 +44,7 @@ public class JdbcToTableAdapterTest {
 
     @Before
     public void setUp() throws SQLException {
-        conn = DriverManager.getConnection("jdbc:h2:mem:");
+        conn = DriverManager.getConnection(DB_URL);
         stmt = conn.createStatement();
 
         // We need a column with each invalid char: ./\-_
@@ -625,4 +629,41 @@ public class JdbcToTableAdapterTest {
         } catch (final JdbcTypeMapperException ignored) {
         }
     }
+
+    @Test
+    public void testReadPartitioned() throws SQLException {
+        final String query = "SELECT * FROM TestTable";
+        final JdbcToTableAdapter.ReadJdbcOptions options = JdbcToTableAdapter.readJdbcOptions()
+                .columnNameFormat(JdbcToTableAdapter.CasingStyle.lowerCamel, "_")
+                .fetchSize(1024);
+        final Table expected = JdbcToTableAdapter.readJdbc(stmt.executeQuery(query), options)
+                .sort("intType", "stringType");
+
+        // Int-Type is null for some rows, which must land in the first partition
+        final List<Long> splitPoints = JdbcToTableAdapter.evenSplitPoints(-numRows / 2, numRows / 2, 4);
+        Assert.assertEquals(3, splitPoints.size());
+        final Table result = JdbcToTableAdapter.readJdbcPartitioned(
+                () -> DriverManager.getConnection(DB_URL), query, "\"Int-Type\"", splitPoints, options.parallelism(2));
+        Assert.assertEquals(numRows, result.size());
+        TstUtils.assertTableEquals(expected, result.sort("intType", "stringType"));
+
+        // maxRows limits the merged result
+        options.maxRows(10);
+        Assert.assertEquals(10, JdbcToTableAdapter.readJdbcPartitioned(
+                () -> DriverManager.getConnection(DB_URL), query, "\"Int-Type\"", splitPoints, options).size());
+
+        // a single partition reads the whole query
+        options.maxRows(-1);
+        TstUtils.assertTableEquals(expected, JdbcToTableAdapter.readJdbcPartitioned(
+                () -> DriverManager.getConnection(DB_URL), query, "\"Int-Type\"", List.of(), options)
+                .sort("intType", "stringType"));
+    }
+
+    @Test
+    public void testEvenSplitPoints() {
+        Assert.assertEquals(List.of(25L, 50L, 75L), JdbcToTableAdapter.evenSplitPoints(0, 99, 4));
+        Assert.assertEquals(List.of(), JdbcToTableAdapter.evenSplitPoints(0, 99, 1));
+        Assert.assertEquals(List.of(1L, 2L), JdbcToTableAdapter.evenSplitPoints(0, 2, 10));
+        Assert.assertEquals(List.of(0L), JdbcToTableAdapter.evenSplitPoints(Long.MIN_VALUE, Long.MAX_VALUE, 2));
+    }
 }
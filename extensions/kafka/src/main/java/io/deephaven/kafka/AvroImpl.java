@@ -12,6 +12,7 @@ import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientExcept
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
 import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
@@ -20,6 +21,7 @@ import io.deephaven.kafka.KafkaTools.Consume;
 import io.deephaven.kafka.KafkaTools.KeyOrValue;
 import io.deephaven.kafka.KafkaTools.KeyOrValueIngestData;
 import io.deephaven.kafka.KafkaTools.Produce;
+import io.deephaven.kafka.ingest.AvroBinaryChunkAdapter;
 import io.deephaven.kafka.ingest.GenericRecordChunkAdapter;
 import io.deephaven.kafka.ingest.KeyOrValueProcessor;
 import io.deephaven.kafka.publish.GenericRecordKeyOrValueSerializer;
@@ -35,6 +37,7 @@ import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.mutable.MutableObject;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +60,12 @@ import static io.deephaven.kafka.KafkaTools.AVRO_LATEST_VERSION;
 import static io.deephaven.kafka.KafkaTools.NESTED_FIELD_NAME_SEPARATOR;
 
 class AvroImpl {
+    /**
+     * Whether to decode Avro records with an {@link AvroBinaryChunkAdapter} specialized to the schema, rather than
+     * deserializing each record into a {@link GenericRecord}, when all of the mapped columns are supported.
+     */
+    private static final boolean USE_BINARY_DECODER = Configuration.getInstance()
+            .getBooleanForClassWithDefault(AvroImpl.class, "useBinaryDecoder", true);
 
     static final class AvroConsume extends Consume.KeyOrValueSpec {
         private static final Pattern NESTED_FIELD_NAME_SEPARATOR_PATTERN =
@@ -91,8 +100,14 @@ class AvroImpl {
 
         @Override
         Deserializer<?> getDeserializer(KeyOrValue keyOrValue, SchemaRegistryClient schemaRegistryClient,
-                Map<String, ?> configs) {
-            return new KafkaAvroDeserializer(Objects.requireNonNull(schemaRegistryClient));
+                Map<String, ?> configs, KeyOrValueIngestData data) {
+            Objects.requireNonNull(schemaRegistryClient);
+            // Decide from the ingest data, which was made with the same schema as the processor
+            if (data.extra instanceof BinaryDecoderData) {
+                // Records are delivered to the processor in the wire format, and decoded there
+                return new ByteArrayDeserializer();
+            }
+            return new KafkaAvroDeserializer(schemaRegistryClient);
         }
 
         @Override
@@ -101,17 +116,28 @@ class AvroImpl {
                 List<ColumnDefinition<?>> columnDefinitionsOut) {
             KeyOrValueIngestData data = new KeyOrValueIngestData();
             data.fieldPathToColumnName = new HashMap<>();
-            final Schema localSchema = schema != null
-                    ? schema
-                    : getAvroSchema(schemaRegistryClient, schemaName, schemaVersion);
+            final Schema localSchema = getSchema(schemaRegistryClient);
             avroSchemaToColumnDefinitions(columnDefinitionsOut, data.fieldPathToColumnName, localSchema,
                     fieldPathToColumnName);
-            data.extra = localSchema;
+            data.extra = useBinaryDecoder(localSchema)
+                    ? new BinaryDecoderData(localSchema, schemaRegistryClient)
+                    : localSchema;
             return data;
         }
 
         @Override
         KeyOrValueProcessor getProcessor(TableDefinition tableDef, KeyOrValueIngestData data) {
+            if (data.extra instanceof BinaryDecoderData) {
+                final BinaryDecoderData binaryDecoderData = (BinaryDecoderData) data.extra;
+                return AvroBinaryChunkAdapter.make(
+                        tableDef,
+                        ci -> StreamChunkUtils.chunkTypeForColumnIndex(tableDef, ci),
+                        data.fieldPathToColumnName,
+                        NESTED_FIELD_NAME_SEPARATOR_PATTERN,
+                        binaryDecoderData.schema,
+                        binaryDecoderData::getWriterSchema,
+                        true);
+            }
             return GenericRecordChunkAdapter.make(
                     tableDef,
                     ci -> StreamChunkUtils.chunkTypeForColumnIndex(tableDef, ci),
@@ -120,6 +146,40 @@ class AvroImpl {
                     (Schema) data.extra,
                     true);
         }
+
+        private Schema getSchema(final SchemaRegistryClient schemaRegistryClient) {
+            return schema != null
+                    ? schema
+                    : getAvroSchema(schemaRegistryClient, schemaName, schemaVersion);
+        }
+
+        private boolean useBinaryDecoder(final Schema localSchema) {
+            if (!USE_BINARY_DECODER) {
+                return false;
+            }
+            final List<ColumnDefinition<?>> columnDefinitions = new ArrayList<>();
+            avroSchemaToColumnDefinitions(columnDefinitions, null, localSchema, fieldPathToColumnName);
+            return columnDefinitions.stream()
+                    .allMatch(cd -> AvroBinaryChunkAdapter.isSupportedType(cd.getDataType()));
+        }
+    }
+
+    private static final class BinaryDecoderData {
+        private final Schema schema;
+        private final SchemaRegistryClient schemaRegistryClient;
+
+        private BinaryDecoderData(final Schema schema, final SchemaRegistryClient schemaRegistryClient) {
+            this.schema = schema;
+            this.schemaRegistryClient = schemaRegistryClient;
+        }
+
+        private Schema getWriterSchema(final int schemaId) {
+            try {
+                return (Schema) schemaRegistryClient.getSchemaById(schemaId).rawSchema();
+            } catch (RestClientException | IOException e) {
+                throw new UncheckedDeephavenException(e);
+            }
+        }
     }
 
     static final class AvroProduce extends Produce.KeyOrValueSpec {
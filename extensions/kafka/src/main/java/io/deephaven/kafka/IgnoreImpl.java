@@ -35,7 +35,7 @@ class IgnoreImpl {
 
         @Override
         Deserializer<?> getDeserializer(KeyOrValue keyOrValue, SchemaRegistryClient schemaRegistryClient,
-                Map<String, ?> configs) {
+                Map<String, ?> configs, KeyOrValueIngestData data) {
             return new ByteArrayDeserializer();
         }
 
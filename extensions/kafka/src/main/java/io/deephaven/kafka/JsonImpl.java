@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.confluent.kafka.schemaregistry.SchemaProvider;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
@@ -16,6 +17,7 @@ import io.deephaven.kafka.KafkaTools.KeyOrValueIngestData;
 import io.deephaven.kafka.KafkaTools.Produce;
 import io.deephaven.kafka.ingest.JsonNodeChunkAdapter;
 import io.deephaven.kafka.ingest.JsonNodeUtil;
+import io.deephaven.kafka.ingest.JsonParserChunkAdapter;
 import io.deephaven.kafka.ingest.KeyOrValueProcessor;
 import io.deephaven.kafka.publish.JsonKeyOrValueSerializer;
 import io.deephaven.kafka.publish.KeyOrValueSerializer;
@@ -40,6 +42,13 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 class JsonImpl {
+    /**
+     * Whether to decode JSON with a streaming {@link JsonParserChunkAdapter} rather than building a tree for each
+     * record, when no custom {@link ObjectMapper} is specified.
+     */
+    private static final boolean USE_STREAMING_DECODER = Configuration.getInstance()
+            .getBooleanForClassWithDefault(JsonImpl.class, "useStreamingDecoder", true);
+
     /**
      * JSON spec.
      */
@@ -65,7 +74,7 @@ class JsonImpl {
 
         @Override
         Deserializer<?> getDeserializer(KeyOrValue keyOrValue, SchemaRegistryClient schemaRegistryClient,
-                Map<String, ?> configs) {
+                Map<String, ?> configs, KeyOrValueIngestData data) {
             return new StringDeserializer();
         }
 
@@ -74,7 +83,9 @@ class JsonImpl {
                 SchemaRegistryClient schemaRegistryClient, Map<String, ?> configs, MutableInt nextColumnIndexMut,
                 List<ColumnDefinition<?>> columnDefinitionsOut) {
             final KeyOrValueIngestData data = new KeyOrValueIngestData();
-            data.toObjectChunkMapper = jsonToObjectChunkMapper(objectMapper);
+            if (!useStreamingDecoder()) {
+                data.toObjectChunkMapper = jsonToObjectChunkMapper(objectMapper);
+            }
             columnDefinitionsOut.addAll(Arrays.asList(columnDefinitions));
             // Populate out field to column name mapping from two potential sources.
             data.fieldPathToColumnName = new HashMap<>(columnDefinitions.length);
@@ -99,6 +110,14 @@ class JsonImpl {
 
         @Override
         KeyOrValueProcessor getProcessor(TableDefinition tableDef, KeyOrValueIngestData data) {
+            if (useStreamingDecoder()) {
+                // Records are delivered to the processor as strings, and parsed there
+                return JsonParserChunkAdapter.make(
+                        tableDef,
+                        ci -> StreamChunkUtils.chunkTypeForColumnIndex(tableDef, ci),
+                        data.fieldPathToColumnName,
+                        true);
+            }
             return JsonNodeChunkAdapter.make(
                     tableDef,
                     ci -> StreamChunkUtils.chunkTypeForColumnIndex(tableDef, ci),
@@ -106,6 +125,11 @@ class JsonImpl {
                     true);
         }
 
+        private boolean useStreamingDecoder() {
+            // A custom mapper may configure parsing or node creation in ways that the streaming decoder won't honor
+            return USE_STREAMING_DECODER && objectMapper == null;
+        }
+
         private static Map<String, String> mapNonPointers(final Map<String, String> fieldNameToColumnName) {
             if (fieldNameToColumnName == null) {
                 return null;
@@ -4,6 +4,7 @@
 package io.deephaven.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Descriptors.Descriptor;
 import gnu.trove.map.hash.TIntLongHashMap;
 import io.confluent.kafka.schemaregistry.SchemaProvider;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
@@ -47,6 +48,8 @@ import io.deephaven.kafka.IgnoreImpl.IgnoreConsume;
 import io.deephaven.kafka.IgnoreImpl.IgnoreProduce;
 import io.deephaven.kafka.JsonImpl.JsonConsume;
 import io.deephaven.kafka.JsonImpl.JsonProduce;
+import io.deephaven.kafka.ProtobufImpl.ProtobufConsume;
+import io.deephaven.kafka.ProtobufImpl.ProtobufProduce;
 import io.deephaven.kafka.KafkaTools.StreamConsumerRegistrarProvider.PerPartition;
 import io.deephaven.kafka.KafkaTools.StreamConsumerRegistrarProvider.Single;
 import io.deephaven.kafka.KafkaTools.TableType.Append;
@@ -99,6 +102,7 @@ import org.apache.kafka.common.serialization.ShortDeserializer;
 import org.apache.kafka.common.serialization.ShortSerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.immutables.value.Value.Check;
 import org.immutables.value.Value.Immutable;
 import org.immutables.value.Value.Parameter;
 import org.jetbrains.annotations.NotNull;
@@ -223,6 +227,37 @@ public class KafkaTools {
         avroSchemaToColumnDefinitions(columnsOut, schema, DIRECT_MAPPING);
     }
 
+    /**
+     * Load a Protobuf message descriptor from a serialized {@code FileDescriptorSet}, as produced by
+     * {@code protoc --include_imports --descriptor_set_out=<descriptorSetPath>}.
+     *
+     * @param descriptorSetPath The path to the descriptor set file
+     * @param messageName The simple or fully qualified name of the message type
+     * @return the message descriptor
+     */
+    public static Descriptor getProtobufDescriptor(final String descriptorSetPath, final String messageName) {
+        return ProtobufImpl.getDescriptor(descriptorSetPath, messageName);
+    }
+
+    /**
+     * Convert a Protobuf message descriptor to a list of column definitions. Nested message fields are flattened into
+     * columns named by field path; repeated fields are not mapped.
+     *
+     * @param columnsOut Column definitions for output; should be empty on entry.
+     * @param fieldPathToColumnNameOut If not null, the mapping from field path to column name for each column added.
+     * @param descriptor Protobuf message descriptor
+     * @param requestedFieldPathToColumnName A mapping to specify selection and naming of columns from Protobuf
+     *        fields; fields mapped to null are excluded.
+     */
+    public static void protobufDescriptorToColumnDefinitions(
+            final List<ColumnDefinition<?>> columnsOut,
+            final Map<String, String> fieldPathToColumnNameOut,
+            final Descriptor descriptor,
+            final Function<String, String> requestedFieldPathToColumnName) {
+        ProtobufImpl.descriptorToColumnDefinitions(columnsOut, fieldPathToColumnNameOut, descriptor,
+                requestedFieldPathToColumnName);
+    }
+
     /**
      * Enum to specify operations that may apply to either of Kafka KEY or VALUE fields.
      */
@@ -298,7 +333,8 @@ public class KafkaTools {
             abstract Deserializer<?> getDeserializer(
                     KeyOrValue keyOrValue,
                     SchemaRegistryClient schemaRegistryClient,
-                    Map<String, ?> configs);
+                    Map<String, ?> configs,
+                    KeyOrValueIngestData data);
 
             abstract KeyOrValueIngestData getIngestData(
                     KeyOrValue keyOrValue,
@@ -488,6 +524,65 @@ public class KafkaTools {
             return new AvroConsume(schemaName, AVRO_LATEST_VERSION, DIRECT_MAPPING);
         }
 
+        /**
+         * Protobuf spec from a Protobuf message descriptor. Record payloads are expected to be plain serialized
+         * messages of this type, without any schema registry framing.
+         *
+         * @param descriptor A Protobuf message descriptor.
+         * @param fieldNameToColumnName A mapping specifying which Protobuf fields to include and what column name to
+         *        use for them; fields mapped to null are excluded. Nested fields are named by field path, separated
+         *        by {@value NESTED_FIELD_NAME_SEPARATOR}.
+         * @return A spec corresponding to the descriptor provided.
+         */
+        @SuppressWarnings("unused")
+        public static KeyOrValueSpec protobufSpec(final Descriptor descriptor,
+                final Function<String, String> fieldNameToColumnName) {
+            return new ProtobufConsume(descriptor, fieldNameToColumnName);
+        }
+
+        /**
+         * Protobuf spec from a Protobuf message descriptor. All singular fields are mapped to columns named by field
+         * path.
+         *
+         * @param descriptor A Protobuf message descriptor.
+         * @return A spec corresponding to the descriptor provided.
+         */
+        @SuppressWarnings("unused")
+        public static KeyOrValueSpec protobufSpec(final Descriptor descriptor) {
+            return new ProtobufConsume(descriptor, DIRECT_MAPPING);
+        }
+
+        /**
+         * Protobuf spec from a message type in a serialized {@code FileDescriptorSet}.
+         *
+         * @param descriptorSetPath The path to a descriptor set file, as produced by
+         *        {@code protoc --include_imports --descriptor_set_out}
+         * @param messageName The simple or fully qualified name of the message type
+         * @param fieldNameToColumnName A mapping specifying which Protobuf fields to include and what column name to
+         *        use for them; fields mapped to null are excluded.
+         * @return A spec corresponding to the message type provided.
+         */
+        @SuppressWarnings("unused")
+        public static KeyOrValueSpec protobufSpec(final String descriptorSetPath,
+                final String messageName,
+                final Function<String, String> fieldNameToColumnName) {
+            return new ProtobufConsume(getProtobufDescriptor(descriptorSetPath, messageName), fieldNameToColumnName);
+        }
+
+        /**
+         * Protobuf spec from a message type in a serialized {@code FileDescriptorSet}. All singular fields are mapped
+         * to columns named by field path.
+         *
+         * @param descriptorSetPath The path to a descriptor set file, as produced by
+         *        {@code protoc --include_imports --descriptor_set_out}
+         * @param messageName The simple or fully qualified name of the message type
+         * @return A spec corresponding to the message type provided.
+         */
+        @SuppressWarnings("unused")
+        public static KeyOrValueSpec protobufSpec(final String descriptorSetPath, final String messageName) {
+            return protobufSpec(descriptorSetPath, messageName, DIRECT_MAPPING);
+        }
+
         @SuppressWarnings("unused")
         public static KeyOrValueSpec simpleSpec(final String columnName, final Class<?> dataType) {
             return new SimpleConsume(columnName, dataType);
@@ -683,6 +778,101 @@ public class KafkaTools {
                     timestampFieldName, includeOnlyColumns, excludeColumns, publishSchema,
                     schemaNamespace, columnProperties);
         }
+
+        /**
+         * Protobuf spec to generate Protobuf messages from a Protobuf message descriptor. Messages are written as plain
+         * serialized messages, without any schema registry framing.
+         *
+         * @param descriptor A Protobuf message descriptor. Singular fields, including nested fields named by field
+         *        path, are populated from table columns via explicit or implicit mapping.
+         * @param fieldToColumnMapping A map from Protobuf field path to column name. Any field paths not included as a
+         *        key in the map will be mapped to columns with the same name (unless those columns are filtered out or
+         *        don't exist). If null, map all fields to columns of the same name.
+         * @param includeOnlyColumns If not null, filter out any columns tested false in this predicate.
+         * @param excludeColumns If not null, filter out any columns tested true in this predicate.
+         * @return A spec corresponding to the descriptor provided.
+         */
+        @SuppressWarnings("unused")
+        public static KeyOrValueSpec protobufSpec(
+                final Descriptor descriptor,
+                final Map<String, String> fieldToColumnMapping,
+                final Predicate<String> includeOnlyColumns,
+                final Predicate<String> excludeColumns) {
+            return new ProtobufProduce(descriptor, fieldToColumnMapping, includeOnlyColumns, excludeColumns);
+        }
+
+        /**
+         * Protobuf spec to generate Protobuf messages for a message type in a serialized {@code FileDescriptorSet}.
+         *
+         * @param descriptorSetPath The path to a descriptor set file, as produced by
+         *        {@code protoc --include_imports --descriptor_set_out}
+         * @param messageName The simple or fully qualified name of the message type
+         * @param fieldToColumnMapping A map from Protobuf field path to column name. Any field paths not included as a
+         *        key in the map will be mapped to columns with the same name (unless those columns are filtered out or
+         *        don't exist). If null, map all fields to columns of the same name.
+         * @param includeOnlyColumns If not null, filter out any columns tested false in this predicate.
+         * @param excludeColumns If not null, filter out any columns tested true in this predicate.
+         * @return A spec corresponding to the message type provided.
+         */
+        @SuppressWarnings("unused")
+        public static KeyOrValueSpec protobufSpec(
+                final String descriptorSetPath,
+                final String messageName,
+                final Map<String, String> fieldToColumnMapping,
+                final Predicate<String> includeOnlyColumns,
+                final Predicate<String> excludeColumns) {
+            return new ProtobufProduce(getProtobufDescriptor(descriptorSetPath, messageName), fieldToColumnMapping,
+                    includeOnlyColumns, excludeColumns);
+        }
+
+        /**
+         * Options for publishing updates to a refreshing table off the update graph thread.
+         */
+        @Immutable
+        @SimpleStyle
+        public static abstract class AsyncOptions {
+
+            /**
+             * Options to publish updates on the update graph thread, waiting for each cycle's records to be flushed.
+             */
+            public static AsyncOptions synchronous() {
+                return of(0, 1);
+            }
+
+            /**
+             * The options configured by {@code PublishToKafka.asyncWorkers} and
+             * {@code PublishToKafka.asyncMaxPendingBatches}; synchronous unless workers are configured.
+             */
+            public static AsyncOptions fromConfiguration() {
+                return of(PublishToKafka.ASYNC_WORKERS, PublishToKafka.ASYNC_MAX_PENDING_BATCHES);
+            }
+
+            /**
+             * @param workers The number of threads that serialize and send updates, or zero to publish synchronously
+             * @param maxPendingBatches The number of batches that may await acknowledgement before the update graph
+             *        thread blocks
+             */
+            public static AsyncOptions of(final int workers, final int maxPendingBatches) {
+                return ImmutableAsyncOptions.of(workers, maxPendingBatches);
+            }
+
+            @Parameter
+            public abstract int workers();
+
+            @Parameter
+            public abstract int maxPendingBatches();
+
+            @Check
+            final void checkArguments() {
+                if (workers() < 0) {
+                    throw new IllegalArgumentException("workers must be non-negative, is " + workers());
+                }
+                if (maxPendingBatches() <= 0) {
+                    throw new IllegalArgumentException(
+                            "maxPendingBatches must be positive, is " + maxPendingBatches());
+                }
+            }
+        }
     }
 
     /**
@@ -1104,12 +1294,6 @@ public class KafkaTools {
         final SchemaRegistryClient schemaRegistryClient =
                 schemaRegistryClient(keySpec, valueSpec, configs).orElse(null);
 
-        final Deserializer<?> keyDeser = keySpec.getDeserializer(KeyOrValue.KEY, schemaRegistryClient, configs);
-        keyDeser.configure(configs, true);
-
-        final Deserializer<?> valueDeser = valueSpec.getDeserializer(KeyOrValue.VALUE, schemaRegistryClient, configs);
-        valueDeser.configure(configs, false);
-
         final KafkaStreamPublisher.Parameters.Builder publisherParametersBuilder =
                 KafkaStreamPublisher.Parameters.builder();
 
@@ -1143,6 +1327,15 @@ public class KafkaTools {
         final KeyOrValueIngestData valueIngestData = valueSpec.getIngestData(KeyOrValue.VALUE,
                 schemaRegistryClient, configs, nextColumnIndex, columnDefinitions);
 
+        // Make the deserializers from the ingest data, so that each spec resolves any schema only once
+        final Deserializer<?> keyDeser =
+                keySpec.getDeserializer(KeyOrValue.KEY, schemaRegistryClient, configs, keyIngestData);
+        keyDeser.configure(configs, true);
+
+        final Deserializer<?> valueDeser =
+                valueSpec.getDeserializer(KeyOrValue.VALUE, schemaRegistryClient, configs, valueIngestData);
+        valueDeser.configure(configs, false);
+
         final TableDefinition tableDefinition = TableDefinition.of(columnDefinitions);
         publisherParametersBuilder.setTableDefinition(tableDefinition);
 
@@ -1273,6 +1466,32 @@ public class KafkaTools {
             @NotNull final Produce.KeyOrValueSpec keySpec,
             @NotNull final Produce.KeyOrValueSpec valueSpec,
             final boolean lastByKeyColumns) {
+        return produceFromTable(table, kafkaProperties, topic, keySpec, valueSpec, lastByKeyColumns,
+                Produce.AsyncOptions.fromConfiguration());
+    }
+
+    /**
+     * Produce a Kafka stream from a Deephaven table, as {@link #produceFromTable(Table, Properties, String,
+     * Produce.KeyOrValueSpec, Produce.KeyOrValueSpec, boolean) above}, choosing how updates are published.
+     *
+     * @param table The table used as a source of data to be sent to Kafka.
+     * @param kafkaProperties Properties to be passed to create the associated KafkaProducer.
+     * @param topic Kafka topic name
+     * @param keySpec Conversion specification for Kafka record keys from table column data.
+     * @param valueSpec Conversion specification for Kafka record values from table column data.
+     * @param lastByKeyColumns Whether to publish only the last record for each unique key; see above.
+     * @param asyncOptions Whether and how to publish updates off the update graph thread
+     * @return a callback to stop producing and shut down the associated table listener; note a caller should keep a
+     *         reference to this return value to ensure liveliness.
+     */
+    public static Runnable produceFromTable(
+            @NotNull final Table table,
+            @NotNull final Properties kafkaProperties,
+            @NotNull final String topic,
+            @NotNull final Produce.KeyOrValueSpec keySpec,
+            @NotNull final Produce.KeyOrValueSpec valueSpec,
+            final boolean lastByKeyColumns,
+            @NotNull final Produce.AsyncOptions asyncOptions) {
         if (table.isRefreshing()
                 && !table.getUpdateGraph().exclusiveLock().isHeldByCurrentThread()
                 && !table.getUpdateGraph().sharedLock().isHeldByCurrentThread()) {
@@ -1304,6 +1523,11 @@ public class KafkaTools {
             final KeyOrValueSerializer<?> keySerializer = keySpec.getKeyOrValueSerializer(effectiveTable, keyColumns);
             final KeyOrValueSerializer<?> valueSerializer =
                     valueSpec.getKeyOrValueSerializer(effectiveTable, valueColumns);
+            // Factories for equivalent serializers of other tables, used when publishing asynchronously
+            final Function<Table, KeyOrValueSerializer<?>> keySerializerFactory =
+                    t -> keySpec.getKeyOrValueSerializer(t, keyColumns);
+            final Function<Table, KeyOrValueSerializer<?>> valueSerializerFactory =
+                    t -> valueSpec.getKeyOrValueSerializer(t, valueColumns);
             final PublishToKafka producer = new PublishToKafka(
                     kafkaProperties,
                     effectiveTable,
@@ -1311,9 +1535,12 @@ public class KafkaTools {
                     keyColumns,
                     keySpecSerializer,
                     keySerializer,
+                    keySerializerFactory,
                     valueColumns,
                     valueSpecSerializer,
-                    valueSerializer);
+                    valueSerializer,
+                    valueSerializerFactory,
+                    asyncOptions);
         }
         return publisherScope::release;
     }
@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Timestamp;
+import io.confluent.kafka.schemaregistry.SchemaProvider;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.kafka.KafkaTools.Consume;
+import io.deephaven.kafka.KafkaTools.KeyOrValue;
+import io.deephaven.kafka.KafkaTools.KeyOrValueIngestData;
+import io.deephaven.kafka.KafkaTools.Produce;
+import io.deephaven.kafka.ingest.KeyOrValueProcessor;
+import io.deephaven.kafka.ingest.ProtobufChunkAdapter;
+import io.deephaven.kafka.publish.KeyOrValueSerializer;
+import io.deephaven.kafka.publish.ProtobufKeyOrValueSerializer;
+import io.deephaven.stream.StreamChunkUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static io.deephaven.kafka.KafkaTools.DIRECT_MAPPING;
+import static io.deephaven.kafka.KafkaTools.NESTED_FIELD_NAME_SEPARATOR;
+
+class ProtobufImpl {
+    private static final Pattern NESTED_FIELD_NAME_SEPARATOR_PATTERN =
+            Pattern.compile(Pattern.quote(NESTED_FIELD_NAME_SEPARATOR));
+
+    /**
+     * Protobuf spec.
+     */
+    static final class ProtobufConsume extends Consume.KeyOrValueSpec {
+        private final Descriptor descriptor;
+        /** fields mapped to null are skipped. */
+        private final Function<String, String> fieldPathToColumnName;
+
+        ProtobufConsume(final Descriptor descriptor, final Function<String, String> fieldPathToColumnName) {
+            this.descriptor = descriptor;
+            this.fieldPathToColumnName = fieldPathToColumnName;
+        }
+
+        @Override
+        public Optional<SchemaProvider> getSchemaProvider() {
+            return Optional.empty();
+        }
+
+        @Override
+        Deserializer<?> getDeserializer(KeyOrValue keyOrValue, SchemaRegistryClient schemaRegistryClient,
+                Map<String, ?> configs, KeyOrValueIngestData data) {
+            // Records are delivered to the processor as encoded bytes, and decoded there
+            return new ByteArrayDeserializer();
+        }
+
+        @Override
+        KeyOrValueIngestData getIngestData(KeyOrValue keyOrValue,
+                SchemaRegistryClient schemaRegistryClient, Map<String, ?> configs, MutableInt nextColumnIndexMut,
+                List<ColumnDefinition<?>> columnDefinitionsOut) {
+            final KeyOrValueIngestData data = new KeyOrValueIngestData();
+            data.fieldPathToColumnName = new LinkedHashMap<>();
+            descriptorToColumnDefinitions(columnDefinitionsOut, data.fieldPathToColumnName, descriptor,
+                    fieldPathToColumnName);
+            return data;
+        }
+
+        @Override
+        KeyOrValueProcessor getProcessor(TableDefinition tableDef, KeyOrValueIngestData data) {
+            return ProtobufChunkAdapter.make(
+                    tableDef,
+                    ci -> StreamChunkUtils.chunkTypeForColumnIndex(tableDef, ci),
+                    data.fieldPathToColumnName,
+                    NESTED_FIELD_NAME_SEPARATOR_PATTERN,
+                    descriptor,
+                    true);
+        }
+    }
+
+    /**
+     * Protobuf spec.
+     */
+    static final class ProtobufProduce extends Produce.KeyOrValueSpec {
+        private final Descriptor descriptor;
+        private final Map<String, String> fieldToColumnMapping;
+        private final Predicate<String> includeOnlyColumns;
+        private final Predicate<String> excludeColumns;
+
+        ProtobufProduce(final Descriptor descriptor,
+                final Map<String, String> fieldToColumnMapping,
+                final Predicate<String> includeOnlyColumns,
+                final Predicate<String> excludeColumns) {
+            this.descriptor = descriptor;
+            this.fieldToColumnMapping = fieldToColumnMapping;
+            this.includeOnlyColumns = includeOnlyColumns;
+            this.excludeColumns = excludeColumns;
+        }
+
+        @Override
+        public Optional<SchemaProvider> getSchemaProvider() {
+            return Optional.empty();
+        }
+
+        @Override
+        Serializer<?> getSerializer(SchemaRegistryClient schemaRegistryClient, TableDefinition definition) {
+            return new ByteArraySerializer();
+        }
+
+        @Override
+        String[] getColumnNames(@NotNull final Table t, SchemaRegistryClient schemaRegistryClient) {
+            return columnNameToFieldPath(t).keySet().toArray(String[]::new);
+        }
+
+        @Override
+        KeyOrValueSerializer<?> getKeyOrValueSerializer(@NotNull Table t, @NotNull String[] columnNames) {
+            final Map<String, String> columnNameToFieldPath = columnNameToFieldPath(t);
+            final String[] fieldPaths = new String[columnNames.length];
+            for (int ci = 0; ci < columnNames.length; ++ci) {
+                fieldPaths[ci] = columnNameToFieldPath.get(columnNames[ci]);
+            }
+            return new ProtobufKeyOrValueSerializer(
+                    t, descriptor, columnNames, fieldPaths, NESTED_FIELD_NAME_SEPARATOR_PATTERN);
+        }
+
+        /**
+         * Map each leaf field in the message to a column of the table, omitting fields whose column is filtered out or
+         * not present.
+         */
+        private Map<String, String> columnNameToFieldPath(@NotNull final Table t) {
+            final Map<String, String> leafFieldPaths = new LinkedHashMap<>();
+            descriptorToColumnDefinitions(null, leafFieldPaths, descriptor, Function.identity());
+            final TableDefinition definition = t.getDefinition();
+            final Map<String, String> result = new LinkedHashMap<>();
+            for (final String fieldPath : leafFieldPaths.keySet()) {
+                final String columnName = fieldToColumnMapping == null
+                        ? DIRECT_MAPPING.apply(fieldPath)
+                        : fieldToColumnMapping.getOrDefault(fieldPath, DIRECT_MAPPING.apply(fieldPath));
+                if (definition.getColumn(columnName) == null) {
+                    continue;
+                }
+                if (excludeColumns != null && excludeColumns.test(columnName)) {
+                    continue;
+                }
+                if (includeOnlyColumns != null && !includeOnlyColumns.test(columnName)) {
+                    continue;
+                }
+                if (result.put(columnName, fieldPath) != null) {
+                    throw new IllegalArgumentException("Column " + columnName + " is mapped to multiple fields");
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Load the descriptor for a message type from a descriptor set file, as produced by
+     * {@code protoc --include_imports --descriptor_set_out}.
+     *
+     * @param descriptorSetPath the path to the descriptor set file
+     * @param messageName the fully qualified name of the message type
+     * @return the descriptor for {@code messageName}
+     */
+    static Descriptor getDescriptor(@NotNull final String descriptorSetPath, @NotNull final String messageName) {
+        final FileDescriptorSet descriptorSet;
+        try (final InputStream in = Files.newInputStream(Path.of(descriptorSetPath))) {
+            descriptorSet = FileDescriptorSet.parseFrom(in);
+        } catch (IOException e) {
+            throw new UncheckedDeephavenException("Could not read descriptor set " + descriptorSetPath, e);
+        }
+        return getDescriptor(descriptorSet, messageName);
+    }
+
+    /**
+     * Find the descriptor for a message type in a descriptor set.
+     *
+     * @param descriptorSet the descriptor set, which must include the files that its files import
+     * @param messageName the fully qualified name of the message type
+     * @return the descriptor for {@code messageName}
+     */
+    static Descriptor getDescriptor(@NotNull final FileDescriptorSet descriptorSet, @NotNull final String messageName) {
+        final Map<String, FileDescriptorProto> protos = new HashMap<>();
+        for (final FileDescriptorProto proto : descriptorSet.getFileList()) {
+            protos.put(proto.getName(), proto);
+        }
+        final Map<String, FileDescriptor> built = new HashMap<>();
+        for (final FileDescriptorProto proto : descriptorSet.getFileList()) {
+            final Descriptor descriptor = findMessage(
+                    buildFileDescriptor(proto.getName(), protos, built, new HashSet<>()).getMessageTypes(),
+                    messageName);
+            if (descriptor != null) {
+                return descriptor;
+            }
+        }
+        throw new IllegalArgumentException("Message type " + messageName + " not found in descriptor set");
+    }
+
+    private static FileDescriptor buildFileDescriptor(
+            final String name,
+            final Map<String, FileDescriptorProto> protos,
+            final Map<String, FileDescriptor> built,
+            final Set<String> building) {
+        final FileDescriptor existing = built.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        final FileDescriptorProto proto = protos.get(name);
+        if (proto == null) {
+            throw new IllegalArgumentException("Descriptor set is missing imported file " + name
+                    + "; generate it with --include_imports");
+        }
+        if (!building.add(name)) {
+            throw new IllegalArgumentException("Descriptor set has an import cycle through " + name);
+        }
+        final FileDescriptor[] dependencies = new FileDescriptor[proto.getDependencyCount()];
+        for (int di = 0; di < dependencies.length; ++di) {
+            dependencies[di] = buildFileDescriptor(proto.getDependency(di), protos, built, building);
+        }
+        final FileDescriptor fileDescriptor;
+        try {
+            fileDescriptor = FileDescriptor.buildFrom(proto, dependencies);
+        } catch (DescriptorValidationException e) {
+            throw new IllegalArgumentException("Invalid descriptor for file " + name, e);
+        }
+        built.put(name, fileDescriptor);
+        return fileDescriptor;
+    }
+
+    private static Descriptor findMessage(final List<Descriptor> descriptors, final String messageName) {
+        for (final Descriptor descriptor : descriptors) {
+            if (descriptor.getFullName().equals(messageName)) {
+                return descriptor;
+            }
+            final Descriptor nested = findMessage(descriptor.getNestedTypes(), messageName);
+            if (nested != null) {
+                return nested;
+            }
+        }
+        return null;
+    }
+
+    static void descriptorToColumnDefinitions(
+            final List<ColumnDefinition<?>> columnsOut,
+            final Map<String, String> fieldPathToColumnNameOut,
+            final Descriptor descriptor,
+            final Function<String, String> requestedFieldPathToColumnName) {
+        final Set<String> visiting = new HashSet<>();
+        visiting.add(descriptor.getFullName());
+        pushColumnTypesFromMessage(columnsOut, fieldPathToColumnNameOut, "", descriptor,
+                requestedFieldPathToColumnName, visiting);
+    }
+
+    private static void pushColumnTypesFromMessage(
+            final List<ColumnDefinition<?>> columnsOut,
+            final Map<String, String> fieldPathToColumnNameOut,
+            final String fieldNamePrefix,
+            final Descriptor descriptor,
+            final Function<String, String> fieldPathToColumnName,
+            final Set<String> visiting) {
+        for (final FieldDescriptor field : descriptor.getFields()) {
+            if (field.isRepeated()) {
+                // Repeated and map fields have no single value to flatten into a column
+                continue;
+            }
+            final String fieldPath = fieldNamePrefix + field.getName();
+            final String mappedNameForColumn = fieldPathToColumnName.apply(fieldPath);
+            if (mappedNameForColumn == null) {
+                // allow the user to specify fields to skip by providing a mapping to null.
+                continue;
+            }
+            final ColumnDefinition<?> columnDefinition;
+            switch (field.getJavaType()) {
+                case INT:
+                    columnDefinition = isUnsigned32(field)
+                            ? ColumnDefinition.ofLong(mappedNameForColumn)
+                            : ColumnDefinition.ofInt(mappedNameForColumn);
+                    break;
+                case LONG:
+                    columnDefinition = ColumnDefinition.ofLong(mappedNameForColumn);
+                    break;
+                case FLOAT:
+                    columnDefinition = ColumnDefinition.ofFloat(mappedNameForColumn);
+                    break;
+                case DOUBLE:
+                    columnDefinition = ColumnDefinition.ofDouble(mappedNameForColumn);
+                    break;
+                case BOOLEAN:
+                    columnDefinition = ColumnDefinition.ofBoolean(mappedNameForColumn);
+                    break;
+                case STRING:
+                case ENUM:
+                    columnDefinition = ColumnDefinition.ofString(mappedNameForColumn);
+                    break;
+                case BYTE_STRING:
+                    columnDefinition = ColumnDefinition.fromGenericType(mappedNameForColumn, byte[].class);
+                    break;
+                case MESSAGE: {
+                    final Descriptor messageType = field.getMessageType();
+                    if (Timestamp.getDescriptor().getFullName().equals(messageType.getFullName())) {
+                        columnDefinition = ColumnDefinition.fromGenericType(mappedNameForColumn, Instant.class);
+                        break;
+                    }
+                    if (!visiting.add(messageType.getFullName())) {
+                        // Recursive message types can't be flattened
+                        continue;
+                    }
+                    // Linearize any nesting.
+                    pushColumnTypesFromMessage(columnsOut, fieldPathToColumnNameOut,
+                            fieldPath + NESTED_FIELD_NAME_SEPARATOR, messageType, fieldPathToColumnName, visiting);
+                    visiting.remove(messageType.getFullName());
+                    continue;
+                }
+                default:
+                    throw new IllegalStateException("Unexpected field type " + field.getJavaType());
+            }
+            if (columnsOut != null) {
+                columnsOut.add(columnDefinition);
+            }
+            if (fieldPathToColumnNameOut != null) {
+                fieldPathToColumnNameOut.put(fieldPath, mappedNameForColumn);
+            }
+        }
+    }
+
+    private static boolean isUnsigned32(final FieldDescriptor field) {
+        return field.getType() == FieldDescriptor.Type.UINT32 || field.getType() == FieldDescriptor.Type.FIXED32;
+    }
+}
@@ -56,7 +56,7 @@ class RawImpl {
 
         @Override
         Deserializer<?> getDeserializer(KeyOrValue keyOrValue, SchemaRegistryClient schemaRegistryClient,
-                Map<String, ?> configs) {
+                Map<String, ?> configs, KeyOrValueIngestData data) {
             return supplier.get();
         }
 
@@ -97,7 +97,8 @@ class SimpleImpl {
         Deserializer<?> getDeserializer(
                 KeyOrValue keyOrValue,
                 SchemaRegistryClient schemaRegistryClient,
-                Map<String, ?> configs) {
+                Map<String, ?> configs,
+                KeyOrValueIngestData data) {
             final Type<?> type = getType(keyOrValue, configs);
             final Deserializer<?> deserializer = deserializer(type).orElse(null);
             if (deserializer != null) {
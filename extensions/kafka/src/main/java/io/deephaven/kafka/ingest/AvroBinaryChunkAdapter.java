@@ -0,0 +1,554 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableByteChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableFloatChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link KeyOrValueProcessor} for Avro records in the schema registry wire format (a zero magic byte, a four byte
+ * schema id, and the binary encoded record), that decodes each record directly into the publisher chunks rather than
+ * deserializing it into a {@link org.apache.avro.generic.GenericRecord} and then looking up each field.
+ * <p>
+ * The mapped field paths and column types are resolved against the reader schema at construction. For each writer
+ * schema id encountered, a decoding plan is compiled once: a sequence of steps, in the writer's field order, that
+ * either read a field into its column or skip it. Nullable unions, nested records, enums and the Avro numeric
+ * promotions are handled in the plan; fields missing from a writer schema produce nulls. Only boolean, numeric,
+ * timestamp and string columns are supported; specs mapping other column types should use
+ * {@link GenericRecordChunkAdapter}.
+ */
+public class AvroBinaryChunkAdapter implements KeyOrValueProcessor {
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_SIZE = 5;
+
+    private final boolean allowNulls;
+    private final Schema readerSchema;
+    private final IntFunction<Schema> writerSchemaLookup;
+    private final PathNode root;
+    private final Target[] targets;
+    private final TIntObjectMap<Step> plans = new TIntObjectHashMap<>();
+
+    private BinaryDecoder decoder;
+
+    private AvroBinaryChunkAdapter(
+            final TableDefinition definition,
+            final IntFunction<ChunkType> chunkTypeForIndex,
+            final Map<String, String> fieldPathToColumnNames,
+            final Pattern separator,
+            final Schema readerSchema,
+            final IntFunction<Schema> writerSchemaLookup,
+            final boolean allowNulls) {
+        this.allowNulls = allowNulls;
+        this.readerSchema = readerSchema;
+        this.writerSchemaLookup = writerSchemaLookup;
+
+        final String[] columnNames = definition.getColumnNamesArray();
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+
+        final TObjectIntMap<String> deephavenColumnNameToIndex = new TObjectIntHashMap<>(columnNames.length, 0.5f, -1);
+        for (int ii = 0; ii < columnNames.length; ++ii) {
+            deephavenColumnNameToIndex.put(columnNames[ii], ii);
+        }
+
+        root = new PathNode();
+        targets = new Target[fieldPathToColumnNames.size()];
+        int ti = 0;
+        for (final Map.Entry<String, String> fieldToColumn : fieldPathToColumnNames.entrySet()) {
+            final String columnName = fieldToColumn.getValue();
+            final int deephavenColumnIndex = deephavenColumnNameToIndex.get(columnName);
+            if (deephavenColumnIndex == deephavenColumnNameToIndex.getNoEntryValue()) {
+                throw new IllegalArgumentException("Column not found in Deephaven table: " + columnName);
+            }
+            final String fieldPathStr = fieldToColumn.getKey();
+            final String[] fieldPath = GenericRecordUtil.getFieldPath(fieldPathStr, separator);
+            final Target target = makeTarget(fieldPathStr, deephavenColumnIndex,
+                    chunkTypeForIndex.apply(deephavenColumnIndex),
+                    columns.get(deephavenColumnIndex).getDataType(),
+                    GenericRecordUtil.getFieldSchema(readerSchema, fieldPath));
+            targets[ti++] = target;
+            root.add(fieldPath, 0, target);
+        }
+    }
+
+    /**
+     * Create an AvroBinaryChunkAdapter.
+     *
+     * @param definition the definition of the output table
+     * @param chunkTypeForIndex a function from column index to chunk type
+     * @param fieldPathToColumnNames a map from Avro field paths to Deephaven column names
+     * @param separator separator for composite fields names
+     * @param readerSchema the Avro schema the column mapping was derived from
+     * @param writerSchemaLookup a function from schema id to the writer schema for records with that id; if
+     *        {@code null}, all records are assumed to have been written with {@code readerSchema}
+     * @param allowNulls true if null records should be allowed, if false then an ISE is thrown
+     * @return an AvroBinaryChunkAdapter for the given definition and column mapping
+     */
+    public static AvroBinaryChunkAdapter make(
+            @NotNull final TableDefinition definition,
+            @NotNull final IntFunction<ChunkType> chunkTypeForIndex,
+            @NotNull final Map<String, String> fieldPathToColumnNames,
+            @NotNull final Pattern separator,
+            @NotNull final Schema readerSchema,
+            @Nullable final IntFunction<Schema> writerSchemaLookup,
+            final boolean allowNulls) {
+        return new AvroBinaryChunkAdapter(definition, chunkTypeForIndex, fieldPathToColumnNames, separator,
+                readerSchema, writerSchemaLookup, allowNulls);
+    }
+
+    /**
+     * Check whether an AvroBinaryChunkAdapter can produce a column of the given type.
+     *
+     * @param dataType the column data type
+     * @return whether columns of {@code dataType} are supported
+     */
+    public static boolean isSupportedType(@NotNull final Class<?> dataType) {
+        return dataType == Boolean.class || dataType == int.class || dataType == long.class
+                || dataType == float.class || dataType == double.class || dataType == String.class
+                || dataType == Instant.class;
+    }
+
+    private static Target makeTarget(
+            final String fieldPathStr,
+            final int columnIndex,
+            final ChunkType chunkType,
+            final Class<?> dataType,
+            final Schema fieldSchema) {
+        switch (chunkType) {
+            case Byte:
+                if (dataType == Boolean.class) {
+                    return new BooleanTarget(columnIndex);
+                }
+                break;
+            case Int:
+                return new IntTarget(columnIndex);
+            case Long:
+                if (dataType == Instant.class) {
+                    final LogicalType logicalType = fieldSchema.getLogicalType();
+                    if (logicalType instanceof LogicalTypes.TimestampMillis) {
+                        return new LongTarget(columnIndex, 1000_000L);
+                    }
+                    if (logicalType instanceof LogicalTypes.TimestampMicros) {
+                        return new LongTarget(columnIndex, 1000L);
+                    }
+                    throw new IllegalArgumentException(
+                            "Can not map field with unknown logical type to Instant: field=" + fieldPathStr
+                                    + ", logical type=" + logicalType);
+                }
+                return new LongTarget(columnIndex, 1L);
+            case Float:
+                return new FloatTarget(columnIndex);
+            case Double:
+                return new DoubleTarget(columnIndex);
+            case Object:
+                if (dataType == String.class) {
+                    return new StringTarget(columnIndex);
+                }
+                break;
+        }
+        throw new IllegalArgumentException("Can not decode field " + fieldPathStr + " of type "
+                + dataType.getSimpleName() + " from binary Avro");
+    }
+
+    @Override
+    public void handleChunk(ObjectChunk<Object, Values> inputChunk, WritableChunk<Values>[] publisherChunks) {
+        if (!allowNulls) {
+            for (int ii = 0; ii < inputChunk.size(); ++ii) {
+                if (inputChunk.get(ii) == null) {
+                    throw new KafkaIngesterException("Null records are not permitted");
+                }
+            }
+        }
+        for (final Target target : targets) {
+            final WritableChunk<Values> publisherChunk = publisherChunks[target.columnIndex];
+            final int existingSize = publisherChunk.size();
+            publisherChunk.setSize(existingSize + inputChunk.size());
+            target.setOutput(publisherChunk, existingSize);
+        }
+        for (int ii = 0; ii < inputChunk.size(); ++ii) {
+            final Object record = inputChunk.get(ii);
+            if (record == null) {
+                for (final Target target : targets) {
+                    target.setNull(ii);
+                }
+                continue;
+            }
+            final byte[] bytes;
+            try {
+                bytes = (byte[]) record;
+            } catch (ClassCastException ex) {
+                throw new UncheckedDeephavenException("Could not convert input to Avro bytes", ex);
+            }
+            if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC_BYTE) {
+                throw new UncheckedDeephavenException("Unknown magic byte in Avro record");
+            }
+            final int schemaId = ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16)
+                    | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+            final Step plan = getPlan(schemaId);
+            decoder = DecoderFactory.get().binaryDecoder(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, decoder);
+            try {
+                plan.read(decoder, ii);
+            } catch (IOException | RuntimeException ex) {
+                throw new UncheckedDeephavenException("Failed to decode Avro record with schema id " + schemaId, ex);
+            }
+        }
+    }
+
+    private Step getPlan(final int schemaId) {
+        Step plan = plans.get(schemaId);
+        if (plan == null) {
+            final Schema writerSchema = writerSchemaLookup == null ? readerSchema : writerSchemaLookup.apply(schemaId);
+            plan = compile(writerSchema, root, "");
+            plans.put(schemaId, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Compile the step that decodes a value written with {@code writerSchema} at {@code node}. The step writes every
+     * target below {@code node} exactly once per record.
+     */
+    private static Step compile(final Schema writerSchema, @Nullable final PathNode node, final String path) {
+        if (node == null) {
+            return (in, row) -> GenericDatumReader.skip(writerSchema, in);
+        }
+        final Schema.Type type = writerSchema.getType();
+        if (type == Schema.Type.UNION) {
+            final List<Schema> branches = writerSchema.getTypes();
+            final Step[] branchSteps = new Step[branches.size()];
+            for (int bi = 0; bi < branchSteps.length; ++bi) {
+                branchSteps[bi] = compile(branches.get(bi), node, path);
+            }
+            return (in, row) -> branchSteps[in.readIndex()].read(in, row);
+        }
+        final Target[] nodeTargets = node.targets();
+        if (type == Schema.Type.NULL) {
+            return (in, row) -> setNull(nodeTargets, row);
+        }
+        if (node.target != null) {
+            return compileLeaf(writerSchema, node.target, path);
+        }
+        if (type != Schema.Type.RECORD) {
+            // None of the mapped children can be found in a non-record value
+            return (in, row) -> {
+                GenericDatumReader.skip(writerSchema, in);
+                setNull(nodeTargets, row);
+            };
+        }
+        final List<Schema.Field> fields = writerSchema.getFields();
+        final Step[] fieldSteps = new Step[fields.size()];
+        final Map<String, PathNode> unmatched = new LinkedHashMap<>(node.children);
+        for (int fi = 0; fi < fieldSteps.length; ++fi) {
+            final Schema.Field field = fields.get(fi);
+            final PathNode child = unmatched.remove(field.name());
+            fieldSteps[fi] = compile(field.schema(), child, path + "/" + field.name());
+        }
+        final List<Target> missing = new ArrayList<>();
+        unmatched.values().forEach(child -> child.collectTargets(missing));
+        final Target[] missingTargets = missing.toArray(Target[]::new);
+        return (in, row) -> {
+            for (final Step fieldStep : fieldSteps) {
+                fieldStep.read(in, row);
+            }
+            setNull(missingTargets, row);
+        };
+    }
+
+    private static Step compileLeaf(final Schema writerSchema, final Target target, final String path) {
+        switch (writerSchema.getType()) {
+            case BOOLEAN:
+                if (target instanceof BooleanTarget) {
+                    final BooleanTarget booleanTarget = (BooleanTarget) target;
+                    return (in, row) -> booleanTarget.set(row, in.readBoolean());
+                }
+                break;
+            case INT:
+                if (target instanceof IntTarget) {
+                    final IntTarget intTarget = (IntTarget) target;
+                    return (in, row) -> intTarget.set(row, in.readInt());
+                }
+                if (target instanceof LongTarget) {
+                    final LongTarget longTarget = (LongTarget) target;
+                    return (in, row) -> longTarget.set(row, in.readInt());
+                }
+                if (target instanceof FloatTarget) {
+                    final FloatTarget floatTarget = (FloatTarget) target;
+                    return (in, row) -> floatTarget.set(row, in.readInt());
+                }
+                if (target instanceof DoubleTarget) {
+                    final DoubleTarget doubleTarget = (DoubleTarget) target;
+                    return (in, row) -> doubleTarget.set(row, in.readInt());
+                }
+                break;
+            case LONG:
+                if (target instanceof LongTarget) {
+                    final LongTarget longTarget = (LongTarget) target;
+                    return (in, row) -> longTarget.set(row, in.readLong());
+                }
+                if (target instanceof FloatTarget) {
+                    final FloatTarget floatTarget = (FloatTarget) target;
+                    return (in, row) -> floatTarget.set(row, in.readLong());
+                }
+                if (target instanceof DoubleTarget) {
+                    final DoubleTarget doubleTarget = (DoubleTarget) target;
+                    return (in, row) -> doubleTarget.set(row, in.readLong());
+                }
+                break;
+            case FLOAT:
+                if (target instanceof FloatTarget) {
+                    final FloatTarget floatTarget = (FloatTarget) target;
+                    return (in, row) -> floatTarget.set(row, in.readFloat());
+                }
+                if (target instanceof DoubleTarget) {
+                    final DoubleTarget doubleTarget = (DoubleTarget) target;
+                    return (in, row) -> doubleTarget.set(row, in.readFloat());
+                }
+                break;
+            case DOUBLE:
+                if (target instanceof DoubleTarget) {
+                    final DoubleTarget doubleTarget = (DoubleTarget) target;
+                    return (in, row) -> doubleTarget.set(row, in.readDouble());
+                }
+                break;
+            case STRING:
+                if (target instanceof StringTarget) {
+                    final StringTarget stringTarget = (StringTarget) target;
+                    return (in, row) -> stringTarget.set(row, in.readString());
+                }
+                break;
+            case ENUM:
+                if (target instanceof StringTarget) {
+                    final StringTarget stringTarget = (StringTarget) target;
+                    final String[] symbols = writerSchema.getEnumSymbols().toArray(String[]::new);
+                    return (in, row) -> stringTarget.set(row, symbols[in.readEnum()]);
+                }
+                break;
+        }
+        throw new IllegalArgumentException("Can not decode Avro " + writerSchema.getType() + " at " + path
+                + " into column of type " + target.getClass().getSimpleName());
+    }
+
+    private static void setNull(final Target[] targets, final int row) {
+        for (final Target target : targets) {
+            target.setNull(row);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void read(BinaryDecoder in, int row) throws IOException;
+    }
+
+    private static final class PathNode {
+        private final Map<String, PathNode> children = new LinkedHashMap<>();
+        private Target target;
+
+        private void add(final String[] fieldPath, final int depth, final Target target) {
+            if (depth == fieldPath.length) {
+                this.target = target;
+                return;
+            }
+            children.computeIfAbsent(fieldPath[depth], name -> new PathNode()).add(fieldPath, depth + 1, target);
+        }
+
+        private void collectTargets(final List<Target> out) {
+            if (target != null) {
+                out.add(target);
+            }
+            children.values().forEach(child -> child.collectTargets(out));
+        }
+
+        private Target[] targets() {
+            final List<Target> out = new ArrayList<>();
+            collectTargets(out);
+            return out.toArray(Target[]::new);
+        }
+    }
+
+    private abstract static class Target {
+        final int columnIndex;
+        int offset;
+
+        private Target(final int columnIndex) {
+            this.columnIndex = columnIndex;
+        }
+
+        abstract void setOutput(WritableChunk<Values> publisherChunk, int offset);
+
+        abstract void setNull(int row);
+    }
+
+    private static final class BooleanTarget extends Target {
+        private WritableByteChunk<Values> output;
+
+        private BooleanTarget(final int columnIndex) {
+            super(columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableByteChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_BOOLEAN_AS_BYTE);
+        }
+
+        private void set(final int row, final boolean value) {
+            output.set(offset + row, BooleanUtils.booleanAsByte(value));
+        }
+    }
+
+    private static final class IntTarget extends Target {
+        private WritableIntChunk<Values> output;
+
+        private IntTarget(final int columnIndex) {
+            super(columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableIntChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_INT);
+        }
+
+        private void set(final int row, final int value) {
+            output.set(offset + row, value);
+        }
+    }
+
+    private static final class LongTarget extends Target {
+        private final long multiplier;
+        private WritableLongChunk<Values> output;
+
+        private LongTarget(final int columnIndex, final long multiplier) {
+            super(columnIndex);
+            this.multiplier = multiplier;
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableLongChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_LONG);
+        }
+
+        private void set(final int row, final long value) {
+            output.set(offset + row, value * multiplier);
+        }
+    }
+
+    private static final class FloatTarget extends Target {
+        private WritableFloatChunk<Values> output;
+
+        private FloatTarget(final int columnIndex) {
+            super(columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableFloatChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_FLOAT);
+        }
+
+        private void set(final int row, final float value) {
+            output.set(offset + row, value);
+        }
+    }
+
+    private static final class DoubleTarget extends Target {
+        private WritableDoubleChunk<Values> output;
+
+        private DoubleTarget(final int columnIndex) {
+            super(columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableDoubleChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_DOUBLE);
+        }
+
+        private void set(final int row, final double value) {
+            output.set(offset + row, value);
+        }
+    }
+
+    private static final class StringTarget extends Target {
+        private WritableObjectChunk<Object, Values> output;
+
+        private StringTarget(final int columnIndex) {
+            super(columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableObjectChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, null);
+        }
+
+        private void set(final int row, final String value) {
+            output.set(offset + row, value);
+        }
+    }
+}
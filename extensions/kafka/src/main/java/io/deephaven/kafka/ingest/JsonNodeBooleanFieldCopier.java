@@ -30,34 +30,40 @@ public class JsonNodeBooleanFieldCopier implements FieldCopier {
         for (int ii = 0; ii < length; ++ii) {
             final JsonNode node = (JsonNode) inputChunk.get(ii + sourceOffset);
             final String valueAsString = JsonNodeUtil.getString(node, fieldPointer, true, true);
-            final Boolean valueAsBoolean;
-            if (valueAsString == null) {
-                valueAsBoolean = null;
-            } else {
-                switch(valueAsString.trim()) {
-                    case "TRUE":
-                    case "True":
-                    case "true":
-                    case "T":
-                    case "t":
-                    case "1":
-                        valueAsBoolean = Boolean.TRUE;
-                        break;
-                    case "FALSE":
-                    case "False":
-                    case "false":
-                    case "F":
-                    case "f":
-                        valueAsBoolean = Boolean.FALSE;
-                        break;
-                    case "":
-                        valueAsBoolean = null;
-                        break;
-                    default:
-                        throw new UncheckedDeephavenException("value " + valueAsString + " not recognized as Boolean for field " + fieldPointer);
-                }
-            }
+            final Boolean valueAsBoolean = parseBoolean(valueAsString, fieldPointer);
             output.set(ii + destOffset, BooleanUtils.booleanAsByte(valueAsBoolean));
         }
     }
+
+    /**
+     * Parse a JSON value's text as a Boolean.
+     *
+     * @param valueAsString the value's text, or null if the value was null or missing
+     * @param field the field, for error messages
+     * @return the parsed value, or null for null, missing, or empty values
+     */
+    static Boolean parseBoolean(final String valueAsString, final Object field) {
+        if (valueAsString == null) {
+            return null;
+        }
+        switch(valueAsString.trim()) {
+            case "TRUE":
+            case "True":
+            case "true":
+            case "T":
+            case "t":
+            case "1":
+                return Boolean.TRUE;
+            case "FALSE":
+            case "False":
+            case "false":
+            case "F":
+            case "f":
+                return Boolean.FALSE;
+            case "":
+                return null;
+            default:
+                throw new UncheckedDeephavenException("value " + valueAsString + " not recognized as Boolean for field " + field);
+        }
+    }
 }
@@ -0,0 +1,723 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableByteChunk;
+import io.deephaven.chunk.WritableCharChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableFloatChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.WritableShortChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link KeyOrValueProcessor} for JSON strings that reads each record with a streaming {@link JsonParser}, rather
+ * than parsing it into a {@link JsonNode} tree and then looking up each field in the tree.
+ * <p>
+ * The JSON pointers for all fields are compiled into a tree of path segments at construction. Values at mapped paths
+ * are converted directly into the publisher chunks, and values at unmapped paths are skipped without being
+ * materialized. Trees are only built for values that must be delivered as trees or rendered as strings (objects and
+ * arrays), and for values that are both mapped themselves and contain other mapped fields. Conversions produce the same
+ * results as {@link JsonNodeChunkAdapter} with the default object mapper.
+ */
+public class JsonParserChunkAdapter implements KeyOrValueProcessor {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setNodeFactory(JsonNodeFactory.withExactBigDecimals(true))
+            .configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+
+    private final boolean allowNulls;
+    private final PathNode root;
+    private final Field[] fields;
+
+    private JsonParserChunkAdapter(
+            final TableDefinition definition,
+            final IntFunction<ChunkType> chunkTypeForIndex,
+            final Map<String, String> jsonPointerStrToColumnNames,
+            final boolean allowNulls) {
+        this.allowNulls = allowNulls;
+
+        final String[] columnNames = definition.getColumnNamesArray();
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+
+        final TObjectIntMap<String> deephavenColumnNameToIndex = new TObjectIntHashMap<>(columnNames.length, 0.5f, -1);
+        for (int ii = 0; ii < columnNames.length; ++ii) {
+            deephavenColumnNameToIndex.put(columnNames[ii], ii);
+        }
+
+        root = new PathNode(0);
+        fields = new Field[jsonPointerStrToColumnNames.size()];
+        int fi = 0;
+        for (final Map.Entry<String, String> fieldToColumn : jsonPointerStrToColumnNames.entrySet()) {
+            final String columnName = fieldToColumn.getValue();
+            final int deephavenColumnIndex = deephavenColumnNameToIndex.get(columnName);
+            if (deephavenColumnIndex == deephavenColumnNameToIndex.getNoEntryValue()) {
+                throw new IllegalArgumentException("Column not found in Deephaven table: " + deephavenColumnIndex);
+            }
+            final ColumnDefinition<?> colDef = columns.get(deephavenColumnIndex);
+            final JsonPointer pointer = JsonPointer.compile(fieldToColumn.getKey());
+            final Field field = makeField(pointer, deephavenColumnIndex,
+                    chunkTypeForIndex.apply(deephavenColumnIndex), colDef.getDataType());
+            fields[fi++] = field;
+            root.add(pointer, field);
+        }
+    }
+
+    /**
+     * Create a JsonParserChunkAdapter.
+     *
+     * @param definition the definition of the output table
+     * @param chunkTypeForIndex a function from column index to chunk type
+     * @param jsonPointerStrToColumnNames a map from JSON pointer strings to Deephaven column names
+     * @param allowNulls true if null records should be allowed, if false then an ISE is thrown
+     * @return a JsonParserChunkAdapter for the given definition and column mapping
+     */
+    public static JsonParserChunkAdapter make(
+            final TableDefinition definition,
+            final IntFunction<ChunkType> chunkTypeForIndex,
+            final Map<String, String> jsonPointerStrToColumnNames,
+            final boolean allowNulls) {
+        return new JsonParserChunkAdapter(
+                definition, chunkTypeForIndex, jsonPointerStrToColumnNames, allowNulls);
+    }
+
+    private static Field makeField(
+            final JsonPointer pointer, final int columnIndex, final ChunkType chunkType, final Class<?> dataType) {
+        switch (chunkType) {
+            case Char:
+                return new CharField(pointer, columnIndex);
+            case Byte:
+                if (dataType == Boolean.class) {
+                    return new BooleanField(pointer, columnIndex);
+                }
+                return new ByteField(pointer, columnIndex);
+            case Short:
+                return new ShortField(pointer, columnIndex);
+            case Int:
+                return new IntField(pointer, columnIndex);
+            case Long:
+                if (dataType == Instant.class) {
+                    return new InstantField(pointer, columnIndex);
+                }
+                return new LongField(pointer, columnIndex);
+            case Float:
+                return new FloatField(pointer, columnIndex);
+            case Double:
+                return new DoubleField(pointer, columnIndex);
+            case Object:
+                if (dataType == String.class) {
+                    return new StringField(pointer, columnIndex);
+                }
+                if (dataType.isAssignableFrom(JsonNode.class)) {
+                    return new JsonNodeField(pointer, columnIndex);
+                }
+                throw new UncheckedDeephavenException("Type " + dataType.getSimpleName() + " not supported for JSON");
+        }
+        throw new IllegalArgumentException("Can not convert field of type " + dataType);
+    }
+
+    @Override
+    public void handleChunk(ObjectChunk<Object, Values> inputChunk, WritableChunk<Values>[] publisherChunks) {
+        if (!allowNulls) {
+            for (int ii = 0; ii < inputChunk.size(); ++ii) {
+                if (inputChunk.get(ii) == null) {
+                    throw new KafkaIngesterException("Null records are not permitted");
+                }
+            }
+        }
+        for (final Field field : fields) {
+            final WritableChunk<Values> publisherChunk = publisherChunks[field.columnIndex];
+            final int existingSize = publisherChunk.size();
+            publisherChunk.setSize(existingSize + inputChunk.size());
+            field.setOutput(publisherChunk, existingSize);
+        }
+        for (int ii = 0; ii < inputChunk.size(); ++ii) {
+            final Object record = inputChunk.get(ii);
+            if (record == null) {
+                for (final Field field : fields) {
+                    field.copyFromNode(null, ii);
+                }
+                continue;
+            }
+            final String json;
+            try {
+                json = (String) record;
+            } catch (ClassCastException ex) {
+                throw new UncheckedDeephavenException("Could not convert input to json string", ex);
+            }
+            for (final Field field : fields) {
+                field.written = false;
+            }
+            try (final JsonParser parser = OBJECT_MAPPER.createParser(json)) {
+                if (parser.nextToken() != null) {
+                    processValue(parser, root, ii);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedDeephavenException("Failed to parse JSON string.", ex);
+            }
+            for (final Field field : fields) {
+                if (!field.written) {
+                    field.copyFromNode(MissingNode.getInstance(), ii);
+                }
+            }
+        }
+    }
+
+    /**
+     * Process the value at the parser's current token, whose path is {@code node}'s path, leaving the parser at the
+     * last token of the value.
+     */
+    private static void processValue(
+            @NotNull final JsonParser parser, @NotNull final PathNode node, final int recordIndex) throws IOException {
+        if (node.field != null) {
+            if (node.isLeaf()) {
+                node.field.copyFromParser(parser, recordIndex);
+                return;
+            }
+            // Fields map to both this value and values inside it, so we need the tree for this value
+            final JsonNode tree = readTree(parser);
+            for (final Field field : node.subtreeFields) {
+                field.copyFromNode(tree.at(field.relativePointer(node.depth)), recordIndex);
+            }
+            return;
+        }
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final PathNode child = node.propertyChildren.get(parser.getCurrentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    processValue(parser, child, recordIndex);
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                final PathNode child = node.indexChildren.get(index++);
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    processValue(parser, child, recordIndex);
+                }
+            }
+        }
+        // Scalar values at interior paths contain none of our fields
+    }
+
+    private static JsonNode readTree(@NotNull final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return NullNode.getInstance();
+        }
+        return parser.readValueAsTree();
+    }
+
+    /**
+     * A node in the tree of path segments compiled from our fields' JSON pointers.
+     */
+    private static final class PathNode {
+        private final int depth;
+        private final Map<String, PathNode> propertyChildren = new HashMap<>();
+        private final TIntObjectMap<PathNode> indexChildren = new TIntObjectHashMap<>();
+        /**
+         * All fields at or below this node, in the order they were added.
+         */
+        private final List<Field> subtreeFields = new ArrayList<>();
+        @Nullable
+        private Field field;
+
+        private PathNode(final int depth) {
+            this.depth = depth;
+        }
+
+        private boolean isLeaf() {
+            return propertyChildren.isEmpty();
+        }
+
+        private void add(@NotNull final JsonPointer remaining, @NotNull final Field toAdd) {
+            subtreeFields.add(toAdd);
+            if (remaining.matches()) {
+                field = toAdd;
+                return;
+            }
+            final String property = remaining.getMatchingProperty();
+            PathNode child = propertyChildren.get(property);
+            if (child == null) {
+                child = new PathNode(depth + 1);
+                propertyChildren.put(property, child);
+                // As with JsonNode.at, a segment that is a valid index also matches that element of an array
+                final int index = remaining.getMatchingIndex();
+                if (index >= 0) {
+                    indexChildren.put(index, child);
+                }
+            }
+            child.add(remaining.tail(), toAdd);
+        }
+    }
+
+    /**
+     * Converts the value for one JSON pointer into one output chunk.
+     */
+    private abstract static class Field {
+        private final JsonPointer pointer;
+        private final int columnIndex;
+        /**
+         * The output offset for the first record of the current input chunk.
+         */
+        int destOffset;
+        /**
+         * Whether we have written this field for the current record.
+         */
+        boolean written;
+
+        private Field(@NotNull final JsonPointer pointer, final int columnIndex) {
+            this.pointer = pointer;
+            this.columnIndex = columnIndex;
+        }
+
+        private JsonPointer relativePointer(final int depth) {
+            JsonPointer relative = pointer;
+            for (int ii = 0; ii < depth; ++ii) {
+                relative = relative.tail();
+            }
+            return relative;
+        }
+
+        private void setOutput(@NotNull final WritableChunk<Values> publisherChunk, final int destOffset) {
+            this.destOffset = destOffset;
+            setOutputChunk(publisherChunk);
+        }
+
+        /**
+         * Copy the value at the parser's current token, leaving the parser at the last token of the value.
+         */
+        private void copyFromParser(@NotNull final JsonParser parser, final int recordIndex) throws IOException {
+            final JsonToken token = parser.currentToken();
+            if (token.isScalarValue() && token != JsonToken.VALUE_NULL && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                copyScalar(parser, token, destOffset + recordIndex);
+            } else {
+                copyNode(readTree(parser), destOffset + recordIndex);
+            }
+            written = true;
+        }
+
+        /**
+         * Copy a value from a tree, as {@link JsonNodeChunkAdapter} would.
+         *
+         * @param node the value, a {@link MissingNode} if the record does not contain it, or null if the record is
+         *        null
+         */
+        private void copyFromNode(@Nullable final JsonNode node, final int recordIndex) {
+            copyNode(node, destOffset + recordIndex);
+            written = true;
+        }
+
+        abstract void setOutputChunk(@NotNull WritableChunk<Values> publisherChunk);
+
+        abstract void copyScalar(@NotNull JsonParser parser, @NotNull JsonToken token, int outIdx)
+                throws IOException;
+
+        abstract void copyNode(@Nullable JsonNode node, int outIdx);
+
+        @Override
+        public String toString() {
+            return pointer.toString();
+        }
+    }
+
+    // region scalar conversions matching JsonNode.asXxx() for the node types produced by OBJECT_MAPPER
+
+    private static int asInt(@NotNull final JsonParser parser, @NotNull final JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return (int) parser.getLongValue();
+                    default:
+                        return parser.getBigIntegerValue().intValue();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue().intValue();
+            case VALUE_STRING:
+                return NumberInput.parseAsInt(parser.getText(), 0);
+            case VALUE_TRUE:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    private static long asLong(@NotNull final JsonParser parser, @NotNull final JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        return parser.getBigIntegerValue().longValue();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue().longValue();
+            case VALUE_STRING:
+                return NumberInput.parseAsLong(parser.getText(), 0);
+            case VALUE_TRUE:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    private static double asDouble(@NotNull final JsonParser parser, @NotNull final JsonToken token)
+            throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_STRING:
+                return NumberInput.parseAsDouble(parser.getText(), 0.0);
+            case VALUE_TRUE:
+                return 1.0;
+            default:
+                return 0.0;
+        }
+    }
+
+    private static String asText(@NotNull final JsonParser parser, @NotNull final JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return Integer.toString(parser.getIntValue());
+                    case LONG:
+                        return Long.toString(parser.getLongValue());
+                    default:
+                        return parser.getBigIntegerValue().toString();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue().toString();
+            default:
+                return parser.getText();
+        }
+    }
+
+    // endregion scalar conversions
+
+    private static final class CharField extends Field {
+        private WritableCharChunk<Values> output;
+
+        private CharField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableCharChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            final String text = asText(parser, token);
+            output.set(outIdx, text.isEmpty() ? QueryConstants.NULL_CHAR : text.charAt(0));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getChar(node));
+        }
+    }
+
+    private static final class ByteField extends Field {
+        private WritableByteChunk<Values> output;
+
+        private ByteField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableByteChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            final byte[] bytes = asText(parser, token).getBytes();
+            output.set(outIdx, bytes.length == 0 ? QueryConstants.NULL_BYTE : bytes[0]);
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getByte(node));
+        }
+    }
+
+    private static final class BooleanField extends Field {
+        private WritableByteChunk<Values> output;
+
+        private BooleanField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableByteChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            final Boolean value;
+            if (token == JsonToken.VALUE_TRUE) {
+                value = Boolean.TRUE;
+            } else if (token == JsonToken.VALUE_FALSE) {
+                value = Boolean.FALSE;
+            } else {
+                value = JsonNodeBooleanFieldCopier.parseBoolean(asText(parser, token), this);
+            }
+            output.set(outIdx, BooleanUtils.booleanAsByte(value));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, BooleanUtils.booleanAsByte(
+                    JsonNodeBooleanFieldCopier.parseBoolean(JsonNodeUtil.getString(node), this)));
+        }
+    }
+
+    private static final class ShortField extends Field {
+        private WritableShortChunk<Values> output;
+
+        private ShortField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableShortChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, (short) asInt(parser, token));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getShort(node));
+        }
+    }
+
+    private static final class IntField extends Field {
+        private WritableIntChunk<Values> output;
+
+        private IntField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableIntChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, asInt(parser, token));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getInt(node));
+        }
+    }
+
+    private static final class LongField extends Field {
+        private WritableLongChunk<Values> output;
+
+        private LongField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableLongChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, asLong(parser, token));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getLong(node));
+        }
+    }
+
+    private static final class InstantField extends Field {
+        private WritableLongChunk<Values> output;
+
+        private InstantField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableLongChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                output.set(outIdx, DateTimeUtils.epochAutoToEpochNanos(parser.getLongValue()));
+            } else {
+                output.set(outIdx, DateTimeUtils.epochNanos(DateTimeUtils.parseInstant(asText(parser, token))));
+            }
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, DateTimeUtils.epochNanos(JsonNodeUtil.getInstant(node)));
+        }
+    }
+
+    private static final class FloatField extends Field {
+        private WritableFloatChunk<Values> output;
+
+        private FloatField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableFloatChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, (float) asDouble(parser, token));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getFloat(node));
+        }
+    }
+
+    private static final class DoubleField extends Field {
+        private WritableDoubleChunk<Values> output;
+
+        private DoubleField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableDoubleChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, asDouble(parser, token));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getDouble(node));
+        }
+    }
+
+    private static final class StringField extends Field {
+        private WritableObjectChunk<Object, Values> output;
+
+        private StringField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableObjectChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, asText(parser, token));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            output.set(outIdx, JsonNodeUtil.getString(node));
+        }
+    }
+
+    private static final class JsonNodeField extends Field {
+        private WritableObjectChunk<Object, Values> output;
+
+        private JsonNodeField(@NotNull final JsonPointer pointer, final int columnIndex) {
+            super(pointer, columnIndex);
+        }
+
+        @Override
+        void setOutputChunk(@NotNull final WritableChunk<Values> publisherChunk) {
+            output = publisherChunk.asWritableObjectChunk();
+        }
+
+        @Override
+        void copyScalar(@NotNull final JsonParser parser, @NotNull final JsonToken token, final int outIdx)
+                throws IOException {
+            output.set(outIdx, readTree(parser));
+        }
+
+        @Override
+        void copyNode(@Nullable final JsonNode node, final int outIdx) {
+            // As in JsonNodeJsonNodeFieldCopier, missing and null values are delivered as MissingNode and NullNode
+            output.set(outIdx, node);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.kafka.KafkaTools.ConsumerLoopCallback;
 import io.deephaven.kafka.KafkaTools.InitialOffsetLookup;
 import io.deephaven.util.annotations.InternalUseOnly;
+import io.deephaven.util.annotations.VisibleForTesting;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -27,15 +29,30 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.IntToLongFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * An ingester that consumes an Apache Kafka topic and a subset of its partitions via one or more
  * {@link KafkaRecordConsumer stream consumers}.
  *
  * <p>
+ * By default, records are handed to their stream consumers on the thread that polls the Kafka consumer. If
+ * {@code KafkaIngester.decoderThreads} is configured to be positive, record batches are instead handed to a pool of
+ * decoder threads, each of which owns a subset of the partitions and consumes their batches in order. The poll thread
+ * then only polls (and deserializes). Decoders run in parallel only up to their stream consumers: partitions published
+ * to separate tables, as with a per-partition table, copy concurrently, but partitions that share a single table's
+ * publisher serialize on it, so their copying is no faster than on one thread. The queues between the poll thread and
+ * the decoders are bounded by {@code KafkaIngester.decoderQueueCapacity} batches, so a slow decoder applies backpressure
+ * to polling.
+ *
+ * <p>
  * This class is an internal implementation detail for io.deephaven.kafka; is not intended to be used directly by client
  * code. It lives in a separate package as a means of code organization.
  */
@@ -45,12 +62,17 @@ public class KafkaIngester {
             KafkaIngester.class, "reportIntervalMs", 60_000);
     private static final long MAX_ERRS = Configuration.getInstance().getLongForClassWithDefault(
             KafkaIngester.class, "maxErrs", 0);
+    private static final int DECODER_THREADS = Configuration.getInstance().getIntegerForClassWithDefault(
+            KafkaIngester.class, "decoderThreads", 0);
+    private static final int DECODER_QUEUE_CAPACITY = Configuration.getInstance().getIntegerForClassWithDefault(
+            KafkaIngester.class, "decoderQueueCapacity", 16);
+    private static final long DECODER_WAIT_MS = 100;
 
     private final Logger log;
     private final String topic;
     private final String partitionDescription;
     private final String logPrefix;
-    private final KafkaConsumer<?, ?> kafkaConsumer;
+    private final Consumer<?, ?> kafkaConsumer;
 
     private final TIntObjectHashMap<KafkaRecordConsumer> streamConsumers = new TIntObjectHashMap<>();
     private final KeyedIntObjectHashMap<TopicPartition> assignedPartitions =
@@ -62,18 +84,26 @@ public class KafkaIngester {
             });
 
     @Nullable
-    private final ConsumerLoopCallback consumerLoopCallback;
+    private final PollCallback pollCallback;
+
+    /**
+     * The decoders that consume record batches off the poll thread, or null if batches are consumed inline.
+     */
+    @Nullable
+    private final Decoder[] decoders;
 
-    private long messagesProcessed = 0;
-    private long bytesProcessed = 0;
+    private final AtomicLong messagesProcessed = new AtomicLong();
+    private final AtomicLong bytesProcessed = new AtomicLong();
     private long pollCalls = 0;
-    private long messagesWithErr = 0;
+    private final AtomicLong messagesWithErr = new AtomicLong();
     private long lastMessages = 0;
     private long lastBytes = 0;
     private long lastPollCalls = 0;
 
     private volatile boolean needsAssignment;
     private volatile boolean done;
+    private volatile boolean decodersDone;
+    private volatile boolean decoderFailed;
 
     /**
      * Constant predicate that returns true for all partitions. This is the default, each and every partition that
@@ -205,14 +235,75 @@ public class KafkaIngester {
             @NotNull final Deserializer<?> keyDeserializer,
             @NotNull final Deserializer<?> valueDeserializer,
             @Nullable final ConsumerLoopCallback consumerLoopCallback) {
+        this(log,
+                new KafkaConsumer<>(props,
+                        Objects.requireNonNull(keyDeserializer),
+                        Objects.requireNonNull(valueDeserializer)),
+                topic, partitionFilter, partitionToStreamConsumer, partitionToInitialSeekOffset, consumerLoopCallback);
+    }
+
+    private KafkaIngester(
+            @NotNull final Logger log,
+            @NotNull final KafkaConsumer<?, ?> kafkaConsumer,
+            @NotNull final String topic,
+            @NotNull final IntPredicate partitionFilter,
+            @NotNull final Function<TopicPartition, KafkaRecordConsumer> partitionToStreamConsumer,
+            @NotNull final InitialOffsetLookup partitionToInitialSeekOffset,
+            @Nullable final ConsumerLoopCallback consumerLoopCallback) {
+        this(log, (Consumer<?, ?>) kafkaConsumer, topic, partitionFilter, partitionToStreamConsumer,
+                topicPartition -> partitionToInitialSeekOffset.getInitialOffset(kafkaConsumer, topicPartition),
+                consumerLoopCallback == null ? null : new PollCallback() {
+                    @Override
+                    public void beforePoll() {
+                        consumerLoopCallback.beforePoll(kafkaConsumer);
+                    }
+
+                    @Override
+                    public void afterPoll(final boolean more) {
+                        consumerLoopCallback.afterPoll(kafkaConsumer, more);
+                    }
+                },
+                DECODER_THREADS);
+    }
+
+    /**
+     * A {@link ConsumerLoopCallback} bound to the consumer that is polled.
+     */
+    @VisibleForTesting
+    interface PollCallback {
+        void beforePoll();
+
+        void afterPoll(boolean more);
+    }
+
+    /**
+     * Creates a Kafka ingester for the given topic that polls an existing consumer.
+     *
+     * @param log A log for output
+     * @param kafkaConsumer The consumer to poll; the ingester takes ownership, and closes it when done
+     * @param topic The topic to replicate
+     * @param partitionFilter A predicate indicating which partitions we should replicate
+     * @param partitionToStreamConsumer A function implementing a mapping from partition to its consumer of records
+     * @param partitionToInitialSeekOffset A function implementing a mapping from partition to its initial seek offset
+     * @param pollCallback the consumer loop callback, bound to {@code kafkaConsumer}
+     * @param decoderThreads The number of decoder threads, or zero to consume records on the poll thread
+     */
+    @VisibleForTesting
+    KafkaIngester(
+            @NotNull final Logger log,
+            @NotNull final Consumer<?, ?> kafkaConsumer,
+            @NotNull final String topic,
+            @NotNull final IntPredicate partitionFilter,
+            @NotNull final Function<TopicPartition, KafkaRecordConsumer> partitionToStreamConsumer,
+            @NotNull final ToLongFunction<TopicPartition> partitionToInitialSeekOffset,
+            @Nullable final PollCallback pollCallback,
+            final int decoderThreads) {
         this.log = log;
         this.topic = topic;
         partitionDescription = partitionFilter.toString();
         logPrefix = KafkaIngester.class.getSimpleName() + "(" + topic + ", " + partitionDescription + "): ";
-        kafkaConsumer = new KafkaConsumer<>(props,
-                Objects.requireNonNull(keyDeserializer),
-                Objects.requireNonNull(valueDeserializer));
-        this.consumerLoopCallback = consumerLoopCallback;
+        this.kafkaConsumer = kafkaConsumer;
+        this.pollCallback = pollCallback;
 
         kafkaConsumer.partitionsFor(topic).stream().filter(pi -> partitionFilter.test(pi.partition()))
                 .map(pi -> new TopicPartition(topic, pi.partition()))
@@ -223,8 +314,7 @@ public class KafkaIngester {
         assign();
 
         for (final TopicPartition topicPartition : assignedPartitions) {
-            final long seekOffset =
-                    partitionToInitialSeekOffset.getInitialOffset(kafkaConsumer, topicPartition);
+            final long seekOffset = partitionToInitialSeekOffset.applyAsLong(topicPartition);
             if (seekOffset == SEEK_TO_BEGINNING) {
                 log.info().append(logPrefix).append(topicPartition.toString()).append(" seeking to beginning.")
                         .append(seekOffset).endl();
@@ -239,6 +329,16 @@ public class KafkaIngester {
                 kafkaConsumer.seek(topicPartition, seekOffset);
             }
         }
+
+        final int numDecoders = Math.min(decoderThreads, assignedPartitions.size());
+        if (numDecoders > 0) {
+            decoders = new Decoder[numDecoders];
+            for (int di = 0; di < numDecoders; ++di) {
+                decoders[di] = new Decoder(di);
+            }
+        } else {
+            decoders = null;
+        }
     }
 
     private void assign() {
@@ -261,6 +361,13 @@ public class KafkaIngester {
      * This method must not be called more than once on an ingester instance.
      */
     public void start() {
+        if (decoders != null) {
+            for (final Decoder decoder : decoders) {
+                final Thread dt = new Thread(decoder, this + "-decoder-" + decoder.decoderIndex);
+                dt.setDaemon(true);
+                dt.start();
+            }
+        }
         final Thread t = new Thread(this::consumerLoop, this.toString());
         t.setDaemon(true);
         t.start();
@@ -287,9 +394,9 @@ public class KafkaIngester {
             final long remainingNanos = beforePoll > nextReport ? 0 : (nextReport - beforePoll);
 
             boolean more = true;
-            if (consumerLoopCallback != null) {
+            if (pollCallback != null) {
                 try {
-                    consumerLoopCallback.beforePoll(kafkaConsumer);
+                    pollCallback.beforePoll();
                 } catch (Exception e) {
                     log.error().append(logPrefix).append("Exception while executing beforePoll callback:").append(e)
                             .append(", aborting.").endl();
@@ -299,9 +406,9 @@ public class KafkaIngester {
             }
             if (more) {
                 more = pollOnce(Duration.ofNanos(remainingNanos));
-                if (consumerLoopCallback != null) {
+                if (pollCallback != null) {
                     try {
-                        consumerLoopCallback.afterPoll(kafkaConsumer, more);
+                        pollCallback.afterPoll(more);
                     } catch (Exception e) {
                         log.error().append(logPrefix).append("Exception while executing afterPoll callback:").append(e)
                                 .append(", aborting.").endl();
@@ -312,15 +419,18 @@ public class KafkaIngester {
             }
             if (!more) {
                 log.error().append(logPrefix)
-                        .append("Stopping due to errors (").append(messagesWithErr)
-                        .append(" messages with error out of ").append(messagesProcessed).append(" messages processed)")
+                        .append("Stopping due to errors (").append(messagesWithErr.get())
+                        .append(" messages with error out of ").append(messagesProcessed.get())
+                        .append(" messages processed)")
                         .endl();
                 break;
             }
             final long afterPoll = System.nanoTime();
             if (afterPoll > nextReport) {
-                final long periodMessages = messagesProcessed - lastMessages;
-                final long periodBytes = bytesProcessed - lastBytes;
+                final long currentMessages = messagesProcessed.get();
+                final long currentBytes = bytesProcessed.get();
+                final long periodMessages = currentMessages - lastMessages;
+                final long periodBytes = currentBytes - lastBytes;
                 final long periodPolls = pollCalls - lastPollCalls;
                 final long periodNanos = afterPoll - lastReportNanos;
                 log.info().append(logPrefix)
@@ -335,11 +445,12 @@ public class KafkaIngester {
                         .endl();
                 lastReportNanos = afterPoll;
                 nextReport = lastReportNanos + reportIntervalNanos;
-                lastMessages = messagesProcessed;
-                lastBytes = bytesProcessed;
+                lastMessages = currentMessages;
+                lastBytes = currentBytes;
                 lastPollCalls = pollCalls;
             }
         }
+        decodersDone = true;
         log.info().append(logPrefix).append("Closing Kafka consumer").endl();
         kafkaConsumer.close();
     }
@@ -349,6 +460,9 @@ public class KafkaIngester {
      * @return True if we should continue processing messages; false if we should abort the consumer thread.
      */
     private boolean pollOnce(final Duration timeout) {
+        if (decoderFailed) {
+            return false;
+        }
         final ConsumerRecords<?, ?> records;
         try {
             ++pollCalls;
@@ -379,30 +493,134 @@ public class KafkaIngester {
                 continue;
             }
 
-            try {
-                bytesProcessed += streamConsumer.consume(partitionRecords);
-            } catch (Throwable ex) {
-                ++messagesWithErr;
-                log.error().append(logPrefix).append("Exception while processing Kafka message:").append(ex).endl();
-                /*
-                 * TODO (https://github.com/deephaven/deephaven-core/issues/4147): If we ignore any errors, we may have
-                 * misaligned chunks due to partially consumed records. Harden the record-parsing code against this
-                 * scenario.
-                 */
-                if (messagesWithErr > MAX_ERRS) {
-                    log.error().append(logPrefix)
-                            .append("Max number of errors exceeded, aborting " + this + " consumer thread.")
-                            .endl();
-                    streamConsumer.acceptFailure(ex);
+            if (decoders == null) {
+                if (!consumeRecords(streamConsumer, partitionRecords)) {
                     return false;
                 }
-                continue;
+            } else if (!decoders[Math.floorMod(partition, decoders.length)]
+                    .enqueue(new RecordBatch(partition, streamConsumer, partitionRecords))) {
+                return false;
             }
-            messagesProcessed += partitionRecords.size();
         }
         return true;
     }
 
+    /**
+     * Hand a batch of records from a single partition to its stream consumer.
+     *
+     * @param streamConsumer The stream consumer for the records' partition
+     * @param partitionRecords The records to consume
+     * @return True if we should continue processing messages; false if we should abort the consumer thread.
+     */
+    private boolean consumeRecords(
+            @NotNull final KafkaRecordConsumer streamConsumer,
+            @NotNull final List<? extends ConsumerRecord<?, ?>> partitionRecords) {
+        try {
+            bytesProcessed.addAndGet(streamConsumer.consume(partitionRecords));
+        } catch (Throwable ex) {
+            final long errs = messagesWithErr.incrementAndGet();
+            log.error().append(logPrefix).append("Exception while processing Kafka message:").append(ex).endl();
+            /*
+             * TODO (https://github.com/deephaven/deephaven-core/issues/4147): If we ignore any errors, we may have
+             * misaligned chunks due to partially consumed records. Harden the record-parsing code against this
+             * scenario.
+             */
+            if (errs > MAX_ERRS) {
+                log.error().append(logPrefix)
+                        .append("Max number of errors exceeded, aborting " + this + " consumer thread.")
+                        .endl();
+                streamConsumer.acceptFailure(ex);
+                return false;
+            }
+            return true;
+        }
+        messagesProcessed.addAndGet(partitionRecords.size());
+        return true;
+    }
+
+    /**
+     * The records polled for a single partition, waiting to be consumed by a {@link Decoder}.
+     */
+    private static final class RecordBatch {
+        private final int partition;
+        private final KafkaRecordConsumer streamConsumer;
+        private final List<? extends ConsumerRecord<?, ?>> records;
+
+        private RecordBatch(
+                final int partition,
+                @NotNull final KafkaRecordConsumer streamConsumer,
+                @NotNull final List<? extends ConsumerRecord<?, ?>> records) {
+            this.partition = partition;
+            this.streamConsumer = streamConsumer;
+            this.records = records;
+        }
+    }
+
+    /**
+     * A worker that owns the partitions mapped to its index, and consumes their record batches in the order they were
+     * polled.
+     */
+    private final class Decoder implements Runnable {
+        private final int decoderIndex;
+        private final BlockingQueue<RecordBatch> queue = new ArrayBlockingQueue<>(DECODER_QUEUE_CAPACITY);
+
+        private Decoder(final int decoderIndex) {
+            this.decoderIndex = decoderIndex;
+        }
+
+        /**
+         * Enqueue a batch for this decoder, waiting for space if the queue is full.
+         *
+         * @param batch The batch to enqueue
+         * @return True if we should continue processing messages; false if we should abort the consumer thread.
+         */
+        private boolean enqueue(@NotNull final RecordBatch batch) {
+            try {
+                while (!queue.offer(batch, DECODER_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                    if (decoderFailed) {
+                        return false;
+                    }
+                    if (done) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                log.error().append(logPrefix).append("Interrupted while waiting for decoder ").append(decoderIndex)
+                        .append(", aborting.").endl();
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            while (!decodersDone) {
+                final RecordBatch batch;
+                try {
+                    batch = queue.poll(DECODER_WAIT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    log.error().append(logPrefix).append("Decoder ").append(decoderIndex).append(" interrupted")
+                            .endl();
+                    return;
+                }
+                if (batch == null) {
+                    continue;
+                }
+                synchronized (streamConsumers) {
+                    if (streamConsumers.get(batch.partition) != batch.streamConsumer) {
+                        // The partition was shut down after this batch was polled
+                        continue;
+                    }
+                }
+                if (!consumeRecords(batch.streamConsumer, batch.records)) {
+                    decoderFailed = true;
+                    return;
+                }
+            }
+        }
+    }
+
     private void notifyAllConsumersOnFailure(Exception ex) {
         final KafkaRecordConsumer[] allConsumers;
         synchronized (streamConsumers) {
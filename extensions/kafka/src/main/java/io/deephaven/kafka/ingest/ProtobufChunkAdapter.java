@@ -0,0 +1,656 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.WireFormat;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableByteChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableFloatChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.type.ArrayTypeUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link KeyOrValueProcessor} for Protobuf encoded messages, that decodes each message directly into the publisher
+ * chunks with a {@link CodedInputStream}, rather than parsing it into a {@link com.google.protobuf.DynamicMessage} and
+ * then looking up each field.
+ * <p>
+ * The mapped field paths are compiled into a tree of per-message field tables at construction. Fields of nested
+ * messages are flattened into columns, and {@code google.protobuf.Timestamp} fields are decoded as {@link Instant}
+ * columns. Unsigned 32 bit fields are widened into {@code long} columns. Fields that are not mapped are skipped
+ * without being decoded. Fields that are absent from a message produce nulls if the field tracks presence, and the
+ * field's default value otherwise; all fields of an absent nested message produce nulls. As in the Protobuf library, a
+ * singular message field that occurs more than once in a record is merged, rather than replaced by its last occurrence.
+ */
+public class ProtobufChunkAdapter implements KeyOrValueProcessor {
+    private final boolean allowNulls;
+    private final MessageNode root;
+    private final Field[] fields;
+
+    private ProtobufChunkAdapter(
+            final TableDefinition definition,
+            final IntFunction<ChunkType> chunkTypeForIndex,
+            final Map<String, String> fieldPathToColumnNames,
+            final Pattern separator,
+            final Descriptor descriptor,
+            final boolean allowNulls) {
+        this.allowNulls = allowNulls;
+
+        final String[] columnNames = definition.getColumnNamesArray();
+        final List<ColumnDefinition<?>> columns = definition.getColumns();
+
+        final TObjectIntMap<String> deephavenColumnNameToIndex = new TObjectIntHashMap<>(columnNames.length, 0.5f, -1);
+        for (int ii = 0; ii < columnNames.length; ++ii) {
+            deephavenColumnNameToIndex.put(columnNames[ii], ii);
+        }
+
+        root = new MessageNode();
+        fields = new Field[fieldPathToColumnNames.size()];
+        int fi = 0;
+        for (final Map.Entry<String, String> fieldToColumn : fieldPathToColumnNames.entrySet()) {
+            final String columnName = fieldToColumn.getValue();
+            final int deephavenColumnIndex = deephavenColumnNameToIndex.get(columnName);
+            if (deephavenColumnIndex == deephavenColumnNameToIndex.getNoEntryValue()) {
+                throw new IllegalArgumentException("Column not found in Deephaven table: " + columnName);
+            }
+            final String fieldPathStr = fieldToColumn.getKey();
+            final String[] fieldPath = GenericRecordUtil.getFieldPath(fieldPathStr, separator);
+            MessageNode node = root;
+            Descriptor messageType = descriptor;
+            for (int pi = 0; pi < fieldPath.length - 1; ++pi) {
+                final FieldDescriptor nestedField = findField(messageType, fieldPath, pi);
+                if (nestedField.getJavaType() != FieldDescriptor.JavaType.MESSAGE || nestedField.isRepeated()) {
+                    throw new IllegalArgumentException(
+                            "Field " + nestedField.getFullName() + " is not a singular message field in path "
+                                    + fieldPathStr);
+                }
+                node = node.child(nestedField);
+                messageType = nestedField.getMessageType();
+            }
+            final FieldDescriptor leafField = findField(messageType, fieldPath, fieldPath.length - 1);
+            if (leafField.isRepeated()) {
+                throw new IllegalArgumentException("Repeated field " + leafField.getFullName()
+                        + " can not be mapped to a column");
+            }
+            final Field field = makeField(leafField, deephavenColumnIndex,
+                    chunkTypeForIndex.apply(deephavenColumnIndex), columns.get(deephavenColumnIndex).getDataType());
+            node.add(field);
+            fields[fi++] = field;
+        }
+        root.finish();
+    }
+
+    /**
+     * Create a ProtobufChunkAdapter.
+     *
+     * @param definition the definition of the output table
+     * @param chunkTypeForIndex a function from column index to chunk type
+     * @param fieldPathToColumnNames a map from Protobuf field paths to Deephaven column names
+     * @param separator separator for composite fields names
+     * @param descriptor the descriptor for the message type
+     * @param allowNulls true if null records should be allowed, if false then an ISE is thrown
+     * @return a ProtobufChunkAdapter for the given definition and column mapping
+     */
+    public static ProtobufChunkAdapter make(
+            @NotNull final TableDefinition definition,
+            @NotNull final IntFunction<ChunkType> chunkTypeForIndex,
+            @NotNull final Map<String, String> fieldPathToColumnNames,
+            @NotNull final Pattern separator,
+            @NotNull final Descriptor descriptor,
+            final boolean allowNulls) {
+        return new ProtobufChunkAdapter(
+                definition, chunkTypeForIndex, fieldPathToColumnNames, separator, descriptor, allowNulls);
+    }
+
+    private static FieldDescriptor findField(final Descriptor messageType, final String[] fieldPath, final int depth) {
+        final FieldDescriptor field = messageType.findFieldByName(fieldPath[depth]);
+        if (field == null) {
+            throw new IllegalArgumentException("Can't find field for path "
+                    + Arrays.toString(Arrays.copyOf(fieldPath, depth + 1)));
+        }
+        return field;
+    }
+
+    private static Field makeField(
+            final FieldDescriptor fieldDescriptor,
+            final int columnIndex,
+            final ChunkType chunkType,
+            final Class<?> dataType) {
+        switch (fieldDescriptor.getType()) {
+            case INT32:
+                checkType(fieldDescriptor, chunkType, ChunkType.Int);
+                return new IntField(fieldDescriptor, columnIndex, CodedInputStream::readInt32);
+            case SINT32:
+                checkType(fieldDescriptor, chunkType, ChunkType.Int);
+                return new IntField(fieldDescriptor, columnIndex, CodedInputStream::readSInt32);
+            case SFIXED32:
+                checkType(fieldDescriptor, chunkType, ChunkType.Int);
+                return new IntField(fieldDescriptor, columnIndex, CodedInputStream::readSFixed32);
+            case UINT32:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, in -> Integer.toUnsignedLong(in.readUInt32()));
+            case FIXED32:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, in -> Integer.toUnsignedLong(in.readFixed32()));
+            case INT64:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, CodedInputStream::readInt64);
+            case SINT64:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, CodedInputStream::readSInt64);
+            case SFIXED64:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, CodedInputStream::readSFixed64);
+            case UINT64:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, CodedInputStream::readUInt64);
+            case FIXED64:
+                checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                return new LongField(fieldDescriptor, columnIndex, CodedInputStream::readFixed64);
+            case FLOAT:
+                checkType(fieldDescriptor, chunkType, ChunkType.Float);
+                return new FloatField(fieldDescriptor, columnIndex);
+            case DOUBLE:
+                checkType(fieldDescriptor, chunkType, ChunkType.Double);
+                return new DoubleField(fieldDescriptor, columnIndex);
+            case BOOL:
+                checkType(fieldDescriptor, chunkType, ChunkType.Byte);
+                return new BooleanField(fieldDescriptor, columnIndex);
+            case STRING:
+                checkType(fieldDescriptor, chunkType, ChunkType.Object);
+                return new ObjectField(fieldDescriptor, columnIndex, "", CodedInputStream::readString);
+            case ENUM: {
+                checkType(fieldDescriptor, chunkType, ChunkType.Object);
+                final EnumDescriptor enumType = fieldDescriptor.getEnumType();
+                return new ObjectField(fieldDescriptor, columnIndex, enumType.getValues().get(0).getName(), in -> {
+                    final int number = in.readEnum();
+                    final EnumValueDescriptor value = enumType.findValueByNumber(number);
+                    return value == null ? Integer.toString(number) : value.getName();
+                });
+            }
+            case BYTES:
+                checkType(fieldDescriptor, chunkType, ChunkType.Object);
+                return new ObjectField(fieldDescriptor, columnIndex, ArrayTypeUtils.EMPTY_BYTE_ARRAY,
+                        CodedInputStream::readByteArray);
+            case MESSAGE:
+                if (Timestamp.getDescriptor().getFullName().equals(fieldDescriptor.getMessageType().getFullName())
+                        && dataType == Instant.class) {
+                    checkType(fieldDescriptor, chunkType, ChunkType.Long);
+                    return new TimestampField(fieldDescriptor, columnIndex);
+                }
+                break;
+        }
+        throw new IllegalArgumentException("Can not decode field " + fieldDescriptor.getFullName() + " of type "
+                + fieldDescriptor.getType() + " into column of type " + dataType.getSimpleName());
+    }
+
+    private static void checkType(
+            final FieldDescriptor fieldDescriptor, final ChunkType actual, final ChunkType expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Can not decode field " + fieldDescriptor.getFullName() + " of type "
+                    + fieldDescriptor.getType() + " into column with chunk type " + actual);
+        }
+    }
+
+    @Override
+    public void handleChunk(ObjectChunk<Object, Values> inputChunk, WritableChunk<Values>[] publisherChunks) {
+        if (!allowNulls) {
+            for (int ii = 0; ii < inputChunk.size(); ++ii) {
+                if (inputChunk.get(ii) == null) {
+                    throw new KafkaIngesterException("Null records are not permitted");
+                }
+            }
+        }
+        for (final Field field : fields) {
+            final WritableChunk<Values> publisherChunk = publisherChunks[field.columnIndex];
+            final int existingSize = publisherChunk.size();
+            publisherChunk.setSize(existingSize + inputChunk.size());
+            field.setOutput(publisherChunk, existingSize);
+        }
+        for (int ii = 0; ii < inputChunk.size(); ++ii) {
+            final Object record = inputChunk.get(ii);
+            for (final Field field : fields) {
+                field.setNull(ii);
+            }
+            if (record == null) {
+                continue;
+            }
+            final byte[] bytes;
+            try {
+                bytes = (byte[]) record;
+            } catch (ClassCastException ex) {
+                throw new UncheckedDeephavenException("Could not convert input to Protobuf bytes", ex);
+            }
+            try {
+                root.startRecord();
+                root.applyDefaults(ii);
+                root.readMessage(CodedInputStream.newInstance(bytes), ii);
+            } catch (IOException | RuntimeException ex) {
+                throw new UncheckedDeephavenException("Failed to decode Protobuf message.", ex);
+            }
+        }
+    }
+
+    private interface FieldReader {
+        /**
+         * @return the wire type this reader expects; values of other wire types are skipped
+         */
+        int wireType();
+
+        void read(CodedInputStream in, int row) throws IOException;
+    }
+
+    /**
+     * The mapped fields and nested messages of one message type.
+     */
+    private static final class MessageNode {
+        private final TIntObjectMap<FieldReader> readers = new TIntObjectHashMap<>();
+        private final List<Field> implicitFields = new ArrayList<>();
+        private Field[] implicitFieldsArray;
+        private MessageNode[] children;
+        /** Whether {@link #applyDefaults} has been called for the current record. */
+        private boolean defaultsApplied;
+
+        private MessageNode child(final FieldDescriptor fieldDescriptor) {
+            final FieldReader existing = readers.get(fieldDescriptor.getNumber());
+            if (existing != null) {
+                return ((NestedReader) existing).node;
+            }
+            final NestedReader nested = new NestedReader(new MessageNode());
+            readers.put(fieldDescriptor.getNumber(), nested);
+            return nested.node;
+        }
+
+        private void add(final Field field) {
+            readers.put(field.fieldDescriptor.getNumber(), field);
+            if (!field.fieldDescriptor.hasPresence()) {
+                implicitFields.add(field);
+            }
+        }
+
+        private void finish() {
+            implicitFieldsArray = implicitFields.toArray(Field[]::new);
+            final List<MessageNode> childList = new ArrayList<>();
+            for (final FieldReader reader : readers.valueCollection()) {
+                if (reader instanceof NestedReader) {
+                    final MessageNode child = ((NestedReader) reader).node;
+                    child.finish();
+                    childList.add(child);
+                }
+            }
+            children = childList.toArray(MessageNode[]::new);
+        }
+
+        /**
+         * Prepare this node and its descendants to decode a new record.
+         */
+        private void startRecord() {
+            defaultsApplied = false;
+            for (final MessageNode child : children) {
+                child.startRecord();
+            }
+        }
+
+        /**
+         * Set the fields without presence to their default values, the first time this message is present in the
+         * current record. Later occurrences of the message are merged into the values read from earlier ones.
+         */
+        private void applyDefaults(final int row) {
+            if (defaultsApplied) {
+                return;
+            }
+            defaultsApplied = true;
+            // Fields without presence are never absent, they have their default value
+            for (final Field field : implicitFieldsArray) {
+                field.setDefault(row);
+            }
+        }
+
+        private void readMessage(final CodedInputStream in, final int row) throws IOException {
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                final FieldReader reader = readers.get(WireFormat.getTagFieldNumber(tag));
+                if (reader == null || reader.wireType() != WireFormat.getTagWireType(tag)) {
+                    in.skipField(tag);
+                    continue;
+                }
+                reader.read(in, row);
+            }
+        }
+    }
+
+    private static final class NestedReader implements FieldReader {
+        private final MessageNode node;
+
+        private NestedReader(final MessageNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public int wireType() {
+            return WireFormat.WIRETYPE_LENGTH_DELIMITED;
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            final int length = in.readRawVarint32();
+            final int oldLimit = in.pushLimit(length);
+            node.applyDefaults(row);
+            node.readMessage(in, row);
+            in.checkLastTagWas(0);
+            in.popLimit(oldLimit);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntReader {
+        int read(CodedInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface LongReader {
+        long read(CodedInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ObjectReader {
+        Object read(CodedInputStream in) throws IOException;
+    }
+
+    private abstract static class Field implements FieldReader {
+        final FieldDescriptor fieldDescriptor;
+        final int columnIndex;
+        private final int wireType;
+        int offset;
+
+        private Field(final FieldDescriptor fieldDescriptor, final int columnIndex) {
+            this.fieldDescriptor = fieldDescriptor;
+            this.columnIndex = columnIndex;
+            this.wireType = fieldDescriptor.getLiteType().getWireType();
+        }
+
+        @Override
+        public int wireType() {
+            return wireType;
+        }
+
+        abstract void setOutput(WritableChunk<Values> publisherChunk, int offset);
+
+        abstract void setNull(int row);
+
+        abstract void setDefault(int row);
+    }
+
+    private static final class IntField extends Field {
+        private final IntReader reader;
+        private WritableIntChunk<Values> output;
+
+        private IntField(final FieldDescriptor fieldDescriptor, final int columnIndex, final IntReader reader) {
+            super(fieldDescriptor, columnIndex);
+            this.reader = reader;
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableIntChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_INT);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            output.set(offset + row, 0);
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            output.set(offset + row, reader.read(in));
+        }
+    }
+
+    private static final class LongField extends Field {
+        private final LongReader reader;
+        private WritableLongChunk<Values> output;
+
+        private LongField(final FieldDescriptor fieldDescriptor, final int columnIndex, final LongReader reader) {
+            super(fieldDescriptor, columnIndex);
+            this.reader = reader;
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableLongChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_LONG);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            output.set(offset + row, 0L);
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            output.set(offset + row, reader.read(in));
+        }
+    }
+
+    private static final class FloatField extends Field {
+        private WritableFloatChunk<Values> output;
+
+        private FloatField(final FieldDescriptor fieldDescriptor, final int columnIndex) {
+            super(fieldDescriptor, columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableFloatChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_FLOAT);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            output.set(offset + row, 0f);
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            output.set(offset + row, in.readFloat());
+        }
+    }
+
+    private static final class DoubleField extends Field {
+        private WritableDoubleChunk<Values> output;
+
+        private DoubleField(final FieldDescriptor fieldDescriptor, final int columnIndex) {
+            super(fieldDescriptor, columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableDoubleChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_DOUBLE);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            output.set(offset + row, 0d);
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            output.set(offset + row, in.readDouble());
+        }
+    }
+
+    private static final class BooleanField extends Field {
+        private WritableByteChunk<Values> output;
+
+        private BooleanField(final FieldDescriptor fieldDescriptor, final int columnIndex) {
+            super(fieldDescriptor, columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableByteChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_BOOLEAN_AS_BYTE);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            output.set(offset + row, BooleanUtils.FALSE_BOOLEAN_AS_BYTE);
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            output.set(offset + row, BooleanUtils.booleanAsByte(in.readBool()));
+        }
+    }
+
+    private static final class ObjectField extends Field {
+        private final Object defaultValue;
+        private final ObjectReader reader;
+        private WritableObjectChunk<Object, Values> output;
+
+        private ObjectField(
+                final FieldDescriptor fieldDescriptor,
+                final int columnIndex,
+                final Object defaultValue,
+                final ObjectReader reader) {
+            super(fieldDescriptor, columnIndex);
+            this.defaultValue = defaultValue;
+            this.reader = reader;
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableObjectChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, null);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            output.set(offset + row, defaultValue);
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            output.set(offset + row, reader.read(in));
+        }
+    }
+
+    private static final class TimestampField extends Field {
+        private static final int SECONDS_TAG = tag(Timestamp.SECONDS_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+        private static final int NANOS_TAG = tag(Timestamp.NANOS_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+
+        private WritableLongChunk<Values> output;
+
+        private TimestampField(final FieldDescriptor fieldDescriptor, final int columnIndex) {
+            super(fieldDescriptor, columnIndex);
+        }
+
+        @Override
+        void setOutput(final WritableChunk<Values> publisherChunk, final int offset) {
+            output = publisherChunk.asWritableLongChunk();
+            this.offset = offset;
+        }
+
+        @Override
+        void setNull(final int row) {
+            output.set(offset + row, QueryConstants.NULL_LONG);
+        }
+
+        @Override
+        void setDefault(final int row) {
+            // Message fields always track presence
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public void read(final CodedInputStream in, final int row) throws IOException {
+            final int length = in.readRawVarint32();
+            final int oldLimit = in.pushLimit(length);
+            // A repeated occurrence of the field is merged into the previous one
+            final long previous = output.get(offset + row);
+            long seconds = previous == QueryConstants.NULL_LONG ? 0 : Math.floorDiv(previous, 1_000_000_000L);
+            int nanos = previous == QueryConstants.NULL_LONG ? 0 : (int) Math.floorMod(previous, 1_000_000_000L);
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                if (tag == SECONDS_TAG) {
+                    seconds = in.readInt64();
+                } else if (tag == NANOS_TAG) {
+                    nanos = in.readInt32();
+                } else {
+                    in.skipField(tag);
+                }
+            }
+            in.checkLastTagWas(0);
+            in.popLimit(oldLimit);
+            output.set(offset + row, seconds * 1_000_000_000L + nanos);
+        }
+
+        private static int tag(final int fieldNumber, final int wireType) {
+            // Tags hold the field number above the three wire type bits
+            return (fieldNumber << 3) | wireType;
+        }
+    }
+}
@@ -0,0 +1,597 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.publish;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.WireFormat;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link KeyOrValueSerializer} that encodes rows as Protobuf messages, writing each column value directly with a
+ * {@link CodedOutputStream} rather than building a {@link com.google.protobuf.DynamicMessage} per row.
+ * <p>
+ * Columns are mapped to (possibly nested) singular fields of the message type by field path. Null column values are
+ * omitted from the message, and nested messages whose fields are all null are omitted entirely. {@link Instant}
+ * columns may be written to {@code google.protobuf.Timestamp} fields.
+ */
+public class ProtobufKeyOrValueSerializer implements KeyOrValueSerializer<byte[]> {
+    private final MessageWriter root = new MessageWriter(0);
+    private final List<LeafWriter> leaves = new ArrayList<>();
+
+    public ProtobufKeyOrValueSerializer(
+            @NotNull final Table source,
+            @NotNull final Descriptor descriptor,
+            @NotNull final String[] columnNames,
+            @NotNull final String[] fieldPaths,
+            @NotNull final Pattern separator) {
+        if (fieldPaths.length != columnNames.length) {
+            throw new IllegalArgumentException(
+                    "fieldPaths.length (" + fieldPaths.length + ") != columnNames.length (" + columnNames.length
+                            + ")");
+        }
+        for (int ci = 0; ci < columnNames.length; ++ci) {
+            final String[] fieldPath = separator.split(fieldPaths[ci]);
+            MessageWriter parent = root;
+            Descriptor messageType = descriptor;
+            for (int pi = 0; pi < fieldPath.length - 1; ++pi) {
+                final FieldDescriptor nestedField = findField(messageType, fieldPath[pi], fieldPaths[ci]);
+                if (nestedField.getJavaType() != FieldDescriptor.JavaType.MESSAGE || nestedField.isRepeated()) {
+                    throw new IllegalArgumentException("Field " + nestedField.getFullName()
+                            + " is not a singular message field in path " + fieldPaths[ci]);
+                }
+                parent = parent.child(nestedField.getNumber());
+                messageType = nestedField.getMessageType();
+            }
+            final FieldDescriptor leafField = findField(messageType, fieldPath[fieldPath.length - 1], fieldPaths[ci]);
+            if (leafField.isRepeated()) {
+                throw new IllegalArgumentException("Repeated field " + leafField.getFullName()
+                        + " can not be written from a column");
+            }
+            final ColumnSource<?> columnSource = source.getColumnSource(columnNames[ci]);
+            final LeafWriter leaf = makeLeafWriter(leafField, columnSource, leaves.size(), columnNames[ci]);
+            leaves.add(leaf);
+            parent.add(leaf);
+        }
+        root.finish();
+    }
+
+    private static FieldDescriptor findField(
+            final Descriptor messageType, final String fieldName, final String fieldPath) {
+        final FieldDescriptor field = messageType.findFieldByName(fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("Can't find field " + fieldName + " for path " + fieldPath
+                    + " in message type " + messageType.getFullName());
+        }
+        return field;
+    }
+
+    private static LeafWriter makeLeafWriter(
+            final FieldDescriptor field,
+            final ColumnSource<?> columnSource,
+            final int leafIndex,
+            final String columnName) {
+        final int number = field.getNumber();
+        final Class<?> type = columnSource.getType();
+        final ColumnSource<?> primitiveSource = ReinterpretUtils.maybeConvertToPrimitive(columnSource);
+        if (type == int.class || type == long.class) {
+            final IntegralEncoder encoder = IntegralEncoder.forType(field.getType());
+            if (encoder != null) {
+                return type == int.class
+                        ? new IntWriter(number, leafIndex, primitiveSource, encoder)
+                        : new LongWriter(number, leafIndex, primitiveSource, encoder);
+            }
+        } else if (type == float.class || type == double.class) {
+            if (field.getType() == FieldDescriptor.Type.FLOAT || field.getType() == FieldDescriptor.Type.DOUBLE) {
+                return new FloatingWriter(number, leafIndex, primitiveSource,
+                        field.getType() == FieldDescriptor.Type.FLOAT);
+            }
+        } else if (type == Boolean.class) {
+            if (field.getType() == FieldDescriptor.Type.BOOL) {
+                return new BooleanWriter(number, leafIndex, primitiveSource);
+            }
+        } else if (type == Instant.class) {
+            if (field.getJavaType() == FieldDescriptor.JavaType.MESSAGE
+                    && Timestamp.getDescriptor().getFullName().equals(field.getMessageType().getFullName())) {
+                return new TimestampWriter(number, leafIndex, primitiveSource);
+            }
+        } else if (type == String.class) {
+            if (field.getType() == FieldDescriptor.Type.STRING) {
+                return new StringWriter(number, leafIndex, columnSource);
+            }
+            if (field.getType() == FieldDescriptor.Type.ENUM) {
+                return new EnumWriter(number, leafIndex, columnSource, field.getEnumType());
+            }
+        } else if (type == byte[].class) {
+            if (field.getType() == FieldDescriptor.Type.BYTES) {
+                return new BytesWriter(number, leafIndex, columnSource);
+            }
+        }
+        throw new IllegalArgumentException("Can not write column " + columnName + " of type "
+                + type.getSimpleName() + " to field " + field.getFullName() + " of type " + field.getType());
+    }
+
+    @Override
+    public ObjectChunk<byte[], Values> handleChunk(
+            @NotNull final Context context,
+            @NotNull final RowSequence rowSequence,
+            final boolean previous) {
+        final ProtobufContext protobufContext = (ProtobufContext) context;
+        final Chunk<? extends Values>[] chunks = protobufContext.chunks;
+        for (final LeafWriter leaf : leaves) {
+            final ChunkSource.GetContext getContext = protobufContext.getContexts[leaf.leafIndex];
+            chunks[leaf.leafIndex] = previous
+                    ? leaf.source.getPrevChunk(getContext, rowSequence)
+                    : leaf.source.getChunk(getContext, rowSequence);
+        }
+        final WritableObjectChunk<byte[], Values> outputChunk = protobufContext.outputChunk;
+        outputChunk.setSize(0);
+        final int size = rowSequence.intSize();
+        for (int ii = 0; ii < size; ++ii) {
+            final byte[] message = new byte[root.computeFieldsSize(chunks, ii)];
+            final CodedOutputStream out = CodedOutputStream.newInstance(message);
+            try {
+                root.writeFields(out, chunks, ii);
+                out.checkNoSpaceLeft();
+            } catch (IOException e) {
+                throw new KafkaPublisherException("Failed to write Protobuf message", e);
+            }
+            outputChunk.add(message);
+        }
+        return outputChunk;
+    }
+
+    @Override
+    public Context makeContext(int size) {
+        return new ProtobufContext(size);
+    }
+
+    private final class ProtobufContext implements Context {
+        private final WritableObjectChunk<byte[], Values> outputChunk;
+        private final ChunkSource.GetContext[] getContexts;
+        private final Chunk<? extends Values>[] chunks;
+
+        private ProtobufContext(final int size) {
+            outputChunk = WritableObjectChunk.makeWritableChunk(size);
+            getContexts = new ChunkSource.GetContext[leaves.size()];
+            for (final LeafWriter leaf : leaves) {
+                getContexts[leaf.leafIndex] = leaf.source.makeGetContext(size);
+            }
+            // noinspection unchecked
+            chunks = new Chunk[leaves.size()];
+        }
+
+        @Override
+        public void close() {
+            outputChunk.close();
+            SafeCloseable.closeAll(getContexts);
+        }
+    }
+
+    private abstract static class FieldWriter {
+        final int number;
+
+        private FieldWriter(final int number) {
+            this.number = number;
+        }
+
+        /**
+         * @return the encoded size of this field for row {@code ii}, including its tag, or 0 if it is omitted
+         */
+        abstract int computeSize(Chunk<? extends Values>[] chunks, int ii);
+
+        /**
+         * Write this field for row {@code ii}, or nothing if it is omitted. Must follow a call to
+         * {@link #computeSize} for the same row.
+         */
+        abstract void write(CodedOutputStream out, Chunk<? extends Values>[] chunks, int ii) throws IOException;
+    }
+
+    private static final class MessageWriter extends FieldWriter {
+        private final List<FieldWriter> fieldsList = new ArrayList<>();
+        private FieldWriter[] fields;
+        /** The size of the fields for the row most recently passed to {@link #computeFieldsSize}. */
+        private int fieldsSize;
+
+        private MessageWriter(final int number) {
+            super(number);
+        }
+
+        private MessageWriter child(final int childNumber) {
+            for (final FieldWriter field : fieldsList) {
+                if (field.number == childNumber) {
+                    return (MessageWriter) field;
+                }
+            }
+            final MessageWriter child = new MessageWriter(childNumber);
+            fieldsList.add(child);
+            return child;
+        }
+
+        private void add(final FieldWriter field) {
+            for (final FieldWriter existing : fieldsList) {
+                if (existing.number == field.number) {
+                    throw new IllegalArgumentException("Field number " + field.number + " is mapped more than once");
+                }
+            }
+            fieldsList.add(field);
+        }
+
+        private void finish() {
+            // Write fields in field number order, as the Protobuf library does
+            fieldsList.sort(Comparator.comparingInt(field -> field.number));
+            fields = fieldsList.toArray(FieldWriter[]::new);
+            for (final FieldWriter field : fields) {
+                if (field instanceof MessageWriter) {
+                    ((MessageWriter) field).finish();
+                }
+            }
+        }
+
+        private int computeFieldsSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            int size = 0;
+            for (final FieldWriter field : fields) {
+                size += field.computeSize(chunks, ii);
+            }
+            return fieldsSize = size;
+        }
+
+        private void writeFields(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            for (final FieldWriter field : fields) {
+                field.write(out, chunks, ii);
+            }
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final int size = computeFieldsSize(chunks, ii);
+            if (size == 0) {
+                // All of the nested fields are null, so we omit the message
+                return 0;
+            }
+            return CodedOutputStream.computeTagSize(number) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            if (fieldsSize == 0) {
+                return;
+            }
+            out.writeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(fieldsSize);
+            writeFields(out, chunks, ii);
+        }
+    }
+
+    private abstract static class LeafWriter extends FieldWriter {
+        final int leafIndex;
+        final ColumnSource<?> source;
+
+        private LeafWriter(final int number, final int leafIndex, final ColumnSource<?> source) {
+            super(number);
+            this.leafIndex = leafIndex;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Size and write functions for one of the integral field types.
+     */
+    private static final class IntegralEncoder {
+        @FunctionalInterface
+        private interface Sizer {
+            int computeSize(int number, long value);
+        }
+
+        @FunctionalInterface
+        private interface Writer {
+            void write(CodedOutputStream out, int number, long value) throws IOException;
+        }
+
+        private final Sizer sizer;
+        private final Writer writer;
+
+        private IntegralEncoder(final Sizer sizer, final Writer writer) {
+            this.sizer = sizer;
+            this.writer = writer;
+        }
+
+        private static IntegralEncoder forType(final FieldDescriptor.Type type) {
+            switch (type) {
+                case INT32:
+                    return new IntegralEncoder(
+                            (number, value) -> CodedOutputStream.computeInt32Size(number, (int) value),
+                            (out, number, value) -> out.writeInt32(number, (int) value));
+                case SINT32:
+                    return new IntegralEncoder(
+                            (number, value) -> CodedOutputStream.computeSInt32Size(number, (int) value),
+                            (out, number, value) -> out.writeSInt32(number, (int) value));
+                case SFIXED32:
+                    return new IntegralEncoder(
+                            (number, value) -> CodedOutputStream.computeSFixed32Size(number, (int) value),
+                            (out, number, value) -> out.writeSFixed32(number, (int) value));
+                case UINT32:
+                    return new IntegralEncoder(
+                            (number, value) -> CodedOutputStream.computeUInt32Size(number, (int) value),
+                            (out, number, value) -> out.writeUInt32(number, (int) value));
+                case FIXED32:
+                    return new IntegralEncoder(
+                            (number, value) -> CodedOutputStream.computeFixed32Size(number, (int) value),
+                            (out, number, value) -> out.writeFixed32(number, (int) value));
+                case INT64:
+                    return new IntegralEncoder(CodedOutputStream::computeInt64Size, CodedOutputStream::writeInt64);
+                case SINT64:
+                    return new IntegralEncoder(CodedOutputStream::computeSInt64Size, CodedOutputStream::writeSInt64);
+                case SFIXED64:
+                    return new IntegralEncoder(
+                            CodedOutputStream::computeSFixed64Size, CodedOutputStream::writeSFixed64);
+                case UINT64:
+                    return new IntegralEncoder(CodedOutputStream::computeUInt64Size, CodedOutputStream::writeUInt64);
+                case FIXED64:
+                    return new IntegralEncoder(CodedOutputStream::computeFixed64Size, CodedOutputStream::writeFixed64);
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static final class IntWriter extends LeafWriter {
+        private final IntegralEncoder encoder;
+
+        private IntWriter(final int number, final int leafIndex, final ColumnSource<?> source,
+                final IntegralEncoder encoder) {
+            super(number, leafIndex, source);
+            this.encoder = encoder;
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final int value = chunks[leafIndex].asIntChunk().get(ii);
+            return value == QueryConstants.NULL_INT ? 0 : encoder.sizer.computeSize(number, value);
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final int value = chunks[leafIndex].asIntChunk().get(ii);
+            if (value != QueryConstants.NULL_INT) {
+                encoder.writer.write(out, number, value);
+            }
+        }
+    }
+
+    private static final class LongWriter extends LeafWriter {
+        private final IntegralEncoder encoder;
+
+        private LongWriter(final int number, final int leafIndex, final ColumnSource<?> source,
+                final IntegralEncoder encoder) {
+            super(number, leafIndex, source);
+            this.encoder = encoder;
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final long value = chunks[leafIndex].asLongChunk().get(ii);
+            return value == QueryConstants.NULL_LONG ? 0 : encoder.sizer.computeSize(number, value);
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final long value = chunks[leafIndex].asLongChunk().get(ii);
+            if (value != QueryConstants.NULL_LONG) {
+                encoder.writer.write(out, number, value);
+            }
+        }
+    }
+
+    private static final class FloatingWriter extends LeafWriter {
+        private final boolean isFloatField;
+        private final boolean isFloatColumn;
+
+        private FloatingWriter(final int number, final int leafIndex, final ColumnSource<?> source,
+                final boolean isFloatField) {
+            super(number, leafIndex, source);
+            this.isFloatField = isFloatField;
+            this.isFloatColumn = source.getType() == float.class;
+        }
+
+        private double get(final Chunk<? extends Values>[] chunks, final int ii) {
+            if (isFloatColumn) {
+                final float value = chunks[leafIndex].asFloatChunk().get(ii);
+                return value == QueryConstants.NULL_FLOAT ? QueryConstants.NULL_DOUBLE : value;
+            }
+            return chunks[leafIndex].asDoubleChunk().get(ii);
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            if (get(chunks, ii) == QueryConstants.NULL_DOUBLE) {
+                return 0;
+            }
+            return isFloatField
+                    ? CodedOutputStream.computeFloatSize(number, 0f)
+                    : CodedOutputStream.computeDoubleSize(number, 0d);
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final double value = get(chunks, ii);
+            if (value == QueryConstants.NULL_DOUBLE) {
+                return;
+            }
+            if (isFloatField) {
+                out.writeFloat(number, (float) value);
+            } else {
+                out.writeDouble(number, value);
+            }
+        }
+    }
+
+    private static final class BooleanWriter extends LeafWriter {
+        private BooleanWriter(final int number, final int leafIndex, final ColumnSource<?> source) {
+            super(number, leafIndex, source);
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final byte value = chunks[leafIndex].asByteChunk().get(ii);
+            return value == QueryConstants.NULL_BOOLEAN_AS_BYTE ? 0 : CodedOutputStream.computeBoolSize(number, false);
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final byte value = chunks[leafIndex].asByteChunk().get(ii);
+            if (value != QueryConstants.NULL_BOOLEAN_AS_BYTE) {
+                out.writeBool(number, BooleanUtils.byteAsBoolean(value));
+            }
+        }
+    }
+
+    private static final class TimestampWriter extends LeafWriter {
+        private TimestampWriter(final int number, final int leafIndex, final ColumnSource<?> source) {
+            super(number, leafIndex, source);
+        }
+
+        private static long seconds(final long epochNanos) {
+            return Math.floorDiv(epochNanos, 1_000_000_000L);
+        }
+
+        private static int nanos(final long epochNanos) {
+            return (int) Math.floorMod(epochNanos, 1_000_000_000L);
+        }
+
+        private static int computeMessageSize(final long epochNanos) {
+            return CodedOutputStream.computeInt64Size(Timestamp.SECONDS_FIELD_NUMBER, seconds(epochNanos))
+                    + CodedOutputStream.computeInt32Size(Timestamp.NANOS_FIELD_NUMBER, nanos(epochNanos));
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final long value = chunks[leafIndex].asLongChunk().get(ii);
+            if (value == QueryConstants.NULL_LONG) {
+                return 0;
+            }
+            final int messageSize = computeMessageSize(value);
+            return CodedOutputStream.computeTagSize(number) + CodedOutputStream.computeUInt32SizeNoTag(messageSize)
+                    + messageSize;
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final long value = chunks[leafIndex].asLongChunk().get(ii);
+            if (value == QueryConstants.NULL_LONG) {
+                return;
+            }
+            out.writeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(computeMessageSize(value));
+            out.writeInt64(Timestamp.SECONDS_FIELD_NUMBER, seconds(value));
+            out.writeInt32(Timestamp.NANOS_FIELD_NUMBER, nanos(value));
+        }
+    }
+
+    private static final class StringWriter extends LeafWriter {
+        private StringWriter(final int number, final int leafIndex, final ColumnSource<?> source) {
+            super(number, leafIndex, source);
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final Object value = chunks[leafIndex].asObjectChunk().get(ii);
+            return value == null ? 0 : CodedOutputStream.computeStringSize(number, (String) value);
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final Object value = chunks[leafIndex].asObjectChunk().get(ii);
+            if (value != null) {
+                out.writeString(number, (String) value);
+            }
+        }
+    }
+
+    private static final class EnumWriter extends LeafWriter {
+        private final EnumDescriptor enumType;
+
+        private EnumWriter(final int number, final int leafIndex, final ColumnSource<?> source,
+                final EnumDescriptor enumType) {
+            super(number, leafIndex, source);
+            this.enumType = enumType;
+        }
+
+        private int enumNumber(final String name) {
+            final EnumValueDescriptor value = enumType.findValueByName(name);
+            if (value == null) {
+                throw new KafkaPublisherException(
+                        "Value " + name + " is not a member of enum " + enumType.getFullName());
+            }
+            return value.getNumber();
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final Object value = chunks[leafIndex].asObjectChunk().get(ii);
+            return value == null ? 0 : CodedOutputStream.computeEnumSize(number, enumNumber((String) value));
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final Object value = chunks[leafIndex].asObjectChunk().get(ii);
+            if (value != null) {
+                out.writeEnum(number, enumNumber((String) value));
+            }
+        }
+    }
+
+    private static final class BytesWriter extends LeafWriter {
+        private BytesWriter(final int number, final int leafIndex, final ColumnSource<?> source) {
+            super(number, leafIndex, source);
+        }
+
+        @Override
+        int computeSize(final Chunk<? extends Values>[] chunks, final int ii) {
+            final Object value = chunks[leafIndex].asObjectChunk().get(ii);
+            return value == null ? 0 : CodedOutputStream.computeByteArraySize(number, (byte[]) value);
+        }
+
+        @Override
+        void write(final CodedOutputStream out, final Chunk<? extends Values>[] chunks, final int ii)
+                throws IOException {
+            final Object value = chunks[leafIndex].asObjectChunk().get(ii);
+            if (value != null) {
+                out.writeByteArray(number, (byte[]) value);
+            }
+        }
+    }
+}
@@ -4,11 +4,23 @@
 package io.deephaven.kafka.publish;
 
 import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableChunk;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.ModifiedColumnSet;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.engine.liveness.LivenessArtifact;
 import io.deephaven.engine.liveness.LivenessScope;
@@ -16,33 +28,74 @@ import io.deephaven.engine.table.impl.*;
 import io.deephaven.chunk.ObjectChunk;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.kafka.KafkaTools.Produce.AsyncOptions;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.InternalUseOnly;
 import io.deephaven.util.annotations.ReferentialIntegrity;
+import io.deephaven.util.annotations.VisibleForTesting;
+import io.deephaven.util.thread.NamingThreadFactory;
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.serialization.Serializer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * This class is an internal implementation detail for io.deephaven.kafka; is not intended to be used directly by client
  * code. It lives in a separate package as a means of code organization.
+ *
+ * <p>
+ * By default, updates are serialized and sent on the update graph thread, and each cycle waits for the producer to
+ * flush. If the {@link AsyncOptions} request workers (by default, {@code PublishToKafka.asyncWorkers}) and serializer
+ * factories are supplied, the listener instead copies the changed rows' column chunks during the cycle and hands them
+ * to a pool of worker threads, which serialize them against private snapshot tables and send the resulting records.
+ * Records are sent in the same order the synchronous mode would send them, so per-partition ordering is preserved. At
+ * most {@link AsyncOptions#maxPendingBatches()} batches of up to {@link #CHUNK_SIZE} rows may be awaiting
+ * acknowledgement; beyond that, the update graph thread blocks. Pending work and acknowledgement lag are logged every
+ * {@code PublishToKafka.asyncReportIntervalMs}. Batches that have not been sent when the publisher is destroyed are
+ * dropped.
  */
 @InternalUseOnly
 public class PublishToKafka<K, V> extends LivenessArtifact {
 
     public static final int CHUNK_SIZE =
             Configuration.getInstance().getIntegerForClassWithDefault(PublishToKafka.class, "chunkSize", 2048);
+    public static final int ASYNC_WORKERS =
+            Configuration.getInstance().getIntegerForClassWithDefault(PublishToKafka.class, "asyncWorkers", 0);
+    public static final int ASYNC_MAX_PENDING_BATCHES = Configuration.getInstance().getIntegerForClassWithDefault(
+            PublishToKafka.class, "asyncMaxPendingBatches", 64);
+    private static final long ASYNC_REPORT_INTERVAL_MS = Configuration.getInstance().getLongForClassWithDefault(
+            PublishToKafka.class, "asyncReportIntervalMs", 60_000);
+
+    private static final Logger log = LoggerFactory.getLogger(PublishToKafka.class);
 
     private final Table table;
-    private final KafkaProducer<K, V> producer;
+    private final Producer<K, V> producer;
     private final String topic;
     private final KeyOrValueSerializer<K> keyChunkSerializer;
     private final KeyOrValueSerializer<V> valueChunkSerializer;
@@ -50,6 +103,12 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
     @ReferentialIntegrity
     private final PublishListener publishListener;
 
+    /**
+     * The asynchronous publication pipeline for updates, or null if updates are published on the update graph thread.
+     */
+    @Nullable
+    private final AsyncPublisher asyncPublisher;
+
     /**
      * <p>
      * Construct a publisher for {@code table} according the to Kafka {@code props} for the supplied {@code topic}.
@@ -99,11 +158,72 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
             final String[] valueColumns,
             final Serializer<V> kafkaValueSerializer,
             final KeyOrValueSerializer<V> valueChunkSerializer) {
-        this.table = table;
-        this.producer = new KafkaProducer<>(
+        this(props, table, topic, keyColumns, kafkaKeySerializer, keyChunkSerializer, null,
+                valueColumns, kafkaValueSerializer, valueChunkSerializer, null, AsyncOptions.fromConfiguration());
+    }
+
+    /**
+     * Construct a publisher as {@link #PublishToKafka(Properties, Table, String, String[], Serializer,
+     * KeyOrValueSerializer, String[], Serializer, KeyOrValueSerializer) above}, additionally supplying factories that
+     * create equivalent {@link KeyOrValueSerializer serializers} for other tables with the same definition. If
+     * {@code asyncOptions} requests workers and {@code table} is refreshing, these are used to serialize updates off
+     * the update graph thread; a factory may only be null if the corresponding serializer is null.
+     *
+     * @param props The Kafka {@link Properties}
+     * @param table The source {@link Table}
+     * @param topic The destination topic
+     * @param keyColumns Optional array of string column names from table for the columns corresponding to Kafka's Key
+     *        field.
+     * @param kafkaKeySerializer The kafka {@link Serializer} to use for keys
+     * @param keyChunkSerializer Optional {@link KeyOrValueSerializer} to consume table data and produce Kafka record
+     *        keys in chunk-oriented fashion
+     * @param keyChunkSerializerFactory Optional factory for key serializers of snapshot tables
+     * @param valueColumns Optional array of string column names from table for the columns corresponding to Kafka's
+     *        Value field.
+     * @param kafkaValueSerializer The kafka {@link Serializer} to use for values
+     * @param valueChunkSerializer Optional {@link KeyOrValueSerializer} to consume table data and produce Kafka record
+     *        values in chunk-oriented fashion
+     * @param valueChunkSerializerFactory Optional factory for value serializers of snapshot tables
+     * @param asyncOptions How to publish updates off the update graph thread
+     */
+    public PublishToKafka(
+            final Properties props,
+            final Table table,
+            final String topic,
+            final String[] keyColumns,
+            final Serializer<K> kafkaKeySerializer,
+            final KeyOrValueSerializer<K> keyChunkSerializer,
+            @Nullable final Function<Table, KeyOrValueSerializer<K>> keyChunkSerializerFactory,
+            final String[] valueColumns,
+            final Serializer<V> kafkaValueSerializer,
+            final KeyOrValueSerializer<V> valueChunkSerializer,
+            @Nullable final Function<Table, KeyOrValueSerializer<V>> valueChunkSerializerFactory,
+            @NotNull final AsyncOptions asyncOptions) {
+        this(new KafkaProducer<>(
                 props,
                 Objects.requireNonNull(kafkaKeySerializer),
-                Objects.requireNonNull(kafkaValueSerializer));
+                Objects.requireNonNull(kafkaValueSerializer)),
+                table, topic, keyColumns, keyChunkSerializer, keyChunkSerializerFactory,
+                valueColumns, valueChunkSerializer, valueChunkSerializerFactory, asyncOptions);
+    }
+
+    /**
+     * Construct a publisher that sends records with an existing {@link Producer}, which it takes ownership of.
+     */
+    @VisibleForTesting
+    PublishToKafka(
+            @NotNull final Producer<K, V> producer,
+            final Table table,
+            final String topic,
+            final String[] keyColumns,
+            final KeyOrValueSerializer<K> keyChunkSerializer,
+            @Nullable final Function<Table, KeyOrValueSerializer<K>> keyChunkSerializerFactory,
+            final String[] valueColumns,
+            final KeyOrValueSerializer<V> valueChunkSerializer,
+            @Nullable final Function<Table, KeyOrValueSerializer<V>> valueChunkSerializerFactory,
+            @NotNull final AsyncOptions asyncOptions) {
+        this.table = table;
+        this.producer = producer;
         this.topic = topic;
         this.keyChunkSerializer = keyChunkSerializer;
         this.valueChunkSerializer = valueChunkSerializer;
@@ -115,12 +235,22 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
 
         // Install a listener to publish subsequent updates
         if (table.isRefreshing()) {
+            final boolean canPublishAsync = asyncOptions.workers() > 0
+                    && (keyChunkSerializer == null || keyChunkSerializerFactory != null)
+                    && (valueChunkSerializer == null || valueChunkSerializerFactory != null);
+            asyncPublisher = canPublishAsync
+                    ? new AsyncPublisher(
+                            keyChunkSerializer == null ? null : keyColumns, keyChunkSerializerFactory,
+                            valueChunkSerializer == null ? null : valueColumns, valueChunkSerializerFactory,
+                            asyncOptions)
+                    : null;
             table.addUpdateListener(publishListener = new PublishListener(
                     getModifiedColumnSet(table, keyColumns),
                     getModifiedColumnSet(table, valueColumns)));
             manage(publishListener);
         } else {
             publishListener = null;
+            asyncPublisher = null;
             producer.close();
         }
     }
@@ -173,7 +303,7 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
 
     /**
      * Re-usable, {@link SafeCloseable} {@link Callback} used to bracket multiple calls to
-     * {@link KafkaProducer#send(ProducerRecord, Callback) send} and ensure correct completion. Used in the following
+     * {@link Producer#send(ProducerRecord, Callback) send} and ensure correct completion. Used in the following
      * pattern:
      * 
      * <pre>
@@ -263,31 +393,461 @@ public class PublishToKafka<K, V> extends LivenessArtifact {
             Assert.assertion(!keysModified.containsAny(upstream.modifiedColumnSet()),
                     "!keysModified.containsAny(upstream.modifiedColumnSet())", "Key columns should never be modified");
 
+            if (asyncPublisher != null) {
+                asyncPublisher.checkFailure();
+                publishUpdate(upstream);
+                return;
+            }
             try (final SafeCloseable ignored = guard) {
-                if (isBlink) {
-                    Assert.assertion(upstream.modified().isEmpty(), "upstream.modified.empty()");
-                    Assert.assertion(upstream.shifted().empty(), "upstream.shifted.empty()");
-                    // We always ignore removes on streams, and expect no modifies or shifts
-                    publishMessages(upstream.added(), false, true, guard);
+                publishUpdate(upstream);
+            }
+        }
+
+        private void publishUpdate(@NotNull final TableUpdate upstream) {
+            if (isBlink) {
+                Assert.assertion(upstream.modified().isEmpty(), "upstream.modified.empty()");
+                Assert.assertion(upstream.shifted().empty(), "upstream.shifted.empty()");
+                // We always ignore removes on streams, and expect no modifies or shifts
+                publish(upstream.added(), false, true);
+                return;
+            }
+
+            // Regular table, either keyless, add-only, or aggregated
+            publish(upstream.removed(), true, false);
+            if (valuesModified.containsAny(upstream.modifiedColumnSet())) {
+                try (final RowSet addedAndModified = upstream.added().union(upstream.modified())) {
+                    publish(addedAndModified, false, true);
+                }
+            } else {
+                publish(upstream.added(), false, true);
+            }
+        }
+
+        private void publish(@NotNull final RowSet rowsToPublish, final boolean usePrevious,
+                final boolean publishValues) {
+            if (asyncPublisher != null) {
+                asyncPublisher.enqueue(rowsToPublish, usePrevious, publishValues);
+            } else {
+                publishMessages(rowsToPublish, usePrevious, publishValues, guard);
+            }
+        }
+    }
+
+    /**
+     * Publishes updates off the update graph thread. The listener copies the rows to publish into {@link Batch batches}
+     * of chunks, which are serialized by worker threads against private {@link SnapshotSlot snapshot tables}, and then
+     * sent in the order the batches were created.
+     */
+    private class AsyncPublisher {
+
+        private final String[] columnNames;
+        private final boolean[] isKeyColumn;
+        private final boolean[] isValueColumn;
+        /** The (possibly reinterpreted) sources in the published table that we copy from. */
+        private final ColumnSource<?>[] sources;
+        private final ChunkType[] chunkTypes;
+        private final boolean hasKeys;
+        private final boolean hasValues;
+
+        private final ExecutorService executor;
+        private final BlockingQueue<SnapshotSlot> freeSlots;
+        private final Semaphore pendingBatchPermits;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        /** Set when the publisher is destroyed; batches that have not been sent are dropped. */
+        private volatile boolean cancelled;
+
+        /** The sequence number for the next batch; only accessed from the update graph thread. */
+        private long nextSequence;
+        /** The sequence number of the next batch to send; guarded by {@code sendLock}. */
+        private long nextToSend;
+        private final Object sendLock = new Object();
+
+        private final AtomicLong pendingBatches = new AtomicLong();
+        private final AtomicLong pendingRecords = new AtomicLong();
+        private final AtomicLong acknowledgedRecords = new AtomicLong();
+        private final AtomicLong lastAcknowledgedLagNanos = new AtomicLong();
+        private final AtomicLong maxAcknowledgedLagNanos = new AtomicLong();
+        private final AtomicLong nextReportNanos;
+        private long lastReportedRecords;
+
+        private AsyncPublisher(
+                @Nullable final String[] keyColumns,
+                @Nullable final Function<Table, KeyOrValueSerializer<K>> keySerializerFactory,
+                @Nullable final String[] valueColumns,
+                @Nullable final Function<Table, KeyOrValueSerializer<V>> valueSerializerFactory,
+                @NotNull final AsyncOptions asyncOptions) {
+            final Set<String> keyColumnSet =
+                    keyColumns == null ? Set.of() : new LinkedHashSet<>(Arrays.asList(keyColumns));
+            final Set<String> valueColumnSet =
+                    valueColumns == null ? Set.of() : new LinkedHashSet<>(Arrays.asList(valueColumns));
+            final Set<String> allColumns = new LinkedHashSet<>();
+            allColumns.addAll(keyColumnSet);
+            allColumns.addAll(valueColumnSet);
+            columnNames = allColumns.toArray(String[]::new);
+            isKeyColumn = new boolean[columnNames.length];
+            isValueColumn = new boolean[columnNames.length];
+            sources = new ColumnSource<?>[columnNames.length];
+            chunkTypes = new ChunkType[columnNames.length];
+            for (int ci = 0; ci < columnNames.length; ++ci) {
+                isKeyColumn[ci] = keyColumnSet.contains(columnNames[ci]);
+                isValueColumn[ci] = valueColumnSet.contains(columnNames[ci]);
+                final ColumnSource<?> source = table.getColumnSource(columnNames[ci]);
+                sources[ci] = snapshotAsPrimitive(source.getType())
+                        ? ReinterpretUtils.maybeConvertToPrimitive(source)
+                        : source;
+                chunkTypes[ci] = sources[ci].getChunkType();
+            }
+            hasKeys = keySerializerFactory != null;
+            hasValues = valueSerializerFactory != null;
+
+            final int workers = asyncOptions.workers();
+            pendingBatchPermits = new Semaphore(asyncOptions.maxPendingBatches());
+            freeSlots = new ArrayBlockingQueue<>(workers);
+            for (int wi = 0; wi < workers; ++wi) {
+                freeSlots.add(new SnapshotSlot(keySerializerFactory, valueSerializerFactory));
+            }
+            executor = Executors.newFixedThreadPool(workers,
+                    new NamingThreadFactory(PublishToKafka.class, "asyncPublisher-" + topic, true));
+            nextReportNanos = new AtomicLong(
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ASYNC_REPORT_INTERVAL_MS));
+        }
+
+        private boolean isRequired(final int columnIndex, final boolean publishValues) {
+            return (hasKeys && isKeyColumn[columnIndex]) || (publishValues && hasValues && isValueColumn[columnIndex]);
+        }
+
+        /**
+         * Rethrow the first failure reported by a worker or by the producer, so that the listener fails.
+         */
+        private void checkFailure() {
+            final Throwable localFailure = failure.get();
+            if (localFailure != null) {
+                throw new KafkaPublisherException("Asynchronous publication failed", localFailure);
+            }
+        }
+
+        private void onFailure(@NotNull final Throwable cause) {
+            if (failure.compareAndSet(null, cause) && !cancelled) {
+                log.error().append("PublishToKafka(").append(topic).append("): asynchronous publication failed: ")
+                        .append(cause).endl();
+            }
+        }
+
+        /**
+         * Copy the current (or previous) values of the rows to publish, and hand them to the workers. Must be called
+         * from the update graph thread during the cycle that produced {@code rowsToPublish}.
+         */
+        private void enqueue(@NotNull final RowSet rowsToPublish, final boolean usePrevious,
+                final boolean publishValues) {
+            if (rowsToPublish.isEmpty()) {
+                return;
+            }
+            final int chunkSize = (int) Math.min(CHUNK_SIZE, rowsToPublish.size());
+            final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[columnNames.length];
+            try (final SafeCloseable ignored = () -> SafeCloseable.closeAll(getContexts);
+                    final RowSequence.Iterator rowsIterator = rowsToPublish.getRowSequenceIterator()) {
+                for (int ci = 0; ci < columnNames.length; ++ci) {
+                    if (isRequired(ci, publishValues)) {
+                        getContexts[ci] = sources[ci].makeGetContext(chunkSize);
+                    }
+                }
+                while (rowsIterator.hasMore()) {
+                    final RowSequence chunkRowKeys = rowsIterator.getNextRowSequenceWithLength(chunkSize);
+                    final int size = chunkRowKeys.intSize();
+                    try {
+                        pendingBatchPermits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new KafkaPublisherException("Interrupted while waiting for pending batches", e);
+                    }
+                    // noinspection unchecked
+                    final WritableChunk<Values>[] chunks = new WritableChunk[columnNames.length];
+                    for (int ci = 0; ci < columnNames.length; ++ci) {
+                        if (getContexts[ci] == null) {
+                            continue;
+                        }
+                        final Chunk<? extends Values> sourceChunk = usePrevious
+                                ? sources[ci].getPrevChunk(getContexts[ci], chunkRowKeys)
+                                : sources[ci].getChunk(getContexts[ci], chunkRowKeys);
+                        chunks[ci] = chunkTypes[ci].makeWritableChunk(size);
+                        chunks[ci].copyFromChunk(sourceChunk, 0, 0, size);
+                    }
+                    final Batch batch = new Batch(nextSequence++, size, publishValues, chunks);
+                    pendingBatches.incrementAndGet();
+                    pendingRecords.addAndGet(size);
+                    executor.execute(() -> serializeAndSend(batch));
+                }
+            }
+        }
+
+        private void serializeAndSend(@NotNull final Batch batch) {
+            final SnapshotSlot slot;
+            try {
+                slot = freeSlots.take();
+            } catch (InterruptedException e) {
+                if (!cancelled) {
+                    onFailure(e);
+                }
+                skipTurn(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                boolean serialized = false;
+                try {
+                    if (failure.get() == null && !cancelled) {
+                        slot.serialize(batch);
+                        serialized = true;
+                    }
+                } catch (RuntimeException e) {
+                    onFailure(e);
+                } finally {
+                    batch.close();
+                }
+
+                if (!awaitTurn(batch)) {
                     return;
                 }
+                try {
+                    if (serialized && failure.get() == null) {
+                        slot.send(batch);
+                    } else {
+                        onBatchComplete(batch);
+                    }
+                } finally {
+                    finishTurn();
+                }
+            } finally {
+                freeSlots.add(slot);
+            }
+        }
+
+        private void skipTurn(@NotNull final Batch batch) {
+            batch.close();
+            if (awaitTurn(batch)) {
+                onBatchComplete(batch);
+                finishTurn();
+            }
+        }
 
-                // Regular table, either keyless, add-only, or aggregated
-                publishMessages(upstream.removed(), true, false, guard);
-                if (valuesModified.containsAny(upstream.modifiedColumnSet())) {
-                    try (final RowSet addedAndModified = upstream.added().union(upstream.modified())) {
-                        publishMessages(addedAndModified, false, true, guard);
+        /**
+         * Wait until all batches created before {@code batch} have been sent (or skipped). An interruption does not end
+         * the wait, or our successors could send before us; it fails publication and is re-asserted on return.
+         *
+         * @return Whether it is {@code batch}'s turn, or false if publication was cancelled while waiting
+         */
+        private boolean awaitTurn(@NotNull final Batch batch) {
+            boolean interrupted = false;
+            try {
+                synchronized (sendLock) {
+                    while (nextToSend != batch.sequence) {
+                        if (cancelled) {
+                            return false;
+                        }
+                        try {
+                            sendLock.wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                            if (!cancelled) {
+                                onFailure(e);
+                            }
+                        }
+                    }
+                    return !cancelled;
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void finishTurn() {
+            synchronized (sendLock) {
+                ++nextToSend;
+                sendLock.notifyAll();
+            }
+        }
+
+        /**
+         * Record that all records of {@code batch} have been acknowledged (or dropped), and report if due.
+         */
+        private void onBatchComplete(@NotNull final Batch batch) {
+            final long nowNanos = System.nanoTime();
+            final long lagNanos = nowNanos - batch.snapshotNanos;
+            lastAcknowledgedLagNanos.set(lagNanos);
+            maxAcknowledgedLagNanos.accumulateAndGet(lagNanos, Math::max);
+            pendingRecords.addAndGet(-batch.size);
+            acknowledgedRecords.addAndGet(batch.size);
+            pendingBatches.decrementAndGet();
+            pendingBatchPermits.release();
+
+            final long localNextReportNanos = nextReportNanos.get();
+            if (nowNanos >= localNextReportNanos && nextReportNanos.compareAndSet(localNextReportNanos,
+                    nowNanos + TimeUnit.MILLISECONDS.toNanos(ASYNC_REPORT_INTERVAL_MS))) {
+                report();
+            }
+        }
+
+        private synchronized void report() {
+            final long currentRecords = acknowledgedRecords.get();
+            log.info().append("PublishToKafka(").append(topic).append("): ")
+                    .append(currentRecords - lastReportedRecords).append(" records acknowledged, ")
+                    .append(pendingRecords.get()).append(" records in ")
+                    .append(pendingBatches.get()).append(" batches pending, last lag ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(lastAcknowledgedLagNanos.get())).append("ms, max lag ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(maxAcknowledgedLagNanos.getAndSet(0))).append("ms")
+                    .endl();
+            lastReportedRecords = currentRecords;
+        }
+
+        /**
+         * Drop any batches that have not yet been sent, without waiting for the workers. Must be followed by closing
+         * the producer, which abandons records that have been sent but not acknowledged.
+         */
+        private void cancel() {
+            cancelled = true;
+            synchronized (sendLock) {
+                sendLock.notifyAll();
+            }
+            executor.shutdownNow();
+            final long localPendingRecords = pendingRecords.get();
+            if (localPendingRecords > 0) {
+                log.warn().append("PublishToKafka(").append(topic).append("): cancelled with ")
+                        .append(localPendingRecords).append(" records in ").append(pendingBatches.get())
+                        .append(" batches pending; they may not be published").endl();
+            }
+        }
+
+        /**
+         * The copied column chunks for up to {@link #CHUNK_SIZE} rows to publish.
+         */
+        private final class Batch implements Callback, SafeCloseable {
+            private final long sequence;
+            private final long snapshotNanos = System.nanoTime();
+            private final int size;
+            private final boolean publishValues;
+            private final WritableChunk<Values>[] chunks;
+            private final AtomicInteger unacknowledged;
+
+            private Batch(final long sequence, final int size, final boolean publishValues,
+                    @NotNull final WritableChunk<Values>[] chunks) {
+                this.sequence = sequence;
+                this.size = size;
+                this.publishValues = publishValues;
+                this.chunks = chunks;
+                unacknowledged = new AtomicInteger(size);
+            }
+
+            @Override
+            public void onCompletion(final RecordMetadata metadata, final Exception exception) {
+                if (exception != null) {
+                    onFailure(exception);
+                }
+                if (unacknowledged.decrementAndGet() == 0) {
+                    onBatchComplete(this);
+                }
+            }
+
+            @Override
+            public void close() {
+                SafeCloseable.closeAll(chunks);
+                Arrays.fill(chunks, null);
+            }
+        }
+
+        /**
+         * A private in-memory copy of the published columns with serializers bound to it, used by one worker at a
+         * time.
+         */
+        private final class SnapshotSlot {
+            private final WritableColumnSource<?>[] destinations;
+            private final ChunkSink.FillFromContext[] fillFromContexts;
+            private final KeyOrValueSerializer<K> keySerializer;
+            private final KeyOrValueSerializer.Context keyContext;
+            private final KeyOrValueSerializer<V> valueSerializer;
+            private final KeyOrValueSerializer.Context valueContext;
+
+            private ObjectChunk<K, Values> keyChunk;
+            private ObjectChunk<V, Values> valueChunk;
+
+            private SnapshotSlot(
+                    @Nullable final Function<Table, KeyOrValueSerializer<K>> keySerializerFactory,
+                    @Nullable final Function<Table, KeyOrValueSerializer<V>> valueSerializerFactory) {
+                destinations = new WritableColumnSource<?>[columnNames.length];
+                fillFromContexts = new ChunkSink.FillFromContext[columnNames.length];
+                final Map<String, ColumnSource<?>> snapshotSources = new LinkedHashMap<>();
+                for (int ci = 0; ci < columnNames.length; ++ci) {
+                    final ColumnDefinition<?> definition = table.getDefinition().getColumn(columnNames[ci]);
+                    final WritableColumnSource<?> snapshotSource = ArrayBackedColumnSource.getMemoryColumnSource(
+                            CHUNK_SIZE, definition.getDataType(), definition.getComponentType());
+                    snapshotSource.ensureCapacity(CHUNK_SIZE);
+                    snapshotSources.put(columnNames[ci], snapshotSource);
+                    destinations[ci] = snapshotAsPrimitive(snapshotSource.getType())
+                            ? ReinterpretUtils.maybeConvertToWritablePrimitive(snapshotSource)
+                            : snapshotSource;
+                    Assert.eq(destinations[ci].getChunkType(), "destinations[ci].getChunkType()",
+                            chunkTypes[ci], "chunkTypes[ci]");
+                    fillFromContexts[ci] = destinations[ci].makeFillFromContext(CHUNK_SIZE);
+                }
+                final Table snapshotTable =
+                        new QueryTable(RowSetFactory.flat(CHUNK_SIZE).toTracking(), snapshotSources);
+                keySerializer = keySerializerFactory == null ? null : keySerializerFactory.apply(snapshotTable);
+                keyContext = keySerializer == null ? null : keySerializer.makeContext(CHUNK_SIZE);
+                valueSerializer = valueSerializerFactory == null ? null : valueSerializerFactory.apply(snapshotTable);
+                valueContext = valueSerializer == null ? null : valueSerializer.makeContext(CHUNK_SIZE);
+            }
+
+            private void serialize(@NotNull final Batch batch) {
+                try (final RowSequence rows = RowSequenceFactory.forRange(0, batch.size - 1)) {
+                    for (int ci = 0; ci < columnNames.length; ++ci) {
+                        if (batch.chunks[ci] != null) {
+                            destinations[ci].fillFromChunk(fillFromContexts[ci], batch.chunks[ci], rows);
+                        }
+                    }
+                    keyChunk = keyContext == null ? null : keySerializer.handleChunk(keyContext, rows, false);
+                    valueChunk = valueContext == null || !batch.publishValues
+                            ? null
+                            : valueSerializer.handleChunk(valueContext, rows, false);
+                }
+            }
+
+            private void send(@NotNull final Batch batch) {
+                int sent = 0;
+                try {
+                    for (; sent < batch.size; ++sent) {
+                        final ProducerRecord<K, V> record = new ProducerRecord<>(topic,
+                                keyChunk != null ? keyChunk.get(sent) : null,
+                                valueChunk != null ? valueChunk.get(sent) : null);
+                        producer.send(record, batch);
+                    }
+                } catch (RuntimeException e) {
+                    onFailure(e);
+                    // Records we never sent will never be acknowledged
+                    if (batch.unacknowledged.addAndGet(sent - batch.size) == 0) {
+                        onBatchComplete(batch);
                     }
-                } else {
-                    publishMessages(upstream.added(), false, true, guard);
                 }
             }
         }
     }
 
+    /**
+     * Whether to copy columns of {@code dataType} as their primitive representation when snapshotting. We only do so
+     * for types whose in-memory sources can be written as primitives without loss.
+     */
+    private static boolean snapshotAsPrimitive(@NotNull final Class<?> dataType) {
+        return dataType == Boolean.class || dataType == Instant.class;
+    }
+
     @Override
     protected void destroy() {
         super.destroy();
-        producer.close();
+        if (asyncPublisher != null) {
+            asyncPublisher.cancel();
+            producer.close(Duration.ZERO);
+        } else {
+            producer.close();
+        }
     }
 }
@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseableArray;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class TestAvroBinaryChunkAdapter {
+    private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote("."));
+
+    private static final Schema SCHEMA = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Test\","
+            + " \"fields\": ["
+            + "{\"name\": \"Int\", \"type\": \"int\"},"
+            + "{\"name\": \"Long\", \"type\": \"long\"},"
+            + "{\"name\": \"Flt\", \"type\": \"float\"},"
+            + "{\"name\": \"Dbl\", \"type\": [\"null\", \"double\"]},"
+            + "{\"name\": \"Bool\", \"type\": [\"boolean\", \"null\"]},"
+            + "{\"name\": \"Str\", \"type\": [\"null\", \"string\"]},"
+            + "{\"name\": \"Skipped\", \"type\": {\"type\": \"array\", \"items\": \"string\"}},"
+            + "{\"name\": \"Color\", \"type\": {\"type\": \"enum\", \"name\": \"Color\","
+            + " \"symbols\": [\"RED\", \"GREEN\"]}},"
+            + "{\"name\": \"Ts\", \"type\": [\"null\", {\"type\": \"long\", \"logicalType\": \"timestamp-millis\"}]},"
+            + "{\"name\": \"SkippedMap\", \"type\": {\"type\": \"map\", \"values\": \"long\"}},"
+            + "{\"name\": \"Nested\", \"type\": [\"null\", {\"type\": \"record\", \"name\": \"Inner\", \"fields\": ["
+            + "{\"name\": \"A\", \"type\": \"int\"},"
+            + "{\"name\": \"B\", \"type\": \"string\"}]}]}"
+            + "]}");
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofInt("Int"),
+            ColumnDefinition.ofLong("Long"),
+            ColumnDefinition.ofFloat("Flt"),
+            ColumnDefinition.ofDouble("Dbl"),
+            ColumnDefinition.ofBoolean("Bool"),
+            ColumnDefinition.ofString("Str"),
+            ColumnDefinition.ofString("Color"),
+            ColumnDefinition.ofTime("Ts"),
+            ColumnDefinition.ofInt("NestedA"),
+            ColumnDefinition.ofString("NestedB"));
+
+    private static final Map<String, String> FIELD_MAPPING = new LinkedHashMap<>();
+    static {
+        for (final String name : new String[] {"Int", "Long", "Flt", "Dbl", "Bool", "Str", "Color", "Ts"}) {
+            FIELD_MAPPING.put(name, name);
+        }
+        FIELD_MAPPING.put("Nested.A", "NestedA");
+        FIELD_MAPPING.put("Nested.B", "NestedB");
+    }
+
+    private static List<GenericRecord> makeRecords() {
+        final Schema inner = SCHEMA.getField("Nested").schema().getTypes().get(1);
+        final Schema color = SCHEMA.getField("Color").schema();
+        final List<GenericRecord> records = new ArrayList<>();
+        for (int ii = 0; ii < 10; ++ii) {
+            final GenericData.Record record = new GenericData.Record(SCHEMA);
+            record.put("Int", ii - 5);
+            record.put("Long", 1L << (ii * 6));
+            record.put("Flt", ii / 4.0f);
+            record.put("Dbl", ii % 3 == 0 ? null : ii * 1.5);
+            record.put("Bool", ii % 4 == 0 ? null : ii % 2 == 0);
+            record.put("Str", ii % 5 == 0 ? null : "str" + ii);
+            record.put("Skipped", List.of("a", "bb", "ccc").subList(0, ii % 4));
+            record.put("Color", new GenericData.EnumSymbol(color, ii % 2 == 0 ? "RED" : "GREEN"));
+            record.put("Ts", ii % 3 == 1 ? null : 1690000000000L + ii);
+            record.put("SkippedMap", ii % 2 == 0 ? Map.of() : Map.of("k", (long) ii));
+            if (ii % 3 != 2) {
+                final GenericData.Record nested = new GenericData.Record(inner);
+                nested.put("A", ii * 100);
+                nested.put("B", "inner" + ii);
+                record.put("Nested", nested);
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    public void testMatchesGenericRecordChunkAdapter() {
+        final List<GenericRecord> records = makeRecords();
+        final int size = records.size() + 1;
+        final WritableChunk<Values>[] expected = makeChunks(size);
+        final WritableChunk<Values>[] actual = makeChunks(size);
+        try (final SafeCloseableArray<?> ignored1 = new SafeCloseableArray<>(expected);
+                final SafeCloseableArray<?> ignored2 = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> generic = WritableObjectChunk.makeWritableChunk(size);
+                final WritableObjectChunk<Object, Values> binary = WritableObjectChunk.makeWritableChunk(size)) {
+            generic.setSize(0);
+            binary.setSize(0);
+            for (final GenericRecord record : records) {
+                generic.add(record);
+                binary.add(serialize(SCHEMA, 1, record));
+            }
+            generic.add(null);
+            binary.add(null);
+
+            GenericRecordChunkAdapter.make(DEFINITION, ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci),
+                    FIELD_MAPPING, SEPARATOR, SCHEMA, true).handleChunk(generic, expected);
+            AvroBinaryChunkAdapter.make(DEFINITION, ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci),
+                    FIELD_MAPPING, SEPARATOR, SCHEMA, null, true).handleChunk(binary, actual);
+
+            for (int ci = 0; ci < DEFINITION.numColumns(); ++ci) {
+                final String name = DEFINITION.getColumns().get(ci).getName();
+                assertEquals(name, size, actual[ci].size());
+                for (int ii = 0; ii < size; ++ii) {
+                    assertEquals(name + "[" + ii + "]", boxed(expected[ci], ii), boxed(actual[ci], ii));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWriterSchemaResolution() {
+        final Schema writerSchema = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Evolving\","
+                + " \"fields\": ["
+                + "{\"name\": \"Removed\", \"type\": \"string\"},"
+                + "{\"name\": \"Promoted\", \"type\": \"int\"}]}");
+        final Schema readerSchema = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Evolving\","
+                + " \"fields\": ["
+                + "{\"name\": \"Promoted\", \"type\": \"long\"},"
+                + "{\"name\": \"Added\", \"type\": [\"null\", \"double\"], \"default\": null}]}");
+        final TableDefinition definition = TableDefinition.of(
+                ColumnDefinition.ofLong("Promoted"),
+                ColumnDefinition.ofDouble("Added"));
+        final Map<String, String> mapping = Map.of("Promoted", "Promoted", "Added", "Added");
+
+        final GenericData.Record oldRecord = new GenericData.Record(writerSchema);
+        oldRecord.put("Removed", "gone");
+        oldRecord.put("Promoted", 7);
+        final GenericData.Record newRecord = new GenericData.Record(readerSchema);
+        newRecord.put("Promoted", 1L << 40);
+        newRecord.put("Added", 2.5);
+
+        final WritableChunk<Values>[] actual = makeChunks(definition, 2);
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> binary = WritableObjectChunk.makeWritableChunk(2)) {
+            binary.setSize(0);
+            binary.add(serialize(writerSchema, 1, oldRecord));
+            binary.add(serialize(readerSchema, 2, newRecord));
+            AvroBinaryChunkAdapter.make(definition, ci -> StreamChunkUtils.chunkTypeForColumnIndex(definition, ci),
+                    mapping, SEPARATOR, readerSchema, id -> id == 1 ? writerSchema : readerSchema, true)
+                    .handleChunk(binary, actual);
+
+            assertEquals(7L, actual[0].asLongChunk().get(0));
+            assertEquals(QueryConstants.NULL_DOUBLE, actual[1].asDoubleChunk().get(0), 0);
+            assertEquals(1L << 40, actual[0].asLongChunk().get(1));
+            assertEquals(2.5, actual[1].asDoubleChunk().get(1), 0);
+        }
+    }
+
+    @Test
+    public void testBadInput() {
+        final WritableChunk<Values>[] actual = makeChunks(2);
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> binary = WritableObjectChunk.makeWritableChunk(1)) {
+            binary.setSize(0);
+            binary.add(new byte[] {1, 0, 0, 0, 1, 2});
+            final AvroBinaryChunkAdapter adapter = AvroBinaryChunkAdapter.make(DEFINITION,
+                    ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci), FIELD_MAPPING, SEPARATOR, SCHEMA,
+                    null, true);
+            assertThrows(UncheckedDeephavenException.class, () -> adapter.handleChunk(binary, actual));
+
+            final byte[] truncated = serialize(SCHEMA, 1, makeRecords().get(1));
+            binary.set(0, Arrays.copyOf(truncated, truncated.length / 2));
+            assertThrows(UncheckedDeephavenException.class, () -> adapter.handleChunk(binary, actual));
+        }
+    }
+
+    private static byte[] serialize(final Schema schema, final int schemaId, final GenericRecord record) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        out.write(schemaId >>> 24);
+        out.write(schemaId >>> 16);
+        out.write(schemaId >>> 8);
+        out.write(schemaId);
+        try {
+            final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+            new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static WritableChunk<Values>[] makeChunks(final int capacity) {
+        return makeChunks(DEFINITION, capacity);
+    }
+
+    private static WritableChunk<Values>[] makeChunks(final TableDefinition definition, final int capacity) {
+        final int numColumns = definition.numColumns();
+        // noinspection unchecked
+        final WritableChunk<Values>[] chunks = new WritableChunk[numColumns];
+        for (int ci = 0; ci < numColumns; ++ci) {
+            chunks[ci] = StreamChunkUtils.chunkTypeForColumnIndex(definition, ci).makeWritableChunk(capacity);
+            chunks[ci].setSize(0);
+        }
+        return chunks;
+    }
+
+    private static Object boxed(final WritableChunk<Values> chunk, final int index) {
+        final ChunkType chunkType = chunk.getChunkType();
+        switch (chunkType) {
+            case Byte:
+                return chunk.asByteChunk().get(index);
+            case Int:
+                return chunk.asIntChunk().get(index);
+            case Long:
+                return chunk.asLongChunk().get(index);
+            case Float:
+                return chunk.asFloatChunk().get(index);
+            case Double:
+                return chunk.asDoubleChunk().get(index);
+            case Object: {
+                final Object value = chunk.asObjectChunk().get(index);
+                if (value != null) {
+                    assertEquals(String.class, value.getClass());
+                }
+                return value;
+            }
+        }
+        throw new IllegalStateException("Unexpected chunk type " + chunkType);
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.util.SafeCloseableArray;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestJsonParserChunkAdapter {
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofInt("Int"),
+            ColumnDefinition.ofLong("Long"),
+            ColumnDefinition.ofDouble("Dbl"),
+            ColumnDefinition.ofFloat("Flt"),
+            ColumnDefinition.ofShort("Shrt"),
+            ColumnDefinition.ofByte("Byt"),
+            ColumnDefinition.ofChar("Chr"),
+            ColumnDefinition.ofString("Str"),
+            ColumnDefinition.ofBoolean("Bool"),
+            ColumnDefinition.ofTime("Ts"),
+            ColumnDefinition.fromGenericType("Node", JsonNode.class),
+            ColumnDefinition.ofLong("Nested"),
+            ColumnDefinition.ofString("Whole"),
+            ColumnDefinition.ofInt("Arr"));
+
+    private static final Map<String, String> FIELD_MAPPING = new LinkedHashMap<>();
+    static {
+        for (final String name : new String[] {
+                "Int", "Long", "Dbl", "Flt", "Shrt", "Byt", "Chr", "Str", "Bool", "Ts", "Node"}) {
+            FIELD_MAPPING.put("/" + name, name);
+        }
+        FIELD_MAPPING.put("/a/b", "Nested");
+        // A field whose value contains another field
+        FIELD_MAPPING.put("/a", "Whole");
+        FIELD_MAPPING.put("/arr/1", "Arr");
+    }
+
+    private static final List<String> RECORDS = List.of(
+            "{\"Int\": 1, \"Long\": 12345678901, \"Dbl\": 1.5, \"Flt\": 2.25, \"Shrt\": 7, \"Byt\": \"x\","
+                    + " \"Chr\": \"y\", \"Str\": \"hello\", \"Bool\": true, \"Ts\": 1690000000000,"
+                    + " \"Node\": {\"k\": [1, 2]}, \"a\": {\"b\": 42, \"c\": \"s\"}, \"arr\": [10, 20, 30]}",
+            "{\"Int\": \"17\", \"Long\": 3.9, \"Dbl\": \"2.5\", \"Flt\": true, \"Shrt\": 70000, \"Byt\": 5,"
+                    + " \"Chr\": 65, \"Str\": 1.50, \"Bool\": \"T\", \"Ts\": \"2023-07-22T04:26:40.000 NY\","
+                    + " \"Node\": 5, \"a\": 3, \"arr\": {\"1\": 4}}",
+            "{\"Int\": null, \"Str\": null, \"Node\": null, \"a\": null,"
+                    + " \"extra\": {\"deep\": [1, {\"Int\": 2}]}}",
+            "{\"Int\": 12345678901, \"Long\": 123456789012345678901234, \"Dbl\": 123456789012345678901234,"
+                    + " \"Str\": 123456789012345678901234, \"Shrt\": -1.9, \"Chr\": \"\", \"Byt\": \"\","
+                    + " \"Bool\": \"false\", \"Ts\": 1690000000, \"arr\": [1]}",
+            "{\"Str\": {\"x\": [1, \"two\", null, 1.0]}, \"a\": {\"b\": \"9\"}, \"arr\": [[1], {\"z\": 2}]}",
+            "[1, 2, 3]",
+            "\"scalar\"",
+            "");
+
+    @Test
+    public void testMatchesJsonNodeChunkAdapter() {
+        final int size = RECORDS.size();
+        final int numColumns = DEFINITION.numColumns();
+        final WritableChunk<Values>[] expected = makeChunks(size);
+        final WritableChunk<Values>[] actual = makeChunks(size);
+        try (final SafeCloseableArray<?> ignored1 = new SafeCloseableArray<>(expected);
+                final SafeCloseableArray<?> ignored2 = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> strings = WritableObjectChunk.makeWritableChunk(size);
+                final WritableObjectChunk<Object, Values> nodes = WritableObjectChunk.makeWritableChunk(size)) {
+            strings.setSize(0);
+            nodes.setSize(0);
+            for (final String record : RECORDS) {
+                strings.add(record);
+                nodes.add(JsonNodeUtil.makeJsonNode(null, record));
+            }
+
+            JsonNodeChunkAdapter.make(DEFINITION, ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci),
+                    FIELD_MAPPING, true).handleChunk(nodes, expected);
+            JsonParserChunkAdapter.make(DEFINITION, ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci),
+                    FIELD_MAPPING, true).handleChunk(strings, actual);
+
+            for (int ci = 0; ci < numColumns; ++ci) {
+                final String name = DEFINITION.getColumns().get(ci).getName();
+                assertEquals(name, size, actual[ci].size());
+                for (int ii = 0; ii < size; ++ii) {
+                    assertEquals(name + "[" + ii + "]", boxed(expected[ci], ii), boxed(actual[ci], ii));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAppendsToExistingChunks() {
+        final WritableChunk<Values>[] actual = makeChunks(2 * RECORDS.size());
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> strings =
+                        WritableObjectChunk.makeWritableChunk(RECORDS.size())) {
+            strings.setSize(0);
+            RECORDS.forEach(strings::add);
+            final JsonParserChunkAdapter adapter = JsonParserChunkAdapter.make(DEFINITION,
+                    ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci), FIELD_MAPPING, true);
+            adapter.handleChunk(strings, actual);
+            adapter.handleChunk(strings, actual);
+            final int intColumn = DEFINITION.getColumnIndex(DEFINITION.getColumn("Int"));
+            assertEquals(2 * RECORDS.size(), actual[intColumn].size());
+            assertEquals(1, actual[intColumn].asIntChunk().get(0));
+            assertEquals(1, actual[intColumn].asIntChunk().get(RECORDS.size()));
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        final WritableChunk<Values>[] actual = makeChunks(1);
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> strings = WritableObjectChunk.makeWritableChunk(1)) {
+            strings.setSize(0);
+            strings.add("{\"Int\": 1, \"skipped\": [1, 2");
+            final JsonParserChunkAdapter adapter = JsonParserChunkAdapter.make(DEFINITION,
+                    ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci), FIELD_MAPPING, true);
+            final UncheckedDeephavenException err =
+                    assertThrows(UncheckedDeephavenException.class, () -> adapter.handleChunk(strings, actual));
+            assertTrue(err.getMessage().contains("Failed to parse JSON string"));
+        }
+    }
+
+    private static WritableChunk<Values>[] makeChunks(final int capacity) {
+        final int numColumns = DEFINITION.numColumns();
+        // noinspection unchecked
+        final WritableChunk<Values>[] chunks = new WritableChunk[numColumns];
+        for (int ci = 0; ci < numColumns; ++ci) {
+            chunks[ci] = StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci).makeWritableChunk(capacity);
+            chunks[ci].setSize(0);
+        }
+        return chunks;
+    }
+
+    private static Object boxed(final WritableChunk<Values> chunk, final int index) {
+        final ChunkType chunkType = chunk.getChunkType();
+        switch (chunkType) {
+            case Char:
+                return chunk.asCharChunk().get(index);
+            case Byte:
+                return chunk.asByteChunk().get(index);
+            case Short:
+                return chunk.asShortChunk().get(index);
+            case Int:
+                return chunk.asIntChunk().get(index);
+            case Long:
+                return chunk.asLongChunk().get(index);
+            case Float:
+                return chunk.asFloatChunk().get(index);
+            case Double:
+                return chunk.asDoubleChunk().get(index);
+            case Object:
+                return Objects.toString(chunk.asObjectChunk().get(index), null) + "/"
+                        + (chunk.asObjectChunk().get(index) == null ? "null"
+                                : chunk.asObjectChunk().get(index).getClass().getSimpleName());
+        }
+        throw new IllegalStateException("Unexpected chunk type " + chunkType);
+    }
+}
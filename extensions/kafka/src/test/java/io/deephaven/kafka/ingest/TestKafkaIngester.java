@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import io.deephaven.internal.log.LoggerFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class TestKafkaIngester {
+    private static final String TOPIC = "orders";
+    private static final int PARTITIONS = 4;
+    private static final int DECODER_THREADS = 2;
+    private static final int ROUNDS = 10;
+    private static final int RECORDS_PER_ROUND = 100;
+    private static final long TIMEOUT_MS = 30_000;
+
+    /**
+     * Records the offsets consumed for one partition, and the threads that consumed them.
+     */
+    private static final class RecordingConsumer implements KafkaRecordConsumer {
+        private final List<Long> offsets = new ArrayList<>();
+        private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean consuming = new AtomicBoolean();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean overlapped;
+
+        @Override
+        public long consume(@NotNull final List<? extends ConsumerRecord<?, ?>> records) {
+            if (!consuming.compareAndSet(false, true)) {
+                overlapped = true;
+            }
+            try {
+                threadNames.add(Thread.currentThread().getName());
+                // Stall a little so that batches for the same partition have a chance to race
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                synchronized (offsets) {
+                    for (final ConsumerRecord<?, ?> record : records) {
+                        offsets.add(record.offset());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                consuming.set(false);
+            }
+            return 0;
+        }
+
+        @Override
+        public void acceptFailure(@NotNull final Throwable cause) {
+            failure.set(cause);
+        }
+
+        private int size() {
+            synchronized (offsets) {
+                return offsets.size();
+            }
+        }
+    }
+
+    @Test
+    public void testPartitionOrderWithDecoderThreads() throws InterruptedException {
+        final MockConsumer<String, String> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        final List<PartitionInfo> partitionInfos = new ArrayList<>();
+        final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        for (int pi = 0; pi < PARTITIONS; ++pi) {
+            partitionInfos.add(new PartitionInfo(TOPIC, pi, null, new Node[0], new Node[0]));
+            beginningOffsets.put(new TopicPartition(TOPIC, pi), 0L);
+        }
+        mockConsumer.updatePartitions(TOPIC, partitionInfos);
+        mockConsumer.updateBeginningOffsets(beginningOffsets);
+
+        final RecordingConsumer[] recordingConsumers = new RecordingConsumer[PARTITIONS];
+        final KafkaIngester ingester = new KafkaIngester(
+                LoggerFactory.getLogger(TestKafkaIngester.class),
+                mockConsumer,
+                TOPIC,
+                KafkaIngester.ALL_PARTITIONS,
+                tp -> recordingConsumers[tp.partition()] = new RecordingConsumer(),
+                tp -> KafkaIngester.DONT_SEEK,
+                null,
+                DECODER_THREADS);
+        ingester.start();
+        try {
+            // Feed the records in rounds, so that each partition is polled as several batches
+            for (int round = 0; round < ROUNDS; ++round) {
+                for (int ri = 0; ri < RECORDS_PER_ROUND; ++ri) {
+                    final long offset = (long) round * RECORDS_PER_ROUND + ri;
+                    for (int pi = 0; pi < PARTITIONS; ++pi) {
+                        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, pi, offset, "k" + pi, "v" + offset));
+                    }
+                }
+                Thread.sleep(5);
+            }
+
+            final int expectedRecords = ROUNDS * RECORDS_PER_ROUND;
+            final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+            for (final RecordingConsumer recordingConsumer : recordingConsumers) {
+                while (recordingConsumer.size() < expectedRecords && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+            }
+        } finally {
+            ingester.shutdown();
+        }
+
+        final Set<String> decoderThreadNames = new HashSet<>();
+        for (int pi = 0; pi < PARTITIONS; ++pi) {
+            final RecordingConsumer recordingConsumer = recordingConsumers[pi];
+            assertNull(recordingConsumer.failure.get());
+            assertFalse("partition " + pi + " consumed concurrently", recordingConsumer.overlapped);
+            // Each partition is owned by a single decoder
+            assertEquals(1, recordingConsumer.threadNames.size());
+            decoderThreadNames.addAll(recordingConsumer.threadNames);
+            synchronized (recordingConsumer.offsets) {
+                assertEquals(ROUNDS * RECORDS_PER_ROUND, recordingConsumer.offsets.size());
+                for (int ri = 0; ri < recordingConsumer.offsets.size(); ++ri) {
+                    assertEquals("partition " + pi, ri, recordingConsumer.offsets.get(ri).longValue());
+                }
+            }
+        }
+        assertEquals(DECODER_THREADS, decoderThreadNames.size());
+    }
+}
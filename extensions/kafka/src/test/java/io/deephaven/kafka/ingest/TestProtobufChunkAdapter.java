@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.ingest;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.kafka.KafkaTools;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseableArray;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public class TestProtobufChunkAdapter {
+    private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote("."));
+
+    private static final Descriptor DESCRIPTOR = makeDescriptor();
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofInt("Int"),
+            ColumnDefinition.ofLong("Long"),
+            ColumnDefinition.ofLong("UInt"),
+            ColumnDefinition.ofFloat("Flt"),
+            ColumnDefinition.ofDouble("Dbl"),
+            ColumnDefinition.ofBoolean("Bool"),
+            ColumnDefinition.ofString("Str"),
+            ColumnDefinition.ofString("Color"),
+            ColumnDefinition.fromGenericType("Bytes", byte[].class),
+            ColumnDefinition.ofTime("Ts"),
+            ColumnDefinition.ofInt("NestedA"),
+            ColumnDefinition.ofString("NestedB"));
+
+    private static final Map<String, String> FIELD_MAPPING = new LinkedHashMap<>();
+    static {
+        for (final String name : new String[] {
+                "Int", "Long", "UInt", "Flt", "Dbl", "Bool", "Str", "Color", "Bytes", "Ts"}) {
+            FIELD_MAPPING.put(name, name);
+        }
+        FIELD_MAPPING.put("Nested.A", "NestedA");
+        FIELD_MAPPING.put("Nested.B", "NestedB");
+    }
+
+    private static FieldDescriptorProto field(
+            final String name, final int number, final FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+
+    private static FieldDescriptorProto field(
+            final String name, final int number, final FieldDescriptorProto.Type type, final String typeName) {
+        return field(name, number, type).toBuilder().setTypeName(typeName).build();
+    }
+
+    private static Descriptor makeDescriptor() {
+        final FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("test.proto")
+                .setPackage("io.deephaven.test")
+                .setSyntax("proto3")
+                .addDependency(Timestamp.getDescriptor().getFile().getName())
+                .addEnumType(EnumDescriptorProto.newBuilder()
+                        .setName("Color")
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("RED").setNumber(0))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("GREEN").setNumber(1)))
+                .addMessageType(DescriptorProto.newBuilder()
+                        .setName("Inner")
+                        .addField(field("A", 1, FieldDescriptorProto.Type.TYPE_INT32))
+                        .addField(field("B", 2, FieldDescriptorProto.Type.TYPE_STRING)))
+                .addMessageType(DescriptorProto.newBuilder()
+                        .setName("Test")
+                        .addField(field("Int", 1, FieldDescriptorProto.Type.TYPE_SINT32))
+                        .addField(field("Long", 2, FieldDescriptorProto.Type.TYPE_INT64))
+                        .addField(field("UInt", 3, FieldDescriptorProto.Type.TYPE_UINT32))
+                        .addField(field("Flt", 4, FieldDescriptorProto.Type.TYPE_FLOAT))
+                        .addField(field("Dbl", 5, FieldDescriptorProto.Type.TYPE_DOUBLE))
+                        .addField(field("Bool", 6, FieldDescriptorProto.Type.TYPE_BOOL))
+                        .addField(field("Str", 7, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("Color", 8, FieldDescriptorProto.Type.TYPE_ENUM, ".io.deephaven.test.Color"))
+                        .addField(field("Bytes", 9, FieldDescriptorProto.Type.TYPE_BYTES))
+                        .addField(field("Ts", 10, FieldDescriptorProto.Type.TYPE_MESSAGE,
+                                ".google.protobuf.Timestamp"))
+                        .addField(field("Nested", 11, FieldDescriptorProto.Type.TYPE_MESSAGE,
+                                ".io.deephaven.test.Inner"))
+                        .addField(field("Skipped", 12, FieldDescriptorProto.Type.TYPE_STRING).toBuilder()
+                                .setLabel(FieldDescriptorProto.Label.LABEL_REPEATED)))
+                .build();
+        try {
+            return FileDescriptor.buildFrom(file, new FileDescriptor[] {Timestamp.getDescriptor().getFile()})
+                    .findMessageTypeByName("Test");
+        } catch (DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] makeMessage(final int ii) {
+        final DynamicMessage.Builder builder = DynamicMessage.newBuilder(DESCRIPTOR);
+        builder.setField(DESCRIPTOR.findFieldByName("Int"), ii - 5);
+        builder.setField(DESCRIPTOR.findFieldByName("Long"), 1L << (ii * 6));
+        builder.setField(DESCRIPTOR.findFieldByName("UInt"), -ii);
+        builder.setField(DESCRIPTOR.findFieldByName("Flt"), ii / 4.0f);
+        builder.setField(DESCRIPTOR.findFieldByName("Dbl"), ii * 1.5);
+        builder.setField(DESCRIPTOR.findFieldByName("Bool"), ii % 2 == 0);
+        if (ii % 5 != 0) {
+            builder.setField(DESCRIPTOR.findFieldByName("Str"), "str" + ii);
+        }
+        builder.setField(DESCRIPTOR.findFieldByName("Color"),
+                DESCRIPTOR.findFieldByName("Color").getEnumType().findValueByNumber(ii % 2));
+        builder.setField(DESCRIPTOR.findFieldByName("Bytes"), ByteString.copyFrom(new byte[] {(byte) ii, 1}));
+        if (ii % 3 != 1) {
+            builder.setField(DESCRIPTOR.findFieldByName("Ts"),
+                    Timestamp.newBuilder().setSeconds(1690000000L + ii).setNanos(ii * 1000).build());
+        }
+        for (int si = 0; si < ii % 4; ++si) {
+            builder.addRepeatedField(DESCRIPTOR.findFieldByName("Skipped"), "skip" + si);
+        }
+        if (ii % 3 != 2) {
+            final Descriptor inner = DESCRIPTOR.findFieldByName("Nested").getMessageType();
+            builder.setField(DESCRIPTOR.findFieldByName("Nested"), DynamicMessage.newBuilder(inner)
+                    .setField(inner.findFieldByName("A"), ii * 100)
+                    .setField(inner.findFieldByName("B"), "inner" + ii)
+                    .build());
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Test
+    public void testColumnDefinitions() {
+        final List<ColumnDefinition<?>> columns = new ArrayList<>();
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        KafkaTools.protobufDescriptorToColumnDefinitions(columns, mapping, DESCRIPTOR, KafkaTools.DIRECT_MAPPING);
+        assertEquals(Arrays.asList("Int", "Long", "UInt", "Flt", "Dbl", "Bool", "Str", "Color", "Bytes", "Ts",
+                "Nested.A", "Nested.B"), new ArrayList<>(mapping.keySet()));
+        final Map<String, String> expectedNames = new LinkedHashMap<>(FIELD_MAPPING);
+        expectedNames.put("Nested.A", "Nested__A");
+        expectedNames.put("Nested.B", "Nested__B");
+        assertEquals(expectedNames, mapping);
+        for (int ci = 0; ci < columns.size(); ++ci) {
+            assertEquals(DEFINITION.getColumns().get(ci).getDataType(), columns.get(ci).getDataType());
+        }
+    }
+
+    @Test
+    public void testDecode() {
+        final int size = 11;
+        final WritableChunk<Values>[] actual = makeChunks(size);
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> input = WritableObjectChunk.makeWritableChunk(size)) {
+            input.setSize(0);
+            for (int ii = 0; ii < size - 1; ++ii) {
+                input.add(makeMessage(ii));
+            }
+            input.add(null);
+
+            ProtobufChunkAdapter.make(DEFINITION, ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci),
+                    FIELD_MAPPING, SEPARATOR, DESCRIPTOR, true).handleChunk(input, actual);
+
+            for (int ii = 0; ii < size - 1; ++ii) {
+                assertEquals(ii - 5, actual[0].asIntChunk().get(ii));
+                assertEquals(1L << (ii * 6), actual[1].asLongChunk().get(ii));
+                assertEquals(Integer.toUnsignedLong(-ii), actual[2].asLongChunk().get(ii));
+                assertEquals(ii / 4.0f, actual[3].asFloatChunk().get(ii), 0);
+                assertEquals(ii * 1.5, actual[4].asDoubleChunk().get(ii), 0);
+                assertEquals(BooleanUtils.booleanAsByte(ii % 2 == 0), actual[5].asByteChunk().get(ii));
+                // Absent implicit-presence fields decode to the field default
+                assertEquals(ii % 5 == 0 ? "" : "str" + ii, actual[6].asObjectChunk().get(ii));
+                assertEquals(ii % 2 == 0 ? "RED" : "GREEN", actual[7].asObjectChunk().get(ii));
+                assertArrayEquals(new byte[] {(byte) ii, 1}, (byte[]) actual[8].asObjectChunk().get(ii));
+                assertEquals(ii % 3 == 1 ? QueryConstants.NULL_LONG : (1690000000L + ii) * 1_000_000_000L + ii * 1000,
+                        actual[9].asLongChunk().get(ii));
+                assertEquals(ii % 3 == 2 ? QueryConstants.NULL_INT : ii * 100, actual[10].asIntChunk().get(ii));
+                assertEquals(ii % 3 == 2 ? null : "inner" + ii, actual[11].asObjectChunk().get(ii));
+            }
+            assertEquals(QueryConstants.NULL_INT, actual[0].asIntChunk().get(size - 1));
+            assertEquals(QueryConstants.NULL_BOOLEAN_AS_BYTE, actual[5].asByteChunk().get(size - 1));
+            assertNull(actual[6].asObjectChunk().get(size - 1));
+            assertEquals(QueryConstants.NULL_LONG, actual[9].asLongChunk().get(size - 1));
+        }
+    }
+
+    @Test
+    public void testMergeRepeatedMessages() throws InvalidProtocolBufferException {
+        final Descriptor inner = DESCRIPTOR.findFieldByName("Nested").getMessageType();
+        final byte[] first = DynamicMessage.newBuilder(DESCRIPTOR)
+                .setField(DESCRIPTOR.findFieldByName("Str"), "first")
+                .setField(DESCRIPTOR.findFieldByName("Ts"), Timestamp.newBuilder().setSeconds(100).setNanos(5).build())
+                .setField(DESCRIPTOR.findFieldByName("Nested"), DynamicMessage.newBuilder(inner)
+                        .setField(inner.findFieldByName("A"), 1)
+                        .setField(inner.findFieldByName("B"), "x")
+                        .build())
+                .build().toByteArray();
+        final byte[] second = DynamicMessage.newBuilder(DESCRIPTOR)
+                .setField(DESCRIPTOR.findFieldByName("Ts"), Timestamp.newBuilder().setNanos(7).build())
+                .setField(DESCRIPTOR.findFieldByName("Nested"), DynamicMessage.newBuilder(inner)
+                        .setField(inner.findFieldByName("B"), "y")
+                        .build())
+                .build().toByteArray();
+        // Concatenated messages are merged, so each singular message field occurs twice
+        final byte[] merged = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, merged, first.length, second.length);
+
+        final WritableChunk<Values>[] actual = makeChunks(1);
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> input = WritableObjectChunk.makeWritableChunk(1)) {
+            input.setSize(0);
+            input.add(merged);
+
+            ProtobufChunkAdapter.make(DEFINITION, ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci),
+                    FIELD_MAPPING, SEPARATOR, DESCRIPTOR, true).handleChunk(input, actual);
+
+            final DynamicMessage expected = DynamicMessage.parseFrom(DESCRIPTOR, merged);
+            final DynamicMessage expectedNested =
+                    (DynamicMessage) expected.getField(DESCRIPTOR.findFieldByName("Nested"));
+            // Fields absent from the second occurrence keep their values from the first, rather than their defaults
+            assertEquals(1, expectedNested.getField(inner.findFieldByName("A")));
+            assertEquals(1, actual[10].asIntChunk().get(0));
+            assertEquals("y", actual[11].asObjectChunk().get(0));
+            assertEquals(expectedNested.getField(inner.findFieldByName("B")), actual[11].asObjectChunk().get(0));
+            assertEquals("first", actual[6].asObjectChunk().get(0));
+            assertEquals(100 * 1_000_000_000L + 7, actual[9].asLongChunk().get(0));
+        }
+    }
+
+    @Test
+    public void testBadInput() {
+        final WritableChunk<Values>[] actual = makeChunks(2);
+        try (final SafeCloseableArray<?> ignored = new SafeCloseableArray<>(actual);
+                final WritableObjectChunk<Object, Values> input = WritableObjectChunk.makeWritableChunk(1)) {
+            input.setSize(0);
+            final byte[] message = makeMessage(3);
+            input.add(Arrays.copyOf(message, message.length - 2));
+            final ProtobufChunkAdapter adapter = ProtobufChunkAdapter.make(DEFINITION,
+                    ci -> StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci), FIELD_MAPPING, SEPARATOR,
+                    DESCRIPTOR, true);
+            assertThrows(UncheckedDeephavenException.class, () -> adapter.handleChunk(input, actual));
+        }
+    }
+
+    private static WritableChunk<Values>[] makeChunks(final int capacity) {
+        final int numColumns = DEFINITION.numColumns();
+        // noinspection unchecked
+        final WritableChunk<Values>[] chunks = new WritableChunk[numColumns];
+        for (int ci = 0; ci < numColumns; ++ci) {
+            chunks[ci] = StreamChunkUtils.chunkTypeForColumnIndex(DEFINITION, ci).makeWritableChunk(capacity);
+            chunks[ci].setSize(0);
+        }
+        return chunks;
+    }
+}
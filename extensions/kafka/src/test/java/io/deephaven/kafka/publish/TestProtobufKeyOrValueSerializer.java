@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.publish;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.QueryConstants;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+import static io.deephaven.engine.util.TableTools.booleanCol;
+import static io.deephaven.engine.util.TableTools.col;
+import static io.deephaven.engine.util.TableTools.doubleCol;
+import static io.deephaven.engine.util.TableTools.floatCol;
+import static io.deephaven.engine.util.TableTools.instantCol;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.longCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestProtobufKeyOrValueSerializer {
+    private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote("."));
+
+    private static final Descriptor DESCRIPTOR = makeDescriptor();
+
+    private static final String[] COLUMN_NAMES = {
+            "Int", "Long", "Flt", "Dbl", "Bool", "Str", "Color", "Bytes", "Ts", "OptDbl",
+            "NestedA", "NestedB", "NestedOptC"};
+    private static final String[] FIELD_PATHS = {
+            "Int", "Long", "Flt", "Dbl", "Bool", "Str", "Color", "Bytes", "Ts", "OptDbl",
+            "Nested.A", "Nested.B", "Nested.OptC"};
+
+    // Row 0 has every value, row 1 is entirely null, row 2 has only a presence field of the nested message, and
+    // row 3 has values at the edges of each type, including defaults that must still be written
+    private static final int[] INTS = {-3, QueryConstants.NULL_INT, 0, Integer.MIN_VALUE};
+    private static final long[] LONGS = {1L << 40, QueryConstants.NULL_LONG, 0, -1};
+    private static final float[] FLOATS = {1.5f, QueryConstants.NULL_FLOAT, 0, -2.25f};
+    private static final double[] DOUBLES = {3.25, QueryConstants.NULL_DOUBLE, 0, Double.MAX_VALUE};
+    private static final Boolean[] BOOLS = {true, null, false, true};
+    private static final String[] STRS = {"s0", null, "", "s3"};
+    private static final String[] COLORS = {"GREEN", null, "RED", "GREEN"};
+    private static final byte[][] BYTES = {{1, 2}, null, {}, {-1}};
+    private static final Instant[] TIMESTAMPS = {
+            Instant.ofEpochSecond(1690000000L, 123), null, Instant.EPOCH, Instant.ofEpochSecond(-2, 999_999_999)};
+    private static final double[] OPT_DOUBLES = {0, QueryConstants.NULL_DOUBLE, -1.5, QueryConstants.NULL_DOUBLE};
+    private static final int[] NESTED_AS = {7, QueryConstants.NULL_INT, QueryConstants.NULL_INT, 0};
+    private static final String[] NESTED_BS = {"b0", null, null, null};
+    private static final long[] NESTED_OPT_CS = {0, QueryConstants.NULL_LONG, 5, QueryConstants.NULL_LONG};
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private static FieldDescriptorProto field(
+            final String name, final int number, final FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+
+    private static FieldDescriptorProto field(
+            final String name, final int number, final FieldDescriptorProto.Type type, final String typeName) {
+        return field(name, number, type).toBuilder().setTypeName(typeName).build();
+    }
+
+    /**
+     * A proto3 {@code optional} field, which tracks presence through a synthetic oneof.
+     */
+    private static FieldDescriptorProto optionalField(
+            final String name, final int number, final FieldDescriptorProto.Type type, final int oneofIndex) {
+        return field(name, number, type).toBuilder().setProto3Optional(true).setOneofIndex(oneofIndex).build();
+    }
+
+    private static Descriptor makeDescriptor() {
+        final FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("roundtrip.proto")
+                .setPackage("io.deephaven.test")
+                .setSyntax("proto3")
+                .addDependency(Timestamp.getDescriptor().getFile().getName())
+                .addEnumType(EnumDescriptorProto.newBuilder()
+                        .setName("Color")
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("RED").setNumber(0))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("GREEN").setNumber(1)))
+                .addMessageType(DescriptorProto.newBuilder()
+                        .setName("Inner")
+                        .addField(field("A", 1, FieldDescriptorProto.Type.TYPE_INT32))
+                        .addField(field("B", 2, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(optionalField("OptC", 3, FieldDescriptorProto.Type.TYPE_INT64, 0))
+                        .addOneofDecl(OneofDescriptorProto.newBuilder().setName("_OptC")))
+                .addMessageType(DescriptorProto.newBuilder()
+                        .setName("Test")
+                        .addField(field("Int", 1, FieldDescriptorProto.Type.TYPE_SINT32))
+                        .addField(field("Long", 2, FieldDescriptorProto.Type.TYPE_INT64))
+                        .addField(field("Flt", 3, FieldDescriptorProto.Type.TYPE_FLOAT))
+                        .addField(field("Dbl", 4, FieldDescriptorProto.Type.TYPE_DOUBLE))
+                        .addField(field("Bool", 5, FieldDescriptorProto.Type.TYPE_BOOL))
+                        .addField(field("Str", 6, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("Color", 7, FieldDescriptorProto.Type.TYPE_ENUM, ".io.deephaven.test.Color"))
+                        .addField(field("Bytes", 8, FieldDescriptorProto.Type.TYPE_BYTES))
+                        .addField(field("Ts", 9, FieldDescriptorProto.Type.TYPE_MESSAGE,
+                                ".google.protobuf.Timestamp"))
+                        .addField(field("Nested", 10, FieldDescriptorProto.Type.TYPE_MESSAGE,
+                                ".io.deephaven.test.Inner"))
+                        .addField(field("Tags", 11, FieldDescriptorProto.Type.TYPE_STRING).toBuilder()
+                                .setLabel(FieldDescriptorProto.Label.LABEL_REPEATED))
+                        .addField(optionalField("OptDbl", 12, FieldDescriptorProto.Type.TYPE_DOUBLE, 0))
+                        .addOneofDecl(OneofDescriptorProto.newBuilder().setName("_OptDbl")))
+                .build();
+        try {
+            return FileDescriptor.buildFrom(file, new FileDescriptor[] {Timestamp.getDescriptor().getFile()})
+                    .findMessageTypeByName("Test");
+        } catch (DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Table makeTable() {
+        return TableTools.newTable(
+                intCol("Int", INTS),
+                longCol("Long", LONGS),
+                floatCol("Flt", FLOATS),
+                doubleCol("Dbl", DOUBLES),
+                booleanCol("Bool", BOOLS),
+                stringCol("Str", STRS),
+                stringCol("Color", COLORS),
+                col("Bytes", BYTES),
+                instantCol("Ts", TIMESTAMPS),
+                doubleCol("OptDbl", OPT_DOUBLES),
+                intCol("NestedA", NESTED_AS),
+                stringCol("NestedB", NESTED_BS),
+                longCol("NestedOptC", NESTED_OPT_CS));
+    }
+
+    @Test
+    public void testRoundTrip() throws InvalidProtocolBufferException {
+        final Table table = makeTable();
+        final ProtobufKeyOrValueSerializer serializer =
+                new ProtobufKeyOrValueSerializer(table, DESCRIPTOR, COLUMN_NAMES, FIELD_PATHS, SEPARATOR);
+        final int size = table.intSize();
+        try (final KeyOrValueSerializer.Context context = serializer.makeContext(size)) {
+            final ObjectChunk<byte[], Values> messages = serializer.handleChunk(context, table.getRowSet(), false);
+            assertEquals(size, messages.size());
+            for (int ii = 0; ii < size; ++ii) {
+                final DynamicMessage message = DynamicMessage.parseFrom(DESCRIPTOR, messages.get(ii));
+                // Everything written is a known field of the message type
+                assertTrue(message.getUnknownFields().asMap().isEmpty());
+
+                assertValue(message, "Int", INTS[ii] == QueryConstants.NULL_INT ? null : INTS[ii]);
+                assertValue(message, "Long", LONGS[ii] == QueryConstants.NULL_LONG ? null : LONGS[ii]);
+                assertValue(message, "Flt", FLOATS[ii] == QueryConstants.NULL_FLOAT ? null : FLOATS[ii]);
+                assertValue(message, "Dbl", DOUBLES[ii] == QueryConstants.NULL_DOUBLE ? null : DOUBLES[ii]);
+                assertValue(message, "Bool", BOOLS[ii]);
+                assertValue(message, "Str", STRS[ii]);
+                assertValue(message, "Color", COLORS[ii] == null ? null
+                        : DESCRIPTOR.findFieldByName("Color").getEnumType().findValueByName(COLORS[ii]));
+                assertValue(message, "Bytes", BYTES[ii] == null ? null : ByteString.copyFrom(BYTES[ii]));
+                // Presence fields are written even when they hold the default value
+                assertValue(message, "OptDbl",
+                        OPT_DOUBLES[ii] == QueryConstants.NULL_DOUBLE ? null : OPT_DOUBLES[ii]);
+
+                final FieldDescriptor tsField = DESCRIPTOR.findFieldByName("Ts");
+                assertEquals(TIMESTAMPS[ii] != null, message.hasField(tsField));
+                if (TIMESTAMPS[ii] != null) {
+                    final DynamicMessage ts = (DynamicMessage) message.getField(tsField);
+                    assertValue(ts, "seconds", TIMESTAMPS[ii].getEpochSecond());
+                    assertValue(ts, "nanos", TIMESTAMPS[ii].getNano());
+                }
+
+                // The nested message is omitted only when all of its mapped columns are null
+                final FieldDescriptor nestedField = DESCRIPTOR.findFieldByName("Nested");
+                final boolean nestedPresent = NESTED_AS[ii] != QueryConstants.NULL_INT || NESTED_BS[ii] != null
+                        || NESTED_OPT_CS[ii] != QueryConstants.NULL_LONG;
+                assertEquals(nestedPresent, message.hasField(nestedField));
+                if (nestedPresent) {
+                    final DynamicMessage nested = (DynamicMessage) message.getField(nestedField);
+                    assertValue(nested, "A", NESTED_AS[ii] == QueryConstants.NULL_INT ? null : NESTED_AS[ii]);
+                    assertValue(nested, "B", NESTED_BS[ii]);
+                    assertValue(nested, "OptC",
+                            NESTED_OPT_CS[ii] == QueryConstants.NULL_LONG ? null : NESTED_OPT_CS[ii]);
+                }
+
+                // Repeated fields can not be mapped, so they are always empty
+                assertEquals(0, message.getRepeatedFieldCount(DESCRIPTOR.findFieldByName("Tags")));
+            }
+        }
+    }
+
+    @Test
+    public void testRepeatedFieldRejected() {
+        final Table table = makeTable();
+        assertThrows(IllegalArgumentException.class, () -> new ProtobufKeyOrValueSerializer(
+                table, DESCRIPTOR, new String[] {"Str"}, new String[] {"Tags"}, SEPARATOR));
+    }
+
+    /**
+     * Assert that {@code field} of {@code message} holds {@code expected}, or was omitted if {@code expected} is null.
+     */
+    private static void assertValue(final DynamicMessage message, final String name, final Object expected) {
+        final FieldDescriptor field = message.getDescriptorForType().findFieldByName(name);
+        if (expected == null) {
+            assertFalse(name, message.hasField(field));
+            return;
+        }
+        if (field.hasPresence()) {
+            assertTrue(name, message.hasField(field));
+        }
+        assertEquals(name, expected, message.getField(field));
+    }
+}
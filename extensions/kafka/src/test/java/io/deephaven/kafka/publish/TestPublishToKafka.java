@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.kafka.publish;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.liveness.LivenessScope;
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.kafka.KafkaTools.Produce.AsyncOptions;
+import io.deephaven.util.SafeCloseable;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.deephaven.engine.testutil.TstUtils.i;
+import static io.deephaven.engine.util.TableTools.stringCol;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestPublishToKafka {
+    private static final String TOPIC = "published";
+    private static final int KEYS = 4;
+    private static final long TIMEOUT_MS = 30_000;
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    @Test
+    public void testAsyncPreservesOrder() throws InterruptedException {
+        final MockProducer<String, String> producer =
+                new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        final QueryTable source = makeSource();
+        final LivenessScope scope = publish(producer, source, AsyncOptions.of(4, 8));
+        try {
+            // Several batches per cycle, so that workers serialize them concurrently
+            final int rowsPerCycle = PublishToKafka.CHUNK_SIZE * 5 / 2;
+            for (int cycle = 0; cycle < 4; ++cycle) {
+                addRows(source, (long) cycle * rowsPerCycle, rowsPerCycle);
+            }
+            final int expectedRecords = 4 * rowsPerCycle;
+            awaitHistory(producer, expectedRecords);
+
+            final List<ProducerRecord<String, String>> history = producer.history();
+            assertEquals(expectedRecords, history.size());
+            final Map<String, Long> lastSequenceByKey = new HashMap<>();
+            for (int ri = 0; ri < history.size(); ++ri) {
+                final ProducerRecord<String, String> record = history.get(ri);
+                assertEquals(TOPIC, record.topic());
+                final long sequence = Long.parseLong(record.value().substring(1));
+                // Records for any key (and thus any partition) are sent in the order they were published
+                final Long last = lastSequenceByKey.put(record.key(), sequence);
+                assertTrue(last == null || last < sequence);
+                assertEquals("K" + (sequence % KEYS), record.key());
+                // In fact, all records are sent in the synchronous mode's order
+                assertEquals(ri, sequence);
+            }
+        } finally {
+            scope.release();
+        }
+    }
+
+    @Test
+    public void testAsyncBackpressure() throws InterruptedException {
+        final MockProducer<String, String> producer =
+                new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        final QueryTable source = makeSource();
+        final int maxPendingBatches = 2;
+        final LivenessScope scope = publish(producer, source, AsyncOptions.of(1, maxPendingBatches));
+        try {
+            final int batchSize = PublishToKafka.CHUNK_SIZE;
+            final ExecutionContext executionContext = ExecutionContext.getContext();
+            final Thread cycleThread = new Thread(() -> {
+                try (final SafeCloseable ignored = executionContext.open()) {
+                    addRows(source, 0, (maxPendingBatches + 1) * batchSize);
+                }
+            }, "TestPublishToKafka-cycle");
+            cycleThread.start();
+
+            // Only maxPendingBatches batches may await acknowledgement; the cycle must block before sending the rest
+            awaitHistory(producer, maxPendingBatches * batchSize);
+            cycleThread.join(500);
+            assertTrue(cycleThread.isAlive());
+            assertEquals(maxPendingBatches * batchSize, producer.history().size());
+
+            // Acknowledging the pending batches releases the cycle
+            producer.flush();
+            cycleThread.join(TIMEOUT_MS);
+            assertFalse(cycleThread.isAlive());
+            awaitHistory(producer, (maxPendingBatches + 1) * batchSize);
+            producer.flush();
+        } finally {
+            scope.release();
+        }
+    }
+
+    @Test
+    public void testAsyncSendFailure() throws InterruptedException {
+        final MockProducer<String, String> producer =
+                new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        final QueryTable source = makeSource();
+        final LivenessScope scope = publish(producer, source, AsyncOptions.of(2, 4));
+        try {
+            addRows(source, 0, 10);
+            awaitHistory(producer, 10);
+            assertTrue(producer.errorNext(new RuntimeException("boom")));
+            producer.flush();
+
+            // The failed callback fails the listener on its next update, before anything else is sent
+            framework.allowingError(() -> addRows(source, 10, 10),
+                    errors -> errors != null && errors.size() == 1 && hasCause(errors.get(0), "boom"));
+            assertEquals(10, producer.history().size());
+        } finally {
+            scope.release();
+        }
+    }
+
+    @Test
+    public void testAsyncDestroyDoesNotWait() throws InterruptedException {
+        final MockProducer<String, String> producer =
+                new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        final QueryTable source = makeSource();
+        final LivenessScope scope = publish(producer, source, AsyncOptions.of(2, 4));
+        addRows(source, 0, PublishToKafka.CHUNK_SIZE * 3);
+        awaitHistory(producer, PublishToKafka.CHUNK_SIZE * 3);
+
+        // None of the records have been acknowledged, but destroying the publisher must not wait for them
+        final long startNanos = System.nanoTime();
+        scope.release();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 5_000);
+        assertTrue(producer.closed());
+    }
+
+    private static QueryTable makeSource() {
+        return TstUtils.testRefreshingTable(RowSetFactory.empty().toTracking(), stringCol("Key"), stringCol("Value"));
+    }
+
+    private static LivenessScope publish(
+            final MockProducer<String, String> producer,
+            final QueryTable source,
+            final AsyncOptions asyncOptions) {
+        final LivenessScope scope = new LivenessScope(true);
+        try (final SafeCloseable ignored = LivenessScopeStack.open(scope, false)) {
+            new PublishToKafka<String, String>(
+                    producer,
+                    source,
+                    TOPIC,
+                    new String[] {"Key"},
+                    new SimpleKeyOrValueSerializer<>(source, "Key"),
+                    t -> new SimpleKeyOrValueSerializer<>(t, "Key"),
+                    new String[] {"Value"},
+                    new SimpleKeyOrValueSerializer<>(source, "Value"),
+                    t -> new SimpleKeyOrValueSerializer<>(t, "Value"),
+                    asyncOptions);
+        }
+        return scope;
+    }
+
+    /**
+     * Add rows {@code [first, first + count)} to {@code source} in a single cycle. Row {@code r} has value "V{r}" and
+     * key "K{r % KEYS}".
+     */
+    private static void addRows(final QueryTable source, final long first, final int count) {
+        final String[] keys = new String[count];
+        final String[] values = new String[count];
+        for (int ii = 0; ii < count; ++ii) {
+            keys[ii] = "K" + ((first + ii) % KEYS);
+            values[ii] = "V" + (first + ii);
+        }
+        ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(() -> {
+            final RowSet added = RowSetFactory.fromRange(first, first + count - 1);
+            TstUtils.addToTable(source, added, stringCol("Key", keys), stringCol("Value", values));
+            source.notifyListeners(added, i(), i());
+        });
+    }
+
+    private static boolean hasCause(Throwable throwable, final String message) {
+        for (; throwable != null; throwable = throwable.getCause()) {
+            if (message.equals(throwable.getMessage())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void awaitHistory(final MockProducer<?, ?> producer, final int expectedRecords)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (producer.history().size() < expectedRecords) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out waiting for " + expectedRecords + " records, sent " + producer.history().size());
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -4,7 +4,10 @@
 package io.deephaven.parquet.base;
 
 import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -53,6 +56,20 @@ public interface ColumnChunkReader {
      */
     Supplier<Dictionary> getDictionarySupplier();
 
+    /**
+     * @return The Bloom filter for this column chunk, read from the file's Bloom filter section, or {@code null} if
+     *         none was written or it uses an unsupported algorithm
+     */
+    @Nullable
+    BloomFilter getBloomFilter();
+
+    /**
+     * @return The min/max statistics for this column chunk, or {@code null} if none were written or the writer is
+     *         known to have computed them incorrectly
+     */
+    @Nullable
+    Statistics<?> getStatistics();
+
     Dictionary NULL_DICTIONARY = new NullDictionary();
 
     final class NullDictionary extends Dictionary {
@@ -13,13 +13,19 @@ import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.format.*;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
@@ -28,6 +34,7 @@ import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import static org.apache.parquet.format.Encoding.PLAIN_DICTIONARY;
@@ -35,6 +42,8 @@ import static org.apache.parquet.format.Encoding.RLE_DICTIONARY;
 
 public class ColumnChunkReaderImpl implements ColumnChunkReader {
 
+    private static final int BLOOM_FILTER_BUFFER_SIZE = 65536;
+
     private final ColumnChunk columnChunk;
     private final SeekableChannelsProvider channelsProvider;
     private final Path rootPath;
@@ -43,13 +52,15 @@ public class ColumnChunkReaderImpl implements ColumnChunkReader {
     private final OffsetIndex offsetIndex;
     private final List<Type> fieldTypes;
     private final Supplier<Dictionary> dictionarySupplier;
+    private final Supplier<Optional<BloomFilter>> bloomFilterSupplier;
+    private final String createdBy;
     private final PageMaterializer.Factory nullMaterializerFactory;
 
     private Path filePath;
 
     ColumnChunkReaderImpl(
             ColumnChunk columnChunk, SeekableChannelsProvider channelsProvider,
-            Path rootPath, MessageType type, OffsetIndex offsetIndex, List<Type> fieldTypes) {
+            Path rootPath, MessageType type, OffsetIndex offsetIndex, List<Type> fieldTypes, String createdBy) {
         this.channelsProvider = channelsProvider;
         this.columnChunk = columnChunk;
         this.rootPath = rootPath;
@@ -64,6 +75,8 @@ public class ColumnChunkReaderImpl implements ColumnChunkReader {
         this.offsetIndex = offsetIndex;
         this.fieldTypes = fieldTypes;
         this.dictionarySupplier = new LazyCachingSupplier<>(this::getDictionary);
+        this.bloomFilterSupplier = new LazyCachingSupplier<>(this::readBloomFilter);
+        this.createdBy = createdBy;
         this.nullMaterializerFactory = PageMaterializer.factoryForType(path.getPrimitiveType().getPrimitiveTypeName());
     }
 
@@ -166,6 +179,52 @@ public class ColumnChunkReaderImpl implements ColumnChunkReader {
         return path.getPrimitiveType();
     }
 
+    @Override
+    @Nullable
+    public BloomFilter getBloomFilter() {
+        if (!columnChunk.getMeta_data().isSetBloom_filter_offset()) {
+            return null;
+        }
+        return bloomFilterSupplier.get().orElse(null);
+    }
+
+    @NotNull
+    private Optional<BloomFilter> readBloomFilter() {
+        final ColumnMetaData chunkMeta = columnChunk.getMeta_data();
+        try (final SeekableByteChannel readChannel = channelsProvider.getReadChannel(getFilePath())) {
+            readChannel.position(chunkMeta.getBloom_filter_offset());
+            final DataInputStream inputStream = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(readChannel), BLOOM_FILTER_BUFFER_SIZE));
+            final BloomFilterHeader header = Util.readBloomFilterHeader(inputStream);
+            final int numBytes = header.getNumBytes();
+            if (!header.getAlgorithm().isSetBLOCK() || !header.getHash().isSetXXHASH()
+                    || !header.getCompression().isSetUNCOMPRESSED()
+                    || numBytes <= 0 || numBytes > BlockSplitBloomFilter.UPPER_BOUND_BYTES) {
+                // Written by a newer or different implementation; we can't use it, but it's safe to ignore
+                return Optional.empty();
+            }
+            final byte[] bitset = new byte[numBytes];
+            inputStream.readFully(bitset);
+            return Optional.of(new BlockSplitBloomFilter(bitset));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    @Nullable
+    public org.apache.parquet.column.statistics.Statistics<?> getStatistics() {
+        final ColumnMetaData chunkMeta = columnChunk.getMeta_data();
+        if (!chunkMeta.isSetStatistics()) {
+            return null;
+        }
+        // The converter discards min/max values from writers with known ordering bugs
+        final org.apache.parquet.column.statistics.Statistics<?> statistics =
+                ParquetMetadataConverter.fromParquetStatistics(createdBy, chunkMeta.getStatistics(),
+                        path.getPrimitiveType());
+        return statistics.isEmpty() ? null : statistics;
+    }
+
     @NotNull
     private Dictionary readDictionary(ReadableByteChannel file) throws IOException {
         // explicitly not closing this, caller is responsible
@@ -4,6 +4,10 @@
 package io.deephaven.parquet.base;
 
 import io.deephaven.util.SafeCloseable;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.nio.IntBuffer;
@@ -16,4 +20,25 @@ public interface ColumnWriter extends SafeCloseable {
     void addPage(Object pageData, int valuesCount) throws IOException;
 
     void addVectorPage(Object pageData, IntBuffer repeatCount, int valuesCount) throws IOException;
+
+    /**
+     * @return The primitive type this column is written as
+     */
+    PrimitiveType getType();
+
+    /**
+     * Set the Bloom filter to write for this column chunk in the file's Bloom filter section. Must be called before
+     * this writer is closed.
+     *
+     * @param bloomFilter A Bloom filter holding the hash of every non-null value written to this column chunk
+     */
+    void setBloomFilter(@NotNull BloomFilter bloomFilter);
+
+    /**
+     * Set the statistics to write for this column chunk, in place of the empty statistics written by default. Must be
+     * called before this writer is closed.
+     *
+     * @param statistics Statistics covering every value written to this column chunk
+     */
+    void setStatistics(@NotNull Statistics<?> statistics);
 }
@@ -12,6 +12,7 @@ import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
 import org.apache.parquet.format.*;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
@@ -21,6 +22,7 @@ import org.apache.parquet.internal.column.columnindex.OffsetIndexBuilder;
 import org.apache.parquet.io.ParquetEncodingException;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -61,6 +63,8 @@ public class ColumnWriterImpl implements ColumnWriter {
     private long totalValueCount;
     private DictionaryPageHeader dictionaryPage;
     private final OffsetIndexBuilder offsetIndexBuilder;
+    private BloomFilter bloomFilter;
+    private Statistics<?> statistics;
 
     private final EncodingStats.Builder encodingStatsBuilder = new EncodingStats.Builder();
 
@@ -407,6 +411,21 @@ public class ColumnWriterImpl implements ColumnWriter {
         }
     }
 
+    @Override
+    public PrimitiveType getType() {
+        return column.getPrimitiveType();
+    }
+
+    @Override
+    public void setBloomFilter(@NotNull final BloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
+    @Override
+    public void setStatistics(@NotNull final Statistics<?> statistics) {
+        this.statistics = statistics;
+    }
+
     @Override
     public void close() {
         owner.releaseWriter(this,
@@ -415,7 +434,7 @@ public class ColumnWriterImpl implements ColumnWriter {
                         compressorAdapter.getCodecName(),
                         encodingStatsBuilder.build(),
                         encodings,
-                        Statistics.createStats(column.getPrimitiveType()),
+                        statistics != null ? statistics : Statistics.createStats(column.getPrimitiveType()),
                         firstDataPageOffset,
                         dictionaryOffset,
                         totalValueCount,
@@ -427,6 +446,10 @@ public class ColumnWriterImpl implements ColumnWriter {
         return column;
     }
 
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
     public OffsetIndex getOffsetIndex() {
         return offsetIndexBuilder.build(firstDataPageOffset);
     }
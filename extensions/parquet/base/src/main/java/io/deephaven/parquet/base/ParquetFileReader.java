@@ -179,7 +179,8 @@ public class ParquetFileReader {
                 channelsProvider,
                 rootPath,
                 type,
-                getSchema());
+                getSchema(),
+                fileMetaData.getCreated_by());
     }
 
     private static MessageType fromParquetSchema(List<SchemaElement> schema, List<ColumnOrder> columnOrders)
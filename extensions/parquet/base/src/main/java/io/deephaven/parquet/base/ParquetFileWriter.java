@@ -11,6 +11,7 @@ import org.apache.parquet.Version;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.BytesUtils;
 
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.format.Util;
 import org.apache.parquet.hadoop.metadata.*;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
@@ -42,6 +43,7 @@ public class ParquetFileWriter {
     private final Map<String, String> extraMetaData;
     private final List<BlockMetaData> blocks = new ArrayList<>();
     private final List<List<OffsetIndex>> offsetIndexes = new ArrayList<>();
+    private final List<List<BloomFilter>> bloomFilters = new ArrayList<>();
 
     public ParquetFileWriter(
             final String filePath,
@@ -76,11 +78,13 @@ public class ParquetFileWriter {
         rowGroupWriter.getBlock().setRowCount(size);
         blocks.add(rowGroupWriter.getBlock());
         offsetIndexes.add(rowGroupWriter.offsetIndexes());
+        bloomFilters.add(rowGroupWriter.bloomFilters());
         return rowGroupWriter;
     }
 
     public void close() throws IOException {
         try (final OutputStream os = Channels.newOutputStream(writeChannel)) {
+            serializeBloomFilters(bloomFilters, blocks, os);
             serializeOffsetIndexes(offsetIndexes, blocks, os);
             ParquetMetadata footer =
                     new ParquetMetadata(new FileMetaData(type, extraMetaData, Version.FULL_VERSION), blocks);
@@ -99,6 +103,27 @@ public class ParquetFileWriter {
         os.write(ParquetFileReader.MAGIC);
     }
 
+    private void serializeBloomFilters(
+            final List<List<BloomFilter>> bloomFilters,
+            final List<BlockMetaData> blocks,
+            final OutputStream os) throws IOException {
+        for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+            final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
+            final List<BloomFilter> blockBloomFilters = bloomFilters.get(bIndex);
+            for (int cIndex = 0, cSize = columns.size(); cIndex < cSize; ++cIndex) {
+                final BloomFilter bloomFilter = blockBloomFilters.get(cIndex);
+                if (bloomFilter == null) {
+                    continue;
+                }
+                columns.get(cIndex).setBloomFilterOffset(writeChannel.position());
+                Util.writeBloomFilterHeader(
+                        org.apache.parquet.format.converter.ParquetMetadataConverter.toBloomFilterHeader(bloomFilter),
+                        os);
+                bloomFilter.writeTo(os);
+            }
+        }
+    }
+
     private void serializeOffsetIndexes(
             final List<List<OffsetIndex>> offsetIndexes,
             final List<BlockMetaData> blocks,
@@ -33,10 +33,12 @@ public class RowGroupReaderImpl implements RowGroupReader {
     private final Map<String, ColumnChunk> chunkMap = new HashMap<>();
 
     private final Path rootPath;
+    private final String createdBy;
 
     RowGroupReaderImpl(RowGroup rowGroup, SeekableChannelsProvider channelsProvider, Path rootPath,
-            MessageType type, MessageType schema) {
+            MessageType type, MessageType schema, String createdBy) {
         this.channelsProvider = channelsProvider;
+        this.createdBy = createdBy;
         this.rowGroup = rowGroup;
         this.rootPath = rootPath;
         this.type = type;
@@ -76,7 +78,7 @@ public class RowGroupReaderImpl implements RowGroupReader {
             }
         }
         return new ColumnChunkReaderImpl(columnChunk, channelsProvider, rootPath,
-                type, offsetIndex, fieldTypes);
+                type, offsetIndex, fieldTypes, createdBy);
     }
 
     @Override
@@ -6,6 +6,7 @@ package io.deephaven.parquet.base;
 import io.deephaven.parquet.base.util.SeekableChannelsProvider;
 import io.deephaven.parquet.compress.CompressorAdapter;
 import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
@@ -27,6 +28,7 @@ public class RowGroupWriterImpl implements RowGroupWriter {
     private ColumnWriterImpl activeWriter;
     private final BlockMetaData blockMetaData;
     private final List<OffsetIndex> currentOffsetIndexes = new ArrayList<>();
+    private final List<BloomFilter> currentBloomFilters = new ArrayList<>();
     private final CompressorAdapter compressorAdapter;
 
     RowGroupWriterImpl(String path,
@@ -111,6 +113,7 @@ public class RowGroupWriterImpl implements RowGroupWriter {
             throw new RuntimeException(columnWriter.getColumn().getPath()[0] + " is not the active column");
         }
         currentOffsetIndexes.add(columnWriter.getOffsetIndex());
+        currentBloomFilters.add(columnWriter.getBloomFilter());
         blockMetaData.addColumn(columnChunkMetaData);
         blockMetaData.setTotalByteSize(columnChunkMetaData.getTotalSize() + blockMetaData.getTotalByteSize());
         activeWriter = null;
@@ -119,4 +122,8 @@ public class RowGroupWriterImpl implements RowGroupWriter {
     List<OffsetIndex> offsetIndexes() {
         return currentOffsetIndexes;
     }
+
+    List<BloomFilter> bloomFilters() {
+        return currentBloomFilters;
+    }
 }
@@ -11,7 +11,9 @@ import io.deephaven.util.annotations.VisibleForTesting;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -112,6 +114,12 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
      */
     public abstract boolean useDictionary(String columnName);
 
+    /**
+     * @return Whether the writer should write a Bloom filter and min/max statistics for this column, so that readers
+     *         can skip row groups that cannot match an exact-match filter; defaults to false
+     */
+    public abstract boolean useBloomFilter(String columnName);
+
     public abstract String getCompressionCodecName();
 
     /**
@@ -130,6 +138,12 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
      */
     public abstract boolean isRefreshing();
 
+    /**
+     * @return the key column sets for which the writer should persist a data index, in addition to any grouping
+     *         columns; never evaluated by readers, which discover persisted data indexes from the file metadata
+     */
+    public abstract List<String[]> getDataIndexColumns();
+
     @VisibleForTesting
     public static boolean sameColumnNamesAndCodecMappings(final ParquetInstructions i1, final ParquetInstructions i2) {
         if (i1 == EMPTY) {
@@ -170,6 +184,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return false;
         }
 
+        @Override
+        public boolean useBloomFilter(final String columnName) {
+            return false;
+        }
+
         @Override
         public String getCompressionCodecName() {
             return defaultCompressionCodecName;
@@ -194,6 +213,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         public boolean isRefreshing() {
             return DEFAULT_IS_REFRESHING;
         }
+
+        @Override
+        public List<String[]> getDataIndexColumns() {
+            return Collections.emptyList();
+        }
     };
 
     private static class ColumnInstructions {
@@ -202,6 +226,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private String codecName;
         private String codecArgs;
         private boolean useDictionary;
+        private boolean useBloomFilter;
 
         public ColumnInstructions(final String columnName) {
             this.columnName = columnName;
@@ -245,6 +270,14 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         public void useDictionary(final boolean useDictionary) {
             this.useDictionary = useDictionary;
         }
+
+        public boolean useBloomFilter() {
+            return useBloomFilter;
+        }
+
+        public void useBloomFilter(final boolean useBloomFilter) {
+            this.useBloomFilter = useBloomFilter;
+        }
     }
 
     private static final class ReadOnly extends ParquetInstructions {
@@ -260,6 +293,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private final boolean isLegacyParquet;
         private final int targetPageSize;
         private final boolean isRefreshing;
+        private final List<String[]> dataIndexColumns;
 
         private ReadOnly(
                 final KeyedObjectHashMap<String, ColumnInstructions> columnNameToInstructions,
@@ -268,7 +302,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 final int maximumDictionaryKeys,
                 final boolean isLegacyParquet,
                 final int targetPageSize,
-                final boolean isRefreshing) {
+                final boolean isRefreshing,
+                final List<String[]> dataIndexColumns) {
             this.columnNameToInstructions = columnNameToInstructions;
             this.parquetColumnNameToInstructions = parquetColumnNameToColumnName;
             this.compressionCodecName = compressionCodecName;
@@ -276,6 +311,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             this.isLegacyParquet = isLegacyParquet;
             this.targetPageSize = targetPageSize;
             this.isRefreshing = isRefreshing;
+            this.dataIndexColumns = dataIndexColumns;
         }
 
         private String getOrDefault(final String columnName, final String defaultValue,
@@ -334,6 +370,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return getOrDefault(columnName, false, ColumnInstructions::useDictionary);
         }
 
+        @Override
+        public boolean useBloomFilter(final String columnName) {
+            return getOrDefault(columnName, false, ColumnInstructions::useBloomFilter);
+        }
+
         @Override
         public String getCompressionCodecName() {
             return compressionCodecName;
@@ -359,6 +400,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return isRefreshing;
         }
 
+        @Override
+        public List<String[]> getDataIndexColumns() {
+            return dataIndexColumns;
+        }
+
         KeyedObjectHashMap<String, ColumnInstructions> copyColumnNameToInstructions() {
             // noinspection unchecked
             return (columnNameToInstructions == null)
@@ -408,6 +454,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private boolean isLegacyParquet;
         private int targetPageSize = defaultTargetPageSize;
         private boolean isRefreshing = DEFAULT_IS_REFRESHING;
+        private List<String[]> dataIndexColumns;
 
         public Builder() {}
 
@@ -520,6 +567,21 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Set whether the writer should write a Bloom filter and min/max statistics for this column. Readers use them
+         * to skip row groups that cannot hold any of the values an exact-match filter is looking for, which pays off
+         * for high-cardinality columns such as order identifiers. Only supported for String columns and for integral
+         * columns no wider than long.
+         *
+         * @param columnName The column name
+         * @param useBloomFilter Whether to write a Bloom filter
+         */
+        public Builder useBloomFilter(final String columnName, final boolean useBloomFilter) {
+            final ColumnInstructions ci = getColumnInstructions(columnName);
+            ci.useBloomFilter(useBloomFilter);
+            return this;
+        }
+
         private ColumnInstructions getColumnInstructions(final String columnName) {
             final ColumnInstructions ci;
             if (columnNameToInstructions == null) {
@@ -567,14 +629,37 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Persist a data index on {@code columnNames} when writing, in a sidecar table next to each file written. Data
+         * indexes map each distinct combination of key column values to the rows that contain it, and are loaded on
+         * demand when reading, for use by operations on exactly those key columns: set filters (whereIn/whereNotIn)
+         * and aggregations, plus match filters for a single-column index. Joins do not use data indexes.
+         *
+         * @param columnNames the key columns to index, in order
+         * @return this builder
+         */
+        public Builder addDataIndex(final String... columnNames) {
+            if (columnNames.length == 0) {
+                throw new IllegalArgumentException("Data indexes require at least one key column");
+            }
+            if (dataIndexColumns == null) {
+                dataIndexColumns = new ArrayList<>();
+            }
+            dataIndexColumns.add(columnNames.clone());
+            return this;
+        }
+
         public ParquetInstructions build() {
             final KeyedObjectHashMap<String, ColumnInstructions> columnNameToInstructionsOut = columnNameToInstructions;
             columnNameToInstructions = null;
             final KeyedObjectHashMap<String, ColumnInstructions> parquetColumnNameToColumnNameOut =
                     parquetColumnNameToInstructions;
             parquetColumnNameToInstructions = null;
+            final List<String[]> dataIndexColumnsOut =
+                    dataIndexColumns == null ? Collections.emptyList() : Collections.unmodifiableList(dataIndexColumns);
+            dataIndexColumns = null;
             return new ReadOnly(columnNameToInstructionsOut, parquetColumnNameToColumnNameOut, compressionCodecName,
-                    maximumDictionaryKeys, isLegacyParquet, targetPageSize, isRefreshing);
+                    maximumDictionaryKeys, isLegacyParquet, targetPageSize, isRefreshing, dataIndexColumnsOut);
         }
     }
 
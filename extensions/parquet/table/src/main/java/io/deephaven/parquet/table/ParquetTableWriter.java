@@ -14,17 +14,22 @@ import io.deephaven.api.agg.Aggregation;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.TrackingRowSet;
+import io.deephaven.engine.rowset.impl.PortableRoaringRowSetUtils;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.CodecLookup;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.locations.TableLocation;
 import io.deephaven.engine.table.impl.select.FormulaColumn;
 import io.deephaven.engine.table.impl.select.NullSelectColumn;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.select.SourceColumn;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.util.BigDecimalUtils;
 import io.deephaven.parquet.base.ColumnWriter;
@@ -32,6 +37,7 @@ import io.deephaven.parquet.base.ParquetFileWriter;
 import io.deephaven.parquet.base.RowGroupWriter;
 import io.deephaven.parquet.table.metadata.CodecInfo;
 import io.deephaven.parquet.table.metadata.ColumnTypeInfo;
+import io.deephaven.parquet.table.metadata.DataIndexInfo;
 import io.deephaven.parquet.table.metadata.GroupingColumnInfo;
 import io.deephaven.parquet.table.metadata.TableInfo;
 import io.deephaven.parquet.table.util.TrackedSeekableChannelsProvider;
@@ -42,8 +48,12 @@ import io.deephaven.util.annotations.VisibleForTesting;
 import io.deephaven.util.codec.ObjectCodec;
 import io.deephaven.util.type.TypeUtils;
 import io.deephaven.vector.Vector;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.io.api.Binary;
 import org.jetbrains.annotations.NotNull;
 
@@ -72,6 +82,13 @@ public class ParquetTableWriter {
 
     private static final int LOCAL_CHUNK_SIZE = 1024;
 
+    /**
+     * The false positive probability Bloom filters are sized for, assuming every row holds a distinct value.
+     */
+    private static final double BLOOM_FILTER_FPP = 0.01;
+    private static final int BLOOM_FILTER_MAX_BYTES = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ParquetTableWriter.class, "bloomFilterMaxBytes", 1 << 20);
+
     public static final String BEGIN_POS = "dh_begin_pos";
     public static final String END_POS = "dh_end_pos";
     public static final String GROUPING_KEY = "dh_key";
@@ -110,6 +127,11 @@ public class ParquetTableWriter {
         return columnName -> prefix + "_" + columnName + "_grouping.parquet";
     }
 
+    public static Function<String[], String> defaultDataIndexFileName(@NotNull final String path) {
+        final String prefix = minusParquetSuffix(path);
+        return columnNames -> prefix + "_" + String.join("_", columnNames) + "_index.parquet";
+    }
+
     /**
      * Writes a table in parquet format under a given path
      *
@@ -189,7 +211,27 @@ public class ParquetTableWriter {
                     tableInfoBuilder.addGroupingColumns(GroupingColumnInfo.of(parquetColumnName,
                             destDirPath.relativize(Paths.get(groupingPath)).toString()));
                     write(auxiliaryTables[gci], auxiliaryTables[gci].getDefinition(), writeInstructions, groupingPath,
-                            Collections.emptyMap());
+                            Collections.emptyMap(), TableInfo.builder());
+                }
+            }
+            final List<String[]> dataIndexColumns = writeInstructions.getDataIndexColumns();
+            if (!dataIndexColumns.isEmpty()) {
+                if (cleanupPaths == null) {
+                    cleanupPaths = new ArrayList<>(dataIndexColumns.size());
+                }
+                final Function<String[], String> dataIndexPathFactory = defaultDataIndexFileName(destPathName);
+                final Path destDirPath = Paths.get(destPathName).getParent();
+                for (final String[] keyColumnNames : dataIndexColumns) {
+                    final Table indexTable = dataIndexAsTable(t, keyColumnNames);
+                    final String[] parquetColumnNames = Arrays.stream(keyColumnNames)
+                            .map(writeInstructions::getParquetColumnNameFromColumnNameOrDefault)
+                            .toArray(String[]::new);
+                    final String indexPath = dataIndexPathFactory.apply(parquetColumnNames);
+                    cleanupPaths.add(indexPath);
+                    tableInfoBuilder.addDataIndexes(DataIndexInfo.of(Arrays.asList(parquetColumnNames),
+                            destDirPath.relativize(Paths.get(indexPath)).toString()));
+                    write(indexTable, indexTable.getDefinition(), writeInstructions, indexPath,
+                            Collections.emptyMap(), TableInfo.builder());
                 }
             }
             write(t, definition, writeInstructions, destPathName, incomingMeta, tableInfoBuilder);
@@ -590,6 +632,12 @@ public class ParquetTableWriter {
 
         try (final ColumnWriter columnWriter = rowGroupWriter.addColumn(
                 writeInstructions.getParquetColumnNameFromColumnNameOrDefault(name))) {
+            if (writeInstructions.useBloomFilter(name)) {
+                if (helper.isVectorFormat()) {
+                    throw new IllegalArgumentException("Bloom filters are not supported for array column " + name);
+                }
+                writeBloomFilter(tableRowSet, name, columnDefinition.getDataType(), valueSource, columnWriter);
+            }
             boolean usedDictionary = false;
             if (valueSource.getType() == String.class) {
                 usedDictionary = tryEncodeDictionary(writeInstructions,
@@ -619,6 +667,108 @@ public class ParquetTableWriter {
         }
     }
 
+    /**
+     * Compute a Bloom filter and min/max statistics for a column, for readers to skip row groups that cannot match an
+     * exact-match filter. The filter is sized as if every row held a distinct value, since it is intended for
+     * high-cardinality columns, up to a configurable maximum size.
+     */
+    private static void writeBloomFilter(
+            @NotNull final RowSet tableRowSet,
+            @NotNull final String name,
+            @NotNull final Class<?> dataType,
+            @NotNull final ColumnSource<?> valueSource,
+            @NotNull final ColumnWriter columnWriter) {
+        if (dataType != String.class && dataType != byte.class && dataType != short.class && dataType != int.class
+                && dataType != long.class) {
+            throw new IllegalArgumentException(
+                    "Bloom filters are not supported for column " + name + " of type " + dataType.getName());
+        }
+        final BloomFilter bloomFilter = new BlockSplitBloomFilter(
+                BlockSplitBloomFilter.optimalNumOfBits(tableRowSet.size(), BLOOM_FILTER_FPP) / Byte.SIZE,
+                BLOOM_FILTER_MAX_BYTES);
+        final Statistics<?> statistics = Statistics.createStats(columnWriter.getType());
+        try (final ChunkSource.GetContext context = valueSource.makeGetContext(LOCAL_CHUNK_SIZE);
+                final RowSequence.Iterator it = tableRowSet.getRowSequenceIterator()) {
+            while (it.hasMore()) {
+                final Chunk<? extends Values> chunk =
+                        valueSource.getChunk(context, it.getNextRowSequenceWithLength(LOCAL_CHUNK_SIZE));
+                final int size = chunk.size();
+                switch (chunk.getChunkType()) {
+                    case Byte: {
+                        final ByteChunk<? extends Values> values = chunk.asByteChunk();
+                        for (int ii = 0; ii < size; ++ii) {
+                            final byte value = values.get(ii);
+                            if (value == QueryConstants.NULL_BYTE) {
+                                statistics.incrementNumNulls();
+                            } else {
+                                bloomFilter.insertHash(bloomFilter.hash((int) value));
+                                statistics.updateStats((int) value);
+                            }
+                        }
+                        break;
+                    }
+                    case Short: {
+                        final ShortChunk<? extends Values> values = chunk.asShortChunk();
+                        for (int ii = 0; ii < size; ++ii) {
+                            final short value = values.get(ii);
+                            if (value == QueryConstants.NULL_SHORT) {
+                                statistics.incrementNumNulls();
+                            } else {
+                                bloomFilter.insertHash(bloomFilter.hash((int) value));
+                                statistics.updateStats((int) value);
+                            }
+                        }
+                        break;
+                    }
+                    case Int: {
+                        final IntChunk<? extends Values> values = chunk.asIntChunk();
+                        for (int ii = 0; ii < size; ++ii) {
+                            final int value = values.get(ii);
+                            if (value == NULL_INT) {
+                                statistics.incrementNumNulls();
+                            } else {
+                                bloomFilter.insertHash(bloomFilter.hash(value));
+                                statistics.updateStats(value);
+                            }
+                        }
+                        break;
+                    }
+                    case Long: {
+                        final LongChunk<? extends Values> values = chunk.asLongChunk();
+                        for (int ii = 0; ii < size; ++ii) {
+                            final long value = values.get(ii);
+                            if (value == QueryConstants.NULL_LONG) {
+                                statistics.incrementNumNulls();
+                            } else {
+                                bloomFilter.insertHash(bloomFilter.hash(value));
+                                statistics.updateStats(value);
+                            }
+                        }
+                        break;
+                    }
+                    case Object: {
+                        final ObjectChunk<?, ? extends Values> values = chunk.asObjectChunk();
+                        for (int ii = 0; ii < size; ++ii) {
+                            final Object value = values.get(ii);
+                            if (value == null) {
+                                statistics.incrementNumNulls();
+                            } else {
+                                final Binary binary = Binary.fromString((String) value);
+                                bloomFilter.insertHash(bloomFilter.hash(binary));
+                                statistics.updateStats(binary);
+                            }
+                        }
+                        break;
+                    }
+                    default:
+                        throw new IllegalStateException("Unexpected chunk type " + chunk.getChunkType());
+                }
+            }
+        }
+        columnWriter.setBloomFilter(bloomFilter);
+        columnWriter.setStatistics(statistics);
+    }
+
     private static <DATA_TYPE> void encodePlain(@NotNull final ParquetInstructions writeInstructions,
             @NotNull final RowSet tableRowSet,
             @NotNull final ColumnDefinition<DATA_TYPE> columnDefinition,
@@ -1162,4 +1312,41 @@ public class ParquetTableWriter {
         }
         return grouped;
     }
+
+    /**
+     * Make the data index sidecar table for {@code keyColumnNames}: one row for each distinct combination of key values,
+     * in order of first appearance, with the positions of the rows that contain it serialized by
+     * {@link PortableRoaringRowSetUtils}.
+     */
+    private static Table dataIndexAsTable(@NotNull final Table tableToSave, @NotNull final String[] keyColumnNames) {
+        final QueryTable coalesced = (QueryTable) tableToSave.coalesce();
+        final Table tableToIndex = coalesced.isRefreshing() ? coalesced.silent() : coalesced;
+        for (final String keyColumnName : keyColumnNames) {
+            if (keyColumnName.equals(TableLocation.DATA_INDEX_ROW_POSITIONS)) {
+                throw new IllegalArgumentException("Can not index reserved column name " + keyColumnName);
+            }
+        }
+        // Each constituent's row set holds the row keys for its key values; invert them into positions
+        final PartitionedTable partitioned = tableToIndex.partitionBy(keyColumnNames);
+        final Table grouped = partitioned.table().flatten();
+
+        final RowSet rowSet = tableToIndex.getRowSet();
+        final ColumnSource<Table> constituentSource =
+                grouped.getColumnSource(partitioned.constituentColumnName(), Table.class);
+        final byte[][] serializedPositions = new byte[grouped.intSize()][];
+        final MutableInt nextIndex = new MutableInt();
+        grouped.getRowSet().forAllRowKeys(rowKey -> {
+            try (final RowSet positions = rowSet.invert(constituentSource.get(rowKey).getRowSet())) {
+                serializedPositions[nextIndex.getAndIncrement()] = PortableRoaringRowSetUtils.serialize(positions);
+            }
+        });
+
+        final Map<String, ColumnSource<?>> resultColumns = new LinkedHashMap<>();
+        for (final String keyColumnName : keyColumnNames) {
+            resultColumns.put(keyColumnName, grouped.getColumnSource(keyColumnName));
+        }
+        resultColumns.put(TableLocation.DATA_INDEX_ROW_POSITIONS,
+                ArrayBackedColumnSource.getMemoryColumnSource(serializedPositions, byte[].class, byte.class));
+        return new QueryTable(RowSetFactory.flat(serializedPositions.length).toTracking(), resultColumns);
+    }
 }
@@ -3,11 +3,15 @@
  */
 package io.deephaven.parquet.table.location;
 
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.table.impl.locations.TableKey;
 import io.deephaven.engine.table.impl.locations.impl.AbstractTableLocation;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.ParquetSchemaReader;
+import io.deephaven.parquet.table.ParquetTools;
 import io.deephaven.parquet.table.metadata.ColumnTypeInfo;
+import io.deephaven.parquet.table.metadata.DataIndexInfo;
 import io.deephaven.parquet.table.metadata.GroupingColumnInfo;
 import io.deephaven.parquet.table.metadata.TableInfo;
 import io.deephaven.chunk.attributes.Values;
@@ -24,9 +28,11 @@ import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.format.RowGroup;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class ParquetTableLocation extends AbstractTableLocation {
@@ -42,6 +48,8 @@ public class ParquetTableLocation extends AbstractTableLocation {
     private final Map<String, String[]> parquetColumnNameToPath;
     private final Map<String, GroupingColumnInfo> groupingColumns;
     private final Map<String, ColumnTypeInfo> columnTypes;
+    private final List<DataIndexInfo> dataIndexes;
+    private final List<String[]> dataIndexColumns;
 
     private volatile RowGroupReader[] rowGroupReaders;
 
@@ -84,6 +92,12 @@ public class ParquetTableLocation extends AbstractTableLocation {
                 ParquetSchemaReader.parseMetadata(parquetMetadata.getFileMetaData().getKeyValueMetaData());
         groupingColumns = tableInfo.map(TableInfo::groupingColumnMap).orElse(Collections.emptyMap());
         columnTypes = tableInfo.map(TableInfo::columnTypeMap).orElse(Collections.emptyMap());
+        dataIndexes = tableInfo.map(TableInfo::dataIndexes).orElse(Collections.emptyList());
+        dataIndexColumns = dataIndexes.stream()
+                .map(dii -> dii.columns().stream()
+                        .map(readInstructions::getColumnNameFromParquetColumnNameOrDefault)
+                        .toArray(String[]::new))
+                .collect(Collectors.toList());
 
         handleUpdate(computeIndex(), tableLocationKey.getFile().lastModified());
     }
@@ -120,6 +134,30 @@ public class ParquetTableLocation extends AbstractTableLocation {
         return columnTypes;
     }
 
+    @NotNull
+    @Override
+    public List<String[]> getDataIndexColumns() {
+        return dataIndexColumns;
+    }
+
+    @Nullable
+    @Override
+    public Table getDataIndex(@NotNull final String... columns) {
+        for (int dii = 0; dii < dataIndexColumns.size(); ++dii) {
+            if (Arrays.equals(dataIndexColumns.get(dii), columns)) {
+                final File indexFile = getParquetFile().toPath().getParent()
+                        .resolve(dataIndexes.get(dii).indexTablePath()).toFile();
+                try {
+                    return ParquetTools.readTable(indexFile, readInstructions);
+                } catch (Exception e) {
+                    throw new TableDataException("Failed to read data index file " + indexFile
+                            + " for table location " + this + ", columns " + Arrays.toString(columns), e);
+                }
+            }
+        }
+        return null;
+    }
+
     private RowGroupReader[] getRowGroupReaders() {
         RowGroupReader[] local;
         if ((local = rowGroupReaders) != null) {
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.parquet.table.metadata;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.deephaven.annotations.SimpleStyle;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * Representation class for data index information stored in key-value metadata for Deephaven-written Parquet files.
+ */
+@Value.Immutable
+@SimpleStyle
+@JsonSerialize(as = ImmutableDataIndexInfo.class)
+@JsonDeserialize(as = ImmutableDataIndexInfo.class)
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public abstract class DataIndexInfo {
+
+    /**
+     * @return The parquet names of the indexed key columns, in order
+     */
+    @Value.Parameter
+    public abstract List<String> columns();
+
+    /**
+     * @return The relative path name for the data index sidecar table
+     */
+    @Value.Parameter
+    public abstract String indexTablePath();
+
+    @Value.Check
+    final void checkColumns() {
+        if (columns().isEmpty()) {
+            throw new IllegalArgumentException("Empty key columns");
+        }
+        if (columns().stream().anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("Empty column name");
+        }
+    }
+
+    @Value.Check
+    final void checkIndexTablePath() {
+        if (indexTablePath().isEmpty()) {
+            throw new IllegalArgumentException("Empty index table path");
+        }
+    }
+
+    public static DataIndexInfo of(List<String> columns, String indexTablePath) {
+        return ImmutableDataIndexInfo.of(columns, indexTablePath);
+    }
+}
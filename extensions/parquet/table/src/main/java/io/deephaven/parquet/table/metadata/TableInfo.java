@@ -73,6 +73,11 @@ public abstract class TableInfo {
      */
     public abstract List<GroupingColumnInfo> groupingColumns();
 
+    /**
+     * @return List of {@link DataIndexInfo data indexes} persisted for key column sets
+     */
+    public abstract List<DataIndexInfo> dataIndexes();
+
     /**
      * @return List of {@link ColumnTypeInfo column types} for columns requiring non-default deserialization or type
      *         selection
@@ -100,6 +105,12 @@ public abstract class TableInfo {
 
         Builder addAllGroupingColumns(Iterable<? extends GroupingColumnInfo> groupingColumns);
 
+        Builder addDataIndexes(DataIndexInfo dataIndex);
+
+        Builder addDataIndexes(DataIndexInfo... dataIndexes);
+
+        Builder addAllDataIndexes(Iterable<? extends DataIndexInfo> dataIndexes);
+
         Builder addColumnTypes(ColumnTypeInfo columnType);
 
         Builder addColumnTypes(ColumnTypeInfo... columnTypes);
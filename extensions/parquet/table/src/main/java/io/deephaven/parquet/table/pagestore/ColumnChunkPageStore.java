@@ -15,8 +15,15 @@ import io.deephaven.engine.page.Page;
 import io.deephaven.engine.page.PageStore;
 import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.base.ColumnPageReader;
+import io.deephaven.util.QueryConstants;
 import io.deephaven.util.SafeCloseable;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -126,6 +133,94 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return columnChunkReader.usesDictionaryOnEveryPage();
     }
 
+    /**
+     * Check whether this column chunk might hold any of {@code keys}, using its Bloom filter and min/max statistics if
+     * it has them.
+     *
+     * @param keys The values an exact-match filter is looking for
+     * @return {@code false} if this column chunk certainly holds none of {@code keys}
+     */
+    public boolean mightContainAny(@NotNull final Object[] keys) {
+        final BloomFilter bloomFilter = columnChunkReader.getBloomFilter();
+        final Statistics<?> statistics = columnChunkReader.getStatistics();
+        final boolean hasMinMax = statistics != null && statistics.hasNonNullValue();
+        if (bloomFilter == null && !hasMinMax) {
+            return true;
+        }
+        final PrimitiveType type = columnChunkReader.getType();
+        for (final Object key : keys) {
+            final Object value = toPhysicalValue(key, type);
+            if (value == null) {
+                // Nulls aren't recorded in either structure, and we can't check values we don't know how to convert
+                return true;
+            }
+            if (mightContain(bloomFilter, hasMinMax ? statistics : null, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mightContain(
+            @Nullable final BloomFilter bloomFilter,
+            @Nullable final Statistics<?> statistics,
+            @NotNull final Object value) {
+        if (bloomFilter != null && !bloomFilter.findHash(bloomFilter.hash(value))) {
+            return false;
+        }
+        if (statistics != null) {
+            // noinspection unchecked,rawtypes
+            final Statistics<Comparable> comparableStatistics = (Statistics<Comparable>) statistics;
+            return comparableStatistics.compareMinToValue((Comparable) value) <= 0
+                    && comparableStatistics.compareMaxToValue((Comparable) value) >= 0;
+        }
+        return true;
+    }
+
+    /**
+     * Convert a non-null key to the representation Parquet hashes and compares for {@code type}.
+     *
+     * @return The physical value, or {@code null} if {@code key} is null or has no known physical representation
+     */
+    @Nullable
+    private static Object toPhysicalValue(@Nullable final Object key, @NotNull final PrimitiveType type) {
+        final LogicalTypeAnnotation logicalType = type.getLogicalTypeAnnotation();
+        switch (type.getPrimitiveTypeName()) {
+            case BINARY:
+                if (key instanceof String && logicalType instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation) {
+                    return Binary.fromString((String) key);
+                }
+                return null;
+            case INT32:
+                if (logicalType != null && !(logicalType instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) logicalType).isSigned())) {
+                    return null;
+                }
+                if (key instanceof Integer && (Integer) key != QueryConstants.NULL_INT) {
+                    return key;
+                }
+                if (key instanceof Short && (Short) key != QueryConstants.NULL_SHORT) {
+                    return ((Short) key).intValue();
+                }
+                if (key instanceof Byte && (Byte) key != QueryConstants.NULL_BYTE) {
+                    return ((Byte) key).intValue();
+                }
+                return null;
+            case INT64:
+                if (logicalType != null && !(logicalType instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) logicalType).isSigned())) {
+                    return null;
+                }
+                if (key instanceof Long && (Long) key != QueryConstants.NULL_LONG) {
+                    return key;
+                }
+                return null;
+            default:
+                // Floating point equality doesn't agree with Parquet's hashing and ordering for -0.0 and NaN
+                return null;
+        }
+    }
+
     @Override
     public void close() {
         try {
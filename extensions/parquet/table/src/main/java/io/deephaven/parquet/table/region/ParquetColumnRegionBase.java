@@ -12,6 +12,7 @@ import io.deephaven.engine.table.SharedContext;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -62,6 +63,14 @@ public abstract class ParquetColumnRegionBase<ATTR extends Any>
         return columnChunkPageStore.getPageContaining(elementIndex);
     }
 
+    @Override
+    public final void appendMatchCandidates(@NotNull final Object[] keys, @NotNull final RowSequence rowSequence,
+            @NotNull final RowSetBuilderSequential builder) {
+        if (columnChunkPageStore.mightContainAny(keys)) {
+            builder.appendRowSequence(rowSequence);
+        }
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
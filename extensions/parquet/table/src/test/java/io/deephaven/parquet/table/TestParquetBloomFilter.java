@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.parquet.table;
+
+import io.deephaven.base.FileUtils;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.locations.impl.KnownLocationKeyFinder;
+import io.deephaven.engine.table.impl.sources.regioned.ColumnRegion;
+import io.deephaven.engine.table.impl.sources.regioned.RegionedColumnSource;
+import io.deephaven.engine.table.impl.sources.regioned.RegionedPageStore;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.parquet.base.ColumnChunkReader;
+import io.deephaven.parquet.base.RowGroupReader;
+import io.deephaven.parquet.table.location.ParquetTableLocationKey;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.io.api.Binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+
+import static io.deephaven.engine.util.TableTools.stringCol;
+
+public class TestParquetBloomFilter extends RefreshingTableTestCase {
+
+    public void testBloomFilter() throws IOException {
+        final File directory = Files.createTempDirectory("testBloomFilter").toFile();
+
+        try {
+            final ParquetInstructions instructions = ParquetInstructions.builder()
+                    .useBloomFilter("OrderId", true)
+                    .useBloomFilter("Seq", true)
+                    .build();
+            final ParquetTableLocationKey[] locationKeys = new ParquetTableLocationKey[3];
+            for (int fi = 0; fi < locationKeys.length; ++fi) {
+                final Table data = TableTools.emptyTable(10_000).update(
+                        "Seq = ii + " + fi + " * 10_000L",
+                        "OrderId = (ii % 100 == 0) ? null : `O` + Seq",
+                        "Qty = (int) (ii % 7)");
+                final File dest = new File(directory, "Part=" + fi + File.separator + "data.parquet");
+                ParquetTools.writeTable(data, dest, data.getDefinition(), instructions);
+                locationKeys[fi] = new ParquetTableLocationKey(dest, 0, Map.of("Part", fi));
+
+                final RowGroupReader rowGroupReader = locationKeys[fi].getFileReader().getRowGroup(0);
+                final ColumnChunkReader orderIds =
+                        rowGroupReader.getColumnChunk(Collections.singletonList("OrderId"));
+                final BloomFilter bloomFilter = orderIds.getBloomFilter();
+                assertNotNull(bloomFilter);
+                assertTrue(bloomFilter.findHash(bloomFilter.hash(Binary.fromString("O" + (fi * 10_000 + 1)))));
+                final Statistics<?> statistics = orderIds.getStatistics();
+                assertNotNull(statistics);
+                assertEquals(100, statistics.getNumNulls());
+                assertNotNull(rowGroupReader.getColumnChunk(Collections.singletonList("Seq")).getBloomFilter());
+                assertNull(rowGroupReader.getColumnChunk(Collections.singletonList("Qty")).getBloomFilter());
+            }
+
+            final Table table = ParquetTools.readPartitionedTableInferSchema(
+                    new KnownLocationKeyFinder<>(locationKeys), ParquetInstructions.EMPTY).coalesce();
+            final Table expected = table.select();
+
+            // Each file is a single row group, so each region is one row group
+            assertEquals(0, countCandidateRegions(table, "OrderId", "missing"));
+            assertEquals(1, countCandidateRegions(table, "Seq", 25_000L));
+            assertEquals(2, countCandidateRegions(table, "Seq", 5L, 25_000L));
+            assertEquals(0, countCandidateRegions(table, "Seq", 30_000L, -1L));
+            // Nulls aren't recorded in Bloom filters or statistics, so they can't rule anything out
+            assertEquals(3, countCandidateRegions(table, "OrderId", "missing", null));
+
+            final String[] filters = {
+                    "OrderId = `O12345`",
+                    "OrderId in `O1`, `O29999`, `O99999`",
+                    "OrderId = `missing`",
+                    "OrderId != `O12345`",
+                    "OrderId not in `O1`, `O29999`",
+                    "OrderId = null",
+                    "OrderId icase in `o12345`",
+                    "Seq = 25000",
+                    "Seq in 5, 40000",
+                    "Seq not in 5, 40000",
+                    "Qty = 3",
+            };
+            for (final String filter : filters) {
+                TstUtils.assertTableEquals(expected.where(filter), table.where(filter));
+            }
+
+            final Table orderIdSet = TableTools.newTable(stringCol("OrderId", "O3", "O20005", "nope"));
+            TstUtils.assertTableEquals(expected.whereIn(orderIdSet, "OrderId"), table.whereIn(orderIdSet, "OrderId"));
+            TstUtils.assertTableEquals(expected.whereNotIn(orderIdSet, "OrderId"),
+                    table.whereNotIn(orderIdSet, "OrderId"));
+        } finally {
+            FileUtils.deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Count the regions of {@code table}'s {@code columnName} source that report any rows as candidates for matching
+     * {@code keys}.
+     */
+    private static int countCandidateRegions(final Table table, final String columnName, final Object... keys) {
+        final RegionedPageStore<?, ?, ?> pageStore = (RegionedPageStore<?, ?, ?>) table.getColumnSource(columnName);
+        int candidateRegions = 0;
+        try (final RowSequence.Iterator rsIt = table.getRowSet().getRowSequenceIterator()) {
+            while (rsIt.hasMore()) {
+                final int regionIndex = pageStore.getRegionIndex(rsIt.peekNextKey());
+                final RowSequence regionRows =
+                        rsIt.getNextRowSequenceThrough(RegionedColumnSource.getLastRowKey(regionIndex));
+                final RowSetBuilderSequential candidatesBuilder = RowSetFactory.builderSequential();
+                ((ColumnRegion<?>) pageStore.getRegion(regionIndex))
+                        .appendMatchCandidates(keys, regionRows, candidatesBuilder);
+                try (final RowSet candidates = candidatesBuilder.build()) {
+                    if (!candidates.isEmpty()) {
+                        ++candidateRegions;
+                    }
+                }
+            }
+        }
+        return candidateRegions;
+    }
+
+    public void testUnsupportedType() throws IOException {
+        final File directory = Files.createTempDirectory("testBloomFilterUnsupportedType").toFile();
+
+        try {
+            final Table data = TableTools.emptyTable(10).update("Price = ii * 0.25");
+            final ParquetInstructions instructions = ParquetInstructions.builder()
+                    .useBloomFilter("Price", true)
+                    .build();
+            try {
+                ParquetTools.writeTable(data, new File(directory, "data.parquet"), data.getDefinition(),
+                        instructions);
+                fail("Expected exception");
+            } catch (RuntimeException expected) {
+                // Bloom filters aren't written for floating point columns
+            }
+        } finally {
+            FileUtils.deleteRecursively(directory);
+        }
+    }
+}
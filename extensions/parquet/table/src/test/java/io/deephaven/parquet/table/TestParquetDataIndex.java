@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2016-2022 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.parquet.table;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.base.FileUtils;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TupleSource;
+import io.deephaven.engine.table.impl.indexer.IncrementalDataIndex;
+import io.deephaven.engine.table.impl.locations.impl.KnownLocationKeyFinder;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.parquet.table.location.ParquetTableLocationKey;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.deephaven.engine.util.TableTools.stringCol;
+
+public class TestParquetDataIndex extends RefreshingTableTestCase {
+
+    public void testCompositeIndex() throws IOException {
+        final File directory = Files.createTempDirectory("testCompositeIndex").toFile();
+
+        try {
+            final ParquetInstructions instructions = ParquetInstructions.builder()
+                    .addColumnNameMapping("Exch", "Exchange")
+                    .addDataIndex("Sym", "Exchange")
+                    .addDataIndex("Sym")
+                    .build();
+            final String[] dates = {"2023-01-03", "2023-01-04"};
+            final ParquetTableLocationKey[] locationKeys = new ParquetTableLocationKey[dates.length];
+            for (int di = 0; di < dates.length; ++di) {
+                final Table data = TableTools.emptyTable(10_000).update(
+                        "Sym = `S` + ((ii * 7 + " + di + ") % 13)",
+                        "Exchange = (ii % 3 == 0) ? `NYSE` : (ii % 3 == 1) ? `ARCA` : null",
+                        "Price = ii * 0.25");
+                final File dest = new File(directory, "Date=" + dates[di] + File.separator + "data.parquet");
+                ParquetTools.writeTable(data, dest, data.getDefinition(), instructions);
+                assertTrue(new File(dest.getParentFile(), "data_Sym_Exch_index.parquet").exists());
+                assertTrue(new File(dest.getParentFile(), "data_Sym_index.parquet").exists());
+                locationKeys[di] = new ParquetTableLocationKey(dest, 0, Map.of("Date", dates[di]));
+            }
+
+            // each location's index is merged into the table's row key space
+            final Table table = ParquetTools.readPartitionedTableInferSchema(
+                    new KnownLocationKeyFinder<>(locationKeys), instructions).coalesce();
+            final Table expected = table.select();
+            assertNull(IncrementalDataIndex.getDataIndex(table, "Exchange"));
+            validate(IncrementalDataIndex.getDataIndex(table, "Sym"), table);
+            validate(IncrementalDataIndex.getDataIndex(table, "Sym", "Exchange"), table);
+            validate(IncrementalDataIndex.getDataIndex(table, "Date", "Sym", "Exchange"), table);
+
+            TstUtils.assertTableEquals(expected.where("Sym = `S3`"), table.where("Sym = `S3`"));
+            TstUtils.assertTableEquals(expected.where("Sym != `S3`"), table.where("Sym != `S3`"));
+            final Table keys = TableTools.newTable(
+                    stringCol("Date", "2023-01-04", "2023-01-03"),
+                    stringCol("Sym", "S5", "S12"),
+                    stringCol("Exchange", "ARCA", null));
+            TstUtils.assertTableEquals(expected.whereIn(keys, "Date", "Sym", "Exchange"),
+                    table.whereIn(keys, "Date", "Sym", "Exchange"));
+            TstUtils.assertTableEquals(expected.whereNotIn(keys, "Date", "Sym", "Exchange"),
+                    table.whereNotIn(keys, "Date", "Sym", "Exchange"));
+            TstUtils.assertTableEquals(expected.aggBy(Aggregation.AggSum("Price"), "Sym").sort("Sym"),
+                    table.aggBy(Aggregation.AggSum("Price"), "Sym").sort("Sym"));
+            TstUtils.assertTableEquals(expected.aggBy(Aggregation.AggSum("Price"), "Sym", "Exchange"),
+                    table.aggBy(Aggregation.AggSum("Price"), "Sym", "Exchange"));
+            TstUtils.assertTableEquals(expected.aggBy(Aggregation.AggSum("Price"), "Date", "Sym", "Exchange"),
+                    table.aggBy(Aggregation.AggSum("Price"), "Date", "Sym", "Exchange"));
+        } finally {
+            FileUtils.deleteRecursively(directory);
+        }
+    }
+
+    private static void validate(final IncrementalDataIndex dataIndex, final Table table) {
+        assertNotNull(dataIndex);
+        assertTrue(dataIndex.isCurrent());
+        final TupleSource<?> tupleSource = dataIndex.tupleSource();
+        final Map<Object, RowSetBuilderSequential> builders = new HashMap<>();
+        table.getRowSet().forAllRowKeys(rowKey -> builders
+                .computeIfAbsent(tupleSource.createTuple(rowKey), k -> RowSetFactory.builderSequential())
+                .appendKey(rowKey));
+
+        final Map<Object, RowSet> grouping = dataIndex.getGrouping();
+        assertEquals(builders.size(), grouping.size());
+        builders.forEach((key, builder) -> {
+            try (final RowSet expected = builder.build()) {
+                assertNotNull(grouping.get(key));
+                TstUtils.assertRowSetEquals(expected, grouping.get(key));
+            }
+        });
+    }
+}
@@ -301,6 +301,25 @@ class UpdateByBuilder {
                     .setRollingWavg(builder.build())
                     .build();
         }
+
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingQuantileSpec rs) {
+            final UpdateByRollingQuantile.Builder builder =
+                    UpdateByRollingQuantile.newBuilder()
+                            .setReverseWindowScale(adapt(rs.revWindowScale()))
+                            .setForwardWindowScale(adapt(rs.fwdWindowScale()))
+                            .setPercentile(rs.percentile())
+                            .setAverageEvenlyDivided(rs.averageEvenlyDivided());
+            return UpdateByColumn.UpdateBySpec.newBuilder()
+                    .setRollingQuantile(builder.build())
+                    .build();
+        }
+
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingReduceSpec rs) {
+            throw new UnsupportedOperationException(
+                    "Unable to create a gRPC UpdateBySpec from a RollingReduceSpec; reducers can not be serialized");
+        }
     }
 
     static UpdateByColumn.UpdateBySpec adapt(UpdateBySpec spec) {
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class UpdateBySpecBuilderTest {
 
@@ -299,6 +300,31 @@ public class UpdateBySpecBuilderTest {
                                     .build())
                     .build();
         }
+
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingQuantileSpec spec) {
+            return UpdateByColumn.UpdateBySpec
+                    .newBuilder().setRollingQuantile(
+                            UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile.newBuilder()
+                                    .setReverseWindowScale(UpdateByWindowScale.newBuilder()
+                                            .setTime(UpdateByWindowScale.UpdateByWindowTime.newBuilder()
+                                                    .setColumn("Timestamp").setNanos(1).build())
+                                            .build())
+                                    .setForwardWindowScale(UpdateByWindowScale.newBuilder()
+                                            .setTime(UpdateByWindowScale.UpdateByWindowTime.newBuilder()
+                                                    .setColumn("Timestamp").setNanos(1).build())
+                                            .build())
+                                    .setPercentile(0.5)
+                                    .setAverageEvenlyDivided(true)
+                                    .build())
+                    .build();
+        }
+
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingReduceSpec spec) {
+            // User-defined reducers are not representable in gRPC, see rollingReduce()
+            return null;
+        }
     }
 
     @Test
@@ -613,6 +639,35 @@ public class UpdateBySpecBuilderTest {
                         .build());
     }
 
+    @Test
+    void rollingQuantile() {
+        check(RollingQuantileSpec.ofTime(0.5, true, "Timestamp", Duration.ofNanos(1), Duration.ofNanos(2)),
+                UpdateByColumn.UpdateBySpec.newBuilder().setRollingQuantile(
+                        UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile.newBuilder()
+                                .setReverseWindowScale(time("Timestamp", 1))
+                                .setForwardWindowScale(time("Timestamp", 2))
+                                .setPercentile(0.5)
+                                .setAverageEvenlyDivided(true)
+                                .build())
+                        .build());
+
+        check(RollingQuantileSpec.ofTicks(0.75, false, 42L, 43L),
+                UpdateByColumn.UpdateBySpec.newBuilder().setRollingQuantile(
+                        UpdateByColumn.UpdateBySpec.UpdateByRollingQuantile.newBuilder()
+                                .setReverseWindowScale(ticks(42L))
+                                .setForwardWindowScale(ticks(43L))
+                                .setPercentile(0.75)
+                                .build())
+                        .build());
+    }
+
+    @Test
+    void rollingReduce() {
+        final RollingReduceSpec spec =
+                RollingReduceSpec.ofTicks(RollingReduceSpec.Reducer.of(String.class, String::concat), 42L, 43L);
+        assertThatThrownBy(() -> UpdateByBuilder.adapt(spec)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     private static void check(UpdateBySpec spec) {
         check(spec, spec.walk(ExpectedSpecVisitor.INSTANCE));
     }
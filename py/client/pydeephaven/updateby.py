@@ -30,6 +30,7 @@ _GrpcUpdateByRollingProduct = _GrpcUpdateBySpec.UpdateByRollingProduct
 _GrpcUpdateByRollingCount = _GrpcUpdateBySpec.UpdateByRollingCount
 _GrpcUpdateByRollingStd = _GrpcUpdateBySpec.UpdateByRollingStd
 _GrpcUpdateByRollingWAvg = _GrpcUpdateBySpec.UpdateByRollingWAvg
+_GrpcUpdateByRollingQuantile = _GrpcUpdateBySpec.UpdateByRollingQuantile
 _GrpcUpdateByDeltaOptions = table_pb2.UpdateByDeltaOptions
 _GrpcUpdateByWindowScale = table_pb2.UpdateByWindowScale
 _GrpcUpdateByWindowTicks = _GrpcUpdateByWindowScale.UpdateByWindowTicks
@@ -1476,3 +1477,207 @@ def rolling_wavg_time(ts_col: str, weight_col: str, cols: Union[str, List[str]],
         return UpdateByOperation(ub_column=ub_column)
     except Exception as e:
         raise DHError(e, "failed to create a rolling weighted average (time) UpdateByOperation.") from e
+
+
+def rolling_median_tick(cols: Union[str, List[str]], rev_ticks: int, fwd_ticks: int = 0) -> UpdateByOperation:
+    """Creates a rolling median UpdateByOperation for the supplied column names, using ticks as the windowing unit. Ticks
+    are row counts, and you may specify the reverse and forward window in number of rows to include. The current row
+    is considered to belong to the reverse window but not the forward window. Also, negative values are allowed and
+    can be used to generate completely forward or completely reverse windows. When a window holds an even number of
+    values, the median is the average of the two middle values.
+
+    Here are some examples of window values:
+        rev_ticks = 1, fwd_ticks = 0 - contains only the current row
+        rev_ticks = 10, fwd_ticks = 0 - contains 9 previous rows and the current row
+        rev_ticks = 0, fwd_ticks = 10 - contains the following 10 rows, excludes the current row
+        rev_ticks = 10, fwd_ticks = 10 - contains the previous 9 rows, the current row and the 10 rows following
+        rev_ticks = 10, fwd_ticks = -5 - contains 5 rows, beginning at 9 rows before, ending at 5 rows before the
+            current row (inclusive)
+        rev_ticks = 11, fwd_ticks = -1 - contains 10 rows, beginning at 10 rows before, ending at 1 row before the
+            current row (inclusive)
+        rev_ticks = -5, fwd_ticks = 10 - contains 5 rows, beginning 5 rows following, ending at 10 rows following the
+            current row (inclusive)
+
+    Args:
+        cols (Union[str, List[str]]): the column(s) to be operated on, can include expressions to rename the output,
+            i.e. "new_col = col"; when empty, update_by perform the rolling median operation on all columns.
+        rev_ticks (int): the look-behind window size (in rows/ticks)
+        fwd_ticks (int): the look-forward window size (int rows/ticks), default is 0
+
+    Returns:
+        an UpdateByOperation
+
+    Raises:
+        DHError
+    """
+    try:
+        rev_window_scale = _GrpcUpdateByWindowScale(ticks=_GrpcUpdateByWindowTicks(ticks=rev_ticks))
+        fwd_window_scale = _GrpcUpdateByWindowScale(ticks=_GrpcUpdateByWindowTicks(ticks=fwd_ticks))
+        ub_rolling = _GrpcUpdateByRollingQuantile(reverse_window_scale=rev_window_scale,
+                                                  forward_window_scale=fwd_window_scale,
+                                                  percentile=0.5, average_evenly_divided=True)
+        ub_spec = _GrpcUpdateBySpec(rolling_quantile=ub_rolling)
+        ub_column = _GrpcUpdateByColumn(spec=ub_spec, match_pairs=to_list(cols))
+        return UpdateByOperation(ub_column=ub_column)
+    except Exception as e:
+        raise DHError(e, "failed to create a rolling median (tick) UpdateByOperation.") from e
+
+
+def rolling_median_time(ts_col: str, cols: Union[str, List[str]], rev_time: Union[int, str],
+                        fwd_time: Union[int, str] = 0) -> UpdateByOperation:
+    """Creates a rolling median UpdateByOperation for the supplied column names, using time as the windowing unit. This
+    function accepts nanoseconds or time strings as the reverse and forward window parameters. Negative values are
+    allowed and can be used to generate completely forward or completely reverse windows. A row containing a null in
+    the timestamp column belongs to no window and will not be considered in the windows of other rows; its output will
+    be null. When a window holds an even number of values, the median is the average of the two middle values.
+
+    Here are some examples of window values:
+        rev_time = 0, fwd_time = 0 - contains rows that exactly match the current row timestamp
+        rev_time = "PT00:10:00", fwd_time = "0" - contains rows from 10m before through the current row timestamp (
+            inclusive)
+        rev_time = 0, fwd_time = 600_000_000_000 - contains rows from the current row through 10m following the
+            current row timestamp (inclusive)
+        rev_time = "PT00:10:00", fwd_time = "PT00:10:00" - contains rows from 10m before through 10m following
+            the current row timestamp (inclusive)
+        rev_time = "PT00:10:00", fwd_time = "-PT00:05:00" - contains rows from 10m before through 5m before the
+            current row timestamp (inclusive), this is a purely backwards looking window
+        rev_time = "-PT00:05:00", fwd_time = "PT00:10:00"} - contains rows from 5m following through 10m
+            following the current row timestamp (inclusive), this is a purely forwards looking window
+
+    Args:
+        ts_col (str): the timestamp column for determining the window
+        cols (Union[str, List[str]]): the column(s) to be operated on, can include expressions to rename the output,
+            i.e. "new_col = col"; when empty, update_by perform the rolling median operation on all columns.
+        rev_time (Union[int, str]): the look-behind window size, can be expressed as an integer in nanoseconds or a time
+            interval string, e.g. "PT00:00:00.001" or "PT5M"
+        fwd_time (Union[int, str]): the look-ahead window size, can be expressed as an integer in nanoseconds or a time
+            interval string, e.g. "PT00:00:00.001" or "PT5M", default is 0
+
+    Returns:
+        an UpdateByOperation
+
+    Raises:
+        DHError
+    """
+    try:
+        if isinstance(rev_time, str):
+            rev_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, duration_string=rev_time))
+        else:
+            rev_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, nanos=rev_time))
+
+        if isinstance(fwd_time, str):
+            fwd_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, duration_string=fwd_time))
+        else:
+            fwd_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, nanos=fwd_time))
+
+        ub_rolling = _GrpcUpdateByRollingQuantile(reverse_window_scale=rev_window_scale,
+                                                  forward_window_scale=fwd_window_scale,
+                                                  percentile=0.5, average_evenly_divided=True)
+        ub_spec = _GrpcUpdateBySpec(rolling_quantile=ub_rolling)
+        ub_column = _GrpcUpdateByColumn(spec=ub_spec, match_pairs=to_list(cols))
+        return UpdateByOperation(ub_column=ub_column)
+    except Exception as e:
+        raise DHError(e, "failed to create a rolling median (time) UpdateByOperation.") from e
+
+
+def rolling_quantile_tick(percentile: float, cols: Union[str, List[str]], rev_ticks: int,
+                          fwd_ticks: int = 0) -> UpdateByOperation:
+    """Creates a rolling percentile UpdateByOperation for the supplied column names, using ticks as the windowing unit.
+    Ticks are row counts, and you may specify the reverse and forward window in number of rows to include. The current
+    row is considered to belong to the reverse window but not the forward window. Also, negative values are allowed
+    and can be used to generate completely forward or completely reverse windows.
+
+    Here are some examples of window values:
+        rev_ticks = 1, fwd_ticks = 0 - contains only the current row
+        rev_ticks = 10, fwd_ticks = 0 - contains 9 previous rows and the current row
+        rev_ticks = 0, fwd_ticks = 10 - contains the following 10 rows, excludes the current row
+        rev_ticks = 10, fwd_ticks = 10 - contains the previous 9 rows, the current row and the 10 rows following
+        rev_ticks = 10, fwd_ticks = -5 - contains 5 rows, beginning at 9 rows before, ending at 5 rows before the
+            current row (inclusive)
+        rev_ticks = 11, fwd_ticks = -1 - contains 10 rows, beginning at 10 rows before, ending at 1 row before the
+            current row (inclusive)
+        rev_ticks = -5, fwd_ticks = 10 - contains 5 rows, beginning 5 rows following, ending at 10 rows following the
+            current row (inclusive)
+
+    Args:
+        percentile (float): the percentile to compute, in the range [0.0, 1.0]
+        cols (Union[str, List[str]]): the column(s) to be operated on, can include expressions to rename the output,
+            i.e. "new_col = col"; when empty, update_by perform the rolling percentile operation on all columns.
+        rev_ticks (int): the look-behind window size (in rows/ticks)
+        fwd_ticks (int): the look-forward window size (int rows/ticks), default is 0
+
+    Returns:
+        an UpdateByOperation
+
+    Raises:
+        DHError
+    """
+    try:
+        rev_window_scale = _GrpcUpdateByWindowScale(ticks=_GrpcUpdateByWindowTicks(ticks=rev_ticks))
+        fwd_window_scale = _GrpcUpdateByWindowScale(ticks=_GrpcUpdateByWindowTicks(ticks=fwd_ticks))
+        ub_rolling = _GrpcUpdateByRollingQuantile(reverse_window_scale=rev_window_scale,
+                                                  forward_window_scale=fwd_window_scale,
+                                                  percentile=percentile, average_evenly_divided=False)
+        ub_spec = _GrpcUpdateBySpec(rolling_quantile=ub_rolling)
+        ub_column = _GrpcUpdateByColumn(spec=ub_spec, match_pairs=to_list(cols))
+        return UpdateByOperation(ub_column=ub_column)
+    except Exception as e:
+        raise DHError(e, "failed to create a rolling percentile (tick) UpdateByOperation.") from e
+
+
+def rolling_quantile_time(ts_col: str, percentile: float, cols: Union[str, List[str]], rev_time: Union[int, str],
+                          fwd_time: Union[int, str] = 0) -> UpdateByOperation:
+    """Creates a rolling percentile UpdateByOperation for the supplied column names, using time as the windowing unit.
+    This function accepts nanoseconds or time strings as the reverse and forward window parameters. Negative values
+    are allowed and can be used to generate completely forward or completely reverse windows. A row containing a null
+    in the timestamp column belongs to no window and will not be considered in the windows of other rows; its output
+    will be null.
+
+    Here are some examples of window values:
+        rev_time = 0, fwd_time = 0 - contains rows that exactly match the current row timestamp
+        rev_time = "PT00:10:00", fwd_time = "0" - contains rows from 10m before through the current row timestamp (
+            inclusive)
+        rev_time = 0, fwd_time = 600_000_000_000 - contains rows from the current row through 10m following the
+            current row timestamp (inclusive)
+        rev_time = "PT00:10:00", fwd_time = "PT00:10:00" - contains rows from 10m before through 10m following
+            the current row timestamp (inclusive)
+        rev_time = "PT00:10:00", fwd_time = "-PT00:05:00" - contains rows from 10m before through 5m before the
+            current row timestamp (inclusive), this is a purely backwards looking window
+        rev_time = "-PT00:05:00", fwd_time = "PT00:10:00"} - contains rows from 5m following through 10m
+            following the current row timestamp (inclusive), this is a purely forwards looking window
+
+    Args:
+        ts_col (str): the timestamp column for determining the window
+        percentile (float): the percentile to compute, in the range [0.0, 1.0]
+        cols (Union[str, List[str]]): the column(s) to be operated on, can include expressions to rename the output,
+            i.e. "new_col = col"; when empty, update_by perform the rolling percentile operation on all columns.
+        rev_time (Union[int, str]): the look-behind window size, can be expressed as an integer in nanoseconds or a time
+            interval string, e.g. "PT00:00:00.001" or "PT5M"
+        fwd_time (Union[int, str]): the look-ahead window size, can be expressed as an integer in nanoseconds or a time
+            interval string, e.g. "PT00:00:00.001" or "PT5M", default is 0
+
+    Returns:
+        an UpdateByOperation
+
+    Raises:
+        DHError
+    """
+    try:
+        if isinstance(rev_time, str):
+            rev_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, duration_string=rev_time))
+        else:
+            rev_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, nanos=rev_time))
+
+        if isinstance(fwd_time, str):
+            fwd_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, duration_string=fwd_time))
+        else:
+            fwd_window_scale = _GrpcUpdateByWindowScale(time=_GrpcUpdateByWindowTime(column=ts_col, nanos=fwd_time))
+
+        ub_rolling = _GrpcUpdateByRollingQuantile(reverse_window_scale=rev_window_scale,
+                                                  forward_window_scale=fwd_window_scale,
+                                                  percentile=percentile, average_evenly_divided=False)
+        ub_spec = _GrpcUpdateBySpec(rolling_quantile=ub_rolling)
+        ub_column = _GrpcUpdateByColumn(spec=ub_spec, match_pairs=to_list(cols))
+        return UpdateByOperation(ub_column=ub_column)
+    except Exception as e:
+        raise DHError(e, "failed to create a rolling percentile (time) UpdateByOperation.") from e
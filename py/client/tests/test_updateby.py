@@ -11,7 +11,8 @@ from pydeephaven.updateby import BadDataBehavior, MathContext, OperationControl,
     cum_sum, cum_prod, cum_min, cum_max, forward_fill, delta, rolling_sum_tick, rolling_sum_time, \
     rolling_group_tick, rolling_group_time, rolling_avg_tick, rolling_avg_time, rolling_min_tick, rolling_min_time, \
     rolling_max_tick, rolling_max_time, rolling_prod_tick, rolling_prod_time, rolling_count_tick, rolling_count_time, \
-    rolling_std_tick, rolling_std_time, rolling_wavg_tick, rolling_wavg_time
+    rolling_std_tick, rolling_std_time, rolling_wavg_tick, rolling_wavg_time, rolling_median_tick, \
+    rolling_median_time, rolling_quantile_tick, rolling_quantile_time
 from tests.testbase import BaseTestCase
 
 
@@ -161,6 +162,22 @@ class UpdateByTestCase(BaseTestCase):
             rolling_wavg_time(ts_col="Timestamp", weight_col="b", cols=["rwavg_b = b", "rwavg_e = e"], rev_time="PT00:00:10"),
             rolling_wavg_time(ts_col="Timestamp", weight_col="b", cols=["rwavg_b = b", "rwavg_e = e"], rev_time=10_000_000_000, fwd_time=-10_000_000_00),
             rolling_wavg_time(ts_col="Timestamp", weight_col="b", cols=["rwavg_b = b", "rwavg_e = e"], rev_time="PT30S", fwd_time="-PT00:00:20"),
+            # rolling median
+            rolling_median_tick(cols=["rmed_a = a", "rmed_d = d"], rev_ticks=10),
+            rolling_median_tick(cols=["rmed_a = a", "rmed_d = d"], rev_ticks=10, fwd_ticks=10),
+            rolling_median_time(ts_col="Timestamp", cols=["rmed_b = b", "rmed_e = e"], rev_time="PT00:00:10"),
+            rolling_median_time(ts_col="Timestamp", cols=["rmed_b = b", "rmed_e = e"], rev_time=10_000_000_000,
+                                fwd_time=-10_000_000_00),
+            rolling_median_time(ts_col="Timestamp", cols=["rmed_b = b", "rmed_e = e"], rev_time="PT30S",
+                                fwd_time="-PT00:00:20"),
+            # rolling percentile
+            rolling_quantile_tick(percentile=0.25, cols=["rq_a = a", "rq_d = d"], rev_ticks=10),
+            rolling_quantile_tick(percentile=0.25, cols=["rq_a = a", "rq_d = d"], rev_ticks=10, fwd_ticks=10),
+            rolling_quantile_time(ts_col="Timestamp", percentile=0.75, cols=["rq_b = b", "rq_e = e"], rev_time="PT00:00:10"),
+            rolling_quantile_time(ts_col="Timestamp", percentile=0.75, cols=["rq_b = b", "rq_e = e"],
+                                  rev_time=10_000_000_000, fwd_time=-10_000_000_00),
+            rolling_quantile_time(ts_col="Timestamp", percentile=0.75, cols=["rq_b = b", "rq_e = e"], rev_time="PT30S",
+                                  fwd_time="-PT00:00:20"),
         ]
 
 
@@ -28,6 +28,7 @@ class ColumnInstruction:
     codec_name: str = None
     codec_args: str = None
     use_dictionary: bool = False
+    use_bloom_filter: bool = False
 
 
 def _build_parquet_instructions(
@@ -64,6 +65,7 @@ def _build_parquet_instructions(
                 if ci.codec_name:
                     builder.addColumnCodec(ci.column_name, ci.codec_name, ci.codec_args)
                 builder.useDictionary(ci.column_name, ci.use_dictionary)
+                builder.useBloomFilter(ci.column_name, ci.use_bloom_filter)
 
     if compression_codec_name:
         builder.setCompressionCodecName(compression_codec_name)
@@ -59,6 +59,23 @@ public class ReplicateHashing {
         fixupBooleanCompact(compactKernels.stream().filter(x -> x.contains("Boolean")).findFirst().get());
         fixupFloatCompact(compactKernels.stream().filter(x -> x.contains("Double")).findFirst().get(), "Double");
         fixupFloatCompact(compactKernels.stream().filter(x -> x.contains("Float")).findFirst().get(), "Float");
+
+        final List<String> swissStateManagers = charToAllButBoolean(
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharSwissAggregationStateManager.java");
+        // noinspection OptionalGetWithoutIsPresent
+        fixupFloatSwissStateManager(swissStateManagers.stream().filter(x -> x.contains("Float")).findFirst().get(),
+                "Float.floatToRawIntBits(key)", "Float.intBitsToFloat((int) bits)");
+        // noinspection OptionalGetWithoutIsPresent
+        fixupFloatSwissStateManager(swissStateManagers.stream().filter(x -> x.contains("Double")).findFirst().get(),
+                "Double.doubleToRawLongBits(key)", "Double.longBitsToDouble(bits)");
+    }
+
+    private static void fixupFloatSwissStateManager(String path, String toBits, String fromBits) throws IOException {
+        final File file = new File(path);
+        List<String> lines = FileUtils.readLines(file, Charset.defaultCharset());
+        lines = simpleFixup(lines, "keyBits", "return key;", "return " + toBits + ";",
+                "return \\(\\w+\\) bits;", "return " + fromBits + ";");
+        FileUtils.writeLines(file, lines);
     }
 
     private static void fixupObjectChunkHasher(String objectPath) throws IOException {
@@ -172,6 +172,14 @@ public class ReplicateUpdateBy {
             }
         }
 
+        files = ReplicatePrimitiveCode.charToAllButBoolean(
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingquantile/CharRollingQuantileOperator.java");
+        for (final String f : files) {
+            if (f.contains("Integer")) {
+                fixupInteger(f);
+            }
+        }
+
         files = ReplicatePrimitiveCode.charToAllButBoolean(
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingwavg/CharRollingWAvgOperator.java");
         for (final String f : files) {
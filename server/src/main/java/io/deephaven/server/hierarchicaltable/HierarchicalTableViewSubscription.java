@@ -5,10 +5,15 @@ import dagger.assisted.Assisted;
 import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
 import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableBooleanChunk;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkEquals;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.liveness.LivenessArtifact;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.RowSetShiftData;
 import io.deephaven.engine.table.ColumnDefinition;
@@ -26,14 +31,17 @@ import io.deephaven.proto.util.Exceptions;
 import io.deephaven.server.session.SessionService;
 import io.deephaven.server.util.Scheduler;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.VisibleForTesting;
 import io.grpc.stub.StreamObserver;
 import org.HdrHistogram.Histogram;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 import java.util.function.Function;
@@ -59,6 +67,19 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
 
     private static final Logger log = LoggerFactory.getLogger(HierarchicalTableViewSubscription.class);
 
+    /**
+     * Whether to allow sending modification deltas, rather than full snapshots, when only the data in an unchanged
+     * viewport has changed. This is an upper bound: deltas are only sent to subscriptions that opt in with
+     * {@link BarrageSubscriptionOptions#hierarchicalTableDeltas()}. Only subscriptions that send deltas retain a copy of
+     * the viewport contents to diff against.
+     * <p>
+     * The diff is positional, by viewport row. A row inserted or removed above the viewport shifts every row in it, and
+     * so is sent as a modification of the whole viewport, which saves nothing over a snapshot. This is the common case
+     * for a ticking rollup; deltas help when values change in place and the expansion is otherwise stable.
+     */
+    private static final boolean SEND_DELTAS = Configuration.getInstance().getBooleanForClassWithDefault(
+            HierarchicalTableViewSubscription.class, "sendDeltas", false);
+
     private final Scheduler scheduler;
     private final SessionService.ErrorTransformer errorTransformer;
     private final BarrageStreamGenerator.Factory<BarrageStreamGeneratorImpl.View> streamGeneratorFactory;
@@ -67,6 +88,7 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
     private final StreamObserver<BarrageStreamGeneratorImpl.View> listener;
     private final BarrageSubscriptionOptions subscriptionOptions;
     private final long intervalDurationNanos;
+    private final boolean sendDeltas;
 
     private final Stats stats;
 
@@ -90,7 +112,7 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
     // region Guarded by snapshot lock
     private BitSet columns;
     private RowSet rows;
-    private long lastExpandedSize;
+    private ViewportContents lastContents;
     // endregion Guarded by snapshot lock
 
     private enum State {
@@ -108,6 +130,20 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
             @Assisted @NotNull final StreamObserver<BarrageStreamGeneratorImpl.View> listener,
             @Assisted @NotNull final BarrageSubscriptionOptions subscriptionOptions,
             @Assisted final long intervalDurationMillis) {
+        this(scheduler, errorTransformer, streamGeneratorFactory, view, listener, subscriptionOptions,
+                intervalDurationMillis, SEND_DELTAS);
+    }
+
+    @VisibleForTesting
+    HierarchicalTableViewSubscription(
+            @NotNull final Scheduler scheduler,
+            @NotNull final SessionService.ErrorTransformer errorTransformer,
+            @NotNull final BarrageStreamGenerator.Factory<BarrageStreamGeneratorImpl.View> streamGeneratorFactory,
+            @NotNull final HierarchicalTableView view,
+            @NotNull final StreamObserver<BarrageStreamGeneratorImpl.View> listener,
+            @NotNull final BarrageSubscriptionOptions subscriptionOptions,
+            final long intervalDurationMillis,
+            final boolean allowDeltas) {
         this.scheduler = scheduler;
         this.errorTransformer = errorTransformer;
         this.streamGeneratorFactory = streamGeneratorFactory;
@@ -115,6 +151,7 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         this.listener = listener;
         this.subscriptionOptions = subscriptionOptions;
         this.intervalDurationNanos = NANOSECONDS.convert(intervalDurationMillis, MILLISECONDS);
+        this.sendDeltas = allowDeltas && subscriptionOptions.hierarchicalTableDeltas();
 
         final String statsKey = BarragePerformanceLog.getKeyFor(
                 view.getHierarchicalTable(), view.getHierarchicalTable()::getDescription);
@@ -163,6 +200,11 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         if (stats != null) {
             stats.stop();
         }
+        synchronized (snapshotLock) {
+            try (final SafeCloseable ignored = lastContents) {
+                lastContents = null;
+            }
+        }
     }
 
     public void completed() {
@@ -280,8 +322,8 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
                 return;
             }
             try {
-                lastExpandedSize = buildAndSendSnapshot(streamGeneratorFactory, listener, subscriptionOptions, view,
-                        this::recordSnapshotNanos, this::recordWriteMetrics, columns, rows, lastExpandedSize);
+                lastContents = buildAndSendSnapshot(streamGeneratorFactory, listener, subscriptionOptions, view,
+                        this::recordSnapshotNanos, this::recordWriteMetrics, columns, rows, sendDeltas, lastContents);
             } catch (Exception e) {
                 GrpcUtil.safelyError(listener, errorTransformer.transform(e));
                 state = State.Done;
@@ -289,7 +331,45 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
         }
     }
 
-    private static long buildAndSendSnapshot(
+    /**
+     * The viewport contents most recently sent to the listener. The data chunks, if retained, are owned by this object,
+     * and are never handed to a {@link BarrageMessage}.
+     */
+    private static final class ViewportContents implements SafeCloseable {
+
+        private final BitSet columns;
+        private final RowSet rows;
+        private final long expandedSize;
+        /**
+         * The snapshot data for the included rows of each subscribed column, or {@code null} if not retained
+         */
+        private final WritableChunk<Values>[] data;
+
+        private ViewportContents(
+                @NotNull final BitSet columns,
+                @NotNull final RowSet rows,
+                final long expandedSize,
+                @Nullable final WritableChunk<Values>[] data) {
+            this.columns = (BitSet) columns.clone();
+            this.rows = rows.copy();
+            this.expandedSize = expandedSize;
+            this.data = data;
+        }
+
+        private boolean sameViewport(@NotNull final BitSet otherColumns, @NotNull final RowSet otherRows) {
+            return columns.equals(otherColumns) && rows.equals(otherRows);
+        }
+
+        @Override
+        public void close() {
+            rows.close();
+            if (data != null) {
+                SafeCloseable.closeAll(data);
+            }
+        }
+    }
+
+    private static ViewportContents buildAndSendSnapshot(
             @NotNull final BarrageStreamGenerator.Factory<BarrageStreamGeneratorImpl.View> streamGeneratorFactory,
             @NotNull final StreamObserver<BarrageStreamGeneratorImpl.View> listener,
             @NotNull final BarrageSubscriptionOptions subscriptionOptions,
@@ -298,11 +378,11 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
             @NotNull final BarragePerformanceLog.WriteMetricsConsumer writeMetricsConsumer,
             @NotNull final BitSet columns,
             @NotNull final RowSet rows,
-            final long lastExpandedSize) {
+            final boolean sendDeltas,
+            @Nullable final ViewportContents lastContents) {
         // 1. Grab some schema and snapshot information
         final List<ColumnDefinition<?>> columnDefinitions =
                 view.getHierarchicalTable().getAvailableColumnDefinitions();
-        final int numAvailableColumns = columnDefinitions.size();
         final int numRows = rows.intSize();
 
         // 2. Allocate our destination chunks
@@ -315,54 +395,212 @@ public class HierarchicalTableViewSubscription extends LivenessArtifact {
 
         // 3. Take the snapshot
         final long snapshotStartNanos = System.nanoTime();
-        final long expandedSize = view.getHierarchicalTable().snapshot(
-                view.getSnapshotState(), view.getKeyTable(), view.getKeyTableActionColumn(),
-                columns, rows, destinations);
+        final long expandedSize;
+        try {
+            expandedSize = view.getHierarchicalTable().snapshot(
+                    view.getSnapshotState(), view.getKeyTable(), view.getKeyTableActionColumn(),
+                    columns, rows, destinations);
+        } catch (Exception e) {
+            SafeCloseable.closeAll(destinations);
+            throw e;
+        }
         snapshotNanosConsumer.accept(System.nanoTime() - snapshotStartNanos);
+        // We only need to retain the data if we'll diff against it; otherwise the message can take the destinations
+        final ViewportContents contents =
+                new ViewportContents(columns, rows, expandedSize, sendDeltas ? destinations : null);
 
         // 4. Make and populate a BarrageMessage
+        final BarrageMessage barrageMessage;
+        final boolean isSnapshot;
+        if (lastContents != null && lastContents.data != null && lastContents.sameViewport(columns, rows)) {
+            // Only the data has changed; compare against what the listener already has
+            final RowSet[] modifiedRows = findModifiedRows(lastContents, contents);
+            if (expandedSize == lastContents.expandedSize
+                    && Arrays.stream(modifiedRows).allMatch(RowSet::isEmpty)) {
+                SafeCloseable.closeAll(modifiedRows);
+                lastContents.close();
+                return contents;
+            }
+            barrageMessage = makeDeltaMessage(columnDefinitions, lastContents, contents, modifiedRows);
+            isSnapshot = false;
+        } else {
+            barrageMessage = makeSnapshotMessage(columnDefinitions, contents, destinations,
+                    lastContents == null ? 0 : lastContents.expandedSize);
+            isSnapshot = true;
+        }
+
+        // 5. Send the BarrageMessage
+        final BarrageStreamGenerator<BarrageStreamGeneratorImpl.View> streamGenerator =
+                streamGeneratorFactory.newGenerator(barrageMessage, writeMetricsConsumer);
+        // Note that we specify "isInitialSnapshot=true" for every snapshot. This is to provoke the subscription view
+        // to send the added rows on every snapshot, since (1) our added rows are flat, and thus cheap to send, and
+        // (2) we're relying on added rows to signal the full expanded size to the client.
+        GrpcUtil.safelyOnNext(listener,
+                streamGenerator.getSubView(subscriptionOptions, isSnapshot, rows, false, rows, columns));
+
+        // 6. Let the caller know what the listener now has
+        if (lastContents != null) {
+            lastContents.close();
+        }
+        return contents;
+    }
+
+    private static int includedSize(@NotNull final RowSet rows, final long expandedSize) {
+        if (rows.isEmpty() || rows.firstRowKey() >= expandedSize) {
+            return 0;
+        }
+        return Math.toIntExact(Math.min(rows.lastRowKey(), expandedSize - 1) - rows.firstRowKey() + 1);
+    }
+
+    /**
+     * Compare the rows that were included in both {@code lastContents} and {@code contents}, which must share a
+     * viewport.
+     *
+     * @return The modified row positions for each subscribed column
+     */
+    private static RowSet[] findModifiedRows(
+            @NotNull final ViewportContents lastContents,
+            @NotNull final ViewportContents contents) {
+        final int commonSize = Math.min(
+                includedSize(lastContents.rows, lastContents.expandedSize),
+                includedSize(contents.rows, contents.expandedSize));
+        final long firstRowKey = contents.rows.firstRowKey();
+        final RowSet[] modifiedRows = new RowSet[contents.data.length];
+        try (final WritableBooleanChunk<Values> equal = WritableBooleanChunk.makeWritableChunk(commonSize)) {
+            for (int di = 0; di < contents.data.length; ++di) {
+                final ChunkType chunkType = contents.data[di].getChunkType();
+                ChunkEquals.makeEqual(chunkType).equal(
+                        lastContents.data[di].slice(0, commonSize), contents.data[di].slice(0, commonSize), equal);
+                final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+                for (int ii = 0; ii < commonSize; ++ii) {
+                    if (!equal.get(ii)) {
+                        builder.appendKey(firstRowKey + ii);
+                    }
+                }
+                modifiedRows[di] = builder.build();
+            }
+        }
+        return modifiedRows;
+    }
+
+    private static BarrageMessage makeSnapshotMessage(
+            @NotNull final List<ColumnDefinition<?>> columnDefinitions,
+            @NotNull final ViewportContents contents,
+            @NotNull final WritableChunk<Values>[] destinations,
+            final long lastExpandedSize) {
         final BarrageMessage barrageMessage = new BarrageMessage();
         barrageMessage.isSnapshot = true;
         // We don't populate length, snapshotRowSet, snapshotRowSetIsReversed, or snapshotColumns; they are only set by
         // the client.
         // We don't populate step, firstSeq, or lastSeq debugging information; they are not relevant to this use case.
 
-        barrageMessage.rowsAdded = RowSetFactory.flat(expandedSize);
-        barrageMessage.rowsIncluded = RowSetFactory.fromRange(rows.firstRowKey(),
-                Math.min(barrageMessage.rowsAdded.lastRowKey(), rows.lastRowKey()));
+        barrageMessage.rowsAdded = RowSetFactory.flat(contents.expandedSize);
+        barrageMessage.rowsIncluded = RowSetFactory.fromRange(contents.rows.firstRowKey(),
+                Math.min(barrageMessage.rowsAdded.lastRowKey(), contents.rows.lastRowKey()));
         barrageMessage.rowsRemoved = RowSetFactory.flat(lastExpandedSize);
         barrageMessage.shifted = RowSetShiftData.EMPTY;
 
-        barrageMessage.addColumnData = new BarrageMessage.AddColumnData[numAvailableColumns];
+        barrageMessage.addColumnData = makeAddColumnData(columnDefinitions, contents.columns, destinations, 0,
+                contents.data != null);
+        barrageMessage.modColumnData = BarrageMessage.ZERO_MOD_COLUMNS;
+        return barrageMessage;
+    }
+
+    /**
+     * Make a delta against the listener's current contents. Row keys are positions in the expanded hierarchy, so a
+     * change in expanded size is expressed as rows added or removed at the end, and everything else in the viewport is
+     * a modification.
+     */
+    private static BarrageMessage makeDeltaMessage(
+            @NotNull final List<ColumnDefinition<?>> columnDefinitions,
+            @NotNull final ViewportContents lastContents,
+            @NotNull final ViewportContents contents,
+            @NotNull final RowSet[] modifiedRows) {
+        final BarrageMessage barrageMessage = new BarrageMessage();
+        barrageMessage.isSnapshot = false;
+
+        barrageMessage.rowsAdded = contents.expandedSize > lastContents.expandedSize
+                ? RowSetFactory.fromRange(lastContents.expandedSize, contents.expandedSize - 1)
+                : RowSetFactory.empty();
+        barrageMessage.rowsIncluded = barrageMessage.rowsAdded.intersect(contents.rows);
+        barrageMessage.rowsRemoved = lastContents.expandedSize > contents.expandedSize
+                ? RowSetFactory.fromRange(contents.expandedSize, lastContents.expandedSize - 1)
+                : RowSetFactory.empty();
+        barrageMessage.shifted = RowSetShiftData.EMPTY;
+
+        barrageMessage.addColumnData = makeAddColumnData(columnDefinitions, contents.columns, contents.data,
+                includedSize(lastContents.rows, lastContents.expandedSize), true);
+
+        final int numAvailableColumns = columnDefinitions.size();
+        final long firstRowKey = contents.rows.firstRowKey();
+        barrageMessage.modColumnData = new BarrageMessage.ModColumnData[numAvailableColumns];
         for (int ci = 0, di = 0; ci < numAvailableColumns; ++ci) {
-            final BarrageMessage.AddColumnData addColumnData = new BarrageMessage.AddColumnData();
+            final BarrageMessage.ModColumnData modColumnData = new BarrageMessage.ModColumnData();
             final ColumnDefinition<?> columnDefinition = columnDefinitions.get(ci);
-            addColumnData.type = columnDefinition.getDataType();
-            addColumnData.componentType = columnDefinition.getComponentType();
-            addColumnData.data = new ArrayList<>();
-            if (columns.get(ci)) {
-                final WritableChunk<Values> data = destinations[di++];
-                addColumnData.data.add(data);
-                addColumnData.chunkType = data.getChunkType();
+            modColumnData.type = columnDefinition.getDataType();
+            modColumnData.componentType = columnDefinition.getComponentType();
+            modColumnData.data = new ArrayList<>();
+            if (contents.columns.get(ci)) {
+                final WritableChunk<Values> source = contents.data[di];
+                final RowSet modified = modifiedRows[di++];
+                final WritableChunk<Values> data = source.getChunkType().makeWritableChunk(modified.intSize());
+                final MutableInt offset = new MutableInt(0);
+                modified.forAllRowKeyRanges((first, last) -> {
+                    final int length = Math.toIntExact(last - first + 1);
+                    data.copyFromChunk(source, Math.toIntExact(first - firstRowKey), offset.intValue(), length);
+                    offset.add(length);
+                });
+                modColumnData.rowsModified = modified;
+                modColumnData.data.add(data);
+                modColumnData.chunkType = data.getChunkType();
             } else {
-                addColumnData.chunkType =
+                modColumnData.rowsModified = RowSetFactory.empty();
+                modColumnData.chunkType =
                         ReinterpretUtils.maybeConvertToPrimitiveChunkType(columnDefinition.getDataType());
             }
-            barrageMessage.addColumnData[ci] = addColumnData;
+            barrageMessage.modColumnData[ci] = modColumnData;
         }
-        barrageMessage.modColumnData = BarrageMessage.ZERO_MOD_COLUMNS;
-
-        // 5. Send the BarrageMessage
-        final BarrageStreamGenerator<BarrageStreamGeneratorImpl.View> streamGenerator =
-                streamGeneratorFactory.newGenerator(barrageMessage, writeMetricsConsumer);
-        // Note that we're always specifying "isInitialSnapshot=true". This is to provoke the subscription view to
-        // send the added rows on every snapshot, since (1) our added rows are flat, and thus cheap to send, and
-        // (2) we're relying on added rows to signal the full expanded size to the client.
-        GrpcUtil.safelyOnNext(listener,
-                streamGenerator.getSubView(subscriptionOptions, true, rows, false, rows, columns));
+        return barrageMessage;
+    }
 
-        // 6. Let the caller know what the expanded size was
-        return expandedSize;
+    /**
+     * Make add column data for included rows from {@code firstIncludedOffset} onward. The message takes ownership of
+     * its chunks, so {@code data} is copied if it is {@code retained}, and handed over directly otherwise.
+     */
+    private static BarrageMessage.AddColumnData[] makeAddColumnData(
+            @NotNull final List<ColumnDefinition<?>> columnDefinitions,
+            @NotNull final BitSet columns,
+            @NotNull final WritableChunk<Values>[] data,
+            final int firstIncludedOffset,
+            final boolean retained) {
+        Assert.assertion(retained || firstIncludedOffset == 0, "retained || firstIncludedOffset == 0");
+        final int numAvailableColumns = columnDefinitions.size();
+        final BarrageMessage.AddColumnData[] addColumnData = new BarrageMessage.AddColumnData[numAvailableColumns];
+        for (int ci = 0, di = 0; ci < numAvailableColumns; ++ci) {
+            final BarrageMessage.AddColumnData columnData = new BarrageMessage.AddColumnData();
+            final ColumnDefinition<?> columnDefinition = columnDefinitions.get(ci);
+            columnData.type = columnDefinition.getDataType();
+            columnData.componentType = columnDefinition.getComponentType();
+            columnData.data = new ArrayList<>();
+            if (columns.get(ci)) {
+                final WritableChunk<Values> source = data[di++];
+                final WritableChunk<Values> chunk;
+                if (retained) {
+                    final int length = Math.max(0, source.size() - firstIncludedOffset);
+                    chunk = source.getChunkType().makeWritableChunk(length);
+                    chunk.copyFromChunk(source, firstIncludedOffset, 0, length);
+                } else {
+                    chunk = source;
+                }
+                columnData.data.add(chunk);
+                columnData.chunkType = chunk.getChunkType();
+            } else {
+                columnData.chunkType =
+                        ReinterpretUtils.maybeConvertToPrimitiveChunkType(columnDefinition.getDataType());
+            }
+            addColumnData[ci] = columnData;
+        }
+        return addColumnData;
     }
 
     public void setViewport(
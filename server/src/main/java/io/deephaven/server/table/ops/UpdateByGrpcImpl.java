@@ -170,6 +170,8 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 return adaptRollingStd(spec.getRollingStd());
             case ROLLING_WAVG:
                 return adaptRollingWAvg(spec.getRollingWavg());
+            case ROLLING_QUANTILE:
+                return adaptRollingQuantile(spec.getRollingQuantile());
 
             case TYPE_NOT_SET:
             default:
@@ -315,6 +317,14 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 wavg.getWeightColumn());
     }
 
+    private static RollingQuantileSpec adaptRollingQuantile(UpdateByRollingQuantile quantile) {
+        return RollingQuantileSpec.of(
+                quantile.getPercentile(),
+                quantile.getAverageEvenlyDivided(),
+                adaptWindowScale(quantile.getReverseWindowScale()),
+                adaptWindowScale(quantile.getForwardWindowScale()));
+    }
+
 
     private static MathContext adaptMathContext(io.deephaven.proto.backplane.grpc.MathContext bigValueContext) {
         return new MathContext(bigValueContext.getPrecision(), adaptRoundingMode(bigValueContext.getRoundingMode()));
@@ -0,0 +1,328 @@
+/**
+ * Copyright (c) 2016-2023 Deephaven Data Labs and Patent Pending
+ */
+package io.deephaven.server.hierarchicaltable;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.liveness.LivenessScope;
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.util.BarrageMessage;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.extensions.barrage.BarragePerformanceLog;
+import io.deephaven.extensions.barrage.BarrageSnapshotOptions;
+import io.deephaven.extensions.barrage.BarrageStreamGenerator;
+import io.deephaven.extensions.barrage.BarrageStreamGeneratorImpl;
+import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
+import io.deephaven.server.session.SessionService;
+import io.deephaven.server.util.TestControlledScheduler;
+import io.deephaven.util.SafeCloseable;
+import io.grpc.stub.StreamObserver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static io.deephaven.engine.testutil.TstUtils.i;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HierarchicalTableViewSubscriptionTest {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    /**
+     * Records every message handed to a stream generator, in order.
+     */
+    private static final class RecordingFactory
+            implements BarrageStreamGenerator.Factory<BarrageStreamGeneratorImpl.View> {
+
+        private final List<BarrageMessage> messages = new ArrayList<>();
+
+        @Override
+        public BarrageStreamGenerator<BarrageStreamGeneratorImpl.View> newGenerator(
+                @NotNull final BarrageMessage message,
+                @NotNull final BarragePerformanceLog.WriteMetricsConsumer metricsConsumer) {
+            messages.add(message);
+            return new RecordingGenerator(message);
+        }
+
+        @Override
+        public BarrageStreamGeneratorImpl.View getSchemaView(
+                @NotNull final ToIntFunction<FlatBufferBuilder> schemaPayloadWriter) {
+            return null;
+        }
+    }
+
+    private static final class RecordingGenerator
+            implements BarrageStreamGenerator<BarrageStreamGeneratorImpl.View> {
+
+        private final BarrageMessage message;
+
+        private RecordingGenerator(@NotNull final BarrageMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public BarrageMessage getMessage() {
+            return message;
+        }
+
+        @Override
+        public BarrageStreamGeneratorImpl.View getSubView(
+                final BarrageSubscriptionOptions options,
+                final boolean isInitialSnapshot) {
+            return null;
+        }
+
+        @Override
+        public BarrageStreamGeneratorImpl.View getSubView(
+                final BarrageSubscriptionOptions options,
+                final boolean isInitialSnapshot,
+                @Nullable final RowSet viewport,
+                final boolean reverseViewport,
+                @Nullable final RowSet keyspaceViewport,
+                final BitSet subscribedColumns) {
+            return null;
+        }
+
+        @Override
+        public BarrageStreamGeneratorImpl.View getSnapshotView(final BarrageSnapshotOptions options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BarrageStreamGeneratorImpl.View getSnapshotView(
+                final BarrageSnapshotOptions options,
+                @Nullable final RowSet viewport,
+                final boolean reverseViewport,
+                @Nullable final RowSet keyspaceViewport,
+                final BitSet snapshotColumns) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final class RecordingObserver implements StreamObserver<BarrageStreamGeneratorImpl.View> {
+
+        private Throwable error;
+
+        @Override
+        public void onNext(final BarrageStreamGeneratorImpl.View value) {}
+
+        @Override
+        public void onError(final Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {}
+    }
+
+    private TestControlledScheduler scheduler;
+    private RecordingFactory factory;
+    private RecordingObserver observer;
+    private LivenessScope scope;
+    private QueryTable source;
+    private HierarchicalTableViewSubscription subscription;
+    private int valueColumn;
+
+    @Before
+    public void setUp() {
+        scheduler = new TestControlledScheduler();
+        factory = new RecordingFactory();
+        observer = new RecordingObserver();
+        scope = new LivenessScope(true);
+        source = TstUtils.testRefreshingTable(i(0, 1, 2).toTracking(),
+                intCol("ID", 1, 2, 3), intCol("Parent", NULL_INT, NULL_INT, NULL_INT), intCol("Value", 10, 20, 30));
+    }
+
+    @After
+    public void tearDown() {
+        factory.messages.forEach(BarrageMessage::close);
+        scope.release();
+    }
+
+    private void subscribe(final boolean allowDeltas, final boolean requestDeltas) {
+        try (final SafeCloseable ignored = LivenessScopeStack.open(scope, false)) {
+            final HierarchicalTableView view =
+                    HierarchicalTableView.makeFromHierarchicalTable(source.tree("ID", "Parent"));
+            subscription = new HierarchicalTableViewSubscription(scheduler,
+                    new SessionService.ObfuscatingErrorTransformer(), factory, view, observer,
+                    BarrageSubscriptionOptions.builder().hierarchicalTableDeltas(requestDeltas).build(), 0,
+                    allowDeltas);
+            final List<ColumnDefinition<?>> columnDefinitions =
+                    view.getHierarchicalTable().getAvailableColumnDefinitions();
+            valueColumn = -1;
+            for (int ci = 0; ci < columnDefinitions.size(); ++ci) {
+                if (columnDefinitions.get(ci).getName().equals("Value")) {
+                    valueColumn = ci;
+                }
+            }
+            assertTrue(valueColumn >= 0);
+        }
+
+        subscription.setViewport(null, RowSetFactory.fromRange(0, 9), false);
+        scheduler.runUntilQueueEmpty();
+        final BarrageMessage initial = lastMessage(1);
+        assertTrue(initial.isSnapshot);
+        assertEquals(RowSetFactory.flat(3), initial.rowsAdded);
+        assertEquals(RowSetFactory.flat(3), initial.rowsIncluded);
+        assertEquals(RowSetFactory.empty(), initial.rowsRemoved);
+        assertValues(initial.addColumnData[valueColumn], 10, 20, 30);
+    }
+
+    @Test
+    public void testUnchangedViewportSendsNothing() {
+        subscribe(true, true);
+
+        // Rewrite a row with its existing values; the source ticks, but the viewport contents are unchanged
+        update(() -> {
+            TstUtils.addToTable(source, i(1), intCol("ID", 2), intCol("Parent", NULL_INT), intCol("Value", 20));
+            source.notifyListeners(i(), i(), i(1));
+        });
+        assertEquals(1, factory.messages.size());
+        assertNull(observer.error);
+    }
+
+    @Test
+    public void testModifiedCellsDelta() {
+        subscribe(true, true);
+
+        update(() -> {
+            TstUtils.addToTable(source, i(1), intCol("ID", 2), intCol("Parent", NULL_INT), intCol("Value", 21));
+            source.notifyListeners(i(), i(), i(1));
+        });
+        final BarrageMessage delta = lastMessage(2);
+        assertFalse(delta.isSnapshot);
+        assertEquals(RowSetFactory.empty(), delta.rowsAdded);
+        assertEquals(RowSetFactory.empty(), delta.rowsIncluded);
+        assertEquals(RowSetFactory.empty(), delta.rowsRemoved);
+        for (int ci = 0; ci < delta.modColumnData.length; ++ci) {
+            final BarrageMessage.ModColumnData modColumnData = delta.modColumnData[ci];
+            if (ci == valueColumn) {
+                // Only the modified cell is sent
+                assertEquals(i(1), modColumnData.rowsModified);
+                assertEquals(1, modColumnData.data.size());
+                assertEquals(1, modColumnData.data.get(0).size());
+                assertEquals(21, modColumnData.data.get(0).asIntChunk().get(0));
+            } else {
+                assertEquals(RowSetFactory.empty(), modColumnData.rowsModified);
+            }
+        }
+        for (final BarrageMessage.AddColumnData addColumnData : delta.addColumnData) {
+            assertEquals(0, addColumnData.data.stream().mapToInt(Chunk::size).sum());
+        }
+        assertNull(observer.error);
+    }
+
+    @Test
+    public void testExpandedSizeChangeDelta() {
+        subscribe(true, true);
+
+        // Growing the expansion appends included rows, whose data comes from the tail of the viewport
+        update(() -> {
+            TstUtils.addToTable(source, i(3, 4),
+                    intCol("ID", 4, 5), intCol("Parent", NULL_INT, NULL_INT), intCol("Value", 40, 50));
+            source.notifyListeners(i(3, 4), i(), i());
+        });
+        final BarrageMessage grow = lastMessage(2);
+        assertFalse(grow.isSnapshot);
+        assertEquals(i(3, 4), grow.rowsAdded);
+        assertEquals(i(3, 4), grow.rowsIncluded);
+        assertEquals(RowSetFactory.empty(), grow.rowsRemoved);
+        assertValues(grow.addColumnData[valueColumn], 40, 50);
+        for (final BarrageMessage.ModColumnData modColumnData : grow.modColumnData) {
+            assertEquals(RowSetFactory.empty(), modColumnData.rowsModified);
+        }
+
+        // Shrinking the expansion removes rows from the end, and modifies those that moved up
+        update(() -> {
+            TstUtils.removeRows(source, i(0, 1));
+            source.notifyListeners(i(), i(0, 1), i());
+        });
+        final BarrageMessage shrink = lastMessage(3);
+        assertFalse(shrink.isSnapshot);
+        assertEquals(RowSetFactory.empty(), shrink.rowsAdded);
+        assertEquals(RowSetFactory.empty(), shrink.rowsIncluded);
+        assertEquals(i(3, 4), shrink.rowsRemoved);
+        assertEquals(RowSetFactory.flat(3), shrink.modColumnData[valueColumn].rowsModified);
+        assertValues(shrink.modColumnData[valueColumn].data, 30, 40, 50);
+        assertNull(observer.error);
+    }
+
+    @Test
+    public void testSnapshotsWithoutDeltas() {
+        subscribe(false, true);
+        assertChangeSendsSnapshot();
+    }
+
+    @Test
+    public void testSnapshotsWithoutDeltasRequested() {
+        subscribe(true, false);
+        assertChangeSendsSnapshot();
+    }
+
+    private void assertChangeSendsSnapshot() {
+        // Without deltas, any change is sent as a full snapshot of the viewport
+        update(() -> {
+            TstUtils.addToTable(source, i(1), intCol("ID", 2), intCol("Parent", NULL_INT), intCol("Value", 21));
+            source.notifyListeners(i(), i(), i(1));
+        });
+        final BarrageMessage snapshot = lastMessage(2);
+        assertTrue(snapshot.isSnapshot);
+        assertEquals(RowSetFactory.flat(3), snapshot.rowsAdded);
+        assertEquals(RowSetFactory.flat(3), snapshot.rowsIncluded);
+        assertEquals(RowSetFactory.flat(3), snapshot.rowsRemoved);
+        assertValues(snapshot.addColumnData[valueColumn], 10, 21, 30);
+        assertNull(observer.error);
+    }
+
+    private void update(@NotNull final Runnable update) {
+        ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(update);
+        scheduler.runUntilQueueEmpty();
+    }
+
+    private BarrageMessage lastMessage(final int expectedMessages) {
+        assertEquals(expectedMessages, factory.messages.size());
+        return factory.messages.get(expectedMessages - 1);
+    }
+
+    private static void assertValues(
+            @NotNull final BarrageMessage.AddColumnData addColumnData,
+            final int... expected) {
+        assertValues(addColumnData.data, expected);
+    }
+
+    private static void assertValues(
+            @NotNull final List<Chunk<Values>> data,
+            final int... expected) {
+        assertEquals(1, data.size());
+        assertEquals(expected.length, data.get(0).size());
+        for (int ii = 0; ii < expected.length; ++ii) {
+            assertEquals(expected[ii], data.get(0).asIntChunk().get(ii));
+        }
+    }
+}
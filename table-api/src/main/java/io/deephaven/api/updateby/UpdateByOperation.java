@@ -1882,6 +1882,414 @@ public interface UpdateByOperation {
         return RollingWAvgSpec.ofTime(timestampCol, revTime, fwdTime, weightCol).clause(pairs);
     }
 
+    /**
+     * Create a {@link RollingQuantileSpec rolling median} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the previous window in number of rows to include. The
+     * current row is considered to belong to the reverse window, so calling this with {@code revTicks = 1} will simply
+     * return the current row. Specifying {@code revTicks = 10} will include the previous 9 rows to this one and this
+     * row for a total of 10 rows.
+     *
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(long revTicks, String... pairs) {
+        return RollingQuantileSpec.ofTicks(0.5, true, revTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling median} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the reverse and forward window in number of rows to
+     * include. The current row is considered to belong to the reverse window but not the forward window. Also, negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. Here are some
+     * examples of window values:
+     * <ul>
+     * <li>{@code revTicks = 1, fwdTicks = 0} - contains only the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 0} - contains 9 previous rows and the current row</li>
+     * <li>{@code revTicks = 0, fwdTicks = 10} - contains the following 10 rows, excludes the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 10} - contains the previous 9 rows, the current row and the 10 rows
+     * following</li>
+     * <li>{@code revTicks = 10, fwdTicks = -5} - contains 5 rows, beginning at 9 rows before, ending at 5 rows before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = 11, fwdTicks = -1} - contains 10 rows, beginning at 10 rows before, ending at 1 row before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = -5, fwdTicks = 10} - contains 5 rows, beginning 5 rows following, ending at 10 rows
+     * following the current row (inclusive)</li>
+     * </ul>
+     *
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param fwdTicks the look-ahead window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(long revTicks, long fwdTicks, String... pairs) {
+        return RollingQuantileSpec.ofTicks(0.5, true, revTicks, fwdTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling median} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration duration} as the reverse window parameter. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m} - contains rows from 10m earlier through the current row timestamp (inclusive)</li>
+     * </ul>
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, Duration revDuration, String... pairs) {
+        return RollingQuantileSpec.ofTime(0.5, true, timestampCol, revDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling median} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration durations} as the reverse and forward window parameters.
+     * Negative values are allowed and can be used to generate completely forward or completely reverse windows. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m, fwdDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 0m} - contains rows from 10m earlier through the current row
+     * timestamp (inclusive)</li>
+     * <li>{@code revDuration = 0m, fwdDuration = 10m} - contains rows from the current row through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 10m} - contains rows from 10m earlier through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = -5m} - contains rows from 10m earlier through 5m before the current
+     * row timestamp (inclusive), this is a purely backwards looking window</li>
+     * <li>{@code revDuration = -5m, fwdDuration = 10m} - contains rows from 5m following through 10m following the
+     * current row timestamp (inclusive), this is a purely forwards looking window</li>
+     * </ul>
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param fwdDuration the look-ahead window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, Duration revDuration, Duration fwdDuration,
+            String... pairs) {
+        return RollingQuantileSpec.ofTime(0.5, true, timestampCol, revDuration, fwdDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling median} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse window parameters. A row containing a
+     * {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered in
+     * the windows of other rows.
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, long revTime, String... pairs) {
+        return RollingQuantileSpec.ofTime(0.5, true, timestampCol, revTime).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling median} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse and forward window parameters. Negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param fwdTime the look-ahead window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, long revTime, long fwdTime, String... pairs) {
+        return RollingQuantileSpec.ofTime(0.5, true, timestampCol, revTime, fwdTime).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling percentile} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the previous window in number of rows to include. The
+     * current row is considered to belong to the reverse window, so calling this with {@code revTicks = 1} will simply
+     * return the current row. Specifying {@code revTicks = 10} will include the previous 9 rows to this one and this
+     * row for a total of 10 rows.
+     *
+     * @param percentile the percentile to compute, in the range {@code [0.0, 1.0]}
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingQuantile(double percentile, long revTicks, String... pairs) {
+        return RollingQuantileSpec.ofTicks(percentile, false, revTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling percentile} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the reverse and forward window in number of rows to
+     * include. The current row is considered to belong to the reverse window but not the forward window. Also, negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. Here are some
+     * examples of window values:
+     * <ul>
+     * <li>{@code revTicks = 1, fwdTicks = 0} - contains only the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 0} - contains 9 previous rows and the current row</li>
+     * <li>{@code revTicks = 0, fwdTicks = 10} - contains the following 10 rows, excludes the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 10} - contains the previous 9 rows, the current row and the 10 rows
+     * following</li>
+     * <li>{@code revTicks = 10, fwdTicks = -5} - contains 5 rows, beginning at 9 rows before, ending at 5 rows before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = 11, fwdTicks = -1} - contains 10 rows, beginning at 10 rows before, ending at 1 row before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = -5, fwdTicks = 10} - contains 5 rows, beginning 5 rows following, ending at 10 rows
+     * following the current row (inclusive)</li>
+     * </ul>
+     *
+     * @param percentile the percentile to compute, in the range {@code [0.0, 1.0]}
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param fwdTicks the look-ahead window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingQuantile(double percentile, long revTicks, long fwdTicks, String... pairs) {
+        return RollingQuantileSpec.ofTicks(percentile, false, revTicks, fwdTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration duration} as the reverse window parameter. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m} - contains rows from 10m earlier through the current row timestamp (inclusive)</li>
+     * </ul>
+     *
+     * @param percentile the percentile to compute, in the range {@code [0.0, 1.0]}
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingQuantile(double percentile, String timestampCol, Duration revDuration,
+            String... pairs) {
+        return RollingQuantileSpec.ofTime(percentile, false, timestampCol, revDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration durations} as the reverse and forward window parameters.
+     * Negative values are allowed and can be used to generate completely forward or completely reverse windows. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m, fwdDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 0m} - contains rows from 10m earlier through the current row
+     * timestamp (inclusive)</li>
+     * <li>{@code revDuration = 0m, fwdDuration = 10m} - contains rows from the current row through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 10m} - contains rows from 10m earlier through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = -5m} - contains rows from 10m earlier through 5m before the current
+     * row timestamp (inclusive), this is a purely backwards looking window</li>
+     * <li>{@code revDuration = -5m, fwdDuration = 10m} - contains rows from 5m following through 10m following the
+     * current row timestamp (inclusive), this is a purely forwards looking window</li>
+     * </ul>
+     *
+     * @param percentile the percentile to compute, in the range {@code [0.0, 1.0]}
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param fwdDuration the look-ahead window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingQuantile(double percentile, String timestampCol, Duration revDuration,
+            Duration fwdDuration, String... pairs) {
+        return RollingQuantileSpec.ofTime(percentile, false, timestampCol, revDuration, fwdDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse window parameters. A row containing a
+     * {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered in
+     * the windows of other rows.
+     *
+     * @param percentile the percentile to compute, in the range {@code [0.0, 1.0]}
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingQuantile(double percentile, String timestampCol, long revTime, String... pairs) {
+        return RollingQuantileSpec.ofTime(percentile, false, timestampCol, revTime).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingQuantileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse and forward window parameters. Negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * @param percentile the percentile to compute, in the range {@code [0.0, 1.0]}
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param fwdTime the look-ahead window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingQuantile(double percentile, String timestampCol, long revTime, long fwdTime,
+            String... pairs) {
+        return RollingQuantileSpec.ofTime(percentile, false, timestampCol, revTime, fwdTime).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingReduceSpec rolling reduction} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the previous window in number of rows to include. The
+     * current row is considered to belong to the reverse window, so calling this with {@code revTicks = 1} will simply
+     * return the current row. Specifying {@code revTicks = 10} will include the previous 9 rows to this one and this
+     * row for a total of 10 rows.
+     *
+     * @param reducer the associative operation used to reduce each window
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingReduce(RollingReduceSpec.Reducer<?> reducer, long revTicks, String... pairs) {
+        return RollingReduceSpec.ofTicks(reducer, revTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingReduceSpec rolling reduction} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the reverse and forward window in number of rows to
+     * include. The current row is considered to belong to the reverse window but not the forward window. Also, negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. Here are some
+     * examples of window values:
+     * <ul>
+     * <li>{@code revTicks = 1, fwdTicks = 0} - contains only the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 0} - contains 9 previous rows and the current row</li>
+     * <li>{@code revTicks = 0, fwdTicks = 10} - contains the following 10 rows, excludes the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 10} - contains the previous 9 rows, the current row and the 10 rows
+     * following</li>
+     * <li>{@code revTicks = 10, fwdTicks = -5} - contains 5 rows, beginning at 9 rows before, ending at 5 rows before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = 11, fwdTicks = -1} - contains 10 rows, beginning at 10 rows before, ending at 1 row before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = -5, fwdTicks = 10} - contains 5 rows, beginning 5 rows following, ending at 10 rows
+     * following the current row (inclusive)</li>
+     * </ul>
+     *
+     * @param reducer the associative operation used to reduce each window
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param fwdTicks the look-ahead window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingReduce(RollingReduceSpec.Reducer<?> reducer, long revTicks, long fwdTicks,
+            String... pairs) {
+        return RollingReduceSpec.ofTicks(reducer, revTicks, fwdTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingReduceSpec rolling reduction} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration duration} as the reverse window parameter. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m} - contains rows from 10m earlier through the current row timestamp (inclusive)</li>
+     * </ul>
+     *
+     * @param reducer the associative operation used to reduce each window
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingReduce(RollingReduceSpec.Reducer<?> reducer, String timestampCol,
+            Duration revDuration, String... pairs) {
+        return RollingReduceSpec.ofTime(reducer, timestampCol, revDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingReduceSpec rolling reduction} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration durations} as the reverse and forward window parameters.
+     * Negative values are allowed and can be used to generate completely forward or completely reverse windows. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m, fwdDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 0m} - contains rows from 10m earlier through the current row
+     * timestamp (inclusive)</li>
+     * <li>{@code revDuration = 0m, fwdDuration = 10m} - contains rows from the current row through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 10m} - contains rows from 10m earlier through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = -5m} - contains rows from 10m earlier through 5m before the current
+     * row timestamp (inclusive), this is a purely backwards looking window</li>
+     * <li>{@code revDuration = -5m, fwdDuration = 10m} - contains rows from 5m following through 10m following the
+     * current row timestamp (inclusive), this is a purely forwards looking window</li>
+     * </ul>
+     *
+     * @param reducer the associative operation used to reduce each window
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param fwdDuration the look-ahead window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingReduce(RollingReduceSpec.Reducer<?> reducer, String timestampCol,
+            Duration revDuration, Duration fwdDuration, String... pairs) {
+        return RollingReduceSpec.ofTime(reducer, timestampCol, revDuration, fwdDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingReduceSpec rolling reduction} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse window parameters. A row containing a
+     * {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered in
+     * the windows of other rows.
+     *
+     * @param reducer the associative operation used to reduce each window
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingReduce(RollingReduceSpec.Reducer<?> reducer, String timestampCol, long revTime,
+            String... pairs) {
+        return RollingReduceSpec.ofTime(reducer, timestampCol, revTime).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingReduceSpec rolling reduction} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse and forward window parameters. Negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * @param reducer the associative operation used to reduce each window
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param fwdTime the look-ahead window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingReduce(RollingReduceSpec.Reducer<?> reducer, String timestampCol, long revTime,
+            long fwdTime, String... pairs) {
+        return RollingReduceSpec.ofTime(reducer, timestampCol, revTime, fwdTime).clause(pairs);
+    }
+
     <T> T walk(Visitor<T> visitor);
 
     interface Visitor<T> {
@@ -0,0 +1,107 @@
+package io.deephaven.api.updateby.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+
+/**
+ * A {@link UpdateBySpec} for performing a windowed rolling percentile (e.g. median) across the specified columns
+ */
+@Immutable
+@BuildableStyle
+public abstract class RollingQuantileSpec extends RollingOpSpec {
+
+    public static RollingQuantileSpec ofTicks(double percentile, boolean averageEvenlyDivided, long revTicks) {
+        return of(percentile, averageEvenlyDivided, WindowScale.ofTicks(revTicks));
+    }
+
+    public static RollingQuantileSpec ofTicks(double percentile, boolean averageEvenlyDivided, long revTicks,
+            long fwdTicks) {
+        return of(percentile, averageEvenlyDivided, WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks));
+    }
+
+    public static RollingQuantileSpec ofTime(double percentile, boolean averageEvenlyDivided,
+            final String timestampCol, Duration revDuration) {
+        return of(percentile, averageEvenlyDivided, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingQuantileSpec ofTime(double percentile, boolean averageEvenlyDivided,
+            final String timestampCol, Duration revDuration, Duration fwdDuration) {
+        return of(percentile, averageEvenlyDivided, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingQuantileSpec ofTime(double percentile, boolean averageEvenlyDivided,
+            final String timestampCol, long revDuration) {
+        return of(percentile, averageEvenlyDivided, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingQuantileSpec ofTime(double percentile, boolean averageEvenlyDivided,
+            final String timestampCol, long revDuration, long fwdDuration) {
+        return of(percentile, averageEvenlyDivided, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingQuantileSpec of(double percentile, boolean averageEvenlyDivided,
+            WindowScale revWindowScale) {
+        return ImmutableRollingQuantileSpec.builder()
+                .percentile(percentile)
+                .averageEvenlyDivided(averageEvenlyDivided)
+                .revWindowScale(revWindowScale)
+                .build();
+    }
+
+    public static RollingQuantileSpec of(double percentile, boolean averageEvenlyDivided,
+            WindowScale revWindowScale, WindowScale fwdWindowScale) {
+        return ImmutableRollingQuantileSpec.builder()
+                .percentile(percentile)
+                .averageEvenlyDivided(averageEvenlyDivided)
+                .revWindowScale(revWindowScale)
+                .fwdWindowScale(fwdWindowScale)
+                .build();
+    }
+
+    /**
+     * The percentile to compute, in the range {@code [0.0, 1.0]}.
+     *
+     * @return the percentile
+     */
+    @Value.Parameter
+    public abstract double percentile();
+
+    /**
+     * Whether to average the two middle values when the percentile falls evenly between them. This is how a median is
+     * normally computed; when {@code false} the lower of the two values is used.
+     *
+     * @return whether to average the two middle values
+     */
+    @Value.Default
+    public boolean averageEvenlyDivided() {
+        return false;
+    }
+
+    @Value.Check
+    final void checkPercentile() {
+        if (percentile() < 0.0 || percentile() > 1.0) {
+            throw new IllegalArgumentException("Percentile must be in range [0.0, 1.0]");
+        }
+    }
+
+    @Override
+    public final boolean applicableTo(Class<?> inputType) {
+        return
+        // is primitive or boxed numeric (excluding BigInteger and BigDecimal)
+        (applicableToNumeric(inputType) && inputType != BigInteger.class && inputType != BigDecimal.class)
+                // or char
+                || inputType == char.class || inputType == Character.class;
+    }
+
+    @Override
+    public final <T> T walk(Visitor<T> visitor) {
+        return visitor.visit(this);
+    }
+}
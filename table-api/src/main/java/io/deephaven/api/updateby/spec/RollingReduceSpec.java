@@ -0,0 +1,130 @@
+package io.deephaven.api.updateby.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * A {@link UpdateBySpec} for performing a windowed rolling reduction with a user-supplied associative
+ * {@link Reducer}.
+ */
+@Immutable
+@BuildableStyle
+public abstract class RollingReduceSpec extends RollingOpSpec {
+
+    /**
+     * An associative binary operation used to reduce the values of a rolling window to a single value. The operation
+     * must satisfy {@code apply(apply(a, b), c) == apply(a, apply(b, c))}; it need not be commutative, as values are
+     * always combined in row order. {@code null} values are ignored and are never passed to {@link #apply}.
+     *
+     * @param <T> the type of the values being reduced
+     */
+    public interface Reducer<T> {
+        /**
+         * Create a reducer from a type and an associative function.
+         *
+         * @param type the type of the values being reduced
+         * @param function the associative function
+         * @return the reducer
+         */
+        static <T> Reducer<T> of(final Class<T> type, final BinaryOperator<T> function) {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(function);
+            return new Reducer<T>() {
+                @Override
+                public Class<T> type() {
+                    return type;
+                }
+
+                @Override
+                public T apply(final T a, final T b) {
+                    return function.apply(a, b);
+                }
+            };
+        }
+
+        /**
+         * The type of the values this reducer accepts and produces.
+         *
+         * @return the value type
+         */
+        Class<T> type();
+
+        /**
+         * Combine two non-null values.
+         *
+         * @param a the earlier value
+         * @param b the later value
+         * @return the combined value
+         */
+        T apply(T a, T b);
+    }
+
+    public static RollingReduceSpec ofTicks(Reducer<?> reducer, long revTicks) {
+        return of(reducer, WindowScale.ofTicks(revTicks));
+    }
+
+    public static RollingReduceSpec ofTicks(Reducer<?> reducer, long revTicks, long fwdTicks) {
+        return of(reducer, WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks));
+    }
+
+    public static RollingReduceSpec ofTime(Reducer<?> reducer, final String timestampCol, Duration revDuration) {
+        return of(reducer, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingReduceSpec ofTime(Reducer<?> reducer, final String timestampCol, Duration revDuration,
+            Duration fwdDuration) {
+        return of(reducer, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingReduceSpec ofTime(Reducer<?> reducer, final String timestampCol, long revDuration) {
+        return of(reducer, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingReduceSpec ofTime(Reducer<?> reducer, final String timestampCol, long revDuration,
+            long fwdDuration) {
+        return of(reducer, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingReduceSpec of(Reducer<?> reducer, WindowScale revWindowScale) {
+        return ImmutableRollingReduceSpec.builder()
+                .reducer(reducer)
+                .revWindowScale(revWindowScale)
+                .build();
+    }
+
+    public static RollingReduceSpec of(Reducer<?> reducer, WindowScale revWindowScale,
+            WindowScale fwdWindowScale) {
+        return ImmutableRollingReduceSpec.builder()
+                .reducer(reducer)
+                .revWindowScale(revWindowScale)
+                .fwdWindowScale(fwdWindowScale)
+                .build();
+    }
+
+    /**
+     * The associative operation used to reduce each window. It applies to columns whose type is assignable to the
+     * reducer's {@link Reducer#type() type}, and the output column has the reducer's type.
+     *
+     * @return the reducer
+     */
+    @Value.Parameter
+    public abstract Reducer<?> reducer();
+
+    @Override
+    public final boolean applicableTo(Class<?> inputType) {
+        // applies to object columns whose values the reducer accepts
+        return !inputType.isPrimitive() && reducer().type().isAssignableFrom(inputType);
+    }
+
+    @Override
+    public final <T> T walk(Visitor<T> visitor) {
+        return visitor.visit(this);
+    }
+}
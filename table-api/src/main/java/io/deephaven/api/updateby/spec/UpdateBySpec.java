@@ -95,6 +95,10 @@ public interface UpdateBySpec {
         T visit(RollingStdSpec spec);
 
         T visit(RollingWAvgSpec w);
+
+        T visit(RollingQuantileSpec spec);
+
+        T visit(RollingReduceSpec spec);
     }
     // endregion
 }